@@ -59,6 +59,10 @@ public class ASMClassVisitor extends ClassVisitor implements ASMClassVisitorProv
     public ParallelAnnotationProvider[] getParallelAnnotations(ResolvedJavaMethod method) {
         String methodClassFile = method.getDeclaringClass().getName().replaceFirst("L", "").replaceFirst(";", ".class");
         InputStream inputStream = ClassLoader.getSystemClassLoader().getResourceAsStream(methodClassFile);
+        if (inputStream == null) {
+            // Classes generated by TornadoVM, such as fused tasks, are not resources of any class loader
+            inputStream = GeneratedClassFiles.open(methodClassFile);
+        }
         try {
             ClassReader classReader = new ClassReader(inputStream);
             ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
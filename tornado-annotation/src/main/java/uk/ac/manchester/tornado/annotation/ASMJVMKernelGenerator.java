@@ -0,0 +1,786 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LocalVariableAnnotationNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis.REDUCE_OPERATION;
+import uk.ac.manchester.tornado.runtime.jvm.JVMKernelGenerator;
+import uk.ac.manchester.tornado.runtime.jvm.JVMParallelKernel;
+import uk.ac.manchester.tornado.runtime.jvm.JVMParallelLoop;
+
+/**
+ * Generates the kernels of the JVM backend from the class file of a task.
+ *
+ * <p>
+ * The kernel is a copy of the task, in a new class of the same package, in which the outermost {@code @Parallel} loop
+ * {@code for (int i = init; i < bound; i += step)} only runs the iterations of the calling worker:
+ * </p>
+ *
+ * <pre>
+ * i = init;
+ * hi = JVMParallelLoop.upperBound(i, bound, step);
+ * i = JVMParallelLoop.lowerBound(i, bound, step);
+ * while (i &lt; hi) { ...; i += step; }
+ * </pre>
+ *
+ * <p>
+ * Only loops that javac emits in the canonical shape are split: a constant positive step, a bound that does not read
+ * the loop variable, and no other write to the loop variable inside the loop. The private static methods of the class
+ * that the task calls are copied with it. Tasks that use invokedynamic or private members of other classes are not
+ * split.
+ * </p>
+ *
+ * <p>
+ * Loops with step 1 whose body is element-wise also get a vector loop, built by {@link ASMVectorLoop}, that runs the
+ * block of the worker with the Vector API before the original loop runs the remaining iterations.
+ * </p>
+ */
+public class ASMJVMKernelGenerator implements JVMKernelGenerator {
+
+    private static final String PARALLEL = Type.getDescriptor(Parallel.class);
+    private static final String REDUCE = Type.getDescriptor(Reduce.class);
+    private static final String KERNEL_CONTEXT = Type.getDescriptor(KernelContext.class);
+    private static final String PARALLEL_LOOP = Type.getInternalName(JVMParallelLoop.class);
+    private static final String BOUND_DESCRIPTOR = "(III)I";
+    private static final String KERNEL_SUFFIX = "$TornadoJVMKernel";
+    private static final AtomicInteger KERNEL_ID = new AtomicInteger();
+
+    /**
+     * Canonical {@code @Parallel} loop of a task.
+     */
+    record ParallelLoop(int local, VarInsnNode init, List<AbstractInsnNode> bound, JumpInsnNode exit, boolean inclusive, IincInsnNode increment, LabelNode start, LabelNode end) {
+
+        int step() {
+            return increment.incr;
+        }
+    }
+
+    /**
+     * A value of the operand stack in {@link #traceReduceVariable}, with the instruction that produced it.
+     */
+    private record Value(AbstractInsnNode source, int size) {
+    }
+
+    private static final REDUCE_OPERATION NOT_A_REDUCTION = null;
+
+    /**
+     * Instantiated by name by the runtime for the JVM backend, as set with {@code tornado.load.jvm.generator}.
+     */
+    public ASMJVMKernelGenerator() {
+    }
+
+    @Override
+    public JVMParallelKernel generateParallelKernel(Method method, boolean vectorize) {
+        try {
+            return generate(method, vectorize);
+        } catch (IOException | ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Any class that the generator cannot read or rewrite runs sequentially
+            return null;
+        }
+    }
+
+    @Override
+    public boolean usesBarriers(Method method) {
+        try {
+            ClassNode hostNode = readClass(method.getDeclaringClass());
+            MethodNode methodNode = findMethod(hostNode, method.getName(), Type.getMethodDescriptor(method));
+            if (methodNode == null) {
+                return true;
+            }
+            for (AbstractInsnNode insn : methodNode.instructions) {
+                if (insn instanceof MethodInsnNode call) {
+                    if (call.name.equals("localBarrier") || call.name.equals("globalBarrier")) {
+                        return true;
+                    }
+                    // The kernel context is passed to another method that may call a barrier
+                    for (Type argument : Type.getArgumentTypes(call.desc)) {
+                        if (argument.getDescriptor().equals(KERNEL_CONTEXT)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        } catch (IOException | RuntimeException e) {
+            return true;
+        }
+    }
+
+    static ClassNode readClass(Class<?> klass) throws IOException {
+        String resource = "/" + klass.getName().replace('.', '/') + ".class";
+        InputStream classFile = klass.getResourceAsStream(resource);
+        try (InputStream inputStream = (classFile != null) ? classFile : GeneratedClassFiles.open(resource)) {
+            if (inputStream == null) {
+                throw new IOException("Class file not found: " + resource);
+            }
+            ClassNode classNode = new ClassNode();
+            new ClassReader(inputStream).accept(classNode, ClassReader.SKIP_FRAMES);
+            return classNode;
+        }
+    }
+
+    static MethodNode findMethod(ClassNode classNode, String name, String descriptor) {
+        for (MethodNode methodNode : classNode.methods) {
+            if (methodNode.name.equals(name) && methodNode.desc.equals(descriptor)) {
+                return methodNode;
+            }
+        }
+        return null;
+    }
+
+    private JVMParallelKernel generate(Method method, boolean vectorize) throws IOException, ReflectiveOperationException {
+        Class<?> host = method.getDeclaringClass();
+        ClassNode hostNode = readClass(host);
+        MethodNode kernel = findMethod(hostNode, method.getName(), Type.getMethodDescriptor(method));
+        if (kernel == null || (kernel.access & Opcodes.ACC_STATIC) == 0) {
+            return null;
+        }
+        ParallelLoop loop = findParallelLoop(kernel);
+        if (loop == null) {
+            return null;
+        }
+        REDUCE_OPERATION[] reductions = findReductions(kernel, loop, method.getParameterCount());
+        if (reductions == null) {
+            return null;
+        }
+        Set<MethodNode> methods = collectMethods(host, hostNode, kernel);
+        if (methods == null) {
+            return null;
+        }
+
+        int upperBound = kernel.maxLocals++;
+        InsnList vectorLoop = (vectorize && loop.step() == 1) ? ASMVectorLoop.build(kernel, loop.local(), upperBound, loop.exit(), loop.increment()) : null;
+        splitLoop(kernel, loop, upperBound, vectorLoop);
+        String kernelName = hostNode.name + KERNEL_SUFFIX + KERNEL_ID.incrementAndGet();
+        byte[] classFile = writeClass(host, hostNode, kernelName, kernel, methods);
+        return new JVMParallelKernel(kernelName.replace('/', '.'), classFile, reductions, vectorLoop != null);
+    }
+
+    static AbstractInsnNode previousInstruction(AbstractInsnNode insn) {
+        AbstractInsnNode previous = insn.getPrevious();
+        while (previous != null && previous.getOpcode() < 0) {
+            previous = previous.getPrevious();
+        }
+        return previous;
+    }
+
+    static AbstractInsnNode nextInstruction(AbstractInsnNode insn) {
+        AbstractInsnNode next = insn.getNext();
+        while (next != null && next.getOpcode() < 0) {
+            next = next.getNext();
+        }
+        return next;
+    }
+
+    private static boolean writesLocal(AbstractInsnNode insn, int local) {
+        if (insn instanceof VarInsnNode var) {
+            return var.var == local && var.getOpcode() >= Opcodes.ISTORE && var.getOpcode() <= Opcodes.ASTORE;
+        }
+        return insn instanceof IincInsnNode iinc && iinc.var == local;
+    }
+
+    private static boolean isBoundInstruction(AbstractInsnNode insn, int local) {
+        int opcode = insn.getOpcode();
+        if (opcode < 0 || insn instanceof JumpInsnNode || insn instanceof InvokeDynamicInsnNode || insn instanceof IincInsnNode) {
+            return false;
+        }
+        if (insn instanceof VarInsnNode var && (var.var == local || opcode >= Opcodes.ISTORE)) {
+            return false;
+        }
+        return (opcode < Opcodes.IASTORE || opcode > Opcodes.SASTORE) && opcode != Opcodes.PUTFIELD && opcode != Opcodes.PUTSTATIC && (opcode < Opcodes.TABLESWITCH || opcode > Opcodes.RETURN)
+                && opcode != Opcodes.ATHROW;
+    }
+
+    /**
+     * Finds the outermost {@code @Parallel} loop of a method, if the method has exactly one and the loop has the
+     * canonical shape.
+     */
+    static ParallelLoop findParallelLoop(MethodNode methodNode) {
+        List<LocalVariableAnnotationNode> annotations = new ArrayList<>();
+        if (methodNode.visibleLocalVariableAnnotations != null) {
+            annotations.addAll(methodNode.visibleLocalVariableAnnotations);
+        }
+        if (methodNode.invisibleLocalVariableAnnotations != null) {
+            annotations.addAll(methodNode.invisibleLocalVariableAnnotations);
+        }
+        InsnList insns = methodNode.instructions;
+        List<LocalVariableAnnotationNode> parallel = new ArrayList<>();
+        for (LocalVariableAnnotationNode annotation : annotations) {
+            if (annotation.desc.equals(PARALLEL)) {
+                if (annotation.start.size() != 1) {
+                    return null;
+                }
+                parallel.add(annotation);
+            }
+        }
+
+        LocalVariableAnnotationNode outermost = null;
+        for (LocalVariableAnnotationNode annotation : parallel) {
+            boolean nested = false;
+            for (LocalVariableAnnotationNode other : parallel) {
+                if (other != annotation && insns.indexOf(other.start.get(0)) <= insns.indexOf(annotation.start.get(0)) && insns.indexOf(annotation.end.get(0)) <= insns.indexOf(other.end.get(0))) {
+                    nested = true;
+                }
+            }
+            if (!nested) {
+                if (outermost != null) {
+                    // Several parallel loops one after another
+                    return null;
+                }
+                outermost = annotation;
+            }
+        }
+        if (outermost == null) {
+            return null;
+        }
+
+        int local = outermost.index.get(0);
+        LabelNode start = outermost.start.get(0);
+        LabelNode end = outermost.end.get(0);
+        if (!(previousInstruction(start) instanceof VarInsnNode init) || init.getOpcode() != Opcodes.ISTORE || init.var != local) {
+            return null;
+        }
+        if (!(nextInstruction(start) instanceof VarInsnNode head) || head.getOpcode() != Opcodes.ILOAD || head.var != local) {
+            return null;
+        }
+
+        // Condition: ILOAD i; <bound>; IF_ICMPGE exit (i < bound) or IF_ICMPGT exit (i <= bound)
+        List<AbstractInsnNode> bound = new ArrayList<>();
+        AbstractInsnNode insn = head.getNext();
+        while (insn != null && !(insn instanceof JumpInsnNode)) {
+            if (!isBoundInstruction(insn, local)) {
+                return null;
+            }
+            bound.add(insn);
+            insn = insn.getNext();
+        }
+        if (!(insn instanceof JumpInsnNode exit) || bound.isEmpty() || (exit.getOpcode() != Opcodes.IF_ICMPGE && exit.getOpcode() != Opcodes.IF_ICMPGT)) {
+            return null;
+        }
+
+        // Back-edge: IINC i step; GOTO head
+        JumpInsnNode backEdge = null;
+        for (AbstractInsnNode node = start; node != null && node != end; node = node.getNext()) {
+            if (node instanceof JumpInsnNode jump && jump.getOpcode() == Opcodes.GOTO && nextInstruction(jump.label) == head) {
+                backEdge = jump;
+            }
+        }
+        if (backEdge == null || insns.indexOf(exit.label) < insns.indexOf(backEdge)) {
+            return null;
+        }
+        if (!(previousInstruction(backEdge) instanceof IincInsnNode increment) || increment.var != local || increment.incr <= 0) {
+            return null;
+        }
+        for (AbstractInsnNode node = start; node != null && node != end; node = node.getNext()) {
+            if (node != increment && writesLocal(node, local)) {
+                return null;
+            }
+        }
+        return new ParallelLoop(local, init, bound, exit, exit.getOpcode() == Opcodes.IF_ICMPGT, increment, start, end);
+    }
+
+    private static int parameterSlot(MethodNode methodNode, int parameter) {
+        int slot = 0;
+        Type[] arguments = Type.getArgumentTypes(methodNode.desc);
+        for (int i = 0; i < parameter; i++) {
+            slot += arguments[i].getSize();
+        }
+        return slot;
+    }
+
+    private static boolean isAnnotated(List<AnnotationNode> annotations, String descriptor) {
+        if (annotations != null) {
+            for (AnnotationNode annotation : annotations) {
+                if (annotation.desc.equals(descriptor)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the operation of each {@code @Reduce} parameter from the stores into the parameter inside the parallel
+     * loop.
+     *
+     * @return The operation of each parameter ({@code null} for parameters that are not reduced), or {@code null} if
+     *     the operation of a parameter cannot be found.
+     */
+    private static REDUCE_OPERATION[] findReductions(MethodNode methodNode, ParallelLoop loop, int numParameters) {
+        REDUCE_OPERATION[] reductions = new REDUCE_OPERATION[numParameters];
+        for (int parameter = 0; parameter < numParameters; parameter++) {
+            List<AnnotationNode>[] annotations = methodNode.visibleParameterAnnotations;
+            if (annotations == null || parameter >= annotations.length || !isAnnotated(annotations[parameter], REDUCE)) {
+                continue;
+            }
+            int slot = parameterSlot(methodNode, parameter);
+            REDUCE_OPERATION operation = null;
+            for (AbstractInsnNode insn : methodNode.instructions) {
+                if (insn instanceof VarInsnNode var && var.var == slot && var.getOpcode() == Opcodes.ASTORE) {
+                    return null;
+                }
+            }
+            for (AbstractInsnNode insn = loop.start(); insn != null && insn != loop.end(); insn = insn.getNext()) {
+                if (insn instanceof VarInsnNode var && var.var == slot && var.getOpcode() == Opcodes.ALOAD) {
+                    List<REDUCE_OPERATION> writes = traceReduceVariable(var);
+                    if (writes == null) {
+                        return null;
+                    }
+                    for (REDUCE_OPERATION write : writes) {
+                        if (write == NOT_A_REDUCTION || (operation != null && operation != write)) {
+                            return null;
+                        }
+                        operation = write;
+                    }
+                }
+            }
+            if (operation == null) {
+                return null;
+            }
+            reductions[parameter] = operation;
+        }
+        return reductions;
+    }
+
+    private static REDUCE_OPERATION operationOf(AbstractInsnNode source) {
+        if (source == null) {
+            return NOT_A_REDUCTION;
+        }
+        switch (source.getOpcode()) {
+            case Opcodes.IADD, Opcodes.LADD, Opcodes.FADD, Opcodes.DADD:
+                return REDUCE_OPERATION.SUM;
+            case Opcodes.IMUL, Opcodes.LMUL, Opcodes.FMUL, Opcodes.DMUL:
+                return REDUCE_OPERATION.MUL;
+            case Opcodes.INVOKESTATIC:
+                String name = ((MethodInsnNode) source).name;
+                if (name.equals("max") || name.equals("fmax")) {
+                    return REDUCE_OPERATION.MAX;
+                } else if (name.equals("min") || name.equals("fmin")) {
+                    return REDUCE_OPERATION.MIN;
+                }
+                return NOT_A_REDUCTION;
+            default:
+                return NOT_A_REDUCTION;
+        }
+    }
+
+    private static Value pop(Deque<Value> stack) {
+        // Values pushed before the traced load are unknown
+        return stack.isEmpty() ? new Value(null, 1) : stack.pop();
+    }
+
+    private static Value[] pop(Deque<Value> stack, int count) {
+        Value[] values = new Value[count];
+        for (int i = count - 1; i >= 0; i--) {
+            values[i] = pop(stack);
+        }
+        return values;
+    }
+
+    private static int sizeOf(String descriptor) {
+        return Type.getType(descriptor).getSize();
+    }
+
+    /**
+     * Follows the reference loaded by {@code load} through the straight-line code that follows it, until every copy
+     * of the reference is consumed. Reads of the array are ignored and the operation of each store is returned.
+     *
+     * @return The operation of each store into the array, or {@code null} if the reference is used in any other way.
+     */
+    private static List<REDUCE_OPERATION> traceReduceVariable(VarInsnNode load) {
+        Value reference = new Value(load, 1);
+        Deque<Value> stack = new ArrayDeque<>();
+        stack.push(reference);
+        int copies = 1;
+        List<REDUCE_OPERATION> writes = new ArrayList<>();
+
+        for (AbstractInsnNode insn = load.getNext(); insn != null && copies > 0; insn = insn.getNext()) {
+            int opcode = insn.getOpcode();
+            if (opcode < 0 || opcode == Opcodes.NOP || opcode == Opcodes.IINC) {
+                continue;
+            }
+            Value[] consumed;
+            Value produced = null;
+            if (opcode == Opcodes.ACONST_NULL || (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) || (opcode >= Opcodes.FCONST_0 && opcode <= Opcodes.FCONST_2)
+                    || opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH || opcode == Opcodes.NEW) {
+                consumed = new Value[0];
+                produced = new Value(insn, 1);
+            } else if (opcode == Opcodes.LCONST_0 || opcode == Opcodes.LCONST_1 || opcode == Opcodes.DCONST_0 || opcode == Opcodes.DCONST_1) {
+                consumed = new Value[0];
+                produced = new Value(insn, 2);
+            } else if (insn instanceof LdcInsnNode ldc) {
+                consumed = new Value[0];
+                produced = new Value(insn, (ldc.cst instanceof Long || ldc.cst instanceof Double) ? 2 : 1);
+            } else if (opcode >= Opcodes.ILOAD && opcode <= Opcodes.ALOAD) {
+                consumed = new Value[0];
+                produced = new Value(insn, (opcode == Opcodes.LLOAD || opcode == Opcodes.DLOAD) ? 2 : 1);
+            } else if (opcode >= Opcodes.IALOAD && opcode <= Opcodes.SALOAD) {
+                consumed = pop(stack, 2);
+                produced = new Value(insn, (opcode == Opcodes.LALOAD || opcode == Opcodes.DALOAD) ? 2 : 1);
+                if (consumed[0] == reference && consumed[1] != reference) {
+                    copies--;
+                    stack.push(produced);
+                    continue;
+                }
+            } else if (opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+                consumed = pop(stack, 1);
+            } else if (opcode >= Opcodes.IASTORE && opcode <= Opcodes.SASTORE) {
+                consumed = pop(stack, 3);
+                if (consumed[0] == reference && consumed[1] != reference && consumed[2] != reference) {
+                    writes.add(operationOf(consumed[2].source()));
+                    copies--;
+                    continue;
+                }
+            } else if (opcode == Opcodes.POP) {
+                consumed = pop(stack, 1);
+            } else if (opcode == Opcodes.POP2) {
+                Value top = pop(stack);
+                consumed = (top.size() == 2) ? new Value[] { top } : new Value[] { pop(stack), top };
+            } else if (opcode == Opcodes.DUP) {
+                Value top = pop(stack);
+                stack.push(top);
+                stack.push(top);
+                copies += (top == reference) ? 1 : 0;
+                continue;
+            } else if (opcode == Opcodes.DUP_X1) {
+                Value first = pop(stack);
+                Value second = pop(stack);
+                stack.push(first);
+                stack.push(second);
+                stack.push(first);
+                copies += (first == reference) ? 1 : 0;
+                continue;
+            } else if (opcode == Opcodes.DUP2) {
+                Value first = pop(stack);
+                if (first.size() == 2) {
+                    stack.push(first);
+                    stack.push(first);
+                } else {
+                    Value second = pop(stack);
+                    stack.push(second);
+                    stack.push(first);
+                    stack.push(second);
+                    stack.push(first);
+                    copies += (second == reference) ? 1 : 0;
+                }
+                copies += (first == reference) ? 1 : 0;
+                continue;
+            } else if ((opcode >= Opcodes.IADD && opcode <= Opcodes.DREM) || (opcode >= Opcodes.ISHL && opcode <= Opcodes.LXOR)) {
+                consumed = pop(stack, 2);
+                boolean wide = (opcode <= Opcodes.DREM) ? ((opcode - Opcodes.IADD) % 2 == 1) : ((opcode - Opcodes.ISHL) % 2 == 1);
+                produced = new Value(insn, wide ? 2 : 1);
+            } else if (opcode >= Opcodes.INEG && opcode <= Opcodes.DNEG) {
+                consumed = pop(stack, 1);
+                produced = new Value(insn, (opcode == Opcodes.LNEG || opcode == Opcodes.DNEG) ? 2 : 1);
+            } else if (opcode >= Opcodes.I2L && opcode <= Opcodes.I2S) {
+                consumed = pop(stack, 1);
+                boolean wide = opcode == Opcodes.I2L || opcode == Opcodes.I2D || opcode == Opcodes.L2D || opcode == Opcodes.F2L || opcode == Opcodes.F2D || opcode == Opcodes.D2L;
+                produced = new Value(insn, wide ? 2 : 1);
+            } else if (opcode >= Opcodes.LCMP && opcode <= Opcodes.DCMPG) {
+                consumed = pop(stack, 2);
+                produced = new Value(insn, 1);
+            } else if (insn instanceof FieldInsnNode field) {
+                consumed = pop(stack, (opcode == Opcodes.GETSTATIC) ? 0 : (opcode == Opcodes.PUTFIELD) ? 2 : 1);
+                if (opcode == Opcodes.GETSTATIC || opcode == Opcodes.GETFIELD) {
+                    produced = new Value(insn, sizeOf(field.desc));
+                }
+            } else if (insn instanceof MethodInsnNode call) {
+                int numArguments = Type.getArgumentTypes(call.desc).length + ((opcode == Opcodes.INVOKESTATIC) ? 0 : 1);
+                consumed = pop(stack, numArguments);
+                Type returnType = Type.getReturnType(call.desc);
+                if (returnType != Type.VOID_TYPE) {
+                    produced = new Value(insn, returnType.getSize());
+                }
+                if (opcode != Opcodes.INVOKESTATIC && consumed[0] == reference) {
+                    boolean onlyReceiver = true;
+                    for (int i = 1; i < consumed.length; i++) {
+                        onlyReceiver &= consumed[i] != reference;
+                    }
+                    if (!onlyReceiver) {
+                        return null;
+                    } else if (call.name.equals("set") && consumed.length == 3) {
+                        writes.add(operationOf(consumed[2].source()));
+                    } else if (!call.name.equals("get") && !call.name.equals("getSize")) {
+                        return null;
+                    }
+                    copies--;
+                    if (produced != null) {
+                        stack.push(produced);
+                    }
+                    continue;
+                }
+            } else if (opcode == Opcodes.ARRAYLENGTH || opcode == Opcodes.CHECKCAST || opcode == Opcodes.INSTANCEOF || opcode == Opcodes.NEWARRAY || opcode == Opcodes.ANEWARRAY) {
+                consumed = pop(stack, 1);
+                produced = new Value(insn, 1);
+                if (opcode == Opcodes.ARRAYLENGTH && consumed[0] == reference) {
+                    copies--;
+                    stack.push(produced);
+                    continue;
+                }
+            } else if (insn instanceof MultiANewArrayInsnNode multiArray) {
+                consumed = pop(stack, multiArray.dims);
+                produced = new Value(insn, 1);
+            } else {
+                // Branches, switches, returns and the other stack operations end the straight-line code
+                return null;
+            }
+
+            for (Value value : consumed) {
+                if (value == reference) {
+                    return null;
+                }
+            }
+            if (produced != null) {
+                stack.push(produced);
+            }
+        }
+        return (copies == 0) ? writes : null;
+    }
+
+    private static boolean isAccessible(Class<?> host, Member member) {
+        int modifiers = member.getModifiers();
+        if (Modifier.isPrivate(modifiers)) {
+            return false;
+        }
+        return !Modifier.isProtected(modifiers) || member.getDeclaringClass().getPackageName().equals(host.getPackageName());
+    }
+
+    private static Member resolveField(Class<?> klass, String name) {
+        for (Class<?> type = klass; type != null; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getName().equals(name)) {
+                    return field;
+                }
+            }
+            for (Class<?> anInterface : type.getInterfaces()) {
+                Member member = resolveField(anInterface, name);
+                if (member != null) {
+                    return member;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Member resolveMethod(Class<?> klass, String name, String descriptor) {
+        if (name.equals("<init>")) {
+            for (Constructor<?> constructor : klass.getDeclaredConstructors()) {
+                if (Type.getConstructorDescriptor(constructor).equals(descriptor)) {
+                    return constructor;
+                }
+            }
+            return null;
+        }
+        for (Class<?> type = klass; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals(name) && Type.getMethodDescriptor(method).equals(descriptor)) {
+                    return method;
+                }
+            }
+            for (Class<?> anInterface : type.getInterfaces()) {
+                Member member = resolveMethod(anInterface, name, descriptor);
+                if (member != null) {
+                    return member;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that a member of another class used by the kernel can be accessed from a class of the package of the
+     * task that is not a nest-mate of the task.
+     */
+    static boolean isAccessible(Class<?> host, String owner, String name, String descriptor, boolean isField) throws ClassNotFoundException {
+        if (owner.startsWith("[")) {
+            return true;
+        }
+        Class<?> klass = Class.forName(Type.getObjectType(owner).getClassName(), false, host.getClassLoader());
+        Member member = isField ? resolveField(klass, name) : resolveMethod(klass, name, descriptor);
+        return member != null && isAccessible(host, member);
+    }
+
+    /**
+     * Collects the kernel and the private static methods of the class of the task that it calls.
+     *
+     * @return The methods to copy, or {@code null} if the kernel uses a member that the copy cannot access.
+     */
+    static Set<MethodNode> collectMethods(Class<?> host, ClassNode hostNode, MethodNode kernel) throws ClassNotFoundException {
+        Set<MethodNode> methods = new LinkedHashSet<>();
+        Deque<MethodNode> worklist = new ArrayDeque<>(Collections.singleton(kernel));
+        while (!worklist.isEmpty()) {
+            MethodNode methodNode = worklist.pop();
+            if (!methods.add(methodNode)) {
+                continue;
+            }
+            for (AbstractInsnNode insn : methodNode.instructions) {
+                if (insn instanceof InvokeDynamicInsnNode) {
+                    return null;
+                } else if (insn instanceof MethodInsnNode call && call.owner.equals(hostNode.name)) {
+                    MethodNode target = findMethod(hostNode, call.name, call.desc);
+                    if (target != null && (target.access & Opcodes.ACC_PRIVATE) != 0) {
+                        if ((target.access & Opcodes.ACC_STATIC) == 0) {
+                            return null;
+                        }
+                        worklist.push(target);
+                    } else if (target == null && !isAccessible(host, call.owner, call.name, call.desc, false)) {
+                        return null;
+                    }
+                } else if (insn instanceof MethodInsnNode call && !isAccessible(host, call.owner, call.name, call.desc, false)) {
+                    return null;
+                } else if (insn instanceof FieldInsnNode field && field.owner.equals(hostNode.name)) {
+                    for (FieldNode fieldNode : hostNode.fields) {
+                        if (fieldNode.name.equals(field.name) && (fieldNode.access & Opcodes.ACC_PRIVATE) != 0) {
+                            return null;
+                        }
+                    }
+                } else if (insn instanceof FieldInsnNode field && !isAccessible(host, field.owner, field.name, field.desc, true)) {
+                    return null;
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static InsnList boundCall(ParallelLoop loop, String bound) {
+        InsnList insns = new InsnList();
+        insns.add(new VarInsnNode(Opcodes.ILOAD, loop.local()));
+        for (AbstractInsnNode insn : loop.bound()) {
+            insns.add(insn.clone(Collections.emptyMap()));
+        }
+        if (loop.inclusive()) {
+            insns.add(new InsnNode(Opcodes.ICONST_1));
+            insns.add(new InsnNode(Opcodes.IADD));
+        }
+        insns.add(new LdcInsnNode(loop.step()));
+        insns.add(new MethodInsnNode(Opcodes.INVOKESTATIC, PARALLEL_LOOP, bound, BOUND_DESCRIPTOR, false));
+        return insns;
+    }
+
+    /**
+     * Rewrites the parallel loop to run the iterations of the calling worker. The bound is evaluated once, before the
+     * loop, and the upper bound of the worker is kept in the local variable {@code upperBound}. The vector loop, if
+     * any, runs between the prologue and the original loop, which then runs the remaining iterations.
+     */
+    private static void splitLoop(MethodNode kernel, ParallelLoop loop, int upperBound, InsnList vectorLoop) {
+        InsnList prologue = new InsnList();
+        prologue.add(boundCall(loop, "upperBound"));
+        prologue.add(new VarInsnNode(Opcodes.ISTORE, upperBound));
+        prologue.add(boundCall(loop, "lowerBound"));
+        prologue.add(new VarInsnNode(Opcodes.ISTORE, loop.local()));
+        if (vectorLoop != null) {
+            prologue.add(vectorLoop);
+        }
+        kernel.instructions.insert(loop.init(), prologue);
+
+        for (AbstractInsnNode insn : loop.bound()) {
+            kernel.instructions.remove(insn);
+        }
+        kernel.instructions.insertBefore(loop.exit(), new VarInsnNode(Opcodes.ILOAD, upperBound));
+        loop.exit().setOpcode(Opcodes.IF_ICMPGE);
+    }
+
+    /**
+     * The kernel class belongs to the module of the task, which may not read the module of the runtime.
+     */
+    private static MethodNode staticInitializer(String kernelName) {
+        MethodNode clinit = new MethodNode(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        InsnList insns = clinit.instructions;
+        insns.add(new LdcInsnNode(Type.getObjectType(kernelName)));
+        insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/lang/Class", "getModule", "()Ljava/lang/Module;", false));
+        insns.add(new LdcInsnNode(JVMParallelLoop.class.getName()));
+        insns.add(new MethodInsnNode(Opcodes.INVOKESTATIC, "java/lang/Class", "forName", "(Ljava/lang/String;)Ljava/lang/Class;", false));
+        insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/lang/Class", "getModule", "()Ljava/lang/Module;", false));
+        insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/lang/Module", "addReads", "(Ljava/lang/Module;)Ljava/lang/Module;", false));
+        insns.add(new InsnNode(Opcodes.POP));
+        insns.add(new InsnNode(Opcodes.RETURN));
+        return clinit;
+    }
+
+    private static byte[] writeClass(Class<?> host, ClassNode hostNode, String kernelName, MethodNode kernel, Set<MethodNode> methods) {
+        ClassNode kernelClass = new ClassNode();
+        kernelClass.version = hostNode.version;
+        kernelClass.access = Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC;
+        kernelClass.name = kernelName;
+        kernelClass.superName = "java/lang/Object";
+        kernelClass.sourceFile = hostNode.sourceFile;
+
+        for (MethodNode methodNode : methods) {
+            for (AbstractInsnNode insn : methodNode.instructions) {
+                if (insn instanceof MethodInsnNode call && call.owner.equals(hostNode.name)) {
+                    MethodNode target = findMethod(hostNode, call.name, call.desc);
+                    if (methods.contains(target)) {
+                        call.owner = kernelName;
+                    }
+                }
+            }
+            kernelClass.methods.add(methodNode);
+        }
+        kernel.access = (kernel.access & ~(Opcodes.ACC_PRIVATE | Opcodes.ACC_PROTECTED)) | Opcodes.ACC_PUBLIC;
+        kernelClass.methods.add(staticInitializer(kernelName));
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected ClassLoader getClassLoader() {
+                return host.getClassLoader();
+            }
+        };
+        kernelClass.accept(writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,944 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.collectMethods;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.findMethod;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.findParallelLoop;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.nextInstruction;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.previousInstruction;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.readClass;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LocalVariableAnnotationNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.ParallelLoop;
+import uk.ac.manchester.tornado.runtime.analyzer.FusedKernel;
+import uk.ac.manchester.tornado.runtime.analyzer.KernelFusionGenerator;
+
+/**
+ * Fuses a producer task and a consumer task whose {@code @Parallel} loops have the same iteration space:
+ *
+ * <pre>
+ * producer(a, t):  for (@Parallel int i = 0; i &lt; a.getSize(); i++) { t.set(i, f(a.get(i))); }
+ * consumer(t, b):  for (@Parallel int j = 0; j &lt; t.getSize(); j++) { b.set(j, g(t.get(j))); }
+ * </pre>
+ *
+ * <p>
+ * becomes a single task {@code producer_consumer(a, b)} that runs the body of the consumer after the body of the
+ * producer, in the loop of the producer. When {@code t} is a temporary, its element is kept in a local variable:
+ * </p>
+ *
+ * <pre>
+ * for (@Parallel int i = 0; i &lt; a.getSize(); i++) { float t_i = f(a.get(i)); b.set(i, g(t_i)); }
+ * </pre>
+ *
+ * <p>
+ * Only tasks that javac emits in the canonical shape are fused: a single {@code @Parallel} loop that ends the method,
+ * straight-line code before the loop and in its body, and bounds that can be evaluated on the arguments of the tasks.
+ * The objects that both tasks use may only be read or written at the index of the loop, so each iteration of the
+ * fused loop only depends on the same iteration of the two loops.
+ * </p>
+ */
+public class ASMKernelFusionGenerator implements KernelFusionGenerator {
+
+    private static final String PARALLEL = Type.getDescriptor(Parallel.class);
+    static final String TASK_INTERFACE = Type.getInternalName(TornadoFunctions.class) + "$Task";
+    static final String NATIVE_ARRAYS = Type.getInternalName(TornadoNativeArray.class).substring(0, Type.getInternalName(TornadoNativeArray.class).lastIndexOf('/') + 1);
+    private static final String FUSED_SUFFIX = "$TornadoFusedKernel";
+    private static final int MAX_ARGUMENTS = 20;
+    private static final AtomicInteger KERNEL_ID = new AtomicInteger();
+
+    /**
+     * Instantiated by name by the runtime for kernel fusion, as set with {@code tornado.load.fusion.generator}.
+     */
+    public ASMKernelFusionGenerator() {
+    }
+
+    private enum Access {
+        READ, WRITE, SIZE, OTHER
+    }
+
+    /**
+     * A value of the operand stack, with the instruction that produced it.
+     */
+    private record Value(AbstractInsnNode source, int size) {
+    }
+
+    /**
+     * Use of a reference parameter. The element accesses at the index of the loop keep the instructions that load the
+     * parameter and the index, so the access can be replaced by a local variable.
+     */
+    private record Use(int slot, Access access, AbstractInsnNode load, AbstractInsnNode index, AbstractInsnNode instruction, Type element) {
+    }
+
+    /**
+     * A task that has the shape required for fusion.
+     *
+     * @param constant
+     *     The instruction that pushes the initial value of the loop variable. The code before it is the prologue.
+     * @param bound
+     *     The last value of the loop variable plus one, for the arguments of the task.
+     * @param uses
+     *     Uses of the reference parameters in the prologue and in the body of the loop.
+     * @param boundUses
+     *     Uses of the reference parameters in the condition of the loop.
+     */
+    private record Task(Method method, MethodNode node, ParallelLoop loop, Object[] arguments, int[] slots, int parameterSize, AbstractInsnNode constant, int init, int bound, List<Use> uses,
+            List<Use> boundUses) {
+
+        List<Use> usesOf(int parameter, boolean withBound) {
+            List<Use> result = new ArrayList<>();
+            for (Use use : uses) {
+                if (use.slot() == slots[parameter]) {
+                    result.add(use);
+                }
+            }
+            if (withBound) {
+                for (Use use : boundUses) {
+                    if (use.slot() == slots[parameter]) {
+                        result.add(use);
+                    }
+                }
+            }
+            return result;
+        }
+
+        boolean isReference(int parameter) {
+            return !method.getParameterTypes()[parameter].isPrimitive();
+        }
+    }
+
+    @Override
+    public FusedKernel fuse(Method producer, Object[] producerArguments, Method consumer, Object[] consumerArguments, Set<Object> temporaries) {
+        try {
+            return generate(producer, producerArguments, consumer, consumerArguments, temporaries);
+        } catch (IOException | ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Any pair of tasks that the generator cannot read or rewrite is not fused
+            return null;
+        }
+    }
+
+    private FusedKernel generate(Method producer, Object[] producerArguments, Method consumer, Object[] consumerArguments, Set<Object> temporaries) throws IOException,
+            ReflectiveOperationException {
+        Class<?> host = producer.getDeclaringClass();
+        Class<?> consumerHost = consumer.getDeclaringClass();
+        // The fused class is defined next to the producer, so it can only call into the package of the producer
+        if (host.getClassLoader() != consumerHost.getClassLoader() || !host.getPackageName().equals(consumerHost.getPackageName())) {
+            return null;
+        }
+        // Each task is read from its own copy of the class file, so a task can be fused with itself
+        ClassNode producerClass = readClass(host);
+        ClassNode consumerClass = readClass(consumerHost);
+        Task p = analyse(producerClass, producer, producerArguments);
+        Task c = analyse(consumerClass, consumer, consumerArguments);
+        if (p == null || c == null || p.init() != c.init() || p.loop().step() != c.loop().step() || p.bound() != c.bound()) {
+            return null;
+        }
+        Set<MethodNode> producerMethods = collectMethods(host, producerClass, p.node());
+        Set<MethodNode> consumerMethods = collectMethods(consumerHost, consumerClass, c.node());
+        if (producerMethods == null || consumerMethods == null) {
+            return null;
+        }
+
+        // Arguments of the consumer that are also arguments of the producer
+        int[] shared = new int[consumerArguments.length];
+        boolean producerToConsumer = false;
+        for (int k = 0; k < consumerArguments.length; k++) {
+            shared[k] = c.isReference(k) ? indexOf(producerArguments, consumerArguments[k]) : -1;
+            if (shared[k] >= 0 && !p.isReference(shared[k])) {
+                shared[k] = -1;
+            }
+            if (shared[k] >= 0) {
+                List<Use> producerUses = p.usesOf(shared[k], true);
+                List<Use> consumerUses = c.usesOf(k, true);
+                if (contains(producerUses, Access.OTHER) || contains(consumerUses, Access.OTHER)) {
+                    return null;
+                }
+                producerToConsumer |= contains(producerUses, Access.WRITE) && contains(consumerUses, Access.READ);
+            }
+        }
+        if (!producerToConsumer) {
+            return null;
+        }
+
+        // Temporaries written by the producer before any read, and only read by the consumer
+        Map<Integer, Type> candidates = new LinkedHashMap<>();
+        for (int k = 0; k < consumerArguments.length; k++) {
+            if (shared[k] >= 0 && temporaries.contains(consumerArguments[k])) {
+                Type element = elementOfTemporary(p.usesOf(shared[k], false), c.usesOf(k, false));
+                if (element != null) {
+                    candidates.put(k, element);
+                }
+            }
+        }
+        boolean consumerBound = false;
+        if (usesAny(p.boundUses(), p, shared, candidates.keySet())) {
+            consumerBound = !usesAny(c.boundUses(), c, null, candidates.keySet());
+            if (!consumerBound) {
+                candidates.keySet().removeIf(k -> usesAny(p.boundUses(), p, shared, Set.of(k)));
+            }
+        }
+
+        // Parameters of the fused task and the new slot of each local variable of the two tasks
+        boolean[] eliminated = new boolean[producerArguments.length];
+        for (int k : candidates.keySet()) {
+            eliminated[shared[k]] = true;
+        }
+        List<Type> parameterTypes = new ArrayList<>();
+        List<Object> arguments = new ArrayList<>();
+        int[] producerSlots = new int[p.node().maxLocals];
+        int[] consumerSlots = new int[c.node().maxLocals];
+        Arrays.fill(producerSlots, -1);
+        Arrays.fill(consumerSlots, -1);
+        int slot = 0;
+        for (int j = 0; j < producerArguments.length; j++) {
+            if (!eliminated[j]) {
+                Type type = Type.getType(producer.getParameterTypes()[j]);
+                producerSlots[p.slots()[j]] = slot;
+                slot += type.getSize();
+                parameterTypes.add(type);
+                arguments.add(producerArguments[j]);
+            }
+        }
+        for (int k = 0; k < consumerArguments.length; k++) {
+            if (shared[k] >= 0) {
+                consumerSlots[c.slots()[k]] = producerSlots[p.slots()[shared[k]]];
+            } else {
+                Type type = Type.getType(consumer.getParameterTypes()[k]);
+                consumerSlots[c.slots()[k]] = slot;
+                slot += type.getSize();
+                parameterTypes.add(type);
+                arguments.add(consumerArguments[k]);
+            }
+        }
+        if (arguments.size() > MAX_ARGUMENTS) {
+            return null;
+        }
+        int producerLocals = slot;
+        for (int s = p.parameterSize(); s < p.node().maxLocals; s++) {
+            producerSlots[s] = producerLocals + s - p.parameterSize();
+        }
+        int consumerLocals = producerLocals + p.node().maxLocals - p.parameterSize();
+        for (int s = c.parameterSize(); s < c.node().maxLocals; s++) {
+            consumerSlots[s] = consumerLocals + s - c.parameterSize();
+        }
+        consumerSlots[c.loop().local()] = producerSlots[p.loop().local()];
+        int temporaryLocals = consumerLocals + c.node().maxLocals - c.parameterSize();
+
+        // Replace the element accesses of the temporaries by accesses to a local variable of the fused task
+        Set<AbstractInsnNode> rewritten = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Object> removedTemporaries = new ArrayList<>();
+        int temporary = temporaryLocals;
+        for (Map.Entry<Integer, Type> candidate : candidates.entrySet()) {
+            int k = candidate.getKey();
+            for (Use use : p.usesOf(shared[k], false)) {
+                rewritten.add(replaceAccess(p.node().instructions, use, candidate.getValue(), temporary));
+            }
+            for (Use use : c.usesOf(k, false)) {
+                rewritten.add(replaceAccess(c.node().instructions, use, candidate.getValue(), temporary));
+            }
+            removedTemporaries.add(consumerArguments[k]);
+            temporary += 2;
+        }
+
+        MethodNode kernel = p.node();
+        if (consumerBound) {
+            for (AbstractInsnNode insn : p.loop().bound()) {
+                kernel.instructions.remove(insn);
+            }
+        }
+        renumber(kernel.instructions, producerSlots, rewritten);
+        InsnList prologue = move(c.node().instructions, c.node().instructions.getFirst(), c.constant(), consumerSlots, rewritten);
+        InsnList body = move(c.node().instructions, c.loop().exit().getNext(), c.loop().increment(), consumerSlots, rewritten);
+        if (consumerBound) {
+            AbstractInsnNode head = nextInstruction(c.loop().start());
+            kernel.instructions.insertBefore(p.loop().exit(), move(c.node().instructions, head.getNext(), c.loop().exit(), consumerSlots, rewritten));
+            p.loop().exit().setOpcode(c.loop().exit().getOpcode());
+        }
+        kernel.instructions.insert(prologue);
+        kernel.instructions.insertBefore(p.loop().increment(), body);
+
+        // A fused task can be fused again, as the producer of a chain
+        int suffix = producerClass.name.indexOf(FUSED_SUFFIX);
+        String fusedName = (suffix < 0 ? producerClass.name : producerClass.name.substring(0, suffix)) + FUSED_SUFFIX + KERNEL_ID.incrementAndGet();
+        String descriptor = Type.getMethodDescriptor(Type.VOID_TYPE, parameterTypes.toArray(new Type[0]));
+        rewriteSignature(kernel, producer.getName() + "_" + consumer.getName(), descriptor, producerSlots, temporary);
+
+        Map<String, MethodNode> helpers = new LinkedHashMap<>();
+        Map<String, String> owners = new HashMap<>();
+        if (!addHelpers(helpers, owners, producerClass.name, producerMethods, kernel) || !addHelpers(helpers, owners, consumerClass.name, consumerMethods, c.node())) {
+            return null;
+        }
+        byte[] classFile = writeClass(host, producerClass, fusedName, kernel, parameterTypes, helpers.values(), owners);
+        GeneratedClassFiles.register(fusedName, classFile);
+        return new FusedKernel(fusedName.replace('/', '.'), classFile, arguments.toArray(), removedTemporaries);
+    }
+
+    private static Task analyse(ClassNode hostNode, Method method, Object[] arguments) {
+        if (!Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != arguments.length || hasDuplicateReferences(method, arguments)) {
+            return null;
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            if (KernelContext.class.isAssignableFrom(method.getParameterTypes()[i])) {
+                return null;
+            }
+            for (Annotation annotation : method.getParameterAnnotations()[i]) {
+                if (annotation instanceof Reduce) {
+                    return null;
+                }
+            }
+        }
+        MethodNode node = findMethod(hostNode, method.getName(), Type.getMethodDescriptor(method));
+        if (node == null || !node.tryCatchBlocks.isEmpty()) {
+            return null;
+        }
+        ParallelLoop loop = findParallelLoop(node);
+        if (loop == null) {
+            return null;
+        }
+        AbstractInsnNode constant = previousInstruction(loop.init());
+        Integer init = intConstant(constant);
+        if (init == null || !endsWithLoop(node, loop)) {
+            return null;
+        }
+
+        int[] slots = new int[arguments.length];
+        boolean[] references = new boolean[node.maxLocals];
+        int parameterSize = 0;
+        for (int i = 0; i < arguments.length; i++) {
+            slots[i] = parameterSize;
+            Class<?> type = method.getParameterTypes()[i];
+            references[parameterSize] = !type.isPrimitive();
+            parameterSize += Type.getType(type).getSize();
+        }
+
+        List<Use> uses = new ArrayList<>();
+        List<Use> boundUses = new ArrayList<>();
+        AbstractInsnNode head = nextInstruction(loop.start());
+        List<Value> boundStack = new ArrayList<>(List.of(new Value(head, 1)));
+        if (!simulate(node.instructions.getFirst(), constant, new ArrayList<>(), loop.local(), parameterSize, references, uses) //
+                || !simulate(loop.exit().getNext(), loop.increment(), new ArrayList<>(), loop.local(), parameterSize, references, uses) //
+                || !simulate(head.getNext(), loop.exit(), boundStack, loop.local(), parameterSize, references, boundUses) || boundStack.size() != 2) {
+            return null;
+        }
+        Integer bound = evaluateBound(loop, slots, arguments);
+        if (bound == null) {
+            return null;
+        }
+        return new Task(method, node, loop, arguments, slots, parameterSize, constant, init, loop.inclusive() ? bound + 1 : bound, uses, boundUses);
+    }
+
+    /**
+     * Checks that nothing but a return follows the loop: {@code IINC i step; GOTO head; exit: RETURN}.
+     */
+    private static boolean endsWithLoop(MethodNode node, ParallelLoop loop) {
+        AbstractInsnNode backEdge = nextInstruction(loop.increment());
+        if (!(backEdge instanceof JumpInsnNode) || backEdge.getOpcode() != Opcodes.GOTO) {
+            return false;
+        }
+        AbstractInsnNode last = nextInstruction(backEdge);
+        if (last == null || last.getOpcode() != Opcodes.RETURN || nextInstruction(last) != null) {
+            return false;
+        }
+        int exit = node.instructions.indexOf(loop.exit().label);
+        return node.instructions.indexOf(backEdge) < exit && exit < node.instructions.indexOf(last);
+    }
+
+    static boolean hasDuplicateReferences(Method method, Object[] arguments) {
+        for (int i = 0; i < arguments.length; i++) {
+            if (!method.getParameterTypes()[i].isPrimitive()) {
+                if (arguments[i] == null || indexOf(arguments, arguments[i]) != i) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(Object[] objects, Object object) {
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i] == object) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean contains(List<Use> uses, Access access) {
+        for (Use use : uses) {
+            if (use.access() == access) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a list of uses of a task refers to one of the given consumer parameters, which are mapped to the
+     * parameters of the task by {@code shared} ({@code null} for the consumer itself).
+     */
+    private static boolean usesAny(List<Use> uses, Task task, int[] shared, Set<Integer> consumerParameters) {
+        for (int k : consumerParameters) {
+            int slot = task.slots()[(shared == null) ? k : shared[k]];
+            for (Use use : uses) {
+                if (use.slot() == slot) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The element type of a temporary that the producer writes before it reads it, and that the consumer only
+     *     reads, or {@code null} if the temporary must stay in memory.
+     */
+    private static Type elementOfTemporary(List<Use> producerUses, List<Use> consumerUses) {
+        if (producerUses.isEmpty() || producerUses.get(0).access() != Access.WRITE) {
+            return null;
+        }
+        Type element = producerUses.get(0).element();
+        Set<AbstractInsnNode> loads = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Use use : producerUses) {
+            // Accesses that share the load of the array, as in t[i] += x, cannot be replaced one by one
+            if ((use.access() != Access.READ && use.access() != Access.WRITE) || !use.element().equals(element) || !loads.add(use.load())) {
+                return null;
+            }
+        }
+        for (Use use : consumerUses) {
+            if (use.access() != Access.READ || !use.element().equals(element)) {
+                return null;
+            }
+        }
+        return element;
+    }
+
+    private static Integer intConstant(AbstractInsnNode insn) {
+        if (insn == null) {
+            return null;
+        }
+        int opcode = insn.getOpcode();
+        if (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) {
+            return opcode - Opcodes.ICONST_0;
+        } else if (opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH) {
+            return ((IntInsnNode) insn).operand;
+        } else if (insn instanceof LdcInsnNode ldc && ldc.cst instanceof Integer value) {
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates the bound of the loop for the arguments of the task. The bound may use constants, the integer
+     * parameters, the size of the array parameters and integer arithmetic.
+     *
+     * @return The bound, or {@code null} if it cannot be evaluated.
+     */
+    private static Integer evaluateBound(ParallelLoop loop, int[] slots, Object[] arguments) {
+        Deque<Object> stack = new ArrayDeque<>();
+        for (AbstractInsnNode insn : loop.bound()) {
+            int opcode = insn.getOpcode();
+            Integer constant = intConstant(insn);
+            if (opcode < 0) {
+                continue;
+            } else if (constant != null) {
+                stack.push(constant);
+            } else if (insn instanceof VarInsnNode var && (opcode == Opcodes.ILOAD || opcode == Opcodes.ALOAD)) {
+                int parameter = Arrays.binarySearch(slots, var.var);
+                if (parameter < 0 || arguments[parameter] == null || (opcode == Opcodes.ILOAD && !(arguments[parameter] instanceof Integer))) {
+                    return null;
+                }
+                stack.push(arguments[parameter]);
+            } else if (insn instanceof MethodInsnNode call && call.name.equals("getSize") && call.desc.equals("()I") && stack.peek() instanceof TornadoNativeArray array) {
+                stack.pop();
+                stack.push(array.getSize());
+            } else if (opcode == Opcodes.ARRAYLENGTH && stack.peek() != null && stack.peek().getClass().isArray()) {
+                stack.push(Array.getLength(stack.pop()));
+            } else if (stack.size() >= 2 && stack.pop() instanceof Integer b && stack.pop() instanceof Integer a) {
+                switch (opcode) {
+                    case Opcodes.IADD -> stack.push(a + b);
+                    case Opcodes.ISUB -> stack.push(a - b);
+                    case Opcodes.IMUL -> stack.push(a * b);
+                    case Opcodes.IDIV -> stack.push(a / b);
+                    case Opcodes.ISHL -> stack.push(a << b);
+                    case Opcodes.ISHR -> stack.push(a >> b);
+                    case Opcodes.IUSHR -> stack.push(a >>> b);
+                    default -> {
+                        return null;
+                    }
+                }
+            } else {
+                return null;
+            }
+        }
+        return (stack.size() == 1 && stack.peek() instanceof Integer bound) ? bound : null;
+    }
+
+    private static boolean isParameter(Value value) {
+        return value.source() instanceof VarInsnNode var && var.getOpcode() == Opcodes.ALOAD;
+    }
+
+    private static boolean isLoopIndex(Value value, int loopLocal) {
+        return value.source() instanceof VarInsnNode var && var.getOpcode() == Opcodes.ILOAD && var.var == loopLocal;
+    }
+
+    private static void push(List<Value> stack, Value value) {
+        for (int i = 0; i < value.size(); i++) {
+            stack.add(value);
+        }
+    }
+
+    private static Value pop(List<Value> stack, int size) {
+        Value value = stack.remove(stack.size() - 1);
+        if (size == 2 && stack.remove(stack.size() - 1) != value) {
+            throw new IllegalStateException("Unbalanced operand stack");
+        }
+        return value;
+    }
+
+    /**
+     * Pops values that are not followed any further. A reference parameter consumed this way is used in an unknown
+     * way.
+     */
+    private static void consume(List<Value> stack, int words, List<Use> uses) {
+        for (int i = 0; i < words; i++) {
+            other(stack.remove(stack.size() - 1), uses);
+        }
+    }
+
+    private static void other(Value value, List<Use> uses) {
+        if (value != null && isParameter(value)) {
+            uses.add(new Use(((VarInsnNode) value.source()).var, Access.OTHER, value.source(), null, null, null));
+        }
+    }
+
+    private static void elementAccess(Value reference, Value index, Access access, AbstractInsnNode insn, Type element, int loopLocal, List<Use> uses) {
+        if (!isParameter(reference)) {
+            return;
+        }
+        boolean atLoopIndex = isLoopIndex(index, loopLocal) && element != null && element.getSort() >= Type.BOOLEAN && element.getSort() <= Type.DOUBLE;
+        uses.add(new Use(((VarInsnNode) reference.source()).var, atLoopIndex ? access : Access.OTHER, reference.source(), index.source(), insn, element));
+    }
+
+    static Type arrayElement(int opcode) {
+        return switch (opcode) {
+            case Opcodes.IALOAD, Opcodes.IASTORE -> Type.INT_TYPE;
+            case Opcodes.LALOAD, Opcodes.LASTORE -> Type.LONG_TYPE;
+            case Opcodes.FALOAD, Opcodes.FASTORE -> Type.FLOAT_TYPE;
+            case Opcodes.DALOAD, Opcodes.DASTORE -> Type.DOUBLE_TYPE;
+            case Opcodes.BALOAD, Opcodes.BASTORE -> Type.BYTE_TYPE;
+            case Opcodes.CALOAD, Opcodes.CASTORE -> Type.CHAR_TYPE;
+            default -> Type.SHORT_TYPE;
+        };
+    }
+
+    /**
+     * DUP, SWAP and their variants. Every value they move is replaced by a copy whose source is the instruction, so a
+     * duplicated loop index is no longer taken as the index of an element access. The exception is the
+     * {@code DUP2} of an array parameter and the loop index that javac emits for {@code a[i] += x}, whose two
+     * accesses are kept at the index of the loop.
+     */
+    private static boolean duplicate(List<Value> stack, AbstractInsnNode insn, int loopLocal) {
+        int size = stack.size();
+        if (insn.getOpcode() == Opcodes.DUP2 && size >= 2 && isParameter(stack.get(size - 2)) && isLoopIndex(stack.get(size - 1), loopLocal)) {
+            stack.add(stack.get(size - 2));
+            stack.add(stack.get(size - 1));
+            return true;
+        }
+        int[] order = switch (insn.getOpcode()) {
+            case Opcodes.DUP -> new int[] { 0, 0 };
+            case Opcodes.DUP_X1 -> new int[] { 1, 0, 1 };
+            case Opcodes.DUP_X2 -> new int[] { 2, 0, 1, 2 };
+            case Opcodes.DUP2 -> new int[] { 0, 1, 0, 1 };
+            case Opcodes.DUP2_X1 -> new int[] { 1, 2, 0, 1, 2 };
+            case Opcodes.DUP2_X2 -> new int[] { 2, 3, 0, 1, 2, 3 };
+            default -> new int[] { 1, 0 };
+        };
+        int words = Arrays.stream(order).max().getAsInt() + 1;
+        List<Value> top = stack.subList(stack.size() - words, stack.size());
+        Map<Value, Value> copies = new IdentityHashMap<>();
+        List<Value> moved = new ArrayList<>();
+        for (Value value : top) {
+            if (isParameter(value)) {
+                return false;
+            }
+            moved.add(copies.computeIfAbsent(value, v -> new Value(insn, v.size())));
+        }
+        top.clear();
+        for (int word : order) {
+            stack.add(moved.get(word));
+        }
+        return true;
+    }
+
+    /**
+     * Simulates the operand stack of straight-line code, from {@code first} up to {@code last} excluded, and records
+     * the uses of the reference parameters.
+     *
+     * @return False if the code branches, writes a parameter, the loop variable, a field or a reference variable, or
+     *     loads references from memory.
+     */
+    private static boolean simulate(AbstractInsnNode first, AbstractInsnNode last, List<Value> stack, int loopLocal, int parameterSize, boolean[] references, List<Use> uses) {
+        for (AbstractInsnNode insn = first; insn != last; insn = insn.getNext()) {
+            if (insn == null) {
+                return false;
+            }
+            int opcode = insn.getOpcode();
+            if (opcode < 0 || opcode == Opcodes.NOP) {
+                continue;
+            }
+            if (insn instanceof VarInsnNode var) {
+                if (opcode == Opcodes.ALOAD && (var.var >= references.length || !references[var.var])) {
+                    return false;
+                } else if (opcode >= Opcodes.ILOAD && opcode <= Opcodes.ALOAD) {
+                    push(stack, new Value(insn, (opcode == Opcodes.LLOAD || opcode == Opcodes.DLOAD) ? 2 : 1));
+                } else if (opcode == Opcodes.ASTORE || opcode == Opcodes.RET || var.var < parameterSize || var.var == loopLocal) {
+                    return false;
+                } else {
+                    consume(stack, (opcode == Opcodes.LSTORE || opcode == Opcodes.DSTORE) ? 2 : 1, uses);
+                }
+            } else if (insn instanceof IincInsnNode iinc) {
+                if (iinc.var < parameterSize || iinc.var == loopLocal) {
+                    return false;
+                }
+            } else if (intConstant(insn) != null || opcode == Opcodes.ACONST_NULL || (opcode >= Opcodes.FCONST_0 && opcode <= Opcodes.FCONST_2) || opcode == Opcodes.NEW) {
+                push(stack, new Value(insn, 1));
+            } else if (opcode == Opcodes.LCONST_0 || opcode == Opcodes.LCONST_1 || opcode == Opcodes.DCONST_0 || opcode == Opcodes.DCONST_1) {
+                push(stack, new Value(insn, 2));
+            } else if (insn instanceof LdcInsnNode ldc) {
+                push(stack, new Value(insn, (ldc.cst instanceof Long || ldc.cst instanceof Double) ? 2 : 1));
+            } else if (opcode >= Opcodes.IALOAD && opcode <= Opcodes.SALOAD && opcode != Opcodes.AALOAD) {
+                Value index = pop(stack, 1);
+                Value reference = pop(stack, 1);
+                Type element = arrayElement(opcode);
+                elementAccess(reference, index, Access.READ, insn, element, loopLocal, uses);
+                push(stack, new Value(insn, element.getSize()));
+            } else if (opcode >= Opcodes.IASTORE && opcode <= Opcodes.SASTORE && opcode != Opcodes.AASTORE) {
+                Type element = arrayElement(opcode);
+                other(pop(stack, element.getSize()), uses);
+                Value index = pop(stack, 1);
+                elementAccess(pop(stack, 1), index, Access.WRITE, insn, element, loopLocal, uses);
+            } else if (opcode == Opcodes.POP || opcode == Opcodes.POP2) {
+                consume(stack, (opcode == Opcodes.POP) ? 1 : 2, uses);
+            } else if (opcode >= Opcodes.DUP && opcode <= Opcodes.SWAP) {
+                if (!duplicate(stack, insn, loopLocal)) {
+                    return false;
+                }
+            } else if (opcode >= Opcodes.IADD && opcode <= Opcodes.DREM) {
+                int size = ((opcode - Opcodes.IADD) % 2 == 1) ? 2 : 1;
+                consume(stack, 2 * size, uses);
+                push(stack, new Value(insn, size));
+            } else if (opcode >= Opcodes.INEG && opcode <= Opcodes.DNEG) {
+                int size = ((opcode - Opcodes.INEG) % 2 == 1) ? 2 : 1;
+                consume(stack, size, uses);
+                push(stack, new Value(insn, size));
+            } else if (opcode >= Opcodes.ISHL && opcode <= Opcodes.LUSHR) {
+                int size = ((opcode - Opcodes.ISHL) % 2 == 1) ? 2 : 1;
+                consume(stack, 1 + size, uses);
+                push(stack, new Value(insn, size));
+            } else if (opcode >= Opcodes.IAND && opcode <= Opcodes.LXOR) {
+                int size = ((opcode - Opcodes.IAND) % 2 == 1) ? 2 : 1;
+                consume(stack, 2 * size, uses);
+                push(stack, new Value(insn, size));
+            } else if (opcode >= Opcodes.I2L && opcode <= Opcodes.I2S) {
+                boolean wideInput = opcode == Opcodes.L2I || opcode == Opcodes.L2F || opcode == Opcodes.L2D || opcode == Opcodes.D2I || opcode == Opcodes.D2L || opcode == Opcodes.D2F;
+                boolean wideOutput = opcode == Opcodes.I2L || opcode == Opcodes.I2D || opcode == Opcodes.L2D || opcode == Opcodes.F2L || opcode == Opcodes.F2D || opcode == Opcodes.D2L;
+                consume(stack, wideInput ? 2 : 1, uses);
+                push(stack, new Value(insn, wideOutput ? 2 : 1));
+            } else if (opcode >= Opcodes.LCMP && opcode <= Opcodes.DCMPG) {
+                consume(stack, (opcode == Opcodes.FCMPL || opcode == Opcodes.FCMPG) ? 2 : 4, uses);
+                push(stack, new Value(insn, 1));
+            } else if (insn instanceof FieldInsnNode field && opcode == Opcodes.GETSTATIC) {
+                Type type = Type.getType(field.desc);
+                if (type.getSort() == Type.OBJECT || type.getSort() == Type.ARRAY) {
+                    return false;
+                }
+                push(stack, new Value(insn, type.getSize()));
+            } else if (insn instanceof MethodInsnNode call) {
+                Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+                Value[] values = new Value[argumentTypes.length];
+                for (int i = argumentTypes.length - 1; i >= 0; i--) {
+                    values[i] = pop(stack, argumentTypes[i].getSize());
+                }
+                Value receiver = (opcode == Opcodes.INVOKESTATIC) ? null : pop(stack, 1);
+                if (receiver != null && isParameter(receiver) && call.owner.startsWith(NATIVE_ARRAYS)) {
+                    if (call.name.equals("get") && argumentTypes.length == 1 && argumentTypes[0].equals(Type.INT_TYPE)) {
+                        elementAccess(receiver, values[0], Access.READ, insn, Type.getReturnType(call.desc), loopLocal, uses);
+                    } else if (call.name.equals("set") && argumentTypes.length == 2 && argumentTypes[0].equals(Type.INT_TYPE) && Type.getReturnType(call.desc).equals(Type.VOID_TYPE)) {
+                        elementAccess(receiver, values[0], Access.WRITE, insn, argumentTypes[1], loopLocal, uses);
+                    } else if (call.name.equals("getSize") && call.desc.equals("()I")) {
+                        uses.add(new Use(((VarInsnNode) receiver.source()).var, Access.SIZE, receiver.source(), null, insn, null));
+                    } else {
+                        other(receiver, uses);
+                    }
+                } else {
+                    other(receiver, uses);
+                }
+                for (Value value : values) {
+                    other(value, uses);
+                }
+                Type returnType = Type.getReturnType(call.desc);
+                if (!returnType.equals(Type.VOID_TYPE)) {
+                    push(stack, new Value(insn, returnType.getSize()));
+                }
+            } else if (opcode == Opcodes.ARRAYLENGTH) {
+                Value reference = pop(stack, 1);
+                if (isParameter(reference)) {
+                    uses.add(new Use(((VarInsnNode) reference.source()).var, Access.SIZE, reference.source(), null, insn, null));
+                }
+                push(stack, new Value(insn, 1));
+            } else if (opcode == Opcodes.CHECKCAST || opcode == Opcodes.INSTANCEOF || opcode == Opcodes.NEWARRAY || opcode == Opcodes.ANEWARRAY) {
+                consume(stack, 1, uses);
+                push(stack, new Value(insn, 1));
+            } else {
+                // Branches, switches, returns, field writes, monitors and invokedynamic
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces an element access at the index of the loop by a load or a store of a local variable. The instructions
+     * that load the array and the index are removed.
+     */
+    private static AbstractInsnNode replaceAccess(InsnList insns, Use use, Type element, int local) {
+        insns.remove(use.load());
+        insns.remove(use.index());
+        VarInsnNode var = new VarInsnNode(element.getOpcode((use.access() == Access.WRITE) ? Opcodes.ISTORE : Opcodes.ILOAD), local);
+        insns.set(use.instruction(), var);
+        return var;
+    }
+
+    private static int newSlot(int[] slots, int slot) {
+        if (slot >= slots.length || slots[slot] < 0) {
+            throw new IllegalStateException("Local variable " + slot + " is not mapped");
+        }
+        return slots[slot];
+    }
+
+    private static void renumber(AbstractInsnNode insn, int[] slots, Set<AbstractInsnNode> rewritten) {
+        if (rewritten.contains(insn)) {
+            return;
+        }
+        if (insn instanceof VarInsnNode var) {
+            var.var = newSlot(slots, var.var);
+        } else if (insn instanceof IincInsnNode iinc) {
+            iinc.var = newSlot(slots, iinc.var);
+        }
+    }
+
+    private static void renumber(InsnList insns, int[] slots, Set<AbstractInsnNode> rewritten) {
+        for (AbstractInsnNode insn : insns) {
+            renumber(insn, slots, rewritten);
+        }
+    }
+
+    /**
+     * Removes the instructions from {@code first} up to {@code last} excluded from a task, with their local variables
+     * renumbered. Line numbers and frames of the task are dropped.
+     */
+    private static InsnList move(InsnList insns, AbstractInsnNode first, AbstractInsnNode last, int[] slots, Set<AbstractInsnNode> rewritten) {
+        InsnList moved = new InsnList();
+        AbstractInsnNode insn = first;
+        while (insn != last) {
+            AbstractInsnNode next = insn.getNext();
+            insns.remove(insn);
+            if (!(insn instanceof LineNumberNode) && !(insn instanceof FrameNode)) {
+                renumber(insn, slots, rewritten);
+                moved.add(insn);
+            }
+            insn = next;
+        }
+        return moved;
+    }
+
+    /**
+     * Turns the method of the producer into the fused task. The only local variable annotation that is kept is the
+     * {@code @Parallel} annotation of the loop of the producer.
+     */
+    private static void rewriteSignature(MethodNode kernel, String name, String descriptor, int[] producerSlots, int maxLocals) {
+        kernel.visibleLocalVariableAnnotations = parallelAnnotations(kernel.visibleLocalVariableAnnotations, producerSlots);
+        kernel.invisibleLocalVariableAnnotations = parallelAnnotations(kernel.invisibleLocalVariableAnnotations, producerSlots);
+        kernel.name = name;
+        kernel.desc = descriptor;
+        kernel.signature = null;
+        kernel.access = Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC;
+        kernel.parameters = null;
+        kernel.localVariables = null;
+        kernel.visibleParameterAnnotations = null;
+        kernel.invisibleParameterAnnotations = null;
+        kernel.visibleAnnotableParameterCount = 0;
+        kernel.invisibleAnnotableParameterCount = 0;
+        kernel.visibleTypeAnnotations = null;
+        kernel.invisibleTypeAnnotations = null;
+        kernel.maxLocals = maxLocals;
+    }
+
+    private static List<LocalVariableAnnotationNode> parallelAnnotations(List<LocalVariableAnnotationNode> annotations, int[] producerSlots) {
+        if (annotations == null) {
+            return null;
+        }
+        List<LocalVariableAnnotationNode> parallel = new ArrayList<>();
+        for (LocalVariableAnnotationNode annotation : annotations) {
+            if (annotation.desc.equals(PARALLEL)) {
+                annotation.index.replaceAll(slot -> producerSlots[slot]);
+                parallel.add(annotation);
+            }
+        }
+        return parallel;
+    }
+
+    /**
+     * Adds the private static methods that a task calls, once for each name and descriptor.
+     *
+     * @return False if two tasks from different classes call different methods with the same name and descriptor.
+     */
+    private static boolean addHelpers(Map<String, MethodNode> helpers, Map<String, String> owners, String owner, Set<MethodNode> methods, MethodNode task) {
+        for (MethodNode method : methods) {
+            if (method == task) {
+                continue;
+            }
+            String key = method.name + method.desc;
+            String previousOwner = owners.putIfAbsent(key, owner);
+            if (previousOwner == null) {
+                helpers.put(key, method);
+            } else if (!previousOwner.equals(owner)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The {@code apply} method of the task interface, which unboxes the arguments and calls the fused task. It is the
+     * first method after the constructor, so the constant pool indices of its instructions stay small.
+     */
+    static MethodNode applyMethod(String fusedName, MethodNode kernel, List<Type> parameterTypes) {
+        String objects = "Ljava/lang/Object;".repeat(parameterTypes.size());
+        MethodNode apply = new MethodNode(Opcodes.ACC_PUBLIC, "apply", "(" + objects + ")V", null, null);
+        InsnList insns = apply.instructions;
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            Type type = parameterTypes.get(i);
+            insns.add(new VarInsnNode(Opcodes.ALOAD, i + 1));
+            if (type.getSort() == Type.OBJECT || type.getSort() == Type.ARRAY) {
+                insns.add(new TypeInsnNode(Opcodes.CHECKCAST, type.getInternalName()));
+            } else {
+                String box = switch (type.getSort()) {
+                    case Type.BOOLEAN -> "java/lang/Boolean";
+                    case Type.CHAR -> "java/lang/Character";
+                    case Type.BYTE -> "java/lang/Byte";
+                    case Type.SHORT -> "java/lang/Short";
+                    case Type.INT -> "java/lang/Integer";
+                    case Type.FLOAT -> "java/lang/Float";
+                    case Type.LONG -> "java/lang/Long";
+                    default -> "java/lang/Double";
+                };
+                insns.add(new TypeInsnNode(Opcodes.CHECKCAST, box));
+                insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, box, type.getClassName() + "Value", "()" + type.getDescriptor(), false));
+            }
+        }
+        insns.add(new MethodInsnNode(Opcodes.INVOKESTATIC, fusedName, kernel.name, kernel.desc, false));
+        insns.add(new InsnNode(Opcodes.RETURN));
+        return apply;
+    }
+
+    static MethodNode constructor() {
+        MethodNode init = new MethodNode(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        init.instructions.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        init.instructions.add(new MethodInsnNode(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false));
+        init.instructions.add(new InsnNode(Opcodes.RETURN));
+        return init;
+    }
+
+    static byte[] writeClass(Class<?> host, ClassNode hostNode, String fusedName, MethodNode kernel, List<Type> parameterTypes, Collection<MethodNode> helpers,
+            Map<String, String> owners) {
+        ClassNode fusedClass = new ClassNode();
+        fusedClass.version = hostNode.version;
+        fusedClass.access = Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC;
+        fusedClass.name = fusedName;
+        fusedClass.superName = "java/lang/Object";
+        fusedClass.interfaces.add(TASK_INTERFACE + (parameterTypes.isEmpty() ? "" : parameterTypes.size()));
+        fusedClass.sourceFile = hostNode.sourceFile;
+
+        List<MethodNode> methods = new ArrayList<>();
+        methods.add(kernel);
+        methods.addAll(helpers);
+        for (MethodNode methodNode : methods) {
+            for (AbstractInsnNode insn : methodNode.instructions) {
+                if (insn instanceof MethodInsnNode call && call.owner.equals(owners.get(call.name + call.desc))) {
+                    call.owner = fusedName;
+                }
+            }
+        }
+        fusedClass.methods.add(constructor());
+        fusedClass.methods.add(applyMethod(fusedName, kernel, parameterTypes));
+        fusedClass.methods.addAll(methods);
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected ClassLoader getClassLoader() {
+                return host.getClassLoader();
+            }
+        };
+        fusedClass.accept(writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,1462 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.collectMethods;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.findMethod;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.nextInstruction;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.previousInstruction;
+import static uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator.readClass;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LocalVariableAnnotationNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.runtime.analyzer.LocalMemoryTilingGenerator;
+import uk.ac.manchester.tornado.runtime.analyzer.TiledKernel;
+
+/**
+ * Rewrites a task with one or two nested {@code @Parallel} loops into a {@code KernelContext} kernel that stages in
+ * local memory the elements that the work-items of a work-group share. The innermost {@code @Parallel} loop is mapped
+ * to the first dimension of the grid, and the loop around it, if any, to the second one. Two shapes are tiled.
+ *
+ * <p>
+ * A GEMM-like task runs a sequential loop in the innermost body:
+ * </p>
+ *
+ * <pre>
+ * for (@Parallel int i = 0; i &lt; n; i++)
+ *     for (@Parallel int j = 0; j &lt; n; j++) {
+ *         float sum = 0;
+ *         for (int k = 0; k &lt; n; k++) { sum += a.get(i * n + k) * b.get(k * n + j); }
+ *         c.set(i * n + j, sum);
+ *     }
+ * </pre>
+ *
+ * <p>
+ * The element of {@code a} does not depend on {@code j}, so the work-items of a row of the work-group read the same
+ * elements, and the element of {@code b} does not depend on {@code i}. The sequential loop is split in blocks of the
+ * size of the work-group. For each block, the work-items load a tile of {@code a} and a tile of {@code b} into local
+ * memory, synchronise, run the iterations of the block from the tiles and synchronise again.
+ * </p>
+ *
+ * <p>
+ * A stencil reads an array at constant offsets of the indices of the loops, as {@code a.get((i - 1) * n + j)} and
+ * {@code a.get(i * n + j + 1)}. The work-items load the block of the array that the work-group reads, with its halo,
+ * synchronise and run the body with the reads from local memory.
+ * </p>
+ *
+ * <p>
+ * Only tasks that javac emits in the canonical shape are tiled: straight-line code before the loops, between the two
+ * {@code @Parallel} loops and in the innermost body, which may contain one sequential loop with a straight-line body.
+ * The bounds of the {@code @Parallel} loops must be evaluated on the arguments of the task, and the tiled arrays must
+ * only be read by the task. The work-items that fall out of the iteration space take part in the loads and in the
+ * barriers, but do not run the body.
+ * </p>
+ */
+public class ASMLocalMemoryTilingGenerator implements LocalMemoryTilingGenerator {
+
+    private static final String PARALLEL = Type.getDescriptor(Parallel.class);
+    private static final String KERNEL_CONTEXT = Type.getInternalName(KernelContext.class);
+    private static final String TILED_SUFFIX = "$TornadoTiledKernel";
+    private static final int TILE_2D = 16;
+    private static final int TILE_1D = 256;
+    private static final int MAX_OFFSET = 4;
+    private static final int MAX_LOCAL_MEMORY = 16 * 1024;
+    private static final int MAX_ARGUMENTS = 20;
+    private static final AtomicInteger KERNEL_ID = new AtomicInteger();
+
+    /**
+     * Instantiated by name by the runtime for local memory tiling, as set with {@code tornado.load.tiling.generator}.
+     */
+    public ASMLocalMemoryTilingGenerator() {
+    }
+
+    // Expressions and statements of a decompiled task. Local variables keep the slots of the task.
+
+    private sealed interface Expr permits Const, Local, Binary, Unary, Load, Size, Call, Static, WorkItem, LocalArray, TileRead {
+        Type type();
+    }
+
+    private record Const(Object value, Type type) implements Expr {
+    }
+
+    private record Local(int slot, Type type) implements Expr {
+    }
+
+    private record Binary(int opcode, Expr left, Expr right, Type type) implements Expr {
+    }
+
+    private record Unary(int opcode, Expr operand, Type type) implements Expr {
+    }
+
+    /**
+     * Read of an element of a parameter, with the instruction of the task that reads it.
+     */
+    private record Load(Local array, Expr index, Type type, AbstractInsnNode access) implements Expr {
+    }
+
+    private record Size(Local array) implements Expr {
+        @Override
+        public Type type() {
+            return Type.INT_TYPE;
+        }
+    }
+
+    private record Call(MethodInsnNode call, List<Expr> arguments, Type type) implements Expr {
+    }
+
+    private record Static(FieldInsnNode field, Type type) implements Expr {
+    }
+
+    /**
+     * Integer field of the {@link KernelContext}, as {@code globalIdx}.
+     */
+    private record WorkItem(String field) implements Expr {
+        @Override
+        public Type type() {
+            return Type.INT_TYPE;
+        }
+    }
+
+    private record LocalArray(Type element, int size) implements Expr {
+        @Override
+        public Type type() {
+            return Type.getType("[" + element.getDescriptor());
+        }
+    }
+
+    private record TileRead(Local tile, Expr index, Type type) implements Expr {
+    }
+
+    private sealed interface Stmt permits Assign, Store, Loop, If, Barrier {
+    }
+
+    private record Assign(Local local, Expr value) implements Stmt {
+    }
+
+    /**
+     * Write of an element of a parameter, or of a tile when {@code access} is {@code null}.
+     */
+    private record Store(Local array, Expr index, Expr value, AbstractInsnNode access) implements Stmt {
+    }
+
+    private record Loop(Local index, Expr init, List<Compare> conditions, int step, List<Stmt> body, boolean parallel) implements Stmt {
+    }
+
+    private record If(List<Compare> conditions, List<Stmt> body) implements Stmt {
+    }
+
+    private record Barrier() implements Stmt {
+    }
+
+    /**
+     * Integer comparison that holds when the {@code IF_ICMPxx} instruction {@code opcode} jumps.
+     */
+    private record Compare(Expr left, int opcode, Expr right) {
+    }
+
+    /**
+     * Iteration space of a {@code @Parallel} loop: {@code [lower, upper)}.
+     */
+    private record Range(Local index, int lower, int upper) {
+        int count() {
+            return upper - lower;
+        }
+    }
+
+    private enum Sharing {
+        /** The element depends on the loop of the second dimension: the work-items of a row read the same tile. */
+        ROW,
+        /** The element depends on the loop of the first dimension: the work-items of a column read the same tile. */
+        COLUMN,
+        /** The element only depends on the sequential loop: all the work-items read the same tile. */
+        ALL
+    }
+
+    /**
+     * Tile of the sequential loop of a GEMM-like task.
+     */
+    private record BlockTile(Local array, Expr index, Sharing sharing, Local tile, List<Load> loads) {
+    }
+
+    /**
+     * Tile of a stencil, with the offsets of each read from the first one.
+     */
+    private record HaloTile(Local array, Expr index, Local tile, Map<Load, int[]> offsets, int minX, int maxX, int minY, int maxY) {
+    }
+
+    @Override
+    public TiledKernel tile(Method method, Object[] arguments) {
+        try {
+            return generate(method, arguments);
+        } catch (IOException | ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Any task that the generator cannot read or rewrite is not tiled
+            return null;
+        }
+    }
+
+    private TiledKernel generate(Method method, Object[] arguments) throws IOException, ReflectiveOperationException {
+        if (!Modifier.isStatic(method.getModifiers()) || method.getReturnType() != void.class || method.getParameterCount() != arguments.length || arguments.length + 1 > MAX_ARGUMENTS
+                || ASMKernelFusionGenerator.hasDuplicateReferences(method, arguments)) {
+            return null;
+        }
+        Class<?>[] parameterClasses = method.getParameterTypes();
+        for (int i = 0; i < arguments.length; i++) {
+            if (KernelContext.class.isAssignableFrom(parameterClasses[i])) {
+                return null;
+            }
+            for (Annotation annotation : method.getParameterAnnotations()[i]) {
+                if (annotation instanceof Reduce) {
+                    return null;
+                }
+            }
+        }
+        Class<?> host = method.getDeclaringClass();
+        ClassNode hostNode = readClass(host);
+        MethodNode node = findMethod(hostNode, method.getName(), Type.getMethodDescriptor(method));
+        if (node == null || !node.tryCatchBlocks.isEmpty()) {
+            return null;
+        }
+        Set<MethodNode> methods = collectMethods(host, hostNode, node);
+        if (methods == null) {
+            return null;
+        }
+
+        Object[] slotArguments = new Object[Type.getArgumentsAndReturnSizes(node.desc) >> 2];
+        Type[] slotTypes = new Type[slotArguments.length];
+        int parameterSize = 0;
+        for (int i = 0; i < arguments.length; i++) {
+            slotArguments[parameterSize] = arguments[i];
+            slotTypes[parameterSize] = Type.getType(parameterClasses[i]);
+            parameterSize += slotTypes[parameterSize].getSize();
+        }
+
+        Decompiler decompiler = new Decompiler(node, slotTypes, parameterSize);
+        List<Stmt> statements = decompiler.decompile();
+        Kernel kernel = new Kernel(node, slotArguments, parameterSize);
+        List<Stmt> tiled = kernel.tile(statements);
+        if (tiled == null) {
+            return null;
+        }
+
+        List<Type> parameterTypes = new ArrayList<>();
+        parameterTypes.add(Type.getObjectType(KERNEL_CONTEXT));
+        for (Class<?> parameterClass : parameterClasses) {
+            parameterTypes.add(Type.getType(parameterClass));
+        }
+        String tiledName = hostNode.name + TILED_SUFFIX + KERNEL_ID.incrementAndGet();
+        MethodNode kernelNode = new MethodNode(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, method.getName(), Type.getMethodDescriptor(Type.VOID_TYPE, parameterTypes.toArray(new Type[0])), null,
+                null);
+        emit(tiled, kernelNode.instructions);
+        kernelNode.instructions.add(new InsnNode(Opcodes.RETURN));
+
+        List<MethodNode> helpers = new ArrayList<>();
+        Map<String, String> owners = new HashMap<>();
+        for (MethodNode helper : methods) {
+            if (helper != node) {
+                helpers.add(helper);
+                owners.put(helper.name + helper.desc, hostNode.name);
+            }
+        }
+        byte[] classFile = ASMKernelFusionGenerator.writeClass(host, hostNode, tiledName, kernelNode, parameterTypes, helpers, owners);
+        GeneratedClassFiles.register(tiledName, classFile);
+
+        Object[] tiledArguments = new Object[arguments.length + 1];
+        tiledArguments[0] = new KernelContext();
+        System.arraycopy(arguments, 0, tiledArguments, 1, arguments.length);
+        return new TiledKernel(tiledName.replace('/', '.'), classFile, tiledArguments, kernel.globalWork, kernel.localWork);
+    }
+
+    /**
+     * Builds the statements of a task from its bytecodes. Loops must have the shape that javac emits for a
+     * {@code for} loop with an increment, and no other branch is accepted.
+     */
+    private static final class Decompiler {
+
+        private final MethodNode node;
+        private final Type[] slotTypes;
+        private final int parameterSize;
+        private final Map<AbstractInsnNode, Integer> parallelHeads = new IdentityHashMap<>();
+
+        Decompiler(MethodNode node, Type[] slotTypes, int parameterSize) {
+            this.node = node;
+            this.slotTypes = slotTypes;
+            this.parameterSize = parameterSize;
+            List<LocalVariableAnnotationNode> annotations = new ArrayList<>();
+            if (node.visibleLocalVariableAnnotations != null) {
+                annotations.addAll(node.visibleLocalVariableAnnotations);
+            }
+            if (node.invisibleLocalVariableAnnotations != null) {
+                annotations.addAll(node.invisibleLocalVariableAnnotations);
+            }
+            for (LocalVariableAnnotationNode annotation : annotations) {
+                if (annotation.desc.equals(PARALLEL) && annotation.start.size() == 1) {
+                    AbstractInsnNode head = nextInstruction(annotation.start.get(0));
+                    if (head != null) {
+                        parallelHeads.put(head, annotation.index.get(0));
+                    }
+                }
+            }
+        }
+
+        List<Stmt> decompile() {
+            AbstractInsnNode last = node.instructions.getLast();
+            while (last != null && last.getOpcode() < 0) {
+                last = last.getPrevious();
+            }
+            if (last == null || last.getOpcode() != Opcodes.RETURN) {
+                throw new IllegalStateException("The task does not end with a return");
+            }
+            return block(node.instructions.getFirst(), last);
+        }
+
+        private List<Stmt> block(AbstractInsnNode first, AbstractInsnNode last) {
+            List<Stmt> statements = new ArrayList<>();
+            Deque<Expr> stack = new ArrayDeque<>();
+            AbstractInsnNode insn = first;
+            while (insn != last) {
+                if (insn == null) {
+                    throw new IllegalStateException("Unstructured code");
+                }
+                if (insn instanceof LabelNode label) {
+                    JumpInsnNode backEdge = backEdge(label, last);
+                    if (backEdge != null) {
+                        insn = loop(label, backEdge, statements, stack);
+                        continue;
+                    }
+                } else if (insn.getOpcode() >= 0) {
+                    instruction(insn, stack, statements);
+                }
+                insn = insn.getNext();
+            }
+            if (!stack.isEmpty()) {
+                throw new IllegalStateException("Values left on the operand stack");
+            }
+            return statements;
+        }
+
+        private static JumpInsnNode backEdge(LabelNode label, AbstractInsnNode last) {
+            for (AbstractInsnNode insn = label.getNext(); insn != null && insn != last; insn = insn.getNext()) {
+                if (insn instanceof JumpInsnNode jump && jump.getOpcode() == Opcodes.GOTO && jump.label == label) {
+                    return jump;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Decompiles {@code init; head: ILOAD i; <bound>; IF_ICMPGE exit; <body>; IINC i step; GOTO head; exit:}.
+         *
+         * @return The first instruction after the loop.
+         */
+        private AbstractInsnNode loop(LabelNode label, JumpInsnNode backEdge, List<Stmt> statements, Deque<Expr> stack) {
+            if (!stack.isEmpty() || statements.isEmpty() || !(statements.getLast() instanceof Assign init)) {
+                throw new IllegalStateException("Loop without initialisation");
+            }
+            AbstractInsnNode head = nextInstruction(label);
+            if (!(head instanceof VarInsnNode load) || load.getOpcode() != Opcodes.ILOAD || load.var != init.local().slot()) {
+                throw new IllegalStateException("Unsupported loop condition");
+            }
+            Local index = init.local();
+            Deque<Expr> condition = new ArrayDeque<>();
+            condition.push(index);
+            List<Stmt> none = new ArrayList<>();
+            AbstractInsnNode insn = head.getNext();
+            while (insn != null && !(insn instanceof JumpInsnNode)) {
+                if (insn.getOpcode() >= 0) {
+                    instruction(insn, condition, none);
+                }
+                insn = insn.getNext();
+            }
+            if (!(insn instanceof JumpInsnNode exit) || (exit.getOpcode() != Opcodes.IF_ICMPGE && exit.getOpcode() != Opcodes.IF_ICMPGT) || condition.size() != 2 || !none.isEmpty()) {
+                throw new IllegalStateException("Unsupported loop condition");
+            }
+            Expr bound = condition.pop();
+            if (!(previousInstruction(backEdge) instanceof IincInsnNode increment) || increment.var != index.slot() || increment.incr <= 0) {
+                throw new IllegalStateException("Unsupported loop increment");
+            }
+            for (AbstractInsnNode after = backEdge.getNext(); after != exit.label; after = after.getNext()) {
+                if (after == null || after.getOpcode() >= 0) {
+                    throw new IllegalStateException("Unsupported loop exit");
+                }
+            }
+            List<Stmt> body = block(exit.getNext(), increment);
+            forEachStatement(body, statement -> {
+                if (statement instanceof Assign assign && assign.local().slot() == index.slot()) {
+                    throw new IllegalStateException("The loop variable is written in the loop");
+                }
+            });
+            int opcode = (exit.getOpcode() == Opcodes.IF_ICMPGE) ? Opcodes.IF_ICMPLT : Opcodes.IF_ICMPLE;
+            Integer parallel = parallelHeads.get(head);
+            statements.set(statements.size() - 1, new Loop(index, init.value(), List.of(new Compare(index, opcode, bound)), increment.incr, body, parallel != null && parallel == index.slot()));
+            return exit.label;
+        }
+
+        private Local parameter(Expr reference) {
+            if (reference instanceof Local local && local.slot() < parameterSize && (local.type().getSort() == Type.OBJECT || local.type().getSort() == Type.ARRAY)) {
+                return local;
+            }
+            throw new IllegalStateException("Access to an object that is not a parameter");
+        }
+
+        private void instruction(AbstractInsnNode insn, Deque<Expr> stack, List<Stmt> statements) {
+            int opcode = insn.getOpcode();
+            if (insn instanceof VarInsnNode var) {
+                if (opcode == Opcodes.ALOAD) {
+                    if (var.var >= parameterSize || slotTypes[var.var] == null) {
+                        throw new IllegalStateException("Reference local variable");
+                    }
+                    stack.push(new Local(var.var, slotTypes[var.var]));
+                } else if (opcode >= Opcodes.ILOAD && opcode <= Opcodes.DLOAD) {
+                    stack.push(new Local(var.var, loadType(opcode - Opcodes.ILOAD)));
+                } else if (opcode >= Opcodes.ISTORE && opcode <= Opcodes.DSTORE && var.var >= parameterSize) {
+                    statements.add(new Assign(new Local(var.var, loadType(opcode - Opcodes.ISTORE)), stack.pop()));
+                } else {
+                    throw new IllegalStateException("Unsupported local variable write");
+                }
+            } else if (insn instanceof IincInsnNode iinc && iinc.var >= parameterSize) {
+                Local local = new Local(iinc.var, Type.INT_TYPE);
+                statements.add(new Assign(local, new Binary(Opcodes.IADD, local, new Const(iinc.incr, Type.INT_TYPE), Type.INT_TYPE)));
+            } else if (constant(insn) != null) {
+                Object value = constant(insn);
+                stack.push(new Const(value, constantType(value)));
+            } else if (opcode >= Opcodes.IALOAD && opcode <= Opcodes.SALOAD && opcode != Opcodes.AALOAD) {
+                Expr index = stack.pop();
+                stack.push(new Load(parameter(stack.pop()), index, ASMKernelFusionGenerator.arrayElement(opcode), insn));
+            } else if (opcode >= Opcodes.IASTORE && opcode <= Opcodes.SASTORE && opcode != Opcodes.AASTORE) {
+                Expr value = stack.pop();
+                Expr index = stack.pop();
+                statements.add(new Store(parameter(stack.pop()), index, value, insn));
+            } else if (opcode == Opcodes.DUP && stack.peek().type().getSize() == 1) {
+                stack.push(stack.peek());
+            } else if (opcode == Opcodes.DUP2 && stack.peek().type().getSize() == 2) {
+                stack.push(stack.peek());
+            } else if (opcode == Opcodes.DUP2) {
+                Expr top = stack.pop();
+                Expr second = stack.peek();
+                if (top.type().getSize() != 1 || second.type().getSize() != 1) {
+                    throw new IllegalStateException("Unbalanced operand stack");
+                }
+                stack.push(top);
+                stack.push(second);
+                stack.push(top);
+            } else if (opcode >= Opcodes.IADD && opcode <= Opcodes.DREM) {
+                Expr right = stack.pop();
+                stack.push(new Binary(opcode, stack.pop(), right, loadType((opcode - Opcodes.IADD) % 4)));
+            } else if (opcode >= Opcodes.INEG && opcode <= Opcodes.DNEG) {
+                stack.push(new Unary(opcode, stack.pop(), loadType(opcode - Opcodes.INEG)));
+            } else if (opcode >= Opcodes.ISHL && opcode <= Opcodes.LXOR) {
+                Expr right = stack.pop();
+                stack.push(new Binary(opcode, stack.pop(), right, ((opcode - Opcodes.ISHL) % 2 == 0) ? Type.INT_TYPE : Type.LONG_TYPE));
+            } else if (opcode >= Opcodes.I2L && opcode <= Opcodes.I2S) {
+                stack.push(new Unary(opcode, stack.pop(), conversionType(opcode)));
+            } else if (insn instanceof FieldInsnNode field && opcode == Opcodes.GETSTATIC && Type.getType(field.desc).getSort() <= Type.DOUBLE) {
+                stack.push(new Static(field, Type.getType(field.desc)));
+            } else if (insn instanceof MethodInsnNode call && opcode == Opcodes.INVOKESTATIC && !Type.getReturnType(call.desc).equals(Type.VOID_TYPE)) {
+                Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+                Expr[] values = new Expr[argumentTypes.length];
+                for (int i = values.length - 1; i >= 0; i--) {
+                    values[i] = stack.pop();
+                }
+                stack.push(new Call(call, List.of(values), Type.getReturnType(call.desc)));
+            } else if (insn instanceof MethodInsnNode call && opcode == Opcodes.INVOKEVIRTUAL && call.owner.startsWith(ASMKernelFusionGenerator.NATIVE_ARRAYS)) {
+                Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+                Type returnType = Type.getReturnType(call.desc);
+                if (call.name.equals("get") && argumentTypes.length == 1 && argumentTypes[0].equals(Type.INT_TYPE)) {
+                    Expr index = stack.pop();
+                    stack.push(new Load(parameter(stack.pop()), index, returnType, insn));
+                } else if (call.name.equals("set") && argumentTypes.length == 2 && argumentTypes[0].equals(Type.INT_TYPE) && returnType.equals(Type.VOID_TYPE)) {
+                    Expr value = stack.pop();
+                    Expr index = stack.pop();
+                    statements.add(new Store(parameter(stack.pop()), index, value, insn));
+                } else if (call.name.equals("getSize") && call.desc.equals("()I")) {
+                    stack.push(new Size(parameter(stack.pop())));
+                } else {
+                    throw new IllegalStateException("Unsupported call " + call.name);
+                }
+            } else if (opcode == Opcodes.ARRAYLENGTH) {
+                stack.push(new Size(parameter(stack.pop())));
+            } else {
+                // Branches, switches, comparisons, returns, field writes, objects, monitors and invokedynamic
+                throw new IllegalStateException("Unsupported instruction " + opcode);
+            }
+        }
+    }
+
+    /**
+     * Tiles the statements of a task for the arguments of the task.
+     */
+    private static final class Kernel {
+
+        private final MethodNode node;
+        private final Object[] slotArguments;
+        private final int parameterSize;
+        private final Map<Integer, Type> localTypes = new TreeMap<>();
+        private final Map<Integer, Expr> definitions = new HashMap<>();
+        private final Set<Integer> writtenArrays = new HashSet<>();
+        private int nextSlot;
+        private long[] globalWork;
+        private long[] localWork;
+
+        Kernel(MethodNode node, Object[] slotArguments, int parameterSize) {
+            this.node = node;
+            this.slotArguments = slotArguments;
+            this.parameterSize = parameterSize;
+            this.nextSlot = node.maxLocals;
+        }
+
+        private Local newLocal(Type type) {
+            Local local = new Local(nextSlot, type);
+            nextSlot += type.getSize();
+            return local;
+        }
+
+        private void addLocal(Local local) {
+            if (local.slot() < parameterSize) {
+                return;
+            }
+            Type previous = localTypes.putIfAbsent(local.slot(), local.type());
+            if (previous != null && !previous.equals(local.type())) {
+                throw new IllegalStateException("Local variable " + local.slot() + " with two types");
+            }
+        }
+
+        /**
+         * Collects the types of the local variables, the arrays that the task writes and the local variables that are
+         * written once with a value that does not read memory, which can be replaced by their value.
+         */
+        private void analyse(List<Stmt> statements) {
+            Map<Integer, Integer> writes = new HashMap<>();
+            forEachStatement(statements, statement -> {
+                switch (statement) {
+                    case Assign assign -> {
+                        addLocal(assign.local());
+                        writes.merge(assign.local().slot(), 1, Integer::sum);
+                        definitions.put(assign.local().slot(), assign.value());
+                    }
+                    case Loop loop -> {
+                        addLocal(loop.index());
+                        writes.merge(loop.index().slot(), 2, Integer::sum);
+                    }
+                    case Store store -> writtenArrays.add(store.array().slot());
+                    default -> {
+                    }
+                }
+            });
+            forEachExpr(statements, expr -> {
+                if (expr instanceof Local local) {
+                    addLocal(local);
+                }
+            });
+            definitions.keySet().removeIf(slot -> writes.get(slot) != 1 || !isPure(definitions.get(slot)));
+        }
+
+        private static boolean isPure(Expr expr) {
+            boolean[] pure = { true };
+            forEachExpr(expr, e -> pure[0] &= !(e instanceof Load) && !(e instanceof Call));
+            return pure[0];
+        }
+
+        private Expr inline(Expr expr, int depth) {
+            if (depth > 32) {
+                throw new IllegalStateException("Definitions too deep");
+            }
+            return rewrite(expr, e -> (e instanceof Local local && definitions.containsKey(local.slot())) ? inline(definitions.get(local.slot()), depth + 1) : null);
+        }
+
+        private Set<Integer> freeLocals(Expr expr) {
+            Set<Integer> slots = new HashSet<>();
+            forEachExpr(expr, e -> {
+                if (e instanceof Local local) {
+                    slots.add(local.slot());
+                } else if (e instanceof Size size) {
+                    slots.add(size.array().slot());
+                }
+            });
+            return slots;
+        }
+
+        private boolean isInvariant(Expr expr, Local... indices) {
+            for (int slot : freeLocals(expr)) {
+                boolean isIndex = false;
+                for (Local index : indices) {
+                    isIndex |= index != null && index.slot() == slot;
+                }
+                if (slot >= parameterSize && !isIndex) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Evaluates an integer expression on the arguments of the task.
+         */
+        private Integer evaluate(Expr expr) {
+            return switch (expr) {
+                case Const constant when constant.value() instanceof Integer value -> value;
+                case Local local when local.slot() < parameterSize && slotArguments[local.slot()] instanceof Integer value -> value;
+                case Local local when definitions.containsKey(local.slot()) -> evaluate(definitions.get(local.slot()));
+                case Size size when slotArguments[size.array().slot()] instanceof TornadoNativeArray array -> array.getSize();
+                case Size size when slotArguments[size.array().slot()] != null && slotArguments[size.array().slot()].getClass().isArray() -> Array.getLength(slotArguments[size.array().slot()]);
+                case Binary binary when binary.type().equals(Type.INT_TYPE) -> {
+                    Integer a = evaluate(binary.left());
+                    Integer b = evaluate(binary.right());
+                    if (a == null || b == null) {
+                        yield null;
+                    }
+                    yield switch (binary.opcode()) {
+                        case Opcodes.IADD -> a + b;
+                        case Opcodes.ISUB -> a - b;
+                        case Opcodes.IMUL -> a * b;
+                        case Opcodes.IDIV -> (b == 0) ? null : a / b;
+                        case Opcodes.ISHL -> a << b;
+                        case Opcodes.ISHR -> a >> b;
+                        case Opcodes.IUSHR -> a >>> b;
+                        default -> null;
+                    };
+                }
+                default -> null;
+            };
+        }
+
+        private Range range(Loop loop) {
+            if (!loop.parallel() || loop.step() != 1) {
+                throw new IllegalStateException("Unsupported parallel loop");
+            }
+            Compare condition = loop.conditions().getFirst();
+            Integer lower = evaluate(loop.init());
+            Integer upper = evaluate(condition.right());
+            if (lower == null || upper == null) {
+                throw new IllegalStateException("Bounds that depend on the iteration");
+            }
+            Range range = new Range(loop.index(), lower, (condition.opcode() == Opcodes.IF_ICMPLE) ? upper + 1 : upper);
+            if (range.count() <= 0) {
+                throw new IllegalStateException("Empty iteration space");
+            }
+            return range;
+        }
+
+        private static List<Stmt> assignments(List<Stmt> statements) {
+            for (Stmt statement : statements) {
+                if (!(statement instanceof Assign)) {
+                    throw new IllegalStateException("Code with side effects outside the innermost loop");
+                }
+            }
+            return statements;
+        }
+
+        /**
+         * @return The statements of the tiled kernel, or {@code null} if no array can be tiled.
+         */
+        List<Stmt> tile(List<Stmt> statements) {
+            if (statements.isEmpty() || !(statements.getLast() instanceof Loop outer)) {
+                return null;
+            }
+            analyse(statements);
+            List<Stmt> prologue = assignments(statements.subList(0, statements.size() - 1));
+            Range outerRange = range(outer);
+            List<Stmt> between = List.of();
+            List<Stmt> body = outer.body();
+            Range x = outerRange;
+            Range y = null;
+            if (!body.isEmpty() && body.getLast() instanceof Loop inner && inner.parallel()) {
+                between = assignments(body.subList(0, body.size() - 1));
+                body = inner.body();
+                x = range(inner);
+                y = outerRange;
+            }
+
+            Loop sequential = null;
+            for (Stmt statement : body) {
+                if (statement instanceof Loop loop) {
+                    if (sequential != null || loop.parallel() || loop.step() != 1) {
+                        return null;
+                    }
+                    for (Stmt nested : loop.body()) {
+                        if (!(nested instanceof Assign) && !(nested instanceof Store)) {
+                            return null;
+                        }
+                    }
+                    sequential = loop;
+                } else if (statement instanceof If || statement instanceof Barrier) {
+                    return null;
+                }
+            }
+
+            int sizeX = (y == null) ? TILE_1D : TILE_2D;
+            int sizeY = (y == null) ? 1 : TILE_2D;
+            globalWork = new long[] { roundUp(x.count(), sizeX), (y == null) ? 1 : roundUp(y.count(), sizeY), 1 };
+            localWork = new long[] { sizeX, sizeY, 1 };
+
+            Local localX = newLocal(Type.INT_TYPE);
+            Local localY = (y == null) ? null : newLocal(Type.INT_TYPE);
+            List<Stmt> kernel = new ArrayList<>();
+            for (Map.Entry<Integer, Type> local : localTypes.entrySet()) {
+                kernel.add(new Assign(new Local(local.getKey(), local.getValue()), zero(local.getValue())));
+            }
+            int tilesAt = kernel.size();
+            kernel.add(new Assign(localX, new WorkItem("localIdx")));
+            kernel.add(new Assign(x.index(), add(new Const(x.lower(), Type.INT_TYPE), new WorkItem("globalIdx"))));
+            if (y != null) {
+                kernel.add(new Assign(localY, new WorkItem("localIdy")));
+                kernel.add(new Assign(y.index(), add(new Const(y.lower(), Type.INT_TYPE), new WorkItem("globalIdy"))));
+            }
+            kernel.addAll(prologue);
+
+            List<Compare> active = new ArrayList<>();
+            active.add(new Compare(x.index(), Opcodes.IF_ICMPLT, new Const(x.upper(), Type.INT_TYPE)));
+            if (y != null) {
+                active.add(new Compare(y.index(), Opcodes.IF_ICMPLT, new Const(y.upper(), Type.INT_TYPE)));
+            }
+            List<Stmt> tiles = new ArrayList<>();
+            boolean tiled = (sequential != null) //
+                    ? tileBlocks(kernel, tiles, between, body, sequential, x, y, localX, localY, active) //
+                    : tileHalos(kernel, tiles, between, body, x, y, localX, localY, active);
+            if (!tiled) {
+                return null;
+            }
+            kernel.addAll(tilesAt, tiles);
+            return kernel;
+        }
+
+        private static int roundUp(int value, int multiple) {
+            return (value + multiple - 1) / multiple * multiple;
+        }
+
+        /**
+         * Returns the element type of a load that can be staged in local memory, or {@code null}.
+         */
+        private Type tileElement(Load load) {
+            int sort = load.type().getSort();
+            boolean supported = sort == Type.INT || sort == Type.LONG || sort == Type.FLOAT || sort == Type.DOUBLE;
+            return (supported && !writtenArrays.contains(load.array().slot())) ? load.type() : null;
+        }
+
+        private List<Load> loads(List<Stmt> statements) {
+            List<Load> loads = new ArrayList<>();
+            Set<AbstractInsnNode> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            forEachExpr(statements, expr -> {
+                if (expr instanceof Load load && seen.add(load.access()) && tileElement(load) != null) {
+                    loads.add(load);
+                }
+            });
+            return loads;
+        }
+
+        /**
+         * GEMM-like tasks: the sequential loop runs in blocks of the size of the work-group, and the elements of each
+         * block that the work-items share are loaded into tiles before the iterations of the block.
+         */
+        private boolean tileBlocks(List<Stmt> kernel, List<Stmt> tiles, List<Stmt> between, List<Stmt> body, Loop sequential, Range x, Range y, Local localX, Local localY,
+                List<Compare> active) {
+            Local k = sequential.index();
+            Compare condition = sequential.conditions().getFirst();
+            Expr lower = inline(sequential.init(), 0);
+            Expr upper = inline(condition.right(), 0);
+            if (condition.opcode() == Opcodes.IF_ICMPLE) {
+                upper = add(upper, new Const(1, Type.INT_TYPE));
+            }
+            if (!isInvariant(lower) || !isInvariant(upper)) {
+                return false;
+            }
+            int block = (y == null) ? TILE_1D : TILE_2D;
+
+            Map<List<Object>, BlockTile> blockTiles = new LinkedHashMap<>();
+            int bytes = 0;
+            for (Load load : loads(sequential.body())) {
+                Expr index = inline(load.index(), 0);
+                Set<Integer> free = freeLocals(index);
+                if (!isPure(index) || !isInvariant(index, x.index(), (y == null) ? null : y.index(), k) || !free.contains(k.slot())) {
+                    continue;
+                }
+                boolean usesX = free.contains(x.index().slot());
+                boolean usesY = y != null && free.contains(y.index().slot());
+                Sharing sharing = (usesX && usesY) ? null : usesX ? Sharing.COLUMN : usesY ? Sharing.ROW : Sharing.ALL;
+                if (sharing == null || (y == null && sharing != Sharing.ALL)) {
+                    continue;
+                }
+                List<Object> key = List.of(load.array().slot(), index);
+                BlockTile tile = blockTiles.get(key);
+                if (tile == null) {
+                    int elements = (sharing == Sharing.ALL) ? block : block * block;
+                    int size = elements * load.type().getSize() * 4;
+                    if (bytes + size > MAX_LOCAL_MEMORY) {
+                        continue;
+                    }
+                    bytes += size;
+                    tile = new BlockTile(load.array(), index, sharing, newLocal(Type.getType("[" + load.type().getDescriptor())), new ArrayList<>());
+                    blockTiles.put(key, tile);
+                    tiles.add(new Assign(tile.tile(), new LocalArray(load.type(), elements)));
+                }
+                tile.loads().add(load);
+            }
+            if (blockTiles.isEmpty()) {
+                return false;
+            }
+
+            Local start = newLocal(Type.INT_TYPE);
+            Expr offset = new Binary(Opcodes.ISUB, k, start, Type.INT_TYPE);
+            List<Stmt> loaders = new ArrayList<>();
+            Map<AbstractInsnNode, Expr> reads = new IdentityHashMap<>();
+            for (BlockTile tile : blockTiles.values()) {
+                // Each work-item loads the element of the block at its position in the tile
+                Expr position = (localY == null) ? localX : add(mul(localY, block), localX);
+                Local along = (tile.sharing() == Sharing.COLUMN) ? localY : localX;
+                Expr loadedK = add(start, along);
+                List<Compare> guard = new ArrayList<>();
+                guard.add(new Compare(loadedK, Opcodes.IF_ICMPLT, upper));
+                Expr read;
+                switch (tile.sharing()) {
+                    case ROW -> {
+                        guard.add(new Compare(y.index(), Opcodes.IF_ICMPLT, new Const(y.upper(), Type.INT_TYPE)));
+                        read = add(mul(localY, block), offset);
+                    }
+                    case COLUMN -> {
+                        guard.add(new Compare(x.index(), Opcodes.IF_ICMPLT, new Const(x.upper(), Type.INT_TYPE)));
+                        read = add(mul(offset, block), localX);
+                    }
+                    default -> {
+                        if (localY != null) {
+                            guard.add(new Compare(localY, Opcodes.IF_ICMPEQ, new Const(0, Type.INT_TYPE)));
+                        }
+                        position = localX;
+                        read = offset;
+                    }
+                }
+                Load first = tile.loads().getFirst();
+                Expr loadedIndex = substitute(tile.index(), Map.of(k.slot(), loadedK));
+                loaders.add(new If(guard, List.of(new Store(tile.tile(), position, new Load(tile.array(), loadedIndex, first.type(), first.access()), null))));
+                for (Load load : tile.loads()) {
+                    reads.put(load.access(), new TileRead(tile.tile(), read, load.type()));
+                }
+            }
+
+            int index = indexOf(body, sequential);
+            List<Stmt> before = new ArrayList<>(between);
+            before.addAll(body.subList(0, index));
+            List<Stmt> after = body.subList(index + 1, body.size());
+            List<Compare> blockCondition = List.of(new Compare(k, Opcodes.IF_ICMPLT, add(start, new Const(block, Type.INT_TYPE))), new Compare(k, Opcodes.IF_ICMPLT, upper));
+            List<Stmt> iterations = List.of(new Loop(k, start, blockCondition, 1, replaceLoads(sequential.body(), reads), false));
+
+            List<Stmt> blockBody = new ArrayList<>(loaders);
+            blockBody.add(new Barrier());
+            blockBody.add(new If(active, iterations));
+            blockBody.add(new Barrier());
+            if (!before.isEmpty()) {
+                kernel.add(new If(active, before));
+            }
+            kernel.add(new Loop(start, lower, List.of(new Compare(start, Opcodes.IF_ICMPLT, upper)), block, blockBody, false));
+            if (!after.isEmpty()) {
+                kernel.add(new If(active, new ArrayList<>(after)));
+            }
+            return true;
+        }
+
+        /**
+         * Stencils: the arrays read at several constant offsets of the indices are loaded, with the halo of the
+         * work-group, into tiles before the body.
+         */
+        private boolean tileHalos(List<Stmt> kernel, List<Stmt> tiles, List<Stmt> between, List<Stmt> body, Range x, Range y, Local localX, Local localY, List<Compare> active) {
+            int sizeX = (y == null) ? TILE_1D : TILE_2D;
+            int sizeY = (y == null) ? 1 : TILE_2D;
+            Map<Integer, HaloTile> haloTiles = new LinkedHashMap<>();
+            Map<Integer, Polynomial> strides = new HashMap<>();
+            Map<Integer, Polynomial> references = new HashMap<>();
+            for (Load load : loads(body)) {
+                Expr index = inline(load.index(), 0);
+                if (!isPure(index) || !isInvariant(index, x.index(), (y == null) ? null : y.index())) {
+                    continue;
+                }
+                Polynomial polynomial = Polynomial.of(index);
+                if (polynomial == null) {
+                    continue;
+                }
+                // index = stride * y + x + rest, where neither the stride nor the rest depend on the indices
+                Polynomial rest = polynomial.without(x.index().slot()).without((y == null) ? -1 : y.index().slot());
+                Polynomial stride = (y == null) ? Polynomial.ZERO : polynomial.coefficient(y.index().slot());
+                Polynomial unit = polynomial.coefficient(x.index().slot());
+                if (!unit.equals(Polynomial.constant(1)) || !polynomial.equals(rest.add(unit.multiply(Polynomial.variable(x.index().slot()))).add(
+                        (y == null) ? Polynomial.ZERO : stride.multiply(Polynomial.variable(y.index().slot())))) || stride.uses(x.index().slot()) || (y != null && stride.uses(y
+                                .index().slot()))) {
+                    continue;
+                }
+                int slot = load.array().slot();
+                HaloTile tile = haloTiles.get(slot);
+                if (tile == null) {
+                    tile = new HaloTile(load.array(), index, null, new LinkedHashMap<>(), 0, 0, 0, 0);
+                    haloTiles.put(slot, tile);
+                    strides.put(slot, stride);
+                    references.put(slot, rest);
+                }
+                if (!stride.equals(strides.get(slot))) {
+                    continue;
+                }
+                int[] offset = offset(rest.subtract(references.get(slot)), stride);
+                if (offset != null) {
+                    tile.offsets().put(load, offset);
+                }
+            }
+
+            int bytes = 0;
+            List<HaloTile> selected = new ArrayList<>();
+            for (HaloTile candidate : haloTiles.values()) {
+                Set<List<Integer>> distinct = new HashSet<>();
+                int minX = 0;
+                int maxX = 0;
+                int minY = 0;
+                int maxY = 0;
+                for (int[] offset : candidate.offsets().values()) {
+                    distinct.add(List.of(offset[0], offset[1]));
+                    minX = Math.min(minX, offset[0]);
+                    maxX = Math.max(maxX, offset[0]);
+                    minY = Math.min(minY, offset[1]);
+                    maxY = Math.max(maxY, offset[1]);
+                }
+                if (distinct.size() < 2) {
+                    // No element is read by two work-items
+                    continue;
+                }
+                Type element = candidate.offsets().keySet().iterator().next().type();
+                int elements = (sizeX + maxX - minX) * (sizeY + maxY - minY);
+                int size = elements * element.getSize() * 4;
+                if (bytes + size > MAX_LOCAL_MEMORY) {
+                    continue;
+                }
+                bytes += size;
+                HaloTile tile = new HaloTile(candidate.array(), candidate.index(), newLocal(Type.getType("[" + element.getDescriptor())), candidate.offsets(), minX, maxX, minY, maxY);
+                tiles.add(new Assign(tile.tile(), new LocalArray(element, elements)));
+                selected.add(tile);
+            }
+            if (selected.isEmpty()) {
+                return false;
+            }
+
+            Local cell = newLocal(Type.INT_TYPE);
+            Local flat = newLocal(Type.INT_TYPE);
+            Expr position = (localY == null) ? localX : add(mul(localY, sizeX), localX);
+            Map<AbstractInsnNode, Expr> reads = new IdentityHashMap<>();
+            for (HaloTile tile : selected) {
+                int width = sizeX + tile.maxX() - tile.minX();
+                int height = sizeY + tile.maxY() - tile.minY();
+                // The cell (row, column) holds the element of the first read at (x - localX + column + minX, y - localY + row + minY)
+                Map<Integer, Expr> cellIndices = new HashMap<>();
+                Expr column = (height == 1) ? cell : new Binary(Opcodes.IREM, cell, new Const(width, Type.INT_TYPE), Type.INT_TYPE);
+                cellIndices.put(x.index().slot(), add(add(new Binary(Opcodes.ISUB, x.index(), localX, Type.INT_TYPE), column), new Const(tile.minX(), Type.INT_TYPE)));
+                if (y != null) {
+                    Expr row = new Binary(Opcodes.IDIV, cell, new Const(width, Type.INT_TYPE), Type.INT_TYPE);
+                    cellIndices.put(y.index().slot(), add(add(new Binary(Opcodes.ISUB, y.index(), localY, Type.INT_TYPE), row), new Const(tile.minY(), Type.INT_TYPE)));
+                }
+                Load first = tile.offsets().keySet().iterator().next();
+                List<Compare> inBounds = List.of(new Compare(flat, Opcodes.IF_ICMPGE, new Const(0, Type.INT_TYPE)), new Compare(flat, Opcodes.IF_ICMPLT, new Size(tile.array())));
+                List<Stmt> load = List.of(new Assign(flat, substitute(tile.index(), cellIndices)), new If(inBounds, List.of(new Store(tile.tile(), cell, new Load(tile.array(), flat, first
+                        .type(), first.access()), null))));
+                kernel.add(new Loop(cell, position, List.of(new Compare(cell, Opcodes.IF_ICMPLT, new Const(width * height, Type.INT_TYPE))), sizeX * sizeY, load, false));
+
+                for (Map.Entry<Load, int[]> read : tile.offsets().entrySet()) {
+                    int[] offset = read.getValue();
+                    Expr readColumn = add(localX, new Const(offset[0] - tile.minX(), Type.INT_TYPE));
+                    Expr readIndex = (localY == null) ? readColumn : add(mul(add(localY, new Const(offset[1] - tile.minY(), Type.INT_TYPE)), width), readColumn);
+                    reads.put(read.getKey().access(), new TileRead(tile.tile(), readIndex, read.getKey().type()));
+                }
+            }
+            kernel.add(new Barrier());
+            List<Stmt> guarded = new ArrayList<>(between);
+            guarded.addAll(replaceLoads(body, reads));
+            kernel.add(new If(active, guarded));
+            return true;
+        }
+
+        /**
+         * Splits the difference of the index of a read with the index of the first read into
+         * {@code offsetY * stride + offsetX}.
+         *
+         * @return {@code {offsetX, offsetY}}, or {@code null} if the offsets are not small constants.
+         */
+        private static int[] offset(Polynomial difference, Polynomial stride) {
+            long offsetY;
+            if (stride.isConstant()) {
+                long value = stride.constantValue();
+                if (!difference.isConstant() || (value != 0 && Math.abs(value) <= 2 * MAX_OFFSET)) {
+                    return null;
+                }
+                offsetY = (value == 0) ? 0 : Math.round((double) difference.constantValue() / value);
+            } else {
+                Map.Entry<List<Integer>, Long> term = stride.firstVariableTerm();
+                long coefficient = difference.get(term.getKey());
+                if (coefficient % term.getValue() != 0) {
+                    return null;
+                }
+                offsetY = coefficient / term.getValue();
+            }
+            Polynomial rest = difference.subtract(stride.multiply(Polynomial.constant(offsetY)));
+            if (!rest.isConstant()) {
+                return null;
+            }
+            long offsetX = rest.constantValue();
+            if (Math.abs(offsetX) > MAX_OFFSET || Math.abs(offsetY) > MAX_OFFSET) {
+                return null;
+            }
+            return new int[] { (int) offsetX, (int) offsetY };
+        }
+    }
+
+    /**
+     * Integer polynomial over the local variables of a task, used to find the constant offsets between the indices of
+     * a stencil. The size of an array parameter is the variable {@code -1 - slot}.
+     */
+    private record Polynomial(Map<List<Integer>, Long> terms) {
+
+        static final Polynomial ZERO = new Polynomial(Map.of());
+
+        static Polynomial constant(long value) {
+            return (value == 0) ? ZERO : new Polynomial(Map.of(List.of(), value));
+        }
+
+        static Polynomial variable(int slot) {
+            return new Polynomial(Map.of(List.of(slot), 1L));
+        }
+
+        static Polynomial of(Expr expr) {
+            return switch (expr) {
+                case Const constant when constant.value() instanceof Integer value -> constant(value);
+                case Local local when local.type().equals(Type.INT_TYPE) -> variable(local.slot());
+                case Size size -> variable(-1 - size.array().slot());
+                case Unary unary when unary.opcode() == Opcodes.INEG -> {
+                    Polynomial operand = of(unary.operand());
+                    yield (operand == null) ? null : operand.multiply(constant(-1));
+                }
+                case Binary binary when binary.opcode() == Opcodes.ISHL && binary.right() instanceof Const shift && shift.value() instanceof Integer bits && bits >= 0 && bits < 31 -> {
+                    Polynomial left = of(binary.left());
+                    yield (left == null) ? null : left.multiply(constant(1L << bits));
+                }
+                case Binary binary when binary.opcode() == Opcodes.IADD || binary.opcode() == Opcodes.ISUB || binary.opcode() == Opcodes.IMUL -> {
+                    Polynomial left = of(binary.left());
+                    Polynomial right = of(binary.right());
+                    if (left == null || right == null) {
+                        yield null;
+                    }
+                    yield switch (binary.opcode()) {
+                        case Opcodes.IADD -> left.add(right);
+                        case Opcodes.ISUB -> left.subtract(right);
+                        default -> left.multiply(right);
+                    };
+                }
+                default -> null;
+            };
+        }
+
+        private static Polynomial normalise(Map<List<Integer>, Long> terms) {
+            terms.values().removeIf(value -> value == 0);
+            return terms.isEmpty() ? ZERO : new Polynomial(terms);
+        }
+
+        long get(List<Integer> monomial) {
+            return terms.getOrDefault(monomial, 0L);
+        }
+
+        Polynomial add(Polynomial other) {
+            Map<List<Integer>, Long> sum = new HashMap<>(terms);
+            other.terms.forEach((monomial, value) -> sum.merge(monomial, value, Long::sum));
+            return normalise(sum);
+        }
+
+        Polynomial subtract(Polynomial other) {
+            return add(other.multiply(constant(-1)));
+        }
+
+        Polynomial multiply(Polynomial other) {
+            Map<List<Integer>, Long> product = new HashMap<>();
+            terms.forEach((a, x) -> other.terms.forEach((b, y) -> {
+                List<Integer> monomial = new ArrayList<>(a);
+                monomial.addAll(b);
+                Collections.sort(monomial);
+                product.merge(List.copyOf(monomial), x * y, Long::sum);
+            }));
+            return normalise(product);
+        }
+
+        /**
+         * @return The terms that contain the variable once, divided by the variable.
+         */
+        Polynomial coefficient(int slot) {
+            Map<List<Integer>, Long> coefficient = new HashMap<>();
+            terms.forEach((monomial, value) -> {
+                if (monomial.contains(slot)) {
+                    List<Integer> rest = new ArrayList<>(monomial);
+                    rest.remove(Integer.valueOf(slot));
+                    coefficient.merge(List.copyOf(rest), value, Long::sum);
+                }
+            });
+            return normalise(coefficient);
+        }
+
+        Polynomial without(int slot) {
+            Map<List<Integer>, Long> rest = new HashMap<>(terms);
+            rest.keySet().removeIf(monomial -> monomial.contains(slot));
+            return normalise(rest);
+        }
+
+        boolean uses(int slot) {
+            return terms.keySet().stream().anyMatch(monomial -> monomial.contains(slot));
+        }
+
+        boolean isConstant() {
+            return terms.keySet().stream().allMatch(List::isEmpty);
+        }
+
+        long constantValue() {
+            return get(List.of());
+        }
+
+        Map.Entry<List<Integer>, Long> firstVariableTerm() {
+            return terms.entrySet().stream().filter(term -> !term.getKey().isEmpty()).min(Map.Entry.comparingByKey((a, b) -> a.toString().compareTo(b.toString()))).orElseThrow();
+        }
+    }
+
+    private static Type loadType(int offset) {
+        return switch (offset) {
+            case 0 -> Type.INT_TYPE;
+            case 1 -> Type.LONG_TYPE;
+            case 2 -> Type.FLOAT_TYPE;
+            default -> Type.DOUBLE_TYPE;
+        };
+    }
+
+    private static Type conversionType(int opcode) {
+        return switch (opcode) {
+            case Opcodes.I2L, Opcodes.F2L, Opcodes.D2L -> Type.LONG_TYPE;
+            case Opcodes.I2F, Opcodes.L2F, Opcodes.D2F -> Type.FLOAT_TYPE;
+            case Opcodes.I2D, Opcodes.L2D, Opcodes.F2D -> Type.DOUBLE_TYPE;
+            default -> Type.INT_TYPE;
+        };
+    }
+
+    private static Object constant(AbstractInsnNode insn) {
+        int opcode = insn.getOpcode();
+        if (opcode >= Opcodes.ICONST_M1 && opcode <= Opcodes.ICONST_5) {
+            return opcode - Opcodes.ICONST_0;
+        } else if (opcode == Opcodes.LCONST_0 || opcode == Opcodes.LCONST_1) {
+            return (long) (opcode - Opcodes.LCONST_0);
+        } else if (opcode >= Opcodes.FCONST_0 && opcode <= Opcodes.FCONST_2) {
+            return (float) (opcode - Opcodes.FCONST_0);
+        } else if (opcode == Opcodes.DCONST_0 || opcode == Opcodes.DCONST_1) {
+            return (double) (opcode - Opcodes.DCONST_0);
+        } else if (opcode == Opcodes.BIPUSH || opcode == Opcodes.SIPUSH) {
+            return ((IntInsnNode) insn).operand;
+        } else if (insn instanceof LdcInsnNode ldc && (ldc.cst instanceof Integer || ldc.cst instanceof Long || ldc.cst instanceof Float || ldc.cst instanceof Double)) {
+            return ldc.cst;
+        }
+        return null;
+    }
+
+    private static Type constantType(Object value) {
+        return switch (value) {
+            case Long ignored -> Type.LONG_TYPE;
+            case Float ignored -> Type.FLOAT_TYPE;
+            case Double ignored -> Type.DOUBLE_TYPE;
+            default -> Type.INT_TYPE;
+        };
+    }
+
+    private static Expr zero(Type type) {
+        return switch (type.getSort()) {
+            case Type.LONG -> new Const(0L, type);
+            case Type.FLOAT -> new Const(0.0f, type);
+            case Type.DOUBLE -> new Const(0.0, type);
+            default -> new Const(0, Type.INT_TYPE);
+        };
+    }
+
+    private static Expr add(Expr left, Expr right) {
+        if (right instanceof Const constant && constant.value().equals(0)) {
+            return left;
+        }
+        return new Binary(Opcodes.IADD, left, right, Type.INT_TYPE);
+    }
+
+    private static Expr mul(Expr left, int right) {
+        return new Binary(Opcodes.IMUL, left, new Const(right, Type.INT_TYPE), Type.INT_TYPE);
+    }
+
+    private static int indexOf(List<Stmt> statements, Stmt statement) {
+        for (int i = 0; i < statements.size(); i++) {
+            if (statements.get(i) == statement) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void forEachStatement(List<Stmt> statements, Consumer<Stmt> action) {
+        for (Stmt statement : statements) {
+            action.accept(statement);
+            switch (statement) {
+                case Loop loop -> forEachStatement(loop.body(), action);
+                case If branch -> forEachStatement(branch.body(), action);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static void forEachExpr(Expr expr, Consumer<Expr> action) {
+        action.accept(expr);
+        switch (expr) {
+            case Binary binary -> {
+                forEachExpr(binary.left(), action);
+                forEachExpr(binary.right(), action);
+            }
+            case Unary unary -> forEachExpr(unary.operand(), action);
+            case Load load -> {
+                forEachExpr(load.array(), action);
+                forEachExpr(load.index(), action);
+            }
+            case Call call -> call.arguments().forEach(argument -> forEachExpr(argument, action));
+            case TileRead read -> forEachExpr(read.index(), action);
+            default -> {
+            }
+        }
+    }
+
+    private static void forEachExpr(List<Stmt> statements, Consumer<Expr> action) {
+        forEachStatement(statements, statement -> {
+            switch (statement) {
+                case Assign assign -> forEachExpr(assign.value(), action);
+                case Store store -> {
+                    forEachExpr(store.array(), action);
+                    forEachExpr(store.index(), action);
+                    forEachExpr(store.value(), action);
+                }
+                case Loop loop -> {
+                    forEachExpr(loop.init(), action);
+                    loop.conditions().forEach(condition -> {
+                        forEachExpr(condition.left(), action);
+                        forEachExpr(condition.right(), action);
+                    });
+                }
+                case If branch -> branch.conditions().forEach(condition -> {
+                    forEachExpr(condition.left(), action);
+                    forEachExpr(condition.right(), action);
+                });
+                case Barrier ignored -> {
+                }
+            }
+        });
+    }
+
+    /**
+     * Rebuilds an expression with the sub-expressions for which {@code replacement} returns a value replaced.
+     */
+    private static Expr rewrite(Expr expr, Function<Expr, Expr> replacement) {
+        Expr replaced = replacement.apply(expr);
+        if (replaced != null) {
+            return replaced;
+        }
+        return switch (expr) {
+            case Binary binary -> new Binary(binary.opcode(), rewrite(binary.left(), replacement), rewrite(binary.right(), replacement), binary.type());
+            case Unary unary -> new Unary(unary.opcode(), rewrite(unary.operand(), replacement), unary.type());
+            case Load load -> new Load(load.array(), rewrite(load.index(), replacement), load.type(), load.access());
+            case Call call -> new Call(call.call(), call.arguments().stream().map(argument -> rewrite(argument, replacement)).toList(), call.type());
+            case TileRead read -> new TileRead(read.tile(), rewrite(read.index(), replacement), read.type());
+            default -> expr;
+        };
+    }
+
+    private static Expr substitute(Expr expr, Map<Integer, Expr> values) {
+        return rewrite(expr, e -> (e instanceof Local local && values.containsKey(local.slot())) ? values.get(local.slot()) : null);
+    }
+
+    private static List<Stmt> replaceLoads(List<Stmt> statements, Map<AbstractInsnNode, Expr> reads) {
+        Function<Expr, Expr> replacement = e -> (e instanceof Load load) ? reads.get(load.access()) : null;
+        List<Stmt> replaced = new ArrayList<>();
+        for (Stmt statement : statements) {
+            replaced.add(switch (statement) {
+                case Assign assign -> new Assign(assign.local(), rewrite(assign.value(), replacement));
+                case Store store -> new Store(store.array(), rewrite(store.index(), replacement), rewrite(store.value(), replacement), store.access());
+                case Loop loop -> new Loop(loop.index(), rewrite(loop.init(), replacement), loop.conditions(), loop.step(), replaceLoads(loop.body(), reads), loop.parallel());
+                case If branch -> new If(branch.conditions(), replaceLoads(branch.body(), reads));
+                case Barrier barrier -> barrier;
+            });
+        }
+        return replaced;
+    }
+
+    // Code generation. The kernel context is the first parameter, so every local variable of the task moves one slot.
+
+    private static void emit(List<Stmt> statements, InsnList insns) {
+        for (Stmt statement : statements) {
+            switch (statement) {
+                case Assign assign -> {
+                    emit(assign.value(), insns);
+                    insns.add(new VarInsnNode(assign.local().type().getOpcode(Opcodes.ISTORE), assign.local().slot() + 1));
+                }
+                case Store store -> {
+                    emit(store.array(), insns);
+                    emit(store.index(), insns);
+                    emit(store.value(), insns);
+                    insns.add((store.access() != null) ? store.access().clone(Map.of()) : new InsnNode(store.value().type().getOpcode(Opcodes.IASTORE)));
+                }
+                case Loop loop -> {
+                    LabelNode head = new LabelNode();
+                    LabelNode exit = new LabelNode();
+                    emit(loop.init(), insns);
+                    insns.add(new VarInsnNode(Opcodes.ISTORE, loop.index().slot() + 1));
+                    insns.add(head);
+                    emit(loop.conditions(), exit, insns);
+                    emit(loop.body(), insns);
+                    insns.add(new IincInsnNode(loop.index().slot() + 1, loop.step()));
+                    insns.add(new JumpInsnNode(Opcodes.GOTO, head));
+                    insns.add(exit);
+                }
+                case If branch -> {
+                    LabelNode end = new LabelNode();
+                    emit(branch.conditions(), end, insns);
+                    emit(branch.body(), insns);
+                    insns.add(end);
+                }
+                case Barrier ignored -> {
+                    insns.add(new VarInsnNode(Opcodes.ALOAD, 0));
+                    insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, KERNEL_CONTEXT, "localBarrier", "()V", false));
+                }
+            }
+        }
+    }
+
+    /**
+     * Jumps to {@code otherwise} if one of the comparisons does not hold.
+     */
+    private static void emit(List<Compare> conditions, LabelNode otherwise, InsnList insns) {
+        for (Compare condition : conditions) {
+            emit(condition.left(), insns);
+            emit(condition.right(), insns);
+            int negated = switch (condition.opcode()) {
+                case Opcodes.IF_ICMPLT -> Opcodes.IF_ICMPGE;
+                case Opcodes.IF_ICMPLE -> Opcodes.IF_ICMPGT;
+                case Opcodes.IF_ICMPGE -> Opcodes.IF_ICMPLT;
+                case Opcodes.IF_ICMPGT -> Opcodes.IF_ICMPLE;
+                case Opcodes.IF_ICMPEQ -> Opcodes.IF_ICMPNE;
+                default -> Opcodes.IF_ICMPEQ;
+            };
+            insns.add(new JumpInsnNode(negated, otherwise));
+        }
+    }
+
+    private static void emit(Expr expr, InsnList insns) {
+        switch (expr) {
+            case Const constant -> insns.add(constantInstruction(constant.value()));
+            case Local local -> insns.add(new VarInsnNode(local.type().getOpcode(Opcodes.ILOAD), local.slot() + 1));
+            case Binary binary -> {
+                emit(binary.left(), insns);
+                emit(binary.right(), insns);
+                insns.add(new InsnNode(binary.opcode()));
+            }
+            case Unary unary -> {
+                emit(unary.operand(), insns);
+                insns.add(new InsnNode(unary.opcode()));
+            }
+            case Load load -> {
+                emit(load.array(), insns);
+                emit(load.index(), insns);
+                insns.add(load.access().clone(Map.of()));
+            }
+            case Size size -> {
+                emit(size.array(), insns);
+                Type type = size.array().type();
+                insns.add((type.getSort() == Type.ARRAY) ? new InsnNode(Opcodes.ARRAYLENGTH) : new MethodInsnNode(Opcodes.INVOKEVIRTUAL, type.getInternalName(), "getSize", "()I", false));
+            }
+            case Call call -> {
+                call.arguments().forEach(argument -> emit(argument, insns));
+                insns.add(call.call().clone(Map.of()));
+            }
+            case Static field -> insns.add(field.field().clone(Map.of()));
+            case WorkItem workItem -> {
+                insns.add(new VarInsnNode(Opcodes.ALOAD, 0));
+                insns.add(new FieldInsnNode(Opcodes.GETFIELD, KERNEL_CONTEXT, workItem.field(), "Ljava/lang/Integer;"));
+                insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I", false));
+            }
+            case LocalArray array -> {
+                String kind = switch (array.element().getSort()) {
+                    case Type.INT -> "Int";
+                    case Type.LONG -> "Long";
+                    case Type.DOUBLE -> "Double";
+                    default -> "Float";
+                };
+                insns.add(new VarInsnNode(Opcodes.ALOAD, 0));
+                insns.add(constantInstruction(array.size()));
+                insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, KERNEL_CONTEXT, "allocate" + kind + "LocalArray", "(I)" + array.type().getDescriptor(), false));
+            }
+            case TileRead read -> {
+                emit(read.tile(), insns);
+                emit(read.index(), insns);
+                insns.add(new InsnNode(read.type().getOpcode(Opcodes.IALOAD)));
+            }
+        }
+    }
+
+    private static AbstractInsnNode constantInstruction(Object value) {
+        return switch (value) {
+            case Integer i when i >= -1 && i <= 5 -> new InsnNode(Opcodes.ICONST_0 + i);
+            case Integer i when i >= Byte.MIN_VALUE && i <= Byte.MAX_VALUE -> new IntInsnNode(Opcodes.BIPUSH, i);
+            case Integer i when i >= Short.MIN_VALUE && i <= Short.MAX_VALUE -> new IntInsnNode(Opcodes.SIPUSH, i);
+            case Long l when l == 0L || l == 1L -> new InsnNode(Opcodes.LCONST_0 + l.intValue());
+            case Float f when Float.floatToIntBits(f) == Float.floatToIntBits(0.0f) || f == 1.0f || f == 2.0f -> new InsnNode(Opcodes.FCONST_0 + f.intValue());
+            case Double d when Double.doubleToLongBits(d) == Double.doubleToLongBits(0.0) || d == 1.0 -> new InsnNode(Opcodes.DCONST_0 + d.intValue());
+            default -> new LdcInsnNode(value);
+        };
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import static uk.ac.manchester.tornado.annotation.ASMKernelFusionGenerator.TASK_INTERFACE;
+import static uk.ac.manchester.tornado.annotation.ASMKernelFusionGenerator.applyMethod;
+import static uk.ac.manchester.tornado.annotation.ASMKernelFusionGenerator.constructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.runtime.analyzer.ReductionKernelGenerator;
+import uk.ac.manchester.tornado.runtime.analyzer.ReductionKernels;
+
+/**
+ * Writes the kernels of a reduction with a user-defined combiner. For a combiner {@code C} with the methods
+ * {@code map(FloatArray input, int element, FloatArray value, IntArray index, int slot)} and
+ * {@code combine(FloatArray value, IntArray index, int into, int from)}, the kernels are:
+ *
+ * <pre>
+ * public static void mapReduction(KernelContext context, int size, FloatArray input, FloatArray value, IntArray index) {
+ *     int id = context.globalIdx;
+ *     int localIdx = context.localIdx;
+ *     int localGroupSize = context.localGroupSizeX;
+ *     if (id &lt; size) {
+ *         C.map(input, id, value, index, id);
+ *     }
+ *     for (int stride = 1; stride &lt; localGroupSize; stride *= 2) {
+ *         context.globalBarrier();
+ *         if (localIdx % (2 * stride) == 0 &amp;&amp; id + stride &lt; size) {
+ *             C.combine(value, index, id, id + stride);
+ *         }
+ *     }
+ * }
+ *
+ * public static void combineReduction(KernelContext context, int size, int width, FloatArray value, IntArray index, FloatArray resultValue,
+ *         IntArray resultIndex) {
+ *     int localIdx = context.localIdx;
+ *     int localGroupSize = context.localGroupSizeX;
+ *     int numGroups = (size + localGroupSize - 1) / localGroupSize;
+ *     int chunk = (numGroups + localGroupSize - 1) / localGroupSize;
+ *     int first = localIdx * chunk;
+ *     int last = first + chunk;
+ *     if (last &gt; numGroups) {
+ *         last = numGroups;
+ *     }
+ *     for (int group = first + 1; group &lt; last; group++) {
+ *         C.combine(value, index, first * localGroupSize, group * localGroupSize);
+ *     }
+ *     int count = (numGroups + chunk - 1) / chunk;
+ *     for (int stride = 1; stride &lt; localGroupSize; stride *= 2) {
+ *         context.globalBarrier();
+ *         if (localIdx % (2 * stride) == 0 &amp;&amp; localIdx + stride &lt; count) {
+ *             C.combine(value, index, first * localGroupSize, (localIdx + stride) * chunk * localGroupSize);
+ *         }
+ *     }
+ *     if (localIdx == 0) {
+ *         for (int i = 0; i &lt; width; i++) {
+ *             resultValue.set(i, value.get(i));
+ *             resultIndex.set(i, index.get(i));
+ *         }
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * Each step of the trees merges a slot with the next slot of the previous step, so the slots are always merged in the
+ * order of the elements and the combiner does not need to be commutative. The work-groups must have a power of two
+ * number of threads, and the second kernel runs in a single work-group.
+ * </p>
+ */
+public class ASMReductionKernelGenerator implements ReductionKernelGenerator {
+
+    private static final String CONTEXT = Type.getInternalName(KernelContext.class);
+    private static final String MAP_SUFFIX = "$TornadoReductionMap";
+    private static final String COMBINE_SUFFIX = "$TornadoReductionCombine";
+    private static final AtomicInteger KERNEL_ID = new AtomicInteger();
+
+    /**
+     * Instantiated by name by the runtime for the reductions with a user-defined combiner, as set with {@code tornado.load.reduction.generator}.
+     */
+    public ASMReductionKernelGenerator() {
+    }
+
+    @Override
+    public ReductionKernels generate(Method map, Method combine) {
+        Class<?> host = map.getDeclaringClass();
+        List<Class<?>> states = Arrays.asList(combine.getParameterTypes()).subList(0, combine.getParameterCount() - 2);
+        List<Class<?>> inputs = Arrays.asList(map.getParameterTypes()).subList(0, map.getParameterCount() - states.size() - 2);
+
+        int id = KERNEL_ID.incrementAndGet();
+        String hostName = Type.getInternalName(host);
+        String mapName = hostName + MAP_SUFFIX + id;
+        String combineName = hostName + COMBINE_SUFFIX + id;
+
+        List<Type> mapParameters = new ArrayList<>();
+        mapParameters.add(Type.getType(KernelContext.class));
+        mapParameters.add(Type.INT_TYPE);
+        inputs.forEach(input -> mapParameters.add(Type.getType(input)));
+        states.forEach(state -> mapParameters.add(Type.getType(state)));
+        MethodNode mapKernel = mapKernel(map, combine, mapParameters, inputs.size());
+
+        List<Type> combineParameters = new ArrayList<>();
+        combineParameters.add(Type.getType(KernelContext.class));
+        combineParameters.add(Type.INT_TYPE);
+        combineParameters.add(Type.INT_TYPE);
+        states.forEach(state -> combineParameters.add(Type.getType(state)));
+        states.forEach(state -> combineParameters.add(Type.getType(state)));
+        MethodNode combineKernel = combineKernel(combine, combineParameters, states);
+
+        byte[] mapClass = writeClass(host, mapName, mapKernel, mapParameters);
+        byte[] combineClass = writeClass(host, combineName, combineKernel, combineParameters);
+        GeneratedClassFiles.register(mapName, mapClass);
+        GeneratedClassFiles.register(combineName, combineClass);
+        return new ReductionKernels(mapName.replace('/', '.'), mapClass, combineName.replace('/', '.'), combineClass);
+    }
+
+    private static MethodNode mapKernel(Method map, Method combine, List<Type> parameters, int numInputs) {
+        MethodNode kernel = newKernel("mapReduction", parameters);
+        InsnList insns = kernel.instructions;
+        int next = slotsOf(parameters);
+        int id = next++;
+        int localIdx = next++;
+        int localGroupSize = next++;
+        int stride = next++;
+        List<Type> inputs = parameters.subList(2, 2 + numInputs);
+        List<Type> states = parameters.subList(2 + numInputs, parameters.size());
+        int inputSlot = slotsOf(parameters.subList(0, 2));
+        int stateSlot = inputSlot + slotsOf(inputs);
+
+        loadContextField(insns, "globalIdx", id);
+        loadContextField(insns, "localIdx", localIdx);
+        loadContextField(insns, "localGroupSizeX", localGroupSize);
+
+        // if (id < size) map(inputs, id, states, id)
+        LabelNode afterMap = new LabelNode();
+        insns.add(new VarInsnNode(Opcodes.ILOAD, id));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, afterMap));
+        load(insns, inputs, inputSlot);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, id));
+        load(insns, states, stateSlot);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, id));
+        insns.add(invoke(map));
+        insns.add(afterMap);
+
+        // for (stride = 1; stride < localGroupSize; stride *= 2)
+        LabelNode condition = new LabelNode();
+        LabelNode update = new LabelNode();
+        LabelNode end = new LabelNode();
+        insns.add(new InsnNode(Opcodes.ICONST_1));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, stride));
+        insns.add(condition);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localGroupSize));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, end));
+        globalBarrier(insns);
+        skipUnlessFirstOfPair(insns, localIdx, stride, update);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, id));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, 1));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, update));
+        load(insns, states, stateSlot);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, id));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, id));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(invoke(combine));
+        insns.add(update);
+        doubleStride(insns, stride);
+        insns.add(new JumpInsnNode(Opcodes.GOTO, condition));
+        insns.add(end);
+        insns.add(new InsnNode(Opcodes.RETURN));
+        return kernel;
+    }
+
+    private static MethodNode combineKernel(Method combine, List<Type> parameters, List<Class<?>> stateClasses) {
+        MethodNode kernel = newKernel("combineReduction", parameters);
+        InsnList insns = kernel.instructions;
+        int next = slotsOf(parameters);
+        int localIdx = next++;
+        int localGroupSize = next++;
+        int numGroups = next++;
+        int chunk = next++;
+        int first = next++;
+        int last = next++;
+        int group = next++;
+        int count = next++;
+        int stride = next++;
+        int element = next++;
+        List<Type> states = parameters.subList(3, 3 + stateClasses.size());
+        int stateSlot = slotsOf(parameters.subList(0, 3));
+        int resultSlot = stateSlot + slotsOf(states);
+
+        loadContextField(insns, "localIdx", localIdx);
+        loadContextField(insns, "localGroupSizeX", localGroupSize);
+
+        // numGroups = (size + localGroupSize - 1) / localGroupSize; chunk = (numGroups + localGroupSize - 1) / localGroupSize
+        divideRoundingUp(insns, 1, localGroupSize, numGroups);
+        divideRoundingUp(insns, numGroups, localGroupSize, chunk);
+
+        // first = localIdx * chunk; last = min(first + chunk, numGroups)
+        LabelNode afterClamp = new LabelNode();
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localIdx));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, chunk));
+        insns.add(new InsnNode(Opcodes.IMUL));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, first));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, first));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, chunk));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, last));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, last));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, numGroups));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPLE, afterClamp));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, numGroups));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, last));
+        insns.add(afterClamp);
+
+        // for (group = first + 1; group < last; group++) combine(states, first * localGroupSize, group * localGroupSize)
+        LabelNode groupCondition = new LabelNode();
+        LabelNode groupEnd = new LabelNode();
+        insns.add(new VarInsnNode(Opcodes.ILOAD, first));
+        insns.add(new InsnNode(Opcodes.ICONST_1));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, group));
+        insns.add(groupCondition);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, group));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, last));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, groupEnd));
+        load(insns, states, stateSlot);
+        multiply(insns, first, localGroupSize);
+        multiply(insns, group, localGroupSize);
+        insns.add(invoke(combine));
+        insns.add(new IincInsnNode(group, 1));
+        insns.add(new JumpInsnNode(Opcodes.GOTO, groupCondition));
+        insns.add(groupEnd);
+
+        // count = (numGroups + chunk - 1) / chunk
+        divideRoundingUp(insns, numGroups, chunk, count);
+
+        // for (stride = 1; stride < localGroupSize; stride *= 2)
+        LabelNode condition = new LabelNode();
+        LabelNode update = new LabelNode();
+        LabelNode end = new LabelNode();
+        insns.add(new InsnNode(Opcodes.ICONST_1));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, stride));
+        insns.add(condition);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localGroupSize));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, end));
+        globalBarrier(insns);
+        skipUnlessFirstOfPair(insns, localIdx, stride, update);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localIdx));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, count));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, update));
+        load(insns, states, stateSlot);
+        multiply(insns, first, localGroupSize);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localIdx));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, chunk));
+        insns.add(new InsnNode(Opcodes.IMUL));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localGroupSize));
+        insns.add(new InsnNode(Opcodes.IMUL));
+        insns.add(invoke(combine));
+        insns.add(update);
+        doubleStride(insns, stride);
+        insns.add(new JumpInsnNode(Opcodes.GOTO, condition));
+        insns.add(end);
+
+        // if (localIdx == 0) for (element = 0; element < width; element++) result.set(element, state.get(element))
+        LabelNode done = new LabelNode();
+        LabelNode copyCondition = new LabelNode();
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localIdx));
+        insns.add(new JumpInsnNode(Opcodes.IFNE, done));
+        insns.add(new InsnNode(Opcodes.ICONST_0));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, element));
+        insns.add(copyCondition);
+        insns.add(new VarInsnNode(Opcodes.ILOAD, element));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, 2));
+        insns.add(new JumpInsnNode(Opcodes.IF_ICMPGE, done));
+        for (int i = 0; i < stateClasses.size(); i++) {
+            Class<?> stateClass = stateClasses.get(i);
+            Method get = arrayMethod(stateClass, "get", int.class);
+            Method set = arrayMethod(stateClass, "set", int.class, get.getReturnType());
+            String owner = Type.getInternalName(stateClass);
+            insns.add(new VarInsnNode(Opcodes.ALOAD, resultSlot + i));
+            insns.add(new VarInsnNode(Opcodes.ILOAD, element));
+            insns.add(new VarInsnNode(Opcodes.ALOAD, stateSlot + i));
+            insns.add(new VarInsnNode(Opcodes.ILOAD, element));
+            insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, owner, get.getName(), Type.getMethodDescriptor(get), false));
+            insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, owner, set.getName(), Type.getMethodDescriptor(set), false));
+        }
+        insns.add(new IincInsnNode(element, 1));
+        insns.add(new JumpInsnNode(Opcodes.GOTO, copyCondition));
+        insns.add(done);
+        insns.add(new InsnNode(Opcodes.RETURN));
+        return kernel;
+    }
+
+    private static MethodNode newKernel(String name, List<Type> parameters) {
+        String descriptor = Type.getMethodDescriptor(Type.VOID_TYPE, parameters.toArray(Type[]::new));
+        return new MethodNode(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, name, descriptor, null, null);
+    }
+
+    private static Method arrayMethod(Class<?> arrayClass, String name, Class<?>... parameterTypes) {
+        try {
+            return arrayClass.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(arrayClass.getName() + " has no method " + name, e);
+        }
+    }
+
+    private static int slotsOf(List<Type> types) {
+        int slots = 0;
+        for (Type type : types) {
+            slots += type.getSize();
+        }
+        return slots;
+    }
+
+    private static void load(InsnList insns, List<Type> types, int firstSlot) {
+        int slot = firstSlot;
+        for (Type type : types) {
+            insns.add(new VarInsnNode(type.getOpcode(Opcodes.ILOAD), slot));
+            slot += type.getSize();
+        }
+    }
+
+    private static MethodInsnNode invoke(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        return new MethodInsnNode(Opcodes.INVOKESTATIC, Type.getInternalName(owner), method.getName(), Type.getMethodDescriptor(method), owner.isInterface());
+    }
+
+    /**
+     * Stores {@code context.field}, which is an {@code Integer} field of the {@link KernelContext}, in a local variable.
+     */
+    private static void loadContextField(InsnList insns, String field, int slot) {
+        insns.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        insns.add(new FieldInsnNode(Opcodes.GETFIELD, CONTEXT, field, "Ljava/lang/Integer;"));
+        insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, "java/lang/Integer", "intValue", "()I", false));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, slot));
+    }
+
+    private static void globalBarrier(InsnList insns) {
+        insns.add(new VarInsnNode(Opcodes.ALOAD, 0));
+        insns.add(new MethodInsnNode(Opcodes.INVOKEVIRTUAL, CONTEXT, "globalBarrier", "()V", false));
+    }
+
+    /**
+     * Jumps to {@code skip} unless {@code localIdx % (2 * stride) == 0}, so each slot is merged with the next one of the
+     * previous step of the tree.
+     */
+    private static void skipUnlessFirstOfPair(InsnList insns, int localIdx, int stride, LabelNode skip) {
+        insns.add(new VarInsnNode(Opcodes.ILOAD, localIdx));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new InsnNode(Opcodes.ICONST_1));
+        insns.add(new InsnNode(Opcodes.ISHL));
+        insns.add(new InsnNode(Opcodes.IREM));
+        insns.add(new JumpInsnNode(Opcodes.IFNE, skip));
+    }
+
+    private static void doubleStride(InsnList insns, int stride) {
+        insns.add(new VarInsnNode(Opcodes.ILOAD, stride));
+        insns.add(new InsnNode(Opcodes.ICONST_1));
+        insns.add(new InsnNode(Opcodes.ISHL));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, stride));
+    }
+
+    private static void multiply(InsnList insns, int left, int right) {
+        insns.add(new VarInsnNode(Opcodes.ILOAD, left));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, right));
+        insns.add(new InsnNode(Opcodes.IMUL));
+    }
+
+    private static void divideRoundingUp(InsnList insns, int dividend, int divisor, int into) {
+        insns.add(new VarInsnNode(Opcodes.ILOAD, dividend));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, divisor));
+        insns.add(new InsnNode(Opcodes.IADD));
+        insns.add(new InsnNode(Opcodes.ICONST_1));
+        insns.add(new InsnNode(Opcodes.ISUB));
+        insns.add(new VarInsnNode(Opcodes.ILOAD, divisor));
+        insns.add(new InsnNode(Opcodes.IDIV));
+        insns.add(new VarInsnNode(Opcodes.ISTORE, into));
+    }
+
+    private static byte[] writeClass(Class<?> host, String name, MethodNode kernel, List<Type> parameterTypes) {
+        ClassNode classNode = new ClassNode();
+        classNode.version = Opcodes.V21;
+        classNode.access = Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC;
+        classNode.name = name;
+        classNode.superName = "java/lang/Object";
+        classNode.interfaces.add(TASK_INTERFACE + parameterTypes.size());
+        classNode.methods.add(constructor());
+        classNode.methods.add(applyMethod(name, kernel, parameterTypes));
+        classNode.methods.add(kernel);
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected ClassLoader getClassLoader() {
+                return host.getClassLoader();
+            }
+        };
+        classNode.accept(writer);
+        return writer.toByteArray();
+    }
+}
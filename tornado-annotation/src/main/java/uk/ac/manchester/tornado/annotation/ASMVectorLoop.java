@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LocalVariableNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.runtime.jvm.JVMVectorOps;
+
+/**
+ * Builds the vector loop that the {@link ASMJVMKernelGenerator} places in front of a split {@code @Parallel} loop:
+ *
+ * <pre>
+ * vhi = JVMVectorOps.vectorBound(i, hi);
+ * while (i &lt; vhi) { &lt;body on vectors&gt;; i += JVMVectorOps.lanes(); }
+ * </pre>
+ *
+ * <p>
+ * The body of the loop is translated one bytecode at a time, replacing each scalar operation with the
+ * {@link JVMVectorOps} operation on {@code lanes()} consecutive iterations. The body is vectorised only if it is
+ * straight-line code in which:
+ * </p>
+ * <ul>
+ * <li>{@code FloatArray} and {@code IntArray} are read and written at the loop index, and the loop index is not used
+ * in any other way;</li>
+ * <li>the values are {@code float} or {@code int}, combined with arithmetic, {@code min}, {@code max}, {@code abs},
+ * {@code sqrt} and {@code fma} from {@link Math} and {@link TornadoMath};</li>
+ * <li>the local variables written in the body are not read before they are written, nor after the loop.</li>
+ * </ul>
+ * Loop invariants (parameters, constants and static fields) are broadcast to every lane. The iterations that do not
+ * fill a vector run in the original loop.
+ */
+final class ASMVectorLoop {
+
+    private static final String VECTOR_OPS = Type.getInternalName(JVMVectorOps.class);
+    private static final String FLOAT_ARRAY = Type.getInternalName(FloatArray.class);
+    private static final String INT_ARRAY = Type.getInternalName(IntArray.class);
+    private static final String MATH = "java/lang/Math";
+    private static final String TORNADO_MATH = Type.getInternalName(TornadoMath.class);
+    private static final String FLOAT_VECTOR = "Ljdk/incubator/vector/FloatVector;";
+    private static final String INT_VECTOR = "Ljdk/incubator/vector/IntVector;";
+
+    /**
+     * Kind of a value of the operand stack of the vector body.
+     */
+    private enum Kind {
+        REFERENCE, INDEX, FLOAT, INT,
+        /**
+         * A {@code float} vector widened with {@code F2D}. Only {@code Math.sqrt} and {@code D2F} accept it.
+         */
+        WIDENED_FLOAT,
+        /**
+         * The square root of a {@link #WIDENED_FLOAT}. Only {@code D2F} accepts it.
+         */
+        WIDENED_SQRT;
+
+        String vectorDescriptor() {
+            return (this == INT) ? INT_VECTOR : FLOAT_VECTOR;
+        }
+    }
+
+    private final MethodNode kernel;
+    private final int loopVariable;
+    private final Set<Integer> written = new HashSet<>();
+    private final Map<Integer, Integer> vectorLocals = new HashMap<>();
+    private final Map<Integer, Kind> vectorKinds = new HashMap<>();
+    private final Deque<Kind> stack = new ArrayDeque<>();
+    private final InsnList body = new InsnList();
+
+    private ASMVectorLoop(MethodNode kernel, int loopVariable) {
+        this.kernel = kernel;
+        this.loopVariable = loopVariable;
+    }
+
+    /**
+     * Builds the vector loop of a parallel loop with step 1.
+     *
+     * @param kernel
+     *     Method of the loop. The local variables of the vector loop are allocated in the method.
+     * @param loopVariable
+     *     Slot of the loop variable.
+     * @param upperBound
+     *     Slot of the upper bound of the calling worker.
+     * @param exit
+     *     Conditional jump that exits the loop. The body starts after it.
+     * @param increment
+     *     Increment of the loop variable that ends the body.
+     * @return The vector loop, or {@code null} if the body cannot be vectorised.
+     */
+    static InsnList build(MethodNode kernel, int loopVariable, int upperBound, JumpInsnNode exit, IincInsnNode increment) {
+        List<AbstractInsnNode> instructions = new ArrayList<>();
+        for (AbstractInsnNode insn = exit.getNext(); insn != increment; insn = insn.getNext()) {
+            if (insn == null) {
+                return null;
+            }
+            if (insn.getOpcode() >= 0) {
+                instructions.add(insn);
+            }
+        }
+
+        ASMVectorLoop vectorLoop = new ASMVectorLoop(kernel, loopVariable);
+        for (AbstractInsnNode insn : instructions) {
+            if ((insn instanceof VarInsnNode var && var.getOpcode() >= Opcodes.ISTORE) || insn instanceof IincInsnNode) {
+                vectorLoop.written.add((insn instanceof VarInsnNode var) ? var.var : ((IincInsnNode) insn).var);
+            }
+        }
+        for (AbstractInsnNode insn : instructions) {
+            if (!vectorLoop.translate(insn)) {
+                return null;
+            }
+        }
+        if (!vectorLoop.stack.isEmpty()) {
+            return null;
+        }
+        for (int local : vectorLoop.vectorLocals.keySet()) {
+            if (isReadOutside(kernel, local, exit, increment)) {
+                return null;
+            }
+        }
+        return vectorLoop.wrap(upperBound);
+    }
+
+    /**
+     * Checks whether a local variable written in the body is read outside the body by the same variable of the source,
+     * for instance after the loop.
+     */
+    private static boolean isReadOutside(MethodNode kernel, int local, AbstractInsnNode first, AbstractInsnNode last) {
+        InsnList insns = kernel.instructions;
+        int from = insns.indexOf(first);
+        int to = insns.indexOf(last);
+        for (AbstractInsnNode insn : insns) {
+            int index = insns.indexOf(insn);
+            boolean reads = (insn instanceof VarInsnNode var && var.var == local && var.getOpcode() <= Opcodes.ALOAD) || (insn instanceof IincInsnNode iinc && iinc.var == local);
+            if (reads && (index < from || index > to) && !isOtherVariable(kernel, local, index, from, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A read is of another variable that shares the slot if the scope of the variable read does not contain the body.
+     * Without a local variable table, every read is assumed to be of the same variable.
+     */
+    private static boolean isOtherVariable(MethodNode kernel, int local, int index, int from, int to) {
+        if (kernel.localVariables == null) {
+            return false;
+        }
+        InsnList insns = kernel.instructions;
+        for (LocalVariableNode variable : kernel.localVariables) {
+            int start = insns.indexOf(variable.start);
+            int end = insns.indexOf(variable.end);
+            if (variable.index == local && start <= index && index < end) {
+                return !(start <= from && to <= end);
+            }
+        }
+        return false;
+    }
+
+    private InsnList wrap(int upperBound) {
+        int vectorBound = kernel.maxLocals++;
+        LabelNode head = new LabelNode();
+        LabelNode exit = new LabelNode();
+        InsnList loop = new InsnList();
+        loop.add(new VarInsnNode(Opcodes.ILOAD, loopVariable));
+        loop.add(new VarInsnNode(Opcodes.ILOAD, upperBound));
+        loop.add(new MethodInsnNode(Opcodes.INVOKESTATIC, VECTOR_OPS, "vectorBound", "(II)I", false));
+        loop.add(new VarInsnNode(Opcodes.ISTORE, vectorBound));
+        loop.add(head);
+        loop.add(new VarInsnNode(Opcodes.ILOAD, loopVariable));
+        loop.add(new VarInsnNode(Opcodes.ILOAD, vectorBound));
+        loop.add(new JumpInsnNode(Opcodes.IF_ICMPGE, exit));
+        loop.add(body);
+        loop.add(new VarInsnNode(Opcodes.ILOAD, loopVariable));
+        loop.add(new MethodInsnNode(Opcodes.INVOKESTATIC, VECTOR_OPS, "lanes", "()I", false));
+        loop.add(new InsnNode(Opcodes.IADD));
+        loop.add(new VarInsnNode(Opcodes.ISTORE, loopVariable));
+        loop.add(new JumpInsnNode(Opcodes.GOTO, head));
+        loop.add(exit);
+        return loop;
+    }
+
+    private boolean pop(Kind kind) {
+        return !stack.isEmpty() && stack.pop() == kind;
+    }
+
+    private boolean pop(Kind kind, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!pop(kind)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void callVectorOps(String name, String descriptor) {
+        body.add(new MethodInsnNode(Opcodes.INVOKESTATIC, VECTOR_OPS, name, descriptor, false));
+    }
+
+    /**
+     * Emits the operation {@code name} of {@link JVMVectorOps} on the {@code arity} vectors on top of the stack.
+     */
+    private boolean lanewise(String name, Kind kind, int arity) {
+        if (!pop(kind, arity)) {
+            return false;
+        }
+        String vector = kind.vectorDescriptor();
+        callVectorOps(name, "(" + vector.repeat(arity) + ")" + vector);
+        stack.push(kind);
+        return true;
+    }
+
+    private boolean broadcast(AbstractInsnNode insn, Kind kind) {
+        body.add(insn);
+        callVectorOps("broadcast", (kind == Kind.INT ? "(I)" : "(F)") + kind.vectorDescriptor());
+        stack.push(kind);
+        return true;
+    }
+
+    private boolean load(int local, Kind kind) {
+        if (local == loopVariable) {
+            if (kind != Kind.INT) {
+                return false;
+            }
+            body.add(new VarInsnNode(Opcodes.ILOAD, local));
+            stack.push(Kind.INDEX);
+            return true;
+        } else if (vectorLocals.containsKey(local)) {
+            if (vectorKinds.get(local) != kind) {
+                return false;
+            }
+            body.add(new VarInsnNode(Opcodes.ALOAD, vectorLocals.get(local)));
+            stack.push(kind);
+            return true;
+        } else if (written.contains(local)) {
+            // Read before it is written: the value comes from the previous iteration
+            return false;
+        }
+        return broadcast(new VarInsnNode(kind == Kind.INT ? Opcodes.ILOAD : Opcodes.FLOAD, local), kind);
+    }
+
+    private boolean store(int local, Kind kind) {
+        if (!pop(kind) || (vectorKinds.containsKey(local) && vectorKinds.get(local) != kind)) {
+            return false;
+        }
+        int vectorLocal = vectorLocals.computeIfAbsent(local, slot -> kernel.maxLocals++);
+        vectorKinds.put(local, kind);
+        body.add(new VarInsnNode(Opcodes.ASTORE, vectorLocal));
+        return true;
+    }
+
+    private boolean translate(AbstractInsnNode insn) {
+        int opcode = insn.getOpcode();
+        switch (opcode) {
+            case Opcodes.ALOAD:
+                int reference = ((VarInsnNode) insn).var;
+                if (written.contains(reference)) {
+                    return false;
+                }
+                body.add(new VarInsnNode(Opcodes.ALOAD, reference));
+                stack.push(Kind.REFERENCE);
+                return true;
+            case Opcodes.ILOAD:
+                return load(((VarInsnNode) insn).var, Kind.INT);
+            case Opcodes.FLOAD:
+                return load(((VarInsnNode) insn).var, Kind.FLOAT);
+            case Opcodes.ISTORE:
+                return store(((VarInsnNode) insn).var, Kind.INT);
+            case Opcodes.FSTORE:
+                return store(((VarInsnNode) insn).var, Kind.FLOAT);
+            case Opcodes.ICONST_M1, Opcodes.ICONST_0, Opcodes.ICONST_1, Opcodes.ICONST_2, Opcodes.ICONST_3, Opcodes.ICONST_4, Opcodes.ICONST_5:
+                return broadcast(new InsnNode(opcode), Kind.INT);
+            case Opcodes.BIPUSH, Opcodes.SIPUSH:
+                return broadcast(new IntInsnNode(opcode, ((IntInsnNode) insn).operand), Kind.INT);
+            case Opcodes.FCONST_0, Opcodes.FCONST_1, Opcodes.FCONST_2:
+                return broadcast(new InsnNode(opcode), Kind.FLOAT);
+            case Opcodes.LDC:
+                Object constant = ((LdcInsnNode) insn).cst;
+                if (constant instanceof Integer || constant instanceof Float) {
+                    return broadcast(new LdcInsnNode(constant), (constant instanceof Integer) ? Kind.INT : Kind.FLOAT);
+                }
+                return false;
+            case Opcodes.GETSTATIC:
+                FieldInsnNode field = (FieldInsnNode) insn;
+                if (field.desc.equals("I") || field.desc.equals("F")) {
+                    return broadcast(new FieldInsnNode(opcode, field.owner, field.name, field.desc), field.desc.equals("I") ? Kind.INT : Kind.FLOAT);
+                }
+                return false;
+            case Opcodes.FADD:
+                return lanewise("add", Kind.FLOAT, 2);
+            case Opcodes.FSUB:
+                return lanewise("sub", Kind.FLOAT, 2);
+            case Opcodes.FMUL:
+                return lanewise("mul", Kind.FLOAT, 2);
+            case Opcodes.FDIV:
+                return lanewise("div", Kind.FLOAT, 2);
+            case Opcodes.FNEG:
+                return lanewise("neg", Kind.FLOAT, 1);
+            case Opcodes.IADD:
+                return lanewise("add", Kind.INT, 2);
+            case Opcodes.ISUB:
+                return lanewise("sub", Kind.INT, 2);
+            case Opcodes.IMUL:
+                return lanewise("mul", Kind.INT, 2);
+            case Opcodes.INEG:
+                return lanewise("neg", Kind.INT, 1);
+            case Opcodes.IAND:
+                return lanewise("and", Kind.INT, 2);
+            case Opcodes.IOR:
+                return lanewise("or", Kind.INT, 2);
+            case Opcodes.IXOR:
+                return lanewise("xor", Kind.INT, 2);
+            case Opcodes.I2F:
+                if (!pop(Kind.INT)) {
+                    return false;
+                }
+                callVectorOps("toFloat", "(" + INT_VECTOR + ")" + FLOAT_VECTOR);
+                stack.push(Kind.FLOAT);
+                return true;
+            case Opcodes.F2I:
+                if (!pop(Kind.FLOAT)) {
+                    return false;
+                }
+                callVectorOps("toInt", "(" + FLOAT_VECTOR + ")" + INT_VECTOR);
+                stack.push(Kind.INT);
+                return true;
+            case Opcodes.F2D:
+                if (!pop(Kind.FLOAT)) {
+                    return false;
+                }
+                stack.push(Kind.WIDENED_FLOAT);
+                return true;
+            case Opcodes.D2F:
+                if (stack.isEmpty() || (stack.peek() != Kind.WIDENED_FLOAT && stack.peek() != Kind.WIDENED_SQRT)) {
+                    return false;
+                }
+                stack.pop();
+                stack.push(Kind.FLOAT);
+                return true;
+            case Opcodes.INVOKEVIRTUAL, Opcodes.INVOKESTATIC:
+                return translateCall((MethodInsnNode) insn);
+            default:
+                // Branches, other types, array and field accesses, object allocations and stack operations
+                return false;
+        }
+    }
+
+    private boolean translateCall(MethodInsnNode call) {
+        if (call.getOpcode() == Opcodes.INVOKEVIRTUAL) {
+            Kind element = call.owner.equals(FLOAT_ARRAY) ? Kind.FLOAT : call.owner.equals(INT_ARRAY) ? Kind.INT : null;
+            if (element == null) {
+                return false;
+            }
+            String array = "L" + call.owner + ";";
+            String scalar = (element == Kind.INT) ? "I" : "F";
+            if (call.name.equals("get") && call.desc.equals("(I)" + scalar)) {
+                if (!pop(Kind.INDEX) || !pop(Kind.REFERENCE)) {
+                    return false;
+                }
+                callVectorOps("load", "(" + array + "I)" + element.vectorDescriptor());
+                stack.push(element);
+                return true;
+            } else if (call.name.equals("set") && call.desc.equals("(I" + scalar + ")V")) {
+                if (!pop(element) || !pop(Kind.INDEX) || !pop(Kind.REFERENCE)) {
+                    return false;
+                }
+                callVectorOps("store", "(" + array + "I" + element.vectorDescriptor() + ")V");
+                return true;
+            }
+            return false;
+        }
+
+        if (!call.owner.equals(MATH) && !call.owner.equals(TORNADO_MATH)) {
+            return false;
+        }
+        switch (call.name + call.desc) {
+            case "min(FF)F", "max(FF)F":
+                return lanewise(call.name, Kind.FLOAT, 2);
+            case "min(II)I", "max(II)I":
+                return lanewise(call.name, Kind.INT, 2);
+            case "abs(F)F":
+                return lanewise(call.name, Kind.FLOAT, 1);
+            case "abs(I)I":
+                return lanewise(call.name, Kind.INT, 1);
+            case "fma(FFF)F":
+                return call.owner.equals(MATH) && lanewise(call.name, Kind.FLOAT, 3);
+            case "sqrt(F)F":
+                return lanewise(call.name, Kind.FLOAT, 1);
+            case "sqrt(D)D":
+                // (float) Math.sqrt(x) is the correctly rounded float square root of x
+                if (!call.owner.equals(MATH) || !pop(Kind.WIDENED_FLOAT)) {
+                    return false;
+                }
+                callVectorOps("sqrt", "(" + FLOAT_VECTOR + ")" + FLOAT_VECTOR);
+                stack.push(Kind.WIDENED_SQRT);
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.annotation;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class files of the classes generated by the bytecode tools of this package. The generated classes are defined
+ * through a {@code Lookup}, so their class files cannot be read back as resources of their class loader.
+ */
+final class GeneratedClassFiles {
+
+    private static final Map<String, byte[]> CLASS_FILES = new ConcurrentHashMap<>();
+
+    private GeneratedClassFiles() {
+    }
+
+    /**
+     * @param internalName
+     *     Internal name of the generated class, e.g. {@code pkg/Host$Generated1}.
+     * @param classFile
+     *     The class file of the generated class.
+     */
+    static void register(String internalName, byte[] classFile) {
+        CLASS_FILES.put(internalName, classFile);
+    }
+
+    /**
+     * @param resource
+     *     Resource name of a class file, e.g. {@code pkg/Host$Generated1.class}, with or without a leading slash.
+     * @return A stream over the class file, or {@code null} if the class was not generated by this package.
+     */
+    static InputStream open(String resource) {
+        String internalName = resource.startsWith("/") ? resource.substring(1) : resource;
+        if (internalName.endsWith(".class")) {
+            internalName = internalName.substring(0, internalName.length() - ".class".length());
+        }
+        byte[] classFile = CLASS_FILES.get(internalName);
+        return (classFile == null) ? null : new ByteArrayInputStream(classFile);
+    }
+}
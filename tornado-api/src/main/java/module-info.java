@@ -25,6 +25,7 @@ module tornado.api {
     exports uk.ac.manchester.tornado.api.memory;
     exports uk.ac.manchester.tornado.api.profiler;
     exports uk.ac.manchester.tornado.api.runtime;
+    exports uk.ac.manchester.tornado.api.selection;
     exports uk.ac.manchester.tornado.api.internal.annotations;
     exports uk.ac.manchester.tornado.api.utils;
 
@@ -51,4 +52,6 @@ module tornado.api {
     opens uk.ac.manchester.tornado.api.runtime;
     exports uk.ac.manchester.tornado.api.plan.types;
     opens uk.ac.manchester.tornado.api.plan.types;
+    exports uk.ac.manchester.tornado.api.primitives;
+    opens uk.ac.manchester.tornado.api.primitives;
 }
@@ -18,11 +18,15 @@
 package uk.ac.manchester.tornado.api;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
 
 /**
  * A {@link TaskGraph} is encapsulated in this class and all actions over a task
@@ -50,6 +54,10 @@ public class ImmutableTaskGraph {
         this.taskGraph.execute(executionPackage);
     }
 
+    CompletableFuture<Void> executeAsync(ExecutorFrame executionPackage) {
+        return this.taskGraph.executeAsync(executionPackage);
+    }
+
     void withPreCompilation(ExecutorFrame executionPackage) {
         taskGraph.withPreCompilation(executionPackage);
     }
@@ -74,6 +82,22 @@ public class ImmutableTaskGraph {
         taskGraph.withoutStagedTransfers();
     }
 
+    void withDeviceSelection(DeviceSelectionPolicy policy) {
+        taskGraph.withDeviceSelection(policy);
+    }
+
+    void withoutDeviceSelection() {
+        taskGraph.withoutDeviceSelection();
+    }
+
+    void withAutotuning() {
+        taskGraph.withAutotuning();
+    }
+
+    void withoutAutotuning() {
+        taskGraph.withoutAutotuning();
+    }
+
     void withDevice(TornadoDevice device) {
         taskGraph.withDevice(device);
     }
@@ -150,6 +174,14 @@ public class ImmutableTaskGraph {
         return taskGraph.getProfileLog();
     }
 
+    ProfilerHistogram getProfilerHistogram(ProfilerType type) {
+        return taskGraph.getProfilerHistogram(type);
+    }
+
+    ProfilerHistogram getTaskProfilerHistogram(ProfilerType type, String taskId) {
+        return taskGraph.getTaskProfilerHistogram(type, taskId);
+    }
+
     boolean isFinished() {
         return taskGraph.isFinished();
     }
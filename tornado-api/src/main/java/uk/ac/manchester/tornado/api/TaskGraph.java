@@ -20,6 +20,7 @@ package uk.ac.manchester.tornado.api;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import uk.ac.manchester.tornado.api.common.PrebuiltTaskPackage;
 import uk.ac.manchester.tornado.api.common.TaskPackage;
@@ -69,8 +70,11 @@ import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TornadoAPIProvider;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
 
 /**
  * Tornado Task Graph API.
@@ -891,6 +895,64 @@ public class TaskGraph implements TaskGraphInterface {
         return this;
     }
 
+    /**
+     * Adds a reduction with a user-defined combiner. The combiner is a class with two static methods:
+     *
+     * <pre>
+     * static void map(I1 input1, ..., int element, S1 state1, ..., int slot)
+     * static void combine(S1 state1, ..., int into, int from)
+     * </pre>
+     *
+     * <p>
+     * {@code map} writes the value of an element of the inputs in a slot of the state, and {@code combine} merges the
+     * slot {@code from} into the slot {@code into}. The state is made of arrays of the types of the results, with
+     * {@code width} elements per slot, {@code width} being the size of the results. For instance, an arg-max keeps a
+     * value and an index per slot, and a top-k keeps {@code k} values per slot. {@code combine} must be associative,
+     * but it does not need to be commutative: the slots are always merged in the order of the elements.
+     * </p>
+     *
+     * <p>
+     * The reduction runs over as many elements as the size of the first input when the task is added, as a tree
+     * reduction in two {@link KernelContext} tasks with the ids {@code id} and {@code id + "_combine"}. The state of
+     * all the elements is kept in the memory of the device, so the reduction needs {@code width} elements of each
+     * result type per element of the input. The results are written by the second task, so they must be transferred
+     * to the host to be read.
+     * </p>
+     *
+     * <pre>
+     * public static void map(FloatArray input, int element, FloatArray value, IntArray index, int slot) {
+     *     value.set(slot, input.get(element));
+     *     index.set(slot, element);
+     * }
+     *
+     * public static void combine(FloatArray value, IntArray index, int into, int from) {
+     *     if (value.get(from) > value.get(into)) {
+     *         value.set(into, value.get(from));
+     *         index.set(into, index.get(from));
+     *     }
+     * }
+     *
+     * taskGraph.reduce("argMax", ArgMax.class, new Object[] { input }, maxValue, maxIndex);
+     * </pre>
+     *
+     * @param id
+     *     Task-id of the reduction.
+     * @param combiner
+     *     Class with the static methods {@code map} and {@code combine} of the reduction. They must not be private.
+     * @param inputs
+     *     Arguments of {@code map} before the index of the element. The first input is the array that is reduced.
+     * @param results
+     *     Arrays that receive the first slot of the state, with the same types as the state and the same size.
+     * @return {@link TaskGraph}
+     */
+    @Override
+    public TaskGraph reduce(String id, Class<?> combiner, Object[] inputs, Object... results) {
+        checkTaskName(id);
+        checkTaskName(id + "_combine");
+        taskGraphImpl.addReduction(id, combiner, inputs, results);
+        return this;
+    }
+
     /**
      * Obtains the task-schedule name that was assigned.
      *
@@ -1048,6 +1110,10 @@ public class TaskGraph implements TaskGraphInterface {
         taskGraphImpl.execute(executionPackage).waitOn();
     }
 
+    CompletableFuture<Void> executeAsync(ExecutorFrame executionPackage) {
+        return taskGraphImpl.executeAsync(executionPackage);
+    }
+
     void withPreCompilation(ExecutorFrame executionPackage) {
         taskGraphImpl.withPreCompilation(executionPackage);
     }
@@ -1072,6 +1138,22 @@ public class TaskGraph implements TaskGraphInterface {
         taskGraphImpl.withoutStagedTransfers();
     }
 
+    void withDeviceSelection(DeviceSelectionPolicy policy) {
+        taskGraphImpl.withDeviceSelection(policy);
+    }
+
+    void withoutDeviceSelection() {
+        taskGraphImpl.withoutDeviceSelection();
+    }
+
+    void withAutotuning() {
+        taskGraphImpl.withAutotuning();
+    }
+
+    void withoutAutotuning() {
+        taskGraphImpl.withoutAutotuning();
+    }
+
     void dumpProfiles() {
         taskGraphImpl.dumpProfiles();
     }
@@ -1163,6 +1245,14 @@ public class TaskGraph implements TaskGraphInterface {
         return taskGraphImpl.getProfileLog();
     }
 
+    ProfilerHistogram getProfilerHistogram(ProfilerType type) {
+        return taskGraphImpl.getProfilerHistogram(type);
+    }
+
+    ProfilerHistogram getTaskProfilerHistogram(ProfilerType type, String taskId) {
+        return taskGraphImpl.getTaskProfilerHistogram(type, taskId);
+    }
+
     void enableProfiler(ProfilerMode profilerMode) {
         taskGraphImpl.enableProfiler(profilerMode);
     }
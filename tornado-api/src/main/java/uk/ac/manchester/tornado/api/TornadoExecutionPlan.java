@@ -20,6 +20,7 @@ package uk.ac.manchester.tornado.api;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
@@ -33,6 +34,7 @@ import uk.ac.manchester.tornado.api.plan.types.OffPrintKernel;
 import uk.ac.manchester.tornado.api.plan.types.OffProfiler;
 import uk.ac.manchester.tornado.api.plan.types.OffThreadInfo;
 import uk.ac.manchester.tornado.api.plan.types.WithAllGraphs;
+import uk.ac.manchester.tornado.api.plan.types.WithAutotuning;
 import uk.ac.manchester.tornado.api.plan.types.WithBatch;
 import uk.ac.manchester.tornado.api.plan.types.WithCUDAGraph;
 import uk.ac.manchester.tornado.api.plan.types.WithClearProfiles;
@@ -40,6 +42,7 @@ import uk.ac.manchester.tornado.api.plan.types.WithCompilerFlags;
 import uk.ac.manchester.tornado.api.plan.types.WithConcurrentDevices;
 import uk.ac.manchester.tornado.api.plan.types.WithDefaultScheduler;
 import uk.ac.manchester.tornado.api.plan.types.WithDevice;
+import uk.ac.manchester.tornado.api.plan.types.WithDeviceSelection;
 import uk.ac.manchester.tornado.api.plan.types.WithFreeDeviceMemory;
 import uk.ac.manchester.tornado.api.plan.types.WithGraph;
 import uk.ac.manchester.tornado.api.plan.types.WithGridScheduler;
@@ -55,6 +58,7 @@ import uk.ac.manchester.tornado.api.plan.types.WithWarmUpIterations;
 import uk.ac.manchester.tornado.api.plan.types.WithWarmUpTime;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
 
 /**
  * Class to create and optimize execution plans for running a set of
@@ -181,10 +185,35 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
      * @return {@link TornadoExecutionPlan}
      */
     public TornadoExecutionResult execute() {
+        tornadoExecutor.awaitAsyncExecutions();
         tornadoExecutor.execute(executionFrame);
+        return addExecutionResult();
+    }
+
+    /**
+     * Execute an execution plan without blocking the calling thread. The task-graphs are dispatched from a runtime
+     * thread, and the returned future is completed when their results are available in the host. On devices whose
+     * events can be polled, the dispatch thread does not wait for the device, so many plans can be in flight at the
+     * same time.
+     *
+     * <p>
+     * Executions of the same plan run in submission order, and so do the executions of different plans that share
+     * any object. The host objects used by the plan must not be read or written until the future is completed.
+     * </p>
+     *
+     * @return A {@link CompletableFuture} with the {@link TornadoExecutionResult}. It completes exceptionally if the
+     *     execution fails.
+     */
+    public CompletableFuture<TornadoExecutionResult> executeAsync() {
+        return tornadoExecutor.executeAsync(executionFrame).thenApply(ignored -> addExecutionResult());
+    }
+
+    private TornadoExecutionResult addExecutionResult() {
         TornadoProfilerResult profilerResult = new TornadoProfilerResult(tornadoExecutor, this.getTraceExecutionPlan());
         TornadoExecutionResult executionResult = new TornadoExecutionResult(profilerResult);
-        planResults.add(executionResult);
+        synchronized (planResults) {
+            planResults.add(executionResult);
+        }
         tornadoExecutor.updateLastExecutedTaskGraph();
         return executionResult;
     }
@@ -552,6 +581,7 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
      */
     @Override
     public void close() throws TornadoExecutionPlanException {
+        tornadoExecutor.awaitAsyncExecutions();
         tornadoExecutor.freeDeviceMemory();
     }
 
@@ -566,10 +596,12 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
     }
 
     public TornadoExecutionResult getPlanResult(int index) {
-        if (index >= planResults.size()) {
-            throw new TornadoRuntimeException("[ERROR] Execution result not found");
+        synchronized (planResults) {
+            if (index >= planResults.size()) {
+                throw new TornadoRuntimeException("[ERROR] Execution result not found");
+            }
+            return planResults.get(index);
         }
-        return planResults.get(index);
     }
 
     /**
@@ -581,7 +613,8 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
      * The semantics are as follows: there is the source object, and the destination object. This call maps the dest object
      * to the source object from a given offset. The source object is passed from the task-graph `fromGraphIndex`, and
      * the destination object is taken from the `toGraphIndex`. This method can be invoked in a multi-task-graph execution
-     * plan. It will not work if there is only one task-graph in the execution plan.
+     * plan. It will not work if there is only one task-graph in the execution plan. The destination object cannot be a
+     * view of a native array, because its header would be read from the data of the source object.
      * </p>
      * 
      * @param destTornadoArray
@@ -698,4 +731,72 @@ public sealed class TornadoExecutionPlan implements AutoCloseable permits Execut
         tornadoExecutor.withoutStagedTransfers();
         return this;
     }
+
+    /**
+     * Lets the runtime select the device of each task-graph from measured costs. The first executions of the plan
+     * explore the candidate devices of all backends (including the host, if the JVM backend is enabled): each device
+     * runs the task-graph once to compile the kernels and then {@code -Dtornado.device.selection.samples} times
+     * (default 3) to measure its end-to-end time. The device with the lowest score for the given policy is used on
+     * the following executions. Costs are kept for each task-graph and size of the inputs (in powers of two), and the
+     * decision is revisited every {@code -Dtornado.device.selection.reevaluate} executions (default 1000).
+     *
+     * <p>
+     * Decisions are persisted in {@code -Dtornado.device.selection.file} (default
+     * {@code ~/.tornadovm/device-selection.properties}), so a new JVM run reuses them without exploring again.
+     * Task-graphs that run on several devices, or that share device buffers with other task-graphs, keep their
+     * device.
+     * </p>
+     *
+     * @param policy
+     *     {@link DeviceSelectionPolicy} that scores the candidate devices, e.g.
+     *     {@link uk.ac.manchester.tornado.api.selection.DefaultDeviceSelectionPolicy#END_TO_END}.
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan withDeviceSelection(DeviceSelectionPolicy policy) {
+        tornadoExecutor.withDeviceSelection(Objects.requireNonNull(policy));
+        return new WithDeviceSelection(this, policy);
+    }
+
+    /**
+     * Disables the selection of devices from measured costs. The task-graphs keep the device used by the last
+     * execution.
+     *
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan withoutDeviceSelection() {
+        tornadoExecutor.withoutDeviceSelection();
+        return this;
+    }
+
+    /**
+     * Lets the runtime tune the local work-group size of each kernel from measured costs. After the first execution,
+     * which compiles the kernels, the following executions of the plan explore up to
+     * {@code -Dtornado.autotune.budget} local work-group sizes per kernel (default 16, including the default size of
+     * the driver), measuring each of them {@code -Dtornado.autotune.samples} times (default 3). The size with the
+     * lowest kernel time, or end-to-end time if the profiler is disabled, is used on the following executions.
+     *
+     * <p>
+     * Results are persisted in {@code -Dtornado.autotune.file} (default {@code ~/.tornadovm/autotune.properties}),
+     * keyed by a hash of the kernel, the name of the device and the global work size, so a new JVM run applies them
+     * without exploring again. Tasks with a {@link WorkerGrid} in the {@link GridScheduler} of the plan, or with a
+     * local work-group size set with {@code -D<taskgraph>.<task>.local.workgroup.size}, keep their configuration.
+     * </p>
+     *
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan withAutotuning() {
+        tornadoExecutor.withAutotuning();
+        return new WithAutotuning(this);
+    }
+
+    /**
+     * Disables the tuning of the local work-group sizes. The kernels are launched again with the default local
+     * work-group sizes of the driver.
+     *
+     * @return {@link TornadoExecutionPlan}
+     */
+    public TornadoExecutionPlan withoutAutotuning() {
+        tornadoExecutor.withoutAutotuning();
+        return this;
+    }
 }
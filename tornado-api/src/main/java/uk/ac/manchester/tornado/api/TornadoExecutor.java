@@ -19,7 +19,11 @@ package uk.ac.manchester.tornado.api;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -27,7 +31,11 @@ import java.util.stream.IntStream;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 
 /**
  * Executor Class to dispatch Tornado Task-Graphs. An executor plan
@@ -37,8 +45,15 @@ import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
  */
 class TornadoExecutor {
 
+    /**
+     * Last asynchronous execution that uses each object, across all the executors. An asynchronous execution starts
+     * after the executions in flight that use any of its objects, so plans that share buffers run in submission order.
+     */
+    private static final Map<Object, CompletableFuture<Void>> asyncExecutionsPerObject = new IdentityHashMap<>();
+
     private final List<ImmutableTaskGraph> immutableTaskGraphList;
     private List<ImmutableTaskGraph> subgraphList;
+    private CompletableFuture<Void> lastAsyncExecution = CompletableFuture.completedFuture(null);
 
     TornadoExecutor(ImmutableTaskGraph... immutableTaskGraphs) {
         immutableTaskGraphList = new ArrayList<>();
@@ -65,10 +80,84 @@ class TornadoExecutor {
         immutableTaskGraphList.forEach(ImmutableTaskGraph::withoutStagedTransfers);
     }
 
+    void withDeviceSelection(DeviceSelectionPolicy policy) {
+        immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.withDeviceSelection(policy));
+    }
+
+    void withoutDeviceSelection() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::withoutDeviceSelection);
+    }
+
+    void withAutotuning() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::withAutotuning);
+    }
+
+    void withoutAutotuning() {
+        immutableTaskGraphList.forEach(ImmutableTaskGraph::withoutAutotuning);
+    }
+
     void execute(ExecutorFrame executionPackage) {
         immutableTaskGraphList.forEach(immutableTaskGraph -> immutableTaskGraph.execute(executionPackage));
     }
 
+    /**
+     * Executes the task-graphs in order without blocking the calling thread. The execution starts after the previous
+     * asynchronous execution of this executor and after the asynchronous executions of other executors that use any
+     * of the same objects. A failed predecessor does not prevent the execution: its failure is reported by its own
+     * future.
+     */
+    CompletableFuture<Void> executeAsync(ExecutorFrame executionPackage) {
+        Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+            immutableTaskGraph.getTaskGraph().getArgumentsLookup().stream().filter(TornadoExecutor::isSharedObject).forEach(objects::add);
+        }
+
+        CompletableFuture<Void> execution;
+        synchronized (asyncExecutionsPerObject) {
+            List<CompletableFuture<Void>> predecessors = new ArrayList<>();
+            predecessors.add(lastAsyncExecution);
+            for (Object object : objects) {
+                CompletableFuture<Void> predecessor = asyncExecutionsPerObject.get(object);
+                if (predecessor != null) {
+                    predecessors.add(predecessor);
+                }
+            }
+            execution = CompletableFuture.allOf(predecessors.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> null);
+            for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
+                execution = execution.thenCompose(ignored -> immutableTaskGraph.executeAsync(executionPackage));
+            }
+            lastAsyncExecution = execution;
+            for (Object object : objects) {
+                asyncExecutionsPerObject.put(object, execution);
+            }
+        }
+
+        final CompletableFuture<Void> registered = execution;
+        return execution.whenComplete((ignored, error) -> {
+            synchronized (asyncExecutionsPerObject) {
+                objects.forEach(object -> asyncExecutionsPerObject.remove(object, registered));
+            }
+        });
+    }
+
+    /**
+     * Waits for the asynchronous executions of this executor, ignoring their failures.
+     */
+    void awaitAsyncExecutions() {
+        CompletableFuture<Void> last;
+        synchronized (asyncExecutionsPerObject) {
+            last = lastAsyncExecution;
+        }
+        last.handle((ignored, error) -> null).join();
+    }
+
+    /**
+     * Scalars are passed by value, so they do not order executions.
+     */
+    private static boolean isSharedObject(Object object) {
+        return !(object instanceof Number || object instanceof Boolean || object instanceof Character);
+    }
+
     boolean withGridScheduler(GridScheduler gridScheduler) {
         boolean checkGridRegistered = false;
         for (ImmutableTaskGraph immutableTaskGraph : immutableTaskGraphList) {
@@ -205,6 +294,14 @@ class TornadoExecutor {
         return immutableTaskGraphList.stream().map(ImmutableTaskGraph::getProfileLog).collect(Collectors.joining());
     }
 
+    ProfilerHistogram getProfilerHistogram(ProfilerType type) {
+        return immutableTaskGraphList.stream().map(graph -> graph.getProfilerHistogram(type)).reduce(ProfilerHistogram.EMPTY, ProfilerHistogram::merge);
+    }
+
+    ProfilerHistogram getTaskProfilerHistogram(ProfilerType type, String taskId) {
+        return immutableTaskGraphList.stream().map(graph -> graph.getTaskProfilerHistogram(type, taskId)).reduce(ProfilerHistogram.EMPTY, ProfilerHistogram::merge);
+    }
+
     void dumpProfiles() {
         immutableTaskGraphList.forEach(ImmutableTaskGraph::dumpProfiles);
     }
@@ -330,6 +427,9 @@ class TornadoExecutor {
             throw new TornadoRuntimeException("TaskGraph index #" + fromGraphIndex + " does not exist in current executor");
         } else if (immutableTaskGraphList.size() < toGraphIndex) {
             throw new TornadoRuntimeException("TaskGraph index #" + toGraphIndex + " does not exist in current executor");
+        } else if (destArray instanceof TornadoNativeArray nativeArray && nativeArray.isView()) {
+            // The kernels would read the data in front of the view, in the buffer of the source array, as its header
+            throw new TornadoRuntimeException("MapOnDeviceMemoryRegion does not support views of native arrays. Pass the view to the task-graph as a regular array instead");
         }
         // Identify the task-graphs to take for the update operation
         ImmutableTaskGraph taskGraphSrc = getGraph(fromGraphIndex);
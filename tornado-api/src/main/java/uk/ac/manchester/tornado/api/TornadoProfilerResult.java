@@ -18,7 +18,9 @@
 package uk.ac.manchester.tornado.api;
 
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfilerInterface;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 
 /**
  * Object that stores all information related to profiling an executor. To be
@@ -194,6 +196,59 @@ public class TornadoProfilerResult implements ProfilerInterface {
         return executor.getTotalBytesCopyOut();
     }
 
+    /**
+     * Returns the distribution of the end-to-end time of the immutable task-graphs
+     * over all the executions since the profiler was enabled.
+     *
+     * @return {@link ProfilerHistogram}
+     */
+    public ProfilerHistogram getTotalTimeHistogram() {
+        return executor.getProfilerHistogram(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+    }
+
+    /**
+     * Returns the distribution of the kernel time (in ns) over all the executions
+     * since the profiler was enabled. Each execution contributes the sum of the
+     * kernel times of its tasks.
+     *
+     * @return {@link ProfilerHistogram}
+     */
+    public ProfilerHistogram getDeviceKernelTimeHistogram() {
+        return executor.getProfilerHistogram(ProfilerType.TOTAL_KERNEL_TIME);
+    }
+
+    /**
+     * Returns the distribution of the time (in ns) to copy data from the host to
+     * the device over all the executions since the profiler was enabled.
+     *
+     * @return {@link ProfilerHistogram}
+     */
+    public ProfilerHistogram getDeviceWriteTimeHistogram() {
+        return executor.getProfilerHistogram(ProfilerType.COPY_IN_TIME);
+    }
+
+    /**
+     * Returns the distribution of the time (in ns) to copy data from the device to
+     * the host over all the executions since the profiler was enabled.
+     *
+     * @return {@link ProfilerHistogram}
+     */
+    public ProfilerHistogram getDeviceReadTimeHistogram() {
+        return executor.getProfilerHistogram(ProfilerType.COPY_OUT_TIME);
+    }
+
+    /**
+     * Returns the distribution of the kernel time (in ns) of a single task over
+     * all its launches since the profiler was enabled.
+     *
+     * @param taskId
+     *     Task identifier in the form {@code taskGraphName.taskName}.
+     * @return {@link ProfilerHistogram}
+     */
+    public ProfilerHistogram getTaskKernelTimeHistogram(String taskId) {
+        return executor.getTaskProfilerHistogram(ProfilerType.TASK_KERNEL_TIME, taskId);
+    }
+
     TornadoExecutor getExecutor() {
         return executor;
     }
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import uk.ac.manchester.tornado.api.common.LibraryTaskDescriptor;
@@ -29,9 +30,12 @@ import uk.ac.manchester.tornado.api.common.TaskPackage;
 import uk.ac.manchester.tornado.api.common.TornadoDevice;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfilerInterface;
+import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
 
 public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
@@ -73,6 +77,16 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     void clearProfiles();
 
+    /**
+     * Distribution of a profiler timer across all the executions of the task-graph since the profiler was enabled.
+     */
+    ProfilerHistogram getProfilerHistogram(ProfilerType type);
+
+    /**
+     * Distribution of a task timer across all the executions of the task-graph since the profiler was enabled.
+     */
+    ProfilerHistogram getTaskProfilerHistogram(ProfilerType type, String taskId);
+
     void waitOn();
 
     void transferToDevice(int mode, Object... objects);
@@ -99,12 +113,21 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
 
     TornadoTaskGraphInterface execute(ExecutorFrame executionPackage);
 
+    /**
+     * Executes the task-graph without blocking the calling thread.
+     *
+     * @return A future that is completed when the results of the execution are available in the host.
+     */
+    CompletableFuture<Void> executeAsync(ExecutorFrame executionPackage);
+
     void addTask(TaskPackage taskPackage);
 
     void addPrebuiltTask(TaskPackage taskPackage);
 
     void addLibraryTask(String id, LibraryTaskDescriptor libraryTaskDescriptor);
 
+    void addReduction(String id, Class<?> combiner, Object[] inputs, Object[] results);
+
     String getTaskGraphName();
 
     void useDefaultThreadScheduler(boolean use);
@@ -156,4 +179,12 @@ public interface TornadoTaskGraphInterface extends ProfilerInterface {
     void withStagedTransfers();
 
     void withoutStagedTransfers();
+
+    void withDeviceSelection(DeviceSelectionPolicy policy);
+
+    void withoutDeviceSelection();
+
+    void withAutotuning();
+
+    void withoutAutotuning();
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+
+/**
+ * Base class of the device-wide primitives of this package. A primitive adds one or more {@link KernelContext} tasks
+ * to an existing {@link TaskGraph}, and the worker grids of those tasks to a {@link GridScheduler}, so it runs
+ * between the user tasks of the graph without copying its data back to the host.
+ *
+ * <p>
+ * All kernels work on blocks of {@link #BLOCK_SIZE} elements, one work-group per block, using local memory and
+ * work-group barriers. The temporary buffers that a primitive needs are allocated when the primitive is created and
+ * stay on the device: only the arrays that the user transfers are copied.
+ * </p>
+ *
+ * <p>
+ * Example:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * GridScheduler gridScheduler = new GridScheduler();
+ * TaskGraph taskGraph = new TaskGraph("s0") //
+ *         .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+ *         .task("t0", Kernels::preprocess, input, values);
+ * Scan.exclusive(values, offsets).addTo(taskGraph, "scan", gridScheduler);
+ * taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, offsets);
+ *
+ * try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+ *     executionPlan.withGridScheduler(gridScheduler).execute();
+ * }
+ * }
+ * </pre>
+ */
+public abstract class DevicePrimitive {
+
+    /**
+     * Number of elements processed by each work-group, which is also the local work size of every task.
+     */
+    public static final int BLOCK_SIZE = 256;
+
+    protected final KernelContext context = new KernelContext();
+
+    /**
+     * Primitives are created with the static factories of their subclasses.
+     */
+    protected DevicePrimitive() {
+    }
+
+    /**
+     * Adds the tasks of this primitive to a task-graph. The tasks are named after the given identifier, with a
+     * suffix per step, and their worker grids are registered in the given grid scheduler, which must then be passed to
+     * the execution plan.
+     *
+     * @param taskGraph
+     *     {@link TaskGraph} to extend.
+     * @param id
+     *     Prefix of the task names.
+     * @param gridScheduler
+     *     {@link GridScheduler} that receives the worker grid of each task.
+     * @return The same {@link TaskGraph}.
+     */
+    public abstract TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler);
+
+    static int numBlocks(int size) {
+        return Math.max(1, (size + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    static void addGrid(TaskGraph taskGraph, GridScheduler gridScheduler, String taskId, int numBlocks) {
+        WorkerGrid workerGrid = new WorkerGrid1D(numBlocks * BLOCK_SIZE);
+        workerGrid.setLocalWork(BLOCK_SIZE, 1, 1);
+        gridScheduler.addWorkerGrid(taskGraph.getTaskGraphName() + "." + taskId, workerGrid);
+    }
+
+    static void checkSize(String name, int size, int expected) {
+        if (size < expected) {
+            throw new IllegalArgumentException(name + " has " + size + " elements, but at least " + expected + " are required");
+        }
+    }
+}
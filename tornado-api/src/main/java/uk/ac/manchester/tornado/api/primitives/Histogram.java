@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Device-wide histogram of an {@link IntArray}: {@code bins[b]} receives the number of elements equal to {@code b}.
+ * The number of bins is the size of the bins array, at most {@link #BLOCK_SIZE}, and values outside
+ * {@code [0, bins.getSize())} are not counted.
+ *
+ * <p>
+ * The histogram does not use atomics. Each work-group loads its block in local memory and counts every bin with one
+ * thread per bin ({@code <id>_blocks}); then one thread per bin adds up the partial counts of all blocks
+ * ({@code <id>_merge}). The result is the same on every device and on every run.
+ * </p>
+ */
+public final class Histogram extends DevicePrimitive {
+
+    private final IntArray input;
+    private final IntArray bins;
+    private final IntArray partial;
+    private final int size;
+
+    private Histogram(IntArray input, IntArray bins) {
+        if (bins.getSize() > BLOCK_SIZE) {
+            throw new IllegalArgumentException("A histogram supports up to " + BLOCK_SIZE + " bins, but " + bins.getSize() + " were requested");
+        }
+        this.input = input;
+        this.bins = bins;
+        this.size = input.getSize();
+        this.partial = new IntArray(bins.getSize() * numBlocks(size));
+    }
+
+    public static Histogram of(IntArray input, IntArray bins) {
+        return new Histogram(input, bins);
+    }
+
+    @Override
+    public TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler) {
+        int numBlocks = numBlocks(size);
+        taskGraph.task(id + "_blocks", Histogram::countBlocks, context, input, partial, size, bins.getSize(), numBlocks);
+        taskGraph.task(id + "_merge", Histogram::mergeBlocks, context, partial, bins, bins.getSize(), numBlocks);
+        addGrid(taskGraph, gridScheduler, id + "_blocks", numBlocks);
+        addGrid(taskGraph, gridScheduler, id + "_merge", 1);
+        return taskGraph;
+    }
+
+    /**
+     * Counts the values of each block. The partial counts are stored bin-major, in
+     * {@code partial[bin * numBlocks + groupIdx]}, so the merge reads the counts of a bin contiguously.
+     */
+    public static void countBlocks(KernelContext context, IntArray input, IntArray partial, int size, int numBins, int numBlocks) {
+        int[] values = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        values[lid] = gid < size ? input.get(gid) : -1;
+        context.localBarrier();
+        if (lid < numBins) {
+            int count = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                if (values[i] == lid) {
+                    count++;
+                }
+            }
+            partial.set(lid * numBlocks + context.groupIdx, count);
+        }
+    }
+
+    public static void mergeBlocks(KernelContext context, IntArray partial, IntArray bins, int numBins, int numBlocks) {
+        int bin = context.globalIdx;
+        if (bin < numBins) {
+            int count = 0;
+            for (int block = 0; block < numBlocks; block++) {
+                count += partial.get(bin * numBlocks + block);
+            }
+            bins.set(bin, count);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Device-wide stable sort of {@link FloatArray} keys in ascending order, with an {@link IntArray} payload that is
+ * permuted together with the keys. Both arrays are sorted in place. The keys must not contain NaN, and
+ * {@code -0.0f} and {@code 0.0f} compare as equal.
+ *
+ * <p>
+ * Float keys are not sorted by radix: reading the bits of a float as an integer is not supported by the code
+ * generators of the backends, so this sort only uses comparisons. Each work-group sorts its block by computing the
+ * rank of every key in local memory ({@code <id>_blocks}); then {@code log2(numBlocks)} passes merge pairs of sorted
+ * runs, where every element finds its position with a binary search in the other run ({@code <id>_merge<pass>}). An
+ * odd number of merge passes ends with a copy back into the user arrays ({@code <id>_copy}).
+ * </p>
+ */
+public final class MergeSort extends DevicePrimitive {
+
+    private final FloatArray keys;
+    private final IntArray values;
+    private final FloatArray tmpKeys;
+    private final IntArray tmpValues;
+    private final int size;
+
+    private MergeSort(FloatArray keys, IntArray values) {
+        checkSize("The values", values.getSize(), keys.getSize());
+        this.keys = keys;
+        this.values = values;
+        this.size = keys.getSize();
+        this.tmpKeys = new FloatArray(size);
+        this.tmpValues = new IntArray(size);
+    }
+
+    public static MergeSort of(FloatArray keys, IntArray values) {
+        return new MergeSort(keys, values);
+    }
+
+    @Override
+    public TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler) {
+        int numBlocks = numBlocks(size);
+        taskGraph.task(id + "_blocks", MergeSort::sortBlocks, context, keys, values, size);
+        addGrid(taskGraph, gridScheduler, id + "_blocks", numBlocks);
+        int pass = 0;
+        for (int width = BLOCK_SIZE; width < size; width *= 2, pass++) {
+            FloatArray sourceKeys = pass % 2 == 0 ? keys : tmpKeys;
+            IntArray sourceValues = pass % 2 == 0 ? values : tmpValues;
+            FloatArray targetKeys = pass % 2 == 0 ? tmpKeys : keys;
+            IntArray targetValues = pass % 2 == 0 ? tmpValues : values;
+            taskGraph.task(id + "_merge" + pass, MergeSort::mergeRuns, context, sourceKeys, sourceValues, targetKeys, targetValues, size, width);
+            addGrid(taskGraph, gridScheduler, id + "_merge" + pass, numBlocks);
+        }
+        if (pass % 2 != 0) {
+            taskGraph.task(id + "_copy", MergeSort::copy, context, tmpKeys, tmpValues, keys, values, size);
+            addGrid(taskGraph, gridScheduler, id + "_copy", numBlocks);
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Sorts each block in place. Every thread counts the keys of its block that go before its own key, breaking ties
+     * by index, and writes its key at that rank once the whole block is in local memory.
+     */
+    public static void sortBlocks(KernelContext context, FloatArray keys, IntArray values, int size) {
+        float[] localKeys = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int[] localValues = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        int blockStart = context.groupIdx * BLOCK_SIZE;
+        int blockSize = TornadoMath.min(BLOCK_SIZE, size - blockStart);
+        if (lid < blockSize) {
+            localKeys[lid] = keys.get(gid);
+            localValues[lid] = values.get(gid);
+        }
+        context.localBarrier();
+        if (lid < blockSize) {
+            float key = localKeys[lid];
+            int rank = 0;
+            for (int i = 0; i < blockSize; i++) {
+                float other = localKeys[i];
+                if (other < key || (other == key && i < lid)) {
+                    rank++;
+                }
+            }
+            keys.set(blockStart + rank, key);
+            values.set(blockStart + rank, localValues[lid]);
+        }
+    }
+
+    /**
+     * Merges pairs of sorted runs of {@code width} elements. An element of the left run goes after the smaller keys
+     * of the right run, and an element of the right run goes after the smaller or equal keys of the left run, which
+     * keeps the merge stable.
+     */
+    public static void mergeRuns(KernelContext context, FloatArray keys, IntArray values, FloatArray mergedKeys, IntArray mergedValues, int size, int width) {
+        int gid = context.globalIdx;
+        if (gid < size) {
+            int run = gid / width;
+            int leftStart = (run - (run & 1)) * width;
+            int middle = TornadoMath.min(leftStart + width, size);
+            int end = TornadoMath.min(middle + width, size);
+            float key = keys.get(gid);
+            int position;
+            if (gid < middle) {
+                int low = middle;
+                int high = end;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (keys.get(mid) < key) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                position = gid + (low - middle);
+            } else {
+                int low = leftStart;
+                int high = middle;
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (keys.get(mid) <= key) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                position = (gid - middle) + low;
+            }
+            mergedKeys.set(position, key);
+            mergedValues.set(position, values.get(gid));
+        }
+    }
+
+    public static void copy(KernelContext context, FloatArray keys, IntArray values, FloatArray targetKeys, IntArray targetValues, int size) {
+        int gid = context.globalIdx;
+        if (gid < size) {
+            targetKeys.set(gid, keys.get(gid));
+            targetValues.set(gid, values.get(gid));
+        }
+    }
+}
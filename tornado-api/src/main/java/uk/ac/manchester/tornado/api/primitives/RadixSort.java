@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Device-wide stable least-significant-digit radix sort of {@link IntArray} keys, in ascending signed order, with an
+ * {@link IntArray} payload that is permuted together with the keys. Both arrays are sorted in place. To sort the keys
+ * only, or to compute the permutation, pass the indices {@code 0, 1, ..., n - 1} as the payload.
+ *
+ * <p>
+ * The keys are sorted {@link #RADIX_BITS} bits at a time, in {@link #PASSES} passes. Each pass counts the digits of
+ * every block in local memory ({@code <id>_count<pass>}), computes the global position of each (digit, block) pair
+ * with an exclusive {@link Scan} of the counts ({@code <id>_scan<pass>_*}), and scatters every element to its
+ * position plus its rank among the elements of its block with the same digit ({@code <id>_scatter<pass>}). The
+ * passes alternate between the user arrays and two temporary arrays that stay on the device.
+ * </p>
+ */
+public final class RadixSort extends DevicePrimitive {
+
+    public static final int RADIX_BITS = 4;
+    public static final int RADIX = 1 << RADIX_BITS;
+    public static final int PASSES = Integer.SIZE / RADIX_BITS;
+
+    private final IntArray keys;
+    private final IntArray values;
+    private final IntArray tmpKeys;
+    private final IntArray tmpValues;
+    private final IntArray counts;
+    private final IntArray offsets;
+    private final Scan scan;
+    private final int size;
+
+    private RadixSort(IntArray keys, IntArray values) {
+        checkSize("The values", values.getSize(), keys.getSize());
+        this.keys = keys;
+        this.values = values;
+        this.size = keys.getSize();
+        this.tmpKeys = new IntArray(size);
+        this.tmpValues = new IntArray(size);
+        this.counts = new IntArray(RADIX * numBlocks(size));
+        this.offsets = new IntArray(RADIX * numBlocks(size));
+        this.scan = Scan.exclusive(counts, offsets);
+    }
+
+    public static RadixSort of(IntArray keys, IntArray values) {
+        return new RadixSort(keys, values);
+    }
+
+    @Override
+    public TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler) {
+        int numBlocks = numBlocks(size);
+        for (int pass = 0; pass < PASSES; pass++) {
+            IntArray sourceKeys = pass % 2 == 0 ? keys : tmpKeys;
+            IntArray sourceValues = pass % 2 == 0 ? values : tmpValues;
+            IntArray targetKeys = pass % 2 == 0 ? tmpKeys : keys;
+            IntArray targetValues = pass % 2 == 0 ? tmpValues : values;
+            int shift = pass * RADIX_BITS;
+            taskGraph.task(id + "_count" + pass, RadixSort::countDigits, context, sourceKeys, counts, size, shift, numBlocks);
+            scan.addTo(taskGraph, id + "_scan" + pass, gridScheduler);
+            taskGraph.task(id + "_scatter" + pass, RadixSort::scatterDigits, context, sourceKeys, sourceValues, targetKeys, targetValues, offsets, size, shift, numBlocks);
+            addGrid(taskGraph, gridScheduler, id + "_count" + pass, numBlocks);
+            addGrid(taskGraph, gridScheduler, id + "_scatter" + pass, numBlocks);
+        }
+        return taskGraph;
+    }
+
+    /**
+     * Counts the digits of each block. The counts are stored digit-major, in
+     * {@code counts[digit * numBlocks + groupIdx]}, so that their exclusive scan gives the first position of every
+     * (digit, block) pair in the sorted output. The sign bit is flipped so that negative keys sort first.
+     */
+    public static void countDigits(KernelContext context, IntArray keys, IntArray counts, int size, int shift, int numBlocks) {
+        int[] digits = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        digits[lid] = gid < size ? ((keys.get(gid) ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1) : RADIX;
+        context.localBarrier();
+        if (lid < RADIX) {
+            int count = 0;
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                if (digits[i] == lid) {
+                    count++;
+                }
+            }
+            counts.set(lid * numBlocks + context.groupIdx, count);
+        }
+    }
+
+    /**
+     * Moves every element to the first position of its (digit, block) pair plus the number of elements before it in
+     * the block with the same digit, which keeps the sort stable.
+     */
+    public static void scatterDigits(KernelContext context, IntArray keys, IntArray values, IntArray sortedKeys, IntArray sortedValues, IntArray offsets, int size, int shift, int numBlocks) {
+        int[] digits = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        int key = 0;
+        int digit = RADIX;
+        if (gid < size) {
+            key = keys.get(gid);
+            digit = ((key ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+        }
+        digits[lid] = digit;
+        context.localBarrier();
+        if (gid < size) {
+            int rank = 0;
+            for (int i = 0; i < lid; i++) {
+                if (digits[i] == digit) {
+                    rank++;
+                }
+            }
+            int position = offsets.get(digit * numBlocks + context.groupIdx) + rank;
+            sortedKeys.set(position, key);
+            sortedValues.set(position, values.get(gid));
+        }
+    }
+}
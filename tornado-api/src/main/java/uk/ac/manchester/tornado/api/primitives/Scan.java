@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Device-wide prefix sum of an {@link IntArray} or a {@link FloatArray}. An inclusive scan writes
+ * {@code output[i] = input[0] + ... + input[i]}, and an exclusive scan writes
+ * {@code output[i] = input[0] + ... + input[i - 1]}, with {@code output[0] = 0}.
+ *
+ * <p>
+ * The scan runs in three tasks: each work-group scans its block in local memory and writes the sum of the block
+ * ({@code <id>_blocks}), a single work-group scans the block sums ({@code <id>_sums}), and each block adds the sum
+ * of the blocks before it ({@code <id>_offsets}). The input and the output may be the same array.
+ * </p>
+ */
+public final class Scan extends DevicePrimitive {
+
+    private final TornadoNativeArray input;
+    private final TornadoNativeArray output;
+    private final TornadoNativeArray blockSums;
+    private final int size;
+    private final boolean exclusive;
+
+    private Scan(TornadoNativeArray input, TornadoNativeArray output, TornadoNativeArray blockSums, boolean exclusive) {
+        checkSize("The output", output.getSize(), input.getSize());
+        this.input = input;
+        this.output = output;
+        this.blockSums = blockSums;
+        this.size = input.getSize();
+        this.exclusive = exclusive;
+    }
+
+    public static Scan exclusive(IntArray input, IntArray output) {
+        return new Scan(input, output, new IntArray(numBlocks(input.getSize())), true);
+    }
+
+    public static Scan inclusive(IntArray input, IntArray output) {
+        return new Scan(input, output, new IntArray(numBlocks(input.getSize())), false);
+    }
+
+    public static Scan exclusive(FloatArray input, FloatArray output) {
+        return new Scan(input, output, new FloatArray(numBlocks(input.getSize())), true);
+    }
+
+    public static Scan inclusive(FloatArray input, FloatArray output) {
+        return new Scan(input, output, new FloatArray(numBlocks(input.getSize())), false);
+    }
+
+    @Override
+    public TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler) {
+        int numBlocks = numBlocks(size);
+        int mode = exclusive ? 1 : 0;
+        if (input instanceof IntArray intInput) {
+            IntArray intOutput = (IntArray) output;
+            IntArray intSums = (IntArray) blockSums;
+            taskGraph.task(id + "_blocks", Scan::scanBlocks, context, intInput, intOutput, intSums, size, mode);
+            taskGraph.task(id + "_sums", Scan::scanBlockSums, context, intSums, numBlocks);
+            taskGraph.task(id + "_offsets", Scan::addBlockOffsets, context, intOutput, intSums, size);
+        } else {
+            FloatArray floatInput = (FloatArray) input;
+            FloatArray floatOutput = (FloatArray) output;
+            FloatArray floatSums = (FloatArray) blockSums;
+            taskGraph.task(id + "_blocks", Scan::scanBlocks, context, floatInput, floatOutput, floatSums, size, mode);
+            taskGraph.task(id + "_sums", Scan::scanBlockSums, context, floatSums, numBlocks);
+            taskGraph.task(id + "_offsets", Scan::addBlockOffsets, context, floatOutput, floatSums, size);
+        }
+        addGrid(taskGraph, gridScheduler, id + "_blocks", numBlocks);
+        addGrid(taskGraph, gridScheduler, id + "_sums", 1);
+        addGrid(taskGraph, gridScheduler, id + "_offsets", numBlocks);
+        return taskGraph;
+    }
+
+    /**
+     * Scans each block of {@link #BLOCK_SIZE} elements with the Hillis-Steele algorithm, and stores the total of the
+     * block in {@code blockSums[groupIdx]}.
+     */
+    public static void scanBlocks(KernelContext context, IntArray input, IntArray output, IntArray blockSums, int size, int exclusive) {
+        int[] local = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        local[lid] = gid < size ? input.get(gid) : 0;
+        for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+            context.localBarrier();
+            int value = lid >= offset ? local[lid - offset] : 0;
+            context.localBarrier();
+            local[lid] += value;
+        }
+        context.localBarrier();
+        if (lid == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, local[lid]);
+        }
+        int result = local[lid];
+        if (exclusive != 0) {
+            result = lid > 0 ? local[lid - 1] : 0;
+        }
+        if (gid < size) {
+            output.set(gid, result);
+        }
+    }
+
+    public static void scanBlocks(KernelContext context, FloatArray input, FloatArray output, FloatArray blockSums, int size, int exclusive) {
+        float[] local = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        local[lid] = gid < size ? input.get(gid) : 0.0f;
+        for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+            context.localBarrier();
+            float value = lid >= offset ? local[lid - offset] : 0.0f;
+            context.localBarrier();
+            local[lid] += value;
+        }
+        context.localBarrier();
+        if (lid == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, local[lid]);
+        }
+        float result = local[lid];
+        if (exclusive != 0) {
+            result = lid > 0 ? local[lid - 1] : 0.0f;
+        }
+        if (gid < size) {
+            output.set(gid, result);
+        }
+    }
+
+    /**
+     * Replaces the block sums with their exclusive scan. It runs in a single work-group, which walks over the block
+     * sums in chunks of {@link #BLOCK_SIZE} and carries the total of the previous chunks.
+     */
+    public static void scanBlockSums(KernelContext context, IntArray blockSums, int numBlocks) {
+        int[] local = context.allocateIntLocalArray(BLOCK_SIZE);
+        int lid = context.localIdx;
+        int carry = 0;
+        for (int base = 0; base < numBlocks; base += BLOCK_SIZE) {
+            int index = base + lid;
+            local[lid] = index < numBlocks ? blockSums.get(index) : 0;
+            for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+                context.localBarrier();
+                int value = lid >= offset ? local[lid - offset] : 0;
+                context.localBarrier();
+                local[lid] += value;
+            }
+            context.localBarrier();
+            int previous = lid > 0 ? local[lid - 1] : 0;
+            if (index < numBlocks) {
+                blockSums.set(index, carry + previous);
+            }
+            carry += local[BLOCK_SIZE - 1];
+            context.localBarrier();
+        }
+    }
+
+    public static void scanBlockSums(KernelContext context, FloatArray blockSums, int numBlocks) {
+        float[] local = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int lid = context.localIdx;
+        float carry = 0.0f;
+        for (int base = 0; base < numBlocks; base += BLOCK_SIZE) {
+            int index = base + lid;
+            local[lid] = index < numBlocks ? blockSums.get(index) : 0.0f;
+            for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+                context.localBarrier();
+                float value = lid >= offset ? local[lid - offset] : 0.0f;
+                context.localBarrier();
+                local[lid] += value;
+            }
+            context.localBarrier();
+            float previous = lid > 0 ? local[lid - 1] : 0.0f;
+            if (index < numBlocks) {
+                blockSums.set(index, carry + previous);
+            }
+            carry += local[BLOCK_SIZE - 1];
+            context.localBarrier();
+        }
+    }
+
+    public static void addBlockOffsets(KernelContext context, IntArray output, IntArray blockSums, int size) {
+        int gid = context.globalIdx;
+        if (gid < size) {
+            output.set(gid, output.get(gid) + blockSums.get(context.groupIdx));
+        }
+    }
+
+    public static void addBlockOffsets(KernelContext context, FloatArray output, FloatArray blockSums, int size) {
+        int gid = context.globalIdx;
+        if (gid < size) {
+            output.set(gid, output.get(gid) + blockSums.get(context.groupIdx));
+        }
+    }
+}
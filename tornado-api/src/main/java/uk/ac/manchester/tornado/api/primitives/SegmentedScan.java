@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Device-wide inclusive prefix sum that restarts at every segment head. An element {@code i} with
+ * {@code flags[i] != 0} starts a new segment, so {@code output[i] = input[i]}; every other element adds the output
+ * of the element before it. The first element always starts a segment.
+ *
+ * <p>
+ * The scan has the same three tasks as {@link Scan}: each block scans its values and head flags together in local
+ * memory ({@code <id>_blocks}), a single work-group performs a segmented exclusive scan of the block totals
+ * ({@code <id>_sums}), and each block adds its carry to the elements before its first head ({@code <id>_offsets}).
+ * </p>
+ */
+public final class SegmentedScan extends DevicePrimitive {
+
+    private final TornadoNativeArray input;
+    private final IntArray flags;
+    private final TornadoNativeArray output;
+    private final TornadoNativeArray blockSums;
+    private final IntArray blockFlags;
+    private final int size;
+
+    private SegmentedScan(TornadoNativeArray input, IntArray flags, TornadoNativeArray output, TornadoNativeArray blockSums) {
+        checkSize("The flags", flags.getSize(), input.getSize());
+        checkSize("The output", output.getSize(), input.getSize());
+        this.input = input;
+        this.flags = flags;
+        this.output = output;
+        this.blockSums = blockSums;
+        this.size = input.getSize();
+        this.blockFlags = new IntArray(numBlocks(size));
+    }
+
+    public static SegmentedScan inclusive(IntArray input, IntArray flags, IntArray output) {
+        return new SegmentedScan(input, flags, output, new IntArray(numBlocks(input.getSize())));
+    }
+
+    public static SegmentedScan inclusive(FloatArray input, IntArray flags, FloatArray output) {
+        return new SegmentedScan(input, flags, output, new FloatArray(numBlocks(input.getSize())));
+    }
+
+    @Override
+    public TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler) {
+        int numBlocks = numBlocks(size);
+        if (input instanceof IntArray intInput) {
+            IntArray intOutput = (IntArray) output;
+            IntArray intSums = (IntArray) blockSums;
+            taskGraph.task(id + "_blocks", SegmentedScan::scanSegmentedBlocks, context, intInput, flags, intOutput, intSums, blockFlags, size);
+            taskGraph.task(id + "_sums", SegmentedScan::scanSegmentedBlockSums, context, intSums, blockFlags, numBlocks);
+            taskGraph.task(id + "_offsets", SegmentedScan::addSegmentedBlockOffsets, context, flags, intOutput, intSums, size);
+        } else {
+            FloatArray floatInput = (FloatArray) input;
+            FloatArray floatOutput = (FloatArray) output;
+            FloatArray floatSums = (FloatArray) blockSums;
+            taskGraph.task(id + "_blocks", SegmentedScan::scanSegmentedBlocks, context, floatInput, flags, floatOutput, floatSums, blockFlags, size);
+            taskGraph.task(id + "_sums", SegmentedScan::scanSegmentedBlockSums, context, floatSums, blockFlags, numBlocks);
+            taskGraph.task(id + "_offsets", SegmentedScan::addSegmentedBlockOffsets, context, flags, floatOutput, floatSums, size);
+        }
+        addGrid(taskGraph, gridScheduler, id + "_blocks", numBlocks);
+        addGrid(taskGraph, gridScheduler, id + "_sums", 1);
+        addGrid(taskGraph, gridScheduler, id + "_offsets", numBlocks);
+        return taskGraph;
+    }
+
+    /**
+     * Segmented Hillis-Steele scan of each block. A value is only added to the running sum of an element that has
+     * not seen a head yet, and the head flags are OR-ed, so the pair (value, head) is combined associatively.
+     */
+    public static void scanSegmentedBlocks(KernelContext context, IntArray input, IntArray flags, IntArray output, IntArray blockSums, IntArray blockFlags, int size) {
+        int[] values = context.allocateIntLocalArray(BLOCK_SIZE);
+        int[] heads = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        values[lid] = gid < size ? input.get(gid) : 0;
+        heads[lid] = gid < size && flags.get(gid) != 0 ? 1 : 0;
+        for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+            context.localBarrier();
+            int value = 0;
+            int head = 0;
+            if (lid >= offset) {
+                value = values[lid - offset];
+                head = heads[lid - offset];
+            }
+            context.localBarrier();
+            if (heads[lid] == 0) {
+                values[lid] += value;
+            }
+            heads[lid] |= head;
+        }
+        context.localBarrier();
+        if (lid == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, values[lid]);
+            blockFlags.set(context.groupIdx, heads[lid]);
+        }
+        if (gid < size) {
+            output.set(gid, values[lid]);
+        }
+    }
+
+    public static void scanSegmentedBlocks(KernelContext context, FloatArray input, IntArray flags, FloatArray output, FloatArray blockSums, IntArray blockFlags, int size) {
+        float[] values = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int[] heads = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        values[lid] = gid < size ? input.get(gid) : 0.0f;
+        heads[lid] = gid < size && flags.get(gid) != 0 ? 1 : 0;
+        for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+            context.localBarrier();
+            float value = 0.0f;
+            int head = 0;
+            if (lid >= offset) {
+                value = values[lid - offset];
+                head = heads[lid - offset];
+            }
+            context.localBarrier();
+            if (heads[lid] == 0) {
+                values[lid] += value;
+            }
+            heads[lid] |= head;
+        }
+        context.localBarrier();
+        if (lid == BLOCK_SIZE - 1) {
+            blockSums.set(context.groupIdx, values[lid]);
+            blockFlags.set(context.groupIdx, heads[lid]);
+        }
+        if (gid < size) {
+            output.set(gid, values[lid]);
+        }
+    }
+
+    /**
+     * Replaces the block totals with the carry that flows into each block: a segmented exclusive scan that runs in a
+     * single work-group, in chunks of {@link #BLOCK_SIZE} blocks.
+     */
+    public static void scanSegmentedBlockSums(KernelContext context, IntArray blockSums, IntArray blockFlags, int numBlocks) {
+        int[] values = context.allocateIntLocalArray(BLOCK_SIZE);
+        int[] heads = context.allocateIntLocalArray(BLOCK_SIZE);
+        int lid = context.localIdx;
+        int carry = 0;
+        for (int base = 0; base < numBlocks; base += BLOCK_SIZE) {
+            int index = base + lid;
+            values[lid] = index < numBlocks ? blockSums.get(index) : 0;
+            heads[lid] = index < numBlocks ? blockFlags.get(index) : 0;
+            for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+                context.localBarrier();
+                int value = 0;
+                int head = 0;
+                if (lid >= offset) {
+                    value = values[lid - offset];
+                    head = heads[lid - offset];
+                }
+                context.localBarrier();
+                if (heads[lid] == 0) {
+                    values[lid] += value;
+                }
+                heads[lid] |= head;
+            }
+            context.localBarrier();
+            int result = carry;
+            if (lid > 0) {
+                result = heads[lid - 1] != 0 ? values[lid - 1] : carry + values[lid - 1];
+            }
+            if (index < numBlocks) {
+                blockSums.set(index, result);
+            }
+            carry = heads[BLOCK_SIZE - 1] != 0 ? values[BLOCK_SIZE - 1] : carry + values[BLOCK_SIZE - 1];
+            context.localBarrier();
+        }
+    }
+
+    public static void scanSegmentedBlockSums(KernelContext context, FloatArray blockSums, IntArray blockFlags, int numBlocks) {
+        float[] values = context.allocateFloatLocalArray(BLOCK_SIZE);
+        int[] heads = context.allocateIntLocalArray(BLOCK_SIZE);
+        int lid = context.localIdx;
+        float carry = 0.0f;
+        for (int base = 0; base < numBlocks; base += BLOCK_SIZE) {
+            int index = base + lid;
+            values[lid] = index < numBlocks ? blockSums.get(index) : 0.0f;
+            heads[lid] = index < numBlocks ? blockFlags.get(index) : 0;
+            for (int offset = 1; offset < BLOCK_SIZE; offset <<= 1) {
+                context.localBarrier();
+                float value = 0.0f;
+                int head = 0;
+                if (lid >= offset) {
+                    value = values[lid - offset];
+                    head = heads[lid - offset];
+                }
+                context.localBarrier();
+                if (heads[lid] == 0) {
+                    values[lid] += value;
+                }
+                heads[lid] |= head;
+            }
+            context.localBarrier();
+            float result = carry;
+            if (lid > 0) {
+                result = heads[lid - 1] != 0 ? values[lid - 1] : carry + values[lid - 1];
+            }
+            if (index < numBlocks) {
+                blockSums.set(index, result);
+            }
+            carry = heads[BLOCK_SIZE - 1] != 0 ? values[BLOCK_SIZE - 1] : carry + values[BLOCK_SIZE - 1];
+            context.localBarrier();
+        }
+    }
+
+    /**
+     * Adds the carry of each block to the elements that come before the first head of the block, which is found with
+     * a min-reduction in local memory.
+     */
+    public static void addSegmentedBlockOffsets(KernelContext context, IntArray flags, IntArray output, IntArray blockSums, int size) {
+        int[] firstHead = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        firstHead[lid] = gid < size && flags.get(gid) != 0 ? lid : BLOCK_SIZE;
+        for (int stride = BLOCK_SIZE / 2; stride > 0; stride >>= 1) {
+            context.localBarrier();
+            if (lid < stride) {
+                firstHead[lid] = TornadoMath.min(firstHead[lid], firstHead[lid + stride]);
+            }
+        }
+        context.localBarrier();
+        if (gid < size && lid < firstHead[0]) {
+            output.set(gid, output.get(gid) + blockSums.get(context.groupIdx));
+        }
+    }
+
+    public static void addSegmentedBlockOffsets(KernelContext context, IntArray flags, FloatArray output, FloatArray blockSums, int size) {
+        int[] firstHead = context.allocateIntLocalArray(BLOCK_SIZE);
+        int gid = context.globalIdx;
+        int lid = context.localIdx;
+        firstHead[lid] = gid < size && flags.get(gid) != 0 ? lid : BLOCK_SIZE;
+        for (int stride = BLOCK_SIZE / 2; stride > 0; stride >>= 1) {
+            context.localBarrier();
+            if (lid < stride) {
+                firstHead[lid] = TornadoMath.min(firstHead[lid], firstHead[lid + stride]);
+            }
+        }
+        context.localBarrier();
+        if (gid < size && lid < firstHead[0]) {
+            output.set(gid, output.get(gid) + blockSums.get(context.groupIdx));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Sequential Java implementations of the device primitives of this package. They define the expected result of each
+ * primitive, and they are used to validate the device versions and as the baseline of the benchmarks.
+ */
+public final class SequentialPrimitives {
+
+    private SequentialPrimitives() {
+    }
+
+    public static void exclusiveScan(IntArray input, IntArray output) {
+        int sum = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            int value = input.get(i);
+            output.set(i, sum);
+            sum += value;
+        }
+    }
+
+    public static void inclusiveScan(IntArray input, IntArray output) {
+        int sum = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            sum += input.get(i);
+            output.set(i, sum);
+        }
+    }
+
+    public static void exclusiveScan(FloatArray input, FloatArray output) {
+        float sum = 0.0f;
+        for (int i = 0; i < input.getSize(); i++) {
+            float value = input.get(i);
+            output.set(i, sum);
+            sum += value;
+        }
+    }
+
+    public static void inclusiveScan(FloatArray input, FloatArray output) {
+        float sum = 0.0f;
+        for (int i = 0; i < input.getSize(); i++) {
+            sum += input.get(i);
+            output.set(i, sum);
+        }
+    }
+
+    public static void segmentedInclusiveScan(IntArray input, IntArray flags, IntArray output) {
+        int sum = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            sum = flags.get(i) != 0 ? input.get(i) : sum + input.get(i);
+            output.set(i, sum);
+        }
+    }
+
+    public static void segmentedInclusiveScan(FloatArray input, IntArray flags, FloatArray output) {
+        float sum = 0.0f;
+        for (int i = 0; i < input.getSize(); i++) {
+            sum = flags.get(i) != 0 ? input.get(i) : sum + input.get(i);
+            output.set(i, sum);
+        }
+    }
+
+    /**
+     * @return The number of elements copied to the output.
+     */
+    public static int compact(IntArray input, IntArray flags, IntArray output) {
+        int count = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            if (flags.get(i) != 0) {
+                output.set(count++, input.get(i));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return The number of elements copied to the output.
+     */
+    public static int compact(FloatArray input, IntArray flags, FloatArray output) {
+        int count = 0;
+        for (int i = 0; i < input.getSize(); i++) {
+            if (flags.get(i) != 0) {
+                output.set(count++, input.get(i));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Stable sort of the keys in ascending order, which applies the same permutation to the values.
+     */
+    public static void sort(IntArray keys, IntArray values) {
+        Integer[] order = sortedOrder(keys.getSize(), Comparator.comparingInt(keys::get));
+        int[] sortedKeys = new int[order.length];
+        int[] sortedValues = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys.get(order[i]);
+            sortedValues[i] = values.get(order[i]);
+        }
+        for (int i = 0; i < order.length; i++) {
+            keys.set(i, sortedKeys[i]);
+            values.set(i, sortedValues[i]);
+        }
+    }
+
+    /**
+     * Stable sort of the keys in ascending order, which applies the same permutation to the values.
+     */
+    public static void sort(FloatArray keys, IntArray values) {
+        // Adding 0.0f turns -0.0f into 0.0f, so that both zeros compare as equal, as in MergeSort.
+        Integer[] order = sortedOrder(keys.getSize(), (a, b) -> Float.compare(keys.get(a) + 0.0f, keys.get(b) + 0.0f));
+        float[] sortedKeys = new float[order.length];
+        int[] sortedValues = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys.get(order[i]);
+            sortedValues[i] = values.get(order[i]);
+        }
+        for (int i = 0; i < order.length; i++) {
+            keys.set(i, sortedKeys[i]);
+            values.set(i, sortedValues[i]);
+        }
+    }
+
+    public static void histogram(IntArray input, IntArray bins) {
+        bins.init(0);
+        for (int i = 0; i < input.getSize(); i++) {
+            int value = input.get(i);
+            if (value >= 0 && value < bins.getSize()) {
+                bins.set(value, bins.get(value) + 1);
+            }
+        }
+    }
+
+    private static Integer[] sortedOrder(int size, Comparator<Integer> comparator) {
+        Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, comparator);
+        return order;
+    }
+}
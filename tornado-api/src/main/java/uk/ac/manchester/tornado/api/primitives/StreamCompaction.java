@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.primitives;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Device-wide stream compaction: copies the elements {@code input[i]} with {@code flags[i] == 1} to the front of
+ * the output, in their original order, and stores how many were copied in {@code count[0]}. The flags must be 0 or
+ * 1, and the output must be a different array from the input.
+ *
+ * <p>
+ * A filter is a compaction whose flags are written by a previous task of the same graph, for instance:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * public static void isPositive(FloatArray input, IntArray flags) {
+ *     for (@Parallel int i = 0; i < input.getSize(); i++) {
+ *         flags.set(i, input.get(i) > 0 ? 1 : 0);
+ *     }
+ * }
+ *
+ * taskGraph.task("predicate", Kernels::isPositive, input, flags);
+ * StreamCompaction.of(input, flags, output, count).addTo(taskGraph, "filter", gridScheduler);
+ * }
+ * </pre>
+ *
+ * <p>
+ * The compaction runs an exclusive {@link Scan} of the flags ({@code <id>_scan_*}), which gives the position of each
+ * selected element, followed by a scatter task ({@code <id>_scatter}).
+ * </p>
+ */
+public final class StreamCompaction extends DevicePrimitive {
+
+    private final TornadoNativeArray input;
+    private final IntArray flags;
+    private final TornadoNativeArray output;
+    private final IntArray count;
+    private final IntArray positions;
+    private final Scan scan;
+    private final int size;
+
+    private StreamCompaction(TornadoNativeArray input, IntArray flags, TornadoNativeArray output, IntArray count) {
+        checkSize("The flags", flags.getSize(), input.getSize());
+        checkSize("The output", output.getSize(), input.getSize());
+        checkSize("The count", count.getSize(), 1);
+        this.input = input;
+        this.flags = flags;
+        this.output = output;
+        this.count = count;
+        this.size = input.getSize();
+        this.positions = new IntArray(size);
+        this.scan = Scan.exclusive(flags, positions);
+    }
+
+    public static StreamCompaction of(IntArray input, IntArray flags, IntArray output, IntArray count) {
+        return new StreamCompaction(input, flags, output, count);
+    }
+
+    public static StreamCompaction of(FloatArray input, IntArray flags, FloatArray output, IntArray count) {
+        return new StreamCompaction(input, flags, output, count);
+    }
+
+    @Override
+    public TaskGraph addTo(TaskGraph taskGraph, String id, GridScheduler gridScheduler) {
+        scan.addTo(taskGraph, id + "_scan", gridScheduler);
+        if (input instanceof IntArray intInput) {
+            taskGraph.task(id + "_scatter", StreamCompaction::scatter, context, intInput, flags, positions, (IntArray) output, count, size);
+        } else {
+            taskGraph.task(id + "_scatter", StreamCompaction::scatter, context, (FloatArray) input, flags, positions, (FloatArray) output, count, size);
+        }
+        addGrid(taskGraph, gridScheduler, id + "_scatter", numBlocks(size));
+        return taskGraph;
+    }
+
+    public static void scatter(KernelContext context, IntArray input, IntArray flags, IntArray positions, IntArray output, IntArray count, int size) {
+        int gid = context.globalIdx;
+        if (gid < size) {
+            int position = positions.get(gid);
+            int flag = flags.get(gid);
+            if (flag != 0) {
+                output.set(position, input.get(gid));
+            }
+            if (gid == size - 1) {
+                count.set(0, position + flag);
+            }
+        }
+    }
+
+    public static void scatter(KernelContext context, FloatArray input, IntArray flags, IntArray positions, FloatArray output, IntArray count, int size) {
+        int gid = context.globalIdx;
+        if (gid < size) {
+            int position = positions.get(gid);
+            int flag = flags.get(gid);
+            if (flag != 0) {
+                output.set(position, input.get(gid));
+            }
+            if (gid == size - 1) {
+                count.set(0, position + flag);
+            }
+        }
+    }
+}
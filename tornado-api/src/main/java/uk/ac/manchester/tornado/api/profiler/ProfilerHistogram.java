@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.profiler;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of the distribution of a profiler timer (in nanoseconds) over all the executions recorded by the
+ * profiler of a task-graph.
+ *
+ * <p>
+ * Values are stored in log-linear buckets, as in HDR histograms: values below {@code 2 * }{@value #SUB_BUCKETS} are
+ * kept exactly, and every power of two above is split in {@value #SUB_BUCKETS} linear sub-buckets. The value reported
+ * for a percentile is therefore within {@code 1/}{@value #SUB_BUCKETS} (~1.6%) of the recorded value.
+ * </p>
+ */
+public final class ProfilerHistogram {
+
+    /**
+     * Number of linear sub-buckets for each power of two.
+     */
+    public static final int SUB_BUCKETS = 64;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int EXACT_VALUES = 2 * SUB_BUCKETS;
+    private static final int FIRST_EXPONENT = SUB_BUCKET_BITS + 1;
+
+    /**
+     * Number of buckets needed to hold any positive {@code long} value.
+     */
+    public static final int NUM_BUCKETS = EXACT_VALUES + (Long.SIZE - 1 - FIRST_EXPONENT) * SUB_BUCKETS;
+
+    public static final ProfilerHistogram EMPTY = new ProfilerHistogram(new long[NUM_BUCKETS], 0, 0, 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long min;
+    private final long max;
+    private final long sum;
+
+    /**
+     * Builds a histogram from its bucket counts. The array is owned by the histogram after this call.
+     *
+     * @param counts
+     *     Number of values recorded in each bucket, indexed by {@link #bucketIndex(long)}.
+     * @param min
+     *     Minimum value recorded.
+     * @param max
+     *     Maximum value recorded.
+     * @param sum
+     *     Sum of all the values recorded.
+     */
+    public ProfilerHistogram(long[] counts, long min, long max, long sum) {
+        if (counts.length != NUM_BUCKETS) {
+            throw new IllegalArgumentException("Expected " + NUM_BUCKETS + " buckets, but got " + counts.length);
+        }
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        this.counts = counts;
+        this.count = total;
+        this.min = total == 0 ? 0 : min;
+        this.max = total == 0 ? 0 : max;
+        this.sum = total == 0 ? 0 : sum;
+    }
+
+    /**
+     * Index of the bucket that holds the given value. Negative values are counted as zero.
+     */
+    public static int bucketIndex(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) Math.max(value, 0);
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return EXACT_VALUES + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest value that is stored in the given bucket.
+     */
+    public static long bucketUpperBound(int index) {
+        if (index < EXACT_VALUES) {
+            return index;
+        }
+        int exponent = FIRST_EXPONENT + (index - EXACT_VALUES) / SUB_BUCKETS;
+        int subBucket = (index - EXACT_VALUES) % SUB_BUCKETS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lower + ((1L << shift) - 1);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Value below which the given percentage of the recorded values fall.
+     *
+     * @param percentile
+     *     Percentile in the range [0, 100].
+     * @return The highest value of the bucket that holds the percentile, capped to the range of recorded values, or 0 if
+     *     nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        long rank = Math.max(1, (long) Math.ceil(clamped / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(bucketUpperBound(i), max));
+            }
+        }
+        return max;
+    }
+
+    public long getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Returns a new histogram with the values of this histogram and the given one.
+     */
+    public ProfilerHistogram merge(ProfilerHistogram other) {
+        if (other.count == 0) {
+            return this;
+        } else if (count == 0) {
+            return other;
+        }
+        long[] merged = Arrays.copyOf(counts, NUM_BUCKETS);
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new ProfilerHistogram(merged, Math.min(min, other.min), Math.max(max, other.max), sum + other.sum);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", min=" + min + ", p50=" + getP50() + ", p99=" + getP99() + ", p999=" + getP999() + ", max=" + max;
+    }
+}
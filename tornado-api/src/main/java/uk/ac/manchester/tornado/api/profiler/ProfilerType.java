@@ -41,6 +41,9 @@ public enum ProfilerType {
 
     TASK_CODE_GENERATION_TIME("Task-Code-Generation"),
     TASK_KERNEL_TIME("Task-Kernel"),
+    TASK_KERNEL_VARIANT_HITS("Task-Kernel-Variant-Hits"),
+    TASK_KERNEL_VARIANT_MISSES("Task-Kernel-Variant-Misses"),
+    TASK_RECOMPILATIONS("Task-Recompilations"),
     TOTAL_BYTE_CODE_GENERATION("Total-Bytecode-Gen"),
     TOTAL_DRIVER_COMPILE_TIME("Total-Driver-Compilation-Time"),
     TOTAL_GRAAL_COMPILE_TIME("Total-Graal-Compilation-Time"),
@@ -63,4 +63,14 @@ public interface TornadoProfiler {
 
     void sum(ProfilerType type, long timer);
 
+    /**
+     * Distribution of a task-graph timer across all the executions recorded by this profiler.
+     */
+    ProfilerHistogram getHistogram(ProfilerType type);
+
+    /**
+     * Distribution of a task timer across all the executions recorded by this profiler.
+     */
+    ProfilerHistogram getTaskHistogram(ProfilerType type, String taskName);
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.selection;
+
+/**
+ * Device selection policies provided by TornadoVM.
+ */
+public enum DefaultDeviceSelectionPolicy implements DeviceSelectionPolicy {
+
+    /**
+     * Selects the device with the lowest mean end-to-end time of the task-graph, including the data transfers. This
+     * maximises the throughput of repeated executions.
+     */
+    END_TO_END {
+        @Override
+        public double score(DeviceCost cost) {
+            return cost.getMeanTime();
+        }
+    },
+
+    /**
+     * Selects the device with the lowest 95th percentile of the end-to-end time of the task-graph. This favours
+     * devices with a stable latency over devices that are faster on average but show outliers.
+     */
+    LATENCY {
+        @Override
+        public double score(DeviceCost cost) {
+            return cost.getTimeAtPercentile(95.0);
+        }
+    };
+
+    @Override
+    public String getName() {
+        return name();
+    }
+}
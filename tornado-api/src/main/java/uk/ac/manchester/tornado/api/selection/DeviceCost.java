@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.selection;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+
+/**
+ * Snapshot of the costs measured for a task-graph on a candidate device, for inputs of a given size. Times are in
+ * nanoseconds. The first execution on each device is not measured, as it includes the compilation of the kernels.
+ */
+public final class DeviceCost {
+
+    private final TornadoDevice device;
+    private final int sizeBucket;
+    private final long[] times;
+    private final long meanKernelTime;
+    private final long meanTransferTime;
+
+    /**
+     * Builds the cost of a device.
+     *
+     * @param device
+     *     Candidate device.
+     * @param sizeBucket
+     *     Size bucket of the inputs: the inputs of the task-graph have less than {@code 2^sizeBucket} bytes.
+     * @param times
+     *     End-to-end times measured for the task-graph. The array is owned by the cost after this call.
+     * @param meanKernelTime
+     *     Mean time of the kernels, or -1 if the profiler was disabled.
+     * @param meanTransferTime
+     *     Mean time of the data transfers, or -1 if the profiler was disabled.
+     */
+    public DeviceCost(TornadoDevice device, int sizeBucket, long[] times, long meanKernelTime, long meanTransferTime) {
+        if (times.length == 0) {
+            throw new IllegalArgumentException("At least one measurement is needed for device " + device);
+        }
+        this.device = device;
+        this.sizeBucket = sizeBucket;
+        this.times = times;
+        this.meanKernelTime = meanKernelTime;
+        this.meanTransferTime = meanTransferTime;
+        Arrays.sort(this.times);
+    }
+
+    public TornadoDevice getDevice() {
+        return device;
+    }
+
+    public int getSizeBucket() {
+        return sizeBucket;
+    }
+
+    public int getSamples() {
+        return times.length;
+    }
+
+    public double getMeanTime() {
+        double sum = 0;
+        for (long time : times) {
+            sum += time;
+        }
+        return sum / times.length;
+    }
+
+    public long getMinTime() {
+        return times[0];
+    }
+
+    public long getMaxTime() {
+        return times[times.length - 1];
+    }
+
+    /**
+     * End-to-end time below which the given percentage of the measurements fall.
+     *
+     * @param percentile
+     *     Percentile in the range [0, 100].
+     * @return The time of the measurement at the given percentile (nearest rank).
+     */
+    public long getTimeAtPercentile(double percentile) {
+        double clamped = Math.min(Math.max(percentile, 0.0), 100.0);
+        int rank = (int) Math.ceil(clamped / 100.0 * times.length);
+        return times[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Mean time of the kernels, or -1 if the profiler was disabled while measuring.
+     */
+    public long getMeanKernelTime() {
+        return meanKernelTime;
+    }
+
+    /**
+     * Mean time of the data transfers, or -1 if the profiler was disabled while measuring.
+     */
+    public long getMeanTransferTime() {
+        return meanTransferTime;
+    }
+
+    @Override
+    public String toString() {
+        return device.getDeviceName() + ": samples=" + times.length + ", mean=" + (long) getMeanTime() + ", p95=" + getTimeAtPercentile(95.0) + ", kernel=" + meanKernelTime + ", transfers="
+                + meanTransferTime;
+    }
+}
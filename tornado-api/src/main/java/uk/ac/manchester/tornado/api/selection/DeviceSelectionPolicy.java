@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.selection;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Policy used by the runtime to pick the device of a task-graph from the costs measured on each candidate device. The
+ * policy is enabled with {@link uk.ac.manchester.tornado.api.TornadoExecutionPlan#withDeviceSelection}.
+ *
+ * <p>
+ * The runtime executes the task-graph on every candidate device (including the host, if the JVM backend is enabled)
+ * and, once all of them have been measured, it keeps the device with the lowest score for the size of the inputs.
+ * Decisions are stored under the name of the policy, so a custom policy should return a stable name.
+ * </p>
+ */
+public interface DeviceSelectionPolicy {
+
+    /**
+     * Score of a candidate device. Lower is better.
+     *
+     * @param cost
+     *     Costs measured for the device.
+     * @return The score of the device.
+     */
+    double score(DeviceCost cost);
+
+    /**
+     * Name used to persist the decisions of the policy across JVM runs.
+     */
+    default String getName() {
+        return getClass().getName();
+    }
+
+    /**
+     * Picks the device to use from the costs measured on each candidate.
+     *
+     * @param costs
+     *     Costs of the devices that have been measured. The list is never empty.
+     * @return The cost of the selected device.
+     */
+    default DeviceCost select(List<DeviceCost> costs) {
+        return costs.stream().min(Comparator.comparingDouble(this::score)).orElseThrow();
+    }
+}
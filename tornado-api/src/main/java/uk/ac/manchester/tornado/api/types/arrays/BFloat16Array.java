@@ -21,10 +21,16 @@ import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 import uk.ac.manchester.tornado.api.types.BFloat16;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT_UNALIGNED;
 
 /**
  * A native array of bfloat16 values (see {@link BFloat16}) stored in off-heap memory. Each element is the two-byte raw bfloat16 bit pattern held in a {@link MemorySegment}; this is a type-safe
@@ -57,11 +63,34 @@ public final class BFloat16Array extends TornadoNativeArray {
      *         The number of elements in the array.
      */
     public BFloat16Array(int numberOfElements) {
-        this.numberOfElements = numberOfElements;
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link BFloat16Array} that will store a user-specified number of elements, which can exceed {@link Integer#MAX_VALUE}. The elements beyond that index are accessed with
+     * the {@code long}-indexed accessors, and the size of the array is obtained with {@link #getSizeLong()}.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     */
+    public BFloat16Array(long numberOfElements) {
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link BFloat16Array} that will store a user-specified number of elements, allocated from the given allocator.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     * @param allocator
+     *         The allocator (e.g., an {@link java.lang.foreign.Arena}) used to allocate the off-heap memory of the array.
+     */
+    public BFloat16Array(long numberOfElements, SegmentAllocator allocator) {
+        this.numberOfElements = toIntSize(numberOfElements);
         arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         baseIndex = arrayHeaderSize / BF16_BYTES;
-        segmentByteSize = (long) numberOfElements * BF16_BYTES + arrayHeaderSize;
-        segment = new TornadoMemorySegment(segmentByteSize, numberOfElements);
+        segmentByteSize = numberOfElements * BF16_BYTES + arrayHeaderSize;
+        segment = new TornadoMemorySegment(segmentByteSize, this.numberOfElements, allocator);
     }
 
     /**
@@ -77,7 +106,7 @@ public final class BFloat16Array extends TornadoNativeArray {
         // Calculate number of elements from segment size
         long dataSize = existingSegment.byteSize() - arrayHeaderSize;
         ensureMultipleOfElementSize(dataSize, BF16_BYTES);
-        this.numberOfElements = (int) (dataSize / BF16_BYTES);
+        this.numberOfElements = toIntSize(dataSize / BF16_BYTES);
 
         // Set up the segment and initialize header
         this.segmentByteSize = existingSegment.byteSize();
@@ -85,6 +114,18 @@ public final class BFloat16Array extends TornadoNativeArray {
         this.segment.getSegment().setAtIndex(JAVA_INT, 0, numberOfElements);
     }
 
+    /**
+     * Constructs a view of a range of elements of the parent array. The view shares the memory of the parent, and its header is kept apart, so the data of the parent is never overwritten.
+     */
+    private BFloat16Array(BFloat16Array parent, int offset, int length) {
+        this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        this.baseIndex = arrayHeaderSize / BF16_BYTES;
+        this.numberOfElements = length;
+        this.segmentByteSize = TornadoNativeArray.ARRAY_HEADER + (long) length * BF16_BYTES;
+        this.segment = new TornadoMemorySegment(parent.segment.getSegment().asSlice((long) offset * BF16_BYTES, segmentByteSize));
+        initView(parent, offset, length);
+    }
+
     /**
      * Constructs a new {@link BFloat16Array} instance by concatenating the contents of the given array of {@link BFloat16Array} instances.
      *
@@ -104,9 +145,7 @@ public final class BFloat16Array extends TornadoNativeArray {
      */
     public static BFloat16Array fromShorts(short... bits) {
         BFloat16Array array = new BFloat16Array(bits.length);
-        for (int i = 0; i < bits.length; i++) {
-            array.set(i, bits[i]);
-        }
+        MemorySegment.copy(bits, 0, array.getSegment(), JAVA_SHORT_UNALIGNED, 0, bits.length);
         return array;
     }
 
@@ -119,9 +158,7 @@ public final class BFloat16Array extends TornadoNativeArray {
      */
     public static BFloat16Array fromFloats(float... values) {
         BFloat16Array array = new BFloat16Array(values.length);
-        for (int i = 0; i < values.length; i++) {
-            array.setFloat(i, values[i]);
-        }
+        NativeArrayConversions.floatsToBFloat16(values, array.getSegment());
         return array;
     }
 
@@ -134,7 +171,7 @@ public final class BFloat16Array extends TornadoNativeArray {
      */
     public static BFloat16Array fromSegment(MemorySegment segment) {
         long byteSize = segment.byteSize();
-        int numElements = (int) (byteSize / BF16_BYTES);
+        long numElements = byteSize / BF16_BYTES;
         ensureMultipleOfElementSize(byteSize, BF16_BYTES);
         BFloat16Array bfloat16Array = new BFloat16Array(numElements);
         MemorySegment.copy(segment, 0, bfloat16Array.segment.getSegment(), (long) bfloat16Array.baseIndex * BF16_BYTES, byteSize);
@@ -152,6 +189,47 @@ public final class BFloat16Array extends TornadoNativeArray {
         return new BFloat16Array(segment);
     }
 
+    /**
+     * Creates a new instance of the {@link BFloat16Array} class that maps a region of a file holding only the array data (without the TornadoVM header). If possible, the data is not copied: it is
+     * shared with other processes through the page cache. See {@link NativeArrayFiles#mapDataView}.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the first element within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link BFloat16Array} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static BFloat16Array fromFile(Path file, long dataOffset, int numberOfElements, Arena arena) throws IOException {
+        return new BFloat16Array(NativeArrayFiles.mapDataView(file, dataOffset, (long) numberOfElements * BF16_BYTES, arena));
+    }
+
+    /**
+     * Creates a new instance of the {@link BFloat16Array} class that maps a file region in the header-compatible layout, as written by {@link NativeArrayFiles#write}.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the array header within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param mode
+     *         {@link FileChannel.MapMode#READ_WRITE} to write the modifications back to the file, or {@link FileChannel.MapMode#PRIVATE} to keep them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link BFloat16Array} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static BFloat16Array fromFileWithHeader(Path file, long offset, int numberOfElements, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return new BFloat16Array(NativeArrayFiles.mapWithHeader(file, offset, (long) numberOfElements * BF16_BYTES, mode, arena));
+    }
+
     /**
      * Concatenates multiple {@link BFloat16Array} instances into a single {@link BFloat16Array}.
      *
@@ -191,12 +269,19 @@ public final class BFloat16Array extends TornadoNativeArray {
      */
     public short[] toShortArray() {
         short[] outputArray = new short[getSize()];
-        for (int i = 0; i < getSize(); i++) {
-            outputArray[i] = get(i);
-        }
+        MemorySegment.copy(getSegment(), JAVA_SHORT_UNALIGNED, 0, outputArray, 0, outputArray.length);
         return outputArray;
     }
 
+    /**
+     * Decodes the bfloat16 values of this array into a new on-heap {@code float} array.
+     *
+     * @return A new {@code float} array with the decoded values.
+     */
+    public float[] toFloatArray() {
+        return NativeArrayConversions.bfloat16ToFloats(getSegment(), getSize());
+    }
+
     /**
      * Sets the raw bfloat16 bit pattern at a specified index.
      *
@@ -221,6 +306,29 @@ public final class BFloat16Array extends TornadoNativeArray {
         return segment.getShortAtIndex(index, baseIndex);
     }
 
+    /**
+     * Sets the short value at a specified index of the {@link BFloat16Array} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index at which to set the value.
+     * @param bits
+     *         The value to store at the specified index.
+     */
+    public void set(long index, short bits) {
+        segment.setAtIndex(index, bits, baseIndex);
+    }
+
+    /**
+     * Gets the short value stored at the specified index of the {@link BFloat16Array} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index of which to retrieve the value.
+     * @return The value stored at the specified index.
+     */
+    public short get(long index) {
+        return segment.getShortAtIndex(index, baseIndex);
+    }
+
     /**
      * Host-side convenience: encodes a float to bfloat16 and stores it at the given index.
      *
@@ -264,7 +372,7 @@ public final class BFloat16Array extends TornadoNativeArray {
      *         The raw bfloat16 bit pattern.
      */
     public void init(short bits) {
-        for (int i = 0; i < getSize(); i++) {
+        for (long i = 0; i < getSizeLong(); i++) {
             segment.setAtIndex(i, bits, baseIndex);
         }
     }
@@ -342,4 +450,27 @@ public final class BFloat16Array extends TornadoNativeArray {
         return slice;
     }
 
+    /**
+     * Creates a view of a range of elements of the {@link BFloat16Array} instance. Contrary to {@link #slice(int, int)}, the view does not copy the data on the host: reads and writes through the view are reflected in
+     * this array and vice versa.
+     *
+     * <p>
+     * The view can be passed to a task-graph like any other array. On the device, the view has its own buffer: the data of the view is transferred from and to the memory it shares with
+     * this array, and its header is written separately. Views cannot be mapped to the device buffer of another array with {@code TornadoExecutionPlan#mapOnDeviceMemoryRegion}, because the kernels
+     * would read the data in front of the view as its header.
+     * </p>
+     *
+     * @param offset
+     *         The starting index of the view, inclusive.
+     * @param length
+     *         The number of elements of the view.
+     * @return A new {@link BFloat16Array} instance that shares the memory of this array.
+     * @throws IllegalArgumentException
+     *         if the specified range is out of the bounds of the array.
+     */
+    public BFloat16Array view(int offset, int length) {
+        checkViewBounds(offset, length);
+        return new BFloat16Array(this, offset, length);
+    }
+
 }
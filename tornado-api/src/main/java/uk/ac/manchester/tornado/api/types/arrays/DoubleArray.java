@@ -20,10 +20,16 @@ package uk.ac.manchester.tornado.api.types.arrays;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
 import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
 
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE_UNALIGNED;
 import static java.lang.foreign.ValueLayout.JAVA_INT;
 
 /**
@@ -49,12 +55,35 @@ public final class DoubleArray extends TornadoNativeArray {
      *         The number of elements in the array.
      */
     public DoubleArray(int numberOfElements) {
-        this.numberOfElements = numberOfElements;
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link DoubleArray} that will store a user-specified number of elements, which can exceed {@link Integer#MAX_VALUE}. The elements beyond that index are accessed with
+     * the {@code long}-indexed accessors, and the size of the array is obtained with {@link #getSizeLong()}.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     */
+    public DoubleArray(long numberOfElements) {
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link DoubleArray} that will store a user-specified number of elements, allocated from the given allocator.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     * @param allocator
+     *         The allocator (e.g., an {@link java.lang.foreign.Arena}) used to allocate the off-heap memory of the array.
+     */
+    public DoubleArray(long numberOfElements, SegmentAllocator allocator) {
+        this.numberOfElements = toIntSize(numberOfElements);
         arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         assert arrayHeaderSize >= 8;
         baseIndex = arrayHeaderSize / DOUBLE_BYTES;
-        segmentByteSize = (long) numberOfElements * DOUBLE_BYTES + arrayHeaderSize;
-        segment = new TornadoMemorySegment(segmentByteSize, numberOfElements);
+        segmentByteSize = numberOfElements * DOUBLE_BYTES + arrayHeaderSize;
+        segment = new TornadoMemorySegment(segmentByteSize, this.numberOfElements, allocator);
     }
 
     /**
@@ -70,7 +99,7 @@ public final class DoubleArray extends TornadoNativeArray {
         // Calculate number of elements from segment size
         long dataSize = existingSegment.byteSize() - arrayHeaderSize;
         ensureMultipleOfElementSize(dataSize, DOUBLE_BYTES);
-        this.numberOfElements = (int) (dataSize / DOUBLE_BYTES);
+        this.numberOfElements = toIntSize(dataSize / DOUBLE_BYTES);
 
         // Set up the segment and initialize header
         this.segmentByteSize = existingSegment.byteSize();
@@ -78,6 +107,18 @@ public final class DoubleArray extends TornadoNativeArray {
         this.segment.getSegment().setAtIndex(JAVA_INT, 0, numberOfElements);
     }
 
+    /**
+     * Constructs a view of a range of elements of the parent array. The view shares the memory of the parent, and its header is kept apart, so the data of the parent is never overwritten.
+     */
+    private DoubleArray(DoubleArray parent, int offset, int length) {
+        this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        this.baseIndex = arrayHeaderSize / DOUBLE_BYTES;
+        this.numberOfElements = length;
+        this.segmentByteSize = TornadoNativeArray.ARRAY_HEADER + (long) length * DOUBLE_BYTES;
+        this.segment = new TornadoMemorySegment(parent.segment.getSegment().asSlice((long) offset * DOUBLE_BYTES, segmentByteSize));
+        initView(parent, offset, length);
+    }
+
     /**
      * Constructs a new {@link DoubleArray} instance by concatenating the contents of the given array of {@link DoubleArray} instances.
      *
@@ -97,9 +138,7 @@ public final class DoubleArray extends TornadoNativeArray {
      */
     private static DoubleArray createSegment(double[] values) {
         DoubleArray array = new DoubleArray(values.length);
-        for (int i = 0; i < values.length; i++) {
-            array.set(i, values[i]);
-        }
+        MemorySegment.copy(values, 0, array.getSegment(), JAVA_DOUBLE_UNALIGNED, 0, values.length);
         return array;
     }
 
@@ -134,7 +173,7 @@ public final class DoubleArray extends TornadoNativeArray {
      */
     public static DoubleArray fromSegment(MemorySegment segment) {
         long byteSize = segment.byteSize();
-        int numElements = (int) (byteSize / DOUBLE_BYTES);
+        long numElements = byteSize / DOUBLE_BYTES;
         ensureMultipleOfElementSize(byteSize, DOUBLE_BYTES);
         DoubleArray doubleArray = new DoubleArray(numElements);
         MemorySegment.copy(segment, 0, doubleArray.segment.getSegment(), (long) doubleArray.baseIndex * DOUBLE_BYTES, byteSize);
@@ -152,6 +191,47 @@ public final class DoubleArray extends TornadoNativeArray {
         return new DoubleArray(segment);
     }
 
+    /**
+     * Creates a new instance of the {@link DoubleArray} class that maps a region of a file holding only the array data (without the TornadoVM header). If possible, the data is not copied: it is
+     * shared with other processes through the page cache. See {@link NativeArrayFiles#mapDataView}.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the first element within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link DoubleArray} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static DoubleArray fromFile(Path file, long dataOffset, int numberOfElements, Arena arena) throws IOException {
+        return new DoubleArray(NativeArrayFiles.mapDataView(file, dataOffset, (long) numberOfElements * DOUBLE_BYTES, arena));
+    }
+
+    /**
+     * Creates a new instance of the {@link DoubleArray} class that maps a file region in the header-compatible layout, as written by {@link NativeArrayFiles#write}.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the array header within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param mode
+     *         {@link FileChannel.MapMode#READ_WRITE} to write the modifications back to the file, or {@link FileChannel.MapMode#PRIVATE} to keep them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link DoubleArray} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static DoubleArray fromFileWithHeader(Path file, long offset, int numberOfElements, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return new DoubleArray(NativeArrayFiles.mapWithHeader(file, offset, (long) numberOfElements * DOUBLE_BYTES, mode, arena));
+    }
+
     /**
      * Creates a new instance of the {@link DoubleArray} class from a {@link DoubleBuffer}.
      *
@@ -162,7 +242,8 @@ public final class DoubleArray extends TornadoNativeArray {
     public static DoubleArray fromDoubleBuffer(DoubleBuffer buffer) {
         int numElements = buffer.remaining();
         DoubleArray doubleArray = new DoubleArray(numElements);
-        doubleArray.getSegment().copyFrom(MemorySegment.ofBuffer(buffer));
+        // The buffer may not use the native byte order, so the elements are copied with the order of the buffer
+        MemorySegment.copy(MemorySegment.ofBuffer(buffer), JAVA_DOUBLE_UNALIGNED.withOrder(buffer.order()), 0, doubleArray.getSegment(), JAVA_DOUBLE_UNALIGNED, 0, numElements);
         return doubleArray;
     }
 
@@ -205,9 +286,7 @@ public final class DoubleArray extends TornadoNativeArray {
      */
     public double[] toHeapArray() {
         double[] outputArray = new double[getSize()];
-        for (int i = 0; i < getSize(); i++) {
-            outputArray[i] = get(i);
-        }
+        MemorySegment.copy(getSegment(), JAVA_DOUBLE_UNALIGNED, 0, outputArray, 0, outputArray.length);
         return outputArray;
     }
 
@@ -234,6 +313,29 @@ public final class DoubleArray extends TornadoNativeArray {
         return segment.getDoubleAtIndex(index, baseIndex);
     }
 
+    /**
+     * Sets the double value at a specified index of the {@link DoubleArray} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index at which to set the value.
+     * @param value
+     *         The value to store at the specified index.
+     */
+    public void set(long index, double value) {
+        segment.setAtIndex(index, value, baseIndex);
+    }
+
+    /**
+     * Gets the double value stored at the specified index of the {@link DoubleArray} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index of which to retrieve the value.
+     * @return The value stored at the specified index.
+     */
+    public double get(long index) {
+        return segment.getDoubleAtIndex(index, baseIndex);
+    }
+
     /**
      * Sets all the values of the {@link DoubleArray} instance to zero.
      */
@@ -254,7 +356,7 @@ public final class DoubleArray extends TornadoNativeArray {
      *         The double value to initialize the {@link DoubleArray} instance with.
      */
     public void init(double value) {
-        for (int i = 0; i < getSize(); i++) {
+        for (long i = 0; i < getSizeLong(); i++) {
             segment.setAtIndex(i, value, baseIndex);
         }
     }
@@ -331,4 +433,27 @@ public final class DoubleArray extends TornadoNativeArray {
         DoubleArray slice = fromSegment(sliceSegment);
         return slice;
     }
+
+    /**
+     * Creates a view of a range of elements of the {@link DoubleArray} instance. Contrary to {@link #slice(int, int)}, the view does not copy the data on the host: reads and writes through the view are reflected in
+     * this array and vice versa.
+     *
+     * <p>
+     * The view can be passed to a task-graph like any other array. On the device, the view has its own buffer: the data of the view is transferred from and to the memory it shares with
+     * this array, and its header is written separately. Views cannot be mapped to the device buffer of another array with {@code TornadoExecutionPlan#mapOnDeviceMemoryRegion}, because the kernels
+     * would read the data in front of the view as its header.
+     * </p>
+     *
+     * @param offset
+     *         The starting index of the view, inclusive.
+     * @param length
+     *         The number of elements of the view.
+     * @return A new {@link DoubleArray} instance that shares the memory of this array.
+     * @throws IllegalArgumentException
+     *         if the specified range is out of the bounds of the array.
+     */
+    public DoubleArray view(int offset, int length) {
+        checkViewBounds(offset, length);
+        return new DoubleArray(this, offset, length);
+    }
 }
@@ -20,7 +20,12 @@ package uk.ac.manchester.tornado.api.types.arrays;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 import uk.ac.manchester.tornado.api.types.FP8;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 
 import static java.lang.foreign.ValueLayout.JAVA_INT;
 
@@ -52,46 +57,149 @@ public final class FP8Array extends TornadoNativeArray {
      * {@code +0.0} in both formats).
      */
     public FP8Array(int numberOfElements) {
-        this.numberOfElements = numberOfElements;
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link FP8Array} that will store a user-specified number of elements, which can exceed {@link Integer#MAX_VALUE}. The elements beyond that index are accessed with
+     * the {@code long}-indexed accessors, and the size of the array is obtained with {@link #getSizeLong()}.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     */
+    public FP8Array(long numberOfElements) {
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Allocates an FP8 array of {@code numberOfElements} from the given allocator, zero-initialized.
+     *
+     * @param allocator
+     *         The allocator (e.g., an {@link java.lang.foreign.Arena}) used to allocate the off-heap memory of the array.
+     */
+    public FP8Array(long numberOfElements, SegmentAllocator allocator) {
+        this.numberOfElements = toIntSize(numberOfElements);
         this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         this.baseIndex = arrayHeaderSize / FP8_BYTES;
-        this.segmentByteSize = (long) numberOfElements * FP8_BYTES + arrayHeaderSize;
-        this.segment = new TornadoMemorySegment(segmentByteSize, numberOfElements);
+        this.segmentByteSize = numberOfElements * FP8_BYTES + arrayHeaderSize;
+        this.segment = new TornadoMemorySegment(segmentByteSize, this.numberOfElements, allocator);
     }
 
     private FP8Array(MemorySegment existingSegment) {
         this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         this.baseIndex = arrayHeaderSize / FP8_BYTES;
         long dataSize = existingSegment.byteSize() - arrayHeaderSize;
-        this.numberOfElements = (int) (dataSize / FP8_BYTES);
+        this.numberOfElements = toIntSize(dataSize / FP8_BYTES);
         this.segmentByteSize = existingSegment.byteSize();
         this.segment = new TornadoMemorySegment(existingSegment);
         this.segment.getSegment().setAtIndex(JAVA_INT, 0, numberOfElements);
     }
 
+    /**
+     * Constructs a view of a range of elements of the parent array. The view shares the memory of the parent, and its header is kept apart, so the data of the parent is never overwritten.
+     */
+    private FP8Array(FP8Array parent, int offset, int length) {
+        this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        this.baseIndex = arrayHeaderSize / FP8_BYTES;
+        this.numberOfElements = length;
+        this.segmentByteSize = TornadoNativeArray.ARRAY_HEADER + (long) length * FP8_BYTES;
+        this.segment = new TornadoMemorySegment(parent.segment.getSegment().asSlice((long) offset * FP8_BYTES, segmentByteSize));
+        initView(parent, offset, length);
+    }
+
     /** Wraps an existing header+data segment without copying. */
     public static FP8Array fromSegmentShallow(MemorySegment segment) {
         return new FP8Array(segment);
     }
 
+    /**
+     * Creates a new instance of the {@link FP8Array} class that maps a region of a file holding only the array data (without the TornadoVM header). If possible, the data is not copied: it is
+     * shared with other processes through the page cache. See {@link NativeArrayFiles#mapDataView}.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the first element within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link FP8Array} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static FP8Array fromFile(Path file, long dataOffset, int numberOfElements, Arena arena) throws IOException {
+        return new FP8Array(NativeArrayFiles.mapDataView(file, dataOffset, (long) numberOfElements * FP8_BYTES, arena));
+    }
+
+    /**
+     * Creates a new instance of the {@link FP8Array} class that maps a file region in the header-compatible layout, as written by {@link NativeArrayFiles#write}.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the array header within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param mode
+     *         {@link FileChannel.MapMode#READ_WRITE} to write the modifications back to the file, or {@link FileChannel.MapMode#PRIVATE} to keep them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link FP8Array} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static FP8Array fromFileWithHeader(Path file, long offset, int numberOfElements, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return new FP8Array(NativeArrayFiles.mapWithHeader(file, offset, (long) numberOfElements * FP8_BYTES, mode, arena));
+    }
+
     /** Builds an E4M3 array from float values (host-side encode). */
     public static FP8Array fromFloatsE4M3(float... values) {
         FP8Array a = new FP8Array(values.length);
-        for (int i = 0; i < values.length; i++) {
-            a.setE4M3(i, values[i]);
-        }
+        NativeArrayConversions.floatsToFP8(values, a.getSegment(), true);
         return a;
     }
 
     /** Builds an E5M2 array from float values (host-side encode). */
     public static FP8Array fromFloatsE5M2(float... values) {
         FP8Array a = new FP8Array(values.length);
-        for (int i = 0; i < values.length; i++) {
-            a.setE5M2(i, values[i]);
-        }
+        NativeArrayConversions.floatsToFP8(values, a.getSegment(), false);
         return a;
     }
 
+    /** Decodes all the elements as E4M3 into a new on-heap float array (host-side decode). */
+    public float[] toFloatArrayE4M3() {
+        return NativeArrayConversions.fp8ToFloats(getSegment(), numberOfElements, true);
+    }
+
+    /** Decodes all the elements as E5M2 into a new on-heap float array (host-side decode). */
+    public float[] toFloatArrayE5M2() {
+        return NativeArrayConversions.fp8ToFloats(getSegment(), numberOfElements, false);
+    }
+
+    /**
+     * Creates a view of a range of elements of the {@link FP8Array} instance. The view does not copy the data: reads and writes through the view are reflected in
+     * this array and vice versa.
+     *
+     * <p>
+     * The view can be passed to a task-graph like any other array. On the device, the view has its own buffer: the data of the view is transferred from and to the memory it shares with
+     * this array, and its header is written separately. Views cannot be mapped to the device buffer of another array with {@code TornadoExecutionPlan#mapOnDeviceMemoryRegion}, because the kernels
+     * would read the data in front of the view as its header.
+     * </p>
+     *
+     * @param offset
+     *         The starting index of the view, inclusive.
+     * @param length
+     *         The number of elements of the view.
+     * @return A new {@link FP8Array} instance that shares the memory of this array.
+     * @throws IllegalArgumentException
+     *         if the specified range is out of the bounds of the array.
+     */
+    public FP8Array view(int offset, int length) {
+        checkViewBounds(offset, length);
+        return new FP8Array(this, offset, length);
+    }
+
     // - Raw byte access -
 
     public void set(int index, byte value) {
@@ -102,6 +210,29 @@ public final class FP8Array extends TornadoNativeArray {
         return segment.getByteAtIndex(index, baseIndex);
     }
 
+    /**
+     * Sets the byte value at a specified index of the {@link FP8Array} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index at which to set the value.
+     * @param value
+     *         The value to store at the specified index.
+     */
+    public void set(long index, byte value) {
+        segment.setAtIndex(index, value, baseIndex);
+    }
+
+    /**
+     * Gets the byte value stored at the specified index of the {@link FP8Array} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index of which to retrieve the value.
+     * @return The value stored at the specified index.
+     */
+    public byte get(long index) {
+        return segment.getByteAtIndex(index, baseIndex);
+    }
+
     // - FP8 float access -
 
     /** Decode element {@code index} as E4M3 -> float. Kernel-safe. */
@@ -128,9 +259,7 @@ public final class FP8Array extends TornadoNativeArray {
 
     @Override
     public void clear() {
-        for (int i = 0; i < numberOfElements; i++) {
-            segment.setAtIndex(i, (byte) 0, baseIndex);
-        }
+        getSegment().fill((byte) 0);
     }
 
     @Override
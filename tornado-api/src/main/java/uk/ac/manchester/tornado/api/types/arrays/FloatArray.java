@@ -20,10 +20,16 @@ package uk.ac.manchester.tornado.api.types.arrays;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
 import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
 
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT_UNALIGNED;
 import static java.lang.foreign.ValueLayout.JAVA_INT;
 
 /**
@@ -50,11 +56,34 @@ public final class FloatArray extends TornadoNativeArray {
      *         The number of elements in the array.
      */
     public FloatArray(int numberOfElements) {
-        this.numberOfElements = numberOfElements;
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link FloatArray} that will store a user-specified number of elements, which can exceed {@link Integer#MAX_VALUE}. The elements beyond that index are accessed with
+     * the {@code long}-indexed accessors, and the size of the array is obtained with {@link #getSizeLong()}.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     */
+    public FloatArray(long numberOfElements) {
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link FloatArray} that will store a user-specified number of elements, allocated from the given allocator.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     * @param allocator
+     *         The allocator (e.g., an {@link java.lang.foreign.Arena}) used to allocate the off-heap memory of the array.
+     */
+    public FloatArray(long numberOfElements, SegmentAllocator allocator) {
+        this.numberOfElements = toIntSize(numberOfElements);
         arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         baseIndex = arrayHeaderSize / FLOAT_BYTES;
-        segmentByteSize = (long) numberOfElements * FLOAT_BYTES + arrayHeaderSize;
-        segment = new TornadoMemorySegment(segmentByteSize, numberOfElements);
+        segmentByteSize = numberOfElements * FLOAT_BYTES + arrayHeaderSize;
+        segment = new TornadoMemorySegment(segmentByteSize, this.numberOfElements, allocator);
     }
 
     /**
@@ -70,7 +99,7 @@ public final class FloatArray extends TornadoNativeArray {
         // Calculate number of elements from segment size
         long dataSize = existingSegment.byteSize() - arrayHeaderSize;
         ensureMultipleOfElementSize(dataSize, FLOAT_BYTES);
-        this.numberOfElements = (int) (dataSize / FLOAT_BYTES);
+        this.numberOfElements = toIntSize(dataSize / FLOAT_BYTES);
 
         // Set up the segment and initialize header
         this.segmentByteSize = existingSegment.byteSize();
@@ -78,6 +107,18 @@ public final class FloatArray extends TornadoNativeArray {
         this.segment.getSegment().setAtIndex(JAVA_INT, 0, numberOfElements);
     }
 
+    /**
+     * Constructs a view of a range of elements of the parent array. The view shares the memory of the parent, and its header is kept apart, so the data of the parent is never overwritten.
+     */
+    private FloatArray(FloatArray parent, int offset, int length) {
+        this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        this.baseIndex = arrayHeaderSize / FLOAT_BYTES;
+        this.numberOfElements = length;
+        this.segmentByteSize = TornadoNativeArray.ARRAY_HEADER + (long) length * FLOAT_BYTES;
+        this.segment = new TornadoMemorySegment(parent.segment.getSegment().asSlice((long) offset * FLOAT_BYTES, segmentByteSize));
+        initView(parent, offset, length);
+    }
+
     /**
      * Constructs a new {@link FloatArray} instance by concatenating the contents of the given array of {@link FloatArray} instances.
      *
@@ -97,9 +138,7 @@ public final class FloatArray extends TornadoNativeArray {
      */
     private static FloatArray createSegment(float[] values) {
         FloatArray array = new FloatArray(values.length);
-        for (int i = 0; i < values.length; i++) {
-            array.set(i, values[i]);
-        }
+        MemorySegment.copy(values, 0, array.getSegment(), JAVA_FLOAT_UNALIGNED, 0, values.length);
         return array;
     }
 
@@ -134,7 +173,7 @@ public final class FloatArray extends TornadoNativeArray {
      */
     public static FloatArray fromSegment(MemorySegment segment) {
         long byteSize = segment.byteSize();
-        int numElements = (int) (byteSize / FLOAT_BYTES);
+        long numElements = byteSize / FLOAT_BYTES;
         ensureMultipleOfElementSize(byteSize, FLOAT_BYTES);
         FloatArray floatArray = new FloatArray(numElements);
         MemorySegment.copy(segment, 0, floatArray.segment.getSegment(), (long) floatArray.baseIndex * FLOAT_BYTES, byteSize);
@@ -152,6 +191,47 @@ public final class FloatArray extends TornadoNativeArray {
         return new FloatArray(segment);
     }
 
+    /**
+     * Creates a new instance of the {@link FloatArray} class that maps a region of a file holding only the array data (without the TornadoVM header). If possible, the data is not copied: it is
+     * shared with other processes through the page cache. See {@link NativeArrayFiles#mapDataView}.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the first element within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link FloatArray} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static FloatArray fromFile(Path file, long dataOffset, int numberOfElements, Arena arena) throws IOException {
+        return new FloatArray(NativeArrayFiles.mapDataView(file, dataOffset, (long) numberOfElements * FLOAT_BYTES, arena));
+    }
+
+    /**
+     * Creates a new instance of the {@link FloatArray} class that maps a file region in the header-compatible layout, as written by {@link NativeArrayFiles#write}.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the array header within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param mode
+     *         {@link FileChannel.MapMode#READ_WRITE} to write the modifications back to the file, or {@link FileChannel.MapMode#PRIVATE} to keep them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link FloatArray} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static FloatArray fromFileWithHeader(Path file, long offset, int numberOfElements, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return new FloatArray(NativeArrayFiles.mapWithHeader(file, offset, (long) numberOfElements * FLOAT_BYTES, mode, arena));
+    }
+
     /**
      * Creates a new instance of the {@link FloatArray} class from a {@link FloatBuffer}.
      *
@@ -162,7 +242,8 @@ public final class FloatArray extends TornadoNativeArray {
     public static FloatArray fromFloatBuffer(FloatBuffer buffer) {
         int numElements = buffer.remaining();
         FloatArray floatArray = new FloatArray(numElements);
-        floatArray.getSegment().copyFrom(MemorySegment.ofBuffer(buffer));
+        // The buffer may not use the native byte order, so the elements are copied with the order of the buffer
+        MemorySegment.copy(MemorySegment.ofBuffer(buffer), JAVA_FLOAT_UNALIGNED.withOrder(buffer.order()), 0, floatArray.getSegment(), JAVA_FLOAT_UNALIGNED, 0, numElements);
         return floatArray;
     }
 
@@ -205,9 +286,7 @@ public final class FloatArray extends TornadoNativeArray {
      */
     public float[] toHeapArray() {
         float[] outputArray = new float[getSize()];
-        for (int i = 0; i < getSize(); i++) {
-            outputArray[i] = get(i);
-        }
+        MemorySegment.copy(getSegment(), JAVA_FLOAT_UNALIGNED, 0, outputArray, 0, outputArray.length);
         return outputArray;
     }
 
@@ -234,6 +313,29 @@ public final class FloatArray extends TornadoNativeArray {
         return segment.getFloatAtIndex(index, baseIndex);
     }
 
+    /**
+     * Sets the float value at a specified index of the {@link FloatArray} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index at which to set the value.
+     * @param value
+     *         The value to store at the specified index.
+     */
+    public void set(long index, float value) {
+        segment.setAtIndex(index, value, baseIndex);
+    }
+
+    /**
+     * Gets the float value stored at the specified index of the {@link FloatArray} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index of which to retrieve the value.
+     * @return The value stored at the specified index.
+     */
+    public float get(long index) {
+        return segment.getFloatAtIndex(index, baseIndex);
+    }
+
     /**
      * Sets all the values of the {@link FloatArray} instance to zero.
      */
@@ -254,7 +356,7 @@ public final class FloatArray extends TornadoNativeArray {
      *         The float value to initialize the {@link FloatArray} instance with.
      */
     public void init(float value) {
-        for (int i = 0; i < getSize(); i++) {
+        for (long i = 0; i < getSizeLong(); i++) {
             segment.setAtIndex(i, value, baseIndex);
         }
     }
@@ -331,4 +433,27 @@ public final class FloatArray extends TornadoNativeArray {
         FloatArray slice = fromSegment(sliceSegment);
         return slice;
     }
+
+    /**
+     * Creates a view of a range of elements of the {@link FloatArray} instance. Contrary to {@link #slice(int, int)}, the view does not copy the data on the host: reads and writes through the view are reflected in
+     * this array and vice versa.
+     *
+     * <p>
+     * The view can be passed to a task-graph like any other array. On the device, the view has its own buffer: the data of the view is transferred from and to the memory it shares with
+     * this array, and its header is written separately. Views cannot be mapped to the device buffer of another array with {@code TornadoExecutionPlan#mapOnDeviceMemoryRegion}, because the kernels
+     * would read the data in front of the view as its header.
+     * </p>
+     *
+     * @param offset
+     *         The starting index of the view, inclusive.
+     * @param length
+     *         The number of elements of the view.
+     * @return A new {@link FloatArray} instance that shares the memory of this array.
+     * @throws IllegalArgumentException
+     *         if the specified range is out of the bounds of the array.
+     */
+    public FloatArray view(int offset, int length) {
+        checkViewBounds(offset, length);
+        return new FloatArray(this, offset, length);
+    }
 }
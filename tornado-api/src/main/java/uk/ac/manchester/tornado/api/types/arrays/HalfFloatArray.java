@@ -22,10 +22,16 @@ import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 import uk.ac.manchester.tornado.api.types.HalfFloat;
 import uk.ac.manchester.tornado.api.types.vectors.Half2;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT_UNALIGNED;
 
 /**
  * This class represents an array of half floats (float16 types) stored in native memory. The half float data is stored in a {@link MemorySegment}, which represents a contiguous region of off-heap
@@ -52,11 +58,34 @@ public final class HalfFloatArray extends TornadoNativeArray {
      *         The number of elements in the array.
      */
     public HalfFloatArray(int numberOfElements) {
-        this.numberOfElements = numberOfElements;
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link HalfFloatArray} that will store a user-specified number of elements, which can exceed {@link Integer#MAX_VALUE}. The elements beyond that index are accessed with
+     * the {@code long}-indexed accessors, and the size of the array is obtained with {@link #getSizeLong()}.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     */
+    public HalfFloatArray(long numberOfElements) {
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link HalfFloatArray} that will store a user-specified number of elements, allocated from the given allocator.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     * @param allocator
+     *         The allocator (e.g., an {@link java.lang.foreign.Arena}) used to allocate the off-heap memory of the array.
+     */
+    public HalfFloatArray(long numberOfElements, SegmentAllocator allocator) {
+        this.numberOfElements = toIntSize(numberOfElements);
         arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         baseIndex = arrayHeaderSize / HALF_FLOAT_BYTES;
-        segmentByteSize = (long) numberOfElements * HALF_FLOAT_BYTES + arrayHeaderSize;
-        segment = new TornadoMemorySegment(segmentByteSize, numberOfElements);
+        segmentByteSize = numberOfElements * HALF_FLOAT_BYTES + arrayHeaderSize;
+        segment = new TornadoMemorySegment(segmentByteSize, this.numberOfElements, allocator);
     }
 
     /**
@@ -72,7 +101,7 @@ public final class HalfFloatArray extends TornadoNativeArray {
         // Calculate number of elements from segment size
         long dataSize = existingSegment.byteSize() - arrayHeaderSize;
         ensureMultipleOfElementSize(dataSize, HALF_FLOAT_BYTES);
-        this.numberOfElements = (int) (dataSize / HALF_FLOAT_BYTES);
+        this.numberOfElements = toIntSize(dataSize / HALF_FLOAT_BYTES);
 
         // Set up the segment and initialize header
         this.segmentByteSize = existingSegment.byteSize();
@@ -80,6 +109,18 @@ public final class HalfFloatArray extends TornadoNativeArray {
         this.segment.getSegment().setAtIndex(JAVA_INT, 0, numberOfElements);
     }
 
+    /**
+     * Constructs a view of a range of elements of the parent array. The view shares the memory of the parent, and its header is kept apart, so the data of the parent is never overwritten.
+     */
+    private HalfFloatArray(HalfFloatArray parent, int offset, int length) {
+        this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        this.baseIndex = arrayHeaderSize / HALF_FLOAT_BYTES;
+        this.numberOfElements = length;
+        this.segmentByteSize = TornadoNativeArray.ARRAY_HEADER + (long) length * HALF_FLOAT_BYTES;
+        this.segment = new TornadoMemorySegment(parent.segment.getSegment().asSlice((long) offset * HALF_FLOAT_BYTES, segmentByteSize));
+        initView(parent, offset, length);
+    }
+
     /**
      * Constructs a new {@link HalfFloatArray} instance by concatenating the contents of the given array of {@link HalfFloatArray} instances.
      *
@@ -136,7 +177,7 @@ public final class HalfFloatArray extends TornadoNativeArray {
      */
     public static HalfFloatArray fromSegment(MemorySegment segment) {
         long byteSize = segment.byteSize();
-        int numElements = (int) (byteSize / HALF_FLOAT_BYTES);
+        long numElements = byteSize / HALF_FLOAT_BYTES;
         ensureMultipleOfElementSize(byteSize, HALF_FLOAT_BYTES);
         HalfFloatArray halfFloatArray = new HalfFloatArray(numElements);
         MemorySegment.copy(segment, 0, halfFloatArray.segment.getSegment(), (long) halfFloatArray.baseIndex * HALF_FLOAT_BYTES, byteSize);
@@ -154,6 +195,47 @@ public final class HalfFloatArray extends TornadoNativeArray {
         return new HalfFloatArray(segment);
     }
 
+    /**
+     * Creates a new instance of the {@link HalfFloatArray} class that maps a region of a file holding only the array data (without the TornadoVM header). If possible, the data is not copied: it is
+     * shared with other processes through the page cache. See {@link NativeArrayFiles#mapDataView}.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the first element within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link HalfFloatArray} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static HalfFloatArray fromFile(Path file, long dataOffset, int numberOfElements, Arena arena) throws IOException {
+        return new HalfFloatArray(NativeArrayFiles.mapDataView(file, dataOffset, (long) numberOfElements * HALF_FLOAT_BYTES, arena));
+    }
+
+    /**
+     * Creates a new instance of the {@link HalfFloatArray} class that maps a file region in the header-compatible layout, as written by {@link NativeArrayFiles#write}.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the array header within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param mode
+     *         {@link FileChannel.MapMode#READ_WRITE} to write the modifications back to the file, or {@link FileChannel.MapMode#PRIVATE} to keep them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link HalfFloatArray} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static HalfFloatArray fromFileWithHeader(Path file, long offset, int numberOfElements, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return new HalfFloatArray(NativeArrayFiles.mapWithHeader(file, offset, (long) numberOfElements * HALF_FLOAT_BYTES, mode, arena));
+    }
+
     /**
      * Factory method to initialize a {@link HalfFloatArray}. This method can be invoked from a Task-Graph.
      *
@@ -207,12 +289,33 @@ public final class HalfFloatArray extends TornadoNativeArray {
      */
     public short[] toShortArray() {
         short[] outputArray = new short[getSize()];
-        for (int i = 0; i < getSize(); i++) {
-            outputArray[i] = get(i).getHalfFloatValue();
-        }
+        MemorySegment.copy(getSegment(), JAVA_SHORT_UNALIGNED, 0, outputArray, 0, outputArray.length);
         return outputArray;
     }
 
+    /**
+     * Creates a new instance of the {@link HalfFloatArray} class from an on-heap float array, converting each value to its nearest half float. The values are converted in bulk, without creating
+     * a {@link HalfFloat} object per element.
+     *
+     * @param values
+     *         The float values to convert.
+     * @return A new {@link HalfFloatArray} instance, initialized with the converted values.
+     */
+    public static HalfFloatArray fromFloats(float... values) {
+        HalfFloatArray array = new HalfFloatArray(values.length);
+        NativeArrayConversions.floatsToHalfFloats(values, array.getSegment());
+        return array;
+    }
+
+    /**
+     * Converts the half float data from off-heap to an on-heap float array. The values are converted in bulk, without creating a {@link HalfFloat} object per element.
+     *
+     * @return A new on-heap float array, initialized with the values stored in the {@link HalfFloatArray} instance.
+     */
+    public float[] toFloatArray() {
+        return NativeArrayConversions.halfFloatsToFloats(getSegment(), getSize());
+    }
+
     /**
      * Sets the {@link HalfFloat} value at a specified index of the {@link HalfFloatArray} instance.
      *
@@ -237,6 +340,30 @@ public final class HalfFloatArray extends TornadoNativeArray {
         return new HalfFloat(halfFloatValue);
     }
 
+    /**
+     * Sets the HalfFloat value at a specified index of the {@link HalfFloatArray} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index at which to set the value.
+     * @param value
+     *         The value to store at the specified index.
+     */
+    public void set(long index, HalfFloat value) {
+        segment.setAtIndex(index, value.getHalfFloatValue(), baseIndex);
+    }
+
+    /**
+     * Gets the HalfFloat value stored at the specified index of the {@link HalfFloatArray} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index of which to retrieve the value.
+     * @return The value stored at the specified index.
+     */
+    public HalfFloat get(long index) {
+        short halfFloatValue = segment.getShortAtIndex(index, baseIndex);
+        return new HalfFloat(halfFloatValue);
+    }
+
     /**
      * Gets two consecutive {@link HalfFloat} values starting at the specified element index as a packed {@link Half2}.
      * On backends with packed half2 support this maps to a single 32-bit load; {@code index} must be even so the
@@ -291,7 +418,7 @@ public final class HalfFloatArray extends TornadoNativeArray {
      *         The {@link HalfFloat} value to initialize the {@link HalfFloatArray} instance with.
      */
     public void init(HalfFloat value) {
-        for (int i = 0; i < getSize(); i++) {
+        for (long i = 0; i < getSizeLong(); i++) {
             segment.setAtIndex(i, value.getHalfFloatValue(), baseIndex);
         }
     }
@@ -369,4 +496,27 @@ public final class HalfFloatArray extends TornadoNativeArray {
         return slice;
     }
 
+    /**
+     * Creates a view of a range of elements of the {@link HalfFloatArray} instance. Contrary to {@link #slice(int, int)}, the view does not copy the data on the host: reads and writes through the view are reflected in
+     * this array and vice versa.
+     *
+     * <p>
+     * The view can be passed to a task-graph like any other array. On the device, the view has its own buffer: the data of the view is transferred from and to the memory it shares with
+     * this array, and its header is written separately. Views cannot be mapped to the device buffer of another array with {@code TornadoExecutionPlan#mapOnDeviceMemoryRegion}, because the kernels
+     * would read the data in front of the view as its header.
+     * </p>
+     *
+     * @param offset
+     *         The starting index of the view, inclusive.
+     * @param length
+     *         The number of elements of the view.
+     * @return A new {@link HalfFloatArray} instance that shares the memory of this array.
+     * @throws IllegalArgumentException
+     *         if the specified range is out of the bounds of the array.
+     */
+    public HalfFloatArray view(int offset, int length) {
+        checkViewBounds(offset, length);
+        return new HalfFloatArray(this, offset, length);
+    }
+
 }
@@ -20,9 +20,15 @@ package uk.ac.manchester.tornado.api.types.arrays;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.internal.annotations.SegmentElementSize;
 
+import java.io.IOException;
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
 
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
 import static java.lang.foreign.ValueLayout.JAVA_INT;
 
 @SegmentElementSize(size = 1)
@@ -45,11 +51,34 @@ public final class Int8Array extends TornadoNativeArray {
      *         The number of elements in the array.
      */
     public Int8Array(int numberOfElements) {
-        this.numberOfElements = numberOfElements;
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link Int8Array} that will store a user-specified number of elements, which can exceed {@link Integer#MAX_VALUE}. The elements beyond that index are accessed with
+     * the {@code long}-indexed accessors, and the size of the array is obtained with {@link #getSizeLong()}.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     */
+    public Int8Array(long numberOfElements) {
+        this(numberOfElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a new instance of the {@link Int8Array} that will store a user-specified number of elements, allocated from the given allocator.
+     *
+     * @param numberOfElements
+     *         The number of elements in the array.
+     * @param allocator
+     *         The allocator (e.g., an {@link java.lang.foreign.Arena}) used to allocate the off-heap memory of the array.
+     */
+    public Int8Array(long numberOfElements, SegmentAllocator allocator) {
+        this.numberOfElements = toIntSize(numberOfElements);
         arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
         baseIndex = arrayHeaderSize / INT8_BYTES;
-        segmentByteSize = (long) numberOfElements * INT8_BYTES + arrayHeaderSize;
-        segment = new TornadoMemorySegment(segmentByteSize, numberOfElements);
+        segmentByteSize = numberOfElements * INT8_BYTES + arrayHeaderSize;
+        segment = new TornadoMemorySegment(segmentByteSize, this.numberOfElements, allocator);
     }
 
     /**
@@ -65,7 +94,7 @@ public final class Int8Array extends TornadoNativeArray {
         // Calculate number of elements from segment size
         long dataSize = existingSegment.byteSize() - arrayHeaderSize;
         ensureMultipleOfElementSize(dataSize, INT8_BYTES);
-        this.numberOfElements = (int) (dataSize / INT8_BYTES);
+        this.numberOfElements = toIntSize(dataSize / INT8_BYTES);
 
         // Set up the segment and initialize header
         this.segmentByteSize = existingSegment.byteSize();
@@ -73,6 +102,18 @@ public final class Int8Array extends TornadoNativeArray {
         this.segment.getSegment().setAtIndex(JAVA_INT, 0, numberOfElements);
     }
 
+    /**
+     * Constructs a view of a range of elements of the parent array. The view shares the memory of the parent, and its header is kept apart, so the data of the parent is never overwritten.
+     */
+    private Int8Array(Int8Array parent, int offset, int length) {
+        this.arrayHeaderSize = (int) TornadoNativeArray.ARRAY_HEADER;
+        this.baseIndex = arrayHeaderSize / INT8_BYTES;
+        this.numberOfElements = length;
+        this.segmentByteSize = TornadoNativeArray.ARRAY_HEADER + (long) length * INT8_BYTES;
+        this.segment = new TornadoMemorySegment(parent.segment.getSegment().asSlice((long) offset * INT8_BYTES, segmentByteSize));
+        initView(parent, offset, length);
+    }
+
     /**
      * Constructs a new {@link Int8Array} instance by concatenating the contents of the given array of {@link Int8Array} instances.
      *
@@ -92,9 +133,7 @@ public final class Int8Array extends TornadoNativeArray {
      */
     private static Int8Array createSegment(byte[] values) {
         Int8Array array = new Int8Array(values.length);
-        for (int i = 0; i < values.length; i++) {
-            array.set(i, values[i]);
-        }
+        MemorySegment.copy(values, 0, array.getSegment(), JAVA_BYTE, 0, values.length);
         return array;
     }
 
@@ -128,7 +167,7 @@ public final class Int8Array extends TornadoNativeArray {
      * @return A new {@link Int8Array} instance, initialized with the segment data.
      */
     public static Int8Array fromSegment(MemorySegment segment) {
-        int numElements = (int) segment.byteSize();
+        long numElements = segment.byteSize();
         Int8Array int8Array = new Int8Array(numElements);
         MemorySegment.copy(segment, 0, int8Array.segment.getSegment(), (long) int8Array.baseIndex, numElements);
         return int8Array;
@@ -145,6 +184,47 @@ public final class Int8Array extends TornadoNativeArray {
         return new Int8Array(segment);
     }
 
+    /**
+     * Creates a new instance of the {@link Int8Array} class that maps a region of a file holding only the array data (without the TornadoVM header). If possible, the data is not copied: it is
+     * shared with other processes through the page cache. See {@link NativeArrayFiles#mapDataView}.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the first element within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link Int8Array} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static Int8Array fromFile(Path file, long dataOffset, int numberOfElements, Arena arena) throws IOException {
+        return new Int8Array(NativeArrayFiles.mapDataView(file, dataOffset, (long) numberOfElements * INT8_BYTES, arena));
+    }
+
+    /**
+     * Creates a new instance of the {@link Int8Array} class that maps a file region in the header-compatible layout, as written by {@link NativeArrayFiles#write}.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the array header within the file.
+     * @param numberOfElements
+     *         The number of elements to map.
+     * @param mode
+     *         {@link FileChannel.MapMode#READ_WRITE} to write the modifications back to the file, or {@link FileChannel.MapMode#PRIVATE} to keep them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A new {@link Int8Array} instance backed by the file region.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static Int8Array fromFileWithHeader(Path file, long offset, int numberOfElements, FileChannel.MapMode mode, Arena arena) throws IOException {
+        return new Int8Array(NativeArrayFiles.mapWithHeader(file, offset, (long) numberOfElements * INT8_BYTES, mode, arena));
+    }
+
     /**
      * Factory method to initialize a {@link Int8Array}. This method can be invoked from a Task-Graph.
      *
@@ -184,9 +264,7 @@ public final class Int8Array extends TornadoNativeArray {
      */
     public byte[] toHeapArray() {
         byte[] outputArray = new byte[getSize()];
-        for (int i = 0; i < getSize(); i++) {
-            outputArray[i] = get(i);
-        }
+        MemorySegment.copy(getSegment(), JAVA_BYTE, 0, outputArray, 0, outputArray.length);
         return outputArray;
     }
 
@@ -213,6 +291,29 @@ public final class Int8Array extends TornadoNativeArray {
         return segment.getByteAtIndex(index, baseIndex);
     }
 
+    /**
+     * Sets the byte value at a specified index of the {@link Int8Array} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index at which to set the value.
+     * @param value
+     *         The value to store at the specified index.
+     */
+    public void set(long index, byte value) {
+        segment.setAtIndex(index, value, baseIndex);
+    }
+
+    /**
+     * Gets the byte value stored at the specified index of the {@link Int8Array} instance. This method allows indexing arrays with more than {@link Integer#MAX_VALUE} elements from the host.
+     *
+     * @param index
+     *         The index of which to retrieve the value.
+     * @return The value stored at the specified index.
+     */
+    public byte get(long index) {
+        return segment.getByteAtIndex(index, baseIndex);
+    }
+
     /**
      * Sets all the values of the {@link Int8Array} instance to zero.
      */
@@ -233,9 +334,7 @@ public final class Int8Array extends TornadoNativeArray {
      *         The byte value to initialize the {@link Int8Array} instance with.
      */
     public void init(byte value) {
-        for (int i = 0; i < getSize(); i++) {
-            segment.setAtIndex(i, value, baseIndex);
-        }
+        getSegment().fill(value);
     }
 
     /**
@@ -310,4 +409,27 @@ public final class Int8Array extends TornadoNativeArray {
         Int8Array slice = fromSegment(sliceSegment);
         return slice;
     }
+
+    /**
+     * Creates a view of a range of elements of the {@link Int8Array} instance. Contrary to {@link #slice(int, int)}, the view does not copy the data on the host: reads and writes through the view are reflected in
+     * this array and vice versa.
+     *
+     * <p>
+     * The view can be passed to a task-graph like any other array. On the device, the view has its own buffer: the data of the view is transferred from and to the memory it shares with
+     * this array, and its header is written separately. Views cannot be mapped to the device buffer of another array with {@code TornadoExecutionPlan#mapOnDeviceMemoryRegion}, because the kernels
+     * would read the data in front of the view as its header.
+     * </p>
+     *
+     * @param offset
+     *         The starting index of the view, inclusive.
+     * @param length
+     *         The number of elements of the view.
+     * @return A new {@link Int8Array} instance that shares the memory of this array.
+     * @throws IllegalArgumentException
+     *         if the specified range is out of the bounds of the array.
+     */
+    public Int8Array view(int offset, int length) {
+        checkViewBounds(offset, length);
+        return new Int8Array(this, offset, length);
+    }
 }
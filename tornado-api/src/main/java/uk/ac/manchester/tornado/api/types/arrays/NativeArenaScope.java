@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.arrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.SegmentAllocator;
+
+/**
+ * The {@code NativeArenaScope} class sets the allocator used by the native arrays (e.g., {@link FloatArray}, {@link IntArray}, etc.) that are created by the current thread.
+ * <p>
+ * By default, native arrays are allocated with {@link Arena#ofAuto()}, and the off-heap memory is only reclaimed when the garbage collector collects the array. Within a scope, the arrays are
+ * allocated from the arena (or any other {@link SegmentAllocator}) of the scope, and, if the scope owns the arena, the memory is freed when the scope is closed:
+ * </p>
+ *
+ * <pre>{@code
+ * try (NativeArenaScope scope = NativeArenaScope.openShared()) {
+ *     FloatArray input = new FloatArray(1024);
+ *     ...
+ * } // the off-heap memory of input is released here
+ * }</pre>
+ *
+ * <p>
+ * Scopes can be nested. Closing a scope restores the allocator that was active when the scope was opened. Arrays allocated within a scope must not be used after the scope is closed.
+ * </p>
+ *
+ * <p>
+ * The runtime accesses the arrays of a task-graph from its own threads, so the arrays passed to a task-graph must be allocated in a shared or automatic arena, e.g., within
+ * {@link #openShared()}. Task-graphs reject arrays allocated within {@link #openConfined()} when they are built: confined scopes are meant for arrays used only on the host by the current thread.
+ * </p>
+ */
+public final class NativeArenaScope implements AutoCloseable {
+
+    private static final ThreadLocal<NativeArenaScope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private final SegmentAllocator allocator;
+    private final Arena ownedArena;
+    private final NativeArenaScope previous;
+    private final Thread owner;
+    private boolean closed;
+
+    private NativeArenaScope(SegmentAllocator allocator, Arena ownedArena) {
+        this.allocator = allocator;
+        this.ownedArena = ownedArena;
+        this.owner = Thread.currentThread();
+        this.previous = CURRENT_SCOPE.get();
+        CURRENT_SCOPE.set(this);
+    }
+
+    /**
+     * Opens a scope backed by a new confined {@link Arena}. The arrays allocated within the scope can only be accessed by the current thread, and they are freed when the scope is closed. They
+     * cannot be passed to a task-graph, because the runtime accesses the arrays of a task-graph from other threads.
+     *
+     * @return The new scope.
+     */
+    public static NativeArenaScope openConfined() {
+        Arena arena = Arena.ofConfined();
+        return new NativeArenaScope(arena, arena);
+    }
+
+    /**
+     * Opens a scope backed by a new shared {@link Arena}. The arrays allocated within the scope can be accessed by any thread, including the threads of the runtime, so they can be passed to
+     * task-graphs. They are freed when the scope is closed.
+     *
+     * @return The new scope.
+     */
+    public static NativeArenaScope openShared() {
+        Arena arena = Arena.ofShared();
+        return new NativeArenaScope(arena, arena);
+    }
+
+    /**
+     * Opens a scope that allocates the native arrays from a caller-supplied allocator, such as an {@link Arena} or a {@link NativeSegmentPool}. The caller keeps the ownership of the allocator:
+     * closing the scope does not close it.
+     *
+     * @param allocator
+     *         The allocator to use within the scope.
+     * @return The new scope.
+     */
+    public static NativeArenaScope of(SegmentAllocator allocator) {
+        return new NativeArenaScope(allocator, null);
+    }
+
+    /**
+     * Returns the allocator used for native arrays created by the current thread. It is the allocator of the innermost open scope, or a new automatic arena if there is no open scope.
+     *
+     * @return The current allocator.
+     */
+    public static SegmentAllocator currentAllocator() {
+        NativeArenaScope scope = CURRENT_SCOPE.get();
+        return scope == null ? Arena.ofAuto() : scope.allocator;
+    }
+
+    /**
+     * Returns the allocator of this scope.
+     *
+     * @return The {@link SegmentAllocator} of the scope.
+     */
+    public SegmentAllocator getAllocator() {
+        return allocator;
+    }
+
+    /**
+     * Closes the scope, restores the previous allocator of the current thread, and releases the memory of the arena if the scope owns it.
+     *
+     * @throws IllegalStateException
+     *         if the scope is closed by a thread other than the one that opened it, or if it is not the innermost open scope.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException("A native arena scope must be closed by the thread that opened it");
+        }
+        if (CURRENT_SCOPE.get() != this) {
+            throw new IllegalStateException("Native arena scopes must be closed in the reverse order they were opened");
+        }
+        closed = true;
+        if (previous == null) {
+            CURRENT_SCOPE.remove();
+        } else {
+            CURRENT_SCOPE.set(previous);
+        }
+        if (ownedArena != null) {
+            ownedArena.close();
+        }
+    }
+}
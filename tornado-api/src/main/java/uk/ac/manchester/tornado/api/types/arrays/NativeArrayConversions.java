@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.arrays;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT_UNALIGNED;
+
+import java.lang.foreign.MemorySegment;
+
+import uk.ac.manchester.tornado.api.types.BFloat16;
+import uk.ac.manchester.tornado.api.types.FP8;
+
+/**
+ * Host-side bulk conversions between on-heap {@code float} arrays and the reduced-precision native arrays ({@link HalfFloatArray}, {@link BFloat16Array} and {@link FP8Array}).
+ *
+ * <p>
+ * The elements are converted in chunks between two on-heap arrays, a loop that the JIT compiler can vectorize, and each chunk is then moved with a bulk {@link MemorySegment#copy}. The codecs of
+ * {@link BFloat16} and {@link FP8} are written to be compiled for the devices, so they avoid bit manipulations and table lookups. The host paths below use them instead, and produce the same bit
+ * patterns (NaN values are decoded to a NaN, but their payload is not preserved).
+ * </p>
+ */
+final class NativeArrayConversions {
+
+    /**
+     * Number of elements converted between two bulk copies.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final float[] E4M3_TO_FLOAT = buildDecodeTable(true);
+    private static final float[] E5M2_TO_FLOAT = buildDecodeTable(false);
+
+    /**
+     * Rounding thresholds for the positive FP8 codes: the code {@code c} is selected for the magnitudes in {@code [threshold[c], threshold[c + 1])}. Ties round away from zero, as in {@link FP8}.
+     */
+    private static final float[] E4M3_THRESHOLDS = buildThresholds(E4M3_TO_FLOAT, 0x7E);
+    private static final float[] E5M2_THRESHOLDS = buildThresholds(E5M2_TO_FLOAT, 0x7B);
+
+    private NativeArrayConversions() {
+    }
+
+    private static float[] buildDecodeTable(boolean e4m3) {
+        float[] table = new float[256];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = e4m3 ? FP8.e4m3ToFloat((byte) i) : FP8.e5m2ToFloat((byte) i);
+        }
+        return table;
+    }
+
+    private static float[] buildThresholds(float[] decodeTable, int maxFiniteCode) {
+        float[] thresholds = new float[maxFiniteCode + 1];
+        for (int code = 1; code <= maxFiniteCode; code++) {
+            // The values have at most 4 significant bits, so the midpoint is exact
+            thresholds[code] = (decodeTable[code - 1] + decodeTable[code]) * 0.5f;
+        }
+        return thresholds;
+    }
+
+    static void floatsToHalfFloats(float[] values, MemorySegment destination) {
+        short[] chunk = new short[Math.min(CHUNK_SIZE, values.length)];
+        for (int base = 0; base < values.length; base += chunk.length) {
+            int length = Math.min(chunk.length, values.length - base);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = Float.floatToFloat16(values[base + i]);
+            }
+            MemorySegment.copy(chunk, 0, destination, JAVA_SHORT_UNALIGNED, (long) base * Short.BYTES, length);
+        }
+    }
+
+    static float[] halfFloatsToFloats(MemorySegment source, int numElements) {
+        float[] values = new float[numElements];
+        short[] chunk = new short[Math.min(CHUNK_SIZE, numElements)];
+        for (int base = 0; base < numElements; base += chunk.length) {
+            int length = Math.min(chunk.length, numElements - base);
+            MemorySegment.copy(source, JAVA_SHORT_UNALIGNED, (long) base * Short.BYTES, chunk, 0, length);
+            for (int i = 0; i < length; i++) {
+                values[base + i] = Float.float16ToFloat(chunk[i]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Bit-level equivalent of {@link BFloat16#bf16FromFloat(float)}: the magnitude is rounded half away from zero to the upper 16 bits, and the carry overflows into infinity.
+     */
+    static short bf16FromFloat(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int magnitude = bits & 0x7FFFFFFF;
+        int result;
+        if (magnitude > 0x7F800000) {
+            result = 0x7FC0;
+        } else if (magnitude == 0) {
+            result = 0;
+        } else {
+            result = ((bits >>> 16) & 0x8000) | ((magnitude + 0x8000) >>> 16);
+        }
+        return (short) result;
+    }
+
+    static float bf16ToFloat(short bits) {
+        return Float.intBitsToFloat(bits << 16);
+    }
+
+    static void floatsToBFloat16(float[] values, MemorySegment destination) {
+        short[] chunk = new short[Math.min(CHUNK_SIZE, values.length)];
+        for (int base = 0; base < values.length; base += chunk.length) {
+            int length = Math.min(chunk.length, values.length - base);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = bf16FromFloat(values[base + i]);
+            }
+            MemorySegment.copy(chunk, 0, destination, JAVA_SHORT_UNALIGNED, (long) base * Short.BYTES, length);
+        }
+    }
+
+    static float[] bfloat16ToFloats(MemorySegment source, int numElements) {
+        float[] values = new float[numElements];
+        short[] chunk = new short[Math.min(CHUNK_SIZE, numElements)];
+        for (int base = 0; base < numElements; base += chunk.length) {
+            int length = Math.min(chunk.length, numElements - base);
+            MemorySegment.copy(source, JAVA_SHORT_UNALIGNED, (long) base * Short.BYTES, chunk, 0, length);
+            for (int i = 0; i < length; i++) {
+                values[base + i] = bf16ToFloat(chunk[i]);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the largest code whose threshold is lower or equal than the magnitude. Below the smallest subnormal, the rounding is computed as in {@link FP8}, because its float addition rounds
+     * the magnitudes that are just below the midpoint upwards.
+     */
+    private static int roundToCode(float[] thresholds, float magnitude, float smallestSubnormalScale) {
+        if (magnitude < thresholds[2]) {
+            return (int) (magnitude * smallestSubnormalScale + 0.5f);
+        }
+        int low = 0;
+        int high = thresholds.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (thresholds[mid] <= magnitude) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Table-based equivalent of {@link FP8#e4m3FromFloat(float)}.
+     */
+    static byte e4m3FromFloat(float value) {
+        int result;
+        if (value != value) {
+            result = 0x7F;
+        } else {
+            int sign = value < 0.0f ? 0x80 : 0;
+            float magnitude = Math.abs(value);
+            result = sign | (magnitude >= FP8.E4M3_MAX ? 0x7E : roundToCode(E4M3_THRESHOLDS, magnitude, 512.0f));
+        }
+        return (byte) result;
+    }
+
+    /**
+     * Table-based equivalent of {@link FP8#e5m2FromFloat(float)}.
+     */
+    static byte e5m2FromFloat(float value) {
+        int result;
+        if (value != value) {
+            result = 0x7F;
+        } else {
+            int sign = value < 0.0f ? 0x80 : 0;
+            float magnitude = Math.abs(value);
+            result = sign | (magnitude >= 61440.0f ? 0x7C : roundToCode(E5M2_THRESHOLDS, magnitude, 65536.0f));
+        }
+        return (byte) result;
+    }
+
+    static void floatsToFP8(float[] values, MemorySegment destination, boolean e4m3) {
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, values.length)];
+        for (int base = 0; base < values.length; base += chunk.length) {
+            int length = Math.min(chunk.length, values.length - base);
+            for (int i = 0; i < length; i++) {
+                chunk[i] = e4m3 ? e4m3FromFloat(values[base + i]) : e5m2FromFloat(values[base + i]);
+            }
+            MemorySegment.copy(chunk, 0, destination, JAVA_BYTE, base, length);
+        }
+    }
+
+    static float[] fp8ToFloats(MemorySegment source, int numElements, boolean e4m3) {
+        float[] table = e4m3 ? E4M3_TO_FLOAT : E5M2_TO_FLOAT;
+        float[] values = new float[numElements];
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, numElements)];
+        for (int base = 0; base < numElements; base += chunk.length) {
+            int length = Math.min(chunk.length, numElements - base);
+            MemorySegment.copy(source, JAVA_BYTE, base, chunk, 0, length);
+            for (int i = 0; i < length; i++) {
+                values[base + i] = table[chunk[i] & 0xFF];
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.arrays;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static java.lang.String.format;
+
+/**
+ * The {@code NativeArrayFiles} class maps regions of files into {@link MemorySegment}s that can back the TornadoVM native arrays (e.g., {@link FloatArray}, {@link ByteArray}, etc.) without copying
+ * the data.
+ *
+ * <p>
+ * Two layouts are supported:
+ * <ul>
+ * <li><b>Header-compatible</b>: the file region contains {@link TornadoNativeArray#ARRAY_HEADER} bytes reserved for the array header, followed by the data. Files in this layout can be written with
+ * {@link #write(TornadoNativeArray, Path)} and mapped with {@link #mapWithHeader}.</li>
+ * <li><b>Header-less</b>: the file region contains only the data (e.g., a weights file). The mapping starts {@link TornadoNativeArray#ARRAY_HEADER} bytes before the data and is private
+ * (copy-on-write), so the header is written into a private copy of the first page and the rest of the file is shared through the page cache.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Since the mapped segment already contains the space for the header, both host-side accesses and the device transfers work directly from the mapping.
+ * </p>
+ */
+public final class NativeArrayFiles {
+
+    private NativeArrayFiles() {
+    }
+
+    /**
+     * Maps a file region in the header-compatible layout.
+     *
+     * @param file
+     *         The file to map.
+     * @param offset
+     *         Offset in bytes of the header within the file.
+     * @param dataByteSize
+     *         Size in bytes of the data that follows the header.
+     * @param mode
+     *         The mapping mode. {@link FileChannel.MapMode#READ_WRITE} writes the modifications of the array back to the file, while {@link FileChannel.MapMode#PRIVATE} keeps them in memory.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A {@link MemorySegment} that contains both the header and the data.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static MemorySegment mapWithHeader(Path file, long offset, long dataByteSize, FileChannel.MapMode mode, Arena arena) throws IOException {
+        if (mode == FileChannel.MapMode.READ_ONLY) {
+            throw new IllegalArgumentException("The array header must be writable. Use READ_WRITE or PRIVATE mappings");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            checkRegion(channel, offset, TornadoNativeArray.ARRAY_HEADER + dataByteSize);
+            return channel.map(mode, offset, TornadoNativeArray.ARRAY_HEADER + dataByteSize, arena);
+        }
+    }
+
+    /**
+     * Maps a file region that contains only the data of an array. If the data offset leaves room for the header and the file is writable by the process, the region is mapped privately starting
+     * {@link TornadoNativeArray#ARRAY_HEADER} bytes before the data, and no data is copied. The file itself is never modified. Otherwise, the data is copied into a new segment allocated from the
+     * arena.
+     *
+     * @param file
+     *         The file to map.
+     * @param dataOffset
+     *         Offset in bytes of the data within the file.
+     * @param dataByteSize
+     *         Size in bytes of the data.
+     * @param arena
+     *         The arena that controls the lifetime of the mapping.
+     * @return A {@link MemorySegment} that contains the space for the header followed by the data.
+     * @throws IOException
+     *         if the file cannot be mapped.
+     */
+    public static MemorySegment mapDataView(Path file, long dataOffset, long dataByteSize, Arena arena) throws IOException {
+        if (dataOffset >= TornadoNativeArray.ARRAY_HEADER && Files.isWritable(file)) {
+            // Private mappings require a channel opened for writing, although the file is never modified.
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                checkRegion(channel, dataOffset, dataByteSize);
+                return channel.map(FileChannel.MapMode.PRIVATE, dataOffset - TornadoNativeArray.ARRAY_HEADER, TornadoNativeArray.ARRAY_HEADER + dataByteSize, arena);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            checkRegion(channel, dataOffset, dataByteSize);
+            MemorySegment data = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset, dataByteSize, arena);
+            MemorySegment segment = arena.allocate(TornadoNativeArray.ARRAY_HEADER + dataByteSize, 1);
+            MemorySegment.copy(data, 0, segment, TornadoNativeArray.ARRAY_HEADER, dataByteSize);
+            return segment;
+        }
+    }
+
+    /**
+     * Writes a native array (header and data) to a file in the header-compatible layout, so it can be mapped later with {@link #mapWithHeader}.
+     *
+     * @param array
+     *         The native array to write.
+     * @param file
+     *         The destination file. It is created or truncated.
+     * @throws IOException
+     *         if the file cannot be written.
+     */
+    public static void write(TornadoNativeArray array, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var buffer = array.getSegmentWithHeader().asByteBuffer();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void checkRegion(FileChannel channel, long offset, long byteSize) throws IOException {
+        if (offset < 0 || offset + byteSize > channel.size()) {
+            throw new IllegalArgumentException(format("The region [%d, %d) is out of the bounds of the file (%d bytes)", offset, offset + byteSize, channel.size()));
+        }
+    }
+}
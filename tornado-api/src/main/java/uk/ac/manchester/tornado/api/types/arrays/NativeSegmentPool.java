@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.api.types.arrays;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code NativeSegmentPool} class is a {@link SegmentAllocator} that recycles the off-heap segments of native arrays by size.
+ * <p>
+ * Segments are allocated from a shared {@link Arena} owned by the pool. When a native array is no longer needed, it can be returned to the pool with {@link #release(TornadoNativeArray)}, and its
+ * segment is handed out again, zeroed, to the next array of the same size. All the memory of the pool is freed when the pool is closed.
+ * </p>
+ *
+ * <pre>{@code
+ * try (NativeSegmentPool pool = new NativeSegmentPool(); NativeArenaScope scope = NativeArenaScope.of(pool)) {
+ *     FloatArray buffer = new FloatArray(1024);
+ *     ...
+ *     pool.release(buffer);
+ * }
+ * }</pre>
+ */
+public final class NativeSegmentPool implements SegmentAllocator, AutoCloseable {
+
+    private static final int DEFAULT_MAX_SEGMENTS_PER_SIZE = 64;
+
+    private final Arena arena;
+    private final int maxSegmentsPerSize;
+    private final ConcurrentHashMap<Long, ConcurrentLinkedDeque<MemorySegment>> freeSegments;
+    private final ConcurrentHashMap<Long, AtomicInteger> numFreeSegments;
+
+    public NativeSegmentPool() {
+        this(DEFAULT_MAX_SEGMENTS_PER_SIZE);
+    }
+
+    /**
+     * Constructs a new pool.
+     *
+     * @param maxSegmentsPerSize
+     *         Maximum number of free segments of the same size kept by the pool. Segments released beyond that limit are kept alive until the pool is closed, but they are not reused.
+     */
+    public NativeSegmentPool(int maxSegmentsPerSize) {
+        this.arena = Arena.ofShared();
+        this.maxSegmentsPerSize = maxSegmentsPerSize;
+        this.freeSegments = new ConcurrentHashMap<>();
+        this.numFreeSegments = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public MemorySegment allocate(long byteSize, long byteAlignment) {
+        ConcurrentLinkedDeque<MemorySegment> segments = freeSegments.get(byteSize);
+        if (segments != null) {
+            MemorySegment segment = segments.pollLast();
+            if (segment != null && segment.address() % byteAlignment == 0) {
+                numFreeSegments.get(byteSize).decrementAndGet();
+                return segment.fill((byte) 0);
+            } else if (segment != null) {
+                segments.addLast(segment);
+            }
+        }
+        return arena.allocate(byteSize, byteAlignment);
+    }
+
+    /**
+     * Returns the segment of a native array to the pool. The array must have been allocated from this pool, and it must not be used after it is released.
+     *
+     * @param array
+     *         The native array to release.
+     */
+    public void release(TornadoNativeArray array) {
+        release(array.getSegmentWithHeader());
+    }
+
+    /**
+     * Returns a segment to the pool. The segment must have been allocated from this pool.
+     *
+     * @param segment
+     *         The segment to release.
+     */
+    public void release(MemorySegment segment) {
+        if (!arena.scope().equals(segment.scope())) {
+            throw new IllegalArgumentException("The segment has not been allocated from this pool");
+        }
+        long byteSize = segment.byteSize();
+        AtomicInteger counter = numFreeSegments.computeIfAbsent(byteSize, size -> new AtomicInteger());
+        if (counter.incrementAndGet() > maxSegmentsPerSize) {
+            counter.decrementAndGet();
+            return;
+        }
+        freeSegments.computeIfAbsent(byteSize, size -> new ConcurrentLinkedDeque<>()).addLast(segment);
+    }
+
+    /**
+     * Returns the number of free segments kept by the pool.
+     *
+     * @return The number of segments available for reuse.
+     */
+    public int getNumFreeSegments() {
+        return numFreeSegments.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * Frees all the memory allocated by the pool, including the segments of the native arrays that have not been released.
+     */
+    @Override
+    public void close() {
+        freeSegments.clear();
+        numFreeSegments.clear();
+        arena.close();
+    }
+}
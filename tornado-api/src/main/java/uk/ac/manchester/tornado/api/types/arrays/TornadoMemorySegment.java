@@ -19,6 +19,7 @@ package uk.ac.manchester.tornado.api.types.arrays;
 
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
 import java.lang.foreign.ValueLayout;
 
 /**
@@ -33,7 +34,8 @@ public class TornadoMemorySegment {
     /**
      * Constructs a {@code TornadoMemorySegment} with a specified byte size and base index.
      * <p>
-     * This constructor allocates a new memory segment of the specified byte size and initializes it with a given number of elements.
+     * This constructor allocates a new memory segment of the specified byte size and initializes it with a given number of elements. The segment is allocated from the allocator of the current
+     * {@link NativeArenaScope}, or from an automatic arena if there is no open scope.
      * </p>
      *
      * @param segmentByteSize
@@ -42,7 +44,21 @@ public class TornadoMemorySegment {
      *         the number of elements to initialize in the segment
      */
     public TornadoMemorySegment(long segmentByteSize, int numElements) {
-        this.segment = Arena.ofAuto().allocate(segmentByteSize, 1);
+        this(segmentByteSize, numElements, NativeArenaScope.currentAllocator());
+    }
+
+    /**
+     * Constructs a {@code TornadoMemorySegment} with a specified byte size, allocated from the given allocator.
+     *
+     * @param segmentByteSize
+     *         the size of the memory segment in bytes
+     * @param numElements
+     *         the number of elements to initialize in the segment
+     * @param allocator
+     *         the allocator (e.g., an {@link Arena}) used to allocate the memory segment
+     */
+    public TornadoMemorySegment(long segmentByteSize, int numElements, SegmentAllocator allocator) {
+        this.segment = allocator.allocate(segmentByteSize, 1);
         this.segment.setAtIndex(ValueLayout.JAVA_INT, 0, numElements);
     }
 
@@ -251,4 +267,193 @@ public class TornadoMemorySegment {
     public short getShortAtIndex(int index, int baseIndex) {
         return segment.getAtIndex(ValueLayout.JAVA_SHORT, baseIndex + index);
     }
+
+    /**
+     * Sets a {@code float} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code float} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, float value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_FLOAT, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code float} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code float} value at the specified index
+     */
+    public float getFloatAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_FLOAT, baseIndex + index);
+    }
+
+    /**
+     * Sets a {@code double} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code double} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, double value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_DOUBLE, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code double} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code double} value at the specified index
+     */
+    public double getDoubleAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_DOUBLE, baseIndex + index);
+    }
+
+    /**
+     * Sets a {@code byte} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code byte} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, byte value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_BYTE, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code byte} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code byte} value at the specified index
+     */
+    public byte getByteAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_BYTE, baseIndex + index);
+    }
+
+    /**
+     * Sets a {@code char} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code char} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, char value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_CHAR, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code char} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code char} value at the specified index
+     */
+    public char getCharAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_CHAR, baseIndex + index);
+    }
+
+    /**
+     * Sets an {@code int} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code int} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, int value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_INT, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code int} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code int} value at the specified index
+     */
+    public int getIntAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_INT, baseIndex + index);
+    }
+
+    /**
+     * Sets a {@code long} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code long} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, long value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_LONG, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code long} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code long} value at the specified index
+     */
+    public long getLongAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_LONG, baseIndex + index);
+    }
+
+    /**
+     * Sets a {@code short} value at the specified index.
+     *
+     * @param index
+     *         the index where the value will be set
+     * @param value
+     *         the {@code short} value to set
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     */
+    public void setAtIndex(long index, short value, int baseIndex) {
+        segment.setAtIndex(ValueLayout.JAVA_SHORT, baseIndex + index, value);
+    }
+
+    /**
+     * Returns the {@code short} value at the specified index.
+     *
+     * @param index
+     *         the index from which the value will be retrieved
+     * @param baseIndex
+     *         the base index used for calculating the actual index
+     * @return the {@code short} value at the specified index
+     */
+    public short getShortAtIndex(long index, int baseIndex) {
+        return segment.getAtIndex(ValueLayout.JAVA_SHORT, baseIndex + index);
+    }
 }
@@ -17,7 +17,9 @@
  */
 package uk.ac.manchester.tornado.api.types.arrays;
 
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.lang.management.ManagementFactory;
 import java.util.List;
 
@@ -46,6 +48,21 @@ public abstract sealed class TornadoNativeArray //
      */
     public static final long ARRAY_HEADER = Long.parseLong(System.getProperty("tornado.panama.objectHeader", getDefaultHeaderSize()));
 
+    /**
+     * For views created with the {@code view} methods, the array that owns the memory. It is {@code null} for arrays that own their memory.
+     */
+    private TornadoNativeArray viewParent;
+
+    /**
+     * For views, the index of the first element of the view within the parent array.
+     */
+    private int viewOffset;
+
+    /**
+     * For views, the header transferred to the devices. The bytes before the data of a view belong to the parent array, so the header of a view is kept in a separate segment.
+     */
+    private MemorySegment viewHeader;
+
     private static String getDefaultHeaderSize() {
         List<String> jvmArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
         boolean isUncompressed = jvmArgs.contains("-XX:-UseCompressedOops") || jvmArgs.contains("-XX:-UseCompressedClassPointers");
@@ -63,12 +80,52 @@ public abstract sealed class TornadoNativeArray //
     }
 
     /**
-     * Returns the number of elements stored in the native array.
+     * Registers the array as a view of a range of elements of the parent array.
+     */
+    void initView(TornadoNativeArray parent, int offset, int numberOfElements) {
+        this.viewParent = parent;
+        this.viewOffset = offset;
+        this.viewHeader = Arena.ofAuto().allocate(ARRAY_HEADER, Long.BYTES);
+        this.viewHeader.set(ValueLayout.JAVA_INT, 0, numberOfElements);
+    }
+
+    /**
+     * Checks that a view of the given range of elements can be created from this array.
+     */
+    void checkViewBounds(int offset, int length) {
+        if (offset < 0 || length < 0 || (long) offset + length > getSize()) {
+            throw new IllegalArgumentException(format("View [%d, %d) out of bounds for an array of %d elements", offset, (long) offset + length, getSize()));
+        }
+    }
+
+    /**
+     * Returns the number of elements as stored in the array header and in the {@code numberOfElements} field that the compiled kernels read. Arrays with more elements than
+     * {@link Integer#MAX_VALUE} saturate to that value, and their real size is returned by {@link #getSizeLong()}.
+     */
+    static int toIntSize(long numberOfElements) {
+        if (numberOfElements < 0) {
+            throw new IllegalArgumentException(format("The number of elements (%d) cannot be negative", numberOfElements));
+        }
+        return (int) Math.min(numberOfElements, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of elements stored in the native array. For arrays with more than {@link Integer#MAX_VALUE} elements, this method returns {@link Integer#MAX_VALUE}, and
+     * {@link #getSizeLong()} must be used instead.
      *
      * @return The number of elements of the native data array.
      */
     public abstract int getSize();
 
+    /**
+     * Returns the number of elements stored in the native array as a {@code long}, which is valid for arrays with more than {@link Integer#MAX_VALUE} elements.
+     *
+     * @return The number of elements of the native data array.
+     */
+    public long getSizeLong() {
+        return getNumBytesOfSegment() / getElementSize();
+    }
+
     /**
      * Returns the underlying {@link MemorySegment} of the native array, without the Tornado Array header.
      *
@@ -77,7 +134,8 @@ public abstract sealed class TornadoNativeArray //
     public abstract MemorySegment getSegment();
 
     /**
-     * Returns the underlying {@link MemorySegment} of the native array, including the header.
+     * Returns the underlying {@link MemorySegment} of the native array, including the header. For views, the bytes reserved for the header belong to the parent array, and the header is obtained
+     * with {@link #getHeaderSegment()}.
      *
      * @return The {@link MemorySegment} associated with the native array instance.
      */
@@ -97,6 +155,43 @@ public abstract sealed class TornadoNativeArray //
      */
     public abstract long getNumBytesOfSegment();
 
+    /**
+     * Returns the header of the native array as it must be transferred to the devices. For arrays that own their memory, this is the beginning of {@link #getSegmentWithHeader()}. For views, the
+     * bytes before the data belong to the parent array, and the header is kept in a separate segment. Therefore, the transfers of views must copy the header and the data separately.
+     *
+     * @return A {@link MemorySegment} of {@link #ARRAY_HEADER} bytes.
+     */
+    public MemorySegment getHeaderSegment() {
+        return viewHeader != null ? viewHeader : getSegmentWithHeader().asSlice(0, ARRAY_HEADER);
+    }
+
+    /**
+     * Returns whether the native array is a view that shares the memory of another array.
+     *
+     * @return {@code true} if the array has been created with a {@code view} method.
+     */
+    public boolean isView() {
+        return viewParent != null;
+    }
+
+    /**
+     * Returns the array that owns the memory of a view.
+     *
+     * @return The parent array, or {@code null} if the array is not a view.
+     */
+    public TornadoNativeArray getViewParent() {
+        return viewParent;
+    }
+
+    /**
+     * Returns the index of the first element of a view within its parent array.
+     *
+     * @return The offset, in elements, of the view. It is 0 if the array is not a view.
+     */
+    public int getViewOffset() {
+        return viewOffset;
+    }
+
     /**
      * Clears the contents of the native array.
      */
@@ -95,6 +95,8 @@ __BENCHMARKS__ = [
     "mandelbrot",
     "dft",
     "juliaset",
+    "prefixscan",
+    "radixsort",
 ]
 
 ## ========================================================================================
@@ -116,7 +118,9 @@ __DIMENSIONS__ = {
     "dgemm": "2",
     "mandelbrot": "2",
     "dft": "1",
-    "juliaset": "2"
+    "juliaset": "2",
+    "prefixscan": "1",
+    "radixsort": "1"
 }
 
 
@@ -163,6 +167,8 @@ allSizes = {
     "dft": [[256, 512, 1024, 2048, 4096, 8192], ["getSize()"]],
     "blurFilter": [[256, 512, 1024, 2048, 8192, 16384], ["getSize()"]],
     "juliaset": [[512, 1024, 2048, 4096, 8192], ["getSize()"]],
+    "prefixscan": [[65536, 262144, 1048576, 4194304, 16777216], ["getSize()"]],
+    "radixsort": [[65536, 262144, 1048576, 4194304], ["getSize()"]],
 }
 
 mediumSizes = {
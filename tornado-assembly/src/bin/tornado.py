@@ -1543,6 +1543,13 @@ class TornadoVMRunnerTool():
             os.system(command)
             sys.exit(0)
 
+        if (args.kernel_bundle != None):
+            command = javaFlags + " uk.ac.manchester.tornado.drivers.TornadoKernelBundleBuilder --output " + args.kernel_bundle + " --provider " + str(args.application)
+            status = os.system(command)
+            if os.name == 'posix':
+                status = os.WEXITSTATUS(status) if os.WIFEXITED(status) else 1
+            sys.exit(status)
+
         params = ""
         if (args.application_parameters != None):
             params = args.application_parameters
@@ -1622,6 +1629,8 @@ def parseArguments():
                         help="Dump the TornadoVM bytecodes to a directory")
     parser.add_argument('--generate-argfile', action="store_true", dest="generate_argfile", default=False,
                         help="Generate tornado-argfile template and expanded argfile in current directory")
+    parser.add_argument('--buildKernelBundle', action="store", dest="kernel_bundle", default=None,
+                        help="Compile the task-graphs returned by the provider method given as application (<class>[::<method>]) and write them to a kernel bundle. Example: --buildKernelBundle kernels.tkb -cp app.jar com.example.Kernels::taskGraphs")
     parser.add_argument("param1", nargs="?")
     parser.add_argument("param2", nargs="?")
     parser.add_argument("param3", nargs="?")
@@ -22,6 +22,7 @@ module tornado.benchmarks {
 
     requires transitive tornado.api;
     requires transitive tornado.matrices;
+    requires tornado.drivers.common;
 
     exports uk.ac.manchester.tornado.benchmarks;
     exports uk.ac.manchester.tornado.benchmarks.addImage;
@@ -38,6 +39,8 @@ module tornado.benchmarks {
     exports uk.ac.manchester.tornado.benchmarks.mandelbrot;
     exports uk.ac.manchester.tornado.benchmarks.montecarlo;
     exports uk.ac.manchester.tornado.benchmarks.nbody;
+    exports uk.ac.manchester.tornado.benchmarks.prefixscan;
+    exports uk.ac.manchester.tornado.benchmarks.radixsort;
     exports uk.ac.manchester.tornado.benchmarks.rotateimage;
     exports uk.ac.manchester.tornado.benchmarks.rotatevector;
     exports uk.ac.manchester.tornado.benchmarks.saxpy;
@@ -269,6 +269,8 @@ public abstract class BenchmarkRunner {
             case "mandelbrot" -> new uk.ac.manchester.tornado.benchmarks.mandelbrot.Benchmark();
             case "montecarlo" -> new uk.ac.manchester.tornado.benchmarks.montecarlo.Benchmark();
             case "nbody" -> new uk.ac.manchester.tornado.benchmarks.nbody.Benchmark();
+            case "prefixscan" -> new uk.ac.manchester.tornado.benchmarks.prefixscan.Benchmark();
+            case "radixsort" -> new uk.ac.manchester.tornado.benchmarks.radixsort.Benchmark();
             case "rendertrack" -> new uk.ac.manchester.tornado.benchmarks.renderTrack.Benchmark();
             case "rotateimage" -> new uk.ac.manchester.tornado.benchmarks.rotateimage.Benchmark();
             case "rotatevector" -> new uk.ac.manchester.tornado.benchmarks.rotatevector.Benchmark();
@@ -336,5 +336,15 @@ public class ComputeKernels {
             }
         }
     }
+
+    /**
+     * Resets the input of a sort: copies the unsorted keys and stores the index of each element as its value.
+     */
+    public static void prepareSort(IntArray source, IntArray keys, IntArray values) {
+        for (@Parallel int i = 0; i < source.getSize(); i++) {
+            keys.set(i, source.get(i));
+            values.set(i, i);
+        }
+    }
     // CHECKSTYLE:ON
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.allocator;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.TornadoTargetDevice;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+
+/**
+ * Cost of the bookkeeping of the device buffer allocators, without any accelerator. The native allocations are
+ * simulated with a counter, so the time measured is the time spent in the {@link TornadoBufferProvider} and in its
+ * allocation strategy ({@code linear} or {@code sizeclass}).
+ *
+ * <p>
+ * Each invocation performs {@value #NUM_OPERATIONS} random allocations and releases of buffers between 64 bytes
+ * and 512KB, with up to {@value #MAX_LIVE_BUFFERS} buffers in use. The allocator counters (cache hits, native
+ * allocations and fragmentation) are printed at the end of each trial.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.allocator.JMHBufferAllocation
+ * </code>
+ */
+public class JMHBufferAllocation {
+
+    private static final int NUM_OPERATIONS = 100_000;
+    private static final int MAX_LIVE_BUFFERS = 512;
+    private static final long DEVICE_MEMORY = 256L << 20;
+    private static final long MAX_ALLOCATION_SIZE = 1L << 30;
+
+    /**
+     * Buffer provider whose native allocations are simulated with a counter.
+     */
+    private static class SimulatedBufferProvider extends TornadoBufferProvider {
+
+        private long nextHandle = 0x1000;
+
+        SimulatedBufferProvider(String allocator) {
+            super(simulatedDeviceContext(), createAllocationStrategy(allocator));
+            this.currentMemoryAvailable = DEVICE_MEMORY;
+        }
+
+        @Override
+        protected long allocateBuffer(long size, Access access) {
+            long handle = nextHandle;
+            nextHandle += 0x1000;
+            return handle;
+        }
+
+        @Override
+        protected void releaseBuffer(long buffer) {
+        }
+    }
+
+    private static TornadoDeviceContext simulatedDeviceContext() {
+        TornadoTargetDevice device = (TornadoTargetDevice) Proxy.newProxyInstance(TornadoTargetDevice.class.getClassLoader(), new Class<?>[] { TornadoTargetDevice.class }, (proxy, method,
+                args) -> method.getName().equals("getDeviceMaxAllocationSize") ? MAX_ALLOCATION_SIZE : null);
+        return (TornadoDeviceContext) Proxy.newProxyInstance(TornadoDeviceContext.class.getClassLoader(), new Class<?>[] { TornadoDeviceContext.class }, (proxy, method, args) -> method.getName()
+                .equals("getDevice") ? device : null);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "linear", "sizeclass" })
+        private String allocator;
+
+        private SimulatedBufferProvider provider;
+        private Access[] accesses;
+        private long[] sizes;
+        private int[] accessIndices;
+        private boolean[] releases;
+        private int[] releaseIndices;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            provider = new SimulatedBufferProvider(allocator);
+            accesses = new Access[] { Access.READ_ONLY, Access.WRITE_ONLY, Access.READ_WRITE };
+
+            // The sequence of operations is generated once, so every invocation replays the same workload
+            Random random = new Random(42);
+            sizes = new long[NUM_OPERATIONS];
+            accessIndices = new int[NUM_OPERATIONS];
+            releases = new boolean[NUM_OPERATIONS];
+            releaseIndices = new int[NUM_OPERATIONS];
+            for (int i = 0; i < NUM_OPERATIONS; i++) {
+                sizes[i] = 64 + random.nextInt(1 << (8 + random.nextInt(12)));
+                accessIndices[i] = random.nextInt(accesses.length);
+                releases[i] = random.nextBoolean();
+                releaseIndices[i] = random.nextInt(MAX_LIVE_BUFFERS);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() {
+            System.out.println("\n[" + allocator + "] " + provider.getAllocatorStatistics());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NUM_OPERATIONS)
+    @Fork(1)
+    public void allocateAndRelease(BenchmarkSetup state) {
+        TornadoBufferProvider provider = state.provider;
+        List<long[]> live = new ArrayList<>();
+        for (int i = 0; i < NUM_OPERATIONS; i++) {
+            if (live.size() >= MAX_LIVE_BUFFERS || (!live.isEmpty() && state.releases[i])) {
+                long[] entry = live.remove(state.releaseIndices[i] % live.size());
+                provider.markBufferReleased(entry[0], state.accesses[(int) entry[1]]);
+            } else {
+                int accessIndex = state.accessIndices[i];
+                live.add(new long[] { provider.getOrAllocateBufferWithSize(state.sizes[i], state.accesses[accessIndex]), accessIndex });
+            }
+        }
+        for (long[] entry : live) {
+            provider.markBufferReleased(entry[0], state.accesses[(int) entry[1]]);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHBufferAllocation.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(10)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(10)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
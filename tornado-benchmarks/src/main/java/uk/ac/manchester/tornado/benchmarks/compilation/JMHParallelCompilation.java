@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.compilation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Wall-time to compile a task-graph with {@value #NUM_TASKS} tasks before its first execution, with the tasks
+ * compiled one at a time ({@code -Dtornado.parallel.compilation=False}) and concurrently (the default). Each
+ * invocation builds a new execution plan, so every task is compiled again from its sketch.
+ *
+ * <p>
+ * The benchmark is meant to run on the virtual OpenCL device, so the time measured is the time of the TornadoVM
+ * compiler without the OpenCL driver.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=tornado-assembly/src/examples/virtual-device-GPU.json" -jar tornado-benchmarks/target/jmhbenchmarks.jar
+ * uk.ac.manchester.tornado.benchmarks.compilation.JMHParallelCompilation
+ * </code>
+ */
+public class JMHParallelCompilation {
+
+    private static final int NUM_ELEMENTS = 1024;
+    private static final int NUM_TASKS = 16;
+
+    private static void scale(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * 2.0f);
+        }
+    }
+
+    private static void polynomial(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            float x = input.get(i);
+            output.set(i, ((3.0f * x + 2.0f) * x + 1.0f) * x);
+        }
+    }
+
+    private static void clamp(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, Math.min(Math.max(input.get(i), 0.0f), 1.0f));
+        }
+    }
+
+    private static void stencil(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 1; i < input.getSize() - 1; i++) {
+            output.set(i, (input.get(i - 1) + input.get(i) + input.get(i + 1)) / 3.0f);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private FloatArray input;
+        private FloatArray[] outputs;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            input = new FloatArray(NUM_ELEMENTS);
+            input.init(0.5f);
+            outputs = new FloatArray[NUM_TASKS];
+            for (int i = 0; i < NUM_TASKS; i++) {
+                outputs[i] = new FloatArray(NUM_ELEMENTS);
+            }
+        }
+
+        private void compileTaskGraph() throws TornadoExecutionPlanException {
+            TaskGraph taskGraph = new TaskGraph("compilation").transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+            for (int i = 0; i < NUM_TASKS; i++) {
+                switch (i % 4) {
+                    case 0 -> taskGraph.task("t" + i, JMHParallelCompilation::scale, input, outputs[i]);
+                    case 1 -> taskGraph.task("t" + i, JMHParallelCompilation::polynomial, input, outputs[i]);
+                    case 2 -> taskGraph.task("t" + i, JMHParallelCompilation::clamp, input, outputs[i]);
+                    default -> taskGraph.task("t" + i, JMHParallelCompilation::stencil, input, outputs[i]);
+                }
+            }
+            taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, (Object[]) outputs);
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                executionPlan.withPreCompilation();
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = "-Dtornado.parallel.compilation=False")
+    public void serialCompilation(BenchmarkSetup state) throws TornadoExecutionPlanException {
+        state.compileTaskGraph();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = "-Dtornado.parallel.compilation=True")
+    public void parallelCompilation(BenchmarkSetup state) throws TornadoExecutionPlanException {
+        state.compileTaskGraph();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHParallelCompilation.class.getName() + ".*") //
+                .mode(Mode.SingleShotTime) //
+                .timeUnit(TimeUnit.MILLISECONDS) //
+                .warmupIterations(3) //
+                .measurementIterations(10) //
+                .build();
+        new Runner(opt).run();
+    }
+}
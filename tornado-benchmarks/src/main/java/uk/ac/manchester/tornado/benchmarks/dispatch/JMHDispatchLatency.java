@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.dispatch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoRuntime;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Execute-to-execute latency of a task-graph with a tiny kernel and no data transfers after the first execution, so
+ * that the time measured is the overhead of dispatching the task-graph from the host.
+ *
+ * <p>
+ * The concurrent benchmark maps two tasks to two different devices and enables the concurrent devices, which runs
+ * one TornadoVM interpreter per device in parallel. If a single device is available, both tasks are mapped to it and
+ * the benchmark measures the same path as the single-device one.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.dispatch.JMHDispatchLatency
+ * </code>
+ */
+public class JMHDispatchLatency {
+
+    private static final int NUM_ELEMENTS = 256;
+
+    private static void increment(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) + 1.0f);
+        }
+    }
+
+    private static TornadoDevice findSecondDevice(TornadoDevice defaultDevice) {
+        TornadoRuntime runtime = TornadoRuntimeProvider.getTornadoRuntime();
+        for (int backendIndex = 0; backendIndex < runtime.getNumBackends(); backendIndex++) {
+            TornadoBackend backend = runtime.getBackend(backendIndex);
+            for (int deviceIndex = 0; deviceIndex < backend.getNumDevices(); deviceIndex++) {
+                TornadoDevice device = backend.getDevice(deviceIndex);
+                if (!device.getDeviceName().equals(defaultDevice.getDeviceName())) {
+                    return device;
+                }
+            }
+        }
+        return defaultDevice;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private TornadoExecutionPlan singleDevicePlan;
+        private TornadoExecutionPlan concurrentDevicesPlan;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            FloatArray a = new FloatArray(NUM_ELEMENTS);
+            FloatArray b = new FloatArray(NUM_ELEMENTS);
+            FloatArray c = new FloatArray(NUM_ELEMENTS);
+            FloatArray d = new FloatArray(NUM_ELEMENTS);
+            a.init(1.0f);
+            c.init(2.0f);
+
+            TaskGraph singleDevice = new TaskGraph("single") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, a) //
+                    .task("t0", JMHDispatchLatency::increment, a, b) //
+                    .transferToHost(DataTransferMode.UNDER_DEMAND, b);
+            singleDevicePlan = new TornadoExecutionPlan(singleDevice.snapshot());
+            singleDevicePlan.withPreCompilation();
+
+            TaskGraph concurrentDevices = new TaskGraph("concurrent") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, c) //
+                    .task("t0", JMHDispatchLatency::increment, a, b) //
+                    .task("t1", JMHDispatchLatency::increment, c, d) //
+                    .transferToHost(DataTransferMode.UNDER_DEMAND, b, d);
+            TornadoDevice defaultDevice = TornadoRuntimeProvider.getTornadoRuntime().getDefaultDevice();
+            concurrentDevicesPlan = new TornadoExecutionPlan(concurrentDevices.snapshot());
+            concurrentDevicesPlan.withDevice("concurrent.t0", defaultDevice) //
+                    .withDevice("concurrent.t1", findSecondDevice(defaultDevice)) //
+                    .withConcurrentDevices() //
+                    .withPreCompilation();
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws TornadoExecutionPlanException {
+            singleDevicePlan.close();
+            concurrentDevicesPlan.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void singleDevice(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.singleDevicePlan.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void concurrentDevices(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.concurrentDevicesPlan.execute());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHDispatchLatency.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.MICROSECONDS) //
+                .warmupTime(TimeValue.seconds(10)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(10)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.dispatch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Cost of dispatching the TornadoVM bytecodes in the interpreter. The benchmark runs on a virtual device, where the
+ * interpreter walks the bytecodes of the task-graph without reaching a driver, so the time measured is the dispatch
+ * cost of the interpreter alone.
+ *
+ * <p>
+ * The {@code launches} benchmark reports the time per task of a task-graph with {@value #NUM_TASKS} independent
+ * tasks. The per-bytecode cost is obtained by dividing it by the number of bytecodes of each task, which are printed
+ * with {@code --printBytecodes}.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado --jvm="-Dtornado.virtual.device=True -Dtornado.device.desc=tornado-assembly/src/examples/virtual-device-GPU.json" -jar tornado-benchmarks/target/jmhbenchmarks.jar
+ * uk.ac.manchester.tornado.benchmarks.dispatch.JMHInterpreterDispatch
+ * </code>
+ */
+public class JMHInterpreterDispatch {
+
+    private static final int NUM_ELEMENTS = 256;
+    private static final int NUM_TASKS = 16;
+
+    private static void increment(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) + 1.0f);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private TornadoExecutionPlan singleTaskPlan;
+        private TornadoExecutionPlan manyTasksPlan;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            FloatArray input = new FloatArray(NUM_ELEMENTS);
+            input.init(1.0f);
+
+            FloatArray output = new FloatArray(NUM_ELEMENTS);
+            TaskGraph singleTask = new TaskGraph("single") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                    .task("t0", JMHInterpreterDispatch::increment, input, output) //
+                    .transferToHost(DataTransferMode.UNDER_DEMAND, output);
+            singleTaskPlan = new TornadoExecutionPlan(singleTask.snapshot());
+            singleTaskPlan.withPreCompilation();
+
+            TaskGraph manyTasks = new TaskGraph("many").transferToDevice(DataTransferMode.FIRST_EXECUTION, input);
+            FloatArray[] outputs = new FloatArray[NUM_TASKS];
+            for (int i = 0; i < NUM_TASKS; i++) {
+                outputs[i] = new FloatArray(NUM_ELEMENTS);
+                manyTasks.task("t" + i, JMHInterpreterDispatch::increment, input, outputs[i]);
+            }
+            manyTasks.transferToHost(DataTransferMode.UNDER_DEMAND, (Object[]) outputs);
+            manyTasksPlan = new TornadoExecutionPlan(manyTasks.snapshot());
+            manyTasksPlan.withPreCompilation();
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws TornadoExecutionPlanException {
+            singleTaskPlan.close();
+            manyTasksPlan.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(1)
+    public void execute(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.singleTaskPlan.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NUM_TASKS)
+    @Fork(1)
+    public void launches(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.manyTasksPlan.execute());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHInterpreterDispatch.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.NANOSECONDS) //
+                .warmupTime(TimeValue.seconds(10)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(10)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
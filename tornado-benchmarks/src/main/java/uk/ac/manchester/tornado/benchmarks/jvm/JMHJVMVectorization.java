@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.jvm;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+
+/**
+ * Compares the vectorised kernels of the JVM backend with the sequential Java code that TornadoVM runs when a task
+ * falls back to the host. The {@code sequential} benchmark calls the task directly, as the sequential fallback does.
+ * The other benchmarks run the task-graph on the JVM device: single-threaded without and with vectorisation, to
+ * measure the gain of the Vector API alone, and with all the cores of the host.
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.jvm.JMHJVMVectorization
+ * </code>
+ */
+public class JMHJVMVectorization {
+
+    private static final int NUM_ELEMENTS = 1 << 22;
+
+    private static void saxpy(float alpha, FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < z.getSize(); i++) {
+            z.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    private static void blend(FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < z.getSize(); i++) {
+            float a = x.get(i);
+            float b = y.get(i);
+            z.set(i, TornadoMath.sqrt(a * a + b * b) + TornadoMath.max(a, b) * 0.5f);
+        }
+    }
+
+    private static void quantize(FloatArray x, IntArray q) {
+        for (@Parallel int i = 0; i < q.getSize(); i++) {
+            q.set(i, Math.min(Math.max((int) (x.get(i) * 127.0f), -127), 127));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        @Param({ "saxpy", "blend", "quantize" })
+        private String kernel;
+
+        private FloatArray x;
+        private FloatArray y;
+        private FloatArray z;
+        private IntArray q;
+        private TornadoExecutionPlan executionPlan;
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            x = new FloatArray(NUM_ELEMENTS);
+            y = new FloatArray(NUM_ELEMENTS);
+            z = new FloatArray(NUM_ELEMENTS);
+            q = new IntArray(NUM_ELEMENTS);
+            for (int i = 0; i < NUM_ELEMENTS; i++) {
+                x.set(i, (i % 1024) / 1024.0f);
+                y.set(i, (i % 512) / 256.0f);
+            }
+
+            TaskGraph taskGraph = new TaskGraph("benchmark").transferToDevice(DataTransferMode.FIRST_EXECUTION, x, y);
+            switch (kernel) {
+                case "saxpy" -> taskGraph.task("t0", JMHJVMVectorization::saxpy, 2.0f, x, y, z);
+                case "blend" -> taskGraph.task("t0", JMHJVMVectorization::blend, x, y, z);
+                default -> taskGraph.task("t0", JMHJVMVectorization::quantize, x, q);
+            }
+            taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, z, q);
+
+            List<TornadoBackend> backends = TornadoExecutionPlan.getTornadoDeviceMap().getBackendsWithPredicate(backend -> backend.getBackendType() == TornadoVMBackendType.JAVA);
+            if (backends.isEmpty()) {
+                throw new IllegalStateException("The JVM backend is not enabled");
+            }
+            executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withDevice(backends.getFirst().getDefaultDevice());
+        }
+
+        private void runSequential() {
+            switch (kernel) {
+                case "saxpy" -> saxpy(2.0f, x, y, z);
+                case "blend" -> blend(x, y, z);
+                default -> quantize(x, q);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws TornadoExecutionPlanException {
+            executionPlan.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void sequential(BenchmarkSetup state, Blackhole blackhole) {
+        state.runSequential();
+        blackhole.consume(state.z);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1, jvmArgsAppend = { "-Dtornado.jvm.parallel=False", "-Dtornado.jvm.vectorize=False" })
+    public void jvmScalar(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.executionPlan.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1, jvmArgsAppend = { "-Dtornado.jvm.parallel=False", "-Dtornado.jvm.vectorize=True" })
+    public void jvmVector(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.executionPlan.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(value = 1, jvmArgsAppend = { "-Dtornado.jvm.parallel=True", "-Dtornado.jvm.vectorize=True" })
+    public void jvmParallelVector(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.executionPlan.execute());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHJVMVectorization.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.MICROSECONDS) //
+                .warmupTime(TimeValue.seconds(5)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(5)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
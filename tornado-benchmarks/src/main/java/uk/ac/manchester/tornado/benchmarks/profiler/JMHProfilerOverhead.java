@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.profiler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+
+/**
+ * Overhead of the profiler on the throughput of an execution plan. The task-graph has {@value #NUM_TASKS} small tasks,
+ * so the time per execution is dominated by the runtime rather than by the kernels, and the difference between the
+ * {@code withoutProfiler} and {@code withProfiler} benchmarks is the cost of profiling one execution. The
+ * {@code histograms} benchmark measures the cost of reading the latency histograms of an execution.
+ *
+ * <p>
+ * The profiler runs in {@link ProfilerMode#SILENT} mode, which appends the JSON log of every execution to the profile
+ * log of the plan. The iterations are kept short so that the log does not grow large enough to dominate the
+ * measurements.
+ * </p>
+ *
+ * <p>
+ * How to run in isolation?
+ * </p>
+ * <code>
+ * tornado -jar tornado-benchmarks/target/jmhbenchmarks.jar uk.ac.manchester.tornado.benchmarks.profiler.JMHProfilerOverhead
+ * </code>
+ */
+public class JMHProfilerOverhead {
+
+    private static final int NUM_ELEMENTS = 256;
+    private static final int NUM_TASKS = 8;
+
+    private static void increment(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) + 1.0f);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSetup {
+
+        private TornadoExecutionPlan plainPlan;
+        private TornadoExecutionPlan profiledPlan;
+
+        private TornadoExecutionPlan buildPlan(String name) {
+            FloatArray input = new FloatArray(NUM_ELEMENTS);
+            input.init(1.0f);
+            TaskGraph taskGraph = new TaskGraph(name).transferToDevice(DataTransferMode.EVERY_EXECUTION, input);
+            FloatArray[] outputs = new FloatArray[NUM_TASKS];
+            for (int i = 0; i < NUM_TASKS; i++) {
+                outputs[i] = new FloatArray(NUM_ELEMENTS);
+                taskGraph.task("t" + i, JMHProfilerOverhead::increment, input, outputs[i]);
+            }
+            taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, (Object[]) outputs);
+            TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot());
+            executionPlan.withPreCompilation();
+            return executionPlan;
+        }
+
+        @Setup(Level.Trial)
+        public void doSetup() {
+            plainPlan = buildPlan("plain");
+            plainPlan.withoutProfiler();
+            profiledPlan = buildPlan("profiled");
+            profiledPlan.withProfiler(ProfilerMode.SILENT);
+        }
+
+        @TearDown(Level.Trial)
+        public void doTearDown() throws TornadoExecutionPlanException {
+            plainPlan.close();
+            profiledPlan.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void withoutProfiler(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.plainPlan.execute());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void withProfiler(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.profiledPlan.execute().getProfilerResult().getTotalTime());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Fork(1)
+    public void histograms(BenchmarkSetup state, Blackhole blackhole) {
+        blackhole.consume(state.profiledPlan.execute().getProfilerResult().getDeviceKernelTimeHistogram().getP99());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder() //
+                .include(JMHProfilerOverhead.class.getName() + ".*") //
+                .mode(Mode.AverageTime) //
+                .timeUnit(TimeUnit.MICROSECONDS) //
+                .warmupTime(TimeValue.seconds(1)) //
+                .warmupIterations(2) //
+                .measurementTime(TimeValue.seconds(1)) //
+                .measurementIterations(5) //
+                .forks(1) //
+                .build();
+        new Runner(opt).run();
+    }
+}
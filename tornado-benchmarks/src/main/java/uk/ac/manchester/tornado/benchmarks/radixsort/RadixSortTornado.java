@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.benchmarks.radixsort;
+
+import java.util.Random;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.primitives.RadixSort;
+import uk.ac.manchester.tornado.api.primitives.SequentialPrimitives;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.benchmarks.BenchmarkDriver;
+import uk.ac.manchester.tornado.benchmarks.ComputeKernels;
+
+/**
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado -m tornado.benchmarks/uk.ac.manchester.tornado.benchmarks.BenchmarkRunner radixsort
+ * </code>
+ */
+public class RadixSortTornado extends BenchmarkDriver {
+
+    private final int numElements;
+
+    private IntArray source;
+    private IntArray keys;
+    private IntArray values;
+    private GridScheduler gridScheduler;
+
+    public RadixSortTornado(int iterations, int numElements) {
+        super(iterations);
+        this.numElements = numElements;
+    }
+
+    @Override
+    public void setUp() {
+        source = new IntArray(numElements);
+        keys = new IntArray(numElements);
+        values = new IntArray(numElements);
+
+        Random random = new Random();
+        for (int i = 0; i < numElements; i++) {
+            source.set(i, random.nextInt());
+        }
+
+        gridScheduler = new GridScheduler();
+        taskGraph = new TaskGraph("benchmark");
+        taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, source);
+        taskGraph.task("prepare", ComputeKernels::prepareSort, source, keys, values);
+        RadixSort.of(keys, values).addTo(taskGraph, "sort", gridScheduler);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, keys, values);
+
+        immutableTaskGraph = taskGraph.snapshot();
+        executionPlan = new TornadoExecutionPlan(immutableTaskGraph);
+        executionPlan.withGridScheduler(gridScheduler).withPreCompilation();
+    }
+
+    @Override
+    public void tearDown() {
+        executionResult.getProfilerResult().dumpProfiles();
+
+        source = null;
+        keys = null;
+        values = null;
+
+        executionPlan.resetDevice();
+        super.tearDown();
+    }
+
+    @Override
+    public void runBenchmark(TornadoDevice device) {
+        executionResult = executionPlan.withDevice(device).execute();
+    }
+
+    @Override
+    public boolean validate(TornadoDevice device) {
+
+        final IntArray expectedKeys = new IntArray(numElements);
+        final IntArray expectedValues = new IntArray(numElements);
+
+        runBenchmark(device);
+        executionPlan.clearProfiles();
+
+        ComputeKernels.prepareSort(source, expectedKeys, expectedValues);
+        SequentialPrimitives.sort(expectedKeys, expectedValues);
+
+        for (int i = 0; i < numElements; i++) {
+            if (expectedKeys.get(i) != keys.get(i) || expectedValues.get(i) != values.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
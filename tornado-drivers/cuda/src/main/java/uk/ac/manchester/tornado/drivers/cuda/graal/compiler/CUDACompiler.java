@@ -93,6 +93,7 @@ import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLowTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.jfr.GraalTierEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -173,16 +174,16 @@ public class CUDACompiler {
                     getDebugContext().dump(DebugContext.INFO_LEVEL, graph, "initial state");
                 }
             }
-            suites.getHighTier().apply(graph, highTierContext);
+            GraalTierEvent.applyTier(suites.getHighTier(), graph, highTierContext, GraalTierEvent.HIGH_TIER, "CUDA");
             graph.maybeCompress();
 
             final TornadoMidTierContext midTierContext = new TornadoMidTierContext(providers, backend, optimisticOpts, profilingInfo, method, args, meta);
-            suites.getMidTier().apply(graph, midTierContext);
+            GraalTierEvent.applyTier(suites.getMidTier(), graph, midTierContext, GraalTierEvent.MID_TIER, "CUDA");
 
             graph.maybeCompress();
 
             final TornadoLowTierContext lowTierContext = new TornadoLowTierContext(providers, backend, meta);
-            suites.getLowTier().apply(graph, lowTierContext);
+            GraalTierEvent.applyTier(suites.getLowTier(), graph, lowTierContext, GraalTierEvent.LOW_TIER, "CUDA");
 
             getDebugContext().dump(DebugContext.BASIC_LEVEL, graph.getLastSchedule(), "Final HIR schedule");
         } catch (Throwable e) {
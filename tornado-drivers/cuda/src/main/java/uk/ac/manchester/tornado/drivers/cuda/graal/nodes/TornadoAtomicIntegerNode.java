@@ -68,6 +68,22 @@ public class TornadoAtomicIntegerNode extends FixedWithNextNode implements LIRLo
 
     private boolean atomicsByParameter = false;
 
+    /**
+     * Checks whether the compilation of a kernel registered atomic integers, either in its root method or in any of
+     * the methods compiled with it.
+     */
+    public static boolean isUsingAtomics(ResolvedJavaMethod rootMethod, ResolvedJavaMethod[] methods) {
+        if (globalAtomics.containsKey(rootMethod) || globalAtomicsParameters.containsKey(rootMethod)) {
+            return true;
+        }
+        for (ResolvedJavaMethod method : methods) {
+            if (globalAtomics.containsKey(method) || globalAtomicsParameters.containsKey(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public TornadoAtomicIntegerNode(CUDAKind kind) {
         super(TYPE, CUDAStampFactory.getStampFor(kind));
         this.kind = kind;
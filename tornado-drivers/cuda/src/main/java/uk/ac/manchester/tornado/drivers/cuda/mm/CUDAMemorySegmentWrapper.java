@@ -118,6 +118,14 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
         };
     }
 
+    /**
+     * The bytes before the data of a view belong to the parent array. Therefore, the header of a view is
+     * written from its own segment, and it is never copied back to the host.
+     */
+    private static boolean isView(final Object reference) {
+        return reference instanceof TornadoNativeArray nativeArray && nativeArray.isView();
+    }
+
     @Override
     public int read(long executionPlanId, final Object reference, long hostOffset, long partialReadSize, int[] events, boolean useDeps) {
         MemorySegment segment;
@@ -128,6 +136,9 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
             // Partial Copy Out due to an under demand copy by the user
             // in this case the host offset is equal to the device offset
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), hostOffset, partialReadSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (batchSize <= 0 && isView(reference)) {
+            returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, numBytes - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    hostOffset + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
         } else if (batchSize <= 0) {
             // Partial Copy Out due to batch processing
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, (useDeps) ? events : null);
@@ -146,7 +157,12 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
     public void write(long executionPlanId, Object reference) {
         MemorySegment segment;
         segment = getSegmentWithHeader(reference);
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            MemorySegment header = ((TornadoNativeArray) reference).getHeaderSegment();
+            deviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset, TornadoNativeArray.ARRAY_HEADER, header.address(), 0, null);
+            deviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    TornadoNativeArray.ARRAY_HEADER, null);
+        } else if (batchSize <= 0) {
             deviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), 0, null);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] batch processing for writeBuffer operation");
@@ -159,7 +175,10 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
         segment = getSegmentWithHeader(reference);
 
         final int returnEvent;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    hostOffset + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] batch processing for enqueueReadBuffer operation");
@@ -174,7 +193,13 @@ public class CUDAMemorySegmentWrapper implements XPUBuffer {
         segment = getSegmentWithHeader(reference);
 
         int internalEvent;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            MemorySegment header = ((TornadoNativeArray) reference).getHeaderSegment();
+            internalEvent = deviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset, TornadoNativeArray.ARRAY_HEADER, header.address(), 0, (useDeps) ? events : null);
+            returnEvents.add(internalEvent);
+            internalEvent = deviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    hostOffset + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             if (useStagedTransfer()) {
                 // Large one-shot upload (e.g. FIRST_EXECUTION weights) through the pinned staging ring.
                 internalEvent = deviceContext.enqueueStagedWriteBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
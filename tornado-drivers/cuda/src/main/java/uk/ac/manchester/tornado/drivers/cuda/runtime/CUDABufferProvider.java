@@ -85,6 +85,15 @@ public class CUDABufferProvider extends TornadoBufferProvider {
         ((CUDADeviceContext) deviceContext).getMemoryManager().releaseBuffer(buffer);
     }
 
+    /**
+     * Buffers are the {@code CUdeviceptr} values returned by {@code cuMemAlloc},
+     * so the default pointer arithmetic for the arena sub-buffers applies.
+     */
+    @Override
+    protected boolean isSubAllocationSupported() {
+        return true;
+    }
+
     private static long getCUDAMemFlagForAccess(Access access) {
         switch (access) {
             case READ_ONLY:
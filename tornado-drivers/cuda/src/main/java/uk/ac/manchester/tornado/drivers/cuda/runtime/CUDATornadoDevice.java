@@ -93,6 +93,7 @@ import uk.ac.manchester.tornado.drivers.cuda.mm.CUDAMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.cuda.mm.CUDAShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.cuda.mm.CUDAVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.library.spi.TornadoNativeStreamSupport;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
@@ -102,6 +103,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.jfr.DriverBuildEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -257,15 +259,25 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         final CUDADeviceContextInterface deviceContext = getDeviceContext();
         final CompilableTask executable = (CompilableTask) task;
         final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
-        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
 
         // Return the code from the cache
         if (!task.shouldCompile() && deviceContext.isCached(executionPlanId, task.getId(), resolvedMethod.getName())) {
             return deviceContext.getInstalledCode(executionPlanId, task.getId(), resolvedMethod.getName());
         }
 
-        // copy meta data into task
         final TaskDataContext taskMeta = executable.meta();
+        final boolean isFPGA = CUDABackend.isDeviceAnFPGAAccelerator(deviceContext);
+
+        // Install the code from the persistent kernel cache
+        if (!isFPGA) {
+            PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(executable, this);
+            if (cachedKernel != null) {
+                return deviceContext.installCode(executionPlanId, taskMeta, task.getId(), cachedKernel.entryPoint(), cachedKernel.code());
+            }
+        }
+
+        // copy meta data into task
+        final Sketch sketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
         final Access[] sketchAccess = sketch.getArgumentsAccess();
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
@@ -295,18 +307,26 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
             profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
 
             profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+            final DriverBuildEvent driverBuildEvent = DriverBuildEvent.beginIfEnabled();
             // Compile the code
             CUDAInstalledCode installedCode;
-            if (CUDABackend.isDeviceAnFPGAAccelerator(deviceContext)) {
+            if (isFPGA) {
                 // A) for FPGA
                 installedCode = deviceContext.installCode(executionPlanId, result.getId(), result.getName(), result.getTargetCode(), task.meta().isPrintKernelEnabled());
             } else {
                 // B) for CPU multi-core or GPU
                 installedCode = deviceContext.installCode(executionPlanId, result);
             }
+            if (driverBuildEvent != null) {
+                driverBuildEvent.commit(taskMeta.getId(), getDeviceName());
+            }
             profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
 
+            if (!isFPGA && !TornadoAtomicIntegerNode.isUsingAtomics(resolvedMethod, methods)) {
+                PersistentKernelCache.storeKernel(executable, this, sketch, result.getName(), result.getTargetCode(), methods);
+            }
+
             return installedCode;
         } catch (Exception e) {
             logger.fatal("Unable to compile %s for device %s\n", task.getId(), getDeviceName());
@@ -722,6 +742,11 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         this.getDeviceContext().flush(executionPlanId);
     }
 
+    @Override
+    public boolean isNonBlockingExecutionSupported() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof CUDATornadoDevice other) {
@@ -914,6 +939,11 @@ public class CUDATornadoDevice implements TornadoXPUDevice, TornadoNativeStreamS
         return TornadoVMBackendType.CUDA;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getDriverVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         // An CUDADriver device supports SPIR-V if the version is >= 2.1
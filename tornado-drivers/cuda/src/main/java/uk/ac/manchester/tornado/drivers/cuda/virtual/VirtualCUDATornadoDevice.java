@@ -56,7 +56,9 @@ import uk.ac.manchester.tornado.drivers.cuda.graal.CUDAProviders;
 import uk.ac.manchester.tornado.drivers.cuda.graal.backend.CUDABackend;
 import uk.ac.manchester.tornado.drivers.cuda.graal.compiler.CUDACompilationResult;
 import uk.ac.manchester.tornado.drivers.cuda.graal.compiler.CUDACompiler;
+import uk.ac.manchester.tornado.drivers.cuda.graal.nodes.TornadoAtomicIntegerNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -188,10 +190,19 @@ public class VirtualCUDATornadoDevice implements TornadoXPUDevice {
     private TornadoInstalledCode compileTask(SchedulableTask task) {
         final CompilableTask executable = (CompilableTask) task;
         final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
-        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
+        final TaskDataContext taskMeta = executable.meta();
+
+        // Dump the code from the persistent kernel cache
+        PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(executable, this);
+        if (cachedKernel != null) {
+            if (taskMeta.isPrintKernelEnabled()) {
+                RuntimeUtilities.dumpKernel(cachedKernel.code());
+            }
+            return null;
+        }
 
         // copy meta data into task
-        final TaskDataContext taskMeta = executable.meta();
+        final Sketch sketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
         final Access[] sketchAccess = sketch.getArgumentsAccess();
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
@@ -208,6 +219,10 @@ public class VirtualCUDATornadoDevice implements TornadoXPUDevice {
                 RuntimeUtilities.dumpKernel(result.getTargetCode());
             }
 
+            if (!TornadoAtomicIntegerNode.isUsingAtomics(resolvedMethod, result.getMethods())) {
+                PersistentKernelCache.storeKernel(executable, this, sketch, result.getName(), result.getTargetCode(), result.getMethods());
+            }
+
             return null;
         } catch (Exception e) {
             TornadoLogger tornadoLogger = new TornadoLogger();
@@ -473,6 +488,11 @@ public class VirtualCUDATornadoDevice implements TornadoXPUDevice {
         return TornadoVMBackendType.VIRTUAL;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getDriverVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         return false;
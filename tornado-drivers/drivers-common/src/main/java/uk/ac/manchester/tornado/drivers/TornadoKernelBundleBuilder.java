@@ -0,0 +1,211 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package uk.ac.manchester.tornado.drivers;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.drivers.common.utils.ColoursTerminal;
+import uk.ac.manchester.tornado.runtime.cache.KernelBundle;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Program to compile the task-graphs of an application ahead of time and package the generated kernels in a
+ * {@link KernelBundle}. The application loads the bundle with {@code -Dtornado.kernel.bundle=<file>}, and its
+ * task-graphs are installed on the device without running the JIT compiler.
+ *
+ * <p>
+ * The task-graphs are obtained from provider methods: public static methods without parameters that return an
+ * {@link ImmutableTaskGraph}, a {@link TaskGraph}, or an array or {@link Iterable} of them. The task-graphs must be
+ * built exactly as the application builds them, with arguments of the same sizes and the same scalar values, because
+ * these values are specialised in the kernels. The program exits with status 1 if a task-graph does not compile, so
+ * it can be used to fail a build.
+ * </p>
+ *
+ * <p>
+ * Kernels are compiled for the default device, or for the device given with {@code --device}. To build a bundle
+ * for an OpenCL device that is not present in the build machine, use a virtual device whose {@code deviceName} is
+ * the name of the target device.
+ * </p>
+ *
+ * Run as follows:
+ * <p>
+ * <code>
+ * $ tornado -cp app.jar uk.ac.manchester.tornado.drivers.TornadoKernelBundleBuilder --output kernels.tkb --provider com.example.Kernels::taskGraphs
+ * </code>
+ * </p>
+ */
+public class TornadoKernelBundleBuilder {
+
+    private static final String DEFAULT_PROVIDER_METHOD = "taskGraphs";
+    private static final String CACHE_DIR_PROPERTY = "tornado.kernel.cache.dir";
+
+    private static void printUsage() {
+        System.out.println("Usage: TornadoKernelBundleBuilder --output <bundle> --provider <class>[::<method>] [--provider ...] [--device <backendIndex>:<deviceIndex>]");
+        System.out.println("  --output    Kernel bundle to create");
+        System.out.println("  --provider  Public static method that returns the task-graphs to compile (default method: " + DEFAULT_PROVIDER_METHOD + ")");
+        System.out.println("  --device    Device to compile for (default: the default TornadoVM device)");
+    }
+
+    private static void fail(String message) {
+        System.err.println(ColoursTerminal.RED + "[TornadoVM Kernel Bundle] " + message + ColoursTerminal.RESET);
+        System.exit(1);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path output = null;
+        String device = null;
+        List<String> providers = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--output" -> output = value == null ? null : Paths.get(value);
+                case "--provider" -> providers.add(value);
+                case "--device" -> device = value;
+                default -> {
+                    printUsage();
+                    fail("Unknown option " + args[i]);
+                }
+            }
+            if (value == null) {
+                printUsage();
+                fail("Missing value of " + args[i]);
+            }
+            i++;
+        }
+        if (output == null || providers.isEmpty()) {
+            printUsage();
+            fail("--output and --provider are required");
+        }
+
+        // The kernels are stored in a private cache directory, which must be set before the runtime is initialised.
+        Path records = Files.createTempDirectory("tornado-kernel-bundle");
+        System.setProperty(CACHE_DIR_PROPERTY, records.toString());
+        try {
+            if (!records.toString().equals(TornadoOptions.KERNEL_CACHE_DIR)) {
+                fail("The runtime was initialised before the kernel cache could be configured");
+            }
+            build(output, providers, device == null ? null : resolveDevice(device), records);
+        } finally {
+            try (Stream<Path> files = Files.walk(records)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private static TornadoDevice resolveDevice(String device) {
+        String[] indices = device.split(":");
+        if (indices.length != 2) {
+            fail("Invalid device " + device + ": expected <backendIndex>:<deviceIndex>");
+        }
+        return TornadoRuntimeProvider.getTornadoRuntime().getBackend(Integer.parseInt(indices[0])).getDevice(Integer.parseInt(indices[1]));
+    }
+
+    private static void build(Path output, List<String> providers, TornadoDevice device, Path records) throws IOException {
+        TornadoDevice targetDevice = device != null ? device : TornadoRuntimeProvider.getTornadoRuntime().getDefaultDevice();
+        int numGraphs = 0;
+        for (String provider : providers) {
+            for (ImmutableTaskGraph taskGraph : loadTaskGraphs(provider)) {
+                long stored = PersistentKernelCache.getStoredKernels();
+                long hits = PersistentKernelCache.getHits();
+                try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph)) {
+                    executionPlan.withDevice(targetDevice).withPreCompilation();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    fail("Task-graph " + numGraphs + " of " + provider + " does not compile: " + e.getMessage());
+                }
+                long kernels = PersistentKernelCache.getStoredKernels() - stored + PersistentKernelCache.getHits() - hits;
+                if (kernels == 0) {
+                    System.out.println(ColoursTerminal.YELLOW + "[TornadoVM Kernel Bundle] Warning: no kernel of task-graph " + numGraphs + " of " + provider
+                            + " can be bundled (kernels with atomics or reductions are always compiled at runtime)" + ColoursTerminal.RESET);
+                }
+                numGraphs++;
+            }
+        }
+
+        Properties manifest = new Properties();
+        manifest.setProperty("providers", String.join(",", providers));
+        manifest.setProperty("device", targetDevice.getPhysicalDevice().getDeviceName());
+        manifest.setProperty("backend", targetDevice.getTornadoVMBackend().name());
+        manifest.setProperty("java.vm.version", System.getProperty("java.vm.version"));
+        int numRecords = KernelBundle.write(output, records, manifest);
+        System.out.println("[TornadoVM Kernel Bundle] " + output + ": " + PersistentKernelCache.getStoredKernels() + " kernels, " + numRecords + " records, " + numGraphs + " task-graphs for "
+                + targetDevice.getPhysicalDevice().getDeviceName());
+    }
+
+    private static List<ImmutableTaskGraph> loadTaskGraphs(String provider) {
+        int separator = provider.indexOf("::");
+        String className = separator < 0 ? provider : provider.substring(0, separator);
+        String methodName = separator < 0 ? DEFAULT_PROVIDER_METHOD : provider.substring(separator + 2);
+        Object result = null;
+        try {
+            Class<?> klass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            Method method = klass.getMethod(methodName);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                fail("Provider " + provider + " is not a static method");
+            }
+            result = method.invoke(null);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            fail("Provider " + provider + " not found: " + e);
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace();
+            fail("Provider " + provider + " failed: " + e.getCause());
+        }
+        List<ImmutableTaskGraph> taskGraphs = new ArrayList<>();
+        collectTaskGraphs(result, provider, taskGraphs);
+        return taskGraphs;
+    }
+
+    private static void collectTaskGraphs(Object value, String provider, List<ImmutableTaskGraph> taskGraphs) {
+        if (value instanceof ImmutableTaskGraph immutableTaskGraph) {
+            taskGraphs.add(immutableTaskGraph);
+        } else if (value instanceof TaskGraph taskGraph) {
+            taskGraphs.add(taskGraph.snapshot());
+        } else if (value instanceof Iterable<?> iterable) {
+            iterable.forEach(element -> collectTaskGraphs(element, provider, taskGraphs));
+        } else if (value != null && value.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(value); i++) {
+                collectTaskGraphs(Array.get(value, i), provider, taskGraphs);
+            }
+        } else {
+            fail("Provider " + provider + " returned " + value + ", expected task-graphs");
+        }
+    }
+}
@@ -25,14 +25,17 @@ package uk.ac.manchester.tornado.drivers.common;
 import static uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray.ARRAY_HEADER;
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.DEVICE_AVAILABLE_MEMORY;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 
 import uk.ac.manchester.tornado.api.TornadoDeviceContext;
-import uk.ac.manchester.tornado.api.TornadoTargetDevice;
 import uk.ac.manchester.tornado.api.common.Access;
-import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.common.mm.BufferAllocationStrategy;
+import uk.ac.manchester.tornado.drivers.common.mm.BufferAllocatorStatistics;
+import uk.ac.manchester.tornado.drivers.common.mm.BuddyMemoryArena;
+import uk.ac.manchester.tornado.drivers.common.mm.LinearBufferAllocationStrategy;
+import uk.ac.manchester.tornado.drivers.common.mm.SizeClassBufferAllocationStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
@@ -43,33 +46,61 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
  * and another list of free buffers. When performing an allocation, it first
  * checks if memory is available on the device. If it is not, then it will try
  * to reuse a buffer from the free list of buffers.
+ *
+ * <p>
+ * The bookkeeping of used and free buffers is delegated to a
+ * {@link BufferAllocationStrategy}, which is selected with the
+ * {@code tornado.device.buffer.allocator} option.
+ * </p>
+ *
+ * <p>
+ * If the arena mode is enabled ({@code tornado.device.arena=True}) and the
+ * backend supports sub-allocation, native buffers are carved out of a single
+ * large backing allocation per device, managed by a {@link BuddyMemoryArena}.
+ * Requests that do not fit in the arena fall back to regular native
+ * allocations. The backing allocation is subtracted from the available device
+ * memory when the arena is reserved, so the buffers carved out of the arena do
+ * not count against it again.
+ * </p>
  */
 public abstract class TornadoBufferProvider {
 
     protected final TornadoDeviceContext deviceContext;
-    protected final HashMap<Access, ArrayList<BufferContainer>> freeBuffers;
-    protected final HashMap<Access, ArrayList<BufferContainer>> usedBuffers;
+    protected final BufferAllocationStrategy allocationStrategy;
     protected long currentMemoryAvailable;
     private TornadoLogger logger = new TornadoLogger(this.getClass());
 
+    private long cacheHits;
+    private long cacheMisses;
+    private long nativeAllocations;
+    private long nativeReleases;
+
+    private BuddyMemoryArena arena;
+    private long arenaBuffer;
+    private boolean arenaInitialized;
+    private final HashMap<Long, Long> subBufferOffsets = new HashMap<>();
+    private long arenaBytesReleased;
+
     private static final String RESET = "\u001B[0m";
     public static final String YELLOW = "\u001B[33m";
     private static final String OUT_OF_MEMORY_MESSAGE = YELLOW + "\n\tTo increase the maximum device memory, use -Dtornado.device.memory=<X>GB\n" + RESET;
 
     protected TornadoBufferProvider(TornadoDeviceContext deviceContext) {
+        this(deviceContext, createAllocationStrategy(TornadoOptions.DEVICE_BUFFER_ALLOCATOR));
+    }
+
+    protected TornadoBufferProvider(TornadoDeviceContext deviceContext, BufferAllocationStrategy allocationStrategy) {
         this.deviceContext = deviceContext;
-        this.usedBuffers = initializeBufferHashMap();
-        this.freeBuffers = initializeBufferHashMap();
+        this.allocationStrategy = allocationStrategy;
         currentMemoryAvailable = TornadoOptions.DEVICE_AVAILABLE_MEMORY;
     }
 
-    private HashMap<Access, ArrayList<BufferContainer>> initializeBufferHashMap() {
-        HashMap<Access, ArrayList<BufferContainer>> bufferAccesses = new HashMap<>();
-        for (Access access : Access.values()) {
-            ArrayList<BufferContainer> bufferList = new ArrayList<>();
-            bufferAccesses.put(access, bufferList);
-        }
-        return bufferAccesses;
+    public static BufferAllocationStrategy createAllocationStrategy(String name) {
+        return switch (name.toLowerCase()) {
+            case "linear" -> new LinearBufferAllocationStrategy();
+            case "sizeclass" -> new SizeClassBufferAllocationStrategy(TornadoOptions.DEVICE_BUFFER_MAX_FREE_PER_CLASS);
+            default -> throw new TornadoRuntimeException("[ERROR] Buffer allocator not supported: " + name + ". Use one of {linear, sizeclass}");
+        };
     }
 
     /**
@@ -84,19 +115,10 @@ public abstract class TornadoBufferProvider {
      *
      * @return True if a buffer to reuse is available, or false otherwise.
      */
-    public boolean reuseBufferForBatchProcessing(long batchSize, Access access, int numberOfBuffersForAccessType) {
-        boolean matchFound = false;
-        if (!usedBuffers.get(access).isEmpty()) {
-            for (BufferContainer bufferContainer : usedBuffers.get(access)) {
-                if (usedBuffers.get(access).size() < numberOfBuffersForAccessType) {
-                    return false;
-                }
-                long size = bufferContainer.size;
-                matchFound = (size == batchSize + ARRAY_HEADER);
-                if (matchFound) {
-                    logger.debug("Reuse buffer %s from the used-list for batch processing. Batch Size = %s, Access = %s %n", bufferContainer, batchSize, access);
-                }
-            }
+    public synchronized boolean reuseBufferForBatchProcessing(long batchSize, Access access, int numberOfBuffersForAccessType) {
+        boolean matchFound = allocationStrategy.canReuseForBatch(batchSize + ARRAY_HEADER, access, numberOfBuffersForAccessType);
+        if (matchFound) {
+            logger.debug("Reuse buffer from the used-list for batch processing. Batch Size = %s, Access = %s %n", batchSize, access);
         }
         return matchFound;
     }
@@ -105,67 +127,156 @@ public abstract class TornadoBufferProvider {
 
     protected abstract void releaseBuffer(long buffer);
 
-    private synchronized long allocate(long size, Access access) {
-        long buffer = allocateBuffer(size, access);
-        currentMemoryAvailable -= size;
-        BufferContainer bufferInfo = new BufferContainer(buffer, size, access);
-        usedBuffers.get(access).add(bufferInfo);
-        logger.debug("Buffer %s has been allocated and included in the usedBuffers list with access: %s", bufferInfo, access);
-        return bufferInfo.buffer;
+    /**
+     * Backends that can create buffers as sub-ranges of a larger buffer override
+     * this method to enable the arena mode.
+     *
+     * @return True if {@link #createSubBuffer} is supported by the backend.
+     */
+    protected boolean isSubAllocationSupported() {
+        return false;
     }
 
-    private synchronized void freeBuffers(long size, Access access) {
-        // Attempts to free buffers of given size.
-        long remainingSize = size;
-        while (!freeBuffers.get(access).isEmpty() && remainingSize > 0) {
-            BufferContainer bufferInfo = freeBuffers.get(access).removeFirst();
-            TornadoInternalError.guarantee(!usedBuffers.get(access).contains(bufferInfo), "This buffer should not be used");
-            remainingSize -= bufferInfo.size;
-            currentMemoryAvailable += bufferInfo.size;
-            releaseBuffer(bufferInfo.buffer);
+    /**
+     * @return Minimum alignment in bytes of the sub-buffers created within the arena.
+     */
+    protected long getSubAllocationAlignment() {
+        return TornadoOptions.DEVICE_ARENA_MIN_BLOCK_SIZE;
+    }
+
+    /**
+     * Creates a buffer that refers to a sub-range of the backing buffer of the
+     * arena. By default, it returns the device address of the sub-range, which is
+     * valid for backends in which buffers are device pointers.
+     *
+     * @param baseBuffer
+     *     Backing buffer of the arena.
+     * @param offset
+     *     Offset in bytes of the sub-range.
+     * @param size
+     *     Size in bytes of the sub-range.
+     * @param access
+     *     Access type of the buffer.
+     * @return The buffer handle for the sub-range.
+     */
+    protected long createSubBuffer(long baseBuffer, long offset, long size, Access access) {
+        return baseBuffer + offset;
+    }
+
+    /**
+     * Releases a buffer created with {@link #createSubBuffer}. The memory of the
+     * sub-range is owned by the arena, so nothing is required for backends in
+     * which buffers are device pointers.
+     */
+    protected void releaseSubBuffer(long subBuffer) {
+    }
+
+    /**
+     * @return True if the buffers of this provider are carved out of a device memory arena.
+     */
+    protected boolean isArenaEnabled() {
+        return TornadoOptions.DEVICE_ARENA && isSubAllocationSupported();
+    }
+
+    /**
+     * @return Size in bytes of the device memory arena. It is rounded down to a power of two.
+     */
+    protected long getArenaSize() {
+        return TornadoOptions.DEVICE_ARENA_SIZE;
+    }
+
+    private boolean isArenaAvailable(long maxAllocationSize) {
+        if (!arenaInitialized) {
+            arenaInitialized = true;
+            if (isArenaEnabled()) {
+                long arenaSize = Math.min(Math.min(getArenaSize(), currentMemoryAvailable), maxAllocationSize - 1);
+                long alignment = Math.max(getSubAllocationAlignment(), TornadoOptions.DEVICE_ARENA_MIN_BLOCK_SIZE);
+                // The arena capacity is a power of two, so we reserve only the bytes the buddy allocator can use.
+                arenaSize = Long.highestOneBit(arenaSize);
+                if (arenaSize >= alignment) {
+                    arena = new BuddyMemoryArena(arenaSize, alignment);
+                    arenaBuffer = allocateBuffer(arena.getCapacity(), Access.READ_WRITE);
+                    currentMemoryAvailable -= arena.getCapacity();
+                    logger.debug("Device arena of %d bytes reserved at 0x%x (minimum block size %d bytes)", arena.getCapacity(), arenaBuffer, alignment);
+                }
+            }
         }
+        return arena != null;
     }
 
-    public synchronized long deallocate(Access access) {
-        // Attempts to free buffers of given size.
-        long spaceDeallocated = 0;
-        while (!freeBuffers.get(access).isEmpty()) {
-            BufferContainer bufferInfo = freeBuffers.get(access).removeFirst();
-            TornadoInternalError.guarantee(!usedBuffers.get(access).contains(bufferInfo), "This buffer should not be used");
-            currentMemoryAvailable += bufferInfo.size;
-            spaceDeallocated += bufferInfo.size;
-            releaseBuffer(bufferInfo.buffer);
+    /**
+     * @return True if a buffer of the given size can be carved out of the arena or allocated in the remaining device memory.
+     */
+    private boolean canAllocate(long sizeInBytes, long maxAllocationSize) {
+        if (isArenaAvailable(maxAllocationSize) && arena.getLargestFreeBlock() >= allocationStrategy.getAllocationSize(sizeInBytes)) {
+            return true;
         }
-        return spaceDeallocated;
+        return sizeInBytes <= currentMemoryAvailable;
     }
 
-    private synchronized BufferContainer markBufferUsed(int freeBufferIndex, Access access) {
-        BufferContainer buffer = freeBuffers.get(access).get(freeBufferIndex);
-        usedBuffers.get(access).add(buffer);
-        freeBuffers.get(access).remove(buffer);
+    private synchronized long allocate(long size, Access access, long maxAllocationSize) {
+        long capacity = allocationStrategy.getAllocationSize(size);
+        long offset = isArenaAvailable(maxAllocationSize) ? arena.allocate(capacity) : BuddyMemoryArena.NO_OFFSET;
+        long buffer;
+        if (offset != BuddyMemoryArena.NO_OFFSET) {
+            // The block is part of the backing allocation of the arena, which is already accounted for
+            capacity = arena.getBlockSize(offset);
+            buffer = createSubBuffer(arenaBuffer, offset, capacity, access);
+            subBufferOffsets.put(buffer, offset);
+        } else {
+            if (capacity > currentMemoryAvailable || capacity >= maxAllocationSize) {
+                // The rounded-up size does not fit on the device. Fall back to the exact size.
+                capacity = size;
+            }
+            buffer = allocateBuffer(capacity, access);
+            currentMemoryAvailable -= capacity;
+        }
+        nativeAllocations++;
+        cacheMisses++;
+        allocationStrategy.registerAllocation(buffer, size, capacity, access);
+        logger.debug("Buffer 0x%x (%d bytes) has been allocated and included in the usedBuffers list with access: %s", buffer, capacity, access);
         return buffer;
     }
 
+    private void releaseNativeBuffer(long buffer) {
+        Long offset = subBufferOffsets.remove(buffer);
+        if (offset != null) {
+            releaseSubBuffer(buffer);
+            arenaBytesReleased += arena.free(offset);
+        } else {
+            releaseBuffer(buffer);
+        }
+        nativeReleases++;
+    }
+
     /**
-     * First check if there is an available buffer of a given size. Perform a
-     * sequential search through the freeBuffers to get the buffer with the smaller
-     * size than can fulfill the allocation. The number of allocated buffers is
-     * usually low, so searching sequentially should not take a lot of time.
-     *
-     * @param sizeInBytes
-     *     Size in bytes for the requested buffer.
-     * @return returns the index position of a free buffer within the free buffer
-     *     list. It returns -1 if a free buffer slot is not found.
+     * Returns the bytes released by the allocation strategy that go back to the device memory. The blocks returned to
+     * the arena remain part of its backing allocation.
      */
-    private synchronized int bufferIndexOfAFreeSpace(long sizeInBytes, Access access) {
-        int minBufferIndex = -1;
-        for (int i = 0; i < freeBuffers.get(access).size(); i++) {
-            BufferContainer bufferInfo = freeBuffers.get(access).get(i);
-            if (bufferInfo.size >= sizeInBytes && (minBufferIndex == -1 || bufferInfo.size < freeBuffers.get(access).get(minBufferIndex).size)) {
-                minBufferIndex = i;
-            }
+    private long toDeviceBytesReleased(long bytesReleased) {
+        long deviceBytesReleased = bytesReleased - arenaBytesReleased;
+        arenaBytesReleased = 0;
+        return deviceBytesReleased;
+    }
+
+    private synchronized void freeBuffers(long size, Access access) {
+        // Attempts to free buffers of given size.
+        currentMemoryAvailable += toDeviceBytesReleased(allocationStrategy.evictFreeBuffers(size, access, this::releaseNativeBuffer));
+    }
+
+    public synchronized long deallocate(Access access) {
+        long spaceDeallocated = allocationStrategy.evictFreeBuffers(Long.MAX_VALUE, access, this::releaseNativeBuffer);
+        currentMemoryAvailable += toDeviceBytesReleased(spaceDeallocated);
+        return spaceDeallocated;
+    }
+
+    private synchronized long acquireFreeBuffer(long sizeInBytes, Access access) {
+        long buffer = allocationStrategy.acquireFreeBuffer(sizeInBytes, access);
+        if (buffer != BufferAllocationStrategy.NO_BUFFER) {
+            cacheHits++;
+            logger.debug("Buffer 0x%x has been reused from the freeBuffers list with access: %s", buffer, access);
         }
-        return minBufferIndex;
+        return buffer;
     }
 
     /**
@@ -176,10 +287,10 @@ public abstract class TornadoBufferProvider {
      *     Size in bytes for the requested buffer.
      * @return It returns a buffer native pointer.
      */
-    private synchronized long freeUnusedNativeBufferAndAssignRegion(long sizeInBytes, Access access) {
+    private synchronized long freeUnusedNativeBufferAndAssignRegion(long sizeInBytes, Access access, long maxAllocationSize) {
         freeBuffers(sizeInBytes, access);
-        if (sizeInBytes <= currentMemoryAvailable) {
-            return allocate(sizeInBytes, access);
+        if (canAllocate(sizeInBytes, maxAllocationSize)) {
+            return allocate(sizeInBytes, access, maxAllocationSize);
         } else {
             throw new TornadoOutOfMemoryException("Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
         }
@@ -198,43 +309,40 @@ public abstract class TornadoBufferProvider {
      *     TornadoOutOfMemoryException}
      */
     public synchronized long getOrAllocateBufferWithSize(long sizeInBytes, Access access) {
-        TornadoTargetDevice device = deviceContext.getDevice();
-        if (sizeInBytes <= currentMemoryAvailable && sizeInBytes < device.getDeviceMaxAllocationSize()) {
+        long maxAllocationSize = deviceContext.getDevice().getDeviceMaxAllocationSize();
+        if (sizeInBytes >= maxAllocationSize) {
+            throw new TornadoOutOfMemoryException("[ERROR] Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
+        }
+
+        if (allocationStrategy.isReuseFirst()) {
+            long buffer = acquireFreeBuffer(sizeInBytes, access);
+            if (buffer != BufferAllocationStrategy.NO_BUFFER) {
+                return buffer;
+            }
+        }
+
+        if (canAllocate(sizeInBytes, maxAllocationSize)) {
             // Allocate if there is enough device memory.
-            return allocate(sizeInBytes, access);
-        } else if (sizeInBytes < device.getDeviceMaxAllocationSize()) {
-            int minBufferIndex = bufferIndexOfAFreeSpace(sizeInBytes, access);
+            return allocate(sizeInBytes, access, maxAllocationSize);
+        }
+
+        if (!allocationStrategy.isReuseFirst()) {
+            long buffer = acquireFreeBuffer(sizeInBytes, access);
             // If a buffer was found, mark it as used and return it.
-            if (minBufferIndex != -1) {
-                return markBufferUsed(minBufferIndex, access).buffer;
-            } else {
-                return freeUnusedNativeBufferAndAssignRegion(sizeInBytes, access);
+            if (buffer != BufferAllocationStrategy.NO_BUFFER) {
+                return buffer;
             }
-        } else {
-            throw new TornadoOutOfMemoryException("[ERROR] Unable to allocate " + sizeInBytes + " bytes of memory." + OUT_OF_MEMORY_MESSAGE);
         }
+        return freeUnusedNativeBufferAndAssignRegion(sizeInBytes, access, maxAllocationSize);
     }
 
     /**
-     * Removes the buffer from the {@link #usedBuffers} list and add it to
-     * the @{@link #freeBuffers} list.
+     * Removes the buffer from the list of used buffers and add it to
+     * the list of free buffers.
      */
     public synchronized void markBufferReleased(long buffer, Access access) {
-        int foundIndex = -1;
-        for (int i = 0; i < usedBuffers.get(access).size(); i++) {
-            // find the buffer slot to mark it as free
-            if (usedBuffers.get(access).get(i) != null && usedBuffers.get(access).get(i).buffer == buffer) {
-                foundIndex = i;
-                break;
-            }
-        }
-
-        if (foundIndex != -1) {
-            // if found, we mark it as free by inserting it into the free list
-            BufferContainer removedBuffer = usedBuffers.get(access).remove(foundIndex);
-            freeBuffers.get(access).add(removedBuffer);
-            logger.debug("Buffer %s has been released and included in the freeBuffers list for access: %s", removedBuffer, access);
-        }
+        currentMemoryAvailable += toDeviceBytesReleased(allocationStrategy.markReleased(buffer, access, this::releaseNativeBuffer));
+        logger.debug("Buffer 0x%x has been released and included in the freeBuffers list for access: %s", buffer, access);
     }
 
     /**
@@ -244,30 +352,37 @@ public abstract class TornadoBufferProvider {
      *     Number of free buffers.
      * @return boolean.
      */
-    public boolean isNumFreeBuffersAvailable(int numBuffers, Access access) {
-        return freeBuffers.get(access).size() >= numBuffers;
+    public synchronized boolean isNumFreeBuffersAvailable(int numBuffers, Access access) {
+        return allocationStrategy.getNumFreeBuffers(access) >= numBuffers;
     }
 
     public synchronized void resetBuffers(Access access) {
         freeBuffers(DEVICE_AVAILABLE_MEMORY, access);
     }
 
-    private record BufferContainer(long buffer, long size, Access access) {
-
-        @Override
-        public boolean equals(Object object) {
-            if (this == object) {
-                return true;
-            }
-            if (!(object instanceof BufferContainer that)) {
-                return false;
-            }
-            return buffer == that.buffer && size == that.size;
+    /**
+     * Returns the backing allocation of the arena to the driver. This is only
+     * possible when no sub-buffers are in use or cached; otherwise, the arena is
+     * kept.
+     *
+     * @return True if the arena has been released.
+     */
+    public synchronized boolean releaseArena() {
+        if (arena == null || arena.getNumAllocatedBlocks() != 0) {
+            return false;
         }
+        releaseBuffer(arenaBuffer);
+        currentMemoryAvailable += arena.getCapacity();
+        arena = null;
+        arenaInitialized = false;
+        return true;
+    }
 
-        @Override
-        public int hashCode() {
-            return (int) buffer;
-        }
+    /**
+     * @return A snapshot of the allocation counters of this buffer provider.
+     */
+    public synchronized BufferAllocatorStatistics getAllocatorStatistics() {
+        return new BufferAllocatorStatistics(cacheHits, cacheMisses, nativeAllocations, nativeReleases, allocationStrategy.getRequestedBytesInUse(), allocationStrategy.getReservedBytesInUse(),
+                allocationStrategy.getCachedBytes());
     }
 }
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.util.HashMap;
+import java.util.TreeSet;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
+
+/**
+ * Buddy allocator that hands out sub-ranges of a single device region. The
+ * region is split in power-of-two blocks, and each block is aligned to its own
+ * size. Therefore, every offset returned is, at least, aligned to the minimum
+ * block size. When a block is freed, it is merged with its buddy if the buddy
+ * is also free, so the region does not fragment over time.
+ *
+ * <p>
+ * This class only keeps track of offsets within the region. The backing
+ * allocation and the creation of the sub-buffers are performed by the
+ * {@link uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider}.
+ * </p>
+ */
+public class BuddyMemoryArena {
+
+    public static final long NO_OFFSET = -1;
+
+    private final long capacity;
+    private final int minOrder;
+    private final int maxOrder;
+
+    /**
+     * Free blocks, indexed by order (log2 of the block size). Offsets are kept
+     * sorted, so the lowest address is always used first.
+     */
+    private final TreeSet<Long>[] freeBlocks;
+
+    /**
+     * Order of every allocated block, indexed by offset.
+     */
+    private final HashMap<Long, Integer> allocatedBlocks;
+    private long bytesAllocated;
+
+    /**
+     * @param capacity
+     *     Size in bytes of the region. It is rounded down to a power of two.
+     * @param minBlockSize
+     *     Minimum block size in bytes, which also sets the minimum alignment of
+     *     the offsets. It is rounded up to a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public BuddyMemoryArena(long capacity, long minBlockSize) {
+        TornadoInternalError.guarantee(minBlockSize > 0 && capacity >= minBlockSize, "Invalid arena configuration: capacity %d, minimum block size %d", capacity, minBlockSize);
+        this.maxOrder = Long.SIZE - 1 - Long.numberOfLeadingZeros(capacity);
+        this.minOrder = Long.SIZE - Long.numberOfLeadingZeros(minBlockSize - 1);
+        TornadoInternalError.guarantee(minOrder <= maxOrder, "Arena capacity %d is smaller than the minimum block size %d", capacity, minBlockSize);
+        this.capacity = 1L << maxOrder;
+        this.freeBlocks = new TreeSet[maxOrder + 1];
+        for (int order = minOrder; order <= maxOrder; order++) {
+            freeBlocks[order] = new TreeSet<>();
+        }
+        freeBlocks[maxOrder].add(0L);
+        this.allocatedBlocks = new HashMap<>();
+    }
+
+    private int orderFor(long sizeInBytes) {
+        int order = sizeInBytes <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(sizeInBytes - 1);
+        return Math.max(order, minOrder);
+    }
+
+    /**
+     * Reserves a block that can hold the given size.
+     *
+     * @return The offset of the block within the region, or {@link #NO_OFFSET}
+     *     if there is no free block large enough.
+     */
+    public long allocate(long sizeInBytes) {
+        if (sizeInBytes <= 0 || sizeInBytes > capacity) {
+            return NO_OFFSET;
+        }
+        int order = orderFor(sizeInBytes);
+        int candidate = order;
+        while (candidate <= maxOrder && freeBlocks[candidate].isEmpty()) {
+            candidate++;
+        }
+        if (candidate > maxOrder) {
+            return NO_OFFSET;
+        }
+        long offset = freeBlocks[candidate].pollFirst();
+        // Split the block until it has the requested order. The upper halves are kept as free buddies.
+        while (candidate > order) {
+            candidate--;
+            freeBlocks[candidate].add(offset + (1L << candidate));
+        }
+        allocatedBlocks.put(offset, order);
+        bytesAllocated += 1L << order;
+        return offset;
+    }
+
+    /**
+     * Returns a block to the arena, merging it with its free buddies.
+     *
+     * @return The size in bytes of the block released.
+     */
+    public long free(long offset) {
+        Integer allocatedOrder = allocatedBlocks.remove(offset);
+        TornadoInternalError.guarantee(allocatedOrder != null, "Offset 0x%x has not been allocated from the arena", offset);
+        int order = allocatedOrder;
+        long blockSize = 1L << order;
+        bytesAllocated -= blockSize;
+        long block = offset;
+        while (order < maxOrder) {
+            long buddy = block ^ (1L << order);
+            if (!freeBlocks[order].remove(buddy)) {
+                break;
+            }
+            block = Math.min(block, buddy);
+            order++;
+        }
+        freeBlocks[order].add(block);
+        return blockSize;
+    }
+
+    /**
+     * @return The size in bytes of the block allocated at the given offset.
+     */
+    public long getBlockSize(long offset) {
+        Integer order = allocatedBlocks.get(offset);
+        return order == null ? 0 : 1L << order;
+    }
+
+    public boolean isAllocated(long offset) {
+        return allocatedBlocks.containsKey(offset);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getBytesAllocated() {
+        return bytesAllocated;
+    }
+
+    public int getNumAllocatedBlocks() {
+        return allocatedBlocks.size();
+    }
+
+    /**
+     * @return The size in bytes of the largest block that can be allocated.
+     */
+    public long getLargestFreeBlock() {
+        for (int order = maxOrder; order >= minOrder; order--) {
+            if (!freeBlocks[order].isEmpty()) {
+                return 1L << order;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.util.function.LongConsumer;
+
+import uk.ac.manchester.tornado.api.common.Access;
+
+/**
+ * Strategy used by the {@link uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider} to keep track of the
+ * device buffers that are in use and of the buffers that have been released by the runtime and can be reused for
+ * subsequent allocations. The strategy only performs the bookkeeping; native allocations and releases are always
+ * performed by the buffer provider of each backend.
+ */
+public interface BufferAllocationStrategy {
+
+    /**
+     * Value returned when no cached buffer can fulfill a request.
+     */
+    long NO_BUFFER = -1;
+
+    /**
+     * It returns the number of bytes to request from the driver for a new allocation of the given size.
+     *
+     * @param sizeInBytes
+     *     Size in bytes requested by the runtime.
+     * @return Capacity in bytes of the native buffer to allocate.
+     */
+    long getAllocationSize(long sizeInBytes);
+
+    /**
+     * If true, the buffer provider tries to reuse a cached buffer before performing a new native allocation. Otherwise,
+     * cached buffers are only reused when the device runs out of memory.
+     */
+    boolean isReuseFirst();
+
+    /**
+     * Registers a new native buffer as used.
+     *
+     * @param buffer
+     *     Native buffer handle.
+     * @param sizeInBytes
+     *     Size in bytes requested by the runtime.
+     * @param capacity
+     *     Size in bytes of the native buffer.
+     * @param access
+     *     Access type of the buffer.
+     */
+    void registerAllocation(long buffer, long sizeInBytes, long capacity, Access access);
+
+    /**
+     * Finds a cached buffer that can hold the requested size and marks it as used.
+     *
+     * @return The native buffer handle, or {@link #NO_BUFFER} if there is no suitable buffer.
+     */
+    long acquireFreeBuffer(long sizeInBytes, Access access);
+
+    /**
+     * Moves a used buffer into the cache of free buffers.
+     *
+     * @param buffer
+     *     Native buffer handle.
+     * @param access
+     *     Access type of the buffer.
+     * @param releaser
+     *     Callback that performs the native release of a buffer that has been trimmed from the cache.
+     * @return Number of bytes returned to the driver while trimming the cache.
+     */
+    long markReleased(long buffer, Access access, LongConsumer releaser);
+
+    /**
+     * Releases cached buffers until, at least, the given number of bytes have been returned to the driver or the
+     * cache for the given access type is empty.
+     *
+     * @return Number of bytes returned to the driver.
+     */
+    long evictFreeBuffers(long sizeInBytes, Access access, LongConsumer releaser);
+
+    /**
+     * Checks if the buffers in use for an access type can be reused for the next batch of a batch-processing
+     * execution.
+     */
+    boolean canReuseForBatch(long sizeInBytes, Access access, int numberOfBuffersForAccessType);
+
+    int getNumFreeBuffers(Access access);
+
+    /**
+     * @return Sum of the sizes requested by the runtime for all buffers in use.
+     */
+    long getRequestedBytesInUse();
+
+    /**
+     * @return Sum of the capacities of all native buffers in use.
+     */
+    long getReservedBytesInUse();
+
+    /**
+     * @return Sum of the capacities of all cached buffers.
+     */
+    long getCachedBytes();
+}
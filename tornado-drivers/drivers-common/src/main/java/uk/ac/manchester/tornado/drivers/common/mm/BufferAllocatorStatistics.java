@@ -0,0 +1,68 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+/**
+ * Snapshot of the counters maintained by a
+ * {@link uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider}.
+ *
+ * @param cacheHits
+ *     Number of allocations served by a cached buffer.
+ * @param cacheMisses
+ *     Number of allocations that required a new native buffer.
+ * @param nativeAllocations
+ *     Number of buffers allocated through the driver.
+ * @param nativeReleases
+ *     Number of buffers released through the driver.
+ * @param requestedBytesInUse
+ *     Sum of the sizes requested for the buffers in use.
+ * @param reservedBytesInUse
+ *     Sum of the capacities of the native buffers in use.
+ * @param cachedBytes
+ *     Sum of the capacities of the cached (free) buffers.
+ */
+public record BufferAllocatorStatistics(long cacheHits, long cacheMisses, long nativeAllocations, long nativeReleases, long requestedBytesInUse, long reservedBytesInUse, long cachedBytes) {
+
+    /**
+     * @return Ratio of allocations served from the cache of free buffers.
+     */
+    public double hitRate() {
+        long requests = cacheHits + cacheMisses;
+        return requests == 0 ? 0.0 : (double) cacheHits / requests;
+    }
+
+    /**
+     * @return Fraction of the reserved device memory in use that is not used by the requested sizes (internal
+     *     fragmentation).
+     */
+    public double fragmentation() {
+        return reservedBytesInUse == 0 ? 0.0 : 1.0 - ((double) requestedBytesInUse / reservedBytesInUse);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.2f, nativeAllocations=%d, nativeReleases=%d, inUse=%d/%d bytes, fragmentation=%.2f, cached=%d bytes", cacheHits, cacheMisses, hitRate(),
+                nativeAllocations, nativeReleases, requestedBytesInUse, reservedBytesInUse, fragmentation(), cachedBytes);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.function.LongConsumer;
+
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
+
+/**
+ * Default allocation strategy. It maintains a list of used buffers and another
+ * list of free buffers per access type. Cached buffers are only reused when the
+ * device runs out of memory, and in that case, a sequential search through the
+ * free buffers returns the smallest buffer that can fulfill the allocation.
+ * Buffers are returned to the driver in FIFO order.
+ */
+public class LinearBufferAllocationStrategy implements BufferAllocationStrategy {
+
+    private final EnumMap<Access, ArrayList<BufferContainer>> freeBuffers;
+    private final EnumMap<Access, ArrayList<BufferContainer>> usedBuffers;
+    private long requestedBytesInUse;
+    private long reservedBytesInUse;
+    private long cachedBytes;
+
+    public LinearBufferAllocationStrategy() {
+        this.freeBuffers = initializeBufferMap();
+        this.usedBuffers = initializeBufferMap();
+    }
+
+    private static EnumMap<Access, ArrayList<BufferContainer>> initializeBufferMap() {
+        EnumMap<Access, ArrayList<BufferContainer>> bufferAccesses = new EnumMap<>(Access.class);
+        for (Access access : Access.values()) {
+            bufferAccesses.put(access, new ArrayList<>());
+        }
+        return bufferAccesses;
+    }
+
+    @Override
+    public long getAllocationSize(long sizeInBytes) {
+        return sizeInBytes;
+    }
+
+    @Override
+    public boolean isReuseFirst() {
+        return false;
+    }
+
+    @Override
+    public void registerAllocation(long buffer, long sizeInBytes, long capacity, Access access) {
+        usedBuffers.get(access).add(new BufferContainer(buffer, capacity, sizeInBytes, access));
+        requestedBytesInUse += sizeInBytes;
+        reservedBytesInUse += capacity;
+    }
+
+    /**
+     * Perform a sequential search through the freeBuffers to get the buffer with the smaller
+     * size than can fulfill the allocation. The number of allocated buffers is
+     * usually low, so searching sequentially should not take a lot of time.
+     */
+    @Override
+    public long acquireFreeBuffer(long sizeInBytes, Access access) {
+        ArrayList<BufferContainer> free = freeBuffers.get(access);
+        int minBufferIndex = -1;
+        for (int i = 0; i < free.size(); i++) {
+            BufferContainer bufferInfo = free.get(i);
+            if (bufferInfo.size >= sizeInBytes && (minBufferIndex == -1 || bufferInfo.size < free.get(minBufferIndex).size)) {
+                minBufferIndex = i;
+            }
+        }
+        if (minBufferIndex == -1) {
+            return NO_BUFFER;
+        }
+        BufferContainer bufferInfo = free.remove(minBufferIndex);
+        cachedBytes -= bufferInfo.size;
+        registerAllocation(bufferInfo.buffer, sizeInBytes, bufferInfo.size, access);
+        return bufferInfo.buffer;
+    }
+
+    @Override
+    public long markReleased(long buffer, Access access, LongConsumer releaser) {
+        ArrayList<BufferContainer> used = usedBuffers.get(access);
+        for (int i = 0; i < used.size(); i++) {
+            // find the buffer slot to mark it as free
+            if (used.get(i).buffer == buffer) {
+                BufferContainer removedBuffer = used.remove(i);
+                requestedBytesInUse -= removedBuffer.requestedSize;
+                reservedBytesInUse -= removedBuffer.size;
+                cachedBytes += removedBuffer.size;
+                freeBuffers.get(access).add(removedBuffer);
+                break;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public long evictFreeBuffers(long sizeInBytes, Access access, LongConsumer releaser) {
+        ArrayList<BufferContainer> free = freeBuffers.get(access);
+        long spaceDeallocated = 0;
+        while (!free.isEmpty() && spaceDeallocated < sizeInBytes) {
+            BufferContainer bufferInfo = free.removeFirst();
+            TornadoInternalError.guarantee(!usedBuffers.get(access).contains(bufferInfo), "This buffer should not be used");
+            spaceDeallocated += bufferInfo.size;
+            cachedBytes -= bufferInfo.size;
+            releaser.accept(bufferInfo.buffer);
+        }
+        return spaceDeallocated;
+    }
+
+    @Override
+    public boolean canReuseForBatch(long sizeInBytes, Access access, int numberOfBuffersForAccessType) {
+        ArrayList<BufferContainer> used = usedBuffers.get(access);
+        if (used.size() < numberOfBuffersForAccessType) {
+            return false;
+        }
+        boolean matchFound = false;
+        for (BufferContainer bufferContainer : used) {
+            matchFound = (bufferContainer.size == sizeInBytes);
+        }
+        return matchFound;
+    }
+
+    @Override
+    public int getNumFreeBuffers(Access access) {
+        return freeBuffers.get(access).size();
+    }
+
+    @Override
+    public long getRequestedBytesInUse() {
+        return requestedBytesInUse;
+    }
+
+    @Override
+    public long getReservedBytesInUse() {
+        return reservedBytesInUse;
+    }
+
+    @Override
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private record BufferContainer(long buffer, long size, long requestedSize, Access access) {
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof BufferContainer that)) {
+                return false;
+            }
+            return buffer == that.buffer && size == that.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) buffer;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.function.LongConsumer;
+
+import uk.ac.manchester.tornado.api.common.Access;
+
+/**
+ * Allocation strategy that segregates device buffers in power-of-two size
+ * classes. New allocations are rounded up to the next power of two, so any
+ * cached buffer of a size class can serve any request of that class. Each access
+ * type keeps a bitmask of the non-empty size classes, which makes the lookup of
+ * the best-fitting class a constant-time operation. A cached buffer is only
+ * reused for requests of its own size class or of the class below, so a small
+ * request never holds on to a much larger buffer.
+ *
+ * <p>
+ * Free buffers of each size class are kept in LRU order: the most recently
+ * released buffer is reused first, and the least recently released buffer is
+ * returned to the driver when the number of cached buffers of a class exceeds
+ * the configured limit, or when the device runs out of memory.
+ * </p>
+ */
+public class SizeClassBufferAllocationStrategy implements BufferAllocationStrategy {
+
+    private static final int NUM_SIZE_CLASSES = Long.SIZE;
+    private static final long MIN_ALLOCATION_SIZE = 64;
+
+    /**
+     * Number of size classes above the class of a request whose cached buffers
+     * can serve the request. It bounds the memory wasted by a reuse to four
+     * times the requested size.
+     */
+    private static final int MAX_REUSE_CLASS_DISTANCE = 1;
+
+    private final int maxFreeBuffersPerClass;
+    private final EnumMap<Access, FreeLists> freeBuffers;
+    private final HashMap<Long, BufferEntry> usedBuffers;
+    private final EnumMap<Access, Integer> numUsedBuffers;
+    private final EnumMap<Access, HashMap<Long, Integer>> numUsedBuffersBySize;
+    private long requestedBytesInUse;
+    private long reservedBytesInUse;
+    private long cachedBytes;
+
+    public SizeClassBufferAllocationStrategy(int maxFreeBuffersPerClass) {
+        this.maxFreeBuffersPerClass = maxFreeBuffersPerClass;
+        this.freeBuffers = new EnumMap<>(Access.class);
+        this.numUsedBuffers = new EnumMap<>(Access.class);
+        this.numUsedBuffersBySize = new EnumMap<>(Access.class);
+        for (Access access : Access.values()) {
+            freeBuffers.put(access, new FreeLists());
+            numUsedBuffers.put(access, 0);
+            numUsedBuffersBySize.put(access, new HashMap<>());
+        }
+        this.usedBuffers = new HashMap<>();
+    }
+
+    /**
+     * @return The smallest size class whose buffers can hold the given size.
+     */
+    static int ceilSizeClass(long sizeInBytes) {
+        return sizeInBytes <= 1 ? 0 : NUM_SIZE_CLASSES - Long.numberOfLeadingZeros(sizeInBytes - 1);
+    }
+
+    /**
+     * @return The size class a buffer of the given capacity is stored in.
+     */
+    static int floorSizeClass(long capacity) {
+        return capacity <= 1 ? 0 : NUM_SIZE_CLASSES - 1 - Long.numberOfLeadingZeros(capacity);
+    }
+
+    @Override
+    public long getAllocationSize(long sizeInBytes) {
+        int sizeClass = ceilSizeClass(Math.max(sizeInBytes, MIN_ALLOCATION_SIZE));
+        return sizeClass >= NUM_SIZE_CLASSES - 1 ? sizeInBytes : 1L << sizeClass;
+    }
+
+    @Override
+    public boolean isReuseFirst() {
+        return true;
+    }
+
+    @Override
+    public void registerAllocation(long buffer, long sizeInBytes, long capacity, Access access) {
+        markUsed(new BufferEntry(buffer, capacity, access), sizeInBytes);
+    }
+
+    private void markUsed(BufferEntry entry, long sizeInBytes) {
+        entry.requestedSize = sizeInBytes;
+        usedBuffers.put(entry.buffer, entry);
+        numUsedBuffers.merge(entry.access, 1, Integer::sum);
+        numUsedBuffersBySize.get(entry.access).merge(sizeInBytes, 1, Integer::sum);
+        requestedBytesInUse += sizeInBytes;
+        reservedBytesInUse += entry.capacity;
+    }
+
+    @Override
+    public long acquireFreeBuffer(long sizeInBytes, Access access) {
+        int sizeClass = ceilSizeClass(sizeInBytes);
+        if (sizeClass >= NUM_SIZE_CLASSES) {
+            return NO_BUFFER;
+        }
+        FreeLists lists = freeBuffers.get(access);
+        long candidates = lists.nonEmptyClasses & reuseClassesMask(sizeClass);
+        if (candidates == 0) {
+            return NO_BUFFER;
+        }
+        BufferEntry entry = lists.pollMostRecent(Long.numberOfTrailingZeros(candidates));
+        cachedBytes -= entry.capacity;
+        markUsed(entry, sizeInBytes);
+        return entry.buffer;
+    }
+
+    /**
+     * @return The mask of the size classes whose buffers can serve a request of the given size class.
+     */
+    static long reuseClassesMask(int sizeClass) {
+        int limit = sizeClass + MAX_REUSE_CLASS_DISTANCE + 1;
+        long classesBelowLimit = limit >= NUM_SIZE_CLASSES ? -1L : ~(-1L << limit);
+        return (-1L << sizeClass) & classesBelowLimit;
+    }
+
+    @Override
+    public long markReleased(long buffer, Access access, LongConsumer releaser) {
+        BufferEntry entry = usedBuffers.get(buffer);
+        if (entry == null || entry.access != access) {
+            return 0;
+        }
+        usedBuffers.remove(buffer);
+        numUsedBuffers.merge(access, -1, Integer::sum);
+        numUsedBuffersBySize.get(access).computeIfPresent(entry.requestedSize, (size, count) -> count > 1 ? count - 1 : null);
+        requestedBytesInUse -= entry.requestedSize;
+        reservedBytesInUse -= entry.capacity;
+
+        FreeLists lists = freeBuffers.get(access);
+        int sizeClass = floorSizeClass(entry.capacity);
+        lists.add(sizeClass, entry);
+        cachedBytes += entry.capacity;
+
+        long trimmed = 0;
+        while (lists.size(sizeClass) > maxFreeBuffersPerClass) {
+            trimmed += release(lists.pollLeastRecent(sizeClass), releaser);
+        }
+        return trimmed;
+    }
+
+    @Override
+    public long evictFreeBuffers(long sizeInBytes, Access access, LongConsumer releaser) {
+        FreeLists lists = freeBuffers.get(access);
+        long spaceDeallocated = 0;
+        // Larger classes are evicted first to return the requested space with the minimum number of releases.
+        while (lists.nonEmptyClasses != 0 && spaceDeallocated < sizeInBytes) {
+            int sizeClass = NUM_SIZE_CLASSES - 1 - Long.numberOfLeadingZeros(lists.nonEmptyClasses);
+            spaceDeallocated += release(lists.pollLeastRecent(sizeClass), releaser);
+        }
+        return spaceDeallocated;
+    }
+
+    private long release(BufferEntry entry, LongConsumer releaser) {
+        cachedBytes -= entry.capacity;
+        releaser.accept(entry.buffer);
+        return entry.capacity;
+    }
+
+    @Override
+    public boolean canReuseForBatch(long sizeInBytes, Access access, int numberOfBuffersForAccessType) {
+        return numUsedBuffers.get(access) >= numberOfBuffersForAccessType && numUsedBuffersBySize.get(access).containsKey(sizeInBytes);
+    }
+
+    @Override
+    public int getNumFreeBuffers(Access access) {
+        return freeBuffers.get(access).numBuffers;
+    }
+
+    @Override
+    public long getRequestedBytesInUse() {
+        return requestedBytesInUse;
+    }
+
+    @Override
+    public long getReservedBytesInUse() {
+        return reservedBytesInUse;
+    }
+
+    @Override
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private static final class BufferEntry {
+        private final long buffer;
+        private final long capacity;
+        private final Access access;
+        private long requestedSize;
+
+        private BufferEntry(long buffer, long capacity, Access access) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.access = access;
+        }
+    }
+
+    /**
+     * Free buffers of a single access type, indexed by size class.
+     */
+    private static final class FreeLists {
+        @SuppressWarnings("unchecked")
+        private final ArrayDeque<BufferEntry>[] lists = new ArrayDeque[NUM_SIZE_CLASSES];
+        private long nonEmptyClasses;
+        private int numBuffers;
+
+        private void add(int sizeClass, BufferEntry entry) {
+            if (lists[sizeClass] == null) {
+                lists[sizeClass] = new ArrayDeque<>();
+            }
+            lists[sizeClass].addLast(entry);
+            nonEmptyClasses |= 1L << sizeClass;
+            numBuffers++;
+        }
+
+        private int size(int sizeClass) {
+            return lists[sizeClass] == null ? 0 : lists[sizeClass].size();
+        }
+
+        private BufferEntry pollMostRecent(int sizeClass) {
+            return remove(sizeClass, lists[sizeClass].pollLast());
+        }
+
+        private BufferEntry pollLeastRecent(int sizeClass) {
+            return remove(sizeClass, lists[sizeClass].pollFirst());
+        }
+
+        private BufferEntry remove(int sizeClass, BufferEntry entry) {
+            if (lists[sizeClass].isEmpty()) {
+                nonEmptyClasses &= ~(1L << sizeClass);
+            }
+            numBuffers--;
+            return entry;
+        }
+    }
+}
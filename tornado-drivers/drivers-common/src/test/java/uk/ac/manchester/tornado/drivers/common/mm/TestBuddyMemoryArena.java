@@ -0,0 +1,105 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the bookkeeping of the buddy allocator used by the device memory arena.
+ */
+public class TestBuddyMemoryArena {
+
+    @Test
+    public void testAlignment() {
+        BuddyMemoryArena arena = new BuddyMemoryArena(1 << 20, 256);
+        long a = arena.allocate(10);
+        long b = arena.allocate(300);
+        long c = arena.allocate(100);
+        assertEquals(0, a % 256);
+        assertEquals(0, b % 512);
+        assertEquals(0, c % 256);
+        assertEquals(256, arena.getBlockSize(a));
+        assertEquals(512, arena.getBlockSize(b));
+        assertEquals(256 + 512 + 256, arena.getBytesAllocated());
+    }
+
+    @Test
+    public void testCapacityRoundedDown() {
+        BuddyMemoryArena arena = new BuddyMemoryArena(3000, 256);
+        assertEquals(2048, arena.getCapacity());
+        assertEquals(BuddyMemoryArena.NO_OFFSET, arena.allocate(4096));
+    }
+
+    @Test
+    public void testExhaustionAndCoalescing() {
+        BuddyMemoryArena arena = new BuddyMemoryArena(4096, 1024);
+        long[] blocks = new long[4];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = arena.allocate(1000);
+        }
+        assertEquals(BuddyMemoryArena.NO_OFFSET, arena.allocate(1));
+        assertEquals(0, arena.getLargestFreeBlock());
+
+        // Freeing two blocks that are not buddies does not allow a 2KB allocation
+        arena.free(blocks[1]);
+        arena.free(blocks[2]);
+        assertEquals(1024, arena.getLargestFreeBlock());
+        assertEquals(BuddyMemoryArena.NO_OFFSET, arena.allocate(2048));
+
+        arena.free(blocks[0]);
+        arena.free(blocks[3]);
+        assertEquals(4096, arena.getLargestFreeBlock());
+        assertEquals(0, arena.allocate(4096));
+    }
+
+    @Test
+    public void testRandomAllocations() {
+        BuddyMemoryArena arena = new BuddyMemoryArena(1 << 24, 128);
+        Random random = new Random(7);
+        List<Long> live = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                arena.free(live.remove(random.nextInt(live.size())));
+            } else {
+                long offset = arena.allocate(1 + random.nextInt(1 << 16));
+                if (offset != BuddyMemoryArena.NO_OFFSET) {
+                    assertTrue(offset + arena.getBlockSize(offset) <= arena.getCapacity());
+                    live.add(offset);
+                }
+            }
+        }
+        for (long offset : live) {
+            arena.free(offset);
+        }
+        assertEquals(0, arena.getBytesAllocated());
+        assertEquals(arena.getCapacity(), arena.getLargestFreeBlock());
+    }
+}
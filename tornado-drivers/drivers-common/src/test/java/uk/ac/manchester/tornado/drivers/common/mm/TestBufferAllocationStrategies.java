@@ -0,0 +1,295 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.drivers.common.mm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.TornadoTargetDevice;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+
+/**
+ * Tests the buffer allocation strategies against a simulated device that does
+ * not require any accelerator.
+ */
+public class TestBufferAllocationStrategies {
+
+    private static final long MAX_ALLOCATION_SIZE = 1L << 30;
+
+    /**
+     * Buffer provider whose native allocations are simulated with a counter.
+     */
+    private static class FakeBufferProvider extends TornadoBufferProvider {
+
+        private final HashMap<Long, Long> liveBuffers = new HashMap<>();
+        private long nextHandle = 0x1000;
+
+        FakeBufferProvider(BufferAllocationStrategy strategy, long deviceMemory) {
+            super(fakeDeviceContext(), strategy);
+            this.currentMemoryAvailable = deviceMemory;
+        }
+
+        @Override
+        protected long allocateBuffer(long size, Access access) {
+            long handle = nextHandle;
+            nextHandle += 0x1000;
+            liveBuffers.put(handle, size);
+            return handle;
+        }
+
+        @Override
+        protected void releaseBuffer(long buffer) {
+            assertTrue("Double release of buffer " + buffer, liveBuffers.remove(buffer) != null);
+        }
+
+        long liveBytes() {
+            return liveBuffers.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * Buffer provider that carves its buffers out of a simulated device memory arena.
+     */
+    private static class ArenaBufferProvider extends FakeBufferProvider {
+
+        private static final long SUB_BUFFER_BASE = 1L << 40;
+
+        private final long arenaSize;
+
+        ArenaBufferProvider(long arenaSize, long deviceMemory) {
+            super(new SizeClassBufferAllocationStrategy(4), deviceMemory);
+            this.arenaSize = arenaSize;
+        }
+
+        @Override
+        protected boolean isArenaEnabled() {
+            return true;
+        }
+
+        @Override
+        protected long getArenaSize() {
+            return arenaSize;
+        }
+
+        @Override
+        protected long createSubBuffer(long baseBuffer, long offset, long size, Access access) {
+            return SUB_BUFFER_BASE + offset;
+        }
+
+        long availableMemory() {
+            return currentMemoryAvailable;
+        }
+    }
+
+    private static TornadoDeviceContext fakeDeviceContext() {
+        TornadoTargetDevice device = (TornadoTargetDevice) Proxy.newProxyInstance(TornadoTargetDevice.class.getClassLoader(), new Class<?>[] { TornadoTargetDevice.class }, (proxy, method,
+                args) -> method.getName().equals("getDeviceMaxAllocationSize") ? MAX_ALLOCATION_SIZE : null);
+        return (TornadoDeviceContext) Proxy.newProxyInstance(TornadoDeviceContext.class.getClassLoader(), new Class<?>[] { TornadoDeviceContext.class }, (proxy, method, args) -> method.getName()
+                .equals("getDevice") ? device : null);
+    }
+
+    @Test
+    public void testSizeClasses() {
+        assertEquals(0, SizeClassBufferAllocationStrategy.ceilSizeClass(1));
+        assertEquals(10, SizeClassBufferAllocationStrategy.ceilSizeClass(1024));
+        assertEquals(11, SizeClassBufferAllocationStrategy.ceilSizeClass(1025));
+        assertEquals(10, SizeClassBufferAllocationStrategy.floorSizeClass(2047));
+        SizeClassBufferAllocationStrategy strategy = new SizeClassBufferAllocationStrategy(4);
+        assertEquals(64, strategy.getAllocationSize(3));
+        assertEquals(4096, strategy.getAllocationSize(4000));
+    }
+
+    @Test
+    public void testSizeClassReuse() {
+        FakeBufferProvider provider = new FakeBufferProvider(new SizeClassBufferAllocationStrategy(4), 1L << 20);
+        long first = provider.getOrAllocateBufferWithSize(3000, Access.READ_ONLY);
+        provider.markBufferReleased(first, Access.READ_ONLY);
+
+        // Same size class, different access type: a new buffer is needed
+        long other = provider.getOrAllocateBufferWithSize(3500, Access.WRITE_ONLY);
+        assertNotEquals(first, other);
+
+        // Same size class and access type: the cached buffer is reused
+        long second = provider.getOrAllocateBufferWithSize(4096, Access.READ_ONLY);
+        assertEquals(first, second);
+
+        // Larger size class: a new buffer is needed
+        provider.markBufferReleased(second, Access.READ_ONLY);
+        long third = provider.getOrAllocateBufferWithSize(4097, Access.READ_ONLY);
+        assertNotEquals(first, third);
+
+        BufferAllocatorStatistics statistics = provider.getAllocatorStatistics();
+        assertEquals(1, statistics.cacheHits());
+        assertEquals(3, statistics.cacheMisses());
+        assertEquals(4096 + 8192, statistics.reservedBytesInUse());
+        assertEquals(3500 + 4097, statistics.requestedBytesInUse());
+        assertEquals(4096, statistics.cachedBytes());
+    }
+
+    @Test
+    public void testSizeClassReuseIsBounded() {
+        FakeBufferProvider provider = new FakeBufferProvider(new SizeClassBufferAllocationStrategy(4), 1L << 20);
+        long large = provider.getOrAllocateBufferWithSize(16384, Access.READ_ONLY);
+        provider.markBufferReleased(large, Access.READ_ONLY);
+
+        // Two size classes below the cached buffer: a new buffer is needed
+        long small = provider.getOrAllocateBufferWithSize(4096, Access.READ_ONLY);
+        assertNotEquals(large, small);
+
+        // One size class below the cached buffer: the cached buffer is reused
+        long medium = provider.getOrAllocateBufferWithSize(8192, Access.READ_ONLY);
+        assertEquals(large, medium);
+    }
+
+    @Test
+    public void testSizeClassReuseForBatch() {
+        SizeClassBufferAllocationStrategy strategy = new SizeClassBufferAllocationStrategy(4);
+        FakeBufferProvider provider = new FakeBufferProvider(strategy, 1L << 20);
+        long first = provider.getOrAllocateBufferWithSize(3000, Access.READ_ONLY);
+        provider.getOrAllocateBufferWithSize(3000, Access.READ_ONLY);
+        assertTrue(strategy.canReuseForBatch(3000, Access.READ_ONLY, 2));
+        assertFalse(strategy.canReuseForBatch(3000, Access.READ_ONLY, 3));
+        assertFalse(strategy.canReuseForBatch(3500, Access.READ_ONLY, 2));
+        assertFalse(strategy.canReuseForBatch(3000, Access.WRITE_ONLY, 0));
+
+        provider.markBufferReleased(first, Access.READ_ONLY);
+        assertTrue(strategy.canReuseForBatch(3000, Access.READ_ONLY, 1));
+        assertFalse(strategy.canReuseForBatch(3000, Access.READ_ONLY, 2));
+    }
+
+    @Test
+    public void testSizeClassTrimsLeastRecentlyUsed() {
+        FakeBufferProvider provider = new FakeBufferProvider(new SizeClassBufferAllocationStrategy(2), 1L << 20);
+        long[] buffers = new long[4];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = provider.getOrAllocateBufferWithSize(1000, Access.READ_WRITE);
+        }
+        for (long buffer : buffers) {
+            provider.markBufferReleased(buffer, Access.READ_WRITE);
+        }
+        // Only the two most recently released buffers are kept
+        assertEquals(2, provider.getAllocatorStatistics().nativeReleases());
+        assertTrue(provider.isNumFreeBuffersAvailable(2, Access.READ_WRITE));
+        assertFalse(provider.isNumFreeBuffersAvailable(3, Access.READ_WRITE));
+        assertEquals(buffers[3], provider.getOrAllocateBufferWithSize(1000, Access.READ_WRITE));
+        assertEquals(buffers[2], provider.getOrAllocateBufferWithSize(1000, Access.READ_WRITE));
+    }
+
+    @Test
+    public void testEvictionWhenOutOfMemory() {
+        FakeBufferProvider provider = new FakeBufferProvider(new SizeClassBufferAllocationStrategy(16), 8192);
+        long small = provider.getOrAllocateBufferWithSize(2048, Access.READ_ONLY);
+        long medium = provider.getOrAllocateBufferWithSize(4096, Access.READ_ONLY);
+        provider.markBufferReleased(small, Access.READ_ONLY);
+        provider.markBufferReleased(medium, Access.READ_ONLY);
+
+        // Neither cached buffer fits, so they are released to make room
+        long large = provider.getOrAllocateBufferWithSize(8000, Access.READ_ONLY);
+        assertNotEquals(BufferAllocationStrategy.NO_BUFFER, large);
+        assertEquals(8192, provider.liveBytes());
+        assertEquals(2, provider.getAllocatorStatistics().nativeReleases());
+    }
+
+    @Test
+    public void testLinearAllocatesBeforeReuse() {
+        FakeBufferProvider provider = new FakeBufferProvider(new LinearBufferAllocationStrategy(), 1L << 20);
+        long first = provider.getOrAllocateBufferWithSize(1000, Access.READ_ONLY);
+        provider.markBufferReleased(first, Access.READ_ONLY);
+        long second = provider.getOrAllocateBufferWithSize(1000, Access.READ_ONLY);
+        assertNotEquals(first, second);
+        assertEquals(1000, provider.deallocate(Access.READ_ONLY));
+    }
+
+    @Test
+    public void testArenaExhaustionAndRelease() {
+        final long arenaSize = 64 * 1024;
+        final long deviceMemory = 1L << 20;
+        final long bufferSize = 32 * 1024;
+        ArenaBufferProvider provider = new ArenaBufferProvider(arenaSize, deviceMemory);
+
+        // The backing allocation of the arena is reserved once, and the buffers carved out of it do not count again
+        long first = provider.getOrAllocateBufferWithSize(bufferSize, Access.READ_WRITE);
+        long second = provider.getOrAllocateBufferWithSize(bufferSize, Access.READ_WRITE);
+        assertEquals(arenaSize, provider.liveBytes());
+        assertEquals(deviceMemory - arenaSize, provider.availableMemory());
+
+        // The arena is exhausted, so the next buffer is a regular native allocation
+        long third = provider.getOrAllocateBufferWithSize(bufferSize, Access.READ_WRITE);
+        assertEquals(arenaSize + bufferSize, provider.liveBytes());
+        assertEquals(deviceMemory - arenaSize - bufferSize, provider.availableMemory());
+        assertFalse(provider.releaseArena());
+
+        // Only the native buffer returns memory to the device; the blocks go back to the arena
+        provider.markBufferReleased(first, Access.READ_WRITE);
+        provider.markBufferReleased(second, Access.READ_WRITE);
+        provider.markBufferReleased(third, Access.READ_WRITE);
+        assertEquals(3 * bufferSize, provider.deallocate(Access.READ_WRITE));
+        assertEquals(arenaSize, provider.liveBytes());
+        assertEquals(deviceMemory - arenaSize, provider.availableMemory());
+
+        assertTrue(provider.releaseArena());
+        assertEquals(0, provider.liveBytes());
+        assertEquals(deviceMemory, provider.availableMemory());
+    }
+
+    private static void stress(BufferAllocationStrategy strategy) {
+        final int iterations = 200_000;
+        FakeBufferProvider provider = new FakeBufferProvider(strategy, 256L << 20);
+        Random random = new Random(42);
+        Access[] accesses = { Access.READ_ONLY, Access.WRITE_ONLY, Access.READ_WRITE };
+        List<long[]> live = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            if (live.size() > 512 || (!live.isEmpty() && random.nextBoolean())) {
+                long[] entry = live.remove(random.nextInt(live.size()));
+                provider.markBufferReleased(entry[0], accesses[(int) entry[1]]);
+            } else {
+                int accessIndex = random.nextInt(accesses.length);
+                long size = 64 + random.nextInt(1 << (8 + random.nextInt(12)));
+                live.add(new long[] { provider.getOrAllocateBufferWithSize(size, accesses[accessIndex]), accessIndex });
+            }
+        }
+        BufferAllocatorStatistics statistics = provider.getAllocatorStatistics();
+
+        // Every native buffer is either in use or cached
+        assertEquals(provider.liveBytes(), statistics.reservedBytesInUse() + statistics.cachedBytes());
+    }
+
+    @Test
+    public void testStress() {
+        stress(new LinearBufferAllocationStrategy());
+        stress(new SizeClassBufferAllocationStrategy(16));
+    }
+}
@@ -94,6 +94,7 @@ import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLowTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.jfr.GraalTierEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -174,16 +175,16 @@ public class MetalCompiler {
                     getDebugContext().dump(DebugContext.INFO_LEVEL, graph, "initial state");
                 }
             }
-            suites.getHighTier().apply(graph, highTierContext);
+            GraalTierEvent.applyTier(suites.getHighTier(), graph, highTierContext, GraalTierEvent.HIGH_TIER, "Metal");
             graph.maybeCompress();
 
             final TornadoMidTierContext midTierContext = new TornadoMidTierContext(providers, backend, optimisticOpts, profilingInfo, method, args, meta);
-            suites.getMidTier().apply(graph, midTierContext);
+            GraalTierEvent.applyTier(suites.getMidTier(), graph, midTierContext, GraalTierEvent.MID_TIER, "Metal");
 
             graph.maybeCompress();
 
             final TornadoLowTierContext lowTierContext = new TornadoLowTierContext(providers, backend, meta);
-            suites.getLowTier().apply(graph, lowTierContext);
+            GraalTierEvent.applyTier(suites.getLowTier(), graph, lowTierContext, GraalTierEvent.LOW_TIER, "Metal");
 
             getDebugContext().dump(DebugContext.BASIC_LEVEL, graph.getLastSchedule(), "Final HIR schedule");
         } catch (Throwable e) {
@@ -91,6 +91,7 @@ import uk.ac.manchester.tornado.drivers.metal.mm.MetalMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.metal.mm.MetalShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.metal.mm.MetalVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -99,6 +100,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.jfr.DriverBuildEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -255,7 +257,6 @@ public class MetalTornadoDevice implements TornadoXPUDevice {
         final MetalDeviceContextInterface deviceContext = getDeviceContext();
         final CompilableTask executable = (CompilableTask) task;
         final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
-        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
 
         // Return the code from the cache
         String kernelName = MetalUtils.makeMethodName(resolvedMethod);
@@ -263,8 +264,16 @@ public class MetalTornadoDevice implements TornadoXPUDevice {
             return deviceContext.getInstalledCode(executionPlanId, task.getId(), kernelName);
         }
 
-        // copy meta data into task
         final TaskDataContext taskMeta = executable.meta();
+
+        // Install the code from the persistent kernel cache
+        PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(executable, this);
+        if (cachedKernel != null) {
+            return deviceContext.installCode(executionPlanId, taskMeta, task.getId(), cachedKernel.entryPoint(), cachedKernel.code());
+        }
+
+        // copy meta data into task
+        final Sketch sketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
         final Access[] sketchAccess = sketch.getArgumentsAccess();
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
@@ -294,11 +303,19 @@ public class MetalTornadoDevice implements TornadoXPUDevice {
             profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
 
             profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+            final DriverBuildEvent driverBuildEvent = DriverBuildEvent.beginIfEnabled();
             // Compile the code
             MetalInstalledCode installedCode = deviceContext.installCode(executionPlanId, result);
+            if (driverBuildEvent != null) {
+                driverBuildEvent.commit(taskMeta.getId(), getDeviceName());
+            }
             profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
 
+            if (!TornadoAtomicIntegerNode.isUsingAtomics(resolvedMethod, methods)) {
+                PersistentKernelCache.storeKernel(executable, this, sketch, result.getName(), result.getTargetCode(), methods);
+            }
+
             return installedCode;
         } catch (Exception e) {
             logger.fatal("Unable to compile %s for device %s\n", task.getId(), getDeviceName());
@@ -677,6 +694,11 @@ public class MetalTornadoDevice implements TornadoXPUDevice {
         this.getDeviceContext().flush(executionPlanId);
     }
 
+    @Override
+    public boolean isNonBlockingExecutionSupported() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof MetalTornadoDevice other) {
@@ -802,6 +824,11 @@ public class MetalTornadoDevice implements TornadoXPUDevice {
         return TornadoVMBackendType.METAL;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getDriverVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         return false;
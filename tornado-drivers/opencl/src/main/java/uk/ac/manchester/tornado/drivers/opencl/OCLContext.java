@@ -26,11 +26,13 @@
 package uk.ac.manchester.tornado.drivers.opencl;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
 import uk.ac.manchester.tornado.api.exceptions.TornadoNoOpenCLPlatformException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.drivers.opencl.enums.OCLBufferCreateType;
 import uk.ac.manchester.tornado.drivers.opencl.enums.OCLCommandQueueProperties;
 import uk.ac.manchester.tornado.drivers.opencl.exceptions.OCLException;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
@@ -218,6 +220,23 @@ public class OCLContext implements OCLContextInterface {
         return null;
     }
 
+    /**
+     * Creates a buffer that refers to the region [origin, origin + size) of an existing buffer.
+     */
+    public long createSubBuffer(long bufferId, long flags, long origin, long size) {
+        // cl_buffer_region: {size_t origin; size_t size;}
+        ByteBuffer region = ByteBuffer.allocate(2 * Long.BYTES).order(ByteOrder.nativeOrder());
+        region.putLong(origin).putLong(size);
+        try {
+            final long subBuffer = createSubBuffer(bufferId, flags, OCLBufferCreateType.CL_BUFFER_CREATE_TYPE_REGION.getValue(), region.array());
+            logger.info("sub-buffer created %s @ 0x%x (offset %d in 0x%x)", RuntimeUtilities.humanReadableByteCount(size, false), subBuffer, origin, bufferId);
+            return subBuffer;
+        } catch (OCLException e) {
+            logger.error(e.getMessage());
+            throw new TornadoRuntimeException("[ERROR] Unable to create an OpenCL sub-buffer");
+        }
+    }
+
     public void releaseBuffer(long bufferId) {
         try {
             clReleaseMemObject(bufferId);
@@ -41,6 +41,11 @@ public class OCLKernel {
     private String kernelName;
     private final TornadoLogger logger;
 
+    /**
+     * Values of the arguments last set on the kernel, or null if they are not known.
+     */
+    private Object[] argumentValues;
+
     public OCLKernel(long id, OCLDeviceContext deviceContext) {
         this.oclKernelID = id;
         this.deviceContext = deviceContext;
@@ -101,6 +106,18 @@ public class OCLKernel {
         }
     }
 
+    /**
+     * Whether the given argument values are the ones last set on the kernel, in which case the arguments do not need
+     * to be set again. OpenCL keeps the arguments of a kernel between launches.
+     */
+    public boolean hasArgumentValues(Object[] values) {
+        return values != null && Arrays.equals(argumentValues, values);
+    }
+
+    public void setArgumentValues(Object[] values) {
+        this.argumentValues = values;
+    }
+
     public void cleanup() {
         try {
             clReleaseKernel(oclKernelID);
@@ -27,6 +27,7 @@ import static uk.ac.manchester.tornado.runtime.common.RuntimeUtilities.isBoxedPr
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.DEBUG;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import jdk.vm.ci.code.InstalledCode;
 import jdk.vm.ci.code.InvalidInstalledCodeException;
@@ -126,6 +127,40 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
      *     task metadata {@link TaskDataContext}
      */
     private void setKernelArgs(final OCLKernelStackFrame kernelArgs, final XPUBuffer atomicSpace, TaskDataContext meta) {
+        final Object[] argumentValues = kernelArgumentValues(kernelArgs, meta);
+        if (kernel.hasArgumentValues(argumentValues)) {
+            return;
+        }
+        kernel.setArgumentValues(null);
+        setAllKernelArgs(kernelArgs, meta);
+        kernel.setArgumentValues(argumentValues);
+    }
+
+    /**
+     * Values of all the arguments set by {@link #setAllKernelArgs}: the addresses of the stack frame and of the
+     * constant and atomic regions, the size of the local region and the primitive call arguments.
+     *
+     * @return The values, or null if the kernel uses a constant region, whose contents are not compared.
+     */
+    private Object[] kernelArgumentValues(final OCLKernelStackFrame kernelArgs, TaskDataContext meta) {
+        if (meta != null && meta.getConstantSize() > 0) {
+            return null;
+        }
+        final List<KernelStackFrame.CallArgument> callArguments = kernelArgs.getCallArguments();
+        final Object[] values = new Object[callArguments.size() + 4];
+        values[0] = kernelArgs.toBuffer();
+        values[1] = kernelArgs.toConstantAddress();
+        values[2] = (meta != null) ? meta.getLocalSize() : 0L;
+        values[3] = kernelArgs.toAtomicAddress();
+        for (int i = 0; i < callArguments.size(); i++) {
+            final Object value = callArguments.get(i).getValue();
+            // A new kernel context argument is pushed for each launch, and it is always set to the stack frame
+            values[i + 4] = (value instanceof KernelStackFrame.KernelContextArgument) ? KernelStackFrame.KernelContextArgument.class : value;
+        }
+        return values;
+    }
+
+    private void setAllKernelArgs(final OCLKernelStackFrame kernelArgs, TaskDataContext meta) {
         int index = 0;
 
         // kernel context
@@ -216,9 +251,7 @@ public class OCLInstalledCode extends InstalledCode implements TornadoInstalledC
             logger.info("kernel submitted: id=0x%x, method = %s, device =%s", kernel.getOclKernelID(), kernel.getName(), deviceContext.getDevice().getDeviceName());
         }
 
-        /*
-         * Only set the kernel arguments if they are either: - not set or - have changed
-         */
+        // Only set the kernel arguments if they are either not set or have changed
         final int[] waitEvents;
         setKernelArgs(kernelArgs, atomicSpace, meta);
         internalEvents[0] = kernelArgs.enqueueWrite(executionPlanId, events);
@@ -23,6 +23,7 @@ package uk.ac.manchester.tornado.drivers.opencl.graal.nodes;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.graalvm.compiler.core.common.type.StampFactory;
 import org.graalvm.compiler.graph.NodeClass;
@@ -52,15 +53,20 @@ public class TornadoAtomicIntegerNode extends FixedWithNextNode implements LIRLo
 
     private boolean ATOMIC_2_0 = false;
 
-    // How many atomics integers per graph
-    public static HashMap<ResolvedJavaMethod, ArrayList<Integer>> globalAtomics = new HashMap<>();
+    // How many atomics integers per graph. The tables are concurrent because the tasks of a
+    // task-graph can be compiled in parallel. Their lists and maps are never modified once they
+    // are in a table: updates replace them with a copy, under ATOMICS_LOCK, so the readers always
+    // see complete values.
+    public static ConcurrentHashMap<ResolvedJavaMethod, ArrayList<Integer>> globalAtomics = new ConcurrentHashMap<>();
 
     // Mapping between:
     // Java Method: -> { ParamIndex -> Position in the Atomic Buffer }
-    public static HashMap<ResolvedJavaMethod, HashMap<Integer, Integer>> globalAtomicsParameters = new HashMap<>();
+    public static ConcurrentHashMap<ResolvedJavaMethod, HashMap<Integer, Integer>> globalAtomicsParameters = new ConcurrentHashMap<>();
 
     private static final int DEFAULT_VALUE = -1;
 
+    private static final Object ATOMICS_LOCK = new Object();
+
     @Input
     ValueNode initialValue;
 
@@ -68,6 +74,41 @@ public class TornadoAtomicIntegerNode extends FixedWithNextNode implements LIRLo
 
     private boolean atomicsByParameter = false;
 
+    /**
+     * Checks whether the compilation of a kernel registered atomic integers, either in its root method or in any of
+     * the methods compiled with it.
+     */
+    public static boolean isUsingAtomics(ResolvedJavaMethod rootMethod, ResolvedJavaMethod[] methods) {
+        if (globalAtomics.containsKey(rootMethod) || globalAtomicsParameters.containsKey(rootMethod)) {
+            return true;
+        }
+        for (ResolvedJavaMethod method : methods) {
+            if (globalAtomics.containsKey(method) || globalAtomicsParameters.containsKey(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shares the atomics mapping of the parameters among the methods of a kernel, so
+     * inner methods that are not inlined use the positions of the method that declared
+     * the atomics.
+     */
+    public static void remapParameters(ResolvedJavaMethod[] methods) {
+        synchronized (ATOMICS_LOCK) {
+            for (ResolvedJavaMethod m : methods) {
+                HashMap<Integer, Integer> mapping = globalAtomicsParameters.get(m);
+                if (mapping != null) {
+                    for (ResolvedJavaMethod mInternal : methods) {
+                        // RE-MAP position
+                        globalAtomicsParameters.put(mInternal, mapping);
+                    }
+                }
+            }
+        }
+    }
+
     public TornadoAtomicIntegerNode(OCLKind kind) {
         super(TYPE, OCLStampFactory.getStampFor(kind));
         this.kind = kind;
@@ -112,9 +153,17 @@ public class TornadoAtomicIntegerNode extends FixedWithNextNode implements LIRLo
         }
     }
 
-    private void updateGlobalAtomicTable(HashMap positions, int paramIndex, int size) {
-        positions.put(paramIndex, size);
-        globalAtomicsParameters.put(this.graph().method(), positions);
+    /**
+     * Reserves the next position of the atomic-int global buffer of the method being
+     * compiled.
+     *
+     * @return The position reserved.
+     */
+    private static int reservePosition(ResolvedJavaMethod method, int value) {
+        ArrayList<Integer> al = new ArrayList<>(globalAtomics.getOrDefault(method, new ArrayList<>()));
+        al.add(value);
+        globalAtomics.put(method, al);
+        return al.size() - 1;
     }
 
     /**
@@ -127,27 +176,16 @@ public class TornadoAtomicIntegerNode extends FixedWithNextNode implements LIRLo
      *            Object parameter index taken from
      *            {@link org.graalvm.compiler.nodes.ParameterNode}.
      */
-    public synchronized void assignIndexFromParameter(int paramIndex) {
-        if (!globalAtomics.containsKey(this.graph().method())) {
-            ArrayList<Integer> al = new ArrayList<>();
-            al.add(DEFAULT_VALUE);
-            // The position is reserved to be filled by TornadoVM. This position is then
-            // used by the TornadoVM runtime to copy the initial value for the Atomic before
-            // the kernel execution.
-            globalAtomics.put(this.graph().method(), al);
-            updateGlobalAtomicTable(new HashMap<>(), paramIndex, al.size() - 1);
-            this.indexFromGlobalMemory = 0;
-        } else {
-            ArrayList<Integer> al = globalAtomics.get(this.graph().method());
-            this.indexFromGlobalMemory = al.size();
-            al.add(DEFAULT_VALUE);
+    public void assignIndexFromParameter(int paramIndex) {
+        ResolvedJavaMethod method = this.graph().method();
+        synchronized (ATOMICS_LOCK) {
             // A position for the atomic is reserved. This position is then used by the
             // TornadoVM runtime to copy the initial value for the Atomic before the kernel
             // execution.
-            globalAtomics.put(this.graph().method(), al);
-
-            HashMap positions = globalAtomicsParameters.get(this.graph().method());
-            updateGlobalAtomicTable(positions, paramIndex, al.size() - 1);
+            this.indexFromGlobalMemory = reservePosition(method, DEFAULT_VALUE);
+            HashMap<Integer, Integer> positions = new HashMap<>(globalAtomicsParameters.getOrDefault(method, new HashMap<>()));
+            positions.put(paramIndex, indexFromGlobalMemory);
+            globalAtomicsParameters.put(method, positions);
         }
         atomicsByParameter = true;
     }
@@ -156,17 +194,11 @@ public class TornadoAtomicIntegerNode extends FixedWithNextNode implements LIRLo
         return atomicsByParameter;
     }
 
-    private synchronized void assignIndex() {
-        if (!globalAtomics.containsKey(this.graph().method())) {
-            ArrayList<Integer> al = new ArrayList<>();
-            al.add(getIntFromValueNode());
-            globalAtomics.put(this.graph().method(), al);
-            this.indexFromGlobalMemory = 0;
-        } else {
-            ArrayList<Integer> al = globalAtomics.get(this.graph().method());
-            this.indexFromGlobalMemory = al.size();
-            al.add(getIntFromValueNode());
-            globalAtomics.put(this.graph().method(), al);
+    private void assignIndex() {
+        ResolvedJavaMethod method = this.graph().method();
+        int value = getIntFromValueNode();
+        synchronized (ATOMICS_LOCK) {
+            this.indexFromGlobalMemory = reservePosition(method, value);
         }
     }
 
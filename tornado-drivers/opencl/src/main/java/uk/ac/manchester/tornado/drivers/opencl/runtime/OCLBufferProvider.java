@@ -25,10 +25,12 @@ package uk.ac.manchester.tornado.drivers.opencl.runtime;
 
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
+import uk.ac.manchester.tornado.drivers.opencl.OCLDevice;
 import uk.ac.manchester.tornado.drivers.opencl.OCLDeviceContext;
 import uk.ac.manchester.tornado.drivers.opencl.enums.OCLMemFlags;
 
 import static uk.ac.manchester.tornado.api.exceptions.TornadoInternalError.shouldNotReachHere;
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.OPENCL_ARRAY_ALIGNMENT;
 
 public class OCLBufferProvider extends TornadoBufferProvider {
 
@@ -47,6 +49,34 @@ public class OCLBufferProvider extends TornadoBufferProvider {
         ((OCLDeviceContext) deviceContext).getMemoryManager().releaseBuffer(buffer);
     }
 
+    @Override
+    protected boolean isSubAllocationSupported() {
+        return true;
+    }
+
+    /**
+     * The origin of an OpenCL sub-buffer must be aligned to
+     * {@code CL_DEVICE_MEM_BASE_ADDR_ALIGN}, which is expressed in bits.
+     */
+    @Override
+    protected long getSubAllocationAlignment() {
+        long alignment = OPENCL_ARRAY_ALIGNMENT;
+        if (deviceContext.getDevice() instanceof OCLDevice oclDevice) {
+            alignment = Math.max(alignment, oclDevice.getDeviceMemoryBaseAlignment() / Byte.SIZE);
+        }
+        return alignment;
+    }
+
+    @Override
+    protected long createSubBuffer(long baseBuffer, long offset, long size, Access access) {
+        return ((OCLDeviceContext) deviceContext).getPlatformContext().createSubBuffer(baseBuffer, getOCLMemFlagForAccess(access), offset, size);
+    }
+
+    @Override
+    protected void releaseSubBuffer(long subBuffer) {
+        ((OCLDeviceContext) deviceContext).getMemoryManager().releaseBuffer(subBuffer);
+    }
+
     private static long getOCLMemFlagForAccess(Access access) {
         switch (access) {
             case READ_ONLY:
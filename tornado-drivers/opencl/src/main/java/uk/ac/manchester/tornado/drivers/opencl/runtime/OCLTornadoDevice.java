@@ -90,6 +90,7 @@ import uk.ac.manchester.tornado.drivers.opencl.mm.OCLMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.opencl.mm.OCLVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -98,6 +99,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.jfr.DriverBuildEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -250,15 +252,25 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         final OCLDeviceContextInterface deviceContext = getDeviceContext();
         final CompilableTask executable = (CompilableTask) task;
         final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
-        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
 
         // Return the code from the cache
         if (!task.shouldCompile() && deviceContext.isCached(executionPlanId, task.getId(), resolvedMethod.getName())) {
             return deviceContext.getInstalledCode(executionPlanId, task.getId(), resolvedMethod.getName());
         }
 
-        // copy meta data into task
         final TaskDataContext taskMeta = executable.meta();
+        final boolean isFPGA = OCLBackend.isDeviceAnFPGAAccelerator(deviceContext);
+
+        // Install the code from the persistent kernel cache
+        if (!isFPGA) {
+            PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(executable, this);
+            if (cachedKernel != null) {
+                return deviceContext.installCode(executionPlanId, taskMeta, task.getId(), cachedKernel.entryPoint(), cachedKernel.code());
+            }
+        }
+
+        // copy meta data into task
+        final Sketch sketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
         final Access[] sketchAccess = sketch.getArgumentsAccess();
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
@@ -272,34 +284,33 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
             // Update atomics buffer for inner methods that are not inlined
             ResolvedJavaMethod[] methods = result.getMethods();
             if (methods.length > 1) {
-                HashMap<Integer, Integer> mapping;
-                for (ResolvedJavaMethod m : methods) {
-                    if (TornadoAtomicIntegerNode.globalAtomicsParameters.containsKey(m)) {
-                        mapping = TornadoAtomicIntegerNode.globalAtomicsParameters.get(m);
-                        for (ResolvedJavaMethod mInternal : methods) {
-                            // RE-MAP position
-                            TornadoAtomicIntegerNode.globalAtomicsParameters.put(mInternal, mapping);
-                        }
-                    }
-                }
+                TornadoAtomicIntegerNode.remapParameters(methods);
             }
 
             profiler.stop(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
 
             profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+            final DriverBuildEvent driverBuildEvent = DriverBuildEvent.beginIfEnabled();
             // Compile the code
             OCLInstalledCode installedCode;
-            if (OCLBackend.isDeviceAnFPGAAccelerator(deviceContext)) {
+            if (isFPGA) {
                 // A) for FPGA
                 installedCode = deviceContext.installCode(executionPlanId, result.getId(), result.getName(), result.getTargetCode(), task.meta().isPrintKernelEnabled());
             } else {
                 // B) for CPU multi-core or GPU
                 installedCode = deviceContext.installCode(executionPlanId, result);
             }
+            if (driverBuildEvent != null) {
+                driverBuildEvent.commit(taskMeta.getId(), getDeviceName());
+            }
             profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
 
+            if (!isFPGA && !TornadoAtomicIntegerNode.isUsingAtomics(resolvedMethod, methods)) {
+                PersistentKernelCache.storeKernel(executable, this, sketch, result.getName(), result.getTargetCode(), methods);
+            }
+
             return installedCode;
         } catch (Exception e) {
             logger.fatal("Unable to compile %s for device %s\n", task.getId(), getDeviceName());
@@ -473,6 +484,12 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         return loadPreCompiledBinaryForTask(executionPlanId, task);
     }
 
+    @Override
+    public boolean isConcurrentCompilationSupported() {
+        // FPGA kernels of a task-graph are linked into a single binary, so they are compiled in order
+        return !OCLBackend.isDeviceAnFPGAAccelerator(getDeviceContext());
+    }
+
     private XPUBuffer createArrayWrapper(Class<?> type, OCLDeviceContext device, long batchSize, Access access) {
         XPUBuffer result = null;
         if (type == float[].class) {
@@ -709,6 +726,11 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         this.getDeviceContext().flush(executionPlanId);
     }
 
+    @Override
+    public boolean isNonBlockingExecutionSupported() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof OCLTornadoDevice other) {
@@ -839,6 +861,11 @@ public class OCLTornadoDevice implements TornadoXPUDevice {
         return TornadoVMBackendType.OPENCL;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getDriverVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         // An OpenCL device supports SPIR-V if the version is >= 2.1
@@ -41,6 +41,7 @@ import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEV
 public class VirtualJSONParser {
 
     private static final Pattern pattern =  Pattern.compile(" |\",|\"|\t|\\r|]|\\[");
+    private static final String DEFAULT_DRIVER_VERSION = "DummyDriverVersion";
 
     private enum JsonKey {
         deviceName,
@@ -49,7 +50,8 @@ public class VirtualJSONParser {
         deviceAddressBits,
         deviceType,
         deviceExtensions,
-        availableProcessors;
+        availableProcessors,
+        driverVersion;
     }
 
     public static VirtualDeviceDescriptor getDeviceDescriptor() {
@@ -73,8 +75,9 @@ public class VirtualJSONParser {
         OCLDeviceType deviceType = (OCLDeviceType) getEntryForKey(JsonKey.deviceType, jsonEntries);
         String deviceExtensions = (String) getEntryForKey(JsonKey.deviceExtensions, jsonEntries);
         int availableProcessors = (int) getEntryForKey(JsonKey.availableProcessors, jsonEntries);
+        String driverVersion = (String) getEntryForKey(JsonKey.driverVersion, jsonEntries);
 
-        return new VirtualDeviceDescriptor(deviceName, doubleFPSupport, maxWorkItemSizes, deviceAddressBits, deviceType, deviceExtensions, availableProcessors);
+        return new VirtualDeviceDescriptor(deviceName, doubleFPSupport, maxWorkItemSizes, deviceAddressBits, deviceType, deviceExtensions, availableProcessors, driverVersion);
     }
 
     private static Object getEntryForKey(JsonKey jsonKey, Map<JsonKey, String> jsonEntries) {
@@ -82,6 +85,9 @@ public class VirtualJSONParser {
             case deviceName:
             case deviceExtensions:
                 return jsonEntries.get(jsonKey);
+            case driverVersion:
+                // Optional: the version of the driver of the device the kernels are compiled for
+                return jsonEntries.getOrDefault(jsonKey, DEFAULT_DRIVER_VERSION);
             case doubleFPSupport:
                 return Boolean.parseBoolean(jsonEntries.get(jsonKey));
             case maxWorkItemSizes:
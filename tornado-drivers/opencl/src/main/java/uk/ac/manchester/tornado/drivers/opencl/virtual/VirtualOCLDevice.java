@@ -52,6 +52,7 @@ public class VirtualOCLDevice implements OCLTargetDevice {
     private final int deviceAddressBits;
     private final String deviceExtensions;
     private final int availableProcessors;
+    private final String driverVersion;
 
     private static final int INIT_VALUE = -1;
     private OCLDeviceContextInterface deviceContex;
@@ -75,6 +76,7 @@ public class VirtualOCLDevice implements OCLTargetDevice {
         this.deviceType = info.deviceType();
         this.deviceExtensions = info.getDeviceExtensions();
         this.availableProcessors = info.getAvailableProcessors();
+        this.driverVersion = info.getDriverVersion();
     }
 
     public long getDevicePointer() {
@@ -104,7 +106,7 @@ public class VirtualOCLDevice implements OCLTargetDevice {
 
     @Override
     public String getDriverVersion() {
-        return "DummyDriverVersion";
+        return driverVersion;
     }
 
     public String getDeviceVersion() {
@@ -56,7 +56,9 @@ import uk.ac.manchester.tornado.drivers.opencl.graal.OCLProviders;
 import uk.ac.manchester.tornado.drivers.opencl.graal.backend.OCLBackend;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompilationResult;
 import uk.ac.manchester.tornado.drivers.opencl.graal.compiler.OCLCompiler;
+import uk.ac.manchester.tornado.drivers.opencl.graal.nodes.TornadoAtomicIntegerNode;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -188,10 +190,19 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
     private TornadoInstalledCode compileTask(SchedulableTask task) {
         final CompilableTask executable = (CompilableTask) task;
         final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(executable.getMethod());
-        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
+        final TaskDataContext taskMeta = executable.meta();
+
+        // Dump the code from the persistent kernel cache
+        PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(executable, this);
+        if (cachedKernel != null) {
+            if (taskMeta.isPrintKernelEnabled()) {
+                RuntimeUtilities.dumpKernel(cachedKernel.code());
+            }
+            return new VirtualOCLInstalledCode();
+        }
 
         // copy meta data into task
-        final TaskDataContext taskMeta = executable.meta();
+        final Sketch sketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
         final Access[] sketchAccess = sketch.getArgumentsAccess();
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
         System.arraycopy(sketchAccess, 0, taskAccess, 0, sketchAccess.length);
@@ -208,7 +219,11 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
                 RuntimeUtilities.dumpKernel(result.getTargetCode());
             }
 
-            return null;
+            if (!TornadoAtomicIntegerNode.isUsingAtomics(resolvedMethod, result.getMethods())) {
+                PersistentKernelCache.storeKernel(executable, this, sketch, result.getName(), result.getTargetCode(), result.getMethods());
+            }
+
+            return new VirtualOCLInstalledCode();
         } catch (Exception e) {
             TornadoLogger tornadoLogger = new TornadoLogger();
             tornadoLogger.fatal("unable to compile %s for device %s", task.getId(), getDeviceName());
@@ -230,7 +245,7 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
         } catch (IOException e) {
             throw new TornadoBailoutRuntimeException(e.getMessage());
         }
-        return null;
+        return new VirtualOCLInstalledCode();
     }
 
     private TornadoInstalledCode compileJavaToAccelerator(SchedulableTask task) {
@@ -283,6 +298,11 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
         return compileJavaToAccelerator(task);
     }
 
+    @Override
+    public boolean isConcurrentCompilationSupported() {
+        return true;
+    }
+
     @Override
     public long allocate(Object object, long batchSize, DeviceBufferState state, Access access) {
         unimplemented();
@@ -473,6 +493,11 @@ public class VirtualOCLTornadoDevice implements TornadoXPUDevice {
         return TornadoVMBackendType.VIRTUAL;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getDriverVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         return false;
@@ -34,6 +34,7 @@ public class PTXDevice implements TornadoTargetDevice {
     private final String name;
     private final long[] maxGridSizes;
     private final PTXContext context;
+    private final int driverVersion;
     private final PTXVersion ptxVersion;
     private final long[] maxWorkItemSizes;
     private final TargetArchitecture targetArchitecture;
@@ -65,7 +66,8 @@ public class PTXDevice implements TornadoTargetDevice {
         maxThreadsPerBlock = cuDeviceGetAttribute(cuDevice, PTXDeviceAttribute.MAX_THREADS_PER_BLOCK.value());
         asyncEngineCount = cuDeviceGetAttribute(cuDevice, PTXDeviceAttribute.ASYNC_ENGINE_COUNT.value());
         concurrentKernels = cuDeviceGetAttribute(cuDevice, PTXDeviceAttribute.CONCURRENT_KERNELS.value()) != 0;
-        ptxVersion = CUDAVersion.getMaxPTXVersion(cuDriverGetVersion());
+        driverVersion = cuDriverGetVersion();
+        ptxVersion = CUDAVersion.getMaxPTXVersion(driverVersion);
         computeCapability = initComputeCapability();
         targetArchitecture = ptxVersion.getArchitecture(computeCapability);
 
@@ -207,6 +209,13 @@ public class PTXDevice implements TornadoTargetDevice {
         return ptxVersion.toString();
     }
 
+    /**
+     * Version of the CUDA driver, as returned by {@code cuDriverGetVersion} (e.g., 12040 for CUDA 12.4).
+     */
+    public int getDriverVersion() {
+        return driverVersion;
+    }
+
     public long getCuDevice() {
         return cuDevice;
     }
@@ -84,6 +84,7 @@ import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoHighTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoLowTierContext;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoMidTierContext;
+import uk.ac.manchester.tornado.runtime.jfr.GraalTierEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -223,16 +224,16 @@ public class PTXCompiler {
                     TornadoCoreRuntime.getDebugContext().dump(DebugContext.INFO_LEVEL, r.graph, "initial state");
                 }
             }
-            r.suites.getHighTier().apply(r.graph, highTierContext);
+            GraalTierEvent.applyTier(r.suites.getHighTier(), r.graph, highTierContext, GraalTierEvent.HIGH_TIER, "PTX");
             r.graph.maybeCompress();
 
             final TornadoMidTierContext midTierContext = new TornadoMidTierContext(r.providers, r.backend, r.optimisticOpts, r.profilingInfo, r.installedCodeOwner, r.args, r.meta);
-            r.suites.getMidTier().apply(r.graph, midTierContext);
+            GraalTierEvent.applyTier(r.suites.getMidTier(), r.graph, midTierContext, GraalTierEvent.MID_TIER, "PTX");
 
             r.graph.maybeCompress();
 
             final TornadoLowTierContext lowTierContext = new TornadoLowTierContext(r.providers, r.backend, r.meta);
-            r.suites.getLowTier().apply(r.graph, lowTierContext);
+            GraalTierEvent.applyTier(r.suites.getLowTier(), r.graph, lowTierContext, GraalTierEvent.LOW_TIER, "PTX");
 
             TornadoCoreRuntime.getDebugContext().dump(DebugContext.BASIC_LEVEL, r.graph.getLastSchedule(), "Final HIR schedule");
         } catch (Throwable e) {
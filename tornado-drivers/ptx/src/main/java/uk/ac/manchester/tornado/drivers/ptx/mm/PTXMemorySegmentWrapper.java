@@ -120,6 +120,14 @@ public class PTXMemorySegmentWrapper implements XPUBuffer {
         };
     }
 
+    /**
+     * The bytes before the data of a view belong to the parent array. Therefore, the header of a view is
+     * written from its own segment, and it is never copied back to the host.
+     */
+    private static boolean isView(final Object reference) {
+        return reference instanceof TornadoNativeArray nativeArray && nativeArray.isView();
+    }
+
     @Override
 
     public int read(long executionPlanId, final Object reference, long hostOffset, long partialReadSize, int[] events, boolean useDeps) {
@@ -131,6 +139,9 @@ public class PTXMemorySegmentWrapper implements XPUBuffer {
             // Partial Copy Out due to a copy under demand copy by the user
             // in this case the host offset is equal to the device offset
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer() + hostOffset, partialReadSize, segment.address(), hostOffset, (useDeps) ? events : null);
+        } else if (batchSize <= 0 && isView(reference)) {
+            returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer() + TornadoNativeArray.ARRAY_HEADER, numBytes - TornadoNativeArray.ARRAY_HEADER, segment.address(), hostOffset
+                    + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
         } else if (batchSize <= 0) {
             returnEvent = deviceContext.readBuffer(executionPlanId, toBuffer(), numBytes, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
@@ -146,7 +157,11 @@ public class PTXMemorySegmentWrapper implements XPUBuffer {
     public void write(long executionPlanId, Object reference) {
         MemorySegment segment = getSegmentWithHeader(reference);
 
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            MemorySegment header = ((TornadoNativeArray) reference).getHeaderSegment();
+            deviceContext.writeBuffer(executionPlanId, toBuffer(), TornadoNativeArray.ARRAY_HEADER, header.address(), 0, null);
+            deviceContext.writeBuffer(executionPlanId, toBuffer() + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(), TornadoNativeArray.ARRAY_HEADER, null);
+        } else if (batchSize <= 0) {
             deviceContext.writeBuffer(executionPlanId, toBuffer(), bufferSize, segment.address(), 0, null);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] Batch processing for the writeBuffer operation");
@@ -158,7 +173,10 @@ public class PTXMemorySegmentWrapper implements XPUBuffer {
         MemorySegment segment = getSegmentWithHeader(reference);
 
         final int returnEvent;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer() + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(), hostOffset
+                    + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
             returnEvent = deviceContext.enqueueReadBuffer(executionPlanId, toBuffer() + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(), hostOffset,
@@ -174,7 +192,13 @@ public class PTXMemorySegmentWrapper implements XPUBuffer {
         MemorySegment segment = getSegmentWithHeader(reference);
 
         int internalEvent;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            MemorySegment header = ((TornadoNativeArray) reference).getHeaderSegment();
+            internalEvent = deviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), TornadoNativeArray.ARRAY_HEADER, header.address(), 0, (useDeps) ? events : null);
+            returnEvents.add(internalEvent);
+            internalEvent = deviceContext.enqueueWriteBuffer(executionPlanId, toBuffer() + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(), hostOffset
+                    + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             if (useStagedTransfer()) {
                 // Large one-shot upload (e.g. FIRST_EXECUTION weights) through the pinned
                 // staging ring - the source segment is deliberately NOT registered (see allocate()).
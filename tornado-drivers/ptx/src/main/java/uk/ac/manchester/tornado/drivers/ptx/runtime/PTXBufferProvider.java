@@ -23,6 +23,8 @@
  */
 package uk.ac.manchester.tornado.drivers.ptx.runtime;
 
+import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.PTX_ARRAY_ALIGNMENT;
+
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.drivers.common.TornadoBufferProvider;
 import uk.ac.manchester.tornado.drivers.ptx.PTXDeviceContext;
@@ -42,4 +44,18 @@ public class PTXBufferProvider extends TornadoBufferProvider {
     protected void releaseBuffer(long buffer) {
         ((PTXDeviceContext) deviceContext).getDevice().getPTXContext().freeMemory(buffer);
     }
+
+    /**
+     * Device buffers are device pointers, so sub-ranges of the arena are
+     * addressed with the base pointer plus the offset.
+     */
+    @Override
+    protected boolean isSubAllocationSupported() {
+        return true;
+    }
+
+    @Override
+    protected long getSubAllocationAlignment() {
+        return PTX_ARRAY_ALIGNMENT;
+    }
 }
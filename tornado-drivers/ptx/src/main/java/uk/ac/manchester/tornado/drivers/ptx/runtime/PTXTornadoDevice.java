@@ -81,6 +81,7 @@ import uk.ac.manchester.tornado.drivers.ptx.mm.PTXMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.ptx.mm.PTXVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -89,6 +90,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.jfr.DriverBuildEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -178,10 +180,17 @@ public class PTXTornadoDevice implements TornadoXPUDevice {
 
         try {
             PTXCompilationResult result;
+            Sketch compilationSketch = null;
             if (!deviceContext.isCached(executionPlanId, resolvedMethod.getName(), executable)) {
+                // Install the code from the persistent kernel cache
+                PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(executable, this);
+                if (cachedKernel != null) {
+                    return deviceContext.installCode(taskMeta, executionPlanId, cachedKernel.entryPoint(), cachedKernel.code(), resolvedMethod.getName(), taskMeta.isPrintKernelEnabled());
+                }
                 PTXProviders providers = (PTXProviders) getBackend().getProviders();
                 profiler.start(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
-                result = PTXCompiler.compileSketchForDevice(sketch, executable, providers, getBackend(), executable.getProfiler());
+                compilationSketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
+                result = PTXCompiler.compileSketchForDevice(compilationSketch, executable, providers, getBackend(), executable.getProfiler());
                 profiler.stop(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId());
                 profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
             } else {
@@ -189,9 +198,17 @@ public class PTXTornadoDevice implements TornadoXPUDevice {
             }
 
             profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+            final DriverBuildEvent driverBuildEvent = DriverBuildEvent.beginIfEnabled();
             TornadoInstalledCode installedCode = deviceContext.installCode(taskMeta, executionPlanId, result, resolvedMethod.getName());
+            if (driverBuildEvent != null) {
+                driverBuildEvent.commit(taskMeta.getId(), getDeviceName());
+            }
             profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
+
+            if (compilationSketch != null) {
+                PersistentKernelCache.storeKernel(executable, this, compilationSketch, result.getName(), result.getTargetCode(), result.getMethods());
+            }
             return installedCode;
         } catch (Exception e) {
             logger.fatal("Unable to compile %s for device %s\n", task.getId(), getDeviceName());
@@ -600,6 +617,11 @@ public class PTXTornadoDevice implements TornadoXPUDevice {
         getDeviceContext().flush(executionPlanId);
     }
 
+    @Override
+    public boolean isNonBlockingExecutionSupported() {
+        return true;
+    }
+
     private void disableProfilerOptions() {
         TornadoOptions.TORNADO_PROFILER_LOG = false;
         TornadoOptions.TORNADO_PROFILER = false;
@@ -708,6 +730,11 @@ public class PTXTornadoDevice implements TornadoXPUDevice {
         return TornadoVMBackendType.PTX;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getDriverVersion() + ":" + device.getTargetPTXVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         return false;
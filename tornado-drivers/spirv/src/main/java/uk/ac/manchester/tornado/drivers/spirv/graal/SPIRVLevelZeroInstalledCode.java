@@ -61,6 +61,12 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
     private ThreadBlockDispatcher threadBlockDispatcher;
     private DeviceThreadScheduling deviceThreadScheduling;
 
+    /**
+     * Values of the arguments last set on the kernel, or null if they are not known. Level Zero keeps the arguments of
+     * a kernel between launches, so they are set only when they change.
+     */
+    private long[] argumentValues;
+
     public SPIRVLevelZeroInstalledCode(String name, SPIRVModule spirvModule, SPIRVDeviceContext deviceContext) {
         super(name, spirvModule, deviceContext);
         this.valid = true;
@@ -75,6 +81,12 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
         // Enqueue write
         callWrapper.enqueueWrite(executionPlanId, null);
 
+        final long[] values = kernelArgumentValues(callWrapper);
+        if (Arrays.equals(argumentValues, values)) {
+            return;
+        }
+        argumentValues = null;
+
         SPIRVLevelZeroModule module = (SPIRVLevelZeroModule) spirvModule;
         LevelZeroKernel levelZeroKernel = module.getKernel();
         ZeKernelHandle kernel = levelZeroKernel.getKernelHandle();
@@ -104,6 +116,26 @@ public class SPIRVLevelZeroInstalledCode extends SPIRVInstalledCode {
                 TornadoInternalError.shouldNotReachHere();
             }
         }
+        argumentValues = values;
+    }
+
+    /**
+     * Values of the arguments set by {@link #setKernelArgs}: the address of the stack frame and the addresses of the
+     * buffers passed by reference. The kernel context arguments are set to the stack frame, and the other primitive
+     * arguments are read from the stack frame.
+     */
+    private static long[] kernelArgumentValues(final SPIRVKernelStackFrame callWrapper) {
+        final long[] values = new long[callWrapper.getCallArguments().size() + 1];
+        values[0] = callWrapper.toBuffer();
+        for (int argIndex = 0; argIndex < callWrapper.getCallArguments().size(); argIndex++) {
+            KernelStackFrame.CallArgument arg = callWrapper.getCallArguments().get(argIndex);
+            if (arg.getValue() instanceof KernelStackFrame.KernelContextArgument) {
+                values[argIndex + 1] = callWrapper.toBuffer();
+            } else if (arg.isReferenceType() && arg.getValue() instanceof Number number) {
+                values[argIndex + 1] = number.longValue();
+            }
+        }
+        return values;
     }
 
     private DeviceThreadScheduling calculateGlobalAndLocalBlockOfThreads(TaskDataContext meta, long batchThreads) {
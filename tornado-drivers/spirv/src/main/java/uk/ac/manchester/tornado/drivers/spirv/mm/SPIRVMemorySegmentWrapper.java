@@ -105,6 +105,14 @@ public class SPIRVMemorySegmentWrapper implements XPUBuffer {
         };
     }
 
+    /**
+     * The bytes before the data of a view belong to the parent array. Therefore, the header of a view is
+     * written from its own segment, and it is never copied back to the host.
+     */
+    private static boolean isView(final Object reference) {
+        return reference instanceof TornadoNativeArray nativeArray && nativeArray.isView();
+    }
+
     @Override
     public int read(long executionPlanId, Object reference, long hostOffset, long partialReadSize, int[] waitEvents, boolean useDeps) {
         MemorySegment segment = getSegmentWithHeader(reference);
@@ -115,6 +123,9 @@ public class SPIRVMemorySegmentWrapper implements XPUBuffer {
             // Partial Copy Out due to a copy under demand copy by the user
             // in this case the host offset is equal to the device offset
             returnEvent = spirvDeviceContext.readBuffer(executionPlanId, toBuffer(), hostOffset, partialReadSize, segment.address(), hostOffset, waitEvents);
+        } else if (batchSize <= 0 && isView(reference)) {
+            returnEvent = spirvDeviceContext.readBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, numBytes - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    hostOffset + TornadoNativeArray.ARRAY_HEADER, waitEvents);
         } else if (batchSize <= 0) {
             // Partial Copy Out due to batch processing
             returnEvent = spirvDeviceContext.readBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, waitEvents);
@@ -129,7 +140,12 @@ public class SPIRVMemorySegmentWrapper implements XPUBuffer {
     @Override
     public void write(long executionPlanId, Object reference) {
         MemorySegment segment = getSegmentWithHeader(reference);
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            MemorySegment header = ((TornadoNativeArray) reference).getHeaderSegment();
+            spirvDeviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset, TornadoNativeArray.ARRAY_HEADER, header.address(), 0, null);
+            spirvDeviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    TornadoNativeArray.ARRAY_HEADER, null);
+        } else if (batchSize <= 0) {
             spirvDeviceContext.writeBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), 0, null);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] batch processing for writeBuffer operation");
@@ -141,7 +157,10 @@ public class SPIRVMemorySegmentWrapper implements XPUBuffer {
         MemorySegment segment = getSegmentWithHeader(reference);
         final int returnEvent;
         final long numBytes = getSizeSubRegionSize() > 0 ? getSizeSubRegionSize() : bufferSize;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            returnEvent = spirvDeviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, numBytes - TornadoNativeArray.ARRAY_HEADER, segment.address(),
+                    hostOffset + TornadoNativeArray.ARRAY_HEADER, waitEvents);
+        } else if (batchSize <= 0) {
             returnEvent = spirvDeviceContext.enqueueReadBuffer(executionPlanId, toBuffer(), bufferOffset, numBytes, segment.address(), hostOffset, waitEvents);
         } else {
             throw new TornadoUnsupportedError("[UNSUPPORTED] batch processing for enqueueReadBuffer operation");
@@ -154,7 +173,13 @@ public class SPIRVMemorySegmentWrapper implements XPUBuffer {
         List<Integer> returnEvents = new ArrayList<>();
         MemorySegment segment = getSegmentWithHeader(reference);
         int internalEvent;
-        if (batchSize <= 0) {
+        if (batchSize <= 0 && isView(reference)) {
+            MemorySegment header = ((TornadoNativeArray) reference).getHeaderSegment();
+            internalEvent = spirvDeviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset, TornadoNativeArray.ARRAY_HEADER, header.address(), 0, (useDeps) ? events : null);
+            returnEvents.add(internalEvent);
+            internalEvent = spirvDeviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset + TornadoNativeArray.ARRAY_HEADER, bufferSize - TornadoNativeArray.ARRAY_HEADER,
+                    segment.address(), hostOffset + TornadoNativeArray.ARRAY_HEADER, (useDeps) ? events : null);
+        } else if (batchSize <= 0) {
             internalEvent = spirvDeviceContext.enqueueWriteBuffer(executionPlanId, toBuffer(), bufferOffset, bufferSize, segment.address(), hostOffset, (useDeps) ? events : null);
         } else {
             // Honour the sub-region size like read() does: a reused (locked) buffer can be larger than
@@ -70,6 +70,7 @@ import uk.ac.manchester.tornado.drivers.spirv.mm.SPIRVMultiDimArrayWrapper;
 import uk.ac.manchester.tornado.drivers.spirv.mm.SPIRVShortArrayWrapper;
 import uk.ac.manchester.tornado.drivers.spirv.mm.SPIRVVectorWrapper;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
@@ -78,6 +79,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.jfr.DriverBuildEvent;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
 import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
 import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
@@ -152,7 +154,6 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
         final SPIRVDeviceContext deviceContext = getDeviceContext();
 
         final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(task.getMethod());
-        final Sketch sketch = TornadoSketcher.lookup(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
 
         // copy meta data into task
         final TaskDataContext taskMeta = task.meta();
@@ -162,6 +163,13 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
             return deviceContext.getInstalledCode(executionPlanId, task.getId(), resolvedMethod.getName());
         }
 
+        // Install the code from the persistent kernel cache
+        PersistentKernelCache.KernelEntry cachedKernel = PersistentKernelCache.lookupKernel(task, this);
+        if (cachedKernel != null) {
+            return deviceContext.installBinary(executionPlanId, taskMeta, task.getId(), cachedKernel.entryPoint(), cachedKernel.code());
+        }
+
+        final Sketch sketch = TornadoSketcher.lookupForCompilation(resolvedMethod, task.meta().getBackendIndex(), task.meta().getDeviceIndex());
         final Access[] sketchAccess = sketch.getArgumentsAccess();
         final Access[] taskAccess = taskMeta.getArgumentsAccess();
 
@@ -177,9 +185,15 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
             profiler.sum(ProfilerType.TOTAL_GRAAL_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_GRAAL_TIME, taskMeta.getId()));
 
             profiler.start(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
+            final DriverBuildEvent driverBuildEvent = DriverBuildEvent.beginIfEnabled();
             TornadoInstalledCode installedCode = deviceContext.installBinary(executionPlanId, result);
+            if (driverBuildEvent != null) {
+                driverBuildEvent.commit(taskMeta.getId(), getDeviceName());
+            }
             profiler.stop(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId());
             profiler.sum(ProfilerType.TOTAL_DRIVER_COMPILE_TIME, profiler.getTaskTimer(ProfilerType.TASK_COMPILE_DRIVER_TIME, taskMeta.getId()));
+
+            PersistentKernelCache.storeKernel(task, this, sketch, result.getName(), result.getSPIRVBinary(), result.getMethods());
             return installedCode;
         } catch (Exception e) {
             TornadoLogger logger = new TornadoLogger(this.getClass());
@@ -610,6 +624,11 @@ public class SPIRVTornadoDevice implements TornadoXPUDevice {
         return TornadoVMBackendType.SPIRV;
     }
 
+    @Override
+    public String getDriverVersion() {
+        return device.getPlatformName() + ":" + device.getDeviceOpenCLCVersion();
+    }
+
     @Override
     public boolean isSPIRVSupported() {
         return true;
@@ -12,9 +12,12 @@ open module tornado.runtime {
     requires commons.math3;
     requires snmp4j;
     requires java.management;
+    requires transitive jdk.incubator.vector;
+    requires transitive jdk.jfr;
 
     exports uk.ac.manchester.tornado.runtime;
     exports uk.ac.manchester.tornado.runtime.analyzer;
+    exports uk.ac.manchester.tornado.runtime.cache;
     exports uk.ac.manchester.tornado.runtime.common;
     exports uk.ac.manchester.tornado.runtime.common.enums;
     exports uk.ac.manchester.tornado.runtime.common.exceptions;
@@ -29,6 +32,8 @@ open module tornado.runtime {
     exports uk.ac.manchester.tornado.runtime.graal.phases;
     exports uk.ac.manchester.tornado.runtime.graph;
     exports uk.ac.manchester.tornado.runtime.graph.nodes;
+    exports uk.ac.manchester.tornado.runtime.jfr;
+    exports uk.ac.manchester.tornado.runtime.jvm;
     exports uk.ac.manchester.tornado.runtime.library;
     exports uk.ac.manchester.tornado.runtime.library.spi;
     exports uk.ac.manchester.tornado.runtime.profiler;
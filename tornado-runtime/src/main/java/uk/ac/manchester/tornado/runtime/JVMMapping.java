@@ -42,9 +42,32 @@ import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
 import uk.ac.manchester.tornado.runtime.common.TornadoSchedulingStrategy;
 import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
-
+import uk.ac.manchester.tornado.runtime.jvm.JVMBackend;
+import uk.ac.manchester.tornado.runtime.jvm.JVMDeviceContext;
+import uk.ac.manchester.tornado.runtime.jvm.JVMExecutionEngine;
+import uk.ac.manchester.tornado.runtime.jvm.JVMTargetDevice;
+
+/**
+ * The host JVM as a TornadoVM device. The tasks run from their Java bytecode on the {@link JVMExecutionEngine}, and
+ * the data stays in the arrays of the application. The task-graph never issues data transfers, memory operations or
+ * kernel launches for the JVM device, so those operations are unimplemented.
+ */
 public class JVMMapping implements TornadoXPUDevice {
 
+    private final JVMBackend backend;
+    private final TornadoTargetDevice targetDevice;
+    private final TornadoDeviceContext deviceContext;
+
+    public JVMMapping() {
+        this(null);
+    }
+
+    public JVMMapping(JVMBackend backend) {
+        this.backend = backend;
+        this.targetDevice = new JVMTargetDevice();
+        this.deviceContext = new JVMDeviceContext(this);
+    }
+
     @Override
     public void dumpEvents(long executionPlanId) {
         TornadoInternalError.unimplemented();
@@ -81,7 +104,7 @@ public class JVMMapping implements TornadoXPUDevice {
 
     @Override
     public String getDescription() {
-        return "default JVM";
+        return targetDevice.getDeviceInfo();
     }
 
     @Override
@@ -119,30 +142,36 @@ public class JVMMapping implements TornadoXPUDevice {
 
     @Override
     public void ensureLoaded(long executionPlanId) {
+        TornadoInternalError.unimplemented();
     }
 
     @Override
     public KernelStackFrame createKernelStackFrame(long executionPlanId, int numArgs, Access access) {
+        TornadoInternalError.unimplemented();
         return null;
     }
 
     @Override
     public XPUBuffer createOrReuseAtomicsBuffer(int[] arr, Access access) {
+        TornadoInternalError.unimplemented();
         return null;
     }
 
     @Override
     public TornadoInstalledCode installCode(long executionPlanId, SchedulableTask task) {
+        TornadoInternalError.unimplemented();
         return null;
     }
 
     @Override
     public long allocate(Object object, long batchSize, DeviceBufferState state, Access access) {
+        TornadoInternalError.unimplemented();
         return -1;
     }
 
     @Override
     public synchronized long allocateObjects(Object[] objects, long batchSize, DeviceBufferState[] states, Access[] accesses) {
+        TornadoInternalError.unimplemented();
         return -1;
     }
 
@@ -153,11 +182,13 @@ public class JVMMapping implements TornadoXPUDevice {
 
     @Override
     public int streamOut(long executionPlanId, Object object, long hostOffset, DeviceBufferState objectState, int[] list) {
+        TornadoInternalError.unimplemented();
         return -1;
     }
 
     @Override
     public int enqueueBarrier(long executionPlanId) {
+        TornadoInternalError.unimplemented();
         return -1;
     }
 
@@ -188,17 +219,17 @@ public class JVMMapping implements TornadoXPUDevice {
 
     @Override
     public TornadoDeviceContext getDeviceContext() {
-        return null;
+        return deviceContext;
     }
 
     @Override
     public TornadoTargetDevice getPhysicalDevice() {
-        return null;
+        return targetDevice;
     }
 
     @Override
     public TornadoDeviceType getDeviceType() {
-        return null;
+        return TornadoDeviceType.CPU;
     }
 
     @Override
@@ -263,7 +294,7 @@ public class JVMMapping implements TornadoXPUDevice {
 
     @Override
     public long[] getDeviceMaxWorkgroupDimensions() {
-        return new long[0];
+        return targetDevice.getDeviceMaxWorkItemSizes();
     }
 
     @Override
@@ -278,7 +309,7 @@ public class JVMMapping implements TornadoXPUDevice {
 
     @Override
     public int getBackendIndex() {
-        return 0;
+        return (backend != null) ? TornadoCoreRuntime.getTornadoRuntime().getBackendIndex(JVMBackend.class) : 0;
     }
 
     @Override
@@ -31,7 +31,10 @@ import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.StreamSupport;
@@ -60,6 +63,7 @@ import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
 import uk.ac.manchester.tornado.runtime.common.UpsMeterReader;
 import uk.ac.manchester.tornado.runtime.common.enums.TornadoBackends;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSnippetReflectionProvider;
+import uk.ac.manchester.tornado.runtime.jvm.JVMBackend;
 
 public final class TornadoCoreRuntime implements TornadoRuntime {
 
@@ -75,6 +79,72 @@ public final class TornadoCoreRuntime implements TornadoRuntime {
         }
     };
     private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(TornadoOptions.TORNADO_SKETCHER_THREADS, executorThreadFactory);
+
+    private static final ThreadFactory interpreterThreadFactory = new ThreadFactory() {
+        private final AtomicInteger threadId = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, String.format("TornadoInterpreterThread - %d", threadId.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+    /**
+     * Threads that run the TornadoVM interpreters of the task-graphs that execute on multiple devices concurrently.
+     * Idle threads are kept alive between executions, so a task-graph executed in a loop reuses the same threads
+     * instead of creating new ones on every execution. The pool grows with the number of interpreters that run at
+     * the same time, so interpreters waiting on each other never wait for a free thread.
+     */
+    private static final ExecutorService INTERPRETER_EXECUTOR = Executors.newCachedThreadPool(interpreterThreadFactory);
+
+    private static final ThreadFactory compilationThreadFactory = new ThreadFactory() {
+        private final AtomicInteger threadId = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, String.format("TornadoCompilationThread - %d", threadId.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+    /**
+     * Threads that compile the tasks of a task-graph concurrently, from the sketch to the code installed on the
+     * device.
+     */
+    private static final ExecutorService COMPILATION_EXECUTOR = Executors.newFixedThreadPool(TornadoOptions.TORNADO_COMPILATION_THREADS, compilationThreadFactory);
+
+    private static final ThreadFactory dispatchThreadFactory = new ThreadFactory() {
+        private final AtomicInteger threadId = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, String.format("TornadoDispatchThread - %d", threadId.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+    /**
+     * Threads that dispatch the task-graphs executed asynchronously: they run the TornadoVM interpreter up to the
+     * last enqueued operation and return without waiting for the device.
+     */
+    private static final ExecutorService DISPATCH_EXECUTOR = Executors.newFixedThreadPool(TornadoOptions.ASYNC_DISPATCH_THREADS, dispatchThreadFactory);
+
+    private static final ForkJoinPool.ForkJoinWorkerThreadFactory jvmThreadFactory = new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+        private final AtomicInteger threadId = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(String.format("TornadoJVMThread - %d", threadId.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    };
+    /**
+     * Workers of the JVM backend. The tasks that run on the JVM device are split across these threads.
+     */
+    private static final ForkJoinPool JVM_EXECUTOR = new ForkJoinPool(TornadoOptions.TORNADO_JVM_THREADS, jvmThreadFactory, null, false);
     private static final TornadoCoreRuntime runtime = new TornadoCoreRuntime();
     private static final JVMMapping JVM = new JVMMapping();
     private static final int DEFAULT_DRIVER = 0;
@@ -121,6 +191,22 @@ public final class TornadoCoreRuntime implements TornadoRuntime {
         return EXECUTOR;
     }
 
+    public static ExecutorService getInterpreterExecutor() {
+        return INTERPRETER_EXECUTOR;
+    }
+
+    public static ExecutorService getCompilationExecutor() {
+        return COMPILATION_EXECUTOR;
+    }
+
+    public static ExecutorService getDispatchExecutor() {
+        return DISPATCH_EXECUTOR;
+    }
+
+    public static ForkJoinPool getJVMExecutor() {
+        return JVM_EXECUTOR;
+    }
+
     public static JVMCIBackend getVMBackend() {
         return runtime.vmBackend;
     }
@@ -155,7 +241,8 @@ public final class TornadoCoreRuntime implements TornadoRuntime {
     private TornadoAcceleratorBackend[] loadBackends() {
         ServiceLoader<TornadoBackendProvider> loader = ServiceLoader.load(TornadoBackendProvider.class);
         List<TornadoBackendProvider> providerList = StreamSupport.stream(loader.spliterator(), false).sorted().toList();
-        TornadoAcceleratorBackend[] tornadoAcceleratorBackends = new TornadoAcceleratorBackend[TornadoBackends.values().length];
+        // One more entry for the JVM backend
+        TornadoAcceleratorBackend[] tornadoAcceleratorBackends = new TornadoAcceleratorBackend[TornadoBackends.values().length + 1];
         int index = 0;
         for (TornadoBackendProvider provider : providerList) {
             if (TornadoOptions.FULL_DEBUG) {
@@ -167,6 +254,11 @@ public final class TornadoCoreRuntime implements TornadoRuntime {
                 index++;
             }
         }
+        // The JVM backend borrows the sketch providers of an accelerator backend, if there is one
+        if (TornadoOptions.JVM_BACKEND) {
+            tornadoAcceleratorBackends[index] = new JVMBackend((index > 0) ? tornadoAcceleratorBackends[0] : null);
+            index++;
+        }
         backendCount = index;
         return tornadoAcceleratorBackends;
     }
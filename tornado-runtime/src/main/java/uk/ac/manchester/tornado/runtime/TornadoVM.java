@@ -23,13 +23,10 @@
  */
 package uk.ac.manchester.tornado.runtime;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
-import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
@@ -62,6 +59,8 @@ public class TornadoVM {
 
     private final TornadoVMInterpreter[] tornadoVMInterpreters;
 
+    private final Future<?>[] interpreterFutures;
+
     /**
      * It constructs a new TornadoVM instance.
      *
@@ -78,6 +77,7 @@ public class TornadoVM {
         this.timeProfiler = timeProfiler;
         this.tornadoVMBytecodes = TornadoVMGraphCompiler.compile(tornadoGraph, executionContext);
         this.tornadoVMInterpreters = new TornadoVMInterpreter[executionContext.getValidContextSize()];
+        this.interpreterFutures = new Future<?>[tornadoVMInterpreters.length];
         bindBytecodesToInterpreters();
     }
 
@@ -109,12 +109,36 @@ public class TornadoVM {
         Arrays.stream(tornadoVMInterpreters).forEach(tornadoVMInterpreter -> tornadoVMInterpreter.setTimeProfiler(timeProfiler));
 
         if (shouldInterpreterRunInParallel(isParallel)) {
-            return executeInterpreterThreadManager(isParallel);
+            return executeInterpreterThreadManager();
         } else {
             return executeInterpreterSingleThreaded();
         }
     }
 
+    /**
+     * It executes the task-graph of a single device without waiting for the device to finish. The execution context
+     * must be marked as non-blocking, and {@link #releaseDeferredDeallocations()} must be called once the returned
+     * event has completed.
+     *
+     * @return The {@link Event} of the last command enqueued, or an {@link EmptyEvent} if the execution already
+     *     completed.
+     */
+    public Event executeNonBlocking(TornadoProfiler profiler) {
+        if (tornadoVMInterpreters.length != 1) {
+            return execute(false, profiler);
+        }
+        this.timeProfiler = profiler;
+        tornadoVMInterpreters[0].setTimeProfiler(timeProfiler);
+        return tornadoVMInterpreters[0].execute();
+    }
+
+    /**
+     * It releases the device buffers kept alive by the last non-blocking execution.
+     */
+    public void releaseDeferredDeallocations() {
+        Arrays.stream(tornadoVMInterpreters).forEach(TornadoVMInterpreter::releaseDeferredDeallocations);
+    }
+
     private int calculateNumberOfJavaThreads(boolean isTaskGraphConcurrent) {
         return shouldRunConcurrently(isTaskGraphConcurrent) ? executionContext.getValidContextSize() : 1;
     }
@@ -129,50 +153,67 @@ public class TornadoVM {
     }
 
     /**
-     * It executes the interpreter manager either in concurrently in multiple
-     * threads or in single-threaded mode.
+     * It executes the interpreters concurrently. The calling thread runs the first interpreter, and the rest run in
+     * the resident interpreter threads of the runtime, so no thread is created on each execution. All the
+     * interpreters are waited for, even after a failure, and the first failure is thrown once they have all finished,
+     * so no interpreter is still using the device when the caller recovers from the failure.
      *
      * @return An {@link Event} indicating the completion of execution.
      */
-    private Event executeInterpreterThreadManager(boolean isParallel) {
-        // Create a thread pool with a fixed number of threads
-        int numberOfJavaThreads = calculateNumberOfJavaThreads(isParallel);
-        ExecutorService executor = Executors.newFixedThreadPool(numberOfJavaThreads);
-
-        // Create a list to hold the futures of each execution
-        List<Future<?>> futures = new ArrayList<>();
-
-        // Submit each task to the thread pool
-        for (TornadoVMInterpreter tornadoVMInterpreter : tornadoVMInterpreters) {
-            Future<?> future = executor.submit(tornadoVMInterpreter::execute);
-            futures.add(future);
+    private Event executeInterpreterThreadManager() {
+        ExecutorService executor = TornadoCoreRuntime.getInterpreterExecutor();
+        for (int i = 1; i < tornadoVMInterpreters.length; i++) {
+            interpreterFutures[i] = executor.submit(tornadoVMInterpreters[i]::execute);
         }
-        // Wait for all tasks to complete
+
+        RuntimeException failure = null;
         try {
-            for (Future<?> future : futures) {
-                future.get();
-            }
-        } catch (ExecutionException | InterruptedException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof TornadoBailoutRuntimeException) {
-                throw new TornadoBailoutRuntimeException(e.getMessage());
-            } else if (cause instanceof TornadoFailureException) {
-                throw new TornadoFailureException(e);
-            } else if (cause instanceof TornadoRuntimeException) {
-                throw new TornadoRuntimeException(e);
-            } else if (cause instanceof TornadoDeviceFP64NotSupported) {
-                throw new TornadoDeviceFP64NotSupported(e.getMessage());
-            } else {
-                throw new RuntimeException(e);
+            tornadoVMInterpreters[0].execute();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        boolean interrupted = false;
+        for (int i = 1; i < tornadoVMInterpreters.length; i++) {
+            while (true) {
+                try {
+                    interpreterFutures[i].get();
+                    break;
+                } catch (ExecutionException e) {
+                    failure = (failure == null) ? interpreterFailure(e) : failure;
+                    break;
+                } catch (InterruptedException e) {
+                    // Keep waiting: the interpreter is still running, and the interrupt is restored below
+                    interrupted = true;
+                }
             }
-        } finally {
-            // Shutdown the executor after all tasks have completed
-            executor.shutdown();
+        }
+        Arrays.fill(interpreterFutures, null);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
 
+        if (failure != null) {
+            throw failure;
+        }
         return new EmptyEvent();
     }
 
+    private static RuntimeException interpreterFailure(Exception e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof TornadoBailoutRuntimeException) {
+            return new TornadoBailoutRuntimeException(e.getMessage());
+        } else if (cause instanceof TornadoFailureException) {
+            return new TornadoFailureException(e);
+        } else if (cause instanceof TornadoRuntimeException) {
+            return new TornadoRuntimeException(e);
+        } else if (cause instanceof TornadoDeviceFP64NotSupported) {
+            return new TornadoDeviceFP64NotSupported(e.getMessage());
+        } else {
+            return new RuntimeException(e);
+        }
+    }
+
     private boolean shouldRunConcurrently(boolean isTaskGraphConcurrent) {
         return (isTaskGraphConcurrent || TornadoOptions.CONCURRENT_INTERPRETERS) && (executionContext.getValidContextSize() > 1);
     }
@@ -205,6 +246,13 @@ public class TornadoVM {
         executeActionOnInterpreters(TornadoVMInterpreter::withPreCompilation);
     }
 
+    /**
+     * @return Whether an interpreter failed after it had copied data back to the host.
+     */
+    public boolean hasWrittenHostMemory() {
+        return Arrays.stream(tornadoVMInterpreters).anyMatch(TornadoVMInterpreter::hasWrittenHostMemory);
+    }
+
     public void setGridScheduler(GridScheduler gridScheduler) {
         Arrays.stream(tornadoVMInterpreters).forEach(interpreter -> interpreter.setGridScheduler(gridScheduler));
     }
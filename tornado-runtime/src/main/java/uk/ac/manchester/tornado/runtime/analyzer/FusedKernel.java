@@ -0,0 +1,43 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.analyzer;
+
+import java.util.List;
+
+/**
+ * Class file generated by a {@link KernelFusionGenerator} for a pair of tasks.
+ *
+ * @param className
+ *     Binary name of the generated class, in the package of the tasks.
+ * @param classFile
+ *     The class file. The class implements the {@code TornadoFunctions.TaskN} interface of the fused task, and its
+ *     {@code apply} method calls the static method of the fused task.
+ * @param arguments
+ *     Arguments of the fused task: the arguments of the producer, without the temporaries that were removed, followed by
+ *     the arguments of the consumer that are not arguments of the producer.
+ * @param removedTemporaries
+ *     Temporaries that the fused task keeps in local variables.
+ */
+public record FusedKernel(String className, byte[] classFile, Object[] arguments, List<Object> removedTemporaries) {
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.analyzer;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * Fuses two consecutive tasks of a task-graph into a single task. The generator works on the class files of the
+ * tasks, so it lives next to the other bytecode tools of TornadoVM and is loaded by name (see
+ * {@code tornado.load.fusion.generator}).
+ */
+public interface KernelFusionGenerator {
+
+    /**
+     * Generates a task that runs the {@code @Parallel} loop of the consumer inside the {@code @Parallel} loop of the
+     * producer, so each iteration computes an element of the producer and then the element of the consumer that reads
+     * it. The two tasks are fused only if both loops have the same iteration space for the given arguments and every
+     * object that both tasks use is only read and written at the index of the loop.
+     *
+     * <p>
+     * An object of {@code temporaries} that the producer writes before reading it and that the consumer only reads is
+     * kept in a local variable of the fused task instead of in memory, and is removed from the arguments.
+     * </p>
+     *
+     * @param producer
+     *     Static method of the first task.
+     * @param producerArguments
+     *     Arguments of the first task.
+     * @param consumer
+     *     Static method of the second task.
+     * @param consumerArguments
+     *     Arguments of the second task.
+     * @param temporaries
+     *     Objects that are not read outside the two tasks, compared by identity.
+     * @return The fused task, or {@code null} if the tasks cannot be fused.
+     */
+    FusedKernel fuse(Method producer, Object[] producerArguments, Method consumer, Object[] consumerArguments, Set<Object> temporaries);
+}
@@ -0,0 +1,56 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.analyzer;
+
+import java.lang.reflect.Method;
+
+/**
+ * Rewrites a task whose {@code @Parallel} loop nest reads the same elements from neighbouring iterations, so that the
+ * work-items of a work-group load those elements once into local memory and read them from there. The generator works
+ * on the class file of the task, so it lives next to the other bytecode tools of TornadoVM and is loaded by name (see
+ * {@code tornado.load.tiling.generator}).
+ */
+public interface LocalMemoryTilingGenerator {
+
+    /**
+     * Generates a {@code KernelContext} kernel that runs the iterations of the {@code @Parallel} loops of a task as
+     * work-items. Two shapes are tiled:
+     *
+     * <ul>
+     * <li>GEMM-like nests: the innermost body runs a sequential loop that reads elements that depend on the index of
+     * that loop and on a subset of the indices of the {@code @Parallel} loops. Each work-group loads a tile of those
+     * elements for a range of the sequential loop, and all its work-items read the tile.</li>
+     * <li>Stencils: the innermost body reads an array at several constant offsets of the indices of the
+     * {@code @Parallel} loops. Each work-group loads the block of the array that its work-items read, with the halo,
+     * before running the body.</li>
+     * </ul>
+     *
+     * @param method
+     *     Static method of the task.
+     * @param arguments
+     *     Arguments of the task.
+     * @return The tiled task, or {@code null} if no array of the task can be tiled.
+     */
+    TiledKernel tile(Method method, Object[] arguments);
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.analyzer;
+
+import java.lang.reflect.Method;
+
+/**
+ * Generates the kernels of a reduction with a user-defined combiner (see
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#reduce}). Like the {@link KernelFusionGenerator}, the generator writes
+ * class files, so it lives next to the other bytecode tools of TornadoVM and is loaded by name (see
+ * {@code tornado.load.reduction.generator}).
+ */
+public interface ReductionKernelGenerator {
+
+    /**
+     * Generates the two {@code KernelContext} kernels of a reduction:
+     *
+     * <ul>
+     * <li>{@code mapReduction(KernelContext context, int size, I1 input1, ..., S1 state1, ...)} maps every element of
+     * the input to a slot of the state, and reduces the slots of each work-group with a tree in global memory, so the
+     * partial result of the work-group {@code g} is left in the slot {@code g * localGroupSize}.</li>
+     * <li>{@code combineReduction(KernelContext context, int size, int width, S1 state1, ..., R1 result1, ...)} runs in a
+     * single work-group, reduces the partial results of the first kernel and copies the {@code width} elements of the
+     * first slot to the results.</li>
+     * </ul>
+     *
+     * <p>
+     * The slots are always combined in order, so the combiner only needs to be associative.
+     * </p>
+     *
+     * @param map
+     *     Static method {@code map(I1 input1, ..., int element, S1 state1, ..., int slot)} of the combiner.
+     * @param combine
+     *     Static method {@code combine(S1 state1, ..., int into, int from)} of the combiner.
+     * @return The class files of the two kernels.
+     */
+    ReductionKernels generate(Method map, Method combine);
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.analyzer;
+
+/**
+ * Class files generated by a {@link ReductionKernelGenerator}. Each class implements the
+ * {@code TornadoFunctions.TaskN} interface of its kernel, and its {@code apply} method calls the static method of the
+ * kernel.
+ *
+ * @param mapClassName
+ *     Binary name of the class of the first kernel, in the package of the combiner.
+ * @param mapClassFile
+ *     Class file of the first kernel.
+ * @param combineClassName
+ *     Binary name of the class of the second kernel, in the package of the combiner.
+ * @param combineClassFile
+ *     Class file of the second kernel.
+ */
+public record ReductionKernels(String mapClassName, byte[] mapClassFile, String combineClassName, byte[] combineClassFile) {
+}
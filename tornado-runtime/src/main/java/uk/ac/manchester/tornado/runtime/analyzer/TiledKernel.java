@@ -0,0 +1,42 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.analyzer;
+
+/**
+ * Class file generated by a {@link LocalMemoryTilingGenerator} for a task.
+ *
+ * @param className
+ *     Binary name of the generated class, in the package of the task.
+ * @param classFile
+ *     The class file. The class implements the {@code TornadoFunctions.TaskN} interface of the tiled task, and its
+ *     {@code apply} method calls the static method of the tiled task.
+ * @param arguments
+ *     Arguments of the tiled task: a new {@code KernelContext}, followed by the arguments of the original task.
+ * @param globalWork
+ *     Global work size of the tiled task, in each dimension, rounded up to a multiple of the local work size.
+ * @param localWork
+ *     Local work size of the tiled task, which the size of the tiles depends on.
+ */
+public record TiledKernel(String className, byte[] classFile, Object[] arguments, long[] globalWork, long[] localWork) {
+}
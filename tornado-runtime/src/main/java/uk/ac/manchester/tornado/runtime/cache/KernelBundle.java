@@ -0,0 +1,145 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Kernel bundle: a zip file with the records of the {@link PersistentKernelCache} built ahead of time, plus a
+ * manifest that identifies the environment they were built for.
+ *
+ * <p>
+ * Bundles are produced by {@code uk.ac.manchester.tornado.drivers.TornadoKernelBundleBuilder} and loaded at runtime
+ * with {@code -Dtornado.kernel.bundle=<file>[,<file>...]}. A bundle built for a different environment (JVM,
+ * TornadoVM build or {@code tornado.*} configuration) is rejected as a whole when it is loaded.
+ * </p>
+ */
+public final class KernelBundle {
+
+    /**
+     * Version of the layout of the bundle. It is increased when the layout or the format of the records changes.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MANIFEST_ENTRY = "META-INF/tornado-kernel-bundle.properties";
+    public static final String FORMAT_VERSION_KEY = "format.version";
+    public static final String ENVIRONMENT_KEY = "environment";
+
+    /**
+     * Fixed modification time of the entries, so that the same kernels always produce the same bundle.
+     */
+    private static final long ENTRY_TIME = 0L;
+
+    private KernelBundle() {
+    }
+
+    /**
+     * Writes a bundle with the records found in a cache directory.
+     *
+     * @param bundle
+     *     The bundle file to create.
+     * @param recordsDirectory
+     *     Directory of the persistent kernel cache the records were stored in.
+     * @param manifest
+     *     Descriptive properties of the bundle. The format version and the environment hash are added to them.
+     * @return The number of records in the bundle.
+     * @throws IOException
+     *     if the records cannot be read or the bundle cannot be written.
+     */
+    public static int write(Path bundle, Path recordsDirectory, Properties manifest) throws IOException {
+        List<Path> records;
+        try (Stream<Path> files = Files.list(recordsDirectory)) {
+            records = files.filter(PersistentKernelCache::isRecordFile).sorted().toList();
+        }
+        Path parent = bundle.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(bundle))) {
+            Properties properties = new Properties();
+            properties.putAll(manifest);
+            properties.setProperty(FORMAT_VERSION_KEY, Integer.toString(FORMAT_VERSION));
+            properties.setProperty(ENVIRONMENT_KEY, PersistentKernelCache.getEnvironmentHash());
+            putEntry(output, MANIFEST_ENTRY);
+            properties.store(output, null);
+            output.closeEntry();
+            for (Path record : records) {
+                putEntry(output, record.getFileName().toString());
+                Files.copy(record, output);
+                output.closeEntry();
+            }
+        }
+        return records.size();
+    }
+
+    private static void putEntry(ZipOutputStream output, String name) throws IOException {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTime(ENTRY_TIME);
+        output.putNextEntry(entry);
+    }
+
+    /**
+     * Reads the records of a bundle.
+     *
+     * @param bundle
+     *     The bundle file.
+     * @return The records of the bundle, indexed by their name in the cache.
+     * @throws IOException
+     *     if the bundle cannot be read, or it was built for a different format or environment.
+     */
+    static Map<String, byte[]> load(Path bundle) throws IOException {
+        Map<String, byte[]> records = new HashMap<>();
+        Properties manifest = null;
+        try (ZipInputStream input = new ZipInputStream(Files.newInputStream(bundle))) {
+            for (ZipEntry entry = input.getNextEntry(); entry != null; entry = input.getNextEntry()) {
+                if (entry.getName().equals(MANIFEST_ENTRY)) {
+                    manifest = new Properties();
+                    manifest.load(input);
+                } else if (PersistentKernelCache.isRecordName(entry.getName())) {
+                    records.put(entry.getName(), input.readAllBytes());
+                }
+            }
+        }
+        if (manifest == null) {
+            throw new IOException("missing " + MANIFEST_ENTRY);
+        }
+        if (!Integer.toString(FORMAT_VERSION).equals(manifest.getProperty(FORMAT_VERSION_KEY))) {
+            throw new IOException("unsupported format version " + manifest.getProperty(FORMAT_VERSION_KEY));
+        }
+        if (!PersistentKernelCache.getEnvironmentHash().equals(manifest.getProperty(ENVIRONMENT_KEY))) {
+            throw new IOException("the bundle was built with a different JVM, TornadoVM build or tornado.* configuration");
+        }
+        return records;
+    }
+}
@@ -0,0 +1,808 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.graalvm.compiler.nodes.StructuredGraph;
+
+import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.runtime.TornadoAcceleratorBackend;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
+import uk.ac.manchester.tornado.runtime.domain.DomainTree;
+import uk.ac.manchester.tornado.runtime.domain.IntDomain;
+import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
+import uk.ac.manchester.tornado.runtime.sketcher.TornadoSketcher;
+import uk.ac.manchester.tornado.runtime.tasks.CompilableTask;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+/**
+ * Content-addressed cache of the sketches and the generated kernels that persists across JVM runs. It is enabled by
+ * setting {@code -Dtornado.kernel.cache.dir=<path>}.
+ *
+ * <p>
+ * Two kinds of records are stored:
+ * </p>
+ * <ul>
+ * <li>Sketch records, with the argument accesses of a method. They are keyed on the class file of the method, the
+ * backend, the device and its driver version, and they allow the task-graph to be built without sketching the
+ * method.</li>
+ * <li>Kernel records, with the code generated for a task. On top of the key of the sketch, they are keyed on the
+ * compiler flags, the batch and grid configuration of the task and the values that the task specialisation folds into
+ * the kernel: the boxed scalars, the array lengths and the primitive fields of the object arguments.</li>
+ * </ul>
+ *
+ * <p>
+ * All the keys include the JVM version, the {@code tornado.*} system properties and the TornadoVM and Graal jars, so
+ * a different configuration or a new build never reuses an old record. Each record also lists the classes whose code
+ * was inlined in it, and is discarded if any of their class files changed. Kernels that use atomics or reductions are
+ * never persisted, because their compilation registers state in the runtime that a cached kernel would not restore.
+ * </p>
+ *
+ * <p>
+ * The size of the cache directory is bounded by {@code -Dtornado.kernel.cache.maxSize}. A hit refreshes the
+ * modification time of the record, and the records with the oldest modification time are deleted when a new record
+ * takes the cache above its maximum size.
+ * </p>
+ *
+ * <p>
+ * The records can also be shipped ahead of time in a {@link KernelBundle}. The bundles listed in
+ * {@code -Dtornado.kernel.bundle} are loaded in memory when the cache is first used and are looked up before the
+ * cache directory; they are never written.
+ * </p>
+ */
+public final class PersistentKernelCache {
+
+    private static final int MAGIC = 0x544B4331;
+    private static final int VERSION = 1;
+    private static final String SKETCH_SUFFIX = ".sketch";
+    private static final String KERNEL_SUFFIX = ".kernel";
+
+    /**
+     * Properties that select the device or the outputs of the runtime, but do not change the generated code. They are
+     * not part of the environment hash, so a kernel compiled for a virtual device, or with the kernels printed, is
+     * reused by a normal run.
+     */
+    private static final Set<String> IGNORED_PROPERTIES = Set.of( //
+            "tornado.kernel.cache.dir", //
+            "tornado.kernel.cache.maxSize", //
+            "tornado.kernel.bundle", //
+            "tornado.virtual.device", //
+            "tornado.device.desc", //
+            "tornado.printKernel", //
+            "tornado.print.kernel.dir", //
+            "tornado.print.bytecodes", //
+            "tornado.dump.bytecodes.dir", //
+            "tornado.threadInfo", //
+            "tornado.profiler", //
+            "tornado.log.profiler", //
+            "tornado.profiler.dump.dir");
+
+    /**
+     * Maximum depth of the object fields inspected to build the specialisation fingerprint of an argument.
+     */
+    private static final int MAX_FIELD_DEPTH = 3;
+
+    private static final Path CACHE_DIRECTORY = TornadoOptions.KERNEL_CACHE_DIR == null ? null : Paths.get(TornadoOptions.KERNEL_CACHE_DIR);
+    private static final long MAX_CACHE_SIZE = TornadoOptions.KERNEL_CACHE_MAX_SIZE_MB * 1024 * 1024;
+    private static final Map<Class<?>, String> CLASS_HASHES = new ConcurrentHashMap<>();
+    private static final Map<Path, String> CODE_SOURCE_STAMPS = new ConcurrentHashMap<>();
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong STORED_KERNELS = new AtomicLong();
+    private static final AtomicLong EVICTED_RECORDS = new AtomicLong();
+    private static final TornadoLogger logger = new TornadoLogger(PersistentKernelCache.class);
+    private static final Map<String, byte[]> BUNDLE_RECORDS = loadBundles();
+
+    private static volatile String environmentHash;
+
+    private PersistentKernelCache() {
+    }
+
+    /**
+     * Kernel loaded from the cache.
+     *
+     * @param entryPoint
+     *     Name of the kernel function.
+     * @param code
+     *     Source or binary of the kernel, as generated by the backend.
+     */
+    public record KernelEntry(String entryPoint, byte[] code) {
+    }
+
+    /**
+     * Sketch information loaded from the cache.
+     */
+    public record SketchEntry(Access[] argumentsAccess, boolean batchWriteThreadIndex) {
+    }
+
+    private record Dependency(String className, String classHash) {
+    }
+
+    public static boolean isEnabled() {
+        return CACHE_DIRECTORY != null || !BUNDLE_RECORDS.isEmpty();
+    }
+
+    public static long getHits() {
+        return HITS.get();
+    }
+
+    public static long getMisses() {
+        return MISSES.get();
+    }
+
+    /**
+     * Returns the number of kernel records written to the cache directory by this JVM.
+     */
+    public static long getStoredKernels() {
+        return STORED_KERNELS.get();
+    }
+
+    /**
+     * Returns the number of records deleted from the cache directory by this JVM to keep it below its maximum size.
+     */
+    public static long getEvictedRecords() {
+        return EVICTED_RECORDS.get();
+    }
+
+    private static Map<String, byte[]> loadBundles() {
+        if (TornadoOptions.KERNEL_BUNDLES == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, byte[]> records = new HashMap<>();
+        for (String bundle : TornadoOptions.KERNEL_BUNDLES.split(",")) {
+            if (bundle.isBlank()) {
+                continue;
+            }
+            try {
+                Map<String, byte[]> bundleRecords = KernelBundle.load(Paths.get(bundle.trim()));
+                bundleRecords.forEach(records::putIfAbsent);
+                logger.debug("Loaded %d records from the kernel bundle %s", bundleRecords.size(), bundle);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Kernel bundle %s ignored: %s", bundle, e.getMessage());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Looks up the sketch information of a method.
+     *
+     * @return The {@link SketchEntry}, or {@code null} if there is no valid record for the method.
+     */
+    public static SketchEntry lookupSketch(ResolvedJavaMethod resolvedMethod, int driverIndex, int deviceIndex) {
+        if (!isEnabled() || hasReduceParameters(resolvedMethod)) {
+            return null;
+        }
+        Class<?> declaringClass = loadClass(resolvedMethod.getDeclaringClass().toClassName(), Thread.currentThread().getContextClassLoader());
+        String key = sketchKey(resolvedMethod, declaringClass, driverIndex, deviceIndex);
+        if (key == null) {
+            return null;
+        }
+        try (DataInputStream input = openRecord(key + SKETCH_SUFFIX)) {
+            if (input == null) {
+                return null;
+            }
+            Access[] accesses = readAccesses(input);
+            boolean batchWriteThreadIndex = input.readBoolean();
+            if (!readAndValidateDependencies(input, declaringClass.getClassLoader())) {
+                return null;
+            }
+            return new SketchEntry(accesses, batchWriteThreadIndex);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read the persisted sketch of %s: %s", resolvedMethod.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Looks up the kernel of a task. On a hit, the meta-data that the compilation would have set in the task (the
+     * argument accesses and the parallel domain) is restored, so the kernel can be installed in the device without
+     * compiling the task.
+     *
+     * @return The {@link KernelEntry}, or {@code null} on a miss.
+     */
+    public static KernelEntry lookupKernel(CompilableTask task, TornadoXPUDevice device) {
+        if (!isEnabled()) {
+            return null;
+        }
+        ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(task.getMethod());
+        String key = kernelKey(task, device, resolvedMethod);
+        if (key == null) {
+            return null;
+        }
+        try (DataInputStream input = openRecord(key + KERNEL_SUFFIX)) {
+            if (input == null) {
+                MISSES.incrementAndGet();
+                return null;
+            }
+            String entryPoint = input.readUTF();
+            byte[] code = new byte[input.readInt()];
+            input.readFully(code);
+            Access[] accesses = readAccesses(input);
+            DomainTree domain = readDomain(input);
+            if (!readAndValidateDependencies(input, task.getMethod().getDeclaringClass().getClassLoader())) {
+                MISSES.incrementAndGet();
+                return null;
+            }
+
+            TaskDataContext taskMeta = task.meta();
+            System.arraycopy(accesses, 0, taskMeta.getArgumentsAccess(), 0, accesses.length);
+            if (taskMeta.getDomain() == null && domain != null) {
+                taskMeta.setDomain(domain);
+            }
+            taskMeta.setCompiledGraph(resolvedMethod);
+            HITS.incrementAndGet();
+            logger.debug("Persistent kernel cache hit for task %s (%s)", task.getId(), entryPoint);
+            return new KernelEntry(entryPoint, code);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to read the persisted kernel of task %s: %s", task.getId(), e.getMessage());
+            MISSES.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the kernel generated for a task, together with the sketch of its method.
+     *
+     * @param task
+     *     The compiled task.
+     * @param device
+     *     The device the kernel was compiled for.
+     * @param sketch
+     *     The sketch the kernel was compiled from.
+     * @param entryPoint
+     *     Name of the kernel function.
+     * @param code
+     *     Source or binary of the kernel.
+     * @param methods
+     *     Methods compiled into the kernel, as reported by the compilation result.
+     */
+    public static void storeKernel(CompilableTask task, TornadoXPUDevice device, Sketch sketch, String entryPoint, byte[] code, ResolvedJavaMethod[] methods) {
+        if (!isEnabled()) {
+            return;
+        }
+        ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(task.getMethod());
+        if (hasReduceParameters(resolvedMethod)) {
+            return;
+        }
+        ClassLoader loader = task.getMethod().getDeclaringClass().getClassLoader();
+        int driverIndex = task.meta().getBackendIndex();
+        int deviceIndex = task.meta().getDeviceIndex();
+
+        String sketchKey = sketchKey(resolvedMethod, task.getMethod().getDeclaringClass(), driverIndex, deviceIndex);
+        Set<String> sketchClasses = TornadoSketcher.collectDependentClassNames(resolvedMethod, driverIndex, deviceIndex);
+        if (sketchClasses == null) {
+            return;
+        }
+        List<Dependency> sketchDependencies = resolveDependencies(sketchClasses, loader);
+        if (sketchKey != null && sketchDependencies != null) {
+            writeRecord(sketchKey + SKETCH_SUFFIX, output -> {
+                writeAccesses(output, sketch.getArgumentsAccess());
+                output.writeBoolean(sketch.getBatchWriteThreadIndex());
+                writeDependencies(output, sketchDependencies);
+            });
+        }
+
+        String kernelKey = kernelKey(task, device, resolvedMethod);
+        Set<String> kernelClasses = new TreeSet<>(sketchClasses);
+        for (ResolvedJavaMethod method : methods) {
+            kernelClasses.add(method.getDeclaringClass().toClassName());
+        }
+        List<Dependency> kernelDependencies = resolveDependencies(kernelClasses, loader);
+        if (kernelKey != null && kernelDependencies != null) {
+            boolean stored = writeRecord(kernelKey + KERNEL_SUFFIX, output -> {
+                output.writeUTF(entryPoint);
+                output.writeInt(code.length);
+                output.write(code);
+                writeAccesses(output, task.meta().getArgumentsAccess());
+                writeDomain(output, task.meta().getDomain());
+                writeDependencies(output, kernelDependencies);
+            });
+            if (stored) {
+                STORED_KERNELS.incrementAndGet();
+            }
+        }
+    }
+
+    private static boolean hasReduceParameters(ResolvedJavaMethod resolvedMethod) {
+        for (Annotation[] annotations : resolvedMethod.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Reduce) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Keys
+
+    private static String sketchKey(ResolvedJavaMethod resolvedMethod, Class<?> declaringClass, int driverIndex, int deviceIndex) {
+        String classHash = declaringClass == null ? null : hashClassFile(declaringClass);
+        if (classHash == null) {
+            return null;
+        }
+        TornadoAcceleratorBackend backend = TornadoCoreRuntime.getTornadoRuntime().getBackend(driverIndex);
+        TornadoDevice device = backend.getDevice(deviceIndex);
+        MessageDigest digest = newDigest();
+        update(digest, SKETCH_SUFFIX);
+        update(digest, getEnvironmentHash());
+        update(digest, backend.getBackendType().name());
+        update(digest, device.getPhysicalDevice().getDeviceName());
+        update(digest, device instanceof TornadoXPUDevice xpuDevice ? xpuDevice.getDriverVersion() : "");
+        update(digest, classHash);
+        update(digest, resolvedMethod.getName());
+        update(digest, resolvedMethod.getSignature().toMethodDescriptor());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String kernelKey(CompilableTask task, TornadoXPUDevice device, ResolvedJavaMethod resolvedMethod) {
+        String classHash = hashClassFile(task.getMethod().getDeclaringClass());
+        if (classHash == null) {
+            return null;
+        }
+        TaskDataContext taskMeta = task.meta();
+        TornadoVMBackendType backendType = device.getTornadoVMBackend();
+        MessageDigest digest = newDigest();
+        update(digest, KERNEL_SUFFIX);
+        update(digest, getEnvironmentHash());
+        update(digest, codeSourceStamp(device.getClass()));
+        update(digest, backendType.name());
+        update(digest, device.getPhysicalDevice().getDeviceName());
+        update(digest, device.getDriverVersion());
+        update(digest, task.getId());
+        update(digest, classHash);
+        update(digest, resolvedMethod.getName());
+        update(digest, resolvedMethod.getSignature().toMethodDescriptor());
+        update(digest, String.valueOf(taskMeta.getCompilerFlags(backendType)));
+        update(digest, task.getBatchThreads() + ":" + task.getBatchNumber() + ":" + task.getBatchSize() + ":" + taskMeta.getNumThreads());
+        update(digest, String.valueOf(taskMeta.isGridSchedulerEnabled()));
+        StringBuilder fingerprint = new StringBuilder();
+        for (Object argument : task.getArguments()) {
+            if (!appendArgumentFingerprint(fingerprint, argument)) {
+                return null;
+            }
+            fingerprint.append(';');
+        }
+        update(digest, fingerprint.toString());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Appends the values of an argument that the task specialisation may fold into the kernel.
+     *
+     * @return {@code false} if the argument cannot be fingerprinted, and the task must not be cached.
+     */
+    private static boolean appendArgumentFingerprint(StringBuilder fingerprint, Object argument) {
+        if (argument == null) {
+            fingerprint.append("null");
+            return true;
+        }
+        Class<?> klass = argument.getClass();
+        if (RuntimeUtilities.isBoxedPrimitiveClass(klass)) {
+            fingerprint.append(klass.getSimpleName()).append('=').append(argument);
+            return true;
+        } else if (argument instanceof HalfFloat halfFloat) {
+            fingerprint.append("HalfFloat=").append(halfFloat.getHalfFloatValue());
+            return true;
+        } else if (klass.isArray()) {
+            fingerprint.append(klass.getComponentType().getName()).append('[').append(Array.getLength(argument)).append(']');
+            return true;
+        } else if (isJdkClass(klass)) {
+            return false;
+        }
+        return appendFieldsFingerprint(fingerprint, argument, 0);
+    }
+
+    private static boolean appendFieldsFingerprint(StringBuilder fingerprint, Object object, int depth) {
+        fingerprint.append(object.getClass().getName()).append('{');
+        for (Class<?> klass = object.getClass(); klass != null && klass != Object.class; klass = klass.getSuperclass()) {
+            for (Field field : klass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || (!field.getType().isPrimitive() && !Modifier.isFinal(modifiers))) {
+                    continue;
+                }
+                Object value;
+                try {
+                    field.setAccessible(true);
+                    value = field.get(object);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    return false;
+                }
+                fingerprint.append(field.getName()).append('=');
+                if (field.getType().isPrimitive() || value == null) {
+                    fingerprint.append(value);
+                } else if (value.getClass().isArray()) {
+                    fingerprint.append(value.getClass().getComponentType().getName()).append('[').append(Array.getLength(value)).append(']');
+                } else if (!isJdkClass(value.getClass()) && depth < MAX_FIELD_DEPTH) {
+                    if (!appendFieldsFingerprint(fingerprint, value, depth + 1)) {
+                        return false;
+                    }
+                } else {
+                    fingerprint.append(value.getClass().getName());
+                }
+                fingerprint.append(',');
+            }
+        }
+        fingerprint.append('}');
+        return true;
+    }
+
+    private static boolean isJdkClass(Class<?> klass) {
+        String name = klass.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    static String getEnvironmentHash() {
+        String hash = environmentHash;
+        if (hash == null) {
+            MessageDigest digest = newDigest();
+            update(digest, Integer.toString(VERSION));
+            update(digest, System.getProperty("java.vm.version"));
+            Map<String, String> properties = new TreeMap<>();
+            System.getProperties().forEach((key, value) -> {
+                String name = key.toString();
+                if (name.startsWith("tornado.") && !IGNORED_PROPERTIES.contains(name)) {
+                    properties.put(name, value.toString());
+                }
+            });
+            properties.forEach((key, value) -> update(digest, key + "=" + value));
+            update(digest, codeSourceStamp(TornadoNativeArray.class));
+            update(digest, codeSourceStamp(PersistentKernelCache.class));
+            update(digest, codeSourceStamp(StructuredGraph.class));
+            hash = HexFormat.of().formatHex(digest.digest());
+            environmentHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the SHA-256 of the jar a class was loaded from, so that the same build of TornadoVM produces the same
+     * keys on every machine. For classes loaded from a directory, the path and the modification time are used.
+     */
+    private static String codeSourceStamp(Class<?> klass) {
+        try {
+            CodeSource codeSource = klass.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return "";
+            }
+            Path path = Paths.get(codeSource.getLocation().toURI());
+            String stamp = CODE_SOURCE_STAMPS.get(path);
+            if (stamp == null) {
+                if (Files.isRegularFile(path)) {
+                    MessageDigest digest = newDigest();
+                    try (InputStream jar = Files.newInputStream(path)) {
+                        byte[] buffer = new byte[1 << 16];
+                        for (int read = jar.read(buffer); read > 0; read = jar.read(buffer)) {
+                            digest.update(buffer, 0, read);
+                        }
+                    }
+                    stamp = HexFormat.of().formatHex(digest.digest());
+                } else {
+                    stamp = path + ":" + Files.getLastModifiedTime(path).toMillis();
+                }
+                CODE_SOURCE_STAMPS.put(path, stamp);
+            }
+            return stamp;
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return "";
+        }
+    }
+
+    // Dependencies
+
+    private static Class<?> loadClass(String className, ClassLoader loader) {
+        try {
+            return Class.forName(className, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the SHA-256 of the class file of a class, or {@code null} if the class file cannot be read (e.g., for
+     * hidden classes).
+     */
+    public static String hashClassFile(Class<?> klass) {
+        String cached = CLASS_HASHES.get(klass);
+        if (cached != null) {
+            return cached;
+        }
+        String name = klass.getName();
+        try (InputStream classFile = klass.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            if (classFile == null) {
+                return null;
+            }
+            String hash = HexFormat.of().formatHex(newDigest().digest(classFile.readAllBytes()));
+            CLASS_HASHES.put(klass, hash);
+            return hash;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Hashes the class files of the given classes. The JDK classes are covered by the JVM version of the environment
+     * hash, so they are not listed.
+     *
+     * @return The list of dependencies, or {@code null} if a class file cannot be read.
+     */
+    private static List<Dependency> resolveDependencies(Set<String> classNames, ClassLoader loader) {
+        List<Dependency> dependencies = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> klass = loadClass(className, loader);
+            if (klass == null) {
+                return null;
+            }
+            if (isJdkClass(klass)) {
+                continue;
+            }
+            String hash = hashClassFile(klass);
+            if (hash == null) {
+                return null;
+            }
+            dependencies.add(new Dependency(className, hash));
+        }
+        return dependencies;
+    }
+
+    private static void writeDependencies(DataOutputStream output, List<Dependency> dependencies) throws IOException {
+        output.writeInt(dependencies.size());
+        for (Dependency dependency : dependencies) {
+            output.writeUTF(dependency.className());
+            output.writeUTF(dependency.classHash());
+        }
+    }
+
+    private static boolean readAndValidateDependencies(DataInputStream input, ClassLoader loader) throws IOException {
+        int count = input.readInt();
+        boolean valid = true;
+        for (int i = 0; i < count; i++) {
+            String className = input.readUTF();
+            String classHash = input.readUTF();
+            if (valid) {
+                Class<?> klass = loadClass(className, loader);
+                valid = klass != null && classHash.equals(hashClassFile(klass));
+                if (!valid) {
+                    logger.debug("Persisted record discarded: class %s has changed", className);
+                }
+            }
+        }
+        return valid;
+    }
+
+    // Records
+
+    private static void writeAccesses(DataOutputStream output, Access[] accesses) throws IOException {
+        output.writeInt(accesses.length);
+        for (Access access : accesses) {
+            output.writeByte(access.ordinal());
+        }
+    }
+
+    private static Access[] readAccesses(DataInputStream input) throws IOException {
+        Access[] accesses = new Access[input.readInt()];
+        Access[] values = Access.values();
+        for (int i = 0; i < accesses.length; i++) {
+            accesses[i] = values[input.readByte()];
+        }
+        return accesses;
+    }
+
+    private static void writeDomain(DataOutputStream output, DomainTree domain) throws IOException {
+        if (domain == null) {
+            output.writeInt(-1);
+            return;
+        }
+        output.writeInt(domain.getDepth());
+        for (int i = 0; i < domain.getDepth(); i++) {
+            IntDomain intDomain = (IntDomain) domain.get(i);
+            output.writeInt(intDomain.getOffset());
+            output.writeInt(intDomain.getStep());
+            output.writeInt(intDomain.cardinality());
+        }
+    }
+
+    private static DomainTree readDomain(DataInputStream input) throws IOException {
+        int depth = input.readInt();
+        if (depth < 0) {
+            return null;
+        }
+        DomainTree domain = new DomainTree(depth);
+        for (int i = 0; i < depth; i++) {
+            domain.set(i, new IntDomain(input.readInt(), input.readInt(), input.readInt()));
+        }
+        return domain;
+    }
+
+    static boolean isRecordName(String fileName) {
+        return fileName.endsWith(SKETCH_SUFFIX) || fileName.endsWith(KERNEL_SUFFIX);
+    }
+
+    static boolean isRecordFile(Path file) {
+        return Files.isRegularFile(file) && isRecordName(file.getFileName().toString());
+    }
+
+    private static DataInputStream openRecord(String fileName) throws IOException {
+        DataInputStream input;
+        byte[] bundleRecord = BUNDLE_RECORDS.get(fileName);
+        if (bundleRecord != null) {
+            input = new DataInputStream(new ByteArrayInputStream(bundleRecord));
+        } else {
+            Path file = CACHE_DIRECTORY == null ? null : CACHE_DIRECTORY.resolve(fileName);
+            if (file == null || !Files.isRegularFile(file)) {
+                return null;
+            }
+            input = new DataInputStream(Files.newInputStream(file));
+            touchRecord(file);
+        }
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            input.close();
+            return null;
+        }
+        return input;
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * Writes a record to a temporary file and moves it to its final name, so concurrent JVMs never read a partial
+     * record. Records are only written when the cache directory is set.
+     *
+     * @return {@code true} if the record was written.
+     */
+    private static boolean writeRecord(String fileName, RecordWriter writer) {
+        if (CACHE_DIRECTORY == null) {
+            return false;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                writer.write(output);
+            }
+            Files.createDirectories(CACHE_DIRECTORY);
+            Path temporary = Files.createTempFile(CACHE_DIRECTORY, fileName, ".tmp");
+            Files.write(temporary, bytes.toByteArray());
+            Files.move(temporary, CACHE_DIRECTORY.resolve(fileName), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            evictRecords();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to persist %s in %s: %s", fileName, CACHE_DIRECTORY, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Marks a record as used, so it is evicted after the records that have not been used since.
+     */
+    private static void touchRecord(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // A read-only cache directory is still valid; its records are evicted by their creation time
+        }
+    }
+
+    private record RecordFile(Path path, long size, long lastModified) {
+    }
+
+    private static RecordFile toRecordFile(Path file) {
+        try {
+            return new RecordFile(file, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            // Deleted by another JVM
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the least recently used records until the records in the cache directory fit in its maximum size.
+     */
+    private static synchronized void evictRecords() throws IOException {
+        if (MAX_CACHE_SIZE <= 0) {
+            return;
+        }
+        List<RecordFile> records;
+        try (Stream<Path> files = Files.list(CACHE_DIRECTORY)) {
+            records = new ArrayList<>(files.filter(PersistentKernelCache::isRecordFile).map(PersistentKernelCache::toRecordFile).filter(Objects::nonNull).toList());
+        }
+        long cacheSize = records.stream().mapToLong(RecordFile::size).sum();
+        if (cacheSize <= MAX_CACHE_SIZE) {
+            return;
+        }
+        records.sort(Comparator.comparingLong(RecordFile::lastModified));
+        for (RecordFile record : records) {
+            if (cacheSize <= MAX_CACHE_SIZE) {
+                break;
+            }
+            if (Files.deleteIfExists(record.path())) {
+                EVICTED_RECORDS.incrementAndGet();
+                logger.debug("Persistent kernel cache: evicted %s", record.path().getFileName());
+            }
+            cacheSize -= record.size();
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
@@ -56,7 +56,7 @@ import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 public class BatchConfiguration {
 
     private final int totalChunks;
-    private final int remainingChunkSize;
+    private final long remainingChunkSize;
     private final short numBytesType;
 
     /**
@@ -69,7 +69,7 @@ public class BatchConfiguration {
      * @param numBytesType
      *     The number of bytes for the data type.
      */
-    public BatchConfiguration(int totalChunks, int remainingChunkSize, short numBytesType) {
+    public BatchConfiguration(int totalChunks, long remainingChunkSize, short numBytesType) {
         this.totalChunks = totalChunks;
         this.remainingChunkSize = remainingChunkSize;
         this.numBytesType = numBytesType;
@@ -121,8 +121,9 @@ public class BatchConfiguration {
             throw new TornadoRuntimeException("[UNSUPPORTED] Input objects with different element sizes not currently supported");
         }
 
-        int totalChunks = (int) (totalSize / batchSize);
-        int remainingChunkSize = (int) (totalSize % batchSize);
+        // The buffers can exceed 2GB, so only the number of chunks is narrowed to an int
+        int totalChunks = Math.toIntExact(totalSize / batchSize);
+        long remainingChunkSize = totalSize % batchSize;
 
         if (TornadoOptions.DEBUG) {
             System.out.println("Batch Size: " + batchSize);
@@ -136,7 +137,7 @@ public class BatchConfiguration {
         return totalChunks;
     }
 
-    public int getRemainingChunkSize() {
+    public long getRemainingChunkSize() {
         return remainingChunkSize;
     }
 
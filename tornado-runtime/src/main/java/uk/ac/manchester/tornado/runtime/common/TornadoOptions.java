@@ -126,6 +126,31 @@ public class TornadoOptions {
      * Option to set the device maximum memory usage. It is set to 4GB by default.
      */
     public static final long DEVICE_AVAILABLE_MEMORY = RuntimeUtilities.parseSize(System.getProperty("tornado.device.memory", "4GB"));
+    /**
+     * Strategy used by the device buffer providers to cache and reuse device buffers. Allowed values are
+     * {@code linear} (default), which performs a best-fit search over the free list, and {@code sizeclass},
+     * which segregates buffers in power-of-two size classes with constant-time lookup.
+     */
+    public static final String DEVICE_BUFFER_ALLOCATOR = getProperty("tornado.device.buffer.allocator", "linear");
+    /**
+     * Maximum number of free buffers kept per size class when the {@code sizeclass} buffer allocator is used.
+     * The least recently released buffers are returned to the driver when this limit is exceeded. Default is 16.
+     */
+    public static final int DEVICE_BUFFER_MAX_FREE_PER_CLASS = Integer.parseInt(getProperty("tornado.device.buffer.maxFreePerClass", "16"));
+    /**
+     * Option to enable the device memory arena. If enabled, backends that support sub-allocation reserve a single
+     * large buffer per device and hand out sub-ranges of it. Disabled by default.
+     */
+    public static final boolean DEVICE_ARENA = getBooleanValue("tornado.device.arena", FALSE);
+    /**
+     * Size of the device memory arena. It is rounded down to a power of two. It is set to 512MB by default.
+     */
+    public static final long DEVICE_ARENA_SIZE = RuntimeUtilities.parseSize(getProperty("tornado.device.arena.size", "512MB"));
+    /**
+     * Minimum block size (and alignment) in bytes of the buffers allocated within the device memory arena. Default
+     * is 256.
+     */
+    public static final long DEVICE_ARENA_MIN_BLOCK_SIZE = Long.parseLong(getProperty("tornado.device.arena.minBlockSize", "256"));
     /**
      * Option to enable exceptions for the OpenCL generated code. This is
      * experimental.
@@ -268,6 +293,132 @@ public class TornadoOptions {
      * Sets the number of threads for the Tornado Sketcher. Default is 4.
      */
     public static final int TORNADO_SKETCHER_THREADS = Integer.parseInt(getProperty("tornado.sketcher.threads", "4"));
+    /**
+     * Compiles the tasks of a task-graph concurrently before the first launch, on devices that support concurrent
+     * compilation. Default is True.
+     */
+    public static final boolean PARALLEL_COMPILATION = getBooleanValue("tornado.parallel.compilation", TRUE);
+    /**
+     * Sets the number of threads that compile the tasks of a task-graph concurrently. Default is the number of
+     * available processors.
+     */
+    public static final int TORNADO_COMPILATION_THREADS = getIntValue("tornado.compilation.threads", Integer.toString(Runtime.getRuntime().availableProcessors()));
+    /**
+     * Sets the maximum number of kernels kept for each task, each one specialised for a different batch size. The
+     * least recently used kernel is released when a new one is compiled. Default is 4.
+     */
+    public static final int KERNEL_VARIANTS = getIntValue("tornado.kernel.variants", "4");
+    /**
+     * Registers the JVM backend, which runs task-graphs on the cores of the host. The backend is listed after the
+     * accelerator backends, or on its own if there are none, and it also runs the tasks of a task-graph that bails
+     * out. If False, those tasks run sequentially in the calling thread. Default is False.
+     */
+    public static final boolean JVM_BACKEND = getBooleanValue("tornado.jvm.backend", FALSE);
+    /**
+     * Runs the {@code @Parallel} loops and the {@code KernelContext} kernels of the tasks executed on the JVM, either
+     * on the JVM device or after a bailout, across the cores of the host. If False, every task runs single-threaded.
+     * Default is True.
+     */
+    public static final boolean JVM_PARALLEL = getBooleanValue("tornado.jvm.parallel", TRUE);
+    /**
+     * Vectorises the element-wise {@code @Parallel} loops over {@code FloatArray} and {@code IntArray} of the tasks
+     * executed on the JVM with the Vector API. Default is True.
+     */
+    public static final boolean JVM_VECTORIZE = getBooleanValue("tornado.jvm.vectorize", TRUE);
+    /**
+     * Sets the number of threads that execute the tasks on the JVM. Default is the number of available processors.
+     */
+    public static final int TORNADO_JVM_THREADS = getIntValue("tornado.jvm.threads", Integer.toString(Runtime.getRuntime().availableProcessors()));
+    /**
+     * Class that generates the JVM kernels of the tasks with {@code @Parallel} loops.
+     */
+    public static final String JVM_KERNEL_GENERATOR = getProperty("tornado.load.jvm.generator", "uk.ac.manchester.tornado.annotation.ASMJVMKernelGenerator");
+    /**
+     * Directory of the persistent kernel cache. If set, the argument accesses of the sketches and the generated
+     * kernels are stored in this directory and reused across JVM runs, skipping the sketching and the code
+     * generation on a hit. Disabled by default.
+     */
+    public static final String KERNEL_CACHE_DIR = getProperty("tornado.kernel.cache.dir", null);
+    /**
+     * Maximum size, in MB, of the records in the directory of the persistent kernel cache. When a record takes the
+     * cache above this size, the least recently used records are deleted. {@code 0} disables the eviction. Default
+     * is 512 MB.
+     */
+    public static final long KERNEL_CACHE_MAX_SIZE_MB = Long.parseLong(getProperty("tornado.kernel.cache.maxSize", "512"));
+    /**
+     * Number of executions measured on each candidate device when a task-graph selects its device from measured costs
+     * ({@code withDeviceSelection}). A first execution, which includes the compilation, is run before them and not
+     * measured. Default is 3.
+     */
+    public static final int DEVICE_SELECTION_SAMPLES = getIntValue("tornado.device.selection.samples", "3");
+    /**
+     * Number of executions after which the device selected for a task-graph is evaluated again against the other
+     * candidates. Zero keeps the decision for the whole run. Default is 1000.
+     */
+    public static final int DEVICE_SELECTION_REEVALUATE = getIntValue("tornado.device.selection.reevaluate", "1000");
+    /**
+     * File in which the devices selected from measured costs are persisted across JVM runs. An empty value disables
+     * the persistence. Default is {@code ~/.tornadovm/device-selection.properties}.
+     */
+    public static final String DEVICE_SELECTION_FILE = getProperty("tornado.device.selection.file", System.getProperty("user.home") + "/.tornadovm/device-selection.properties");
+    /**
+     * Maximum number of local work-group sizes measured for each kernel when a task-graph tunes its local work-group
+     * sizes ({@code withAutotuning}), including the default size chosen by the driver. Default is 16.
+     */
+    public static final int AUTOTUNE_BUDGET = getIntValue("tornado.autotune.budget", "16");
+    /**
+     * Number of executions measured for each local work-group size when a task-graph tunes its local work-group
+     * sizes. A first execution, which includes the compilation, is run before them and not measured. Default is 3.
+     */
+    public static final int AUTOTUNE_SAMPLES = getIntValue("tornado.autotune.samples", "3");
+    /**
+     * File in which the local work-group sizes selected from measured kernel times are persisted across JVM runs. An
+     * empty value disables the persistence. Default is {@code ~/.tornadovm/autotune.properties}.
+     */
+    public static final String AUTOTUNE_FILE = getProperty("tornado.autotune.file", System.getProperty("user.home") + "/.tornadovm/autotune.properties");
+    /**
+     * Number of threads that dispatch the task-graphs executed with {@code executeAsync}. Default is 2.
+     */
+    public static final int ASYNC_DISPATCH_THREADS = getIntValue("tornado.async.threads", "2");
+    /**
+     * Interval, in microseconds, at which the device events of the task-graphs executed with {@code executeAsync} are
+     * polled while any of them is in flight. Default is 20.
+     */
+    public static final int ASYNC_POLL_INTERVAL = getIntValue("tornado.async.poll.interval", "20");
+    /**
+     * Records the device commands issued by an execution of a task-graph whose buffers, kernels and device did not
+     * change, and replays them in the following executions without interpreting the bytecodes. Default is True.
+     */
+    public static final boolean COMMAND_REPLAY = getBooleanValue("tornado.command.replay", TRUE);
+    /**
+     * Fuses consecutive element-wise tasks of a task-graph whose {@code @Parallel} loops have the same iteration space
+     * into a single kernel, and keeps in registers the temporaries that are not read outside the task-graph. Default
+     * is False.
+     */
+    public static final boolean KERNEL_FUSION = getBooleanValue("tornado.kernel.fusion", FALSE);
+    /**
+     * Class that fuses the tasks of a task-graph when {@code tornado.kernel.fusion} is enabled.
+     */
+    public static final String KERNEL_FUSION_GENERATOR = getProperty("tornado.load.fusion.generator", "uk.ac.manchester.tornado.annotation.ASMKernelFusionGenerator");
+    /**
+     * Rewrites the stencil and GEMM-like tasks of a task-graph so that the work-items of a work-group stage in local
+     * memory the elements that they all read. Default is False.
+     */
+    public static final boolean LOCAL_MEMORY_TILING = getBooleanValue("tornado.local.memory.tiling", FALSE);
+    /**
+     * Class that tiles the tasks of a task-graph when {@code tornado.local.memory.tiling} is enabled.
+     */
+    public static final String LOCAL_MEMORY_TILING_GENERATOR = getProperty("tornado.load.tiling.generator", "uk.ac.manchester.tornado.annotation.ASMLocalMemoryTilingGenerator");
+    /**
+     * Class that generates the kernels of the reductions with a user-defined combiner.
+     */
+    public static final String REDUCTION_GENERATOR = getProperty("tornado.load.reduction.generator", "uk.ac.manchester.tornado.annotation.ASMReductionKernelGenerator");
+    /**
+     * Comma-separated list of kernel bundles built ahead of time with
+     * {@code uk.ac.manchester.tornado.drivers.TornadoKernelBundleBuilder}. Their kernels are loaded before the first
+     * execution and used as a read-only layer of the persistent kernel cache. Disabled by default.
+     */
+    public static final String KERNEL_BUNDLES = getProperty("tornado.kernel.bundle", null);
     /**
      * It enables automatic discovery and parallelization of loops. Please note that
      * this option is experimental and may cause issues if enabled.
@@ -223,6 +223,24 @@ public interface TornadoXPUDevice extends TornadoDevice {
         return false;
     }
 
+    /**
+     * Whether {@link #installCode} can be called from several threads at the same time for different tasks. When
+     * true, the interpreter compiles the tasks of a task-graph concurrently before the first launch; otherwise the
+     * tasks are compiled one at a time, as their LAUNCH bytecodes are reached.
+     */
+    default boolean isConcurrentCompilationSupported() {
+        return false;
+    }
+
+    /**
+     * Whether the events of this device report their status without blocking, so an asynchronous execution can
+     * return as soon as its commands are enqueued and be completed later by polling the last event. When false, the
+     * runtime waits for the device from a dispatch thread instead.
+     */
+    default boolean isNonBlockingExecutionSupported() {
+        return false;
+    }
+
     /**
      * Informs the backend whether large one-shot host-to-device uploads should be routed through
      * the pinned staging ring. Called by the interpreter before issuing a plan's bytecodes, so the
@@ -287,4 +305,12 @@ public interface TornadoXPUDevice extends TornadoDevice {
         // no-op by default
     }
 
+    /**
+     * Version of the driver that builds the kernels for this device. A kernel of the persistent kernel cache is only
+     * reused with the same driver version. Empty if the backend does not report it.
+     */
+    default String getDriverVersion() {
+        return "";
+    }
+
 }
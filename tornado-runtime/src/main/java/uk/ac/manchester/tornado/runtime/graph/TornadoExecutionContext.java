@@ -98,6 +98,7 @@ public class TornadoExecutionContext {
     private boolean isExecutionGraphEnabled;
     private boolean isIntraPlanConcurrencyEnabled;
     private boolean isStagedTransfersEnabled;
+    private boolean isNonBlockingExecution;  // Set for each asynchronous execution. Thus, no need to clone this value.
 
     public TornadoExecutionContext(String id) {
         name = id;
@@ -191,6 +192,15 @@ public class TornadoExecutionContext {
     }
 
     public boolean doesExceedExecutionPlanLimit() {
+        return getObjectsSizeInBytes() > getExecutionPlanMemoryLimit();
+    }
+
+    /**
+     * It computes the size, in bytes, of all the objects and constants used by the tasks of the context.
+     *
+     * @return The total size in bytes.
+     */
+    public long getObjectsSizeInBytes() {
         long totalSize = 0;
 
         for (Object parameter : getObjects()) {
@@ -231,7 +241,7 @@ public class TornadoExecutionContext {
                 totalSize += dataTypeSize.getSize();
             }
         }
-        return totalSize > getExecutionPlanMemoryLimit();
+        return totalSize;
     }
 
     public int replaceVariable(Object oldObj, Object newObj) {
@@ -749,4 +759,12 @@ public class TornadoExecutionContext {
         return this.isStagedTransfersEnabled;
     }
 
+    public void setNonBlockingExecution(boolean nonBlocking) {
+        this.isNonBlockingExecution = nonBlocking;
+    }
+
+    public boolean isNonBlockingExecution() {
+        return this.isNonBlockingExecution;
+    }
+
 }
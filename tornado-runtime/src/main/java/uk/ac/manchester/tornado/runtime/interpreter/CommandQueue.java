@@ -0,0 +1,56 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+
+/**
+ * Target of the commands replayed by a {@link RecordedCommandList}. The {@link TornadoVMInterpreter} implements it
+ * with the device of the interpreter; tests can implement it to check the commands that are replayed.
+ *
+ * <p>
+ * The event lists are the dependency slots of the bytecodes. A command waits for the events of its slot, when the
+ * interpreter uses dependencies, and the slot is reset once the command is enqueued. Each method returns the event of
+ * the command, or -1 if it has none.
+ * </p>
+ */
+interface CommandQueue {
+
+    int write(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList);
+
+    int ensurePresent(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList);
+
+    int read(Object object, XPUDeviceBufferState objectState, long offset, boolean blocking, int eventList);
+
+    int launch(SchedulableTask task, TornadoInstalledCode installedCode, KernelStackFrame stackFrame, long batchThreads, int eventList);
+
+    int barrier(int eventList);
+
+    void addDependency(int event, int eventList);
+
+    void clearDependencies(int eventList);
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.collections.TornadoCollectionInterface;
+import uk.ac.manchester.tornado.api.types.images.TornadoImagesInterface;
+import uk.ac.manchester.tornado.api.types.matrix.TornadoMatrixInterface;
+import uk.ac.manchester.tornado.api.types.volumes.TornadoVolumesInterface;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+
+/**
+ * Kernels installed for a task, one for each shape the task has been specialised for. The shape of a launch is the
+ * number of threads of the batch, the batch number and the sizes of the arguments of the task, which the compiler folds
+ * into the kernel as constants.
+ *
+ * <p>
+ * The cache keeps at most {@code capacity} variants and evicts the least recently used one. Evicted variants are
+ * invalidated, so their device program is released. This way, a task-graph executed in uneven batches switches
+ * between the kernels of the full and the last batch instead of recompiling the task twice per execution.
+ * </p>
+ */
+final class KernelVariantCache {
+
+    private record Shape(long batchThreads, int batchNumber, long[] argumentSizes) {
+
+        private boolean matches(long batchThreads, int batchNumber, long[] argumentSizes) {
+            return this.batchThreads == batchThreads && this.batchNumber == batchNumber && Arrays.equals(this.argumentSizes, argumentSizes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Shape shape && shape.matches(batchThreads, batchNumber, argumentSizes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Long.hashCode(batchThreads) + batchNumber) + Arrays.hashCode(argumentSizes);
+        }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Shape, TornadoInstalledCode> variants;
+    private Shape current;
+
+    private long hits;
+    private long misses;
+    private long recompilations;
+
+    KernelVariantCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.variants = new LinkedHashMap<>(this.capacity + 1, 1.0f, true);
+    }
+
+    /**
+     * The sizes of the arguments of a task: the number of elements of arrays and the number of bytes of the other
+     * off-heap types. Scalars have no size.
+     */
+    static long[] argumentSizes(Object[] arguments) {
+        long[] sizes = new long[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            sizes[i] = switch (arguments[i]) {
+                case TornadoNativeArray nativeArray -> nativeArray.getSizeLong();
+                case TornadoCollectionInterface<?> collection -> collection.getSegmentWithHeader().byteSize();
+                case TornadoImagesInterface<?> image -> image.getSegmentWithHeader().byteSize();
+                case TornadoMatrixInterface<?> matrix -> matrix.getSegmentWithHeader().byteSize();
+                case TornadoVolumesInterface<?> volume -> volume.getSegmentWithHeader().byteSize();
+                case Object array when array.getClass().isArray() -> Array.getLength(array);
+                case null, default -> -1;
+            };
+        }
+        return sizes;
+    }
+
+    /**
+     * Whether the last variant selected or installed was specialised for the given shape.
+     */
+    boolean isCurrent(long batchThreads, int batchNumber, long[] argumentSizes) {
+        return current != null && current.matches(batchThreads, batchNumber, argumentSizes);
+    }
+
+    /**
+     * It returns the valid variant specialised for the given shape, or {@code null} if the task has to be compiled
+     * for it.
+     */
+    TornadoInstalledCode select(long batchThreads, int batchNumber, long[] argumentSizes) {
+        Shape shape = new Shape(batchThreads, batchNumber, argumentSizes);
+        TornadoInstalledCode variant = variants.get(shape);
+        if (variant != null && variant.isValid()) {
+            current = shape;
+            hits++;
+            return variant;
+        }
+        variants.remove(shape);
+        misses++;
+        return null;
+    }
+
+    /**
+     * It registers the code compiled for the given shape, and invalidates the least recently used variants above the
+     * capacity of the cache.
+     *
+     * @return Whether the task had already been compiled for another shape.
+     */
+    boolean install(long batchThreads, int batchNumber, long[] argumentSizes, TornadoInstalledCode code) {
+        boolean recompiled = current != null;
+        if (recompiled) {
+            recompilations++;
+        }
+        current = new Shape(batchThreads, batchNumber, argumentSizes);
+        variants.put(current, code);
+        Iterator<Map.Entry<Shape, TornadoInstalledCode>> eldest = variants.entrySet().iterator();
+        while (variants.size() > capacity) {
+            TornadoInstalledCode evicted = eldest.next().getValue();
+            eldest.remove();
+            if (evicted != code && !variants.containsValue(evicted)) {
+                evicted.invalidate();
+            }
+        }
+        return recompiled;
+    }
+
+    /**
+     * Forgets all the variants without invalidating them. It is used when the code cache of the device has been
+     * cleared.
+     */
+    void clear() {
+        variants.clear();
+        current = null;
+    }
+
+    int size() {
+        return variants.size();
+    }
+
+    long getHits() {
+        return hits;
+    }
+
+    long getMisses() {
+        return misses;
+    }
+
+    long getRecompilations() {
+        return recompilations;
+    }
+}
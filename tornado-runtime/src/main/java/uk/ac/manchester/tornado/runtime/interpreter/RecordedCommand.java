@@ -0,0 +1,121 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+
+/**
+ * A device command issued by an execution of the {@link TornadoVMInterpreter}, with its operands already resolved:
+ * the buffers, the installed kernel and its filled stack frame, and the dependency slots. A
+ * {@link RecordedCommandList} enqueues the commands again on a {@link CommandQueue} without interpreting the
+ * bytecodes.
+ */
+sealed interface RecordedCommand {
+
+    /**
+     * Enqueues the command.
+     *
+     * @param queue
+     *     The {@link CommandQueue} on which the command is enqueued.
+     * @param lastEvent
+     *     Event of the previous command.
+     * @return The event of the command, which the next command sees as the last event.
+     */
+    int enqueue(CommandQueue queue, int lastEvent);
+
+    /**
+     * Host to device copy of an object, issued on every execution.
+     */
+    record Write(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            return queue.write(object, objectState, offset, sizeBatch, eventList);
+        }
+    }
+
+    /**
+     * Host to device copy of an object, issued only if the device buffer has no content.
+     */
+    record EnsurePresent(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            return queue.ensurePresent(object, objectState, offset, sizeBatch, eventList);
+        }
+    }
+
+    /**
+     * Device to host copy of an object.
+     */
+    record Read(Object object, XPUDeviceBufferState objectState, long offset, boolean blocking, int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            return queue.read(object, objectState, offset, blocking, eventList);
+        }
+    }
+
+    /**
+     * Launch of a kernel. The stack frame keeps the arguments pushed when the command was recorded.
+     */
+    record Launch(SchedulableTask task, TornadoInstalledCode installedCode, KernelStackFrame stackFrame, long batchThreads, int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            return queue.launch(task, installedCode, stackFrame, batchThreads, eventList);
+        }
+    }
+
+    /**
+     * Barrier on the events of a slot.
+     */
+    record Barrier(int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            return queue.barrier(eventList);
+        }
+    }
+
+    /**
+     * Adds the event of the previous command to a slot.
+     */
+    record AddDependency(int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            queue.addDependency(lastEvent, eventList);
+            return lastEvent;
+        }
+    }
+
+    /**
+     * Resets a slot without issuing a device command, as done for objects that are already on the device.
+     */
+    record ClearDependencies(int eventList) implements RecordedCommand {
+        @Override
+        public int enqueue(CommandQueue queue, int lastEvent) {
+            queue.clearDependencies(eventList);
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Device commands issued by one execution of a task-graph, which later executions replay without interpreting the
+ * bytecodes. This is the equivalent of a CUDA graph for the backends without command buffers: the commands are
+ * enqueued again one by one, but the bytecodes are not decoded, the stack frames are not filled and the kernels are
+ * not looked up.
+ *
+ * <p>
+ * The list is valid for the state in which it was recorded, described by a key: the device, the device buffers with
+ * their addresses and sizes, the installed kernels, the stack frames and the thread grids of the task-graph. The
+ * interpreter computes the key before every execution and replays the commands only if it {@link #matches} the key of
+ * the list, so any change of buffer, size or device invalidates the list.
+ * </p>
+ */
+final class RecordedCommandList {
+
+    private final Object[] key;
+    private final RecordedCommand[] commands;
+    private long replays;
+
+    private RecordedCommandList(Object[] key, RecordedCommand[] commands) {
+        this.key = key;
+        this.commands = commands;
+    }
+
+    /**
+     * Whether the commands were recorded in the state described by the given key.
+     */
+    boolean matches(Object[] currentKey) {
+        return currentKey != null && Arrays.deepEquals(key, currentKey);
+    }
+
+    /**
+     * Enqueues all the commands on the given queue, in the order they were recorded.
+     *
+     * @return The event of the last command.
+     */
+    int replay(CommandQueue queue) {
+        int lastEvent = -1;
+        for (RecordedCommand command : commands) {
+            lastEvent = command.enqueue(queue, lastEvent);
+        }
+        replays++;
+        return lastEvent;
+    }
+
+    int size() {
+        return commands.length;
+    }
+
+    long getReplays() {
+        return replays;
+    }
+
+    /**
+     * Records the commands of one execution. The recording is aborted when the execution issues an operation that
+     * cannot be replayed (atomics, library calls, allocations), or when a dependency does not refer to the last
+     * command recorded.
+     */
+    static final class Recorder {
+
+        private final Object[] key;
+        private final List<RecordedCommand> commands = new ArrayList<>();
+        private int lastEvent = -1;
+        private boolean aborted;
+
+        /**
+         * @param key
+         *     Key of the state before the execution. A null key describes a state that cannot be replayed.
+         */
+        Recorder(Object[] key) {
+            this.key = key;
+            this.aborted = key == null;
+        }
+
+        /**
+         * Records a command and the event it returned.
+         */
+        void add(RecordedCommand command, int event) {
+            if (aborted) {
+                return;
+            }
+            if (command instanceof RecordedCommand.Launch launch && isStackFrameRecorded(launch)) {
+                // The stack frame is filled once, when it is recorded, so it cannot be shared by two launches
+                abort();
+                return;
+            }
+            commands.add(command);
+            lastEvent = event;
+        }
+
+        /**
+         * Records that the given event is added to a slot. The replay adds the event of the previous command, so the
+         * event must be the one returned by the last command recorded.
+         */
+        void addDependency(int event, int eventList) {
+            if (aborted) {
+                return;
+            }
+            if (event != lastEvent) {
+                abort();
+                return;
+            }
+            commands.add(new RecordedCommand.AddDependency(eventList));
+        }
+
+        void abort() {
+            aborted = true;
+            commands.clear();
+        }
+
+        boolean isAborted() {
+            return aborted;
+        }
+
+        /**
+         * Ends the recording.
+         *
+         * @param keyAfter
+         *     Key of the state after the execution.
+         * @return The recorded commands, or null if the recording was aborted or if the execution changed the state
+         *     (for example, by allocating a buffer), because the commands would then not be the ones issued by the next
+         *     execution.
+         */
+        RecordedCommandList finish(Object[] keyAfter) {
+            if (aborted || keyAfter == null || !Arrays.deepEquals(key, keyAfter)) {
+                return null;
+            }
+            return new RecordedCommandList(key, commands.toArray(new RecordedCommand[0]));
+        }
+
+        private boolean isStackFrameRecorded(RecordedCommand.Launch launch) {
+            for (RecordedCommand command : commands) {
+                if (command instanceof RecordedCommand.Launch recorded && recorded.stackFrame() == launch.stackFrame()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import uk.ac.manchester.tornado.api.common.Access;
+import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodes;
+
+/**
+ * A TornadoVM bytecode with its operands already decoded. The {@link TornadoVMInterpreter} decodes the bytecode
+ * buffer once, when it is created, and every execution dispatches over the decoded instructions without reading the
+ * buffer again. The opcode of each instruction is kept in a parallel {@link TornadoVMBytecodes} array, so the
+ * dispatch is a switch over the opcode.
+ */
+sealed interface TornadoVMInstruction {
+
+    /**
+     * {@link TornadoVMBytecodes#ALLOC}. The object, access and state arrays are filled and passed to the device on
+     * every execution, so allocating the objects does not create new arrays.
+     */
+    record Alloc(long sizeBatch, int[] args, Object[] objects, Access[] accesses, XPUDeviceBufferState[] objectStates) implements TornadoVMInstruction {
+        Alloc(long sizeBatch, int[] args) {
+            this(sizeBatch, args, new Object[args.length], new Access[args.length], new XPUDeviceBufferState[args.length]);
+        }
+    }
+
+    /**
+     * {@link TornadoVMBytecodes#DEALLOC}.
+     */
+    record Dealloc(int objectIndex) implements TornadoVMInstruction {
+    }
+
+    /**
+     * The four transfer bytecodes, from {@link TornadoVMBytecodes#TRANSFER_HOST_TO_DEVICE_ONCE} to
+     * {@link TornadoVMBytecodes#TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING}.
+     */
+    record Transfer(int objectIndex, int eventId, long offset, long sizeBatch) implements TornadoVMInstruction {
+    }
+
+    /**
+     * {@link TornadoVMBytecodes#LAUNCH}, with the arguments pushed for the call. The argument types are
+     * {@link TornadoVMBytecodes#PUSH_CONSTANT_ARGUMENT} or {@link TornadoVMBytecodes#PUSH_REFERENCE_ARGUMENT}, and
+     * the local task index is the index of the task in the tasks of the device of the interpreter.
+     */
+    record Launch(int callWrapperIndex, int taskIndex, int localTaskIndex, int eventId, long offset, long batchThreads, byte[] argTypes, int[] argIndices) implements TornadoVMInstruction {
+        int numArgs() {
+            return argIndices.length;
+        }
+    }
+
+    /**
+     * {@link TornadoVMBytecodes#ADD_DEPENDENCY}.
+     */
+    record AddDependency(int eventList) implements TornadoVMInstruction {
+    }
+
+    /**
+     * {@link TornadoVMBytecodes#ON_DEVICE} and {@link TornadoVMBytecodes#PERSIST}.
+     */
+    record ObjectEvent(int objectIndex, int eventId) implements TornadoVMInstruction {
+    }
+
+    /**
+     * {@link TornadoVMBytecodes#BARRIER}.
+     */
+    record Barrier(int eventId) implements TornadoVMInstruction {
+    }
+
+    /**
+     * The execution graph bytecodes, from {@link TornadoVMBytecodes#CUDA_GRAPH_BEGIN_CAPTURE} to
+     * {@link TornadoVMBytecodes#CUDA_GRAPH_DESTROY}.
+     */
+    record ExecutionGraph(int graphId) implements TornadoVMInstruction {
+    }
+
+    /**
+     * {@link TornadoVMBytecodes#END}.
+     */
+    record End() implements TornadoVMInstruction {
+    }
+}
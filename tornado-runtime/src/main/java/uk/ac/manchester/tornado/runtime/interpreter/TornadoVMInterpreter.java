@@ -27,12 +27,14 @@ import static uk.ac.manchester.tornado.api.enums.TornadoExecutionStatus.COMPLETE
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VIRTUAL_DEVICE_ENABLED;
 import static uk.ac.manchester.tornado.runtime.common.TornadoOptions.VM_USE_DEPS;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import uk.ac.manchester.tornado.api.GridScheduler;
@@ -56,6 +58,7 @@ import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.TaskContextInterface;
 import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
 import uk.ac.manchester.tornado.runtime.EmptyEvent;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
 import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
@@ -67,6 +70,12 @@ import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
 import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeResult;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodes;
+import uk.ac.manchester.tornado.runtime.jfr.DeviceAllocationEvent;
+import uk.ac.manchester.tornado.runtime.jfr.DeviceDeallocationEvent;
+import uk.ac.manchester.tornado.runtime.jfr.KernelCompilationEvent;
+import uk.ac.manchester.tornado.runtime.jfr.KernelLaunchEvent;
+import uk.ac.manchester.tornado.runtime.jfr.TaskGraphExecutionEvent;
+import uk.ac.manchester.tornado.runtime.jfr.TransferEvent;
 import uk.ac.manchester.tornado.runtime.library.LibraryRegistry;
 import uk.ac.manchester.tornado.runtime.library.spi.LibraryContext;
 import uk.ac.manchester.tornado.runtime.library.spi.LibraryInvocation;
@@ -100,6 +109,7 @@ public class TornadoVMInterpreter {
     private final int[] eventsIndexes;
     private final TornadoXPUDevice interpreterDevice;
     private final TornadoInstalledCode[] installedCodes;
+    private final KernelVariantCache[] kernelVariants;
 
     private final List<Object> constants;
     private final List<SchedulableTask> taskExecutionContexts;
@@ -113,12 +123,64 @@ public class TornadoVMInterpreter {
 
     private GridScheduler gridScheduler;
 
-    private HashMap<Object, Integer> currentBatchNumberPerObject = new HashMap<>();
-    private HashMap<Object, Integer> totalEvenBatchesPerObject = new HashMap<>();
+    /**
+     * Decoded bytecodes and their opcodes, from the first bytecode after BEGIN to END.
+     */
+    private final TornadoVMInstruction[] instructions;
+    private final TornadoVMBytecodes[] opcodes;
+
+    /**
+     * Chunk counters of batched plans, indexed by object. They are null when the plan is not batched.
+     */
+    private int[] currentBatchNumberPerObject;
+    private int[] totalEvenBatchesPerObject;
+
+    /**
+     * Global work sizes passed to the kernel context of each launch. The stack frames copy the values, so a single
+     * map is reused by all launches.
+     */
+    private final HashMap<Integer, Integer> threadDeploy = new HashMap<>();
     private final HashMap<Integer, Long> executionGraphHandles = new HashMap<>();
     private boolean insideCaptureRegion = false;
+    private boolean pendingConcurrentCompilation = true;
+
+    /**
+     * For each task compiled by {@link #compileTasksConcurrently()}, the result of {@link #prepareTaskForLaunch}, so
+     * its first LAUNCH bytecode does not prepare the task again. It is {@code null} for the tasks that have not been
+     * prepared ahead of their launch.
+     */
+    private final Boolean[] preparedIndexInWrite;
     private boolean executionGraphEnabled = true;
 
+    /**
+     * Set for an execution that returns as soon as its commands are enqueued. The reads to the host are then
+     * enqueued without blocking, and the buffers released by DEALLOC bytecodes are kept until the execution completes
+     * (see {@link #releaseDeferredDeallocations()}), because the device may still be using them.
+     */
+    private boolean nonBlockingExecution;
+    private final List<Integer> deferredDeallocations = new ArrayList<>();
+
+    /**
+     * Whether the execution in progress, or the last one if it failed, has copied data back to the host.
+     */
+    private boolean hostMemoryWritten;
+
+    /**
+     * Commands of the last execution whose state did not change, replayed instead of the bytecodes while the buffers,
+     * kernels and device of the task-graph stay the same (see {@link RecordedCommandList}). The recorder is set only
+     * while an execution is recorded.
+     */
+    private RecordedCommandList recordedCommands;
+    private RecordedCommandList.Recorder recorder;
+    private final CommandQueue deviceQueue = new DeviceCommandQueue();
+
+    /**
+     * Objects used by the bytecodes of the interpreter, whose device buffers are part of the key of the recorded
+     * commands.
+     */
+    private final int[] replayObjectIndices;
+    private final boolean hasExecutionGraphBytecodes;
+
     private TornadoLogger logger = new TornadoLogger(this.getClass());
 
     /**
@@ -158,6 +220,11 @@ public class TornadoVMInterpreter {
         localTaskList = graphExecutionContext.getTasksForDevice(interpreterDevice.getDeviceContext());
 
         installedCodes = new TornadoInstalledCode[localTaskList.size()];
+        preparedIndexInWrite = new Boolean[localTaskList.size()];
+        kernelVariants = new KernelVariantCache[localTaskList.size()];
+        for (int i = 0; i < kernelVariants.length; i++) {
+            kernelVariants[i] = new KernelVariantCache(TornadoOptions.KERNEL_VARIANTS);
+        }
 
         for (int i = 0; i < events.length; i++) {
             Arrays.fill(events[i], -1);
@@ -177,9 +244,136 @@ public class TornadoVMInterpreter {
         constants = graphExecutionContext.getConstants();
         taskExecutionContexts = graphExecutionContext.getTasks();
 
+        this.bytecodeResult.mark();
+        int numInstructions = countInstructions();
+        instructions = new TornadoVMInstruction[numInstructions];
+        opcodes = new TornadoVMBytecodes[numInstructions];
+        decodeInstructions();
+        this.bytecodeResult.reset();
+        replayObjectIndices = findReplayObjects();
+        hasExecutionGraphBytecodes = Arrays.stream(opcodes).anyMatch(op -> op == TornadoVMBytecodes.CUDA_GRAPH_BEGIN_CAPTURE || op == TornadoVMBytecodes.CUDA_GRAPH_LAUNCH);
+
+        logger.debug("decoded %d bytecodes", numInstructions);
         logger.debug("interpreter for device %s is ready to go", device.toString());
+    }
 
-        this.bytecodeResult.mark();
+    /**
+     * Counts the bytecodes from the current position of the buffer to END.
+     */
+    private int countInstructions() {
+        int count = 0;
+        while (bytecodeResult.hasRemaining()) {
+            final byte op = bytecodeResult.get();
+            count++;
+            if (op == TornadoVMBytecodes.END.value()) {
+                break;
+            }
+            skipBytecodeOperands(op);
+        }
+        bytecodeResult.reset();
+        return count;
+    }
+
+    /**
+     * Decodes the bytecodes from the current position of the buffer to END. Each execution of the interpreter
+     * dispatches over the decoded instructions, so the operands are read from the buffer only once.
+     */
+    private void decodeInstructions() {
+        for (int pc = 0; pc < instructions.length; pc++) {
+            final byte op = bytecodeResult.get();
+            final TornadoVMInstruction instruction;
+            if (op == TornadoVMBytecodes.ALLOC.value()) {
+                final long sizeBatch = bytecodeResult.getLong();
+                final int[] args = new int[bytecodeResult.getInt()];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = bytecodeResult.getInt();
+                }
+                instruction = new TornadoVMInstruction.Alloc(sizeBatch, args);
+            } else if (op == TornadoVMBytecodes.DEALLOC.value()) {
+                instruction = new TornadoVMInstruction.Dealloc(bytecodeResult.getInt());
+            } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value() //
+                    || op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS.value() //
+                    || op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value() //
+                    || op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING.value()) {
+                final int objectIndex = bytecodeResult.getInt();
+                final int eventId = bytecodeResult.getInt();
+                final long offset = bytecodeResult.getLong();
+                final long sizeBatch = bytecodeResult.getLong();
+                instruction = new TornadoVMInstruction.Transfer(objectIndex, eventId, offset, sizeBatch);
+            } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
+                final int callWrapperIndex = bytecodeResult.getInt();
+                final int taskIndex = bytecodeResult.getInt();
+                final int numArgs = bytecodeResult.getInt();
+                final int eventId = bytecodeResult.getInt();
+                final long offset = bytecodeResult.getLong();
+                final long batchThreads = bytecodeResult.getLong();
+                final byte[] argTypes = new byte[numArgs];
+                final int[] argIndices = new int[numArgs];
+                for (int i = 0; i < numArgs; i++) {
+                    argTypes[i] = bytecodeResult.get();
+                    argIndices[i] = bytecodeResult.getInt();
+                    if (argTypes[i] != TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value() && argTypes[i] != TornadoVMBytecodes.PUSH_REFERENCE_ARGUMENT.value()) {
+                        TornadoInternalError.shouldNotReachHere();
+                    }
+                }
+                instruction = new TornadoVMInstruction.Launch(callWrapperIndex, taskIndex, globalToLocalTaskIndex(taskIndex), eventId, offset, batchThreads, argTypes, argIndices);
+            } else if (op == TornadoVMBytecodes.ADD_DEPENDENCY.value()) {
+                instruction = new TornadoVMInstruction.AddDependency(bytecodeResult.getInt());
+            } else if (op == TornadoVMBytecodes.ON_DEVICE.value() || op == TornadoVMBytecodes.PERSIST.value()) {
+                final int objectIndex = bytecodeResult.getInt();
+                final int eventId = bytecodeResult.getInt();
+                instruction = new TornadoVMInstruction.ObjectEvent(objectIndex, eventId);
+            } else if (op == TornadoVMBytecodes.BARRIER.value()) {
+                instruction = new TornadoVMInstruction.Barrier(bytecodeResult.getInt());
+            } else if (op == TornadoVMBytecodes.CUDA_GRAPH_LAUNCH.value() //
+                    || op == TornadoVMBytecodes.CUDA_GRAPH_BEGIN_CAPTURE.value() //
+                    || op == TornadoVMBytecodes.CUDA_GRAPH_END_CAPTURE.value() //
+                    || op == TornadoVMBytecodes.CUDA_GRAPH_DESTROY.value()) {
+                instruction = new TornadoVMInstruction.ExecutionGraph(bytecodeResult.getInt());
+            } else if (op == TornadoVMBytecodes.END.value()) {
+                instruction = new TornadoVMInstruction.End();
+            } else {
+                throwErrorInterpreter(op);
+                return;
+            }
+            instructions[pc] = instruction;
+            opcodes[pc] = toBytecode(op);
+        }
+    }
+
+    /**
+     * Indices of the objects that are allocated, transferred or passed by reference to a kernel by the bytecodes,
+     * without the kernel contexts, which have no device buffer.
+     */
+    private int[] findReplayObjects() {
+        final BitSet used = new BitSet(objects.size());
+        for (TornadoVMInstruction instruction : instructions) {
+            switch (instruction) {
+                case TornadoVMInstruction.Alloc alloc -> Arrays.stream(alloc.args()).forEach(used::set);
+                case TornadoVMInstruction.Dealloc dealloc -> used.set(dealloc.objectIndex());
+                case TornadoVMInstruction.Transfer transfer -> used.set(transfer.objectIndex());
+                case TornadoVMInstruction.ObjectEvent objectEvent -> used.set(objectEvent.objectIndex());
+                case TornadoVMInstruction.Launch launch -> {
+                    for (int i = 0; i < launch.numArgs(); i++) {
+                        if (launch.argTypes()[i] == TornadoVMBytecodes.PUSH_REFERENCE_ARGUMENT.value()) {
+                            used.set(launch.argIndices()[i]);
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return used.stream().filter(index -> !isObjectKernelContext(objects.get(index))).toArray();
+    }
+
+    private static TornadoVMBytecodes toBytecode(byte op) {
+        for (TornadoVMBytecodes bytecode : TornadoVMBytecodes.values()) {
+            if (bytecode.value() == op) {
+                return bytecode;
+            }
+        }
+        throw new TornadoRuntimeException("[ERROR] TornadoVM Bytecode not recognized");
     }
 
     private void initBatchDataStructures(TornadoExecutionContext context) {
@@ -187,14 +381,13 @@ public class TornadoVMInterpreter {
         if (batchSize != -1) {
             BatchConfiguration batchConfiguration = BatchConfiguration.computeChunkSizes(context, batchSize);
             int totalChunks = batchConfiguration.getTotalChunks();
-            for (Object object : objects) {
-                // Deliberately counts only the EVEN chunks: the DEALLOC after the last even chunk must
-                // fire so the remainder chunk (if any) gets a fresh buffer sized to the remainder -
-                // transfers use the buffer's allocated size, so reusing the even-chunk buffer would
-                // overrun the host segment.
-                totalEvenBatchesPerObject.put(object, totalChunks);
-                currentBatchNumberPerObject.put(object, 0);
-            }
+            // Deliberately counts only the EVEN chunks: the DEALLOC after the last even chunk must
+            // fire so the remainder chunk (if any) gets a fresh buffer sized to the remainder -
+            // transfers use the buffer's allocated size, so reusing the even-chunk buffer would
+            // overrun the host segment.
+            totalEvenBatchesPerObject = new int[objects.size()];
+            currentBatchNumberPerObject = new int[objects.size()];
+            Arrays.fill(totalEvenBatchesPerObject, totalChunks);
         }
     }
 
@@ -311,12 +504,23 @@ public class TornadoVMInterpreter {
         // dependency DAG (waitList -> cross-stream events) would never engage for concurrent plans.
         useDependencies = VM_USE_DEPS || isIntraPlanConcurrencyActive();
 
+        nonBlockingExecution = !isWarmup && graphExecutionContext.isNonBlockingExecution() && interpreterDevice.isNonBlockingExecutionSupported() && !TornadoOptions.isProfilerEnabled();
+
         // Batched plans: reset the per-object chunk counters so every execution behaves like the
         // first (per-chunk DEALLOCs stay no-ops until the last even chunk). Without this reset the
         // counters keep growing across execute() calls, so on re-execution every per-chunk DEALLOC
         // frees for real and the buffers are deallocated and reallocated on every chunk.
-        if (graphExecutionContext.getBatchSize() != -1 && !isWarmup) {
-            currentBatchNumberPerObject.replaceAll((object, count) -> 0);
+        if (currentBatchNumberPerObject != null && !isWarmup) {
+            Arrays.fill(currentBatchNumberPerObject, 0);
+        }
+
+        // The batch number of a task is folded into its kernel when the loop index is written, so every execution
+        // starts again from the first batch. This also lets the kernels specialised in the previous execution (or in
+        // the warmup) be reused.
+        if (currentBatchNumberPerObject != null) {
+            for (SchedulableTask task : localTaskList) {
+                task.setBatchNumber(0);
+            }
         }
 
         if (isMemoryLimitEnabled() && graphExecutionContext.doesExceedExecutionPlanLimit()) {
@@ -324,17 +528,14 @@ public class TornadoVMInterpreter {
         }
 
         final long t0 = System.nanoTime();
+        final TaskGraphExecutionEvent executionEvent = isWarmup ? null : TaskGraphExecutionEvent.beginIfEnabled();
 
-        // lastEvent: event ID produced by the most recently executed bytecode operation
-        // (H2D, D2H, LAUNCH, ALLOC, etc.). The immediately following ADD_DEPENDENCY
-        // bytecode stores it into events[slot], building the wait-list that is passed
-        // as waitList to the next dependent operation.
-        // In single-stream mode: a local PTXEventPool index.
-        // In multi-stream mode: a global PTXEventRegistry ID resolved via
-        // resolveAndWaitCrossStream into cuStreamWaitEvent calls on the target stream.
-        // Initialised to -1; ADD_DEPENDENCY skips it when -1 (no-op or warmup).
-        int lastEvent = -1;
         initWaitEventList();
+        hostMemoryWritten = false;
+
+        if (pendingConcurrentCompilation) {
+            compileTasksConcurrently();
+        }
 
         StringBuilder logBuilder = null;
         if (TornadoOptions.LOG_BYTECODES() && !isWarmup) {
@@ -343,180 +544,46 @@ public class TornadoVMInterpreter {
                     " Running in thread: ")).append(Thread.currentThread().getName()).append("\n");
         }
 
-        while (bytecodeResult.hasRemaining()) {
-            final byte op = bytecodeResult.get();
-            if (op == TornadoVMBytecodes.ALLOC.value()) {
-                final long sizeBatch = bytecodeResult.getLong();
-                final int argSize = bytecodeResult.getInt();
-                final int[] args = new int[argSize];
-                for (int i = 0; i < argSize; i++) {
-                    args[i] = bytecodeResult.getInt();
-                }
-                if (isWarmup || !executionGraphHandles.isEmpty()) {
-                    continue;
-                }
-                lastEvent = executeAlloc(logBuilder, args, sizeBatch);
-            } else if (op == TornadoVMBytecodes.DEALLOC.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                if (!executionGraphHandles.isEmpty()) {
-                    if (TornadoOptions.LOG_BYTECODES()) {
-                        Object object = objects.get(objectIndex);
-                        logBuilder.append("bc: ").append(InterpreterUtilities.debugHighLightNonExecBC(
-                                        "DEALLOC")).append(" [SKIPPED - execution graph active] ")
-                                .append(object).append("\n");
-                    }
-                    continue;
-                }
-                lastEvent = executeDeAlloc(logBuilder, objectIndex);
-            } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ONCE.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = transferHostToDeviceOnce(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.TRANSFER_HOST_TO_DEVICE_ALWAYS.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = transferHostToDeviceAlways(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies) ? events[eventId] : null;
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = transferDeviceToHost(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long sizeBatch = bytecodeResult.getLong();
-                final int[] waitList = (useDependencies) ? events[eventId] : null;
-                if (isWarmup) {
-                    continue;
-                }
-                transferDeviceToHostBlocking(logBuilder, objectIndex, offset, eventId, sizeBatch, waitList);
-            } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
-                final int callWrapperIndex = bytecodeResult.getInt();
-                final int taskIndex = bytecodeResult.getInt();
-                final int numArgs = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long batchThreads = bytecodeResult.getLong();
-                XPUExecutionFrame executionFrame = compileTaskFromBytecodeToBinary(callWrapperIndex, numArgs, eventId, taskIndex, batchThreads);
-                if (isWarmup) {
-                    popArgumentsFromCall(numArgs);
-                    continue;
-                }
-                lastEvent = executeLaunch(logBuilder, numArgs, eventId, taskIndex, batchThreads, offset, executionFrame);
-            } else if (op == TornadoVMBytecodes.ADD_DEPENDENCY.value()) {
-                final int eventList = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                executeDependency(logBuilder, lastEvent, eventList);
-            } else if (op == TornadoVMBytecodes.ON_DEVICE.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = executeOnDevice(logBuilder, objectIndex, eventId);
-            } else if (op == TornadoVMBytecodes.PERSIST.value()) {
-                final int objectIndex = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = executePersist(logBuilder, objectIndex, eventId);
-            } else if (op == TornadoVMBytecodes.BARRIER.value()) {
-                final int eventId = bytecodeResult.getInt();
-                final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
-                if (isWarmup) {
-                    continue;
-                }
-                lastEvent = executeBarrier(logBuilder, eventId, waitList);
-            } else if (op == TornadoVMBytecodes.CUDA_GRAPH_LAUNCH.value()) {
-                final int graphId = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                if (executionGraphHandles.containsKey(graphId)) {
-                    lastEvent = executeGraphLaunch(logBuilder, graphId);
-                }
-            } else if (op == TornadoVMBytecodes.CUDA_GRAPH_BEGIN_CAPTURE.value()) {
-                final int graphId = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                if (executionGraphHandles.containsKey(graphId)) {
-                    // Graph already captured: skip entire capture region
-                    skipToAfterEndCapture(graphId);
-                } else {
-                    // First execution: force all lazy allocations, then capture
-                    preCompileLaunchesInCaptureRegion();
-                    executeGraphBeginCapture(logBuilder, graphId);
-                    insideCaptureRegion = true;
-                }
-
-            } else if (op == TornadoVMBytecodes.CUDA_GRAPH_END_CAPTURE.value()) {
-                final int graphId = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                insideCaptureRegion = false;
-                executeGraphEndCapture(logBuilder, graphId);
-            } else if (op == TornadoVMBytecodes.CUDA_GRAPH_DESTROY.value()) {
-                final int graphId = bytecodeResult.getInt();
-                if (isWarmup) {
-                    continue;
-                }
-                Long handle = executionGraphHandles.remove(graphId);
-                if (handle != null) {
-                    interpreterDevice.destroyExecutionGraph(handle);
-                    if (TornadoOptions.LOG_BYTECODES()) {
-                        logBuilder.append("bc: ").append(InterpreterUtilities.debugHighLightBC(
-                                "EXECUTION_GRAPH_DESTROY")).append(" graphId=").append(graphId).append("\n");
-                    }
-                }
-            } else if (op == TornadoVMBytecodes.END.value()) {
-                if (!isWarmup && TornadoOptions.LOG_BYTECODES()) {
-                    logBuilder.append("bc: ").append(InterpreterUtilities.debugHighLightBC("END\n")).append("\n");
+        final Object[] replayKey = isCommandReplayApplicable(isWarmup) ? computeReplayKey() : null;
+        if (recordedCommands != null && recordedCommands.matches(replayKey)) {
+            // The recorded commands include the copies back to the host
+            hostMemoryWritten = true;
+            recordedCommands.replay(deviceQueue);
+        } else {
+            // The state changed, or this is the first execution: interpret the bytecodes and record their commands
+            recordedCommands = null;
+            recorder = (replayKey != null) ? new RecordedCommandList.Recorder(replayKey) : null;
+            try {
+                interpretBytecodes(isWarmup, logBuilder);
+                if (recorder != null) {
+                    recordedCommands = recorder.finish(computeReplayKey());
                 }
-                break;
-            } else {
-                throwErrorInterpreter(op);
+            } finally {
+                recorder = null;
             }
         }
 
         Event barrier = EMPTY_EVENT;
         if (!isWarmup) {
-            if (useDependencies) {
+            if (useDependencies || nonBlockingExecution) {
                 final int event = interpreterDevice.enqueueMarker(graphExecutionContext.getExecutionPlanId());
-                barrier = interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), event);
+                if (event != -1) {
+                    barrier = interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), event);
+                } else if (nonBlockingExecution) {
+                    // Without a marker there is nothing to poll, so the execution completes here
+                    interpreterDevice.sync(graphExecutionContext.getExecutionPlanId());
+                }
             }
 
-            if (TornadoOptions.USE_VM_FLUSH) {
+            if (TornadoOptions.USE_VM_FLUSH || nonBlockingExecution) {
                 interpreterDevice.flush(graphExecutionContext.getExecutionPlanId());
             }
         }
 
         final long t1 = System.nanoTime();
+        if (executionEvent != null) {
+            executionEvent.commit(graphExecutionContext.getId(), graphExecutionContext.getExecutionPlanId(), interpreterDevice.getDeviceName());
+        }
         final double elapsed = (t1 - t0) * 1e-9;
         if (!isWarmup) {
             totalTime += elapsed;
@@ -527,8 +594,6 @@ public class TornadoVMInterpreter {
             logger.debug("bc: complete elapsed=%.9f s (%d iterations, %.9f s mean)", elapsed, invocations, (totalTime / invocations));
         }
 
-        bytecodeResult.reset();
-
         if (TornadoOptions.PRINT_BYTECODES) {
             System.out.println(logBuilder);
         }
@@ -537,55 +602,289 @@ public class TornadoVMInterpreter {
             RuntimeUtilities.writeBytecodeToFile(logBuilder);
         }
 
+        hostMemoryWritten = false;
         return barrier;
     }
 
-    private void preCompileLaunchesInCaptureRegion() {
-        int savedPosition = bytecodeResult.position();
-
-        while (bytecodeResult.hasRemaining()) {
-            final byte op = bytecodeResult.get();
+    /**
+     * The commands of an execution are recorded and replayed only when the execution issues exactly the device
+     * commands of its bytecodes: no warmup, profiler or bytecode logging, no batches and no execution graphs.
+     */
+    private boolean isCommandReplayApplicable(boolean isWarmup) {
+        return !isWarmup //
+                && TornadoOptions.COMMAND_REPLAY //
+                && !hasExecutionGraphBytecodes //
+                && currentBatchNumberPerObject == null //
+                && !TornadoOptions.isProfilerEnabled() //
+                && !(timeProfiler instanceof TimeProfiler) //
+                && !TornadoOptions.LOG_BYTECODES() //
+                && !TornadoOptions.PRINT_BYTECODES //
+                && TornadoOptions.DUMP_BYTECODES.isBlank();
+    }
 
-            if (op == TornadoVMBytecodes.CUDA_GRAPH_END_CAPTURE.value()) {
-                bytecodeResult.getInt();
-                break;
-            } else if (op == TornadoVMBytecodes.LAUNCH.value()) {
-                final int callWrapperIndex = bytecodeResult.getInt();
-                final int taskIndex = bytecodeResult.getInt();
-                final int numArgs = bytecodeResult.getInt();
-                final int eventId = bytecodeResult.getInt();
-                final long offset = bytecodeResult.getLong();
-                final long batchThreads = bytecodeResult.getLong();
+    /**
+     * Describes the state in which the commands of an execution are issued: the device, the device buffers of the
+     * objects, the installed kernels and their stack frames, the thread grids and the flags of the execution context
+     * read when a task is launched.
+     *
+     * @return The key of the state, or null if the commands cannot be replayed because a buffer is not allocated, is
+     *     released after each execution, or holds atomics.
+     */
+    private Object[] computeReplayKey() {
+        final List<Object> key = new ArrayList<>();
+        key.add(interpreterDevice);
+        key.add(interpreterDevice.getDeviceContext().wasReset());
+        key.add(useDependencies);
+        key.add(nonBlockingExecution);
+        key.add(graphExecutionContext.redeployOnDevice());
+        key.add(graphExecutionContext.useDefaultThreadScheduler());
+        key.add(graphExecutionContext.meta().isThreadInfoEnabled());
+        key.add(graphExecutionContext.meta().isPrintKernelEnabled());
+        key.add(graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.OPENCL));
+        key.add(graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.PTX));
+        key.add(graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.SPIRV));
+
+        for (int objectIndex : replayObjectIndices) {
+            final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
+            final XPUBuffer buffer = objectState.getXPUBuffer();
+            if (buffer == null || !objectState.isLockedBuffer() || objectState.isAtomicRegionPresent()) {
+                return null;
+            }
+            key.add(buffer);
+            key.add(buffer.toBuffer());
+            key.add(buffer.size());
+            key.add(objectState.hasContent());
+            key.add(objectState.getPartialCopySize());
+        }
 
-                compileTaskFromBytecodeToBinary(callWrapperIndex, numArgs,
-                        eventId, taskIndex, batchThreads);
+        for (TornadoInstalledCode installedCode : installedCodes) {
+            key.add(installedCode);
+            key.add(installedCode != null && installedCode.isValid());
+        }
+        for (KernelStackFrame stackFrame : kernelStackFrame) {
+            key.add(stackFrame);
+            key.add(stackFrame != null && stackFrame.isValid());
+        }
 
-                for (int i = 0; i < numArgs; i++) {
-                    bytecodeResult.get();
-                    bytecodeResult.getInt();
+        key.add(gridScheduler);
+        if (gridScheduler != null) {
+            for (SchedulableTask task : localTaskList) {
+                final WorkerGrid workerGrid = gridScheduler.get(task.getId());
+                if (workerGrid != null) {
+                    key.add(workerGrid.getGlobalWork().clone());
+                    key.add(workerGrid.getLocalWork() != null ? workerGrid.getLocalWork().clone() : null);
                 }
+            }
+        }
+        // Local work-group sizes set on the tasks, e.g., by the autotuner, are baked into the recorded launches
+        for (SchedulableTask task : localTaskList) {
+            if (task.meta() instanceof TaskDataContext taskMeta && taskMeta.isLocalWorkDefined() && taskMeta.getLocalWork() != null) {
+                key.add(taskMeta.getLocalWork().clone());
             } else {
-                skipBytecodeOperands(op);
+                key.add(null);
             }
         }
+        return key.toArray();
+    }
 
-        bytecodeResult.position(savedPosition);
+    private void recordCommand(RecordedCommand command, int event) {
+        if (recorder != null) {
+            recorder.add(command, event);
+        }
     }
 
-    private void skipToAfterEndCapture(int graphId) {
-        while (bytecodeResult.hasRemaining()) {
-            final byte op = bytecodeResult.get();
-            if (op == TornadoVMBytecodes.CUDA_GRAPH_END_CAPTURE.value()) {
-                int endGraphId = bytecodeResult.getInt();
-                if (endGraphId == graphId) {
-                    return;
+    private void abortRecording() {
+        if (recorder != null) {
+            recorder.abort();
+        }
+    }
+
+    private void interpretBytecodes(boolean isWarmup, StringBuilder logBuilder) {
+        // lastEvent: event ID produced by the most recently executed bytecode operation
+        // (H2D, D2H, LAUNCH, ALLOC, etc.). The immediately following ADD_DEPENDENCY
+        // bytecode stores it into events[slot], building the wait-list that is passed
+        // as waitList to the next dependent operation.
+        // In single-stream mode: a local PTXEventPool index.
+        // In multi-stream mode: a global PTXEventRegistry ID resolved via
+        // resolveAndWaitCrossStream into cuStreamWaitEvent calls on the target stream.
+        // Initialised to -1; ADD_DEPENDENCY skips it when -1 (no-op or warmup).
+        int lastEvent = -1;
+        int pc = 0;
+        while (pc < instructions.length) {
+            final TornadoVMInstruction instruction = instructions[pc];
+            final TornadoVMBytecodes op = opcodes[pc];
+            pc++;
+            switch (op) {
+                case ALLOC -> {
+                    if (isWarmup || !executionGraphHandles.isEmpty()) {
+                        continue;
+                    }
+                    lastEvent = executeAlloc(logBuilder, (TornadoVMInstruction.Alloc) instruction);
                 }
-            } else {
-                skipBytecodeOperands(op);
+                case DEALLOC -> {
+                    final int objectIndex = ((TornadoVMInstruction.Dealloc) instruction).objectIndex();
+                    if (isWarmup) {
+                        continue;
+                    }
+                    if (!executionGraphHandles.isEmpty()) {
+                        if (TornadoOptions.LOG_BYTECODES()) {
+                            Object object = objects.get(objectIndex);
+                            logBuilder.append("bc: ").append(InterpreterUtilities.debugHighLightNonExecBC(
+                                            "DEALLOC")).append(" [SKIPPED - execution graph active] ")
+                                    .append(object).append("\n");
+                        }
+                        continue;
+                    }
+                    if (nonBlockingExecution) {
+                        deferredDeallocations.add(objectIndex);
+                        continue;
+                    }
+                    lastEvent = executeDeAlloc(logBuilder, objectIndex);
+                }
+                case TRANSFER_HOST_TO_DEVICE_ONCE -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final TornadoVMInstruction.Transfer transfer = (TornadoVMInstruction.Transfer) instruction;
+                    final int[] waitList = (useDependencies && transfer.eventId() != -1) ? events[transfer.eventId()] : null;
+                    lastEvent = transferHostToDeviceOnce(logBuilder, transfer.objectIndex(), transfer.offset(), transfer.eventId(), transfer.sizeBatch(), waitList);
+                }
+                case TRANSFER_HOST_TO_DEVICE_ALWAYS -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final TornadoVMInstruction.Transfer transfer = (TornadoVMInstruction.Transfer) instruction;
+                    final int[] waitList = (useDependencies && transfer.eventId() != -1) ? events[transfer.eventId()] : null;
+                    lastEvent = transferHostToDeviceAlways(logBuilder, transfer.objectIndex(), transfer.offset(), transfer.eventId(), transfer.sizeBatch(), waitList);
+                }
+                case TRANSFER_DEVICE_TO_HOST_ALWAYS -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final TornadoVMInstruction.Transfer transfer = (TornadoVMInstruction.Transfer) instruction;
+                    final int[] waitList = (useDependencies) ? events[transfer.eventId()] : null;
+                    lastEvent = transferDeviceToHost(logBuilder, transfer.objectIndex(), transfer.offset(), transfer.eventId(), transfer.sizeBatch(), waitList);
+                }
+                case TRANSFER_DEVICE_TO_HOST_ALWAYS_BLOCKING -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final TornadoVMInstruction.Transfer transfer = (TornadoVMInstruction.Transfer) instruction;
+                    final int[] waitList = (useDependencies) ? events[transfer.eventId()] : null;
+                    transferDeviceToHostBlocking(logBuilder, transfer.objectIndex(), transfer.offset(), transfer.eventId(), transfer.sizeBatch(), waitList);
+                }
+                case LAUNCH -> {
+                    final TornadoVMInstruction.Launch launch = (TornadoVMInstruction.Launch) instruction;
+                    KernelStackFrame stackFrame = compileTaskFromBytecodeToBinary(launch);
+                    if (isWarmup) {
+                        continue;
+                    }
+                    lastEvent = executeLaunch(logBuilder, launch, stackFrame);
+                }
+                case ADD_DEPENDENCY -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    executeDependency(logBuilder, lastEvent, ((TornadoVMInstruction.AddDependency) instruction).eventList());
+                }
+                case ON_DEVICE -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final TornadoVMInstruction.ObjectEvent onDevice = (TornadoVMInstruction.ObjectEvent) instruction;
+                    lastEvent = executeOnDevice(logBuilder, onDevice.objectIndex(), onDevice.eventId());
+                }
+                case PERSIST -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final TornadoVMInstruction.ObjectEvent persist = (TornadoVMInstruction.ObjectEvent) instruction;
+                    lastEvent = executePersist(logBuilder, persist.objectIndex(), persist.eventId());
+                }
+                case BARRIER -> {
+                    if (isWarmup) {
+                        continue;
+                    }
+                    final int eventId = ((TornadoVMInstruction.Barrier) instruction).eventId();
+                    lastEvent = executeBarrier(logBuilder, eventId);
+                }
+                case CUDA_GRAPH_LAUNCH -> {
+                    final int graphId = ((TornadoVMInstruction.ExecutionGraph) instruction).graphId();
+                    if (isWarmup) {
+                        continue;
+                    }
+                    if (executionGraphHandles.containsKey(graphId)) {
+                        lastEvent = executeGraphLaunch(logBuilder, graphId);
+                    }
+                }
+                case CUDA_GRAPH_BEGIN_CAPTURE -> {
+                    final int graphId = ((TornadoVMInstruction.ExecutionGraph) instruction).graphId();
+                    if (isWarmup) {
+                        continue;
+                    }
+                    if (executionGraphHandles.containsKey(graphId)) {
+                        // Graph already captured: skip entire capture region
+                        pc = skipToAfterEndCapture(pc, graphId);
+                    } else {
+                        // First execution: force all lazy allocations, then capture
+                        preCompileLaunchesInCaptureRegion(pc);
+                        executeGraphBeginCapture(logBuilder, graphId);
+                        insideCaptureRegion = true;
+                    }
+                }
+                case CUDA_GRAPH_END_CAPTURE -> {
+                    final int graphId = ((TornadoVMInstruction.ExecutionGraph) instruction).graphId();
+                    if (isWarmup) {
+                        continue;
+                    }
+                    insideCaptureRegion = false;
+                    executeGraphEndCapture(logBuilder, graphId);
+                }
+                case CUDA_GRAPH_DESTROY -> {
+                    final int graphId = ((TornadoVMInstruction.ExecutionGraph) instruction).graphId();
+                    if (isWarmup) {
+                        continue;
+                    }
+                    Long handle = executionGraphHandles.remove(graphId);
+                    if (handle != null) {
+                        interpreterDevice.destroyExecutionGraph(handle);
+                        if (TornadoOptions.LOG_BYTECODES()) {
+                            logBuilder.append("bc: ").append(InterpreterUtilities.debugHighLightBC(
+                                    "EXECUTION_GRAPH_DESTROY")).append(" graphId=").append(graphId).append("\n");
+                        }
+                    }
+                }
+                case END -> {
+                    // END is the last decoded instruction, so the loop ends after it
+                    if (!isWarmup && TornadoOptions.LOG_BYTECODES()) {
+                        logBuilder.append("bc: ").append(InterpreterUtilities.debugHighLightBC("END\n")).append("\n");
+                    }
+                }
+                default -> throwErrorInterpreter(op.value());
             }
         }
     }
 
+    private void preCompileLaunchesInCaptureRegion(int pc) {
+        for (int i = pc; i < instructions.length && opcodes[i] != TornadoVMBytecodes.CUDA_GRAPH_END_CAPTURE; i++) {
+            if (opcodes[i] == TornadoVMBytecodes.LAUNCH) {
+                compileTaskFromBytecodeToBinary((TornadoVMInstruction.Launch) instructions[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the instruction that follows the END_CAPTURE of the given execution graph.
+     */
+    private int skipToAfterEndCapture(int pc, int graphId) {
+        for (int i = pc; i < instructions.length; i++) {
+            if (opcodes[i] == TornadoVMBytecodes.CUDA_GRAPH_END_CAPTURE && ((TornadoVMInstruction.ExecutionGraph) instructions[i]).graphId() == graphId) {
+                return i + 1;
+            }
+        }
+        return instructions.length;
+    }
+
     public void destroyExecutionGraphs() {
         for (Map.Entry<Integer, Long> entry : executionGraphHandles.entrySet()) {
             interpreterDevice.destroyExecutionGraph(entry.getValue());
@@ -696,18 +995,23 @@ public class TornadoVMInterpreter {
         if (graphExecutionContext == null || object == null) {
             return false;
         }
-        return graphExecutionContext.getPersistedTaskToObjectsMap().values().stream().filter(Objects::nonNull).anyMatch(taskObjects -> taskObjects.contains(object));
+        for (List<Object> taskObjects : graphExecutionContext.getPersistedTaskToObjectsMap().values()) {
+            if (taskObjects != null && taskObjects.contains(object)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Counts and classifies objects in the args array by determining which objects are persistent
-     * and which need to be allocated.
+     * Counts the objects in the args array that need to be allocated, which are the ones that are not
+     * persistent.
      *
      * @param args
      *     Array of object indices to process from the object store
-     * @return Information about objects to allocate including counts of persistent and non-persistent objects
+     * @return The number of non-persistent objects
      */
-    private ObjectAllocationInfo countAndClassifyObjects(int[] args) {
+    private int countObjectsToAllocate(int[] args) {
         // Count only persistent objects that are actually in the current args array
         int persistentObjectsInArgs = 0;
         for (int arg : args) {
@@ -718,18 +1022,20 @@ public class TornadoVMInterpreter {
         }
 
         // Calculate allocation based on non-persistent objects in args
-        int objectsToAlloc = args.length - persistentObjectsInArgs;
-
-        return new ObjectAllocationInfo(persistentObjectsInArgs, objectsToAlloc);
+        return args.length - persistentObjectsInArgs;
     }
 
-    private int executeAlloc(StringBuilder logBuilder, int[] args, long sizeBatch) {
+    private int executeAlloc(StringBuilder logBuilder, TornadoVMInstruction.Alloc alloc) {
+        final int[] args = alloc.args();
+        final long sizeBatch = alloc.sizeBatch();
         // Extract the counting and classification of objects into a separate method
-        ObjectAllocationInfo allocationInfo = countAndClassifyObjects(args);
+        final int objectsToAlloc = countObjectsToAllocate(args);
 
-        Object[] objects = new Object[allocationInfo.objectsToAlloc];
-        Access[] accesses = new Access[allocationInfo.objectsToAlloc];
-        XPUDeviceBufferState[] objectStates = new XPUDeviceBufferState[allocationInfo.objectsToAlloc];
+        // The arrays of the instruction are reused when all the objects are allocated, which is the common case
+        final boolean reuseArrays = objectsToAlloc == args.length;
+        Object[] objects = reuseArrays ? alloc.objects() : new Object[objectsToAlloc];
+        Access[] accesses = reuseArrays ? alloc.accesses() : new Access[objectsToAlloc];
+        XPUDeviceBufferState[] objectStates = reuseArrays ? alloc.objectStates() : new XPUDeviceBufferState[objectsToAlloc];
 
         int allocCounter = 0;
         long preAllocatedSizes = 0L;
@@ -748,8 +1054,12 @@ public class TornadoVMInterpreter {
         }
 
         // total size of objects pre-allocated and current allocation
+        final DeviceAllocationEvent allocationEvent = DeviceAllocationEvent.beginIfEnabled();
         long allocationSize = interpreterDevice.allocateObjects(objects, sizeBatch, objectStates, accesses);
         long allocationsTotalSize = allocationSize + preAllocatedSizes;
+        if (allocationEvent != null) {
+            allocationEvent.commit(interpreterDevice.getDeviceName(), objectsToAlloc, allocationSize, allocationsTotalSize);
+        }
         increaseBatchNumber(sizeBatch);
 
         // Re-establish the buffer-reuse lock on (re)allocation. Locking otherwise happens only
@@ -790,28 +1100,34 @@ public class TornadoVMInterpreter {
     }
 
     private void increaseBatchNumber(long sizeBatch) {
-        if (sizeBatch != 0) {
-            for (Object object : objects) {
-                int previousBatch = currentBatchNumberPerObject.get(object);
-                currentBatchNumberPerObject.replace(object, previousBatch, ++previousBatch);
+        if (sizeBatch != 0 && currentBatchNumberPerObject != null) {
+            for (int i = 0; i < currentBatchNumberPerObject.length; i++) {
+                currentBatchNumberPerObject[i]++;
             }
         }
     }
 
+    /**
+     * Number of bytes moved by a transfer: the batch size when the data is streamed in batches, and the whole buffer
+     * otherwise.
+     */
+    private static long transferSize(XPUDeviceBufferState objectState, long sizeBatch) {
+        return sizeBatch > 0 ? sizeBatch : objectState.getXPUBuffer().size();
+    }
+
     private int executeDeAlloc(StringBuilder tornadoVMBytecodeList, final int objectIndex) {
         Object object = objects.get(objectIndex);
 
-        if (!currentBatchNumberPerObject.isEmpty() && !currentBatchNumberPerObject.isEmpty()) {
-            int currentBatchNumber = currentBatchNumberPerObject.get(object);
-            int totalNumberOfBatches = totalEvenBatchesPerObject.get(object);
-
-            if (currentBatchNumber < totalNumberOfBatches) {
-                return -1;
-            }
+        if (currentBatchNumberPerObject != null && currentBatchNumberPerObject[objectIndex] < totalEvenBatchesPerObject[objectIndex]) {
+            return -1;
         }
 
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
+        final DeviceDeallocationEvent deallocationEvent = DeviceDeallocationEvent.beginIfEnabled();
         long spaceDeallocated = interpreterDevice.deallocate(objectState);
+        if (deallocationEvent != null) {
+            deallocationEvent.commit(interpreterDevice.getDeviceName(), object.getClass(), spaceDeallocated);
+        }
         // Update current device area use
         if (TornadoOptions.LOG_BYTECODES() && isNotObjectAtomic(object)) {
             boolean materializeDealloc = spaceDeallocated != 0;
@@ -827,6 +1143,7 @@ public class TornadoVMInterpreter {
             DebugInterpreter.logOnDeviceObject(object, interpreterDevice, logBuilder);
         }
         resetEventIndexes(eventId);
+        recordCommand(new RecordedCommand.ClearDependencies(eventId), -1);
         return -1;
     }
 
@@ -836,6 +1153,7 @@ public class TornadoVMInterpreter {
             DebugInterpreter.logPersistedObject(object, interpreterDevice, logBuilder);
         }
         resetEventIndexes(eventId);
+        recordCommand(new RecordedCommand.ClearDependencies(eventId), -1);
         return -1;
     }
 
@@ -849,12 +1167,20 @@ public class TornadoVMInterpreter {
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
 
         // We need to stream-in when using batches, because the whole data is not copied
+        final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
         List<Integer> allEvents;
         if (sizeBatch > 0) {
             allEvents = interpreterDevice.streamIn(graphExecutionContext.getExecutionPlanId(), object, sizeBatch, offset, objectState, eventWaitList);
         } else {
             allEvents = interpreterDevice.ensurePresent(graphExecutionContext.getExecutionPlanId(), object, objectState, eventWaitList, sizeBatch, offset);
         }
+        recordCommand(sizeBatch > 0 //
+                ? new RecordedCommand.Write(object, objectState, offset, sizeBatch, eventId) //
+                : new RecordedCommand.EnsurePresent(object, objectState, offset, sizeBatch, eventId), lastEventOf(allEvents));
+        // Objects that are already present on the device are not transferred again
+        if (transferEvent != null && allEvents != null && !allEvents.isEmpty()) {
+            transferEvent.commit(TransferEvent.HOST_TO_DEVICE, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, sizeBatch), offset, false);
+        }
         resetEventIndexes(eventId);
 
         if (TornadoOptions.LOG_BYTECODES() && isNotObjectAtomic(object)) {
@@ -878,10 +1204,7 @@ public class TornadoVMInterpreter {
         }
 
         // return the eventId of the transfer event
-        if (allEvents != null && !allEvents.isEmpty()) {
-            return allEvents.getLast();
-        }
-        return -1;
+        return lastEventOf(allEvents);
     }
 
     private int transferHostToDeviceAlways(StringBuilder logBuilder, final int objectIndex, final long offset, final int eventId, final long sizeBatch, final int[] eventWaitList) {
@@ -892,7 +1215,12 @@ public class TornadoVMInterpreter {
         }
 
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
+        final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
         List<Integer> allEvents = interpreterDevice.streamIn(graphExecutionContext.getExecutionPlanId(), object, sizeBatch, offset, objectState, eventWaitList);
+        recordCommand(new RecordedCommand.Write(object, objectState, offset, sizeBatch, eventId), lastEventOf(allEvents));
+        if (transferEvent != null) {
+            transferEvent.commit(TransferEvent.HOST_TO_DEVICE, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, sizeBatch), offset, false);
+        }
 
         resetEventIndexes(eventId);
 
@@ -919,10 +1247,7 @@ public class TornadoVMInterpreter {
         }
 
         // return the eventId of the transfer event
-        if (allEvents != null && !allEvents.isEmpty()) {
-            return allEvents.getLast();
-        }
-        return -1;
+        return lastEventOf(allEvents);
     }
 
     private int transferDeviceToHost(StringBuilder logBuilder, final int objectIndex, final long offset, final int eventId, final long sizeBatch, final int[] eventWaitList) {
@@ -931,6 +1256,7 @@ public class TornadoVMInterpreter {
         if (isObjectKernelContext(object)) {
             return 0;
         }
+        hostMemoryWritten = true;
 
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
         if (TornadoOptions.LOG_BYTECODES()) {
@@ -939,7 +1265,13 @@ public class TornadoVMInterpreter {
             DebugInterpreter.logTransferToHostAlways(object, interpreterDevice, sizeObject, sizeBatch, offset, eventId, logBuilder);
         }
 
-        int readEvent = interpreterDevice.streamOutBlocking(graphExecutionContext.getExecutionPlanId(), object, offset, objectState, eventWaitList);
+        final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
+        final boolean blocking = !isNonBlockingRead(object, objectState);
+        int readEvent = streamOut(object, offset, objectState, eventWaitList, blocking);
+        recordCommand(new RecordedCommand.Read(object, objectState, offset, blocking, eventId), readEvent);
+        if (transferEvent != null) {
+            transferEvent.commit(TransferEvent.DEVICE_TO_HOST, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, sizeBatch), offset, blocking);
+        }
 
         resetEventIndexes(eventId);
 
@@ -959,6 +1291,26 @@ public class TornadoVMInterpreter {
         return readEvent;
     }
 
+    private static int lastEventOf(List<Integer> allEvents) {
+        return (allEvents != null && !allEvents.isEmpty()) ? allEvents.getLast() : -1;
+    }
+
+    /**
+     * In a non-blocking execution, reads into off-heap arrays are enqueued without waiting: their host memory does not
+     * move, and the execution is completed by the last event of the queue. Atomics and partial copies are still read
+     * in place.
+     */
+    private boolean isNonBlockingRead(Object object, XPUDeviceBufferState objectState) {
+        return nonBlockingExecution && object instanceof TornadoNativeArray && !objectState.isAtomicRegionPresent() && objectState.getPartialCopySize() == 0;
+    }
+
+    private int streamOut(Object object, long offset, XPUDeviceBufferState objectState, int[] eventWaitList, boolean blocking) {
+        if (blocking) {
+            return interpreterDevice.streamOutBlocking(graphExecutionContext.getExecutionPlanId(), object, offset, objectState, eventWaitList);
+        }
+        return interpreterDevice.streamOut(graphExecutionContext.getExecutionPlanId(), object, offset, objectState, eventWaitList);
+    }
+
     private void transferDeviceToHostBlocking(StringBuilder logBuilder, final int objectIndex, final long offset, final int eventId, final long sizeBatch, final int[] eventWaitList) {
 
         Object object = objects.get(objectIndex);
@@ -966,6 +1318,7 @@ public class TornadoVMInterpreter {
         if (isObjectKernelContext(object)) {
             return;
         }
+        hostMemoryWritten = true;
 
         final XPUDeviceBufferState objectState = resolveObjectState(objectIndex);
         if (TornadoOptions.LOG_BYTECODES()) {
@@ -973,7 +1326,13 @@ public class TornadoVMInterpreter {
             logBuilder.append(captureIndent());
             DebugInterpreter.logTransferToHostAlwaysBlocking(object, interpreterDevice, logBuilder, sizeOfObject, sizeBatch, offset, eventId);
         }
-        final int readEvent = interpreterDevice.streamOutBlocking(graphExecutionContext.getExecutionPlanId(), object, offset, objectState, eventWaitList);
+        final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
+        final boolean blocking = !isNonBlockingRead(object, objectState);
+        final int readEvent = streamOut(object, offset, objectState, eventWaitList, blocking);
+        recordCommand(new RecordedCommand.Read(object, objectState, offset, blocking, eventId), readEvent);
+        if (transferEvent != null) {
+            transferEvent.commit(TransferEvent.DEVICE_TO_HOST, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, sizeBatch), offset, blocking);
+        }
 
         if (TornadoOptions.isProfilerEnabled() && !insideCaptureRegion && readEvent != -1) {
             Event event = interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), readEvent);
@@ -991,12 +1350,33 @@ public class TornadoVMInterpreter {
         resetEventIndexes(eventId);
     }
 
-    private boolean isRecompilationNeededForLastBatch(int taskIndex, SchedulableTask task, long batchThreads) {
-        return (!shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)]) && task.getBatchThreads() != 0 && task.getBatchThreads() != batchThreads);
+    private void selectKernelVariant(int localTaskIndex, SchedulableTask task, long batchThreads, int batchNumber) {
+        final KernelVariantCache variants = kernelVariants[localTaskIndex];
+        final long[] argumentSizes = KernelVariantCache.argumentSizes(task.getArguments());
+        if (shouldCompile(installedCodes[localTaskIndex]) || variants.isCurrent(batchThreads, batchNumber, argumentSizes)) {
+            return;
+        }
+        final TornadoInstalledCode variant = variants.select(batchThreads, batchNumber, argumentSizes);
+        if (variant != null) {
+            installedCodes[localTaskIndex] = variant;
+            timeProfiler.addValueToMetric(ProfilerType.TASK_KERNEL_VARIANT_HITS, task.getId(), 1);
+        } else {
+            task.forceCompilation();
+            installedCodes[localTaskIndex] = null;
+            timeProfiler.addValueToMetric(ProfilerType.TASK_KERNEL_VARIANT_MISSES, task.getId(), 1);
+        }
     }
 
-    private boolean currentBatchUsesThreadId(int currentBatch, boolean indexInWrite) {
-        return (currentBatch > 0 && indexInWrite);
+    /**
+     * Registers the code installed for a task in its variants, specialised for the current batch of the task.
+     */
+    private void registerKernelVariant(int localTaskIndex, SchedulableTask task, TornadoInstalledCode installedCode) {
+        final KernelVariantCache variants = kernelVariants[localTaskIndex];
+        if (variants.install(task.getBatchThreads(), task.getBatchNumber(), KernelVariantCache.argumentSizes(task.getArguments()), installedCode)) {
+            timeProfiler.addValueToMetric(ProfilerType.TASK_RECOMPILATIONS, task.getId(), 1);
+            logger.debug("recompiled %s: %d variants, %d hits, %d misses, %d recompilations", task.getFullName(), variants.size(), variants.getHits(), variants.getMisses(), variants
+                    .getRecompilations());
+        }
     }
 
     private void updateBatchThreads(SchedulableTask task, long batchThreads, boolean indexInWrite, int currentBatch) {
@@ -1022,7 +1402,156 @@ public class TornadoVMInterpreter {
         meta.setCompilerFlags(TornadoVMBackendType.SPIRV, graphExecutionContext.meta().getCompilerFlags(TornadoVMBackendType.SPIRV));
     }
 
-    private XPUExecutionFrame compileTaskFromBytecodeToBinary(final int callWrapperIndex, final int numArgs, final int eventId, final int taskIndex, final long batchThreads) {
+    /**
+     * Updates the metadata of the task of a LAUNCH bytecode before it is compiled and launched.
+     *
+     * @return Whether the loop index is written in an output buffer of the task.
+     */
+    private boolean prepareTaskForLaunch(final TornadoVMInstruction.Launch launch, final SchedulableTask task) {
+        final int localTaskIndex = launch.localTaskIndex();
+        final long batchThreads = launch.batchThreads();
+
+        int currentBatch = task.getBatchNumber();
+        TaskContextInterface meta = task.meta();
+        updateMeta(meta);
+
+        boolean indexInWrite = interpreterDevice.loopIndexInWrite(task);
+        // The number of threads of the batch, the sizes of the arguments and, if the loop index is written in the output
+        // buffer, the batch number are folded into the kernel. If the installed kernel was specialised for another
+        // shape, we switch to the kernel of this shape, or compile it if it is not in the variants of the task.
+        selectKernelVariant(localTaskIndex, task, batchThreads, indexInWrite ? currentBatch : 0);
+
+        updateBatchThreads(task, batchThreads, indexInWrite, currentBatch);
+
+        task.enableDefaultThreadScheduler(graphExecutionContext.useDefaultThreadScheduler());
+
+        if (gridScheduler != null && gridScheduler.get(task.getId()) != null) {
+            task.setUseGridScheduler(true);
+            task.setGridScheduler(gridScheduler);
+        }
+
+        if (timeProfiler instanceof TimeProfiler) {
+            // Register the backends only when the profiler is enabled
+            timeProfiler.registerBackend(task.getId(), task.getDevice().getTornadoVMBackend().name());
+            timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
+            timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
+        }
+        return indexInWrite;
+    }
+
+    /**
+     * Compiles a task and installs its code on the device of the interpreter.
+     */
+    private TornadoInstalledCode installTask(final int taskIndex, final SchedulableTask task) {
+        task.setDevice(interpreterDevice);
+        try {
+            task.attachProfiler(timeProfiler);
+            if (taskIndex == (taskExecutionContexts.size() - 1)) {
+                // If it is the last task within the task-schedule or doUpdate is true -> we
+                // force compilation. This is useful when compiling code for Xilinx/Altera
+                // FPGAs, that has to be a single source.
+                task.forceCompilation();
+            }
+
+            final KernelCompilationEvent compilationEvent = KernelCompilationEvent.beginIfEnabled();
+            TornadoInstalledCode installedCode = interpreterDevice.installCode(graphExecutionContext.getExecutionPlanId(), task);
+            if (compilationEvent != null) {
+                compilationEvent.commit(task.getFullName(), interpreterDevice.getDeviceName());
+            }
+            profilerUpdateForPreCompiledTask(task);
+            return installedCode;
+        } catch (TornadoBailoutRuntimeException e) {
+            throw new TornadoBailoutRuntimeException("Unable to compile " + task.getFullName() + "\n" + "The internal error is: " + e.getMessage() + "\n" + "Stacktrace: " + Arrays.toString(e
+                    .getStackTrace()), e);
+        } catch (TornadoDeviceFP64NotSupported e) {
+            throw e;
+        } catch (InternalError e) {
+            throw new TornadoBailoutRuntimeException("[Internal Error] Unable to compile " + task.getFullName() + "\n" + Arrays.toString(e.getStackTrace()));
+        }
+    }
+
+    /**
+     * Compiles the tasks of all the LAUNCH bytecodes concurrently, on the compilation threads of the runtime, and
+     * waits for all of them before the first launch. The tasks are prepared and their code is installed in the
+     * order of the bytecodes, so the result does not depend on which compilation finishes first.
+     *
+     * <p>
+     * Tasks are compiled one at a time, when their LAUNCH bytecode is reached, if the device does not support
+     * concurrent compilation, if the profiler is enabled (task timers are not thread-safe), or if the task-graph is
+     * executed in batches (tasks may be recompiled for each batch).
+     * </p>
+     */
+    private void compileTasksConcurrently() {
+        pendingConcurrentCompilation = false;
+        if (!TornadoOptions.PARALLEL_COMPILATION || !interpreterDevice.isConcurrentCompilationSupported() || timeProfiler instanceof TimeProfiler || currentBatchNumberPerObject != null) {
+            return;
+        }
+
+        final boolean[] selected = new boolean[installedCodes.length];
+        final List<TornadoVMInstruction.Launch> launches = new ArrayList<>();
+        for (int pc = 0; pc < instructions.length; pc++) {
+            if (opcodes[pc] == TornadoVMBytecodes.LAUNCH) {
+                final TornadoVMInstruction.Launch launch = (TornadoVMInstruction.Launch) instructions[pc];
+                final int localTaskIndex = launch.localTaskIndex();
+                if (!selected[localTaskIndex] && !(taskExecutionContexts.get(launch.taskIndex()) instanceof LibraryTask) && shouldCompile(installedCodes[localTaskIndex])) {
+                    selected[localTaskIndex] = true;
+                    launches.add(launch);
+                }
+            }
+        }
+        if (launches.size() < 2) {
+            return;
+        }
+
+        if (interpreterDevice.getDeviceContext().wasReset() && finishedWarmup) {
+            throw new TornadoFailureException("[ERROR] reset() was called after warmup() on device: " + interpreterDevice + "!");
+        }
+
+        // The task metadata is updated sequentially: only the code generation runs concurrently
+        final List<Future<TornadoInstalledCode>> compilations = new ArrayList<>(launches.size());
+        for (TornadoVMInstruction.Launch launch : launches) {
+            final SchedulableTask task = taskExecutionContexts.get(launch.taskIndex());
+            preparedIndexInWrite[launch.localTaskIndex()] = prepareTaskForLaunch(launch, task);
+            compilations.add(TornadoCoreRuntime.getCompilationExecutor().submit(() -> installTask(launch.taskIndex(), task)));
+        }
+
+        // Wait for all the compilations, even after a failure, so no task is still compiling when this method returns
+        Throwable failure = null;
+        for (int i = 0; i < launches.size(); i++) {
+            try {
+                final TornadoVMInstruction.Launch launch = launches.get(i);
+                installedCodes[launch.localTaskIndex()] = compilations.get(i).get();
+                registerKernelVariant(launch.localTaskIndex(), taskExecutionContexts.get(launch.taskIndex()), installedCodes[launch.localTaskIndex()]);
+            } catch (ExecutionException e) {
+                failure = (failure == null) ? e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = (failure == null) ? e : failure;
+            }
+        }
+        if (failure != null) {
+            // The tasks will be prepared again by their launches in the next execution
+            Arrays.fill(preparedIndexInWrite, null);
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (failure instanceof Error error) {
+            throw error;
+        } else if (failure != null) {
+            throw new TornadoRuntimeException((Exception) failure);
+        }
+        logger.debug("compiled %d tasks concurrently", launches.size());
+    }
+
+    /**
+     * Compiles the task of a LAUNCH bytecode, unless its code is already installed.
+     *
+     * @return The stack frame for the call, or null for library tasks.
+     */
+    private KernelStackFrame compileTaskFromBytecodeToBinary(final TornadoVMInstruction.Launch launch) {
+        final int taskIndex = launch.taskIndex();
+        final int localTaskIndex = launch.localTaskIndex();
+        final long batchThreads = launch.batchThreads();
 
         if (interpreterDevice.getDeviceContext().wasReset() && finishedWarmup) {
             throw new TornadoFailureException("[ERROR] reset() was called after warmup() on device: " + interpreterDevice + "!");
@@ -1030,7 +1559,6 @@ public class TornadoVMInterpreter {
 
         boolean redeployOnDevice = graphExecutionContext.redeployOnDevice();
 
-        final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
         final SchedulableTask task = taskExecutionContexts.get(taskIndex);
 
         if (task instanceof LibraryTask libraryTask) {
@@ -1051,95 +1579,49 @@ public class TornadoVMInterpreter {
                 timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
                 timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
             }
-            return new XPUExecutionFrame(null, waitList);
+            return null;
         }
 
-        final KernelStackFrame kernelStackFrame = resolveCallWrapper(callWrapperIndex, numArgs, this.kernelStackFrame, interpreterDevice, redeployOnDevice);
+        final KernelStackFrame kernelStackFrame = resolveCallWrapper(launch.callWrapperIndex(), launch.numArgs(), this.kernelStackFrame, interpreterDevice, redeployOnDevice);
 
-        int currentBatch = task.getBatchNumber();
-        TaskContextInterface meta = task.meta();
-        updateMeta(meta);
+        // The first launch of a task compiled concurrently reuses the preparation done before its compilation
+        final Boolean prepared = preparedIndexInWrite[localTaskIndex];
+        preparedIndexInWrite[localTaskIndex] = null;
+        boolean indexInWrite = (prepared != null) ? prepared : prepareTaskForLaunch(launch, task);
 
-        boolean indexInWrite = interpreterDevice.loopIndexInWrite(task);
-        // Check if a different batch size was used for the same kernel or
-        // if the loop index is written in the output buffer, and we are not in the first batch.
-        // If any is true, then the kernel needs to be recompiled.
-        if (isRecompilationNeededForLastBatch(taskIndex, task, batchThreads) || currentBatchUsesThreadId(currentBatch, indexInWrite)) {
-            task.forceCompilation();
-            installedCodes[globalToLocalTaskIndex(taskIndex)].invalidate();
+        if (shouldCompile(installedCodes[localTaskIndex])) {
+            installedCodes[localTaskIndex] = installTask(taskIndex, task);
+            registerKernelVariant(localTaskIndex, task, installedCodes[localTaskIndex]);
         }
-
-        updateBatchThreads(task, batchThreads, indexInWrite, currentBatch);
-
-        task.enableDefaultThreadScheduler(graphExecutionContext.useDefaultThreadScheduler());
-
-        if (gridScheduler != null && gridScheduler.get(task.getId()) != null) {
-            task.setUseGridScheduler(true);
-            task.setGridScheduler(gridScheduler);
-        }
-
-        if (timeProfiler instanceof TimeProfiler) {
-            // Register the backends only when the profiler is enabled
-            timeProfiler.registerBackend(task.getId(), task.getDevice().getTornadoVMBackend().name());
-            timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
-            timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
-        }
-
-        if (shouldCompile(installedCodes[globalToLocalTaskIndex(taskIndex)])) {
-            task.setDevice(interpreterDevice);
-            try {
-                task.attachProfiler(timeProfiler);
-                if (taskIndex == (taskExecutionContexts.size() - 1)) {
-                    // If it is the last task within the task-schedule or doUpdate is true -> we
-                    // force compilation. This is useful when compiling code for Xilinx/Altera
-                    // FPGAs, that has to be a single source.
-                    task.forceCompilation();
-                }
-
-                installedCodes[globalToLocalTaskIndex(taskIndex)] = interpreterDevice.installCode(graphExecutionContext.getExecutionPlanId(), task);
-                profilerUpdateForPreCompiledTask(task);
-                // After the compilation has been completed, increment
-                // the batch number of the task and update it.
-                if (indexInWrite && batchThreads != 0) {
-                    task.setBatchNumber(++currentBatch);
-                }
-            } catch (TornadoBailoutRuntimeException e) {
-                throw new TornadoBailoutRuntimeException("Unable to compile " + task.getFullName() + "\n" + "The internal error is: " + e.getMessage() + "\n" + "Stacktrace: " + Arrays.toString(e
-                        .getStackTrace()), e);
-            } catch (TornadoDeviceFP64NotSupported e) {
-                throw e;
-            } catch (InternalError e) {
-                throw new TornadoBailoutRuntimeException("[Internal Error] Unable to compile " + task.getFullName() + "\n" + Arrays.toString(e.getStackTrace()));
-            }
-        }
-        return new XPUExecutionFrame(kernelStackFrame, waitList);
-    }
-
-    private void popArgumentsFromCall(int numArgs) {
-        for (int i = 0; i < numArgs; i++) {
-            bytecodeResult.get();
-            bytecodeResult.getInt();
+        // After the kernel of the batch has been selected, increment
+        // the batch number of the task and update it.
+        if (indexInWrite && batchThreads != 0) {
+            task.setBatchNumber(task.getBatchNumber() + 1);
         }
+        return kernelStackFrame;
     }
 
-    private int executeLaunch(StringBuilder logBuilder, final int numArgs, final int eventId, final int taskIndex, final long batchThreads, final long offset, XPUExecutionFrame executionFrame) {
+    private int executeLaunch(StringBuilder logBuilder, final TornadoVMInstruction.Launch launch, final KernelStackFrame stackFrame) {
+        final int eventId = launch.eventId();
+        final long batchThreads = launch.batchThreads();
+        final int localTaskIndex = launch.localTaskIndex();
+        final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
 
-        final SchedulableTask task = taskExecutionContexts.get(taskIndex);
+        final SchedulableTask task = taskExecutionContexts.get(launch.taskIndex());
 
         if (task instanceof LibraryTask libraryTask) {
-            return executeLibraryLaunch(logBuilder, libraryTask, numArgs, eventId, batchThreads, executionFrame.waitList);
+            // Library calls are dispatched by their provider, outside the commands of the device
+            abortRecording();
+            return executeLibraryLaunch(logBuilder, libraryTask, launch, waitList);
         }
 
-        KernelStackFrame stackFrame = executionFrame.stackFrame;
-        int[] waitList = executionFrame.waitList;
-
-        if (installedCodes[globalToLocalTaskIndex(taskIndex)] == null) {
+        if (installedCodes[localTaskIndex] == null) {
             // After warming-up, it is possible to get a null pointer in the task-cache due
             // to lazy compilation for FPGAs. In tha case, we check again the code cache.
-            installedCodes[globalToLocalTaskIndex(taskIndex)] = interpreterDevice.getCodeFromCache(graphExecutionContext.getExecutionPlanId(), task);
+            installedCodes[localTaskIndex] = interpreterDevice.getCodeFromCache(graphExecutionContext.getExecutionPlanId(), task);
         }
 
-        final TornadoInstalledCode installedCode = installedCodes[globalToLocalTaskIndex(taskIndex)];
+        final TornadoInstalledCode installedCode = installedCodes[localTaskIndex];
 
         if (installedCode == null) {
             throw new TornadoBailoutRuntimeException("Code generator Failed");
@@ -1149,7 +1631,7 @@ public class TornadoVMInterpreter {
 
         atomicsArray = (task instanceof PrebuiltTask prebuiltTask) ? prebuiltTask.getAtomics() : interpreterDevice.checkAtomicsForTask(task);
 
-        HashMap<Integer, Integer> threadDeploy = new HashMap<>();
+        threadDeploy.clear();
         if (gridScheduler != null && gridScheduler.get(task.getId()) != null) {
             WorkerGrid workerGrid = gridScheduler.get(task.getId());
             long[] global = workerGrid.getGlobalWork();
@@ -1163,9 +1645,11 @@ public class TornadoVMInterpreter {
 
         XPUBuffer bufferAtomics = null;
 
-        for (int i = 0; i < numArgs; i++) {
-            final byte argType = bytecodeResult.get();
-            final int argIndex = bytecodeResult.getInt();
+        final byte[] argTypes = launch.argTypes();
+        final int[] argIndices = launch.argIndices();
+        for (int i = 0; i < argIndices.length; i++) {
+            final byte argType = argTypes[i];
+            final int argIndex = argIndices[i];
 
             if (argType == TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value()) {
                 // Add a constant argument
@@ -1194,6 +1678,8 @@ public class TornadoVMInterpreter {
         }
 
         if (atomicsArray != null) {
+            // The atomics are written to the device before each launch with their initial values
+            abortRecording();
             bufferAtomics = interpreterDevice.createOrReuseAtomicsBuffer(atomicsArray, Access.READ_WRITE);
             List<Integer> allEvents = bufferAtomics.enqueueWrite(graphExecutionContext.getExecutionPlanId(), null, 0, 0, null, false);
             if (TornadoOptions.isProfilerEnabled() && !insideCaptureRegion) {
@@ -1214,35 +1700,51 @@ public class TornadoVMInterpreter {
 
         if (TornadoOptions.LOG_BYTECODES()) {
             logBuilder.append(captureIndent());
-            DebugInterpreter.logLaunchTask(task, interpreterDevice, batchThreads, offset, eventId, logBuilder);
+            DebugInterpreter.logLaunchTask(task, interpreterDevice, batchThreads, launch.offset(), eventId, logBuilder);
         }
 
-        if (task.meta() instanceof TaskDataContext dataContext) {
-            // We attach the profiler information, grid information and global threads
-            dataContext.attachProfiler(timeProfiler);
-            dataContext.setGridScheduler(gridScheduler);
-            dataContext.setThreadInfoEnabled(graphExecutionContext.meta().isThreadInfoEnabled());
+        if (!(task.meta() instanceof TaskDataContext dataContext)) {
+            throw new TornadoRuntimeException("task.meta is not instanceof TaskDataContext");
+        }
 
-            try {
-                int lastEvent = useDependencies
-                        ? installedCode.launchWithDependencies(graphExecutionContext.getExecutionPlanId(), stackFrame, bufferAtomics, dataContext, batchThreads, waitList)
-                        : installedCode.launchWithoutDependencies(graphExecutionContext.getExecutionPlanId(), stackFrame, bufferAtomics, dataContext, batchThreads);
+        try {
+            int lastEvent = launchKernel(task, dataContext, installedCode, stackFrame, bufferAtomics, batchThreads, eventId);
+            recordCommand(new RecordedCommand.Launch(task, installedCode, stackFrame, batchThreads, eventId), lastEvent);
+            return lastEvent;
+        } catch (Exception e) {
+            if (TornadoOptions.DEBUG) {
+                e.printStackTrace();
+            }
+            throw new TornadoBailoutRuntimeException("Bailout from LAUNCH Bytecode: \nReason: " + e, e);
+        }
+    }
 
-                resetEventIndexes(eventId);
-                return lastEvent;
+    /**
+     * Launches an installed kernel with the arguments already pushed in its stack frame.
+     */
+    private int launchKernel(SchedulableTask task, TaskDataContext dataContext, TornadoInstalledCode installedCode, KernelStackFrame stackFrame, XPUBuffer bufferAtomics, long batchThreads,
+            int eventId) {
+        // We attach the profiler information, grid information and global threads
+        dataContext.attachProfiler(timeProfiler);
+        dataContext.setGridScheduler(gridScheduler);
+        dataContext.setThreadInfoEnabled(graphExecutionContext.meta().isThreadInfoEnabled());
 
-            } catch (Exception e) {
-                if (TornadoOptions.DEBUG) {
-                    e.printStackTrace();
-                }
-                throw new TornadoBailoutRuntimeException("Bailout from LAUNCH Bytecode: \nReason: " + e, e);
-            }
-        } else {
-            throw new TornadoRuntimeException("task.meta is not instanceof TaskDataContext");
+        final int[] waitList = (useDependencies && eventId != -1) ? events[eventId] : null;
+        final KernelLaunchEvent launchEvent = KernelLaunchEvent.beginIfEnabled();
+        int lastEvent = useDependencies
+                ? installedCode.launchWithDependencies(graphExecutionContext.getExecutionPlanId(), stackFrame, bufferAtomics, dataContext, batchThreads, waitList)
+                : installedCode.launchWithoutDependencies(graphExecutionContext.getExecutionPlanId(), stackFrame, bufferAtomics, dataContext, batchThreads);
+        if (launchEvent != null) {
+            launchEvent.commit(task.getFullName(), interpreterDevice.getDeviceName(), batchThreads);
         }
+        resetEventIndexes(eventId);
+        return lastEvent;
     }
 
-    private int executeLibraryLaunch(StringBuilder logBuilder, LibraryTask task, final int numArgs, final int eventId, final long batchThreads, int[] waitList) {
+    private int executeLibraryLaunch(StringBuilder logBuilder, LibraryTask task, final TornadoVMInstruction.Launch launch, int[] waitList) {
+        final int numArgs = launch.numArgs();
+        final int eventId = launch.eventId();
+        final long batchThreads = launch.batchThreads();
 
         if (batchThreads != 0) {
             throw new TornadoRuntimeException("[ERROR] Batch processing is not supported for library tasks (task: " + task.getId() + ")");
@@ -1253,8 +1755,8 @@ public class TornadoVMInterpreter {
         final boolean[] isReference = new boolean[numArgs];
 
         for (int i = 0; i < numArgs; i++) {
-            final byte argType = bytecodeResult.get();
-            final int argIndex = bytecodeResult.getInt();
+            final byte argType = launch.argTypes()[i];
+            final int argIndex = launch.argIndices()[i];
             if (argType == TornadoVMBytecodes.PUSH_CONSTANT_ARGUMENT.value()) {
                 callArgs[i] = constants.get(argIndex);
             } else if (argType == TornadoVMBytecodes.PUSH_REFERENCE_ARGUMENT.value()) {
@@ -1320,7 +1822,7 @@ public class TornadoVMInterpreter {
             interpreterDevice.resolveEvent(graphExecutionContext.getExecutionPlanId(), lastEvent).waitForEvents(graphExecutionContext.getExecutionPlanId());
             long elapsed = System.nanoTime() - profilerStartTime;
             timeProfiler.setTaskTimer(ProfilerType.TASK_KERNEL_TIME, task.getId(), elapsed);
-            timeProfiler.setTimer(ProfilerType.TOTAL_KERNEL_TIME, timeProfiler.getTimer(ProfilerType.TOTAL_KERNEL_TIME) + elapsed);
+            timeProfiler.sum(ProfilerType.TOTAL_KERNEL_TIME, elapsed);
         }
 
         resetEventIndexes(eventId);
@@ -1350,24 +1852,19 @@ public class TornadoVMInterpreter {
             TornadoInternalError.guarantee(eventsIndexes[eventId] < events[eventId].length, "event list is too small");
             events[eventId][eventsIndexes[eventId]] = lastEvent;
             eventsIndexes[eventId]++;
+            if (recorder != null) {
+                recorder.addDependency(lastEvent, eventId);
+            }
         }
     }
 
-    private int executeBarrier(StringBuilder logBuilder, int eventId, int[] waitList) {
+    private int executeBarrier(StringBuilder logBuilder, int eventId) {
         if (TornadoOptions.LOG_BYTECODES()) {
             DebugInterpreter.logBarrier(eventId, logBuilder);
         }
 
-        int lastEvent;
-        if (executionGraphEnabled) {
-            // Events created during graph capture are invalid for host sync.
-            // cuStreamSynchronize after cuGraphLaunch waits for graph completion.
-            lastEvent = interpreterDevice.enqueueMarker(graphExecutionContext.getExecutionPlanId());
-        } else {
-            lastEvent = interpreterDevice.enqueueMarker(graphExecutionContext.getExecutionPlanId(), waitList);
-        }
-
-        resetEventIndexes(eventId);
+        int lastEvent = deviceQueue.barrier(eventId);
+        recordCommand(new RecordedCommand.Barrier(eventId), lastEvent);
         return lastEvent;
     }
 
@@ -1418,7 +1915,8 @@ public class TornadoVMInterpreter {
      * @return The corresponding local task index, or 0 if the task is not found in the local task list.
      */
     private int globalToLocalTaskIndex(int taskIndex) {
-        return localTaskList.indexOf(taskExecutionContexts.get(taskIndex)) == -1 ? 0 : localTaskList.indexOf(taskExecutionContexts.get(taskIndex));
+        int localTaskIndex = localTaskList.indexOf(taskExecutionContexts.get(taskIndex));
+        return localTaskIndex == -1 ? 0 : localTaskIndex;
     }
 
     private void profilerUpdateForPreCompiledTask(SchedulableTask task) {
@@ -1444,34 +1942,118 @@ public class TornadoVMInterpreter {
         return execute(false);
     }
 
+    /**
+     * @return Whether the last execution failed after it had copied data back to the host, so running it again may
+     *         not give the same result.
+     */
+    public boolean hasWrittenHostMemory() {
+        return hostMemoryWritten;
+    }
+
+    /**
+     * Releases the buffers whose DEALLOC bytecodes were deferred by a non-blocking execution. It must be called once
+     * the event returned by {@link #execute()} has completed.
+     */
+    public void releaseDeferredDeallocations() {
+        if (deferredDeallocations.isEmpty()) {
+            return;
+        }
+        interpreterDevice.enableThreadSharing();
+        StringBuilder logBuilder = TornadoOptions.LOG_BYTECODES() ? new StringBuilder() : null;
+        for (int objectIndex : deferredDeallocations) {
+            executeDeAlloc(logBuilder, objectIndex);
+        }
+        deferredDeallocations.clear();
+        if (logBuilder != null && TornadoOptions.PRINT_BYTECODES) {
+            System.out.println(logBuilder);
+        }
+    }
+
     private String captureIndent() {
         return insideCaptureRegion ? "\t" : "";
     }
 
     public void clearInstalledCode() {
         Arrays.fill(installedCodes, null);
+        Arrays.fill(preparedIndexInWrite, null);
+        for (KernelVariantCache variants : kernelVariants) {
+            variants.clear();
+        }
+        pendingConcurrentCompilation = true;
+        recordedCommands = null;
     }
 
     /**
-     * Container class that holds information about object allocation counts.
-     * Used to track the number of persistent objects and the number of objects
-     * that need to be allocated.
-     *
-     * @param persistentObjectCount
-     *     Number of persistent objects that don't need allocation
-     * @param objectsToAlloc
-     *     Number of objects that need to be allocated
+     * Issues the commands on the device of the interpreter, as the bytecodes do. It is used to replay the recorded
+     * commands and by the bytecodes that have no profiling or logging of their own.
      */
-    public record ObjectAllocationInfo(int persistentObjectCount, int objectsToAlloc) {
-    }
+    private final class DeviceCommandQueue implements CommandQueue {
 
-    private static class XPUExecutionFrame {
-        private KernelStackFrame stackFrame;
-        private int[] waitList;
+        private int[] waitList(int eventList) {
+            return (useDependencies && eventList != -1) ? events[eventList] : null;
+        }
 
-        XPUExecutionFrame(KernelStackFrame callWrapper, int[] waitList) {
-            this.stackFrame = callWrapper;
-            this.waitList = waitList;
+        @Override
+        public int write(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList) {
+            final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
+            List<Integer> allEvents = interpreterDevice.streamIn(graphExecutionContext.getExecutionPlanId(), object, sizeBatch, offset, objectState, waitList(eventList));
+            if (transferEvent != null) {
+                transferEvent.commit(TransferEvent.HOST_TO_DEVICE, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, sizeBatch), offset, false);
+            }
+            resetEventIndexes(eventList);
+            return lastEventOf(allEvents);
+        }
+
+        @Override
+        public int ensurePresent(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList) {
+            final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
+            List<Integer> allEvents = interpreterDevice.ensurePresent(graphExecutionContext.getExecutionPlanId(), object, objectState, waitList(eventList), sizeBatch, offset);
+            if (transferEvent != null && allEvents != null && !allEvents.isEmpty()) {
+                transferEvent.commit(TransferEvent.HOST_TO_DEVICE, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, sizeBatch), offset, false);
+            }
+            resetEventIndexes(eventList);
+            return lastEventOf(allEvents);
+        }
+
+        @Override
+        public int read(Object object, XPUDeviceBufferState objectState, long offset, boolean blocking, int eventList) {
+            final TransferEvent transferEvent = TransferEvent.beginIfEnabled();
+            final int readEvent = streamOut(object, offset, objectState, waitList(eventList), blocking);
+            if (transferEvent != null) {
+                transferEvent.commit(TransferEvent.DEVICE_TO_HOST, interpreterDevice.getDeviceName(), object.getClass(), transferSize(objectState, 0), offset, blocking);
+            }
+            resetEventIndexes(eventList);
+            return readEvent;
+        }
+
+        @Override
+        public int launch(SchedulableTask task, TornadoInstalledCode installedCode, KernelStackFrame stackFrame, long batchThreads, int eventList) {
+            return launchKernel(task, (TaskDataContext) task.meta(), installedCode, stackFrame, null, batchThreads, eventList);
+        }
+
+        @Override
+        public int barrier(int eventList) {
+            final int lastEvent;
+            if (executionGraphEnabled) {
+                // Events created during graph capture are invalid for host sync.
+                // cuStreamSynchronize after cuGraphLaunch waits for graph completion.
+                lastEvent = interpreterDevice.enqueueMarker(graphExecutionContext.getExecutionPlanId());
+            } else {
+                lastEvent = interpreterDevice.enqueueMarker(graphExecutionContext.getExecutionPlanId(), waitList(eventList));
+            }
+            resetEventIndexes(eventList);
+            return lastEvent;
+        }
+
+        @Override
+        public void addDependency(int event, int eventList) {
+            executeDependency(null, event, eventList);
+        }
+
+        @Override
+        public void clearDependencies(int eventList) {
+            resetEventIndexes(eventList);
         }
     }
+
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Allocation of the device buffers of the objects of an ALLOC bytecode. Buffers that are reused from a previous
+ * execution do not count towards the allocated size.
+ */
+@Name("uk.ac.manchester.tornado.DeviceAllocation")
+@Label("Device Allocation")
+@Category({ "TornadoVM", "Memory" })
+@Description("Allocation of device buffers")
+@StackTrace(false)
+public final class DeviceAllocationEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(DeviceAllocationEvent.class);
+
+    @Label("Device")
+    private String device;
+
+    @Label("Objects")
+    private int objects;
+
+    @Label("Allocated Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Task-Graph Device Memory")
+    @DataAmount
+    private long taskGraphMemory;
+
+    public DeviceAllocationEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static DeviceAllocationEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        DeviceAllocationEvent event = new DeviceAllocationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String device, int objects, long bytes, long taskGraphMemory) {
+        this.device = device;
+        this.objects = objects;
+        this.bytes = bytes;
+        this.taskGraphMemory = taskGraphMemory;
+        commit();
+    }
+}
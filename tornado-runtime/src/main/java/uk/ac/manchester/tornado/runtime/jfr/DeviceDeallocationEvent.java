@@ -0,0 +1,79 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Release of the device buffer of an object by a DEALLOC bytecode. Buffers that are kept for the next execution are
+ * reported with a released size of zero.
+ */
+@Name("uk.ac.manchester.tornado.DeviceDeallocation")
+@Label("Device Deallocation")
+@Category({ "TornadoVM", "Memory" })
+@Description("Release of a device buffer")
+@StackTrace(false)
+public final class DeviceDeallocationEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(DeviceDeallocationEvent.class);
+
+    @Label("Device")
+    private String device;
+
+    @Label("Object Class")
+    private Class<?> objectClass;
+
+    @Label("Released Size")
+    @DataAmount
+    private long bytes;
+
+    public DeviceDeallocationEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static DeviceDeallocationEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        DeviceDeallocationEvent event = new DeviceDeallocationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String device, Class<?> objectClass, long bytes) {
+        this.device = device;
+        this.objectClass = objectClass;
+        this.bytes = bytes;
+        commit();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Build of the code generated for a task by the driver of a device (e.g., OpenCL program build, PTX JIT or
+ * Level Zero module creation).
+ */
+@Name("uk.ac.manchester.tornado.DriverBuild")
+@Label("Driver Build")
+@Category({ "TornadoVM", "Compilation" })
+@Description("Build of the generated code of a task by the device driver")
+@StackTrace(false)
+public final class DriverBuildEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(DriverBuildEvent.class);
+
+    @Label("Task")
+    private String task;
+
+    @Label("Device")
+    private String device;
+
+    public DriverBuildEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static DriverBuildEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        DriverBuildEvent event = new DriverBuildEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String task, String device) {
+        this.task = task;
+        this.device = device;
+        commit();
+    }
+}
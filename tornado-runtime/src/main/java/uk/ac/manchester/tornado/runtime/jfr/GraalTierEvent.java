@@ -0,0 +1,105 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import org.graalvm.compiler.nodes.StructuredGraph;
+import org.graalvm.compiler.phases.PhaseSuite;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Application of one of the Graal tiers (high, mid or low) of a backend to the graph of a method.
+ */
+@Name("uk.ac.manchester.tornado.GraalTier")
+@Label("Graal Tier")
+@Category({ "TornadoVM", "Compilation" })
+@Description("Application of a Graal compiler tier to the graph of a method")
+@StackTrace(false)
+public final class GraalTierEvent extends Event {
+
+    public static final String HIGH_TIER = "High";
+    public static final String MID_TIER = "Mid";
+    public static final String LOW_TIER = "Low";
+
+    private static final EventType TYPE = EventType.getEventType(GraalTierEvent.class);
+
+    @Label("Method")
+    private String method;
+
+    @Label("Tier")
+    private String tier;
+
+    @Label("Backend")
+    private String backend;
+
+    public GraalTierEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static GraalTierEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        GraalTierEvent event = new GraalTierEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * It applies a tier of the compiler to a graph and records a {@link GraalTierEvent} for it if the event is enabled.
+     *
+     * @param suite
+     *     Phases of the tier.
+     * @param graph
+     *     Graph of the method being compiled.
+     * @param context
+     *     Context of the tier.
+     * @param tier
+     *     Name of the tier: {@link #HIGH_TIER}, {@link #MID_TIER} or {@link #LOW_TIER}.
+     * @param backend
+     *     Name of the backend that compiles the method.
+     */
+    public static <C> void applyTier(PhaseSuite<C> suite, StructuredGraph graph, C context, String tier, String backend) {
+        GraalTierEvent event = beginIfEnabled();
+        suite.apply(graph, context);
+        if (event != null) {
+            event.commit(graph.method() != null ? graph.method().format("%H.%n") : graph.toString(), tier, backend);
+        }
+    }
+
+    public void commit(String method, String tier, String backend) {
+        this.method = method;
+        this.tier = tier;
+        this.backend = backend;
+        commit();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Compilation and installation of the code of a task on a device. The event contains the {@link GraalTierEvent}s and
+ * the {@link DriverBuildEvent} of the task.
+ */
+@Name("uk.ac.manchester.tornado.KernelCompilation")
+@Label("Kernel Compilation")
+@Category({ "TornadoVM", "Compilation" })
+@Description("Compilation of a task and installation of its code on a device")
+@StackTrace(false)
+public final class KernelCompilationEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(KernelCompilationEvent.class);
+
+    @Label("Task")
+    private String task;
+
+    @Label("Device")
+    private String device;
+
+    public KernelCompilationEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static KernelCompilationEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        KernelCompilationEvent event = new KernelCompilationEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String task, String device) {
+        this.task = task;
+        this.device = device;
+        commit();
+    }
+}
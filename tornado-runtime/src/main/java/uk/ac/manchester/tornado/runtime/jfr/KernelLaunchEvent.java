@@ -0,0 +1,77 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Launch of the kernel of a task on a device. For non-blocking launches, the duration of the event is the time to
+ * enqueue the kernel; the kernel time is reported by the TornadoVM profiler.
+ */
+@Name("uk.ac.manchester.tornado.KernelLaunch")
+@Label("Kernel Launch")
+@Category({ "TornadoVM", "Execution" })
+@Description("Launch of the kernel of a task on a device")
+@StackTrace(false)
+public final class KernelLaunchEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(KernelLaunchEvent.class);
+
+    @Label("Task")
+    private String task;
+
+    @Label("Device")
+    private String device;
+
+    @Label("Batch Threads")
+    private long batchThreads;
+
+    public KernelLaunchEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static KernelLaunchEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        KernelLaunchEvent event = new KernelLaunchEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String task, String device, long batchThreads) {
+        this.task = task;
+        this.device = device;
+        this.batchThreads = batchThreads;
+        commit();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Construction of the sketch of a method: parsing of the bytecodes and the sketch tier of the TornadoVM compiler.
+ */
+@Name("uk.ac.manchester.tornado.Sketch")
+@Label("Sketch")
+@Category({ "TornadoVM", "Compilation" })
+@Description("Construction of the sketch (architecture-independent graph) of a method")
+@StackTrace(false)
+public final class SketchEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(SketchEvent.class);
+
+    @Label("Method")
+    private String method;
+
+    @Label("Backend Index")
+    private int backendIndex;
+
+    @Label("Device Index")
+    private int deviceIndex;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public SketchEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static SketchEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        SketchEvent event = new SketchEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String method, int backendIndex, int deviceIndex, boolean succeeded) {
+        this.method = method;
+        this.backendIndex = backendIndex;
+        this.deviceIndex = deviceIndex;
+        this.succeeded = succeeded;
+        commit();
+    }
+}
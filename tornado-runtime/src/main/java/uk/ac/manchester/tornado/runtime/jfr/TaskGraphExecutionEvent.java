@@ -0,0 +1,78 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of the TornadoVM bytecodes of a task-graph on a device, from the first bytecode to the last one. Device
+ * operations that are not blocking may still be running on the device when the event ends.
+ */
+@Name("uk.ac.manchester.tornado.TaskGraphExecution")
+@Label("Task-Graph Execution")
+@Category({ "TornadoVM", "Execution" })
+@Description("Execution of the bytecodes of a task-graph by the TornadoVM interpreter")
+@StackTrace(false)
+public final class TaskGraphExecutionEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(TaskGraphExecutionEvent.class);
+
+    @Label("Task-Graph")
+    private String taskGraph;
+
+    @Label("Execution Plan ID")
+    private long executionPlanId;
+
+    @Label("Device")
+    private String device;
+
+    public TaskGraphExecutionEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise, so that
+     * nothing is allocated when no recording is running.
+     */
+    public static TaskGraphExecutionEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TaskGraphExecutionEvent event = new TaskGraphExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String taskGraph, long executionPlanId, String device) {
+        this.taskGraph = taskGraph;
+        this.executionPlanId = executionPlanId;
+        this.device = device;
+        commit();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Data transfer between the host and a device. For non-blocking transfers, the duration of the event is the time to
+ * enqueue the transfer; the device time of the transfer is reported by the TornadoVM profiler.
+ */
+@Name("uk.ac.manchester.tornado.Transfer")
+@Label("Data Transfer")
+@Category({ "TornadoVM", "Transfers" })
+@Description("Data transfer between the host and a device")
+@StackTrace(false)
+public final class TransferEvent extends Event {
+
+    public static final String HOST_TO_DEVICE = "HostToDevice";
+    public static final String DEVICE_TO_HOST = "DeviceToHost";
+
+    private static final EventType TYPE = EventType.getEventType(TransferEvent.class);
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Device")
+    private String device;
+
+    @Label("Object Class")
+    private Class<?> objectClass;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Offset")
+    @DataAmount
+    private long offset;
+
+    @Label("Blocking")
+    private boolean blocking;
+
+    public TransferEvent() {
+    }
+
+    /**
+     * It returns a started event if the event is enabled in a running recording, or {@code null} otherwise.
+     */
+    public static TransferEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TransferEvent event = new TransferEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(String direction, String device, Class<?> objectClass, long bytes, long offset, boolean blocking) {
+        this.direction = direction;
+        this.device = device;
+        this.objectClass = objectClass;
+        this.bytes = bytes;
+        this.offset = offset;
+        this.blocking = blocking;
+        commit();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.util.List;
+
+import org.graalvm.compiler.phases.util.Providers;
+
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.TornadoDeviceType;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.runtime.JVMMapping;
+import uk.ac.manchester.tornado.runtime.TornadoAcceleratorBackend;
+import uk.ac.manchester.tornado.runtime.graal.backend.XPUBackend;
+import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSuitesProvider;
+
+/**
+ * Backend with a single device, the {@link JVMMapping host JVM}, that runs the tasks of a task-graph on the cores of
+ * the host with the {@link JVMExecutionEngine}. The backend is registered after the accelerator backends, so it is
+ * only the default backend when no accelerator backend is available.
+ *
+ * <p>
+ * The sketches of the tasks do not depend on the device, so the backend builds them with the providers of the
+ * accelerator backend it is created with. Without an accelerator backend, the backend has no providers and the
+ * tasks are not sketched, since the {@link JVMExecutionEngine} runs them from their bytecode.
+ * </p>
+ */
+public final class JVMBackend implements TornadoAcceleratorBackend {
+
+    private final TornadoAcceleratorBackend sketchBackend;
+    private final JVMMapping device;
+
+    /**
+     * @param sketchBackend
+     *     The accelerator backend whose providers build the sketches of the tasks, or {@code null} if there is none.
+     */
+    public JVMBackend(TornadoAcceleratorBackend sketchBackend) {
+        this.sketchBackend = sketchBackend;
+        this.device = new JVMMapping(this);
+    }
+
+    @Override
+    public XPUBackend<?> getDefaultBackend() {
+        return (sketchBackend != null) ? sketchBackend.getDefaultBackend() : null;
+    }
+
+    @Override
+    public Providers getProviders() {
+        return (sketchBackend != null) ? sketchBackend.getProviders() : null;
+    }
+
+    @Override
+    public TornadoSuitesProvider getSuitesProvider() {
+        return (sketchBackend != null) ? sketchBackend.getSuitesProvider() : null;
+    }
+
+    @Override
+    public TornadoDevice getDefaultDevice() {
+        return device;
+    }
+
+    @Override
+    public void setDefaultDevice(int index) {
+        // The backend has a single device
+    }
+
+    @Override
+    public int getNumDevices() {
+        return 1;
+    }
+
+    @Override
+    public TornadoDevice getDevice(int index) {
+        return device;
+    }
+
+    @Override
+    public List<TornadoDevice> getAllDevices() {
+        return List.of(device);
+    }
+
+    @Override
+    public TornadoDeviceType getTypeDefaultDevice() {
+        return TornadoDeviceType.CPU;
+    }
+
+    @Override
+    public String getName() {
+        return "JVM";
+    }
+
+    @Override
+    public int getNumPlatforms() {
+        return 1;
+    }
+
+    @Override
+    public TornadoVMBackendType getBackendType() {
+        return TornadoVMBackendType.JAVA;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
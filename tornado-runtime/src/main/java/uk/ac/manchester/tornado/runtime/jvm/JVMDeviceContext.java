@@ -0,0 +1,114 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.util.Collections;
+import java.util.Set;
+
+import uk.ac.manchester.tornado.api.TornadoDeviceContext;
+import uk.ac.manchester.tornado.api.TornadoTargetDevice;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.memory.TornadoMemoryProvider;
+
+/**
+ * Device context of the {@link JVMBackend}. The tasks run from their Java bytecode, so there is no code cache and no
+ * device memory: a task is always ready to run.
+ */
+public final class JVMDeviceContext implements TornadoDeviceContext {
+
+    private final TornadoDevice device;
+
+    public JVMDeviceContext(TornadoDevice device) {
+        this.device = device;
+    }
+
+    @Override
+    public TornadoTargetDevice getDevice() {
+        return device.getPhysicalDevice();
+    }
+
+    @Override
+    public TornadoMemoryProvider getMemoryManager() {
+        return null;
+    }
+
+    @Override
+    public boolean wasReset() {
+        return false;
+    }
+
+    @Override
+    public void reset(long executionPlanId) {
+    }
+
+    @Override
+    public void setResetToFalse() {
+    }
+
+    @Override
+    public boolean isPlatformFPGA() {
+        return false;
+    }
+
+    @Override
+    public boolean isPlatformXilinxFPGA() {
+        return false;
+    }
+
+    @Override
+    public boolean isFP64Supported() {
+        return true;
+    }
+
+    @Override
+    public boolean isCached(long executionPlanId, String methodName, SchedulableTask task) {
+        return true;
+    }
+
+    @Override
+    public int getDeviceIndex() {
+        return 0;
+    }
+
+    @Override
+    public int getDevicePlatform() {
+        return 0;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return device.getDeviceName();
+    }
+
+    @Override
+    public int getDriverIndex() {
+        return device.getBackendIndex();
+    }
+
+    @Override
+    public Set<Long> getRegisteredPlanIds() {
+        return Collections.emptySet();
+    }
+}
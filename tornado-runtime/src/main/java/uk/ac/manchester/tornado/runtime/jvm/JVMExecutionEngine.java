@@ -0,0 +1,363 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis.REDUCE_OPERATION;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Runs the tasks of a task-graph on the cores of the host, for the device of the {@link JVMBackend}. The data of the
+ * task-graph is not copied: the kernels read and write the arrays of the application.
+ *
+ * <ul>
+ * <li>A task with a {@code @Parallel} loop runs a copy of the task, generated by the {@link JVMKernelGenerator}, on
+ * every worker of the {@link TornadoCoreRuntime#getJVMExecutor() JVM executor}. Each worker runs a contiguous block of
+ * the iterations of the outermost parallel loop, with vector operations ({@link JVMVectorOps}) when the body of the
+ * loop is element-wise. The {@code @Reduce} parameters are accumulated per worker and merged when the workers
+ * finish.</li>
+ * <li>A task that receives a {@link KernelContext} runs the work-items of its {@link WorkerGrid}. The work-groups are
+ * distributed across the workers. When the kernel uses barriers, the work-items of a group run on virtual threads
+ * that synchronise at the barriers; otherwise they run one after another on the worker.</li>
+ * </ul>
+ *
+ * Tasks that cannot be split run sequentially in the calling thread.
+ */
+public final class JVMExecutionEngine {
+
+    private static final int MAX_LOCAL_WORK_1D = 256;
+    private static final int MAX_LOCAL_WORK_2D = 16;
+    private static final int MAX_LOCAL_WORK_3D = 8;
+
+    private static final JVMKernelGenerator GENERATOR = loadGenerator();
+    private static final Map<Method, JVMKernel> KERNELS = new ConcurrentHashMap<>();
+
+    private enum Kind {
+        PARALLEL_LOOP, KERNEL_CONTEXT, SEQUENTIAL
+    }
+
+    /**
+     * A task prepared for the engine. The handle takes the arguments of the task as an {@code Object[]}.
+     */
+    private record JVMKernel(Kind kind, MethodHandle handle, REDUCE_OPERATION[] reductions, int contextIndex, boolean usesBarriers) {
+
+        static final JVMKernel SEQUENTIAL = new JVMKernel(Kind.SEQUENTIAL, null, null, -1, false);
+
+        Object invoke(Object[] arguments) throws Throwable {
+            return handle.invokeExact(arguments);
+        }
+    }
+
+    private JVMExecutionEngine() {
+    }
+
+    private static JVMKernelGenerator loadGenerator() {
+        try {
+            Class<?> klass = Class.forName(TornadoOptions.JVM_KERNEL_GENERATOR);
+            return (JVMKernelGenerator) klass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            new TornadoLogger().debug("[JVM] Kernel generator %s not available: %s. The @Parallel loops run sequentially.", TornadoOptions.JVM_KERNEL_GENERATOR, e);
+            return null;
+        }
+    }
+
+    /**
+     * Runs a task on the workers of the JVM backend.
+     *
+     * @param method
+     *     Static method of the task.
+     * @param arguments
+     *     Arguments of the task.
+     * @param workerGrid
+     *     {@link WorkerGrid} of the task, or {@code null} if the task has no grid.
+     * @return {@code false} if the task cannot run on the engine. In that case the caller runs the task sequentially.
+     */
+    public static boolean execute(Method method, Object[] arguments, WorkerGrid workerGrid) {
+        if (!Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != arguments.length) {
+            return false;
+        }
+        JVMKernel kernel = KERNELS.computeIfAbsent(method, JVMExecutionEngine::buildKernel);
+        return switch (kernel.kind()) {
+            case PARALLEL_LOOP -> runParallelLoop(kernel, arguments, TornadoOptions.JVM_PARALLEL ? TornadoCoreRuntime.getJVMExecutor().getParallelism() : 1);
+            case KERNEL_CONTEXT -> TornadoOptions.JVM_PARALLEL && runKernelContext(kernel, arguments, workerGrid);
+            case SEQUENTIAL -> false;
+        };
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> host) throws IllegalAccessException {
+        JVMExecutionEngine.class.getModule().addReads(host.getModule());
+        return MethodHandles.privateLookupIn(host, MethodHandles.lookup());
+    }
+
+    private static MethodHandle spread(MethodHandle handle) {
+        return handle.asType(handle.type().generic()).asSpreader(Object[].class, handle.type().parameterCount());
+    }
+
+    private static JVMKernel buildKernel(Method method) {
+        try {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (KernelContext.class.isAssignableFrom(parameterTypes[i])) {
+                    MethodHandle handle = lookupIn(method.getDeclaringClass()).unreflect(method);
+                    boolean usesBarriers = GENERATOR == null || GENERATOR.usesBarriers(method);
+                    return new JVMKernel(Kind.KERNEL_CONTEXT, spread(handle), null, i, usesBarriers);
+                }
+            }
+
+            JVMParallelKernel parallelKernel = (GENERATOR != null) ? GENERATOR.generateParallelKernel(method, TornadoOptions.JVM_VECTORIZE) : null;
+            if (parallelKernel == null) {
+                return JVMKernel.SEQUENTIAL;
+            }
+            if (parallelKernel.vectorized()) {
+                new TornadoLogger().debug("[JVM] Task %s runs with %d vector lanes", method.getName(), JVMVectorOps.lanes());
+            }
+            MethodHandles.Lookup lookup = lookupIn(method.getDeclaringClass());
+            Class<?> kernelClass = lookup.defineClass(parallelKernel.classFile());
+            MethodHandle handle = lookup.findStatic(kernelClass, method.getName(), MethodType.methodType(method.getReturnType(), parameterTypes));
+            return new JVMKernel(Kind.PARALLEL_LOOP, spread(handle), parallelKernel.reductions(), -1, false);
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            new TornadoLogger().debug("[JVM] Task %s runs sequentially: %s", method.getName(), e);
+            return JVMKernel.SEQUENTIAL;
+        }
+    }
+
+    private static RuntimeException propagate(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        } else if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new TornadoRuntimeException("[JVM] Task failed: " + throwable);
+    }
+
+    private static void join(ForkJoinTask<?>[] tasks) {
+        RuntimeException failure = null;
+        for (ForkJoinTask<?> task : tasks) {
+            if (task == null) {
+                continue;
+            }
+            try {
+                task.join();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void runWorker(JVMKernel kernel, int worker, int numWorkers, Object[] arguments) {
+        JVMParallelLoop.enter(worker, numWorkers);
+        try {
+            Object ignored = kernel.invoke(arguments);
+        } catch (Throwable t) {
+            throw propagate(t);
+        } finally {
+            JVMParallelLoop.exit();
+        }
+    }
+
+    private static boolean runParallelLoop(JVMKernel kernel, Object[] arguments, int numWorkers) {
+        REDUCE_OPERATION[] reductions = kernel.reductions();
+        for (int i = 0; i < reductions.length; i++) {
+            if (reductions[i] != null && !JVMReductions.isSupported(arguments[i])) {
+                return false;
+            }
+        }
+
+        ForkJoinPool executor = TornadoCoreRuntime.getJVMExecutor();
+        Object[][] workerArguments = new Object[numWorkers][];
+        workerArguments[0] = arguments;
+        for (int worker = 1; worker < numWorkers; worker++) {
+            workerArguments[worker] = arguments.clone();
+            for (int i = 0; i < reductions.length; i++) {
+                if (reductions[i] != null) {
+                    workerArguments[worker][i] = JVMReductions.newPartial(arguments[i], reductions[i]);
+                }
+            }
+        }
+
+        // The calling thread runs the first block, so a single worker does not pay for a hand-off
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[numWorkers];
+        for (int worker = 1; worker < numWorkers; worker++) {
+            final int workerId = worker;
+            tasks[worker] = executor.submit(() -> runWorker(kernel, workerId, numWorkers, workerArguments[workerId]));
+        }
+        try {
+            runWorker(kernel, 0, numWorkers, arguments);
+        } finally {
+            join(tasks);
+        }
+
+        for (int worker = 1; worker < numWorkers; worker++) {
+            for (int i = 0; i < reductions.length; i++) {
+                if (reductions[i] != null) {
+                    JVMReductions.merge(arguments[i], workerArguments[worker][i], reductions[i]);
+                }
+            }
+        }
+        return true;
+    }
+
+    private static long largestDivisor(long value, long max) {
+        for (long candidate = Math.min(value, max); candidate > 1; candidate--) {
+            if (value % candidate == 0) {
+                return candidate;
+            }
+        }
+        return 1;
+    }
+
+    private static long[] defaultLocalWork(int dimensions, long[] globalWork) {
+        long max = switch (dimensions) {
+            case 1 -> MAX_LOCAL_WORK_1D;
+            case 2 -> MAX_LOCAL_WORK_2D;
+            default -> MAX_LOCAL_WORK_3D;
+        };
+        long[] localWork = { 1, 1, 1 };
+        for (int i = 0; i < dimensions; i++) {
+            localWork[i] = largestDivisor(globalWork[i], max);
+        }
+        return localWork;
+    }
+
+    private static boolean runKernelContext(JVMKernel kernel, Object[] arguments, WorkerGrid workerGrid) {
+        final int dimensions = (workerGrid != null) ? workerGrid.dimension() : 1;
+        final long[] globalWork = (workerGrid != null) ? workerGrid.getGlobalWork().clone() : new long[] { 1, 1, 1 };
+        final long[] localWork = (workerGrid != null && workerGrid.getLocalWork() != null) ? workerGrid.getLocalWork().clone() : defaultLocalWork(dimensions, globalWork);
+        final long[] numGroups = new long[3];
+        for (int i = 0; i < 3; i++) {
+            numGroups[i] = (globalWork[i] + localWork[i] - 1) / localWork[i];
+        }
+        final long totalGroups = numGroups[0] * numGroups[1] * numGroups[2];
+        final boolean concurrentWorkItems = kernel.usesBarriers() && localWork[0] * localWork[1] * localWork[2] > 1;
+
+        ForkJoinPool executor = TornadoCoreRuntime.getJVMExecutor();
+        final int numWorkers = (int) Math.min(executor.getParallelism(), totalGroups);
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[numWorkers];
+        for (int worker = 0; worker < numWorkers; worker++) {
+            final long firstGroup = totalGroups * worker / numWorkers;
+            final long lastGroup = totalGroups * (worker + 1) / numWorkers;
+            tasks[worker] = executor.submit(() -> {
+                JVMKernelContext context = new JVMKernelContext(dimensions, globalWork, localWork);
+                long[] groupId = new long[3];
+                for (long group = firstGroup; group < lastGroup; group++) {
+                    groupId[0] = group % numGroups[0];
+                    groupId[1] = (group / numGroups[0]) % numGroups[1];
+                    groupId[2] = group / (numGroups[0] * numGroups[1]);
+                    if (concurrentWorkItems) {
+                        runWorkGroupConcurrently(kernel, arguments, dimensions, globalWork, localWork, groupId);
+                    } else {
+                        runWorkGroup(kernel, arguments, context, globalWork, localWork, groupId);
+                    }
+                }
+            });
+        }
+        join(tasks);
+        return true;
+    }
+
+    private static boolean isInRange(long[] globalWork, long[] localWork, long[] groupId, long[] localId) {
+        for (int i = 0; i < 3; i++) {
+            if (groupId[i] * localWork[i] + localId[i] >= globalWork[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void runWorkGroup(JVMKernel kernel, Object[] arguments, JVMKernelContext context, long[] globalWork, long[] localWork, long[] groupId) {
+        Object[] itemArguments = arguments.clone();
+        itemArguments[kernel.contextIndex()] = context;
+        JVMWorkGroup group = new JVMWorkGroup(1);
+        long[] localId = new long[3];
+        for (localId[2] = 0; localId[2] < localWork[2]; localId[2]++) {
+            for (localId[1] = 0; localId[1] < localWork[1]; localId[1]++) {
+                for (localId[0] = 0; localId[0] < localWork[0]; localId[0]++) {
+                    if (!isInRange(globalWork, localWork, groupId, localId)) {
+                        continue;
+                    }
+                    context.setWorkItem(group, groupId, localId, localWork);
+                    try {
+                        Object ignored = kernel.invoke(itemArguments);
+                    } catch (Throwable t) {
+                        throw propagate(t);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void runWorkGroupConcurrently(JVMKernel kernel, Object[] arguments, int dimensions, long[] globalWork, long[] localWork, long[] groupId) {
+        final int groupSize = (int) (localWork[0] * localWork[1] * localWork[2]);
+        JVMWorkGroup group = new JVMWorkGroup(groupSize);
+        Thread[] workItems = new Thread[groupSize];
+        int index = 0;
+        for (long z = 0; z < localWork[2]; z++) {
+            for (long y = 0; y < localWork[1]; y++) {
+                for (long x = 0; x < localWork[0]; x++) {
+                    JVMKernelContext context = new JVMKernelContext(dimensions, globalWork, localWork);
+                    context.setWorkItem(group, groupId, new long[] { x, y, z }, localWork);
+                    Object[] itemArguments = arguments.clone();
+                    itemArguments[kernel.contextIndex()] = context;
+                    workItems[index++] = Thread.ofVirtual().start(() -> {
+                        try {
+                            Object ignored = kernel.invoke(itemArguments);
+                        } catch (Throwable t) {
+                            group.fail(t);
+                        }
+                    });
+                }
+            }
+        }
+        for (Thread workItem : workItems) {
+            try {
+                workItem.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TornadoRuntimeException("[JVM] Interrupted while waiting for a work-group");
+            }
+        }
+        if (group.getFailure() != null) {
+            throw propagate(group.getFailure());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.lang.reflect.Field;
+import java.util.function.IntFunction;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.HalfFloat;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.api.types.vectors.Half2;
+
+/**
+ * {@link KernelContext} of a work-item that runs on the {@link JVMExecutionEngine}. The thread identifiers are
+ * written in the fields of the context before each work-item runs, the barriers synchronise the work-items of the
+ * {@link JVMWorkGroup}, and the local arrays are shared by the work-items of the group.
+ */
+final class JVMKernelContext extends KernelContext {
+
+    private static final Field[] GLOBAL_ID = fields("globalIdx", "globalIdy", "globalIdz");
+    private static final Field[] GROUP_ID = fields("groupIdx", "groupIdy", "groupIdz");
+    private static final Field[] LOCAL_ID = fields("localIdx", "localIdy", "localIdz");
+    private static final Field[] GLOBAL_SIZE = fields("globalGroupSizeX", "globalGroupSizeY", "globalGroupSizeZ");
+    private static final Field[] LOCAL_SIZE = fields("localGroupSizeX", "localGroupSizeY", "localGroupSizeZ");
+
+    private final int dimensions;
+    private JVMWorkGroup workGroup;
+    private int numLocalArrays;
+
+    JVMKernelContext(int dimensions, long[] globalWork, long[] localWork) {
+        this.dimensions = dimensions;
+        for (int i = 0; i < 3; i++) {
+            set(GLOBAL_SIZE[i], (int) globalWork[i]);
+            set(LOCAL_SIZE[i], (int) localWork[i]);
+        }
+    }
+
+    private static Field[] fields(String... names) {
+        Field[] fields = new Field[names.length];
+        try {
+            for (int i = 0; i < names.length; i++) {
+                fields[i] = KernelContext.class.getField(names[i]);
+                fields[i].setAccessible(true);
+            }
+        } catch (NoSuchFieldException e) {
+            throw new TornadoRuntimeException("[JVM] KernelContext field not found: " + e.getMessage());
+        }
+        return fields;
+    }
+
+    private void set(Field field, int value) {
+        try {
+            field.set(this, value);
+        } catch (IllegalAccessException e) {
+            throw new TornadoRuntimeException("[JVM] Cannot write the KernelContext field " + field.getName());
+        }
+    }
+
+    /**
+     * Moves the context to the work-item {@code localId} of the work-group {@code groupId}.
+     */
+    void setWorkItem(JVMWorkGroup group, long[] groupId, long[] localId, long[] localWork) {
+        this.workGroup = group;
+        this.numLocalArrays = 0;
+        for (int i = 0; i < dimensions; i++) {
+            set(GROUP_ID[i], (int) groupId[i]);
+            set(LOCAL_ID[i], (int) localId[i]);
+            set(GLOBAL_ID[i], (int) (groupId[i] * localWork[i] + localId[i]));
+        }
+    }
+
+    @Override
+    public void localBarrier() {
+        workGroup.await();
+    }
+
+    @Override
+    public void globalBarrier() {
+        workGroup.await();
+    }
+
+    private <T> T localArray(int size, IntFunction<T> allocator) {
+        return workGroup.localArray(numLocalArrays++, size, allocator);
+    }
+
+    @Override
+    public int[] allocateIntLocalArray(int size) {
+        return localArray(size, int[]::new);
+    }
+
+    @Override
+    public byte[] allocateByteLocalArray(int size) {
+        return localArray(size, byte[]::new);
+    }
+
+    @Override
+    public HalfFloat[] allocateHalfFloatLocalArray(int size) {
+        return localArray(size, HalfFloat[]::new);
+    }
+
+    @Override
+    public Half2[] allocateHalf2LocalArray(int size) {
+        return localArray(size, Half2[]::new);
+    }
+
+    @Override
+    public long[] allocateLongLocalArray(int size) {
+        return localArray(size, long[]::new);
+    }
+
+    @Override
+    public float[] allocateFloatLocalArray(int size) {
+        return localArray(size, float[]::new);
+    }
+
+    @Override
+    public double[] allocateDoubleLocalArray(int size) {
+        return localArray(size, double[]::new);
+    }
+
+    @Override
+    public void atomicAdd(IntArray array, int index, int val) {
+        synchronized (array) {
+            array.set(index, array.get(index) + val);
+        }
+    }
+
+    @Override
+    public void atomicAdd(int[] array, int index, int val) {
+        synchronized (array) {
+            array[index] += val;
+        }
+    }
+
+    @Override
+    public void atomicAdd(LongArray array, int index, long val) {
+        synchronized (array) {
+            array.set(index, array.get(index) + val);
+        }
+    }
+
+    @Override
+    public void atomicAdd(FloatArray array, int index, float val) {
+        synchronized (array) {
+            array.set(index, array.get(index) + val);
+        }
+    }
+
+    @Override
+    public void atomicAdd(DoubleArray array, int index, double val) {
+        synchronized (array) {
+            array.set(index, array.get(index) + val);
+        }
+    }
+}
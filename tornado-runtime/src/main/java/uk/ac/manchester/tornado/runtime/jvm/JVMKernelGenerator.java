@@ -0,0 +1,64 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.lang.reflect.Method;
+
+/**
+ * Generates the code that the {@link JVMExecutionEngine} runs on each worker of the JVM backend. The generator works
+ * on the class file of the task, so it lives next to the other bytecode tools of TornadoVM and is loaded by name (see
+ * {@code tornado.load.jvm.generator}).
+ */
+public interface JVMKernelGenerator {
+
+    /**
+     * Generates a copy of a task whose outermost {@code @Parallel} loop only iterates the block of the worker that
+     * calls it. The block of each worker is computed by {@link JVMParallelLoop} from the bounds of the loop when the
+     * loop is entered.
+     *
+     * <p>
+     * When {@code vectorize} is set and the body of the loop only reads and writes the arrays at the index of the loop,
+     * the block of each worker first runs a vector loop that calls {@link JVMVectorOps}, and then the remaining
+     * iterations in the original loop.
+     * </p>
+     *
+     * @param method
+     *     Static method of the task.
+     * @param vectorize
+     *     Whether the body of the loop can be vectorised.
+     * @return The generated kernel, or {@code null} if the method has no {@code @Parallel} loop that can be split
+     *     across workers.
+     */
+    JVMParallelKernel generateParallelKernel(Method method, boolean vectorize);
+
+    /**
+     * Checks whether a {@code KernelContext} kernel synchronises its work-items with barriers. The work-items of
+     * these kernels run concurrently within each work-group.
+     *
+     * @param method
+     *     Static method of the task.
+     * @return True if the method, or a method it passes the kernel context to, calls a barrier.
+     */
+    boolean usesBarriers(Method method);
+}
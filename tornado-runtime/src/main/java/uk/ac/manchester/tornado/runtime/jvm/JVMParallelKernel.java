@@ -0,0 +1,42 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis.REDUCE_OPERATION;
+
+/**
+ * Class file generated by a {@link JVMKernelGenerator} for a task with a {@code @Parallel} loop.
+ *
+ * @param className
+ *     Binary name of the generated class, in the package of the task.
+ * @param classFile
+ *     The class file. The class has a static method with the same name and descriptor as the task.
+ * @param reductions
+ *     Operation of each {@code @Reduce} parameter of the task, indexed by parameter. The entries of the other
+ *     parameters are {@code null}.
+ * @param vectorized
+ *     Whether the parallel loop of the kernel runs with vector operations.
+ */
+public record JVMParallelKernel(String className, byte[] classFile, REDUCE_OPERATION[] reductions, boolean vectorized) {
+}
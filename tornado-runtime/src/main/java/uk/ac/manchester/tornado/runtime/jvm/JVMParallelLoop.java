@@ -0,0 +1,80 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+/**
+ * Splits the outermost {@code @Parallel} loop of a task across the workers of the {@link JVMExecutionEngine}. The
+ * kernels generated by the {@link JVMKernelGenerator} call these methods when they enter the loop: the loop variable
+ * starts at {@link #lowerBound} and the loop exits at {@link #upperBound}. Each worker gets a contiguous block of
+ * iterations, so the workers do not write to the same cache lines except at the edges of the blocks.
+ *
+ * <p>
+ * The loops are normalised to {@code for (int i = init; i < bound; i += step)} with a positive constant step. A
+ * kernel called outside the engine runs the whole loop.
+ * </p>
+ */
+public final class JVMParallelLoop {
+
+    private static final ThreadLocal<int[]> WORKER = new ThreadLocal<>();
+
+    private JVMParallelLoop() {
+    }
+
+    static void enter(int worker, int numWorkers) {
+        WORKER.set(new int[] { worker, numWorkers });
+    }
+
+    static void exit() {
+        WORKER.remove();
+    }
+
+    private static long numIterations(int init, int bound, int step) {
+        return (bound > init) ? ((long) bound - init + step - 1) / step : 0;
+    }
+
+    private static long blockStart(long iterations, int block) {
+        int[] worker = WORKER.get();
+        if (worker == null) {
+            return (block == 0) ? 0 : iterations;
+        }
+        return iterations * (worker[0] + block) / worker[1];
+    }
+
+    /**
+     * First value of the loop variable for the calling worker.
+     */
+    public static int lowerBound(int init, int bound, int step) {
+        long iterations = numIterations(init, bound, step);
+        return (int) (init + blockStart(iterations, 0) * step);
+    }
+
+    /**
+     * Value of the loop variable at which the calling worker exits the loop.
+     */
+    public static int upperBound(int init, int bound, int step) {
+        long iterations = numIterations(init, bound, step);
+        long end = blockStart(iterations, 1);
+        return (end == iterations) ? Math.max(bound, init) : (int) (init + end * step);
+    }
+}
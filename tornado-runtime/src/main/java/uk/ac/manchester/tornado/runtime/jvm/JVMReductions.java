@@ -0,0 +1,176 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.util.Arrays;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.LongArray;
+import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis.REDUCE_OPERATION;
+
+/**
+ * Partial results of the {@code @Reduce} parameters of a task that runs on the {@link JVMExecutionEngine}. The first
+ * worker accumulates into the array of the caller and every other worker into a copy filled with the identity of the
+ * operation. When the workers finish, the copies are merged into the array of the caller in the order of the workers,
+ * so the result does not depend on how the threads are scheduled.
+ */
+final class JVMReductions {
+
+    private JVMReductions() {
+    }
+
+    static boolean isSupported(Object array) {
+        return array instanceof FloatArray || array instanceof DoubleArray || array instanceof IntArray || array instanceof LongArray || array instanceof float[] || array instanceof double[]
+                || array instanceof int[] || array instanceof long[];
+    }
+
+    private static double identity(REDUCE_OPERATION operation, double min, double max) {
+        return switch (operation) {
+            case SUM -> 0;
+            case MUL -> 1;
+            case MIN -> max;
+            case MAX -> min;
+        };
+    }
+
+    private static long identity(REDUCE_OPERATION operation, long min, long max) {
+        return switch (operation) {
+            case SUM -> 0;
+            case MUL -> 1;
+            case MIN -> max;
+            case MAX -> min;
+        };
+    }
+
+    /**
+     * Returns an array of the same type and size as {@code array} filled with the identity of {@code operation}.
+     */
+    static Object newPartial(Object array, REDUCE_OPERATION operation) {
+        if (array instanceof FloatArray floatArray) {
+            FloatArray partial = new FloatArray(floatArray.getSize());
+            partial.init((float) identity(operation, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY));
+            return partial;
+        } else if (array instanceof DoubleArray doubleArray) {
+            DoubleArray partial = new DoubleArray(doubleArray.getSize());
+            partial.init(identity(operation, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+            return partial;
+        } else if (array instanceof IntArray intArray) {
+            IntArray partial = new IntArray(intArray.getSize());
+            partial.init((int) identity(operation, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            return partial;
+        } else if (array instanceof LongArray longArray) {
+            LongArray partial = new LongArray(longArray.getSize());
+            partial.init(identity(operation, Long.MIN_VALUE, Long.MAX_VALUE));
+            return partial;
+        } else if (array instanceof float[] floats) {
+            float[] partial = new float[floats.length];
+            Arrays.fill(partial, (float) identity(operation, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY));
+            return partial;
+        } else if (array instanceof double[] doubles) {
+            double[] partial = new double[doubles.length];
+            Arrays.fill(partial, identity(operation, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+            return partial;
+        } else if (array instanceof int[] ints) {
+            int[] partial = new int[ints.length];
+            Arrays.fill(partial, (int) identity(operation, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            return partial;
+        } else if (array instanceof long[] longs) {
+            long[] partial = new long[longs.length];
+            Arrays.fill(partial, identity(operation, Long.MIN_VALUE, Long.MAX_VALUE));
+            return partial;
+        }
+        throw new TornadoRuntimeException("[JVM] Reduction not supported for " + array.getClass().getName());
+    }
+
+    private static double apply(REDUCE_OPERATION operation, double a, double b) {
+        return switch (operation) {
+            case SUM -> a + b;
+            case MUL -> a * b;
+            case MIN -> Math.min(a, b);
+            case MAX -> Math.max(a, b);
+        };
+    }
+
+    private static float apply(REDUCE_OPERATION operation, float a, float b) {
+        return switch (operation) {
+            case SUM -> a + b;
+            case MUL -> a * b;
+            case MIN -> Math.min(a, b);
+            case MAX -> Math.max(a, b);
+        };
+    }
+
+    private static long apply(REDUCE_OPERATION operation, long a, long b) {
+        return switch (operation) {
+            case SUM -> a + b;
+            case MUL -> a * b;
+            case MIN -> Math.min(a, b);
+            case MAX -> Math.max(a, b);
+        };
+    }
+
+    /**
+     * Merges the partial result of a worker into the array of the caller.
+     */
+    static void merge(Object array, Object partial, REDUCE_OPERATION operation) {
+        if (array instanceof FloatArray result && partial instanceof FloatArray values) {
+            for (int i = 0; i < result.getSize(); i++) {
+                result.set(i, apply(operation, result.get(i), values.get(i)));
+            }
+        } else if (array instanceof DoubleArray result && partial instanceof DoubleArray values) {
+            for (int i = 0; i < result.getSize(); i++) {
+                result.set(i, apply(operation, result.get(i), values.get(i)));
+            }
+        } else if (array instanceof IntArray result && partial instanceof IntArray values) {
+            for (int i = 0; i < result.getSize(); i++) {
+                result.set(i, (int) apply(operation, result.get(i), values.get(i)));
+            }
+        } else if (array instanceof LongArray result && partial instanceof LongArray values) {
+            for (int i = 0; i < result.getSize(); i++) {
+                result.set(i, apply(operation, result.get(i), values.get(i)));
+            }
+        } else if (array instanceof float[] result && partial instanceof float[] values) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = apply(operation, result[i], values[i]);
+            }
+        } else if (array instanceof double[] result && partial instanceof double[] values) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = apply(operation, result[i], values[i]);
+            }
+        } else if (array instanceof int[] result && partial instanceof int[] values) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (int) apply(operation, result[i], values[i]);
+            }
+        } else if (array instanceof long[] result && partial instanceof long[] values) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = apply(operation, result[i], values[i]);
+            }
+        } else {
+            throw new TornadoRuntimeException("[JVM] Reduction not supported for " + array.getClass().getName());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+
+/**
+ * Vector operations called by the kernels of the {@link JVMKernelGenerator} when the body of a {@code @Parallel} loop
+ * is vectorised. Each call processes {@link #lanes()} consecutive iterations of the loop with the preferred vector
+ * shape of the host, so the generated code does not depend on the width of the SIMD unit.
+ *
+ * <p>
+ * The float and int species have the same number of lanes, so a loop body can mix both types. The arrays are
+ * accessed through their {@link MemorySegment}, skipping the TornadoVM header, with the bounds checks of the Vector
+ * API. Each operation has the semantics of the scalar Java operation it replaces.
+ * </p>
+ */
+public final class JVMVectorOps {
+
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final ByteOrder BYTE_ORDER = ByteOrder.nativeOrder();
+    private static final long HEADER = TornadoNativeArray.ARRAY_HEADER;
+
+    private JVMVectorOps() {
+    }
+
+    /**
+     * Number of loop iterations processed by each vector operation.
+     */
+    public static int lanes() {
+        return FLOAT_SPECIES.length();
+    }
+
+    /**
+     * Value of the loop variable at which the vector loop exits: the iterations from {@code lower} to the returned
+     * value are a multiple of {@link #lanes()}, and the remaining ones run in the scalar loop.
+     */
+    public static int vectorBound(int lower, int upper) {
+        return (upper > lower) ? lower + FLOAT_SPECIES.loopBound(upper - lower) : lower;
+    }
+
+    private static long offset(int index) {
+        return HEADER + ((long) index << 2);
+    }
+
+    public static FloatVector load(FloatArray array, int index) {
+        return FloatVector.fromMemorySegment(FLOAT_SPECIES, array.getSegmentWithHeader(), offset(index), BYTE_ORDER);
+    }
+
+    public static void store(FloatArray array, int index, FloatVector value) {
+        value.intoMemorySegment(array.getSegmentWithHeader(), offset(index), BYTE_ORDER);
+    }
+
+    public static IntVector load(IntArray array, int index) {
+        return IntVector.fromMemorySegment(INT_SPECIES, array.getSegmentWithHeader(), offset(index), BYTE_ORDER);
+    }
+
+    public static void store(IntArray array, int index, IntVector value) {
+        value.intoMemorySegment(array.getSegmentWithHeader(), offset(index), BYTE_ORDER);
+    }
+
+    public static FloatVector broadcast(float value) {
+        return FloatVector.broadcast(FLOAT_SPECIES, value);
+    }
+
+    public static IntVector broadcast(int value) {
+        return IntVector.broadcast(INT_SPECIES, value);
+    }
+
+    public static FloatVector add(FloatVector a, FloatVector b) {
+        return a.add(b);
+    }
+
+    public static FloatVector sub(FloatVector a, FloatVector b) {
+        return a.sub(b);
+    }
+
+    public static FloatVector mul(FloatVector a, FloatVector b) {
+        return a.mul(b);
+    }
+
+    public static FloatVector div(FloatVector a, FloatVector b) {
+        return a.div(b);
+    }
+
+    public static FloatVector neg(FloatVector a) {
+        return a.neg();
+    }
+
+    public static FloatVector min(FloatVector a, FloatVector b) {
+        return a.min(b);
+    }
+
+    public static FloatVector max(FloatVector a, FloatVector b) {
+        return a.max(b);
+    }
+
+    public static FloatVector abs(FloatVector a) {
+        return a.abs();
+    }
+
+    public static FloatVector sqrt(FloatVector a) {
+        return a.sqrt();
+    }
+
+    public static FloatVector fma(FloatVector a, FloatVector b, FloatVector c) {
+        return a.fma(b, c);
+    }
+
+    public static IntVector add(IntVector a, IntVector b) {
+        return a.add(b);
+    }
+
+    public static IntVector sub(IntVector a, IntVector b) {
+        return a.sub(b);
+    }
+
+    public static IntVector mul(IntVector a, IntVector b) {
+        return a.mul(b);
+    }
+
+    public static IntVector neg(IntVector a) {
+        return a.neg();
+    }
+
+    public static IntVector min(IntVector a, IntVector b) {
+        return a.min(b);
+    }
+
+    public static IntVector max(IntVector a, IntVector b) {
+        return a.max(b);
+    }
+
+    public static IntVector abs(IntVector a) {
+        return a.abs();
+    }
+
+    public static IntVector and(IntVector a, IntVector b) {
+        return a.and(b);
+    }
+
+    public static IntVector or(IntVector a, IntVector b) {
+        return a.or(b);
+    }
+
+    public static IntVector xor(IntVector a, IntVector b) {
+        return a.lanewise(VectorOperators.XOR, b);
+    }
+
+    public static FloatVector toFloat(IntVector a) {
+        return (FloatVector) a.convertShape(VectorOperators.I2F, FLOAT_SPECIES, 0);
+    }
+
+    public static IntVector toInt(FloatVector a) {
+        return (IntVector) a.convertShape(VectorOperators.F2I, INT_SPECIES, 0);
+    }
+}
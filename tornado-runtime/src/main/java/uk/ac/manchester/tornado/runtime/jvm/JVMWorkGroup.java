@@ -0,0 +1,97 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.jvm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.IntFunction;
+
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+
+/**
+ * State shared by the work-items of a work-group that runs on the {@link JVMExecutionEngine}: the barrier used by
+ * {@code localBarrier()} and {@code globalBarrier()}, and the arrays allocated in local memory.
+ *
+ * <p>
+ * When the work-items of a group run one after another the group has no barrier; a kernel that synchronises its
+ * work-items always runs them concurrently, on one virtual thread per work-item.
+ * </p>
+ */
+final class JVMWorkGroup {
+
+    private final CyclicBarrier barrier;
+    private final List<Object> localArrays = new ArrayList<>();
+    private volatile Throwable failure;
+
+    JVMWorkGroup(int numWorkItems) {
+        this.barrier = (numWorkItems > 1) ? new CyclicBarrier(numWorkItems) : null;
+    }
+
+    void await() {
+        if (barrier == null) {
+            return;
+        }
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TornadoRuntimeException("[JVM] Work-item interrupted at a barrier");
+        } catch (BrokenBarrierException e) {
+            throw new TornadoRuntimeException("[JVM] Another work-item of the group failed: " + failure);
+        }
+    }
+
+    /**
+     * Returns the {@code index}-th array allocated in local memory by the work-items of the group. The first
+     * work-item that reaches the allocation creates the array; the others get the same array, as they would on a
+     * GPU.
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T> T localArray(int index, int size, IntFunction<T> allocator) {
+        if (index < localArrays.size()) {
+            return (T) localArrays.get(index);
+        }
+        T array = allocator.apply(size);
+        localArrays.add(array);
+        return array;
+    }
+
+    /**
+     * Records the failure of a work-item and releases the work-items waiting at the barrier.
+     */
+    void fail(Throwable throwable) {
+        if (failure == null) {
+            failure = throwable;
+        }
+        if (barrier != null) {
+            barrier.reset();
+        }
+    }
+
+    Throwable getFailure() {
+        return failure;
+    }
+}
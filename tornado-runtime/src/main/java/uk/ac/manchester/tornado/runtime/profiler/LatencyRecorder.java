@@ -0,0 +1,75 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
+
+/**
+ * Lock-free recorder of latency values. Recording a value does not allocate: the bucket counts live in a
+ * pre-allocated array, and the sum, minimum and maximum are striped accumulators, so threads that record values
+ * concurrently (e.g., tasks running on concurrent devices) do not contend on a single counter.
+ *
+ * <p>
+ * The bucket layout is the one of {@link ProfilerHistogram}, which is also the type of the snapshots returned by
+ * {@link #snapshot()}.
+ * </p>
+ */
+public class LatencyRecorder {
+
+    private final AtomicLongArray counts;
+    private final LongAdder sum;
+    private final LongAccumulator min;
+    private final LongAccumulator max;
+
+    public LatencyRecorder() {
+        counts = new AtomicLongArray(ProfilerHistogram.NUM_BUCKETS);
+        sum = new LongAdder();
+        min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    }
+
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        counts.getAndIncrement(ProfilerHistogram.bucketIndex(v));
+        sum.add(v);
+        min.accumulate(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * It returns a copy of the values recorded so far. Values recorded while the snapshot is taken may be missing from
+     * it.
+     */
+    public ProfilerHistogram snapshot() {
+        long[] buckets = new long[ProfilerHistogram.NUM_BUCKETS];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = counts.get(i);
+        }
+        return new ProfilerHistogram(buckets, min.get(), max.get(), sum.sum());
+    }
+}
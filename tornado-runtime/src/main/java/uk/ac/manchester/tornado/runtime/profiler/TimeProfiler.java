@@ -23,14 +23,29 @@
  */
 package uk.ac.manchester.tornado.runtime.profiler;
 
-import java.util.HashMap;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongBinaryOperator;
 
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 
+/**
+ * Profiler of a task-graph. Metrics are stored in arrays indexed by the ordinal of their {@link ProfilerType}, and
+ * tasks are registered once (when the method handles are registered before the first execution), so the methods
+ * called during an execution neither lock nor allocate.
+ *
+ * <p>
+ * Besides the timers of the last execution, the profiler keeps the distribution of the kernel, copy-in, copy-out and
+ * total times of every execution since it was created (see {@link #getHistogram} and {@link #getTaskHistogram}). An
+ * execution is recorded in the histograms when its {@link ProfilerType#TOTAL_TASK_GRAPH_TIME} timer is stopped.
+ * </p>
+ */
 public class TimeProfiler implements TornadoProfiler {
 
     /**
@@ -40,162 +55,245 @@ public class TimeProfiler implements TornadoProfiler {
      */
     public static String NO_TASK_NAME = "noTask";
 
-    private HashMap<ProfilerType, Long> profilerTime;
-    private HashMap<String, HashMap<ProfilerType, Long>> taskTimers;
-    private HashMap<String, HashMap<ProfilerType, String>> taskPowerMetrics;
-    private HashMap<String, HashMap<ProfilerType, Long>> taskSizeMetrics;
-    private HashMap<String, HashMap<ProfilerType, String>> taskDeviceIdentifiers;
-    private HashMap<String, HashMap<ProfilerType, String>> taskMethodNames;
+    /**
+     * Timers of the task-graph that are recorded in a histogram at the end of each execution.
+     */
+    private static final ProfilerType[] EXECUTION_HISTOGRAMS = { ProfilerType.TOTAL_KERNEL_TIME, ProfilerType.COPY_IN_TIME, ProfilerType.COPY_OUT_TIME, ProfilerType.TOTAL_TASK_GRAPH_TIME };
+
+    private static final ProfilerType[] TYPES = ProfilerType.values();
+
+    /**
+     * Marks a metric that has not been set since the last {@link #clean()}.
+     */
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private static final LongBinaryOperator ADD = (current, value) -> (current == UNSET ? 0 : current) + value;
+
+    private final AtomicLongArray profilerTime;
+    private final AtomicLongArray startTime;
+    private final LatencyRecorder[] histograms;
+    private final Map<String, TaskMetrics> tasks;
+
+    private final StringBuilder indent;
 
-    private HashMap<String, HashMap<ProfilerType, String>> taskBackends;
+    /**
+     * Metrics of a single task.
+     */
+    private static final class TaskMetrics {
+        private final AtomicLongArray timers;
+        private final AtomicLongArray startTime;
+        private final AtomicLongArray sizes;
+        private final AtomicReferenceArray<String> powerMetrics;
+        private final LatencyRecorder kernelHistogram;
+        private volatile String backend;
+        private volatile String methodName;
+        private volatile String deviceID;
+        private volatile String deviceName;
+
+        private TaskMetrics(String taskName) {
+            timers = unsetArray();
+            startTime = unsetArray();
+            sizes = unsetArray();
+            powerMetrics = new AtomicReferenceArray<>(TYPES.length);
+            kernelHistogram = new LatencyRecorder();
+        }
 
-    private StringBuilder indent;
+        private boolean hasTimers() {
+            return isAnySet(timers);
+        }
+
+        private boolean hasPowerMetrics() {
+            for (int i = 0; i < TYPES.length; i++) {
+                if (powerMetrics.get(i) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 
     public TimeProfiler() {
-        profilerTime = new HashMap<>();
-        taskTimers = new HashMap<>();
-        taskPowerMetrics = new HashMap<>();
-        taskDeviceIdentifiers = new HashMap<>();
-        taskMethodNames = new HashMap<>();
-        taskSizeMetrics = new HashMap<>();
-        taskBackends = new HashMap<>();
-        indent = new StringBuilder("");
+        profilerTime = unsetArray();
+        startTime = unsetArray();
+        histograms = new LatencyRecorder[TYPES.length];
+        for (ProfilerType type : EXECUTION_HISTOGRAMS) {
+            histograms[type.ordinal()] = new LatencyRecorder();
+        }
+        tasks = new ConcurrentHashMap<>();
+        indent = new StringBuilder();
     }
 
-    @Override
-    public synchronized void addValueToMetric(ProfilerType type, String taskName, long value) {
-        if (!taskSizeMetrics.containsKey(taskName)) {
-            taskSizeMetrics.put(taskName, new HashMap<>());
+    private static AtomicLongArray unsetArray() {
+        AtomicLongArray array = new AtomicLongArray(TYPES.length);
+        clear(array);
+        return array;
+    }
+
+    private static void clear(AtomicLongArray array) {
+        for (int i = 0; i < array.length(); i++) {
+            array.setRelease(i, UNSET);
+        }
+    }
+
+    private static boolean isAnySet(AtomicLongArray array) {
+        for (int i = 0; i < array.length(); i++) {
+            if (array.get(i) != UNSET) {
+                return true;
+            }
         }
-        HashMap<ProfilerType, Long> profilerType = taskSizeMetrics.get(taskName);
-        profilerType.put(type, profilerType.get(type) != null ? profilerType.get(type) + value : value);
-        taskSizeMetrics.put(taskName, profilerType);
+        return false;
+    }
+
+    private static long valueOf(AtomicLongArray array, ProfilerType type) {
+        long value = array.get(type.ordinal());
+        return value == UNSET ? 0 : value;
+    }
+
+    private TaskMetrics task(String taskName) {
+        TaskMetrics metrics = tasks.get(taskName);
+        return metrics != null ? metrics : tasks.computeIfAbsent(taskName, TaskMetrics::new);
     }
 
     @Override
-    public synchronized void start(ProfilerType type) {
-        long start = System.nanoTime();
-        profilerTime.put(type, start);
+    public void addValueToMetric(ProfilerType type, String taskName, long value) {
+        task(taskName).sizes.accumulateAndGet(type.ordinal(), value, ADD);
     }
 
     @Override
-    public synchronized void start(ProfilerType type, String taskName) {
-        long start = System.nanoTime();
-        if (!taskTimers.containsKey(taskName)) {
-            taskTimers.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, Long> profilerType = taskTimers.get(taskName);
-        profilerType.put(type, start);
-        taskTimers.put(taskName, profilerType);
+    public void start(ProfilerType type) {
+        startTime.setRelease(type.ordinal(), System.nanoTime());
     }
 
     @Override
-    public synchronized void registerMethodHandle(ProfilerType type, String taskName, String methodName) {
-        if (!taskMethodNames.containsKey(taskName)) {
-            taskMethodNames.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskMethodNames.get(taskName);
-        profilerType.put(type, methodName);
-        taskMethodNames.put(methodName, profilerType);
+    public void start(ProfilerType type, String taskName) {
+        task(taskName).startTime.setRelease(type.ordinal(), System.nanoTime());
     }
 
     @Override
-    public synchronized void registerDeviceName(String taskName, String deviceInfo) {
-        if (!taskDeviceIdentifiers.containsKey(taskName)) {
-            taskDeviceIdentifiers.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskDeviceIdentifiers.get(taskName);
-        profilerType.put(ProfilerType.DEVICE, deviceInfo);
-        taskDeviceIdentifiers.put(taskName, profilerType);
+    public void registerMethodHandle(ProfilerType type, String taskName, String methodName) {
+        task(taskName).methodName = methodName;
     }
 
     @Override
-    public synchronized void registerBackend(String taskName, String backend) {
-        if (!taskBackends.containsKey(taskName)) {
-            taskBackends.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskBackends.get(taskName);
+    public void registerDeviceName(String taskName, String deviceInfo) {
+        task(taskName).deviceName = deviceInfo;
+    }
 
-        profilerType.put(ProfilerType.BACKEND, backend);
-        taskBackends.put(taskName, profilerType);
+    @Override
+    public void registerBackend(String taskName, String backend) {
+        task(taskName).backend = backend;
     }
 
     @Override
-    public synchronized void registerDeviceID(String taskName, String deviceID) {
-        if (!taskDeviceIdentifiers.containsKey(taskName)) {
-            taskDeviceIdentifiers.put(taskName, new HashMap<>());
-        }
-        HashMap<ProfilerType, String> profilerType = taskDeviceIdentifiers.get(taskName);
-        profilerType.put(ProfilerType.DEVICE_ID, deviceID);
-        taskDeviceIdentifiers.put(taskName, profilerType);
+    public void registerDeviceID(String taskName, String deviceID) {
+        task(taskName).deviceID = deviceID;
     }
 
     @Override
-    public synchronized void stop(ProfilerType type) {
+    public void stop(ProfilerType type) {
         long end = System.nanoTime();
-        long start = profilerTime.get(type);
-        long total = end - start;
-        profilerTime.put(type, total);
+        long start = startTime.get(type.ordinal());
+        if (start == UNSET) {
+            return;
+        }
+        profilerTime.setRelease(type.ordinal(), end - start);
+        if (type == ProfilerType.TOTAL_TASK_GRAPH_TIME) {
+            recordExecution();
+        }
+    }
+
+    private void recordExecution() {
+        for (ProfilerType type : EXECUTION_HISTOGRAMS) {
+            long value = profilerTime.get(type.ordinal());
+            if (value != UNSET) {
+                histograms[type.ordinal()].record(value);
+            }
+        }
     }
 
     @Override
-    public synchronized void stop(ProfilerType type, String taskName) {
+    public void stop(ProfilerType type, String taskName) {
         long end = System.nanoTime();
-        HashMap<ProfilerType, Long> profiledType = taskTimers.get(taskName);
-        long start = profiledType.get(type);
-        long total = end - start;
-        profiledType.put(type, total);
-        taskTimers.put(taskName, profiledType);
+        TaskMetrics metrics = task(taskName);
+        long start = metrics.startTime.get(type.ordinal());
+        if (start == UNSET) {
+            return;
+        }
+        metrics.timers.setRelease(type.ordinal(), end - start);
     }
 
     @Override
     public long getTimer(ProfilerType type) {
-        if (!profilerTime.containsKey(type)) {
-            return 0;
-        }
-        return profilerTime.get(type);
+        return valueOf(profilerTime, type);
     }
 
     @Override
     public long getSize(ProfilerType type) {
         // for all tasks in the task graph, accumulate the size
-        Set<String> strings = taskSizeMetrics.keySet();
         long size = 0;
-        for (String s : taskSizeMetrics.keySet()) {
-            HashMap<ProfilerType, Long> copySizes = taskSizeMetrics.get(s);
-            if (copySizes.containsKey(type)) {
-                size += copySizes.get(type);
-            }
+        for (TaskMetrics metrics : tasks.values()) {
+            size += valueOf(metrics.sizes, type);
         }
         return size;
     }
 
     @Override
     public long getTaskTimer(ProfilerType type, String taskName) {
-        if (!taskTimers.containsKey(taskName)) {
-            return 0;
-        }
-        if (!taskTimers.get(taskName).containsKey(type)) {
-            return 0;
-        }
-        return taskTimers.get(taskName).get(type);
+        TaskMetrics metrics = tasks.get(taskName);
+        return metrics == null ? 0 : valueOf(metrics.timers, type);
     }
 
     @Override
-    public synchronized void setTimer(ProfilerType type, long time) {
-        profilerTime.put(type, time);
+    public void setTimer(ProfilerType type, long time) {
+        profilerTime.setRelease(type.ordinal(), time);
     }
 
     @Override
-    public synchronized void dump() {
-        for (ProfilerType p : profilerTime.keySet()) {
-            System.out.println("[PROFILER] " + p.getDescription() + ": " + profilerTime.get(p));
+    public ProfilerHistogram getHistogram(ProfilerType type) {
+        LatencyRecorder recorder = histograms[type.ordinal()];
+        return recorder == null ? ProfilerHistogram.EMPTY : recorder.snapshot();
+    }
+
+    @Override
+    public ProfilerHistogram getTaskHistogram(ProfilerType type, String taskName) {
+        TaskMetrics metrics = tasks.get(taskName);
+        if (metrics == null || type != ProfilerType.TASK_KERNEL_TIME) {
+            return ProfilerHistogram.EMPTY;
         }
+        return metrics.kernelHistogram.snapshot();
+    }
 
-        for (String p : taskTimers.keySet()) {
-            System.out.println("[PROFILER-TASK] " + p + ": " + taskTimers.get(p));
+    @Override
+    public void dump() {
+        for (ProfilerType p : TYPES) {
+            if (profilerTime.get(p.ordinal()) != UNSET) {
+                System.out.println("[PROFILER] " + p.getDescription() + ": " + profilerTime.get(p.ordinal()));
+            }
+        }
+
+        for (Map.Entry<String, TaskMetrics> entry : tasks.entrySet()) {
+            if (entry.getValue().hasTimers()) {
+                System.out.println("[PROFILER-TASK] " + entry.getKey() + ": " + timersToString(entry.getValue().timers));
+            }
+        }
+
+        for (ProfilerType p : EXECUTION_HISTOGRAMS) {
+            ProfilerHistogram histogram = getHistogram(p);
+            if (histogram.getCount() > 0) {
+                System.out.println("[PROFILER-HISTOGRAM] " + p.getDescription() + ": " + histogram);
+            }
+        }
+    }
 
+    private static String timersToString(AtomicLongArray timers) {
+        StringBuilder builder = new StringBuilder("{");
+        for (ProfilerType p : TYPES) {
+            long value = timers.get(p.ordinal());
+            if (value != UNSET) {
+                builder.append(builder.length() > 1 ? ", " : "").append(p).append("=").append(value);
+            }
         }
+        return builder.append("}").toString();
     }
 
     private void increaseIndent() {
@@ -214,48 +312,57 @@ public class TimeProfiler implements TornadoProfiler {
         json.append("\n");
     }
 
+    private void appendValues(StringBuilder json, AtomicLongArray values) {
+        for (ProfilerType p : TYPES) {
+            long value = values.get(p.ordinal());
+            if (value != UNSET) {
+                json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + value + "\",\n");
+            }
+        }
+    }
+
     @Override
     public String createJson(StringBuilder json, String sectionName) {
         json.append("{\n");
         increaseIndent();
         json.append(indent.toString() + "\"" + sectionName + "\": " + "{\n");
         increaseIndent();
-        for (ProfilerType p : profilerTime.keySet()) {
-            json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + profilerTime.get(p) + "\",\n");
-        }
-        if (taskSizeMetrics.containsKey(NO_TASK_NAME)) {
-            HashMap<ProfilerType, Long> noTaskValues = taskSizeMetrics.get(NO_TASK_NAME);
-            for (ProfilerType p : noTaskValues.keySet()) {
-                json.append(indent.toString() + "\"" + p + "\"" + ": " + "\"" + noTaskValues.get(p) + "\",\n");
-            }
+        appendValues(json, profilerTime);
+        TaskMetrics noTaskValues = tasks.get(NO_TASK_NAME);
+        if (noTaskValues != null) {
+            appendValues(json, noTaskValues.sizes);
         }
 
-        final int size = taskTimers.keySet().size();
+        int size = 0;
+        for (TaskMetrics metrics : tasks.values()) {
+            size += metrics.hasTimers() ? 1 : 0;
+        }
         int counter = 0;
-        for (String p : taskTimers.keySet()) {
-            json.append(indent.toString() + "\"" + p + "\"" + ": {\n");
+        for (Map.Entry<String, TaskMetrics> entry : tasks.entrySet()) {
+            TaskMetrics metrics = entry.getValue();
+            if (!metrics.hasTimers()) {
+                continue;
+            }
+            json.append(indent.toString() + "\"" + entry.getKey() + "\"" + ": {\n");
             increaseIndent();
             counter++;
             if (TornadoOptions.LOG_IP) {
                 json.append(indent.toString() + "\"" + "IP" + "\"" + ": " + "\"" + RuntimeUtilities.getTornadoInstanceIP() + "\",\n");
             }
-            json.append(indent.toString() + "\"" + ProfilerType.BACKEND + "\"" + ": " + "\"" + taskBackends.get(p).get(ProfilerType.BACKEND) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.METHOD + "\"" + ": " + "\"" + taskMethodNames.get(p).get(ProfilerType.METHOD) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.DEVICE_ID + "\"" + ": " + "\"" + taskDeviceIdentifiers.get(p).get(ProfilerType.DEVICE_ID) + "\",\n");
-            json.append(indent.toString() + "\"" + ProfilerType.DEVICE + "\"" + ": " + "\"" + taskDeviceIdentifiers.get(p).get(ProfilerType.DEVICE) + "\",\n");
-            if (taskSizeMetrics.containsKey(p)) {
-                for (ProfilerType p1 : taskSizeMetrics.get(p).keySet()) {
-                    json.append(indent.toString() + "\"" + p1 + "\"" + ": " + "\"" + taskSizeMetrics.get(p).get(p1) + "\",\n");
-                }
-            }
-            if (taskPowerMetrics.containsKey(p)) {
-                for (ProfilerType p1 : taskPowerMetrics.get(p).keySet()) {
-                    json.append(indent.toString() + "\"" + p1 + "\"" + ": " + "\"" + taskPowerMetrics.get(p).get(p1) + "\",\n");
+            json.append(indent.toString() + "\"" + ProfilerType.BACKEND + "\"" + ": " + "\"" + metrics.backend + "\",\n");
+            json.append(indent.toString() + "\"" + ProfilerType.METHOD + "\"" + ": " + "\"" + metrics.methodName + "\",\n");
+            json.append(indent.toString() + "\"" + ProfilerType.DEVICE_ID + "\"" + ": " + "\"" + metrics.deviceID + "\",\n");
+            json.append(indent.toString() + "\"" + ProfilerType.DEVICE + "\"" + ": " + "\"" + metrics.deviceName + "\",\n");
+            appendValues(json, metrics.sizes);
+            if (metrics.hasPowerMetrics()) {
+                for (ProfilerType p1 : TYPES) {
+                    String value = metrics.powerMetrics.get(p1.ordinal());
+                    if (value != null) {
+                        json.append(indent.toString() + "\"" + p1 + "\"" + ": " + "\"" + value + "\",\n");
+                    }
                 }
             }
-            for (ProfilerType p2 : taskTimers.get(p).keySet()) {
-                json.append(indent.toString() + "\"" + p2 + "\"" + ": " + "\"" + taskTimers.get(p).get(p2) + "\",\n");
-            }
+            appendValues(json, metrics.timers);
             json.delete(json.length() - 2, json.length() - 1); // remove last comma
             decreaseIndent();
             closeScope(json);
@@ -274,67 +381,51 @@ public class TimeProfiler implements TornadoProfiler {
     }
 
     @Override
-    public synchronized void dumpJson(StringBuilder json, String id) {
+    public void dumpJson(StringBuilder json, String id) {
         String jsonContent = createJson(json, id);
         System.out.println(jsonContent);
     }
 
+    /**
+     * Resets the timers and sizes of the last execution. The registered tasks and the histograms are kept.
+     */
     @Override
-    public synchronized void clean() {
-        taskSizeMetrics.clear();
-        profilerTime.clear();
-        taskTimers.clear();
-        indent = new StringBuilder("");
+    public void clean() {
+        clear(profilerTime);
+        for (TaskMetrics metrics : tasks.values()) {
+            clear(metrics.timers);
+            clear(metrics.sizes);
+        }
+        indent.setLength(0);
     }
 
     @Override
-    public synchronized void setTaskTimer(ProfilerType type, String taskID, long timer) {
-        if (!taskTimers.containsKey(taskID)) {
-            taskTimers.put(taskID, new HashMap<>());
+    public void setTaskTimer(ProfilerType type, String taskID, long timer) {
+        TaskMetrics metrics = task(taskID);
+        metrics.timers.setRelease(type.ordinal(), timer);
+        if (type == ProfilerType.TASK_KERNEL_TIME) {
+            metrics.kernelHistogram.record(timer);
         }
-        taskTimers.get(taskID).put(type, timer);
     }
 
     @Override
-    public synchronized void setTaskPowerUsage(ProfilerType type, String taskID, long power) {
-        if (!taskPowerMetrics.containsKey(taskID)) {
-            taskPowerMetrics.put(taskID, new HashMap<>());
-        }
-        if (power > 0) {
-            taskPowerMetrics.get(taskID).put(type, Long.toString(power));
-        } else {
-            taskPowerMetrics.get(taskID).put(type, "n/a");
-        }
+    public void setTaskPowerUsage(ProfilerType type, String taskID, long power) {
+        task(taskID).powerMetrics.set(type.ordinal(), power > 0 ? Long.toString(power) : "n/a");
     }
 
     @Override
     public void setSystemPowerConsumption(ProfilerType systemPowerConsumptionType, String taskID, long powerConsumption) {
-        if (!taskPowerMetrics.containsKey(taskID)) {
-            taskPowerMetrics.put(taskID, new HashMap<>());
-        }
-        if (powerConsumption > 0) {
-            taskPowerMetrics.get(taskID).put(systemPowerConsumptionType, Long.toString(powerConsumption));
-        } else {
-            taskPowerMetrics.get(taskID).put(systemPowerConsumptionType, "n/a");
-        }
+        task(taskID).powerMetrics.set(systemPowerConsumptionType.ordinal(), powerConsumption > 0 ? Long.toString(powerConsumption) : "n/a");
     }
 
     @Override
     public void setSystemVoltage(ProfilerType systemPowerVoltageType, String taskID, long voltage) {
-        if (!taskPowerMetrics.containsKey(taskID)) {
-            taskPowerMetrics.put(taskID, new HashMap<>());
-        }
-        if (voltage > 0) {
-            taskPowerMetrics.get(taskID).put(systemPowerVoltageType, Float.toString(voltage));
-        } else {
-            taskPowerMetrics.get(taskID).put(systemPowerVoltageType, "n/a");
-        }
+        task(taskID).powerMetrics.set(systemPowerVoltageType.ordinal(), voltage > 0 ? Float.toString(voltage) : "n/a");
     }
 
     @Override
-    public synchronized void sum(ProfilerType acc, long value) {
-        long sum = getTimer(acc) + value;
-        profilerTime.put(acc, sum);
+    public void sum(ProfilerType acc, long value) {
+        profilerTime.accumulateAndGet(acc.ordinal(), value, ADD);
     }
 
 }
@@ -45,6 +45,15 @@ public class Sketch {
         this.batchWriteThreadIndex = batchWriteThreadIndex;
     }
 
+    /**
+     * Returns whether the sketch holds the graph of the method. The sketches restored from the
+     * {@link uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache} only hold the argument accesses, and the
+     * graph is built when the method has to be compiled.
+     */
+    public boolean hasGraph() {
+        return graph != null;
+    }
+
     public Graph getGraph() {
         return graph;
     }
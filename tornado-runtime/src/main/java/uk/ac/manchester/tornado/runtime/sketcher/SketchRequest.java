@@ -27,6 +27,7 @@ import org.graalvm.compiler.phases.tiers.HighTierContext;
 import org.graalvm.compiler.phases.util.Providers;
 
 import jdk.vm.ci.meta.ResolvedJavaMethod;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSketchTier;
 
 public class SketchRequest {
@@ -48,6 +49,13 @@ public class SketchRequest {
     }
 
     public void run() {
+        if (PersistentKernelCache.isEnabled()) {
+            PersistentKernelCache.SketchEntry entry = PersistentKernelCache.lookupSketch(resolvedMethod, driverIndex, deviceIndex);
+            if (entry != null) {
+                TornadoSketcher.registerPersistedSketch(this, entry.argumentsAccess(), entry.batchWriteThreadIndex());
+                return;
+            }
+        }
         TornadoSketcher.buildSketch(this);
     }
 }
@@ -33,9 +33,13 @@ import static uk.ac.manchester.tornado.runtime.TornadoCoreRuntime.getTornadoExec
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -46,6 +50,7 @@ import org.graalvm.compiler.debug.DebugContext;
 import org.graalvm.compiler.debug.DebugDumpScope;
 import org.graalvm.compiler.debug.TimerKey;
 import org.graalvm.compiler.nodes.CallTargetNode;
+import org.graalvm.compiler.nodes.Invoke;
 import org.graalvm.compiler.nodes.ParameterNode;
 import org.graalvm.compiler.nodes.StructuredGraph;
 import org.graalvm.compiler.nodes.StructuredGraph.AllowAssumptions;
@@ -64,13 +69,17 @@ import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInliningException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoInternalError;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.TornadoAcceleratorBackend;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.OCLTokens;
 import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
 import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoCompilerIdentifier;
 import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSketchTier;
+import uk.ac.manchester.tornado.runtime.graal.compiler.TornadoSuitesProvider;
 import uk.ac.manchester.tornado.runtime.graal.phases.TornadoSketchTierContext;
+import uk.ac.manchester.tornado.runtime.jfr.SketchEvent;
 
 public class TornadoSketcher {
 
@@ -79,22 +88,16 @@ public class TornadoSketcher {
     private static final TimerKey Sketcher = DebugContext.timer("Sketcher");
     private static final OptimisticOptimizations optimisticOpts = OptimisticOptimizations.ALL;
     private static TornadoLogger logger = new TornadoLogger();
-    public static Access[] methodAccesses;
-
-    private static boolean cacheContainsSketch(ResolvedJavaMethod method, int driverIndex, int deviceIndex) {
-        List<TornadoSketcherCacheEntry> entries = cache.get(method);
-        if (entries == null) {
-            return false;
-        }
 
+    private static TornadoSketcherCacheEntry findEntry(List<TornadoSketcherCacheEntry> entries, int driverIndex, int deviceIndex) {
         synchronized (entries) {
             for (TornadoSketcherCacheEntry entry : entries) {
                 if (entry.matchesDriverAndDevice(driverIndex, deviceIndex)) {
-                    return true;
+                    return entry;
                 }
             }
         }
-        return false;
+        return null;
     }
 
     public static Sketch lookup(ResolvedJavaMethod resolvedMethod, int driverIndex, int deviceIndex) {
@@ -131,13 +134,83 @@ public class TornadoSketcher {
         return sketch;
     }
 
-    static void buildSketch(SketchRequest request) {
-        if (cacheContainsSketch(request.resolvedMethod, request.driverIndex, request.deviceIndex)) {
-            return;
+    /**
+     * Looks up the sketch of a method that is about to be compiled. If the sketch was restored from the
+     * {@link PersistentKernelCache} and does not hold the graph of the method, the graph is built first.
+     */
+    public static Sketch lookupForCompilation(ResolvedJavaMethod resolvedMethod, int driverIndex, int deviceIndex) {
+        Sketch sketch = lookup(resolvedMethod, driverIndex, deviceIndex);
+        if (sketch.hasGraph()) {
+            return sketch;
         }
+        TornadoAcceleratorBackend backend = TornadoCoreRuntime.getTornadoRuntime().getBackend(driverIndex);
+        TornadoSuitesProvider suites = backend.getSuitesProvider();
+        buildSketch(new SketchRequest(resolvedMethod, backend.getProviders(), suites.getGraphBuilderSuite(), suites.getSketchTier(), driverIndex, deviceIndex));
+        return lookup(resolvedMethod, driverIndex, deviceIndex);
+    }
+
+    /**
+     * Registers a sketch restored from the {@link PersistentKernelCache}, unless the method has been sketched already.
+     */
+    static void registerPersistedSketch(SketchRequest request, Access[] argumentsAccess, boolean batchWriteThreadIndex) {
         List<TornadoSketcherCacheEntry> sketches = cache.computeIfAbsent(request.resolvedMethod, k -> Collections.synchronizedList(new ArrayList<>(TornadoVMBackendType.values().length)));
-        Future<Sketch> result = getTornadoExecutor().submit(new TornadoSketcherCallable(request));
-        sketches.add(new TornadoSketcherCacheEntry(request.driverIndex, request.deviceIndex, result));
+        synchronized (sketches) {
+            if (findEntry(sketches, request.driverIndex, request.deviceIndex) == null) {
+                Sketch sketch = new Sketch(null, argumentsAccess, batchWriteThreadIndex);
+                sketches.add(new TornadoSketcherCacheEntry(request.driverIndex, request.deviceIndex, CompletableFuture.completedFuture(sketch), true));
+            }
+        }
+    }
+
+    static void buildSketch(SketchRequest request) {
+        List<TornadoSketcherCacheEntry> sketches = cache.computeIfAbsent(request.resolvedMethod, k -> Collections.synchronizedList(new ArrayList<>(TornadoVMBackendType.values().length)));
+        synchronized (sketches) {
+            TornadoSketcherCacheEntry entry = findEntry(sketches, request.driverIndex, request.deviceIndex);
+            if (entry != null) {
+                if (!entry.isPersisted()) {
+                    return;
+                }
+                // The persisted sketch is replaced with a complete one
+                sketches.remove(entry);
+            }
+            Future<Sketch> result = getTornadoExecutor().submit(new TornadoSketcherCallable(request));
+            sketches.add(new TornadoSketcherCacheEntry(request.driverIndex, request.deviceIndex, result, false));
+        }
+    }
+
+    /**
+     * Returns the names of the classes that declare the methods of the sketch of a method: the method itself, the
+     * methods inlined in its graph and, recursively, the non-inlined callees.
+     *
+     * @return The class names, or {@code null} if the inlined methods of a sketch are not known.
+     */
+    public static Set<String> collectDependentClassNames(ResolvedJavaMethod resolvedMethod, int driverIndex, int deviceIndex) {
+        Set<String> classNames = new TreeSet<>();
+        return collectDependentClassNames(resolvedMethod, driverIndex, deviceIndex, new HashSet<>(), classNames) ? classNames : null;
+    }
+
+    private static boolean collectDependentClassNames(ResolvedJavaMethod resolvedMethod, int driverIndex, int deviceIndex, Set<ResolvedJavaMethod> visited, Set<String> classNames) {
+        if (!visited.add(resolvedMethod)) {
+            return true;
+        }
+        classNames.add(resolvedMethod.getDeclaringClass().toClassName());
+        Sketch sketch = lookup(resolvedMethod, driverIndex, deviceIndex);
+        if (!sketch.hasGraph()) {
+            return false;
+        }
+        StructuredGraph graph = (StructuredGraph) sketch.getGraph();
+        if (graph.getMethods() == null) {
+            return false;
+        }
+        for (ResolvedJavaMethod inlined : graph.getMethods()) {
+            classNames.add(inlined.getDeclaringClass().toClassName());
+        }
+        for (Invoke invoke : graph.getInvokes()) {
+            if (!collectDependentClassNames(invoke.callTarget().targetMethod(), driverIndex, deviceIndex, visited, classNames)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @SuppressWarnings("checkstyle:LineLength")
@@ -186,9 +259,7 @@ public class TornadoSketcher {
                 mergeAccesses(highTierAccesses, invoke.callTarget(), sketch.getArgumentsAccess());
             });
 
-            methodAccesses = highTierAccesses;
-
-            return new Sketch(graph.copy(TornadoCoreRuntime.getDebugContext()), methodAccesses, highTierContext.getBatchWriteThreadIndex());
+            return new Sketch(graph.copy(TornadoCoreRuntime.getDebugContext()), highTierAccesses, highTierContext.getBatchWriteThreadIndex());
 
         } catch (Throwable e) {
             logger.fatal("unable to build sketch for method: %s (%s)", resolvedMethod.getName(), e.getMessage());
@@ -245,11 +316,17 @@ public class TornadoSketcher {
         private final int driverIndex;
         private final int deviceIndex;
         private final Future<Sketch> sketchFuture;
+        private final boolean persisted;
 
-        private TornadoSketcherCacheEntry(int driverIndex, int deviceIndex, Future<Sketch> sketchFuture) {
+        private TornadoSketcherCacheEntry(int driverIndex, int deviceIndex, Future<Sketch> sketchFuture, boolean persisted) {
             this.driverIndex = driverIndex;
             this.deviceIndex = deviceIndex;
             this.sketchFuture = sketchFuture;
+            this.persisted = persisted;
+        }
+
+        public boolean isPersisted() {
+            return persisted;
         }
 
         public boolean matchesDriverAndDevice(int driverIndex, int deviceIndex) {
@@ -270,14 +347,22 @@ public class TornadoSketcher {
 
         @Override
         public Sketch call() {
+            final SketchEvent sketchEvent = SketchEvent.beginIfEnabled();
+            boolean succeeded = false;
             try (DebugContext.Scope ignored = getDebugContext().scope("SketchCompiler")) {
-                return buildSketch(request.resolvedMethod, request.providers, request.graphBuilderSuite, request.sketchTier, request.driverIndex, request.deviceIndex);
+                Sketch sketch = buildSketch(request.resolvedMethod, request.providers, request.graphBuilderSuite, request.sketchTier, request.driverIndex, request.deviceIndex);
+                succeeded = true;
+                return sketch;
             } catch (Throwable e) {
                 if (e instanceof TornadoInliningException) {
                     throw (TornadoInliningException) e;
                 } else {
                     throw getDebugContext().handle(e);
                 }
+            } finally {
+                if (sketchEvent != null) {
+                    sketchEvent.commit(request.resolvedMethod.format("%H.%n"), request.driverIndex, request.deviceIndex, succeeded);
+                }
             }
         }
     }
@@ -0,0 +1,231 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.runtime.analyzer.ReductionKernelGenerator;
+import uk.ac.manchester.tornado.runtime.analyzer.ReductionKernels;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Reduction with a user-defined combiner, added to a task-graph with
+ * {@link uk.ac.manchester.tornado.api.TaskGraph#reduce}. The reduction runs as two {@code KernelContext} tasks written
+ * by a {@link ReductionKernelGenerator}: the first one maps the elements of the inputs to the slots of a temporary state
+ * and reduces each work-group, and the second one reduces the partial results of the work-groups in a single
+ * work-group and writes the results.
+ *
+ * @param mapTask
+ *     Task of the first kernel, with the id of the reduction.
+ * @param mapGrid
+ *     Grid of the first kernel: one thread per element, rounded up to the work-group size.
+ * @param combineTask
+ *     Task of the second kernel, with the id of the reduction and the suffix {@value #COMBINE_SUFFIX}.
+ * @param combineGrid
+ *     Grid of the second kernel: a single work-group.
+ */
+record CombinerReduction(TaskPackage mapTask, WorkerGrid mapGrid, TaskPackage combineTask, WorkerGrid combineGrid) {
+
+    static final String COMBINE_SUFFIX = "_combine";
+
+    /**
+     * Maximum number of threads of a work-group. It must be a power of two.
+     */
+    private static final int MAX_LOCAL_WORK = 256;
+    private static final int MAX_ARGUMENTS = 20;
+
+    private static final ReductionKernelGenerator GENERATOR = loadGenerator();
+    private static final Map<Class<?>, Kernels> KERNELS = new ConcurrentHashMap<>();
+
+    /**
+     * Instances of the generated kernels of a combiner.
+     */
+    private record Kernels(Object map, Object combine) {
+    }
+
+    private static ReductionKernelGenerator loadGenerator() {
+        try {
+            Class<?> klass = Class.forName(TornadoOptions.REDUCTION_GENERATOR);
+            return (ReductionKernelGenerator) klass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builds the tasks of a reduction.
+     *
+     * @param id
+     *     Id of the reduction.
+     * @param combiner
+     *     Class with the static methods {@code map} and {@code combine} of the reduction.
+     * @param inputs
+     *     Arguments of {@code map} before the index of the element. The number of elements is the size of the first
+     *     input.
+     * @param results
+     *     Arrays that receive the first slot of the state. They have the types of the state, and the same size.
+     */
+    static CombinerReduction create(String id, Class<?> combiner, Object[] inputs, Object[] results) {
+        if (GENERATOR == null) {
+            throw new TornadoRuntimeException("[ERROR] Reduction generator not available: " + TornadoOptions.REDUCTION_GENERATOR);
+        }
+        if (inputs.length == 0 || results.length == 0) {
+            throw new TornadoRuntimeException("[ERROR] Reduction " + id + " needs at least one input and one result");
+        }
+        Method map = findMethod(combiner, "map");
+        Method combine = findMethod(combiner, "combine");
+        checkSignatures(id, map, combine, inputs, results);
+        if (2 + inputs.length + results.length > MAX_ARGUMENTS || 3 + 2 * results.length > MAX_ARGUMENTS) {
+            throw new TornadoRuntimeException("[ERROR] Reduction " + id + " has more than " + MAX_ARGUMENTS + " arguments");
+        }
+
+        int size = sizeOf(inputs[0]);
+        int width = ((TornadoNativeArray) results[0]).getSize();
+        for (Object result : results) {
+            if (((TornadoNativeArray) result).getSize() != width) {
+                throw new TornadoRuntimeException("[ERROR] The results of the reduction " + id + " must have the same size");
+            }
+        }
+        if (size == 0 || width == 0) {
+            throw new TornadoRuntimeException("[ERROR] Reduction " + id + " over an empty input or into an empty result");
+        }
+
+        Object[] states = new Object[results.length];
+        for (int i = 0; i < results.length; i++) {
+            try {
+                states[i] = results[i].getClass().getConstructor(int.class).newInstance(Math.multiplyExact(size, width));
+            } catch (ReflectiveOperationException | ArithmeticException e) {
+                throw new TornadoRuntimeException("[ERROR] Cannot allocate the state of the reduction " + id + ": " + e);
+            }
+        }
+
+        Kernels kernels = KERNELS.computeIfAbsent(combiner, klass -> defineKernels(map, combine));
+
+        Object[] mapArguments = new Object[2 + inputs.length + states.length];
+        mapArguments[0] = new KernelContext();
+        mapArguments[1] = size;
+        System.arraycopy(inputs, 0, mapArguments, 2, inputs.length);
+        System.arraycopy(states, 0, mapArguments, 2 + inputs.length, states.length);
+
+        Object[] combineArguments = new Object[3 + 2 * states.length];
+        combineArguments[0] = new KernelContext();
+        combineArguments[1] = size;
+        combineArguments[2] = width;
+        System.arraycopy(states, 0, combineArguments, 3, states.length);
+        System.arraycopy(results, 0, combineArguments, 3 + states.length, results.length);
+
+        int localWork = Math.max(Integer.highestOneBit(Math.min(MAX_LOCAL_WORK, size) - 1) << 1, 1);
+        WorkerGrid mapGrid = new WorkerGrid1D((size + localWork - 1) / localWork * localWork);
+        mapGrid.setLocalWork(localWork, 1, 1);
+        WorkerGrid combineGrid = new WorkerGrid1D(localWork);
+        combineGrid.setLocalWork(localWork, 1, 1);
+
+        TaskPackage mapTask = FusedTaskGraph.createPackage(id, kernels.map(), mapArguments);
+        TaskPackage combineTask = FusedTaskGraph.createPackage(id + COMBINE_SUFFIX, kernels.combine(), combineArguments);
+        return new CombinerReduction(mapTask, mapGrid, combineTask, combineGrid);
+    }
+
+    private static Method findMethod(Class<?> combiner, String name) {
+        Method found = null;
+        for (Method method : combiner.getDeclaredMethods()) {
+            if (method.getName().equals(name) && !method.isSynthetic()) {
+                if (found != null) {
+                    throw new TornadoRuntimeException("[ERROR] Combiner " + combiner.getName() + " has more than one method " + name);
+                }
+                found = method;
+            }
+        }
+        if (found == null || !Modifier.isStatic(found.getModifiers()) || Modifier.isPrivate(found.getModifiers()) || found.getReturnType() != void.class) {
+            throw new TornadoRuntimeException("[ERROR] Combiner " + combiner.getName() + " needs a non-private static void method " + name);
+        }
+        return found;
+    }
+
+    /**
+     * Checks {@code map(I1, ..., int element, S1, ..., int slot)} and {@code combine(S1, ..., int into, int from)}
+     * against the arguments of the reduction.
+     */
+    private static void checkSignatures(String id, Method map, Method combine, Object[] inputs, Object[] results) {
+        Class<?>[] mapTypes = map.getParameterTypes();
+        Class<?>[] combineTypes = combine.getParameterTypes();
+        boolean valid = combineTypes.length == results.length + 2 && mapTypes.length == inputs.length + results.length + 2;
+        if (valid) {
+            valid = combineTypes[results.length] == int.class && combineTypes[results.length + 1] == int.class;
+            valid &= mapTypes[inputs.length] == int.class && mapTypes[mapTypes.length - 1] == int.class;
+            for (int i = 0; i < inputs.length; i++) {
+                valid &= inputs[i] != null && boxed(mapTypes[i]).isInstance(inputs[i]);
+            }
+            for (int i = 0; i < results.length; i++) {
+                Class<?> state = combineTypes[i];
+                valid &= TornadoNativeArray.class.isAssignableFrom(state) && state == mapTypes[inputs.length + 1 + i];
+                valid &= results[i] != null && results[i].getClass() == state;
+            }
+        }
+        if (!valid) {
+            throw new TornadoRuntimeException("[ERROR] The methods map and combine of " + map.getDeclaringClass().getName() + " do not match the arguments of the reduction " + id);
+        }
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static int sizeOf(Object input) {
+        if (input instanceof TornadoNativeArray array) {
+            return array.getSize();
+        } else if (input.getClass().isArray()) {
+            return Array.getLength(input);
+        }
+        throw new TornadoRuntimeException("[ERROR] The first input of a reduction must be an array, but it is " + input.getClass().getName());
+    }
+
+    private static Kernels defineKernels(Method map, Method combine) {
+        ReductionKernels kernels;
+        try {
+            kernels = GENERATOR.generate(map, combine);
+        } catch (IllegalArgumentException e) {
+            throw new TornadoRuntimeException("[ERROR] Cannot generate the kernels of the combiner " + map.getDeclaringClass().getName() + ": " + e.getMessage());
+        }
+        try {
+            MethodHandles.Lookup lookup = FusedTaskGraph.lookupIn(map.getDeclaringClass());
+            Object mapKernel = lookup.defineClass(kernels.mapClassFile()).getDeclaredConstructor().newInstance();
+            Object combineKernel = lookup.defineClass(kernels.combineClassFile()).getDeclaredConstructor().newInstance();
+            return new Kernels(mapKernel, combineKernel);
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            throw new TornadoRuntimeException("[ERROR] Cannot define the kernels of the combiner " + map.getDeclaringClass().getName() + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.enums.TornadoExecutionStatus;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Completes a future when a device event completes, without blocking the thread that dispatched the work. A single
+ * daemon thread polls the status of all the events in flight, so many task-graphs can wait for their devices at the
+ * same time from a small number of threads.
+ *
+ * <p>
+ * The poller sleeps while no event is in flight, and polls every {@link TornadoOptions#ASYNC_POLL_INTERVAL}
+ * microseconds otherwise. The futures are completed in the poller thread, so their dependent stages should not block.
+ * </p>
+ */
+final class CompletionPoller {
+
+    /**
+     * Source of the completion status of an event.
+     */
+    @FunctionalInterface
+    interface CompletionSource {
+
+        /**
+         * Status of the event. {@link TornadoExecutionStatus#COMPLETE} completes the future and
+         * {@link TornadoExecutionStatus#ERROR} completes it exceptionally.
+         */
+        TornadoExecutionStatus getStatus(Event event);
+    }
+
+    private record PendingEvent(Event event, CompletableFuture<Void> future) {
+    }
+
+    private static final CompletionPoller INSTANCE = new CompletionPoller(Event::getStatus, TimeUnit.MICROSECONDS.toNanos(TornadoOptions.ASYNC_POLL_INTERVAL));
+
+    private final CompletionSource source;
+    private final long pollIntervalNanos;
+    private final Queue<PendingEvent> submitted;
+    private final Thread thread;
+
+    CompletionPoller(CompletionSource source, long pollIntervalNanos) {
+        this.source = source;
+        this.pollIntervalNanos = Math.max(pollIntervalNanos, 1);
+        this.submitted = new ConcurrentLinkedQueue<>();
+        this.thread = new Thread(this::poll, "TornadoCompletionPoller");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    static CompletionPoller getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a future that is completed when the given event completes. Events that are already complete do not go
+     * through the poller thread.
+     */
+    CompletableFuture<Void> watch(Event event) {
+        PendingEvent pending = new PendingEvent(event, new CompletableFuture<>());
+        if (!isDone(pending)) {
+            submitted.add(pending);
+            LockSupport.unpark(thread);
+        }
+        return pending.future();
+    }
+
+    private boolean isDone(PendingEvent pending) {
+        try {
+            TornadoExecutionStatus status = source.getStatus(pending.event());
+            if (status == TornadoExecutionStatus.COMPLETE) {
+                pending.future().complete(null);
+                return true;
+            } else if (status == TornadoExecutionStatus.ERROR) {
+                pending.future().completeExceptionally(new TornadoRuntimeException("[ERROR] Device event " + pending.event().getName() + " completed with an error"));
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            pending.future().completeExceptionally(e);
+            return true;
+        }
+    }
+
+    private void poll() {
+        List<PendingEvent> inFlight = new ArrayList<>();
+        while (true) {
+            PendingEvent pending;
+            while ((pending = submitted.poll()) != null) {
+                inFlight.add(pending);
+            }
+            inFlight.removeIf(this::isDone);
+            if (inFlight.isEmpty() && submitted.isEmpty()) {
+                LockSupport.park(this);
+            } else if (!inFlight.isEmpty()) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+
+/**
+ * Decisions taken from measured costs and persisted in a properties file, so a new JVM run does not explore the
+ * candidates again. Used for the devices selected by {@link DeviceSelector} and for the local work-group sizes
+ * selected by {@link LocalWorkTuner}.
+ */
+final class DecisionStore {
+
+    private static final TornadoLogger logger = new TornadoLogger(DecisionStore.class);
+
+    private final Path file;
+    private final String comment;
+    private Properties decisions;
+
+    /**
+     * @param file
+     *     File of the decisions. If {@code null} or blank, the decisions are only kept in memory.
+     * @param comment
+     *     Comment written at the top of the file.
+     */
+    DecisionStore(String file, String comment) {
+        this.file = (file == null || file.isBlank()) ? null : Paths.get(file);
+        this.comment = comment;
+    }
+
+    synchronized String lookup(String key) {
+        return load().getProperty(key);
+    }
+
+    /**
+     * Stores a decision and writes the file. The file is read again before writing, so the decisions of other JVMs
+     * that share the file are kept.
+     */
+    synchronized void store(String key, String value) {
+        decisions = null;
+        Properties properties = load();
+        properties.setProperty(key, value);
+        if (file == null) {
+            return;
+        }
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream output = Files.newOutputStream(temporary)) {
+                properties.store(output, comment);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Unable to persist the decisions in %s: %s", file, e.getMessage());
+        }
+    }
+
+    private Properties load() {
+        if (decisions == null) {
+            decisions = new Properties();
+            if (file != null && Files.isReadable(file)) {
+                try (InputStream input = Files.newInputStream(file)) {
+                    decisions.load(input);
+                } catch (IOException | IllegalArgumentException e) {
+                    logger.warn("Unable to read the decisions from %s: %s", file, e.getMessage());
+                }
+            }
+        }
+        return decisions;
+    }
+}
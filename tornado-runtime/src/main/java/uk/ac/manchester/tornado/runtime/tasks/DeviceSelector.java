@@ -0,0 +1,300 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.selection.DeviceCost;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
+import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Selects the device of a task-graph from the costs measured on each candidate device.
+ *
+ * <p>
+ * Executions are grouped in size buckets: all the executions whose inputs have less than {@code 2^bucket} bytes, and
+ * at least half of it, share the same decision. For a new bucket, the task-graph is executed on every candidate
+ * device in turn: once to compile the kernels, which is not measured, and then
+ * {@link TornadoOptions#DEVICE_SELECTION_SAMPLES} times. The policy then picks the device used by the next
+ * executions, and the decision is persisted in {@link TornadoOptions#DEVICE_SELECTION_FILE}. After
+ * {@link TornadoOptions#DEVICE_SELECTION_REEVALUATE} executions the bucket is explored again, so the decision follows
+ * changes in the load of the devices.
+ * </p>
+ */
+final class DeviceSelector {
+
+    private static final TornadoLogger logger = new TornadoLogger(DeviceSelector.class);
+
+    private static final DecisionStore STORE = new DecisionStore(TornadoOptions.DEVICE_SELECTION_FILE, "TornadoVM device selection");
+
+    /**
+     * A candidate device, identified across JVM runs by its backend index, its index in the backend and its name.
+     */
+    private record Candidate(TornadoDevice device, int backendIndex, int deviceIndex) {
+        String encode() {
+            return backendIndex + ":" + deviceIndex + ":" + device.getDeviceName();
+        }
+    }
+
+    private final DeviceSelectionPolicy policy;
+    private final String graphKey;
+    private final List<Candidate> candidates;
+    private final Set<TornadoDevice> excluded;
+    private final Map<Integer, Bucket> buckets;
+
+    /**
+     * @param policy
+     *     Policy that scores the candidate devices.
+     * @param graphKey
+     *     Identifier of the task-graph, stable across JVM runs.
+     */
+    DeviceSelector(DeviceSelectionPolicy policy, String graphKey) {
+        this.policy = policy;
+        this.graphKey = graphKey;
+        this.candidates = findCandidates();
+        this.excluded = new HashSet<>();
+        this.buckets = new HashMap<>();
+    }
+
+    private static List<Candidate> findCandidates() {
+        TornadoCoreRuntime runtime = TornadoCoreRuntime.getTornadoRuntime();
+        List<Candidate> devices = new ArrayList<>();
+        for (int backendIndex = 0; backendIndex < runtime.getNumBackends(); backendIndex++) {
+            TornadoBackend backend = runtime.getBackend(backendIndex);
+            for (int deviceIndex = 0; deviceIndex < backend.getNumDevices(); deviceIndex++) {
+                devices.add(new Candidate(backend.getDevice(deviceIndex), backendIndex, deviceIndex));
+            }
+        }
+        return Collections.unmodifiableList(devices);
+    }
+
+    /**
+     * Size bucket of inputs with the given number of bytes.
+     */
+    static int sizeBucket(long bytes) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(bytes, 0));
+    }
+
+    DeviceSelectionPolicy getPolicy() {
+        return policy;
+    }
+
+    int getNumCandidates() {
+        return candidates.size();
+    }
+
+    /**
+     * Device for the next execution of the task-graph with inputs in the given size bucket.
+     */
+    TornadoDevice select(int sizeBucket) {
+        return buckets.computeIfAbsent(sizeBucket, this::restore).next();
+    }
+
+    /**
+     * Whether the executions of the given size bucket are still measuring the candidate devices.
+     */
+    boolean isExploring(int sizeBucket) {
+        Bucket bucket = buckets.get(sizeBucket);
+        return bucket != null && bucket.decision == null;
+    }
+
+    /**
+     * Records the costs of an execution on the device returned by {@link #select}.
+     *
+     * @param time
+     *     End-to-end time of the execution, in nanoseconds.
+     * @param kernelTime
+     *     Time of the kernels, or -1 if unknown.
+     * @param transferTime
+     *     Time of the data transfers, or -1 if unknown.
+     */
+    void record(int sizeBucket, TornadoDevice device, long time, long kernelTime, long transferTime) {
+        Bucket bucket = buckets.get(sizeBucket);
+        if (bucket != null) {
+            bucket.record(device, time, kernelTime, transferTime);
+        }
+    }
+
+    /**
+     * Removes a device that failed to execute the task-graph from the candidates of all size buckets.
+     */
+    void exclude(TornadoDevice device) {
+        logger.debug("[Device Selection] %s excluded for task-graph %s", device.getDeviceName(), graphKey);
+        excluded.add(device);
+        buckets.values().forEach(bucket -> bucket.exclude(device));
+    }
+
+    private String storeKey(int sizeBucket) {
+        return policy.getName() + "|" + graphKey + "|" + sizeBucket;
+    }
+
+    private Bucket restore(int sizeBucket) {
+        Bucket bucket = new Bucket(sizeBucket);
+        String value = STORE.lookup(storeKey(sizeBucket));
+        if (value != null) {
+            for (Candidate candidate : candidates) {
+                if (candidate.encode().equals(value)) {
+                    bucket.decision = candidate;
+                    logger.debug("[Device Selection] %s restored for task-graph %s, size bucket %d", candidate.device().getDeviceName(), graphKey, sizeBucket);
+                }
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * Times measured on a candidate device.
+     */
+    private static final class Samples {
+        private final long[] times = new long[Math.max(TornadoOptions.DEVICE_SELECTION_SAMPLES, 1)];
+        private int count;
+        private long kernelTime;
+        private long transferTime;
+
+        void add(long time, long kernel, long transfer) {
+            times[count++] = time;
+            kernelTime = (kernel < 0 || kernelTime < 0) ? -1 : kernelTime + kernel;
+            transferTime = (transfer < 0 || transferTime < 0) ? -1 : transferTime + transfer;
+        }
+
+        boolean isComplete() {
+            return count == times.length;
+        }
+
+        DeviceCost toCost(TornadoDevice device, int sizeBucket) {
+            long[] measured = new long[count];
+            System.arraycopy(times, 0, measured, 0, count);
+            return new DeviceCost(device, sizeBucket, measured, kernelTime < 0 ? -1 : kernelTime / count, transferTime < 0 ? -1 : transferTime / count);
+        }
+    }
+
+    /**
+     * Exploration and decision for a size bucket.
+     */
+    private final class Bucket {
+        private final int sizeBucket;
+        private final Map<Candidate, Samples> samples;
+        private Candidate decision;
+        private int executionsSinceDecision;
+        private int exploring;
+        private boolean compiled;
+
+        Bucket(int sizeBucket) {
+            this.sizeBucket = sizeBucket;
+            this.samples = new LinkedHashMap<>();
+        }
+
+        TornadoDevice next() {
+            if (decision != null) {
+                if (TornadoOptions.DEVICE_SELECTION_REEVALUATE <= 0 || executionsSinceDecision < TornadoOptions.DEVICE_SELECTION_REEVALUATE) {
+                    executionsSinceDecision++;
+                    return decision.device();
+                }
+                logger.debug("[Device Selection] re-evaluating the devices for task-graph %s, size bucket %d", graphKey, sizeBucket);
+                decision = null;
+                samples.clear();
+                exploring = 0;
+                compiled = false;
+            }
+            skipExcluded();
+            if (exploring == candidates.size()) {
+                decide();
+                return decision.device();
+            }
+            return candidates.get(exploring).device();
+        }
+
+        void record(TornadoDevice device, long time, long kernelTime, long transferTime) {
+            if (decision != null || exploring == candidates.size() || candidates.get(exploring).device() != device) {
+                return;
+            }
+            Candidate candidate = candidates.get(exploring);
+            if (!compiled) {
+                // The first execution on a device includes the compilation of its kernels
+                compiled = true;
+                return;
+            }
+            Samples deviceSamples = samples.computeIfAbsent(candidate, c -> new Samples());
+            deviceSamples.add(time, kernelTime, transferTime);
+            if (deviceSamples.isComplete()) {
+                exploring++;
+                compiled = false;
+                skipExcluded();
+                if (exploring == candidates.size()) {
+                    decide();
+                }
+            }
+        }
+
+        void exclude(TornadoDevice device) {
+            samples.keySet().removeIf(candidate -> candidate.device() == device);
+            if (decision != null && decision.device() == device) {
+                decision = null;
+                exploring = candidates.size();
+            } else if (decision == null && exploring < candidates.size() && candidates.get(exploring).device() == device) {
+                compiled = false;
+                exploring++;
+            }
+        }
+
+        private void skipExcluded() {
+            while (exploring < candidates.size() && excluded.contains(candidates.get(exploring).device())) {
+                exploring++;
+            }
+        }
+
+        private void decide() {
+            List<DeviceCost> costs = new ArrayList<>();
+            samples.forEach((candidate, deviceSamples) -> costs.add(deviceSamples.toCost(candidate.device(), sizeBucket)));
+            if (costs.isEmpty()) {
+                // Nothing could be measured: keep the first device that has not failed
+                decision = candidates.stream().filter(candidate -> !excluded.contains(candidate.device())).findFirst().orElse(candidates.getFirst());
+            } else {
+                TornadoDevice selected = policy.select(costs).getDevice();
+                for (Candidate candidate : samples.keySet()) {
+                    if (candidate.device() == selected) {
+                        decision = candidate;
+                    }
+                }
+                if (decision == null) {
+                    throw new IllegalStateException("Policy " + policy.getName() + " selected a device that is not a candidate: " + selected);
+                }
+                STORE.store(storeKey(sizeBucket), decision.encode());
+            }
+            executionsSinceDecision = 0;
+            logger.debug("[Device Selection] %s selected for task-graph %s, size bucket %d, from %s", decision.device().getDeviceName(), graphKey, sizeBucket, costs);
+        }
+    }
+}
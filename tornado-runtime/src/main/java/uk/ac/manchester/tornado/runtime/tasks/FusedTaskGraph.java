@@ -0,0 +1,295 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task10;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task11;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task12;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task13;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task14;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task15;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task16;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task17;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task18;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task19;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task1;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task20;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task2;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task3;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task4;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task5;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task6;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task7;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task8;
+import uk.ac.manchester.tornado.api.common.TornadoFunctions.Task9;
+import uk.ac.manchester.tornado.runtime.analyzer.FusedKernel;
+import uk.ac.manchester.tornado.runtime.analyzer.KernelFusionGenerator;
+import uk.ac.manchester.tornado.runtime.analyzer.TaskUtils;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+
+/**
+ * Task-graph rewritten with the consecutive tasks of the original task-graph fused by a {@link KernelFusionGenerator}.
+ * As for reductions (see {@link ReduceTaskGraph}), the rewritten task-graph is built once, the first time the
+ * original task-graph is executed, and it runs in its own execution plan in place of the original one.
+ */
+class FusedTaskGraph {
+
+    private static final KernelFusionGenerator GENERATOR = loadGenerator();
+    private static final AtomicInteger counterName = new AtomicInteger(0);
+
+    private final TornadoTaskGraph originalTaskGraph;
+    private final TornadoExecutionPlan executionPlan;
+    private TornadoDevice device;
+    private TornadoExecutionResult executionResult;
+
+    /**
+     * Task of the rewritten task-graph, with the tasks of the original task-graph that it runs.
+     */
+    private record FusedTask(String id, Object code, Method method, Object[] arguments, Map<Object, Integer> uses, boolean fusible) {
+    }
+
+    private FusedTaskGraph(TornadoTaskGraph originalTaskGraph, TaskGraph rewrittenTaskGraph) {
+        this.originalTaskGraph = originalTaskGraph;
+        this.executionPlan = new TornadoExecutionPlan(rewrittenTaskGraph.snapshot());
+    }
+
+    private static KernelFusionGenerator loadGenerator() {
+        try {
+            Class<?> klass = Class.forName(TornadoOptions.KERNEL_FUSION_GENERATOR);
+            return (KernelFusionGenerator) klass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            new TornadoLogger().debug("[FUSION] Kernel fusion generator %s not available: %s", TornadoOptions.KERNEL_FUSION_GENERATOR, e);
+            return null;
+        }
+    }
+
+    /**
+     * Fuses the consecutive tasks of a task-graph, from the first one. A task fused with the next one can be fused
+     * again with the task that follows, so a chain of element-wise tasks becomes a single task.
+     *
+     * @return The rewritten task-graph, or {@code null} if no pair of tasks can be fused.
+     */
+    static FusedTaskGraph create(TornadoTaskGraph originalTaskGraph, List<TaskPackage> taskPackages, List<StreamingObject> inputModeObjects, List<StreamingObject> outputModeObjects) {
+        if (GENERATOR == null) {
+            return null;
+        }
+        Map<Object, Integer> users = new IdentityHashMap<>();
+        List<FusedTask> tasks = new ArrayList<>();
+        for (TaskPackage taskPackage : taskPackages) {
+            Object[] parameters = taskPackage.getTaskParameters();
+            Method method = TaskUtils.resolveMethodHandle(parameters[0]);
+            if (hasReduceParameters(method)) {
+                // Reductions are rewritten from the original task-graph
+                return null;
+            }
+            Object[] arguments = Arrays.copyOfRange(parameters, 1, parameters.length);
+            Map<Object, Integer> uses = new IdentityHashMap<>();
+            for (Object argument : arguments) {
+                if (argument != null && !(argument instanceof Number) && uses.put(argument, 1) == null) {
+                    users.merge(argument, 1, Integer::sum);
+                }
+            }
+            boolean fusible = !taskPackage.isPrebuiltTask() && taskPackage.getNumThreadsToRun() == 0;
+            tasks.add(new FusedTask(taskPackage.getId(), parameters[0], method, arguments, uses, fusible));
+        }
+        Set<Object> outputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (StreamingObject outputModeObject : outputModeObjects) {
+            outputs.add(outputModeObject.getObject());
+        }
+
+        Set<Object> removedTemporaries = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean fused = false;
+        int index = 0;
+        while (index + 1 < tasks.size()) {
+            FusedTask producer = tasks.get(index);
+            FusedTask consumer = tasks.get(index + 1);
+            FusedTask task = (producer.fusible() && consumer.fusible()) ? fuse(producer, consumer, users, outputs, removedTemporaries) : null;
+            if (task == null) {
+                index++;
+            } else {
+                tasks.set(index, task);
+                tasks.remove(index + 1);
+                fused = true;
+            }
+        }
+        if (!fused) {
+            return null;
+        }
+
+        TaskGraph rewrittenTaskGraph = new TaskGraph(TornadoTaskGraph.GENERATED_TASK_GRAPH_PREFIX + "fused" + counterName.incrementAndGet());
+        for (StreamingObject inputModeObject : inputModeObjects) {
+            if (!removedTemporaries.contains(inputModeObject.getObject())) {
+                TornadoTaskGraph.performStreamInObject(rewrittenTaskGraph, inputModeObject.getObject(), inputModeObject.getMode());
+            }
+        }
+        for (FusedTask task : tasks) {
+            rewrittenTaskGraph.addTask(createPackage(task.id(), task.code(), task.arguments()));
+        }
+        for (StreamingObject outputModeObject : outputModeObjects) {
+            TornadoTaskGraph.performStreamOutThreads(outputModeObject.getMode(), rewrittenTaskGraph, outputModeObject.getObject());
+        }
+        return new FusedTaskGraph(originalTaskGraph, rewrittenTaskGraph);
+    }
+
+    static boolean hasReduceParameters(Method method) {
+        for (Annotation[] annotations : method.getParameterAnnotations()) {
+            for (Annotation annotation : annotations) {
+                if (annotation instanceof Reduce) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fuses two consecutive tasks. The temporaries are the objects that both tasks use, that no other task uses and
+     * that are not copied back to the host.
+     */
+    private static FusedTask fuse(FusedTask producer, FusedTask consumer, Map<Object, Integer> users, Set<Object> outputs, Set<Object> removedTemporaries) {
+        Set<Object> temporaries = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<Object, Integer> uses = new IdentityHashMap<>(producer.uses());
+        consumer.uses().forEach((object, count) -> uses.merge(object, count, Integer::sum));
+        for (Object object : consumer.uses().keySet()) {
+            if (producer.uses().containsKey(object) && uses.get(object).equals(users.get(object)) && !outputs.contains(object)) {
+                temporaries.add(object);
+            }
+        }
+
+        FusedKernel kernel = GENERATOR.fuse(producer.method(), producer.arguments(), consumer.method(), consumer.arguments(), temporaries);
+        if (kernel == null) {
+            return null;
+        }
+        try {
+            Class<?> host = producer.method().getDeclaringClass();
+            MethodHandles.Lookup lookup = lookupIn(host);
+            Class<?> fusedClass = lookup.defineClass(kernel.classFile());
+            Object code = fusedClass.getDeclaredConstructor().newInstance();
+            Method method = TaskUtils.resolveMethodHandle(code);
+            new TornadoLogger().debug("[FUSION] Tasks %s and %s fused into %s", producer.id(), consumer.id(), method.getName());
+            removedTemporaries.addAll(kernel.removedTemporaries());
+            return new FusedTask(producer.id() + "_" + consumer.id(), code, method, kernel.arguments(), uses, true);
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            new TornadoLogger().debug("[FUSION] Tasks %s and %s are not fused: %s", producer.id(), consumer.id(), e);
+            return null;
+        }
+    }
+
+    static MethodHandles.Lookup lookupIn(Class<?> host) throws IllegalAccessException {
+        FusedTaskGraph.class.getModule().addReads(host.getModule());
+        return MethodHandles.privateLookupIn(host, MethodHandles.lookup());
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static TaskPackage createPackage(String id, Object code, Object[] arguments) {
+        return switch (arguments.length) {
+            case 1 -> TaskPackage.createPackage(id, (Task1) code, arguments[0]);
+            case 2 -> TaskPackage.createPackage(id, (Task2) code, arguments[0], arguments[1]);
+            case 3 -> TaskPackage.createPackage(id, (Task3) code, arguments[0], arguments[1], arguments[2]);
+            case 4 -> TaskPackage.createPackage(id, (Task4) code, arguments[0], arguments[1], arguments[2], arguments[3]);
+            case 5 -> TaskPackage.createPackage(id, (Task5) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]);
+            case 6 -> TaskPackage.createPackage(id, (Task6) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]);
+            case 7 -> TaskPackage.createPackage(id, (Task7) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6]);
+            case 8 -> TaskPackage.createPackage(id, (Task8) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7]);
+            case 9 -> TaskPackage.createPackage(id, (Task9) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8]);
+            case 10 -> TaskPackage.createPackage(id, (Task10) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9]);
+            case 11 -> TaskPackage.createPackage(id, (Task11) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10]);
+            case 12 -> TaskPackage.createPackage(id, (Task12) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11]);
+            case 13 -> TaskPackage.createPackage(id, (Task13) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12]);
+            case 14 -> TaskPackage.createPackage(id, (Task14) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13]);
+            case 15 -> TaskPackage.createPackage(id, (Task15) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13], arguments[14]);
+            case 16 -> TaskPackage.createPackage(id, (Task16) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13], arguments[14], arguments[15]);
+            case 17 -> TaskPackage.createPackage(id, (Task17) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13], arguments[14], arguments[15], arguments[16]);
+            case 18 -> TaskPackage.createPackage(id, (Task18) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13], arguments[14], arguments[15], arguments[16], arguments[17]);
+            case 19 -> TaskPackage.createPackage(id, (Task19) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13], arguments[14], arguments[15], arguments[16], arguments[17], arguments[18]);
+            case 20 -> TaskPackage.createPackage(id, (Task20) code, arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5], arguments[6], arguments[7], arguments[8], arguments[9], arguments[10], arguments[11], arguments[12], arguments[13], arguments[14], arguments[15], arguments[16], arguments[17], arguments[18], arguments[19]);
+            default -> throw new IllegalArgumentException("Generated task with " + arguments.length + " arguments");
+        };
+    }
+
+    TornadoExecutionResult getExecutionResult() {
+        return executionResult;
+    }
+
+    /**
+     * Runs the rewritten task-graph on the device of the original task-graph, with the profiler and the debug
+     * options of the original execution plan.
+     */
+    void execute() {
+        TornadoDevice originalDevice = originalTaskGraph.getDevice();
+        if (originalDevice != null && originalDevice != device) {
+            executionPlan.withDevice(originalDevice);
+            device = originalDevice;
+        }
+        copyExecutionOptions(originalTaskGraph, executionPlan);
+        executionResult = executionPlan.execute();
+    }
+
+    /**
+     * Sets the profiler and the debug options of the execution plan of the original task-graph on the execution plan
+     * of a rewritten task-graph.
+     */
+    static void copyExecutionOptions(TornadoTaskGraph originalTaskGraph, TornadoExecutionPlan executionPlan) {
+        if (originalTaskGraph.isProfilerEnabled()) {
+            executionPlan.withProfiler(originalTaskGraph.getProfilerMode());
+        } else {
+            executionPlan.withoutProfiler();
+        }
+
+        if (originalTaskGraph.meta().isPrintKernelEnabled()) {
+            executionPlan.withPrintKernel();
+        } else {
+            executionPlan.withoutPrintKernel();
+        }
+
+        if (originalTaskGraph.meta().isThreadInfoEnabled()) {
+            executionPlan.withThreadInfo();
+        } else {
+            executionPlan.withoutThreadInfo();
+        }
+    }
+
+    void freeDeviceMemory() {
+        executionPlan.freeDeviceMemory();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Search of the local work-group size of a kernel from measured costs.
+ *
+ * <p>
+ * The first candidate is the default size chosen by the driver, represented by {@code null}. The other candidates
+ * have a power of two in each dimension that divides the global work size and fits the limits of the device. They
+ * are ordered by the distance of their number of threads to 256, a common sweet spot for current GPUs, and then by
+ * their size in the first dimension, which gives coalesced accesses on row-major data. The list is truncated to the
+ * budget, so a small budget only explores the most promising sizes.
+ * </p>
+ *
+ * <p>
+ * Each candidate is measured a given number of times, and its cost is the minimum of the measurements, which is the
+ * least sensitive to the noise of the system. Once all the candidates have been measured, the cheapest one is the
+ * result of the search. The search does not execute anything: the caller applies the local work-group size returned
+ * by {@link #current} and reports the cost with {@link #record}, so the search can be driven by a synthetic cost
+ * function.
+ * </p>
+ */
+final class LocalWorkSearch {
+
+    private static final int PREFERRED_THREADS_LOG2 = 8;
+
+    private final List<long[]> candidates;
+    private final long[] costs;
+    private final int samples;
+    private int current;
+    private int measured;
+    private int best;
+
+    /**
+     * @param globalWork
+     *     Global work size of the kernel, one value per dimension.
+     * @param maxWorkGroupSize
+     *     Maximum number of threads in a work-group of the device.
+     * @param maxWorkItemSizes
+     *     Maximum number of threads of a work-group in each dimension.
+     * @param budget
+     *     Maximum number of candidates, including the default size of the driver.
+     * @param samples
+     *     Number of measurements of each candidate.
+     */
+    LocalWorkSearch(long[] globalWork, long maxWorkGroupSize, long[] maxWorkItemSizes, int budget, int samples) {
+        this(candidates(globalWork, maxWorkGroupSize, maxWorkItemSizes, budget), samples);
+    }
+
+    private LocalWorkSearch(List<long[]> candidates, int samples) {
+        this.candidates = candidates;
+        this.costs = new long[candidates.size()];
+        Arrays.fill(costs, Long.MAX_VALUE);
+        this.samples = Math.max(samples, 1);
+        this.best = 0;
+    }
+
+    /**
+     * Search that is already done, with a result restored from a previous run.
+     */
+    static LocalWorkSearch decided(long[] localWork) {
+        List<long[]> candidates = new ArrayList<>(1);
+        candidates.add(localWork);
+        LocalWorkSearch search = new LocalWorkSearch(candidates, 1);
+        search.current = 1;
+        return search;
+    }
+
+    /**
+     * Candidate local work-group sizes, the default size of the driver ({@code null}) first.
+     */
+    static List<long[]> candidates(long[] globalWork, long maxWorkGroupSize, long[] maxWorkItemSizes, int budget) {
+        List<long[]> sizes = new ArrayList<>();
+        enumerate(globalWork, maxWorkGroupSize, maxWorkItemSizes, new long[globalWork.length], 0, 1, sizes);
+        sizes.sort(Comparator.<long[]> comparingInt(size -> Math.abs(log2(product(size)) - PREFERRED_THREADS_LOG2)) //
+                .thenComparing(size -> size[0], Comparator.reverseOrder()) //
+                .thenComparing(Arrays::compare));
+
+        List<long[]> candidates = new ArrayList<>();
+        candidates.add(null);
+        for (int i = 0; i < sizes.size() && candidates.size() < budget; i++) {
+            candidates.add(sizes.get(i));
+        }
+        return Collections.unmodifiableList(candidates);
+    }
+
+    private static void enumerate(long[] globalWork, long maxWorkGroupSize, long[] maxWorkItemSizes, long[] size, int dimension, long threads, List<long[]> sizes) {
+        if (dimension == globalWork.length) {
+            sizes.add(size.clone());
+            return;
+        }
+        long limit = Math.min(globalWork[dimension], dimension < maxWorkItemSizes.length ? maxWorkItemSizes[dimension] : 1);
+        for (long value = 1; value <= limit && threads * value <= maxWorkGroupSize; value <<= 1) {
+            if (globalWork[dimension] % value == 0) {
+                size[dimension] = value;
+                enumerate(globalWork, maxWorkGroupSize, maxWorkItemSizes, size, dimension + 1, threads * value, sizes);
+            }
+        }
+    }
+
+    private static long product(long[] size) {
+        long product = 1;
+        for (long value : size) {
+            product *= value;
+        }
+        return product;
+    }
+
+    private static int log2(long value) {
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    }
+
+    int getNumCandidates() {
+        return candidates.size();
+    }
+
+    boolean isDone() {
+        return current == candidates.size();
+    }
+
+    /**
+     * Local work-group size of the next execution: the candidate being measured, or the result once the search is
+     * done. {@code null} stands for the default size of the driver.
+     */
+    long[] current() {
+        return isDone() ? getBest() : candidates.get(current);
+    }
+
+    /**
+     * Best local work-group size measured so far, or {@code null} for the default size of the driver.
+     */
+    long[] getBest() {
+        return candidates.get(best);
+    }
+
+    /**
+     * Records a measurement of the candidate returned by {@link #current}.
+     */
+    void record(long cost) {
+        if (isDone()) {
+            return;
+        }
+        costs[current] = Math.min(costs[current], cost);
+        if (++measured == samples) {
+            if (costs[current] < costs[best]) {
+                best = current;
+            }
+            next();
+        }
+    }
+
+    /**
+     * Skips the candidate returned by {@link #current}, which failed to execute.
+     */
+    void reject() {
+        if (isDone()) {
+            return;
+        }
+        costs[current] = Long.MAX_VALUE;
+        next();
+    }
+
+    private void next() {
+        current++;
+        measured = 0;
+    }
+}
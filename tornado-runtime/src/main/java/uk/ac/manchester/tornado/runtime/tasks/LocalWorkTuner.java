@@ -0,0 +1,234 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import uk.ac.manchester.tornado.api.TornadoTargetDevice;
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+import uk.ac.manchester.tornado.runtime.common.TornadoXPUDevice;
+import uk.ac.manchester.tornado.runtime.tasks.meta.TaskDataContext;
+
+/**
+ * Tunes the local work-group sizes of the kernels of a task-graph from their measured costs.
+ *
+ * <p>
+ * Each kernel is tuned for a device and a global work size with a {@link LocalWorkSearch}, after the first execution
+ * of the task-graph, which compiles the kernels and computes their global work sizes. The kernels are explored one at
+ * a time: the other kernels use the best local work-group size measured so far. The result of each search is persisted
+ * in {@link TornadoOptions#AUTOTUNE_FILE}, keyed by a hash of the kernel, the name of the device and the global work
+ * size, so the next runs apply it without exploring again.
+ * </p>
+ *
+ * <p>
+ * Tasks with a local work-group size set by the user, with a {@code WorkerGrid} or scheduled by the driver are not
+ * tuned.
+ * </p>
+ */
+final class LocalWorkTuner {
+
+    private static final TornadoLogger logger = new TornadoLogger(LocalWorkTuner.class);
+
+    private static final DecisionStore STORE = new DecisionStore(TornadoOptions.AUTOTUNE_FILE, "TornadoVM local work-group sizes");
+
+    private static final String DEFAULT = "default";
+
+    /**
+     * Execution that measures a candidate of the search of a kernel.
+     */
+    record Trial(String key, TaskDataContext meta, LocalWorkSearch search) {
+    }
+
+    private final Map<String, LocalWorkSearch> searches;
+    private final Map<CompilableTask, String> kernelHashes;
+    private final Set<TaskDataContext> managed;
+
+    LocalWorkTuner() {
+        this.searches = new HashMap<>();
+        this.kernelHashes = new HashMap<>();
+        this.managed = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Applies the local work-group sizes of the next execution to the tasks.
+     *
+     * @return The candidate to measure in the next execution, or {@code null} if no kernel is being explored.
+     */
+    Trial prepare(List<SchedulableTask> tasks) {
+        Trial trial = null;
+        for (SchedulableTask task : tasks) {
+            if (!(task instanceof CompilableTask compilableTask) || !isTunable(compilableTask.meta())) {
+                continue;
+            }
+            TaskDataContext meta = compilableTask.meta();
+            String key = storeKey(compilableTask, meta);
+            LocalWorkSearch search = searches.computeIfAbsent(key, k -> restore(k, meta));
+            if (trial == null && !search.isDone()) {
+                trial = new Trial(key, meta, search);
+                apply(meta, search.current());
+            } else {
+                apply(meta, search.getBest());
+            }
+        }
+        return trial;
+    }
+
+    /**
+     * Records the cost of an execution that measured a candidate.
+     */
+    void record(Trial trial, long cost) {
+        trial.search().record(cost);
+        decideIfDone(trial);
+    }
+
+    /**
+     * Skips a candidate that failed to execute and applies the best local work-group size measured so far.
+     */
+    void reject(Trial trial) {
+        logger.debug("[Autotuning] local work-group size %s failed for %s", encode(trial.search().current()), trial.key());
+        trial.search().reject();
+        apply(trial.meta(), trial.search().getBest());
+        decideIfDone(trial);
+    }
+
+    /**
+     * Gives the local work-group sizes of the tuned tasks back to the driver.
+     */
+    void restoreDefaults() {
+        managed.forEach(TaskDataContext::setLocalWorkToNotDefined);
+        managed.clear();
+    }
+
+    private boolean isTunable(TaskDataContext meta) {
+        if (!managed.contains(meta) && meta.isLocalWorkDefined()) {
+            // Set by the user
+            return false;
+        }
+        if (meta.isWorkerGridAvailable() || meta.shouldUseOpenCLDriverScheduling() || meta.getDomain() == null) {
+            return false;
+        }
+        long[] globalWork = meta.getGlobalWork();
+        if (globalWork == null || globalWork.length != meta.getDims()) {
+            return false;
+        }
+        for (long value : globalWork) {
+            if (value <= 0) {
+                // Not computed yet by the driver
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void apply(TaskDataContext meta, long[] localWork) {
+        if (localWork != null) {
+            meta.setLocalWork(localWork);
+            managed.add(meta);
+        } else if (managed.remove(meta)) {
+            meta.setLocalWorkToNotDefined();
+        }
+    }
+
+    private void decideIfDone(Trial trial) {
+        if (trial.search().isDone()) {
+            String value = encode(trial.search().getBest());
+            STORE.store(trial.key(), value);
+            logger.debug("[Autotuning] local work-group size %s selected for %s", value, trial.key());
+        }
+    }
+
+    private LocalWorkSearch restore(String key, TaskDataContext meta) {
+        String value = STORE.lookup(key);
+        if (value != null) {
+            try {
+                long[] localWork = decode(value);
+                if (localWork == null || localWork.length == meta.getDims()) {
+                    logger.debug("[Autotuning] local work-group size %s restored for %s", value, key);
+                    return LocalWorkSearch.decided(localWork);
+                }
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring the local work-group size %s of %s: %s", value, key, e.getMessage());
+            }
+        }
+        TornadoTargetDevice device = meta.getXPUDevice().getPhysicalDevice();
+        return new LocalWorkSearch(meta.getGlobalWork(), device.getDeviceMaxWorkGroupSize()[0], device.getDeviceMaxWorkItemSizes(), TornadoOptions.AUTOTUNE_BUDGET,
+                TornadoOptions.AUTOTUNE_SAMPLES);
+    }
+
+    /**
+     * Key of the search of a kernel, stable across JVM runs: a hash of the kernel, the backend and the name of the
+     * device, and the global work size.
+     */
+    private String storeKey(CompilableTask task, TaskDataContext meta) {
+        TornadoXPUDevice device = meta.getXPUDevice();
+        String kernelHash = kernelHashes.computeIfAbsent(task, LocalWorkTuner::kernelHash);
+        return kernelHash + "|" + device.getTornadoVMBackend() + ":" + device.getDeviceName() + "|" + encode(meta.getGlobalWork());
+    }
+
+    /**
+     * Hash of the class file that declares the method of the task, its name and its signature, so a change in the
+     * code of the kernel discards the previous results.
+     */
+    private static String kernelHash(CompilableTask task) {
+        Method method = task.getMethod();
+        Class<?> declaringClass = method.getDeclaringClass();
+        String classHash = PersistentKernelCache.hashClassFile(declaringClass);
+        String kernel = (classHash != null ? classHash : declaringClass.getName()) + "#" + method.getName() + Arrays.toString(method.getParameterTypes());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(kernel.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            return declaringClass.getName() + "#" + method.getName() + "@" + Integer.toHexString(kernel.hashCode());
+        }
+    }
+
+    static String encode(long[] localWork) {
+        if (localWork == null) {
+            return DEFAULT;
+        }
+        return Arrays.stream(localWork).mapToObj(Long::toString).collect(Collectors.joining(","));
+    }
+
+    static long[] decode(String value) {
+        if (DEFAULT.equals(value)) {
+            return null;
+        }
+        return Arrays.stream(value.split(",")).mapToLong(Long::parseLong).toArray();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.WorkerGrid2D;
+import uk.ac.manchester.tornado.api.common.TaskPackage;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.runtime.analyzer.LocalMemoryTilingGenerator;
+import uk.ac.manchester.tornado.runtime.analyzer.TaskUtils;
+import uk.ac.manchester.tornado.runtime.analyzer.TiledKernel;
+import uk.ac.manchester.tornado.runtime.common.TornadoLogger;
+import uk.ac.manchester.tornado.runtime.common.TornadoOptions;
+
+/**
+ * Task-graph rewritten with the tasks of the original task-graph tiled by a {@link LocalMemoryTilingGenerator}. Each
+ * tiled task is a {@code KernelContext} kernel that runs with the work-group size that its tiles are built for, so the
+ * rewritten task-graph runs with a {@link GridScheduler}. As for fusion (see {@link FusedTaskGraph}), the rewritten
+ * task-graph is built once, the first time the original task-graph is executed, and it runs in its own execution plan
+ * in place of the original one.
+ */
+class TiledTaskGraph {
+
+    private static final LocalMemoryTilingGenerator GENERATOR = loadGenerator();
+    private static final AtomicInteger counterName = new AtomicInteger(0);
+
+    private final TornadoTaskGraph originalTaskGraph;
+    private final TornadoExecutionPlan executionPlan;
+    private TornadoDevice device;
+    private TornadoExecutionResult executionResult;
+
+    private TiledTaskGraph(TornadoTaskGraph originalTaskGraph, TaskGraph rewrittenTaskGraph, GridScheduler gridScheduler) {
+        this.originalTaskGraph = originalTaskGraph;
+        this.executionPlan = new TornadoExecutionPlan(rewrittenTaskGraph.snapshot());
+        this.executionPlan.withGridScheduler(gridScheduler);
+    }
+
+    private static LocalMemoryTilingGenerator loadGenerator() {
+        try {
+            Class<?> klass = Class.forName(TornadoOptions.LOCAL_MEMORY_TILING_GENERATOR);
+            return (LocalMemoryTilingGenerator) klass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            new TornadoLogger().debug("[TILING] Local memory tiling generator %s not available: %s", TornadoOptions.LOCAL_MEMORY_TILING_GENERATOR, e);
+            return null;
+        }
+    }
+
+    /**
+     * Tiles the tasks of a task-graph. The tasks that cannot be tiled are kept as they are.
+     *
+     * @return The rewritten task-graph, or {@code null} if no task can be tiled.
+     */
+    static TiledTaskGraph create(TornadoTaskGraph originalTaskGraph, List<TaskPackage> taskPackages, List<StreamingObject> inputModeObjects, List<StreamingObject> outputModeObjects) {
+        if (GENERATOR == null) {
+            return null;
+        }
+        String name = TornadoTaskGraph.GENERATED_TASK_GRAPH_PREFIX + "tiled" + counterName.incrementAndGet();
+        TaskGraph rewrittenTaskGraph = new TaskGraph(name);
+        for (StreamingObject inputModeObject : inputModeObjects) {
+            TornadoTaskGraph.performStreamInObject(rewrittenTaskGraph, inputModeObject.getObject(), inputModeObject.getMode());
+        }
+
+        GridScheduler gridScheduler = new GridScheduler();
+        boolean tiled = false;
+        for (TaskPackage taskPackage : taskPackages) {
+            Object[] parameters = taskPackage.getTaskParameters();
+            Method method = TaskUtils.resolveMethodHandle(parameters[0]);
+            if (FusedTaskGraph.hasReduceParameters(method)) {
+                // Reductions are rewritten from the original task-graph
+                return null;
+            }
+            Object[] arguments = Arrays.copyOfRange(parameters, 1, parameters.length);
+            boolean tileable = !taskPackage.isPrebuiltTask() && taskPackage.getNumThreadsToRun() == 0;
+            TiledKernel kernel = tileable ? GENERATOR.tile(method, arguments) : null;
+            Object code = (kernel != null) ? defineTask(taskPackage.getId(), method, kernel) : null;
+            if (code == null) {
+                rewrittenTaskGraph.addTask(FusedTaskGraph.createPackage(taskPackage.getId(), parameters[0], arguments));
+            } else {
+                rewrittenTaskGraph.addTask(FusedTaskGraph.createPackage(taskPackage.getId(), code, kernel.arguments()));
+                gridScheduler.addWorkerGrid(name + "." + taskPackage.getId(), createWorkerGrid(kernel));
+                tiled = true;
+            }
+        }
+        if (!tiled) {
+            return null;
+        }
+
+        for (StreamingObject outputModeObject : outputModeObjects) {
+            TornadoTaskGraph.performStreamOutThreads(outputModeObject.getMode(), rewrittenTaskGraph, outputModeObject.getObject());
+        }
+        return new TiledTaskGraph(originalTaskGraph, rewrittenTaskGraph, gridScheduler);
+    }
+
+    private static Object defineTask(String id, Method method, TiledKernel kernel) {
+        try {
+            MethodHandles.Lookup lookup = FusedTaskGraph.lookupIn(method.getDeclaringClass());
+            Class<?> tiledClass = lookup.defineClass(kernel.classFile());
+            new TornadoLogger().debug("[TILING] Task %s tiled with local work %s", id, Arrays.toString(kernel.localWork()));
+            return tiledClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            new TornadoLogger().debug("[TILING] Task %s is not tiled: %s", id, e);
+            return null;
+        }
+    }
+
+    private static WorkerGrid createWorkerGrid(TiledKernel kernel) {
+        long[] globalWork = kernel.globalWork();
+        long[] localWork = kernel.localWork();
+        WorkerGrid workerGrid = (globalWork[1] > 1 || localWork[1] > 1) ? new WorkerGrid2D((int) globalWork[0], (int) globalWork[1]) : new WorkerGrid1D((int) globalWork[0]);
+        workerGrid.setLocalWork(localWork[0], localWork[1], localWork[2]);
+        return workerGrid;
+    }
+
+    TornadoExecutionResult getExecutionResult() {
+        return executionResult;
+    }
+
+    /**
+     * Runs the rewritten task-graph on the device of the original task-graph, with the profiler and the debug
+     * options of the original execution plan.
+     */
+    void execute() {
+        TornadoDevice originalDevice = originalTaskGraph.getDevice();
+        if (originalDevice != null && originalDevice != device) {
+            executionPlan.withDevice(originalDevice);
+            device = originalDevice;
+        }
+        FusedTaskGraph.copyExecutionOptions(originalTaskGraph, executionPlan);
+        executionResult = executionPlan.execute();
+    }
+
+    void freeDeviceMemory() {
+        executionPlan.freeDeviceMemory();
+    }
+}
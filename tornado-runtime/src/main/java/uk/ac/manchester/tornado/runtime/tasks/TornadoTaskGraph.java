@@ -34,16 +34,22 @@ import java.lang.foreign.MemorySegment;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -57,8 +63,11 @@ import uk.ac.manchester.tornado.api.GridScheduler;
 import uk.ac.manchester.tornado.api.KernelContext;
 import uk.ac.manchester.tornado.api.TaskGraph;
 import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.TornadoProfilerResult;
 import uk.ac.manchester.tornado.api.TornadoRuntime;
 import uk.ac.manchester.tornado.api.TornadoTaskGraphInterface;
+import uk.ac.manchester.tornado.api.WorkerGrid;
 import uk.ac.manchester.tornado.api.common.Access;
 import uk.ac.manchester.tornado.api.common.Event;
 import uk.ac.manchester.tornado.api.common.LibraryTaskDescriptor;
@@ -93,10 +102,12 @@ import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoTaskRuntimeException;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
 import uk.ac.manchester.tornado.api.profiler.ProfilerType;
 import uk.ac.manchester.tornado.api.profiler.TornadoProfiler;
 import uk.ac.manchester.tornado.api.runtime.ExecutorFrame;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
 import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
 import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
@@ -104,11 +115,19 @@ import uk.ac.manchester.tornado.api.types.arrays.HalfFloatArray;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.api.types.arrays.LongArray;
 import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
+import uk.ac.manchester.tornado.api.types.arrays.TornadoNativeArray;
+import uk.ac.manchester.tornado.api.types.collections.TornadoCollectionInterface;
+import uk.ac.manchester.tornado.api.types.images.TornadoImagesInterface;
+import uk.ac.manchester.tornado.api.types.matrix.TornadoMatrixInterface;
+import uk.ac.manchester.tornado.api.types.volumes.TornadoVolumesInterface;
+import uk.ac.manchester.tornado.runtime.EmptyEvent;
+import uk.ac.manchester.tornado.runtime.JVMMapping;
 import uk.ac.manchester.tornado.runtime.TornadoCoreRuntime;
 import uk.ac.manchester.tornado.runtime.TornadoVM;
 import uk.ac.manchester.tornado.runtime.analyzer.MetaReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.ReduceCodeAnalysis;
 import uk.ac.manchester.tornado.runtime.analyzer.TaskUtils;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
 import uk.ac.manchester.tornado.runtime.common.BatchConfiguration;
 import uk.ac.manchester.tornado.runtime.library.LibraryRegistry;
 import uk.ac.manchester.tornado.runtime.common.RuntimeUtilities;
@@ -122,6 +141,7 @@ import uk.ac.manchester.tornado.runtime.graph.TornadoExecutionContext;
 import uk.ac.manchester.tornado.runtime.graph.TornadoGraph;
 import uk.ac.manchester.tornado.runtime.graph.TornadoGraphBuilder;
 import uk.ac.manchester.tornado.runtime.graph.TornadoVMBytecodeBuilder;
+import uk.ac.manchester.tornado.runtime.jvm.JVMExecutionEngine;
 import uk.ac.manchester.tornado.runtime.profiler.EmptyProfiler;
 import uk.ac.manchester.tornado.runtime.profiler.TimeProfiler;
 import uk.ac.manchester.tornado.runtime.sketcher.Sketch;
@@ -145,6 +165,8 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private static final CompileInfo COMPILE_ONLY = new CompileInfo(true, false);
     private static final CompileInfo COMPILE_AND_UPDATE = new CompileInfo(true, true);
     private static final CompileInfo NOT_COMPILE_UPDATE = new CompileInfo(false, false);
+    // Never started: it is only used to check whether a segment is confined to its owner thread
+    private static final Thread NON_OWNER_THREAD = new Thread(() -> {});
     private MetaReduceCodeAnalysis analysisTaskGraph;
     private TornadoExecutionContext executionContext;
     private byte[] highLevelCode = new byte[8192];
@@ -177,14 +199,31 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     private boolean reduceExpressionRewritten = false;
     private ReduceTaskGraph reduceTaskGraph;
     private boolean reduceAnalysis = false;
+    private FusedTaskGraph fusedTaskGraph;
+    private boolean fusionAnalysis;
+    private TiledTaskGraph tiledTaskGraph;
+    private boolean tilingAnalysis;
     private TornadoProfiler timeProfiler;
     private boolean updateData;
     private boolean isFinished;
     private GridScheduler gridScheduler;
+    private GridScheduler reductionGrids;
     private ProfilerMode profilerMode;
     private boolean isConcurrentDevicesEnabled;
     private long executionPlanId;
     private boolean bailout;
+    /**
+     * Set while a configuration is explored, so a bailout is reported to the caller instead of running the sequential
+     * code, whose time would be recorded as the cost of the configuration.
+     */
+    private boolean trialExecution;
+    /**
+     * Set when the tasks run on the host, on the JVM device or after a bailout, since they then update the arrays of
+     * the application in place.
+     */
+    private boolean hostTasksStarted;
+    private DeviceSelector deviceSelector;
+    private LocalWorkTuner localWorkTuner;
     private Access[] accesses;
 
     /**
@@ -326,11 +365,16 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         newTaskGraph.argumentsLookUp = Collections.unmodifiableSet(this.argumentsLookUp);
 
         newTaskGraph.reduceTaskGraph = this.reduceTaskGraph;
+        newTaskGraph.fusedTaskGraph = this.fusedTaskGraph;
+        newTaskGraph.fusionAnalysis = this.fusionAnalysis;
+        newTaskGraph.tiledTaskGraph = this.tiledTaskGraph;
+        newTaskGraph.tilingAnalysis = this.tilingAnalysis;
         newTaskGraph.analysisTaskGraph = this.analysisTaskGraph;
         newTaskGraph.highLevelCode = this.highLevelCode;
 
         newTaskGraph.timeProfiler = this.timeProfiler;
         newTaskGraph.gridScheduler = this.gridScheduler;
+        newTaskGraph.reductionGrids = this.reductionGrids;
 
         // Pass the profiler to the execution context
         newTaskGraph.executionContext.withProfiler(timeProfiler);
@@ -393,6 +437,58 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         executionContext.setStagedTransfersEnabled(false);
     }
 
+    @Override
+    public void withDeviceSelection(DeviceSelectionPolicy policy) {
+        if (deviceSelector == null || deviceSelector.getPolicy() != policy) {
+            deviceSelector = new DeviceSelector(policy, getDeviceSelectionKey());
+        }
+    }
+
+    @Override
+    public void withoutDeviceSelection() {
+        deviceSelector = null;
+    }
+
+    @Override
+    public void withAutotuning() {
+        if (localWorkTuner == null) {
+            localWorkTuner = new LocalWorkTuner();
+        }
+    }
+
+    @Override
+    public void withoutAutotuning() {
+        if (localWorkTuner != null) {
+            localWorkTuner.restoreDefaults();
+            localWorkTuner = null;
+        }
+    }
+
+    /**
+     * Identifier of the task-graph for the device selection, stable across JVM runs: the name of the task-graph and a
+     * SHA-256 of the names of its tasks, and of the signatures and class files of their methods, so that two
+     * task-graphs with the same name do not share their measurements, and a change in the code of a task discards them.
+     */
+    private String getDeviceSelectionKey() {
+        StringBuilder tasks = new StringBuilder();
+        for (SchedulableTask task : executionContext.getTasks()) {
+            tasks.append(task.getId());
+            if (task instanceof CompilableTask compilableTask) {
+                Method method = compilableTask.getMethod();
+                String classHash = PersistentKernelCache.hashClassFile(method.getDeclaringClass());
+                tasks.append('=').append(method.getDeclaringClass().getName()).append('.').append(method.getName()).append(Arrays.toString(method.getParameterTypes()));
+                tasks.append('#').append(classHash);
+            }
+            tasks.append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tasks.toString().getBytes(StandardCharsets.UTF_8));
+            return taskGraphName + "@" + HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new TornadoRuntimeException(e);
+        }
+    }
+
     @Override
     public void withThreadInfo() {
         meta().enableThreadInfo();
@@ -415,10 +511,28 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void withGridScheduler(GridScheduler gridScheduler) {
-        this.gridScheduler = gridScheduler;
+        this.gridScheduler = withReductionGrids(gridScheduler);
         checkGridSchedulerNames();
     }
 
+    /**
+     * The tasks of the reductions with a user-defined combiner run with their own grids, so a grid scheduler of the
+     * user is copied with the grids of these tasks, instead of being modified.
+     */
+    private GridScheduler withReductionGrids(GridScheduler userGridScheduler) {
+        if (reductionGrids == null) {
+            return userGridScheduler;
+        }
+        GridScheduler merged = new GridScheduler();
+        for (String taskName : userGridScheduler.keySet()) {
+            merged.addWorkerGrid(taskName, userGridScheduler.get(taskName));
+        }
+        for (String taskName : reductionGrids.keySet()) {
+            merged.addWorkerGrid(taskName, reductionGrids.get(taskName));
+        }
+        return merged;
+    }
+
     @Override
     public long getCurrentDeviceMemoryUsage() {
         return executionContext.getCurrentDeviceMemoryUsage();
@@ -690,7 +804,8 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
         executionContext.setTask(index, task);
 
-        if (task instanceof CompilableTask compilableTask) {
+        // The JVM backend without an accelerator backend runs the task from its bytecode, without a sketch
+        if (task instanceof CompilableTask compilableTask && providers != null) {
             final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(compilableTask.getMethod());
             final TaskDataContext taskMetaData = compilableTask.meta();
             new SketchRequest(resolvedMethod, providers, suites.getGraphBuilderSuite(), suites.getSketchTier(), taskMetaData.getBackendIndex(), taskMetaData.getDeviceIndex()).run();
@@ -711,13 +826,19 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         if (task instanceof CompilableTask compilableTask) {
             checkForMemorySegmentAsTaskParameter(compilableTask);
 
-            final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(compilableTask.getMethod());
-            final TaskDataContext taskMetaData = compilableTask.meta();
-            new SketchRequest(resolvedMethod, providers, suites.getGraphBuilderSuite(), suites.getSketchTier(), taskMetaData.getBackendIndex(), taskMetaData.getDeviceIndex()).run();
+            if (providers == null) {
+                // The JVM backend without an accelerator backend runs the task from its bytecode, without a sketch
+                this.accesses = new Access[task.getArguments().length];
+                Arrays.fill(this.accesses, Access.READ_WRITE);
+            } else {
+                final ResolvedJavaMethod resolvedMethod = TornadoCoreRuntime.getTornadoRuntime().resolveMethod(compilableTask.getMethod());
+                final TaskDataContext taskMetaData = compilableTask.meta();
+                new SketchRequest(resolvedMethod, providers, suites.getGraphBuilderSuite(), suites.getSketchTier(), taskMetaData.getBackendIndex(), taskMetaData.getDeviceIndex()).run();
 
-            Sketch lookup = TornadoSketcher.lookup(resolvedMethod, compilableTask.meta().getBackendIndex(), compilableTask.meta().getDeviceIndex());
-            this.compilationGraph = lookup.getGraph();
-            this.accesses = lookup.getArgumentsAccess();
+                Sketch lookup = TornadoSketcher.lookup(resolvedMethod, compilableTask.meta().getBackendIndex(), compilableTask.meta().getDeviceIndex());
+                this.compilationGraph = lookup.getGraph();
+                this.accesses = lookup.getArgumentsAccess();
+            }
         } else {
             // Pre-built and library tasks carry explicit accesses (no sketch)
             this.accesses = task.getArgumentsAccess();
@@ -949,7 +1070,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     private void deoptimiseToSequentialJava(TornadoBailoutRuntimeException e) {
         dumpDeoptimisationReason(e);
-        runAllTasksJavaSequential();
+        runAllTasksOnHost();
     }
 
     @Override
@@ -961,11 +1082,17 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
 
         try {
-            event = vm.execute(isConcurrentDevicesEnabled, timeProfiler);
+            if (executionContext.isNonBlockingExecution()) {
+                event = vm.executeNonBlocking(timeProfiler);
+            } else {
+                event = vm.execute(isConcurrentDevicesEnabled, timeProfiler);
+            }
             timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
             updateProfiler();
         } catch (TornadoBailoutRuntimeException e) {
-            if (TornadoOptions.RECOVER_BAILOUT) {
+            if (trialExecution) {
+                throw e;
+            } else if (TornadoOptions.RECOVER_BAILOUT) {
                 deoptimiseToSequentialJava(e);
             } else {
                 if (DEBUG) {
@@ -1007,6 +1134,27 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         vm.clearProfiles();
     }
 
+    @Override
+    public ProfilerHistogram getProfilerHistogram(ProfilerType type) {
+        TornadoExecutionResult rewrittenResult = getRewrittenExecutionResult();
+        if (rewrittenResult != null) {
+            TornadoProfilerResult profilerResult = rewrittenResult.getProfilerResult();
+            return switch (type) {
+                case TOTAL_KERNEL_TIME -> profilerResult.getDeviceKernelTimeHistogram();
+                case COPY_IN_TIME -> profilerResult.getDeviceWriteTimeHistogram();
+                case COPY_OUT_TIME -> profilerResult.getDeviceReadTimeHistogram();
+                case TOTAL_TASK_GRAPH_TIME -> profilerResult.getTotalTimeHistogram();
+                default -> ProfilerHistogram.EMPTY;
+            };
+        }
+        return timeProfiler == null ? ProfilerHistogram.EMPTY : timeProfiler.getHistogram(type);
+    }
+
+    @Override
+    public ProfilerHistogram getTaskProfilerHistogram(ProfilerType type, String taskId) {
+        return timeProfiler == null ? ProfilerHistogram.EMPTY : timeProfiler.getTaskHistogram(type, taskId);
+    }
+
     @Override
     public void waitOn() {
         if ((TornadoOptions.VM_USE_DEPS || executionContext.isIntraPlanConcurrencyEnabled()) && event != null) {
@@ -1032,6 +1180,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             if (parameter instanceof Number) {
                 continue;
             }
+            checkSharedSegment(parameter);
 
             // Only add the object is the streamIn list if the data transfer mode is set to
             // EVERY_EXECUTION
@@ -1070,6 +1219,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             } else if (parameter instanceof Number) {
                 throw new TornadoRuntimeException("[ERROR] Invalid object type (Number) passed into streamIn() in task-graph " + executionContext.getId());
             }
+            checkSharedSegment(parameter);
 
             // the accessor is set to READ_WRITE because the object is UNDER_DEMAND
             executionContext.getLocalStateObject(parameter, Access.READ_WRITE).setOnDevice(true);
@@ -1094,6 +1244,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             } else if (parameter instanceof Number) {
                 throw new TornadoRuntimeException("[ERROR] Invalid object type (Number) passed into streamIn() in task-graph " + executionContext.getId());
             }
+            checkSharedSegment(parameter);
 
             // the accessor is set to READ_WRITE because the object is UNDER_DEMAND
             executionContext.getLocalStateObject(parameter, Access.READ_WRITE).setOnDevice(true);
@@ -1128,6 +1279,7 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
             if (isANumber(functionParameter) && !isAtomic(functionParameter)) {
                 throw new TornadoRuntimeException("[ERROR] Scalar value used as output. Use an array or a vector-type instead");
             }
+            checkSharedSegment(functionParameter);
 
             if (mode != DataTransferMode.UNDER_DEMAND) {
                 streamOutObjects.add(functionParameter);
@@ -1244,6 +1396,12 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void freeDeviceMemory() {
+        if (fusedTaskGraph != null) {
+            fusedTaskGraph.freeDeviceMemory();
+        }
+        if (tiledTaskGraph != null) {
+            tiledTaskGraph.freeDeviceMemory();
+        }
         free();
     }
 
@@ -1511,6 +1669,68 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return abstractTaskGraph;
     }
 
+    /**
+     * Fusion and tiling are limited to task-graphs in which every task runs on the device of the task-graph, with the
+     * default thread configuration and without batches, and whose objects are not shared with other task-graphs.
+     */
+    private boolean isTaskRewritingApplicable() {
+        List<SchedulableTask> tasks = executionContext.getTasks();
+        if (tasks.isEmpty() || tasks.size() != taskPackages.size() || gridScheduler != null || batchSizeBytes != TornadoExecutionContext.INIT_VALUE) {
+            return false;
+        }
+        if (!executionContext.getPersistedObjects().isEmpty()) {
+            return false;
+        }
+        for (StreamingObject streamingObject : inputModesObjects) {
+            if (streamingObject.getMode() == DataTransferMode.UNDER_DEMAND) {
+                return false;
+            }
+        }
+        for (StreamingObject streamingObject : outputModeObjects) {
+            if (streamingObject.getMode() == DataTransferMode.UNDER_DEMAND) {
+                return false;
+            }
+        }
+        TornadoDevice device = getDevice();
+        for (SchedulableTask task : tasks) {
+            if (!(task instanceof CompilableTask) || task.getDevice() != device) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rewrites the task-graph with its consecutive element-wise tasks fused, the first time it is executed.
+     *
+     * @return True if the task-graph has been rewritten.
+     */
+    private boolean fuseKernels() {
+        if (!fusionAnalysis) {
+            fusionAnalysis = true;
+            if (taskPackages.size() >= 2 && isTaskRewritingApplicable()) {
+                fusedTaskGraph = FusedTaskGraph.create(this, taskPackages, inputModesObjects, outputModeObjects);
+            }
+        }
+        return fusedTaskGraph != null;
+    }
+
+    /**
+     * Rewrites the task-graph with its stencil and GEMM-like tasks tiled in local memory, the first time it is
+     * executed.
+     *
+     * @return True if the task-graph has been rewritten.
+     */
+    private boolean tileKernels() {
+        if (!tilingAnalysis) {
+            tilingAnalysis = true;
+            if (isTaskRewritingApplicable()) {
+                tiledTaskGraph = TiledTaskGraph.create(this, taskPackages, inputModesObjects, outputModeObjects);
+            }
+        }
+        return tiledTaskGraph != null;
+    }
+
     private void cleanUp() {
         updateData = false;
         isFinished = true;
@@ -1569,27 +1789,36 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
+    /**
+     * The profiler is kept across executions, so its histograms hold the timers of every execution since the profiler
+     * was enabled. A new profiler is only created when the profiler is enabled or disabled.
+     */
     private void setupProfiler() {
         if (isProfilerEnabled()) {
-            this.timeProfiler = new TimeProfiler();
-        } else {
+            if (!(timeProfiler instanceof TimeProfiler)) {
+                this.timeProfiler = new TimeProfiler();
+                for (SchedulableTask task : executionContext.getTasks()) {
+                    logTaskMethodHandle(task);
+                }
+            }
+        } else if (!(timeProfiler instanceof EmptyProfiler)) {
             this.timeProfiler = new EmptyProfiler();
         }
         executionContext.withProfiler(timeProfiler);
-        for (SchedulableTask task : executionContext.getTasks()) {
-            logTaskMethodHandle(task);
-        }
     }
 
     private void bailout() {
         if (!TornadoOptions.RECOVER_BAILOUT) {
             throw new TornadoBailoutRuntimeException("[TornadoVM] Error - Recover option disabled");
+        } else if (trialExecution) {
+            throw new TornadoBailoutRuntimeException("[TornadoVM] Bailout while exploring a configuration");
         } else {
-            runAllTasksJavaSequential();
+            runAllTasksOnHost();
         }
     }
 
     private TornadoTaskGraphInterface execute() {
+        hostTasksStarted = false;
 
         // check if bailout due to task-rewriting
         if (bailout) {
@@ -1608,6 +1837,32 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
         updatePersistedObjectState();
 
+        checkJVMPlacement();
+        checkArraySizes();
+
+        if (TornadoOptions.KERNEL_FUSION && !(getId().startsWith(GENERATED_TASK_GRAPH_PREFIX)) && fuseKernels()) {
+            fusedTaskGraph.execute();
+            timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            cleanUp();
+            return this;
+        }
+
+        if (TornadoOptions.LOCAL_MEMORY_TILING && !(getId().startsWith(GENERATED_TASK_GRAPH_PREFIX)) && tileKernels()) {
+            tiledTaskGraph.execute();
+            timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            cleanUp();
+            return this;
+        }
+
+        // The JVM device shares the memory of the host: no bytecodes, transfers or reduce skeletons are needed
+        if (isExecutedOnJVM()) {
+            runAllTasksOnJVM();
+            timeProfiler.stop(ProfilerType.TOTAL_TASK_GRAPH_TIME);
+            updateProfiler();
+            cleanUp();
+            return this;
+        }
+
         TornadoTaskGraphInterface reduceTaskGraph = null;
         if (TornadoOptions.EXPERIMENTAL_REDUCE && !(getId().startsWith(GENERATED_TASK_GRAPH_PREFIX))) {
             reduceTaskGraph = analyzeSkeletonAndRun();
@@ -1646,10 +1901,207 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     public TornadoTaskGraphInterface execute(ExecutorFrame executorFrame) {
         executionPlanId = executorFrame.getExecutionPlanId();
         checkProfilerOn(executorFrame);
+        if (isDeviceSelectionApplicable()) {
+            return executeWithDeviceSelection();
+        } else if (isAutotuningApplicable()) {
+            return executeWithAutotuning();
+        }
         return execute();
 
     }
 
+    /**
+     * Executes the task-graph from a dispatch thread of the runtime. When the device reports the status of its events
+     * without blocking, the dispatch thread only enqueues the commands of the task-graph, and the returned future is
+     * completed by the {@link CompletionPoller} once the last command has finished. Otherwise, the dispatch thread
+     * waits for the device.
+     */
+    @Override
+    public CompletableFuture<Void> executeAsync(ExecutorFrame executorFrame) {
+        ExecutorService dispatcher = TornadoCoreRuntime.getDispatchExecutor();
+        return CompletableFuture.supplyAsync(() -> dispatch(executorFrame), dispatcher) //
+                .thenCompose(CompletionPoller.getInstance()::watch) //
+                .whenCompleteAsync((ignored, error) -> releaseDeferredDeallocations(), dispatcher);
+    }
+
+    /**
+     * Non-blocking executions are limited to task-graphs that run on a single device without profiling or batches,
+     * so the completion of the execution is given by the last event of a single command queue.
+     */
+    private boolean isNonBlockingExecutionApplicable(ExecutorFrame executorFrame) {
+        return !isConcurrentDevicesEnabled //
+                && executionContext.getValidContextSize() <= 1 //
+                && executionContext.getBatchSize() <= 0 //
+                && executorFrame.getProfilerMode() == null //
+                && !TornadoOptions.isProfilerEnabled() //
+                && !TornadoOptions.EXPERIMENTAL_REDUCE //
+                && !TornadoOptions.KERNEL_FUSION //
+                && !TornadoOptions.LOCAL_MEMORY_TILING //
+                && !isDeviceSelectionApplicable() //
+                && !isAutotuningApplicable();
+    }
+
+    private Event dispatch(ExecutorFrame executorFrame) {
+        boolean nonBlocking = isNonBlockingExecutionApplicable(executorFrame);
+        event = null;
+        executionContext.setNonBlockingExecution(nonBlocking);
+        TornadoTaskGraphInterface executedTaskGraph;
+        try {
+            executedTaskGraph = execute(executorFrame);
+        } finally {
+            executionContext.setNonBlockingExecution(false);
+        }
+        if (!nonBlocking) {
+            executedTaskGraph.waitOn();
+            return new EmptyEvent();
+        }
+        // The event is not set if the task-graph ran on the JVM or bailed out to Java
+        return event != null ? event : new EmptyEvent();
+    }
+
+    private void releaseDeferredDeallocations() {
+        if (vm != null) {
+            vm.releaseDeferredDeallocations();
+        }
+    }
+
+    /**
+     * The device can only be selected for task-graphs that run all their tasks on a single device and that do not
+     * share device buffers with other task-graphs, since those buffers are bound to the device that holds them.
+     */
+    private boolean isDeviceSelectionApplicable() {
+        if (deviceSelector == null || isConcurrentDevicesEnabled || deviceSelector.getNumCandidates() < 2 || executionContext.getValidContextSize() > 1) {
+            return false;
+        }
+        if (!taskToPersistentObjectMap.isEmpty() || !executionContext.getPersistedTaskToObjectsMap().isEmpty()) {
+            return false;
+        }
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (!(task instanceof CompilableTask)) {
+                return false;
+            }
+        }
+        for (LocalObjectState localState : executionContext.getObjectStates()) {
+            if (localState.isOnDevice()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes the task-graph on the device picked by the {@link DeviceSelector} and records the measured costs. A
+     * device that fails to run the task-graph, or with which the task-graph bails out, is excluded. The execution is
+     * then repeated on the previous device, unless the failed execution has already updated the arrays of the
+     * application, in which case the failure is reported.
+     */
+    private TornadoTaskGraphInterface executeWithDeviceSelection() {
+        int sizeBucket = DeviceSelector.sizeBucket(executionContext.getObjectsSizeInBytes());
+        TornadoDevice previousDevice = getDevice();
+        TornadoDevice device = deviceSelector.select(sizeBucket);
+        setDevice(device);
+
+        long start = System.nanoTime();
+        RuntimeException failure = executeTrial();
+        if (failure != null) {
+            if (device.equals(previousDevice)) {
+                throw failure;
+            }
+            boolean hostMemoryModified = hasModifiedHostMemory();
+            deviceSelector.exclude(device);
+            setDevice(previousDevice);
+            if (hostMemoryModified) {
+                throw failure;
+            }
+            return execute();
+        }
+        long time = System.nanoTime() - start;
+
+        long kernelTime = -1;
+        long transferTime = -1;
+        if (isExecutedOnJVM()) {
+            // The JVM device shares the memory of the host
+            kernelTime = time;
+            transferTime = 0;
+        } else if (timeProfiler instanceof TimeProfiler) {
+            kernelTime = timeProfiler.getTimer(ProfilerType.TOTAL_KERNEL_TIME);
+            transferTime = timeProfiler.getTimer(ProfilerType.COPY_IN_TIME) + timeProfiler.getTimer(ProfilerType.COPY_OUT_TIME);
+        }
+        deviceSelector.record(sizeBucket, device, time, kernelTime, transferTime);
+        return this;
+    }
+
+    /**
+     * The local work-group sizes are only tuned for task-graphs that run on a single device without batches, since
+     * the measured costs of a kernel are then given by a single local work-group size.
+     */
+    private boolean isAutotuningApplicable() {
+        if (localWorkTuner == null || isConcurrentDevicesEnabled || executionContext.getValidContextSize() > 1 || executionContext.getBatchSize() > 0 || isExecutedOnJVM()) {
+            return false;
+        }
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (task instanceof CompilableTask) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Executes the task-graph with the local work-group sizes picked by the {@link LocalWorkTuner} and records the
+     * cost of the explored kernel: its kernel time when the profiler is enabled, and the time of the whole execution
+     * otherwise. A local work-group size that fails to run is skipped, and the execution is repeated with the best size
+     * measured so far. A local work-group size with which the task-graph bails out is also skipped, since the time
+     * of the sequential code is not its cost.
+     */
+    private TornadoTaskGraphInterface executeWithAutotuning() {
+        LocalWorkTuner.Trial trial = localWorkTuner.prepare(executionContext.getTasks());
+        if (trial == null) {
+            return execute();
+        }
+
+        long start = System.nanoTime();
+        if (executeTrial() != null) {
+            localWorkTuner.reject(trial);
+            return execute();
+        }
+        long cost = System.nanoTime() - start;
+
+        if (timeProfiler instanceof TimeProfiler) {
+            long kernelTime = timeProfiler.getTaskTimer(ProfilerType.TASK_KERNEL_TIME, trial.meta().getId());
+            if (kernelTime > 0) {
+                cost = kernelTime;
+            }
+        }
+        localWorkTuner.record(trial, cost);
+        return this;
+    }
+
+    /**
+     * @return Whether the last execution updated the arrays of the application before it failed.
+     */
+    private boolean hasModifiedHostMemory() {
+        return hostTasksStarted || (vm != null && vm.hasWrittenHostMemory());
+    }
+
+    /**
+     * Executes the task-graph with the configuration being explored, without recovering from a bailout.
+     *
+     * @return The failure of the execution, or {@code null} if the task-graph ran on the device.
+     */
+    private RuntimeException executeTrial() {
+        trialExecution = true;
+        try {
+            execute();
+            waitOn();
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        } finally {
+            trialExecution = false;
+        }
+    }
+
     private boolean isTaskNamePresent(String taskName) {
         for (TaskPackage taskPackage : taskPackages) {
             if (taskName.equals(taskGraphName + "." + taskPackage.getId())) {
@@ -1793,9 +2245,132 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         }
     }
 
-    private void runAllTasksJavaSequential() {
+    /**
+     * Runs the tasks on the host after a bailout. When the JVM backend is enabled, the tasks that the
+     * {@link JVMExecutionEngine} supports run on the cores of the host, with their element-wise loops vectorised;
+     * otherwise, and for the other tasks, they run sequentially in the calling thread.
+     */
+    private void runAllTasksOnHost() {
+        hostTasksStarted = true;
+        for (TaskPackage taskPackage : taskPackages) {
+            SchedulableTask task = findTask(taskPackage);
+            if (!TornadoOptions.JVM_BACKEND || !(task instanceof CompilableTask compilableTask)) {
+                runSequentialCodeInThread(taskPackage);
+                continue;
+            }
+            WorkerGrid workerGrid = (gridScheduler != null) ? gridScheduler.get(task.getId()) : null;
+            if (!JVMExecutionEngine.execute(compilableTask.getMethod(), compilableTask.getArguments(), workerGrid)) {
+                runSequentialCodeInThread(taskPackage);
+            }
+        }
+    }
+
+    /**
+     * @return The task of the execution context built from the task package, or {@code null} if the task has not been
+     *         built, as after a bailout.
+     */
+    private SchedulableTask findTask(TaskPackage taskPackage) {
+        String taskId = taskGraphName + "." + taskPackage.getId();
+        for (SchedulableTask task : executionContext.getTasks()) {
+            if (task.getId().equals(taskId)) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The kernels read the number of elements of a native array as an {@code int}, which is the number of elements of
+     * a batch when the task-graph is processed in batches. Arrays with more elements than {@link Integer#MAX_VALUE}
+     * would be processed only up to that index, so they are rejected unless each batch has fewer elements.
+     */
+    private void checkArraySizes() {
+        boolean batched = batchSizeBytes != TornadoExecutionContext.INIT_VALUE && !isExecutedOnJVM();
         for (TaskPackage taskPackage : taskPackages) {
-            runSequentialCodeInThread(taskPackage);
+            Object[] parameters = taskPackage.getTaskParameters();
+            // Note: the first element in the object list is a lambda expression (computation)
+            for (int i = 1; i < parameters.length; i++) {
+                if (!(parameters[i] instanceof TornadoNativeArray array) || array.getSizeLong() <= Integer.MAX_VALUE) {
+                    continue;
+                }
+                long elementsPerKernel = batched ? batchSizeBytes / array.getElementSize() : array.getSizeLong();
+                if (elementsPerKernel > Integer.MAX_VALUE) {
+                    throw new TornadoRuntimeException("[ERROR] Parameter #" + i + " of task <" + taskPackage.getId() + "> has " + array.getSizeLong()
+                            + " elements, but the kernels can process at most " + Integer.MAX_VALUE + " elements per array or per batch");
+                }
+            }
+        }
+    }
+
+    /**
+     * The memory of the objects of a task-graph is accessed by the threads of the runtime (e.g., the interpreter
+     * threads and the threads of the drivers), not only by the thread that executes the task-graph. Segments confined
+     * to a thread, such as the ones allocated within {@code NativeArenaScope.openConfined()}, are therefore rejected.
+     */
+    private void checkSharedSegment(Object parameter) {
+        MemorySegment segment = switch (parameter) {
+            case TornadoNativeArray nativeArray -> nativeArray.getSegmentWithHeader();
+            case TornadoCollectionInterface<?> collection -> collection.getSegmentWithHeader();
+            case TornadoImagesInterface<?> image -> image.getSegmentWithHeader();
+            case TornadoMatrixInterface<?> matrix -> matrix.getSegmentWithHeader();
+            case TornadoVolumesInterface<?> volume -> volume.getSegmentWithHeader();
+            case null, default -> null;
+        };
+        // A confined segment is only accessible by its owner thread, so it is not accessible by any other thread
+        if (segment != null && !segment.isAccessibleBy(NON_OWNER_THREAD)) {
+            throw new TornadoRuntimeException("[ERROR] Object " + parameter.getClass().getSimpleName() + " in task-graph " + taskGraphName
+                    + " is allocated in a confined arena. Objects of a task-graph must be allocated in a shared or automatic arena, e.g., within NativeArenaScope.openShared()");
+        }
+    }
+
+    /**
+     * The JVM device shares the memory of the host and has no command queue, so the tasks of a task-graph either all
+     * run on the JVM device or none of them does.
+     */
+    private void checkJVMPlacement() {
+        List<SchedulableTask> tasks = executionContext.getTasks();
+        long tasksOnJVM = tasks.stream().filter(task -> task.getDevice() instanceof JVMMapping).count();
+        if (tasksOnJVM > 0 && tasksOnJVM < tasks.size()) {
+            throw new TornadoRuntimeException("[ERROR] Task-graph " + getId() + " places " + tasksOnJVM + " of its " + tasks.size()
+                    + " tasks on the JVM device. The tasks of a task-graph must all run either on the JVM device or on accelerators.");
+        }
+    }
+
+    private boolean isExecutedOnJVM() {
+        List<SchedulableTask> tasks = executionContext.getTasks();
+        if (tasks.isEmpty() || tasks.size() != taskPackages.size()) {
+            return false;
+        }
+        for (SchedulableTask task : tasks) {
+            if (!(task instanceof CompilableTask) || !(task.getDevice() instanceof JVMMapping)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the tasks on the {@link JVMExecutionEngine}, in the order of the task-graph. A task that the engine cannot
+     * split across the cores of the host runs sequentially in the calling thread.
+     */
+    private void runAllTasksOnJVM() {
+        hostTasksStarted = true;
+        for (TaskPackage taskPackage : taskPackages) {
+            SchedulableTask task = findTask(taskPackage);
+            CompilableTask compilableTask = (CompilableTask) task;
+            WorkerGrid workerGrid = (gridScheduler != null) ? gridScheduler.get(task.getId()) : null;
+            if (timeProfiler instanceof TimeProfiler) {
+                timeProfiler.registerBackend(task.getId(), task.getDevice().getTornadoVMBackend().name());
+                timeProfiler.registerDeviceID(task.getId(), task.meta().getBackendIndex() + ":" + task.meta().getDeviceIndex());
+                timeProfiler.registerDeviceName(task.getId(), task.getDevice().getPhysicalDevice().getDeviceName());
+            }
+            long start = System.nanoTime();
+            if (!JVMExecutionEngine.execute(compilableTask.getMethod(), compilableTask.getArguments(), workerGrid)) {
+                runSequentialCodeInThread(taskPackage);
+            }
+            long elapsed = System.nanoTime() - start;
+            timeProfiler.setTaskTimer(ProfilerType.TASK_KERNEL_TIME, task.getId(), elapsed);
+            timeProfiler.sum(ProfilerType.TOTAL_KERNEL_TIME, elapsed);
         }
     }
 
@@ -1844,10 +2419,14 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
 
     @Override
     public void addTask(TaskPackage taskPackage) {
-        taskPackages.add(taskPackage);
         String id = taskPackage.getId();
         int type = taskPackage.getTaskType();
         Object[] parameters = taskPackage.getTaskParameters();
+        // Note: the first element in the object list is a lambda expression (computation)
+        for (int i = 1; i < parameters.length; i++) {
+            checkSharedSegment(parameters[i]);
+        }
+        taskPackages.add(taskPackage);
 
         Method method = TaskUtils.resolveMethodHandle(parameters[0]);
         ScheduleContext meta = meta();
@@ -1882,6 +2461,19 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         addInner(new LibraryTask(meta(), id, libraryTaskDescriptor));
     }
 
+    @Override
+    public void addReduction(String id, Class<?> combiner, Object[] inputs, Object[] results) {
+        CombinerReduction reduction = CombinerReduction.create(id, combiner, inputs, results);
+        if (reductionGrids == null) {
+            reductionGrids = new GridScheduler();
+        }
+        reductionGrids.addWorkerGrid(taskGraphName + "." + reduction.mapTask().getId(), reduction.mapGrid());
+        reductionGrids.addWorkerGrid(taskGraphName + "." + reduction.combineTask().getId(), reduction.combineGrid());
+        gridScheduler = (gridScheduler == null) ? reductionGrids : withReductionGrids(gridScheduler);
+        addTask(reduction.mapTask());
+        addTask(reduction.combineTask());
+    }
+
     @Override
     public void withBatch(String batchSize) {
         this.batchSizeBytes = parseSizeToBytes(batchSize);
@@ -1970,19 +2562,31 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
         return getProfilerValue(TOTAL_KERNEL_TIME);
     }
 
-    private long getProfilerValueFromReduceTaskGraph(ProfilerType profilerType) {
+    private TornadoExecutionResult getRewrittenExecutionResult() {
+        if (reduceTaskGraph != null) {
+            return reduceTaskGraph.getExecutionResult();
+        } else if (fusedTaskGraph != null) {
+            return fusedTaskGraph.getExecutionResult();
+        } else if (tiledTaskGraph != null) {
+            return tiledTaskGraph.getExecutionResult();
+        }
+        return null;
+    }
+
+    private long getProfilerValueFromResult(TornadoExecutionResult executionResult, ProfilerType profilerType) {
+        TornadoProfilerResult profilerResult = executionResult.getProfilerResult();
         return switch (profilerType) {
-            case TOTAL_KERNEL_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getDeviceKernelTime();
-            case TOTAL_DISPATCH_KERNEL_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getKernelDispatchTime();
-            case TOTAL_DISPATCH_DATA_TRANSFERS_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getDataTransferDispatchTime();
-            case COPY_OUT_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getDeviceReadTime();
-            case COPY_IN_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getDeviceWriteTime();
-            case TOTAL_DRIVER_COMPILE_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getDriverInstallTime();
-            case TOTAL_GRAAL_COMPILE_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTornadoCompilerTime();
-            case TOTAL_TASK_GRAPH_TIME -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalTime();
-            case TOTAL_COPY_IN_SIZE_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalBytesCopyIn();
-            case TOTAL_COPY_OUT_SIZE_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalBytesCopyOut();
-            case ALLOCATION_BYTES -> reduceTaskGraph.getExecutionResult().getProfilerResult().getTotalDeviceMemoryUsage();
+            case TOTAL_KERNEL_TIME -> profilerResult.getDeviceKernelTime();
+            case TOTAL_DISPATCH_KERNEL_TIME -> profilerResult.getKernelDispatchTime();
+            case TOTAL_DISPATCH_DATA_TRANSFERS_TIME -> profilerResult.getDataTransferDispatchTime();
+            case COPY_OUT_TIME -> profilerResult.getDeviceReadTime();
+            case COPY_IN_TIME -> profilerResult.getDeviceWriteTime();
+            case TOTAL_DRIVER_COMPILE_TIME -> profilerResult.getDriverInstallTime();
+            case TOTAL_GRAAL_COMPILE_TIME -> profilerResult.getTornadoCompilerTime();
+            case TOTAL_TASK_GRAPH_TIME -> profilerResult.getTotalTime();
+            case TOTAL_COPY_IN_SIZE_BYTES -> profilerResult.getTotalBytesCopyIn();
+            case TOTAL_COPY_OUT_SIZE_BYTES -> profilerResult.getTotalBytesCopyOut();
+            case ALLOCATION_BYTES -> profilerResult.getTotalDeviceMemoryUsage();
             default -> 0L;
         };
     }
@@ -2005,8 +2609,9 @@ public class TornadoTaskGraph implements TornadoTaskGraphInterface {
     }
 
     private long getProfilerValue(ProfilerType profilerType) {
-        if (reduceTaskGraph != null) {
-            return getProfilerValueFromReduceTaskGraph(profilerType);
+        TornadoExecutionResult rewrittenResult = getRewrittenExecutionResult();
+        if (rewrittenResult != null) {
+            return getProfilerValueFromResult(rewrittenResult, profilerType);
         } else {
             return __getProfilerValue(profilerType);
         }
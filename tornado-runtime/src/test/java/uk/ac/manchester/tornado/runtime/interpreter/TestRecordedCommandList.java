@@ -0,0 +1,243 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.interpreter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.common.SchedulableTask;
+import uk.ac.manchester.tornado.runtime.common.KernelStackFrame;
+import uk.ac.manchester.tornado.runtime.common.TornadoInstalledCode;
+import uk.ac.manchester.tornado.runtime.common.XPUDeviceBufferState;
+
+/**
+ * Tests the recording and replay of device commands by {@link RecordedCommandList}, with a mock command queue that
+ * logs the commands instead of enqueuing them on a device.
+ */
+public class TestRecordedCommandList {
+
+    /**
+     * Command queue that logs each command and returns a new event for each of them.
+     */
+    private static class MockCommandQueue implements CommandQueue {
+
+        private final List<String> log = new ArrayList<>();
+        private int nextEvent;
+
+        private int log(String command) {
+            log.add(command);
+            return nextEvent++;
+        }
+
+        @Override
+        public int write(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList) {
+            return log("write " + object + " slot=" + eventList);
+        }
+
+        @Override
+        public int ensurePresent(Object object, XPUDeviceBufferState objectState, long offset, long sizeBatch, int eventList) {
+            return log("ensurePresent " + object + " slot=" + eventList);
+        }
+
+        @Override
+        public int read(Object object, XPUDeviceBufferState objectState, long offset, boolean blocking, int eventList) {
+            return log("read " + object + " blocking=" + blocking + " slot=" + eventList);
+        }
+
+        @Override
+        public int launch(SchedulableTask task, TornadoInstalledCode installedCode, KernelStackFrame stackFrame, long batchThreads, int eventList) {
+            return log("launch " + stackFrame + " slot=" + eventList);
+        }
+
+        @Override
+        public int barrier(int eventList) {
+            return log("barrier slot=" + eventList);
+        }
+
+        @Override
+        public void addDependency(int event, int eventList) {
+            log.add("dependency " + event + " slot=" + eventList);
+        }
+
+        @Override
+        public void clearDependencies(int eventList) {
+            log.add("clear slot=" + eventList);
+        }
+    }
+
+    private static class MockStackFrame implements KernelStackFrame {
+
+        private final String name;
+
+        MockStackFrame(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public List<CallArgument> getCallArguments() {
+            return List.of();
+        }
+
+        @Override
+        public void addCallArgument(Object value, boolean isReferenceType) {
+        }
+
+        @Override
+        public void setKernelContext(HashMap<Integer, Integer> map) {
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public void invalidate() {
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static Object[] key(Object... values) {
+        return values;
+    }
+
+    @Test
+    public void testReplayInRecordedOrder() {
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device", 0x1000L, 1024L));
+        recorder.add(new RecordedCommand.Write("a", null, 0, 0, 0), 0);
+        recorder.addDependency(0, 1);
+        recorder.add(new RecordedCommand.Launch(null, null, new MockStackFrame("frame0"), 0, 1), 1);
+        recorder.addDependency(1, 2);
+        recorder.add(new RecordedCommand.Read("b", null, 0, true, 2), 2);
+
+        RecordedCommandList commands = recorder.finish(key("device", 0x1000L, 1024L));
+        assertNotNull(commands);
+        assertEquals(5, commands.size());
+
+        MockCommandQueue queue = new MockCommandQueue();
+        int lastEvent = commands.replay(queue);
+        assertEquals(List.of("write a slot=0", "dependency 0 slot=1", "launch frame0 slot=1", "dependency 1 slot=2", "read b blocking=true slot=2"), queue.log);
+        assertEquals(2, lastEvent);
+
+        // A second replay issues the same commands, with the events of the new commands
+        queue.log.clear();
+        commands.replay(queue);
+        assertEquals(List.of("write a slot=0", "dependency 3 slot=1", "launch frame0 slot=1", "dependency 4 slot=2", "read b blocking=true slot=2"), queue.log);
+        assertEquals(2, commands.getReplays());
+    }
+
+    @Test
+    public void testMatchesKey() {
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device", new long[] { 256, 1, 1 }, 1024L));
+        recorder.add(new RecordedCommand.Barrier(-1), 0);
+        RecordedCommandList commands = recorder.finish(key("device", new long[] { 256, 1, 1 }, 1024L));
+        assertNotNull(commands);
+
+        // Arrays in the key are compared by content
+        assertTrue(commands.matches(key("device", new long[] { 256, 1, 1 }, 1024L)));
+        // A different device, thread grid or buffer size invalidates the commands
+        assertFalse(commands.matches(key("other", new long[] { 256, 1, 1 }, 1024L)));
+        assertFalse(commands.matches(key("device", new long[] { 512, 1, 1 }, 1024L)));
+        assertFalse(commands.matches(key("device", new long[] { 256, 1, 1 }, 2048L)));
+        assertFalse(commands.matches(null));
+    }
+
+    @Test
+    public void testStateChangedDuringRecording() {
+        // The execution allocated a new buffer, so its commands are not the ones of the next execution
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device", 0x1000L));
+        recorder.add(new RecordedCommand.Write("a", null, 0, 0, -1), 0);
+        assertNull(recorder.finish(key("device", 0x2000L)));
+    }
+
+    @Test
+    public void testNotReplayableState() {
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(null);
+        assertTrue(recorder.isAborted());
+        recorder.add(new RecordedCommand.Write("a", null, 0, 0, -1), 0);
+        assertNull(recorder.finish(null));
+    }
+
+    @Test
+    public void testAbortedRecording() {
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device"));
+        recorder.add(new RecordedCommand.Write("a", null, 0, 0, -1), 0);
+        recorder.abort();
+        recorder.add(new RecordedCommand.Read("a", null, 0, true, -1), 1);
+        assertNull(recorder.finish(key("device")));
+    }
+
+    @Test
+    public void testDependencyOnUnrecordedEvent() {
+        // The event added to the slot does not come from the last command recorded, so it cannot be replayed
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device"));
+        recorder.add(new RecordedCommand.Write("a", null, 0, 0, -1), 0);
+        recorder.addDependency(7, 1);
+        assertTrue(recorder.isAborted());
+        assertNull(recorder.finish(key("device")));
+    }
+
+    @Test
+    public void testSharedStackFrame() {
+        // The arguments of a stack frame are pushed once, so two launches cannot share it
+        MockStackFrame frame = new MockStackFrame("frame0");
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device"));
+        recorder.add(new RecordedCommand.Launch(null, null, frame, 0, -1), 0);
+        recorder.add(new RecordedCommand.Launch(null, null, new MockStackFrame("frame1"), 0, -1), 1);
+        assertFalse(recorder.isAborted());
+        recorder.add(new RecordedCommand.Launch(null, null, frame, 0, -1), 2);
+        assertTrue(recorder.isAborted());
+    }
+
+    @Test
+    public void testClearDependenciesResetsLastEvent() {
+        RecordedCommandList.Recorder recorder = new RecordedCommandList.Recorder(key("device"));
+        recorder.add(new RecordedCommand.EnsurePresent("a", null, 0, 0, -1), 0);
+        recorder.add(new RecordedCommand.ClearDependencies(3), -1);
+        recorder.add(new RecordedCommand.Barrier(3), 1);
+        RecordedCommandList commands = recorder.finish(key("device"));
+        assertNotNull(commands);
+
+        MockCommandQueue queue = new MockCommandQueue();
+        assertEquals(1, commands.replay(queue));
+        assertEquals(List.of("ensurePresent a slot=-1", "clear slot=3", "barrier slot=3"), queue.log);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.common.Event;
+import uk.ac.manchester.tornado.api.enums.TornadoExecutionStatus;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.runtime.EmptyEvent;
+
+/**
+ * Tests the completion of futures by the {@link CompletionPoller}, with the status of the events given by a mock
+ * completion source instead of a device.
+ */
+public class TestCompletionPoller {
+
+    private static final long POLL_INTERVAL = TimeUnit.MICROSECONDS.toNanos(10);
+
+    /**
+     * Completion source whose events are completed by the test.
+     */
+    private static class MockCompletionSource implements CompletionPoller.CompletionSource {
+
+        private final Map<Event, AtomicReference<TornadoExecutionStatus>> statuses = new IdentityHashMap<>();
+
+        synchronized Event newEvent(TornadoExecutionStatus status) {
+            Event event = new EmptyEvent();
+            statuses.put(event, new AtomicReference<>(status));
+            return event;
+        }
+
+        synchronized void setStatus(Event event, TornadoExecutionStatus status) {
+            statuses.get(event).set(status);
+        }
+
+        @Override
+        public synchronized TornadoExecutionStatus getStatus(Event event) {
+            return statuses.get(event).get();
+        }
+    }
+
+    @Test
+    public void testCompletedEvent() {
+        MockCompletionSource source = new MockCompletionSource();
+        CompletionPoller poller = new CompletionPoller(source, POLL_INTERVAL);
+
+        CompletableFuture<Void> future = poller.watch(source.newEvent(TornadoExecutionStatus.COMPLETE));
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testCompletionWhileWatched() throws Exception {
+        MockCompletionSource source = new MockCompletionSource();
+        CompletionPoller poller = new CompletionPoller(source, POLL_INTERVAL);
+        Event event = source.newEvent(TornadoExecutionStatus.QUEUED);
+
+        CompletableFuture<Void> future = poller.watch(event);
+        source.setStatus(event, TornadoExecutionStatus.RUNNING);
+        Thread.sleep(10);
+        assertFalse(future.isDone());
+
+        source.setStatus(event, TornadoExecutionStatus.COMPLETE);
+        future.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testErrorStatus() throws Exception {
+        MockCompletionSource source = new MockCompletionSource();
+        CompletionPoller poller = new CompletionPoller(source, POLL_INTERVAL);
+        Event event = source.newEvent(TornadoExecutionStatus.RUNNING);
+
+        CompletableFuture<Void> future = poller.watch(event);
+        source.setStatus(event, TornadoExecutionStatus.ERROR);
+        try {
+            future.get(10, TimeUnit.SECONDS);
+            fail("The future must complete exceptionally");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TornadoRuntimeException);
+        }
+    }
+
+    @Test
+    public void testFailingSource() throws Exception {
+        CompletionPoller poller = new CompletionPoller(event -> {
+            throw new IllegalStateException("device lost");
+        }, POLL_INTERVAL);
+
+        CompletableFuture<Void> future = poller.watch(new EmptyEvent());
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    /**
+     * Events complete in the reverse order in which they are watched, and each future must complete with its own event.
+     */
+    @Test
+    public void testManyEventsInFlight() throws Exception {
+        final int numEvents = 256;
+        MockCompletionSource source = new MockCompletionSource();
+        CompletionPoller poller = new CompletionPoller(source, POLL_INTERVAL);
+        ConcurrentLinkedQueue<Integer> completionOrder = new ConcurrentLinkedQueue<>();
+
+        List<Event> events = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final int index = i;
+            Event event = source.newEvent(TornadoExecutionStatus.SUBMITTED);
+            events.add(event);
+            futures.add(poller.watch(event).thenRun(() -> completionOrder.add(index)));
+        }
+
+        for (int i = numEvents - 1; i >= 0; i--) {
+            source.setStatus(events.get(i), TornadoExecutionStatus.COMPLETE);
+            futures.get(i).get(10, TimeUnit.SECONDS);
+            for (int j = 0; j < i; j++) {
+                assertFalse(futures.get(j).isDone());
+            }
+        }
+
+        assertEquals(numEvents, completionOrder.size());
+        int expected = numEvents - 1;
+        for (int index : completionOrder) {
+            assertEquals(expected--, index);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Tornado: A heterogeneous programming framework:
+ * https://github.com/beehive-lab/tornadovm
+ *
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package uk.ac.manchester.tornado.runtime.tasks;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link LocalWorkSearch} with synthetic cost functions instead of kernel executions.
+ */
+public class TestLocalWorkSearch {
+
+    private static final long[] MAX_WORK_ITEM_SIZES = { 1024, 1024, 64 };
+
+    /**
+     * Drives a search to the end with the given cost function and returns the number of executions.
+     */
+    private static int run(LocalWorkSearch search, ToLongFunction<long[]> cost) {
+        int executions = 0;
+        while (!search.isDone()) {
+            search.record(cost.applyAsLong(search.current()));
+            executions++;
+        }
+        return executions;
+    }
+
+    private static long threads(long[] localWork) {
+        long threads = 1;
+        for (long value : localWork) {
+            threads *= value;
+        }
+        return threads;
+    }
+
+    @Test
+    public void testDefaultFirst() {
+        List<long[]> candidates = LocalWorkSearch.candidates(new long[] { 4096 }, 1024, MAX_WORK_ITEM_SIZES, 16);
+        assertNull(candidates.getFirst());
+        assertArrayEquals(new long[] { 256 }, candidates.get(1));
+    }
+
+    @Test
+    public void testCandidatesFitTheDevice() {
+        long[] globalWork = { 1920, 1080 };
+        List<long[]> candidates = LocalWorkSearch.candidates(globalWork, 256, MAX_WORK_ITEM_SIZES, 100);
+        assertTrue(candidates.size() > 1);
+        for (long[] localWork : candidates.subList(1, candidates.size())) {
+            assertEquals(globalWork.length, localWork.length);
+            assertTrue(threads(localWork) <= 256);
+            for (int i = 0; i < localWork.length; i++) {
+                assertEquals(0, globalWork[i] % localWork[i]);
+                assertTrue(localWork[i] <= MAX_WORK_ITEM_SIZES[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testBudget() {
+        LocalWorkSearch search = new LocalWorkSearch(new long[] { 1024, 1024 }, 1024, MAX_WORK_ITEM_SIZES, 5, 3);
+        assertEquals(5, search.getNumCandidates());
+        assertEquals(5 * 3, run(search, localWork -> 100));
+    }
+
+    @Test
+    public void testBudgetOfOne() {
+        LocalWorkSearch search = new LocalWorkSearch(new long[] { 1024 }, 1024, MAX_WORK_ITEM_SIZES, 1, 3);
+        run(search, localWork -> 100);
+        assertNull(search.getBest());
+    }
+
+    @Test
+    public void testSelectsCheapest() {
+        long[] globalWork = { 512, 512 };
+        // Synthetic cost with a minimum at 32x8 threads
+        ToLongFunction<long[]> cost = localWork -> localWork == null ? 1000 : Math.abs(localWork[0] - 32) * 10 + Math.abs(localWork[1] - 8) * 10 + 1;
+        LocalWorkSearch search = new LocalWorkSearch(globalWork, 1024, MAX_WORK_ITEM_SIZES, 1000, 2);
+        run(search, cost);
+
+        long expected = Long.MAX_VALUE;
+        for (long[] candidate : LocalWorkSearch.candidates(globalWork, 1024, MAX_WORK_ITEM_SIZES, 1000)) {
+            expected = Math.min(expected, cost.applyAsLong(candidate));
+        }
+        assertEquals(expected, cost.applyAsLong(search.getBest()));
+        assertArrayEquals(new long[] { 32, 8 }, search.getBest());
+        assertArrayEquals(search.getBest(), search.current());
+    }
+
+    @Test
+    public void testKeepsDefaultWhenCheapest() {
+        LocalWorkSearch search = new LocalWorkSearch(new long[] { 4096 }, 1024, MAX_WORK_ITEM_SIZES, 8, 1);
+        run(search, localWork -> localWork == null ? 1 : 10);
+        assertNull(search.getBest());
+    }
+
+    @Test
+    public void testMinimumOfSamples() {
+        LocalWorkSearch search = new LocalWorkSearch(new long[] { 4096 }, 1024, MAX_WORK_ITEM_SIZES, 2, 3);
+        // The default size has a noisy sample that is cheaper than the other candidate
+        long[] defaultCosts = { 50, 5, 50 };
+        for (long defaultCost : defaultCosts) {
+            search.record(defaultCost);
+        }
+        for (int i = 0; i < 3; i++) {
+            search.record(10);
+        }
+        assertTrue(search.isDone());
+        assertNull(search.getBest());
+    }
+
+    @Test
+    public void testRejectedCandidate() {
+        // Candidates: the default size, 256, 512 and 128 threads
+        LocalWorkSearch search = new LocalWorkSearch(new long[] { 4096 }, 1024, MAX_WORK_ITEM_SIZES, 4, 1);
+        while (!search.isDone()) {
+            long[] localWork = search.current();
+            if (localWork != null && localWork[0] == 512) {
+                // The cheapest candidate fails to run
+                search.reject();
+            } else {
+                search.record(localWork == null ? 1000 : 1000 - localWork[0]);
+            }
+        }
+        assertArrayEquals(new long[] { 256 }, search.getBest());
+    }
+
+    @Test
+    public void testDecided() {
+        LocalWorkSearch search = LocalWorkSearch.decided(new long[] { 64, 4 });
+        assertTrue(search.isDone());
+        assertArrayEquals(new long[] { 64, 4 }, search.current());
+        assertArrayEquals(new long[] { 64, 4 }, LocalWorkTuner.decode(LocalWorkTuner.encode(search.getBest())));
+        assertNull(LocalWorkTuner.decode(LocalWorkTuner.encode(null)));
+    }
+}
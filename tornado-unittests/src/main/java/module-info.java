@@ -1,6 +1,7 @@
 open module tornado.unittests {
     requires transitive junit;
     requires transitive tornado.api;
+    requires tornado.runtime;
     requires tornado.cublas;
     requires tornado.cufft;
     requires tornado.cudnn;
@@ -9,6 +10,7 @@ open module tornado.unittests {
     requires lucene.core;
     requires java.desktop;
     requires jdk.incubator.vector;
+    requires jdk.jfr;
 
     exports uk.ac.manchester.tornado.unittests;
     exports uk.ac.manchester.tornado.unittests.api;
@@ -39,6 +41,7 @@ open module tornado.unittests {
     exports uk.ac.manchester.tornado.unittests.math;
     exports uk.ac.manchester.tornado.unittests.matrices;
     exports uk.ac.manchester.tornado.unittests.prebuilt;
+    exports uk.ac.manchester.tornado.unittests.primitives;
     exports uk.ac.manchester.tornado.unittests.profiler;
     exports uk.ac.manchester.tornado.unittests.reductions;
     exports uk.ac.manchester.tornado.unittests.slam;
@@ -48,4 +51,5 @@ open module tornado.unittests {
     exports uk.ac.manchester.tornado.unittests.vectortypes;
     exports uk.ac.manchester.tornado.unittests.virtualization;
     exports uk.ac.manchester.tornado.unittests.memory.leak;
+    exports uk.ac.manchester.tornado.unittests.jvm;
 }
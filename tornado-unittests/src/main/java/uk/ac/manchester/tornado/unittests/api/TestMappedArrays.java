@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.api;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.NativeArrayFiles;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * How to run?
+ *
+ * <p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.api.TestMappedArrays
+ * </code>
+ * </p>
+ */
+public class TestMappedArrays extends TornadoTestBase {
+    private static final int numElements = 1024;
+    private static final int fileHeaderSize = 128;
+
+    private static Path createWeightsFile() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(fileHeaderSize + numElements * Float.BYTES).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < numElements; i++) {
+            buffer.putFloat(fileHeaderSize + i * Float.BYTES, i);
+        }
+        Path file = Files.createTempFile("tornado-weights", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private static void scale(FloatArray weights, FloatArray output) {
+        for (@Parallel int i = 0; i < weights.getSize(); i++) {
+            output.set(i, weights.get(i) * 2.0f);
+        }
+    }
+
+    @Test
+    public void testHeaderlessMapping() throws IOException {
+        Path file = createWeightsFile();
+        byte[] original = Files.readAllBytes(file);
+        try (Arena arena = Arena.ofConfined()) {
+            FloatArray weights = FloatArray.fromFile(file, fileHeaderSize, numElements, arena);
+            assertEquals(numElements, weights.getSize());
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(i, weights.get(i), 0.0f);
+            }
+            weights.set(0, 100.0f);
+        }
+        // The mapping is private: the file is not modified
+        assertArrayEquals(original, Files.readAllBytes(file));
+    }
+
+    @Test
+    public void testHeaderlessMappingWithoutRoomForHeader() throws IOException {
+        Path file = createWeightsFile();
+        try (Arena arena = Arena.ofConfined()) {
+            ByteArray bytes = ByteArray.fromFile(file, 0, 8, arena);
+            assertEquals(8, bytes.getSize());
+        }
+    }
+
+    @Test
+    public void testHeaderCompatibleMapping() throws IOException {
+        FloatArray source = new FloatArray(numElements);
+        source.init(3.0f);
+        Path file = Files.createTempFile("tornado-array", ".bin");
+        file.toFile().deleteOnExit();
+        NativeArrayFiles.write(source, file);
+
+        try (Arena arena = Arena.ofConfined()) {
+            FloatArray mapped = FloatArray.fromFileWithHeader(file, 0, numElements, FileChannel.MapMode.READ_WRITE, arena);
+            mapped.set(10, 5.0f);
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            FloatArray mapped = FloatArray.fromFileWithHeader(file, 0, numElements, FileChannel.MapMode.PRIVATE, arena);
+            assertEquals(3.0f, mapped.get(0), 0.0f);
+            assertEquals(5.0f, mapped.get(10), 0.0f);
+        }
+    }
+
+    @Test
+    public void testMappedArrayOnDevice() throws IOException, TornadoExecutionPlanException {
+        Path file = createWeightsFile();
+        try (Arena arena = Arena.ofShared()) {
+            FloatArray weights = FloatArray.fromFile(file, fileHeaderSize, numElements, arena);
+            FloatArray output = new FloatArray(numElements);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.FIRST_EXECUTION, weights) //
+                    .task("t0", TestMappedArrays::scale, weights, output) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                executionPlan.execute();
+            }
+
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(i * 2.0f, output.get(i), 0.0f);
+            }
+        }
+    }
+}
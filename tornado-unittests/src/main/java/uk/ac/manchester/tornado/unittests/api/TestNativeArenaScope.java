@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import java.lang.foreign.Arena;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.api.types.arrays.NativeArenaScope;
+import uk.ac.manchester.tornado.api.types.arrays.NativeSegmentPool;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * How to run?
+ *
+ * <p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.api.TestNativeArenaScope
+ * </code>
+ * </p>
+ */
+public class TestNativeArenaScope extends TornadoTestBase {
+    private static final int numElements = 256;
+
+    @Test
+    public void testConfinedScope() {
+        FloatArray array;
+        try (NativeArenaScope ignored = NativeArenaScope.openConfined()) {
+            array = new FloatArray(numElements);
+            array.init(2.0f);
+            assertEquals(2.0f, array.get(numElements - 1), 0.0f);
+        }
+        // The memory has been released when the scope was closed
+        assertFalse(array.getSegmentWithHeader().scope().isAlive());
+    }
+
+    @Test
+    public void testNestedScopes() {
+        try (Arena arena = Arena.ofConfined()) {
+            IntArray outer;
+            IntArray inner;
+            try (NativeArenaScope ignored = NativeArenaScope.of(arena)) {
+                outer = new IntArray(numElements);
+                try (NativeArenaScope ignored2 = NativeArenaScope.openConfined()) {
+                    inner = new IntArray(numElements);
+                }
+                assertFalse(inner.getSegmentWithHeader().scope().isAlive());
+            }
+            // The caller-supplied arena is still open
+            outer.init(1);
+            assertEquals(1, outer.get(0));
+        }
+    }
+
+    @Test
+    public void testExplicitAllocator() {
+        IntArray array;
+        try (Arena arena = Arena.ofConfined()) {
+            array = new IntArray(numElements, arena);
+            array.init(3);
+            assertEquals(3, array.get(10));
+        }
+        assertThrows(IllegalStateException.class, () -> array.get(10));
+    }
+
+    @Test
+    public void testSegmentPool() {
+        try (NativeSegmentPool pool = new NativeSegmentPool(); NativeArenaScope ignored = NativeArenaScope.of(pool)) {
+            IntArray first = new IntArray(numElements);
+            first.init(7);
+            long address = first.getSegmentWithHeader().address();
+            pool.release(first);
+            assertEquals(1, pool.getNumFreeSegments());
+
+            // The segment is recycled and cleared
+            IntArray second = new IntArray(numElements);
+            assertEquals(address, second.getSegmentWithHeader().address());
+            assertEquals(numElements, second.getSize());
+            assertEquals(0, second.get(0));
+            assertEquals(0, pool.getNumFreeSegments());
+        }
+    }
+
+    @Test
+    public void testTaskGraphWithinScope() throws TornadoExecutionPlanException {
+        try (NativeArenaScope ignored = NativeArenaScope.openShared()) {
+            IntArray a = new IntArray(numElements);
+            IntArray b = new IntArray(numElements);
+            IntArray c = new IntArray(numElements);
+            a.init(10);
+            b.init(20);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                    .task("t0", TestHello::add, a, b, c) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                executionPlan.execute();
+            }
+
+            for (int i = 0; i < numElements; i++) {
+                assertEquals(30, c.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testConfinedScopeRejectedInTaskGraph() {
+        try (NativeArenaScope ignored = NativeArenaScope.openConfined()) {
+            IntArray a = new IntArray(numElements);
+            IntArray b = new IntArray(numElements);
+            IntArray c = new IntArray(numElements);
+
+            // The runtime accesses the arrays from its own threads, so confined arrays are rejected when the task-graph is built
+            TaskGraph taskGraph = new TaskGraph("s0");
+            assertThrows(TornadoRuntimeException.class, () -> taskGraph.transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b));
+            assertThrows(TornadoRuntimeException.class, () -> taskGraph.task("t0", TestHello::add, a, b, c));
+        }
+    }
+}
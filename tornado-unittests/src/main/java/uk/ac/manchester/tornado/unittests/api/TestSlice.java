@@ -18,6 +18,13 @@
 package uk.ac.manchester.tornado.unittests.api;
 
 import org.junit.Test;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.types.HalfFloat;
 import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
 import uk.ac.manchester.tornado.api.types.arrays.CharArray;
@@ -30,6 +37,7 @@ import uk.ac.manchester.tornado.api.types.arrays.ShortArray;
 import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * How to run?
@@ -203,4 +211,84 @@ public class TestSlice extends TornadoTestBase {
 
     }
 
+    private static void increment(FloatArray a) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            a.set(i, a.get(i) + 1.0f);
+        }
+    }
+
+    @Test
+    public void testFloatArrayView() {
+        FloatArray a = new FloatArray(numElements);
+        a.init(1.0f);
+
+        FloatArray view = a.view(64, 128);
+        assertTrue(view.isView());
+        assertEquals(64, view.getViewOffset());
+        assertEquals(128, view.getSize());
+
+        view.init(2.0f);
+        view.set(0, 3.0f);
+
+        // The view shares the memory of the array
+        assertEquals(1.0f, a.get(63), 0.0f);
+        assertEquals(3.0f, a.get(64), 0.0f);
+        assertEquals(2.0f, a.get(191), 0.0f);
+        assertEquals(1.0f, a.get(192), 0.0f);
+    }
+
+    @Test
+    public void testFloatArrayViewsInTaskGraph() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(numElements);
+        for (int i = 0; i < a.getSize(); i++) {
+            a.set(i, i);
+        }
+
+        // Two adjacent views: the header of the second view overlaps the data of the first one
+        FloatArray first = a.view(0, 128);
+        FloatArray second = a.view(128, 128);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, first, second) //
+                .task("t0", TestSlice::increment, first) //
+                .task("t1", TestSlice::increment, second) //
+                .task("t2", TestSlice::increment, second) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, first, second);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        for (int i = 0; i < 128; i++) {
+            assertEquals(i + 1.0f, a.get(i), 0.0f);
+        }
+        for (int i = 128; i < numElements; i++) {
+            assertEquals(i + 2.0f, a.get(i), 0.0f);
+        }
+    }
+
+    @Test(expected = TornadoRuntimeException.class)
+    public void testFloatArrayViewMapOnDeviceRejected() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(numElements);
+        a.init(1.0f);
+        FloatArray view = a.view(64, 128);
+
+        TaskGraph taskGraph1 = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a) //
+                .task("t0", TestSlice::increment, a) //
+                .transferToHost(DataTransferMode.UNDER_DEMAND, a);
+
+        TaskGraph taskGraph2 = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.UNDER_DEMAND, view) //
+                .task("t0", TestSlice::increment, view) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, view);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph1.snapshot(), taskGraph2.snapshot())) {
+            executionPlan.withGraph(0).execute();
+            // The header of the view would be read from the data of the array
+            executionPlan.mapOnDeviceMemoryRegion(view, a, view.getViewOffset(), 0, 1);
+        }
+    }
+
 }
@@ -172,6 +172,25 @@ public class TestBFloat16 extends TornadoTestBase {
         assertEquals((short) 0x0000, BFloat16.bf16FromFloat(-0.0f));
     }
 
+    @Test
+    public void testBFloat16ArrayBulkConversions() {
+        // The bulk host paths must produce the same bits as the element-wise codecs.
+        java.util.Random rng = new java.util.Random(7);
+        float[] values = new float[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Float.intBitsToFloat(rng.nextInt());
+        }
+        BFloat16Array array = BFloat16Array.fromFloats(values);
+        short[] bits = array.toShortArray();
+        float[] decoded = array.toFloatArray();
+        for (int i = 0; i < values.length; i++) {
+            assertEquals("index " + i, BFloat16.bf16FromFloat(values[i]), array.get(i));
+            assertEquals(array.get(i), bits[i]);
+            assertEquals(array.getFloat(i), decoded[i], 0.0f);
+        }
+        assertEquals(array.get(42), BFloat16Array.fromShorts(bits).get(42));
+    }
+
     // - On-device decode (CUDA native conversion vs host software decode) -
 
     @Test
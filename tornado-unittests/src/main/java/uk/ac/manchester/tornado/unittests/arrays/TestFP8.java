@@ -198,6 +198,30 @@ public class TestFP8 extends TornadoTestBase {
         assertEquals(-16.0f, b.getE5M2(1), 0.0f);
     }
 
+    @Test
+    public void testFP8ArrayBulkConversions() {
+        // The bulk host paths must produce the same bytes as the element-wise codecs.
+        java.util.Random rng = new java.util.Random(7);
+        float[] values = new float[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (float) rng.nextGaussian() * (i % 2 == 0 ? 1.0e-3f : 100.0f);
+        }
+        values[0] = Float.NaN;
+        values[1] = 1.0e6f;
+        values[2] = -0.0f;
+
+        FP8Array e4m3 = FP8Array.fromFloatsE4M3(values);
+        FP8Array e5m2 = FP8Array.fromFloatsE5M2(values);
+        float[] e4m3Decoded = e4m3.toFloatArrayE4M3();
+        float[] e5m2Decoded = e5m2.toFloatArrayE5M2();
+        for (int i = 0; i < values.length; i++) {
+            assertEquals("index " + i, FP8.e4m3FromFloat(values[i]), e4m3.get(i));
+            assertEquals("index " + i, FP8.e5m2FromFloat(values[i]), e5m2.get(i));
+            assertEquals(FP8.e4m3ToFloat(e4m3.get(i)), e4m3Decoded[i], 0.0f);
+            assertEquals(FP8.e5m2ToFloat(e5m2.get(i)), e5m2Decoded[i], 0.0f);
+        }
+    }
+
     // - On-device dequantization (CUDA) -
 
     @Test
@@ -18,7 +18,9 @@
 package uk.ac.manchester.tornado.unittests.arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
+import java.lang.foreign.Arena;
 import java.util.stream.IntStream;
 
 import org.junit.Assume;
@@ -32,7 +34,9 @@ import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoMemoryException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoOutOfMemoryException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.types.arrays.ByteArray;
 import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
 import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
 
@@ -53,6 +57,12 @@ public class TestLargeArrays extends TornadoTestBase {
         return mem > 3L * 1024 * 1024 * 1024;
     }
 
+    public static void increment(ByteArray a) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            a.set(i, (byte) (a.get(i) + 1));
+        }
+    }
+
     public static void addAccumulator(FloatArray a, float value) {
         for (@Parallel int i = 0; i < a.getSize(); i++) {
             a.set(i, a.get(i) + value);
@@ -79,6 +89,76 @@ public class TestLargeArrays extends TornadoTestBase {
         testFloatArrayWithSize(numElements);
     }
 
+    @Test
+    public void testLongIndexedByteArray() {
+        final long numElements = Integer.MAX_VALUE + 1024L;
+        try (Arena arena = Arena.ofConfined()) {
+            ByteArray a = new ByteArray(numElements, arena);
+            assertEquals(numElements, a.getSizeLong());
+            assertEquals(Integer.MAX_VALUE, a.getSize());
+
+            a.set(numElements - 1, (byte) 42);
+            a.set(Integer.MAX_VALUE, (byte) 7);
+            assertEquals(42, a.get(numElements - 1));
+            assertEquals(7, a.get((long) Integer.MAX_VALUE));
+            assertEquals(numElements, a.getNumBytesOfSegment());
+        }
+    }
+
+    /**
+     * The kernels read the size of the arrays as an {@code int}, so an array with more elements cannot be passed to a
+     * task that is not processed in batches.
+     */
+    @Test
+    public void testLongSizedArrayRejected() {
+        final long numElements = Integer.MAX_VALUE + 1024L;
+        try (Arena arena = Arena.ofShared()) {
+            ByteArray a = new ByteArray(numElements, arena);
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                    .task("t0", TestLargeArrays::increment, a) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, a);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+                assertThrows(TornadoRuntimeException.class, executionPlan::execute);
+            }
+        }
+    }
+
+    /**
+     * In batches, the kernels only see the elements of a batch, so an array with more than 2^31 elements can be
+     * processed. The last batch is smaller than the others, and it starts after element 2^31.
+     */
+    @Test
+    public void testLongSizedArrayInBatches() throws TornadoExecutionPlanException {
+        final long numElements = Integer.MAX_VALUE + 1024L;
+        try (Arena arena = Arena.ofShared()) {
+            ByteArray a = new ByteArray(numElements, arena);
+            a.set(0, (byte) 1);
+            a.set(Integer.MAX_VALUE - 1, (byte) 2);
+            a.set(Integer.MAX_VALUE, (byte) 3);
+            a.set(numElements - 1, (byte) 4);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                    .task("t0", TestLargeArrays::increment, a) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, a);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+                executionPlan.withBatch("512MB").execute();
+            }
+
+            assertEquals(2, a.get(0));
+            assertEquals(1, a.get(1L));
+            assertEquals(3, a.get(Integer.MAX_VALUE - 1L));
+            assertEquals(4, a.get((long) Integer.MAX_VALUE));
+            assertEquals(1, a.get(numElements - 2));
+            assertEquals(5, a.get(numElements - 1));
+        }
+    }
+
     private void testFloatArrayWithSize(int numElements) throws TornadoExecutionPlanException {
         FloatArray a = new FloatArray(numElements);
 
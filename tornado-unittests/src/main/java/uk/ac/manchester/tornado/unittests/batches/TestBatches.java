@@ -32,6 +32,7 @@ import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
 import uk.ac.manchester.tornado.api.TornadoExecutionResult;
 import uk.ac.manchester.tornado.api.annotations.Parallel;
 import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.exceptions.TornadoBailoutRuntimeException;
 import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
 import uk.ac.manchester.tornado.api.types.arrays.DoubleArray;
@@ -275,6 +276,42 @@ public class TestBatches extends TornadoTestBase {
         }
     }
 
+    /**
+     * The sizes of the arguments are folded into the kernel, so the kernel of a task cannot be reused for arrays of
+     * another length. This test runs the same task-graph in batches with arrays whose length changes between runs,
+     * going back to the first length at the end, and checks that every run computes all the elements of its arrays.
+     */
+    @Test
+    public void testBatchArrayLengthChangesBetweenRuns() throws TornadoExecutionPlanException {
+        long maxAllocMemory = checkMaxHeapAllocationOnDevice(64, MemoryUnit.MB);
+        int maxSize = 16 * 1024 * 1024; // 64 MB float array
+        if ((long) maxSize * 4 > maxAllocMemory) {
+            maxSize = (int) ((maxAllocMemory / 4 / 2) * 0.9);
+        }
+        int[] sizes = new int[] { maxSize, maxSize / 2 + 17, maxSize };
+
+        for (int run = 0; run < sizes.length; run++) {
+            FloatArray arrayA = new FloatArray(sizes[run]);
+            FloatArray arrayB = new FloatArray(sizes[run]);
+            float value = 3.0f + run;
+            arrayA.init(value);
+
+            TaskGraph taskGraph = new TaskGraph("batchLength") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, arrayA) //
+                    .task("t0", TestBatches::compute, arrayA, arrayB) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, arrayB);
+
+            ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+                executionPlan.withBatch("10MB").execute();
+            }
+
+            for (int i = 0; i < arrayB.getSize(); i++) {
+                assertEquals(value + 100, arrayB.get(i), 0.1f);
+            }
+        }
+    }
+
     /**
      * Batched execution with buffer reuse enabled ({@code tornado.reuse.device.buffers=true} - the
      * runtime DEFAULT; the rest of this suite disables it in {@link #before()}). With reuse on, the
@@ -1026,6 +1063,68 @@ public class TestBatches extends TornadoTestBase {
         }
     }
 
+    /**
+     * The loop index is written in the output, so the batch number is folded into the kernel of each batch. Repeated
+     * executions must start again from the first batch.
+     */
+    @Test
+    public void testBatchThreadIndexRepeatedExecution() throws TornadoExecutionPlanException {
+        checkMaxHeapAllocationOnDevice(64, MemoryUnit.MB);
+
+        // Allocate ~ 64MB
+        FloatArray array = new FloatArray(1024 * 1024 * 16);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .task("t0", TestBatches::compute, array, 2.0f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, array);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withBatch("10MB"); // 6 full batches + a smaller remainder
+            for (int iteration = 0; iteration < 3; iteration++) {
+                array.init(0.0f);
+                executionPlan.execute();
+                for (int i = 0; i < array.getSize(); i++) {
+                    assertEquals(i * 20 + 2.0f, array.get(i), 0.01f);
+                }
+            }
+        }
+    }
+
+    /**
+     * The kernels of the full batches and of the remainder are kept, so the task is only compiled again in the first
+     * execution, when the remainder is reached.
+     */
+    @Test
+    public void testBatchKernelVariants() throws TornadoExecutionPlanException {
+        checkMaxHeapAllocationOnDevice(64, MemoryUnit.MB);
+
+        // Allocate ~ 64MB
+        FloatArray array = new FloatArray(1024 * 1024 * 16);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, array) //
+                .task("t0", TestBatches::compute2, array) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, array);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withBatch("10MB") // 6 full batches + a smaller remainder
+                    .withProfiler(ProfilerMode.SILENT);
+            TornadoExecutionResult executionResult = null;
+            for (int iteration = 0; iteration < 3; iteration++) {
+                array.init(1.0f);
+                executionResult = executionPlan.execute();
+                for (int i = 0; i < array.getSize(); i++) {
+                    assertEquals(2.0f, array.get(i), 0.01f);
+                }
+            }
+
+            // The log contains the metrics of the three executions
+            String log = executionResult.getProfilerResult().getProfileLog();
+            assertEquals(1, log.split("\"TASK_RECOMPILATIONS\"", -1).length - 1);
+            assertEquals(2, log.split("\"TASK_KERNEL_VARIANT_HITS\"", -1).length - 1);
+        }
+    }
+
     private long checkMaxHeapAllocationOnDevice(int size, MemoryUnit memoryUnit) throws UnsupportedConfigurationException {
         long maxAllocMemory = getTornadoRuntime().getDefaultDevice().getDeviceContext().getMemoryManager().getHeapSize();
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for {@link TornadoExecutionPlan#executeAsync()}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.executor.TestAsyncExecution
+ * </code>
+ */
+public class TestAsyncExecution extends TornadoTestBase {
+
+    private static final int SIZE = 8192;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    public static void scale(IntArray input, IntArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * 2);
+        }
+    }
+
+    public static void increment(IntArray array) {
+        for (@Parallel int i = 0; i < array.getSize(); i++) {
+            array.set(i, array.get(i) + 1);
+        }
+    }
+
+    private static TornadoExecutionResult await(CompletableFuture<TornadoExecutionResult> future) throws ExecutionException, InterruptedException, TimeoutException {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testExecuteAsync() throws Exception {
+        IntArray input = new IntArray(SIZE);
+        IntArray output = new IntArray(SIZE);
+        input.init(21);
+
+        TaskGraph taskGraph = new TaskGraph("async0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestAsyncExecution::scale, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult executionResult = await(executionPlan.executeAsync());
+            assertNotNull(executionResult);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(42, output.get(i));
+            }
+
+            // The next execution reads the new input
+            input.init(5);
+            await(executionPlan.executeAsync());
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(10, output.get(i));
+            }
+        }
+    }
+
+    /**
+     * Executions of the same plan that are in flight at the same time must run one after the other, since each one
+     * updates the buffer of the previous one.
+     */
+    @Test
+    public void testInFlightExecutions() throws Exception {
+        final int numExecutions = 16;
+        IntArray array = new IntArray(SIZE);
+        array.init(0);
+
+        TaskGraph taskGraph = new TaskGraph("async1") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, array) //
+                .task("t0", TestAsyncExecution::increment, array) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, array);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            List<CompletableFuture<TornadoExecutionResult>> futures = new ArrayList<>();
+            for (int i = 0; i < numExecutions; i++) {
+                futures.add(executionPlan.executeAsync());
+            }
+            for (CompletableFuture<TornadoExecutionResult> future : futures) {
+                await(future);
+            }
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(numExecutions, array.get(i));
+            }
+
+            // A blocking execution waits for the asynchronous ones
+            executionPlan.executeAsync();
+            executionPlan.execute();
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(numExecutions + 2, array.get(i));
+            }
+        }
+    }
+
+    /**
+     * The second plan reads the output of the first one, so it must start after the first one completes even though
+     * both are submitted without waiting.
+     */
+    @Test
+    public void testPlansSharingObjects() throws Exception {
+        IntArray input = new IntArray(SIZE);
+        IntArray intermediate = new IntArray(SIZE);
+        input.init(3);
+
+        TaskGraph producer = new TaskGraph("async2") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestAsyncExecution::scale, input, intermediate) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, intermediate);
+
+        TaskGraph consumer = new TaskGraph("async3") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, intermediate) //
+                .task("t0", TestAsyncExecution::increment, intermediate) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, intermediate);
+
+        try (TornadoExecutionPlan producerPlan = new TornadoExecutionPlan(producer.snapshot()); //
+                TornadoExecutionPlan consumerPlan = new TornadoExecutionPlan(consumer.snapshot())) {
+            CompletableFuture<TornadoExecutionResult> first = producerPlan.executeAsync();
+            CompletableFuture<TornadoExecutionResult> second = consumerPlan.executeAsync();
+            await(second);
+            await(first);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(7, intermediate.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testPlanResults() throws TornadoExecutionPlanException, ExecutionException, InterruptedException, TimeoutException {
+        IntArray input = new IntArray(SIZE);
+        IntArray output = new IntArray(SIZE);
+        input.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("async4") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestAsyncExecution::scale, input, output) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            TornadoExecutionResult first = await(executionPlan.executeAsync());
+            TornadoExecutionResult second = await(executionPlan.executeAsync());
+            assertEquals(first, executionPlan.getPlanResult(0));
+            assertEquals(second, executionPlan.getPlanResult(1));
+        }
+    }
+}
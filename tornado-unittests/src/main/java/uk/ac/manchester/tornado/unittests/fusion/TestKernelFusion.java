@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.fusion;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the fusion of consecutive element-wise tasks of a task-graph into a single kernel. The results are the same
+ * with and without fusion, so every test compares the output of the task-graph with the sequential Java code.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.kernel.fusion=True" uk.ac.manchester.tornado.unittests.fusion.TestKernelFusion
+ * </code>
+ *
+ * <p>
+ * The fused OpenCL kernel can be checked without a device, with the virtual device:
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.kernel.fusion=True -Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True
+ * -Dtornado.virtual.device=True -Dtornado.print.kernel.dir=virtualFusionOut.out" uk.ac.manchester.tornado.unittests.fusion.TestKernelFusion#testFusedKernelSource
+ * </code>
+ */
+public class TestKernelFusion extends TornadoTestBase {
+
+    private static final int SIZE = 8192;
+    private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+
+    public static void scale(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            b.set(i, a.get(i) * 2.0f);
+        }
+    }
+
+    public static void addOne(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 0; i < a.getSize(); i++) {
+            b.set(i, a.get(i) + 1.0f);
+        }
+    }
+
+    public static void saxpy(float alpha, FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < z.getSize(); i++) {
+            z.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    public static void stencil(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 1; i < a.getSize() - 1; i++) {
+            b.set(i, a.get(i - 1) + a.get(i) + a.get(i + 1));
+        }
+    }
+
+    @After
+    public void after() {
+        if (SOURCE_DIR != null) {
+            File fileLog = new File(SOURCE_DIR);
+            if (fileLog.exists()) {
+                fileLog.delete();
+            }
+        }
+    }
+
+    private static FloatArray createInput() {
+        FloatArray a = new FloatArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            a.set(i, i * 0.5f);
+        }
+        return a;
+    }
+
+    /**
+     * The intermediate array is only used by the two tasks, so it is replaced by a local variable of the fused kernel.
+     */
+    @Test
+    public void testMapMap() throws TornadoExecutionPlanException {
+        FloatArray a = createInput();
+        FloatArray tmp = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestKernelFusion::scale, a, tmp) //
+                .task("t1", TestKernelFusion::addOne, tmp, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+            // The second execution runs the task-graph rewritten by the first one
+            executionPlan.execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(a.get(i) * 2.0f + 1.0f, b.get(i), DELTA);
+        }
+    }
+
+    /**
+     * The intermediate array is copied back to the host, so the fused kernel still writes it.
+     */
+    @Test
+    public void testIntermediateCopiedOut() throws TornadoExecutionPlanException {
+        FloatArray a = createInput();
+        FloatArray tmp = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestKernelFusion::scale, a, tmp) //
+                .task("t1", TestKernelFusion::addOne, tmp, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, tmp, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(a.get(i) * 2.0f, tmp.get(i), DELTA);
+            assertEquals(a.get(i) * 2.0f + 1.0f, b.get(i), DELTA);
+        }
+    }
+
+    /**
+     * Three element-wise tasks are fused into one kernel, and the scalar argument of the last one is kept.
+     */
+    @Test
+    public void testChain() throws TornadoExecutionPlanException {
+        FloatArray a = createInput();
+        FloatArray tmp0 = new FloatArray(SIZE);
+        FloatArray tmp1 = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestKernelFusion::scale, a, tmp0) //
+                .task("t1", TestKernelFusion::addOne, tmp0, tmp1) //
+                .task("t2", TestKernelFusion::saxpy, 3.0f, tmp1, a, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            float expected = 3.0f * (a.get(i) * 2.0f + 1.0f) + a.get(i);
+            assertEquals(expected, c.get(i), DELTA);
+        }
+    }
+
+    /**
+     * The consumer reads the neighbours of each element, so the tasks are not fused.
+     */
+    @Test
+    public void testStencilNotFused() throws TornadoExecutionPlanException {
+        FloatArray a = createInput();
+        FloatArray tmp = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestKernelFusion::scale, a, tmp) //
+                .task("t1", TestKernelFusion::stencil, tmp, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        for (int i = 1; i < SIZE - 1; i++) {
+            float expected = 2.0f * (a.get(i - 1) + a.get(i) + a.get(i + 1));
+            assertEquals(expected, b.get(i), DELTA);
+        }
+    }
+
+    /**
+     * The fused task is a Java method, so it can also run on the JVM device.
+     */
+    @Test
+    public void testMapMapOnJVM() throws TornadoExecutionPlanException {
+        List<TornadoBackend> backends = TornadoExecutionPlan.getTornadoDeviceMap().getBackendsWithPredicate(backend -> backend.getBackendType() == TornadoVMBackendType.JAVA);
+        Assume.assumeFalse("Skipping testMapMapOnJVM: the JVM backend is not enabled", backends.isEmpty());
+
+        FloatArray a = createInput();
+        FloatArray tmp = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestKernelFusion::scale, a, tmp) //
+                .task("t1", TestKernelFusion::addOne, tmp, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(backends.getFirst().getDefaultDevice()).execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(a.get(i) * 2.0f + 1.0f, b.get(i), DELTA);
+        }
+    }
+
+    /**
+     * Checks, with the virtual device, that the two tasks are compiled into a single OpenCL kernel.
+     */
+    @Test
+    public void testFusedKernelSource() throws TornadoExecutionPlanException, IOException {
+        Assume.assumeTrue("Skipping testFusedKernelSource: it runs with the virtual device", SOURCE_DIR != null && Boolean.getBoolean("tornado.virtual.device"));
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        assertNotBackend(TornadoVMBackendType.METAL);
+        assertNotBackend(TornadoVMBackendType.CUDA);
+
+        FloatArray a = createInput();
+        FloatArray tmp = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestKernelFusion::scale, a, tmp) //
+                .task("t1", TestKernelFusion::addOne, tmp, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        String source = Files.readString(new File(SOURCE_DIR).toPath());
+        int kernels = source.split("__kernel ", -1).length - 1;
+        assertEquals("The two tasks should be compiled into one kernel", 1, kernels);
+        assertTrue(source.contains("scale_addOne"));
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.jvm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.KernelContext;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoExecutionResult;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.annotations.Reduce;
+import uk.ac.manchester.tornado.api.common.TornadoDevice;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.math.TornadoMath;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the multi-core JVM backend. The tasks are run on the JVM device, which splits the outermost
+ * {@link Parallel} loop of each task across the TornadoVM JVM threads, and runs the work-groups of
+ * {@link KernelContext} kernels concurrently.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.jvm.backend=true" uk.ac.manchester.tornado.unittests.jvm.TestJVMBackend
+ * </code>
+ */
+public class TestJVMBackend extends TornadoTestBase {
+
+    private static final int SIZE = 8192;
+
+    private TornadoDevice jvmDevice;
+
+    public static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    public static void matrixScale(FloatArray a, FloatArray b, int n) {
+        for (@Parallel int i = 0; i < n; i++) {
+            for (@Parallel int j = 0; j < n; j++) {
+                b.set(i * n + j, a.get(i * n + j) * 2.0f);
+            }
+        }
+    }
+
+    public static void elementWise(IntArray a, FloatArray b, FloatArray c, float alpha) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            int value = a.get(i) * 3 - 7;
+            float root = (float) Math.sqrt(b.get(i));
+            c.set(i, TornadoMath.max(value * alpha, root) + Math.abs(-root));
+            a.set(i, Math.min(value, 100) & 0xff);
+        }
+    }
+
+    public static void reduceSum(IntArray input, @Reduce IntArray result) {
+        result.set(0, 0);
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, result.get(0) + input.get(i));
+        }
+    }
+
+    public static void reduceMax(FloatArray input, @Reduce FloatArray result) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            result.set(0, TornadoMath.max(result.get(0), input.get(i)));
+        }
+    }
+
+    public static void reduceLocalMemory(KernelContext context, FloatArray a, FloatArray b) {
+        int globalIdx = context.globalIdx;
+        int localIdx = context.localIdx;
+        int localGroupSize = context.localGroupSizeX;
+        int groupID = context.groupIdx;
+
+        float[] localA = context.allocateFloatLocalArray(256);
+        localA[localIdx] = a.get(globalIdx);
+        for (int stride = (localGroupSize / 2); stride > 0; stride /= 2) {
+            context.localBarrier();
+            if (localIdx < stride) {
+                localA[localIdx] += localA[localIdx + stride];
+            }
+        }
+        if (localIdx == 0) {
+            b.set(groupID, localA[0]);
+        }
+    }
+
+    @Override
+    public void before() {
+        super.before();
+        List<TornadoBackend> backends = TornadoExecutionPlan.getTornadoDeviceMap().getBackendsWithPredicate(backend -> backend.getBackendType() == TornadoVMBackendType.JAVA);
+        Assume.assumeFalse("Skipping TestJVMBackend: the JVM backend is not enabled", backends.isEmpty());
+        jvmDevice = backends.getFirst().getDefaultDevice();
+    }
+
+    @Test
+    public void testVectorAdd() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            a.set(i, i);
+            b.set(i, 2 * i);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestJVMBackend::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(jvmDevice).execute();
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(3 * i, c.get(i), DELTA);
+        }
+    }
+
+    @Test
+    public void testNestedParallelLoops() throws TornadoExecutionPlanException {
+        final int n = 128;
+        FloatArray a = new FloatArray(n * n);
+        FloatArray b = new FloatArray(n * n);
+        for (int i = 0; i < n * n; i++) {
+            a.set(i, i);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestJVMBackend::matrixScale, a, b, n) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(jvmDevice).execute();
+        }
+
+        for (int i = 0; i < n * n; i++) {
+            assertEquals(2.0f * i, b.get(i), DELTA);
+        }
+    }
+
+    /**
+     * The loop body is element-wise, so the JVM backend runs it with the Vector API. The size is not a multiple of the
+     * number of lanes, so the last iterations run in the scalar loop.
+     */
+    @Test
+    public void testVectorizedElementWise() throws TornadoExecutionPlanException {
+        final int size = SIZE + 13;
+        IntArray a = new IntArray(size);
+        IntArray aSeq = new IntArray(size);
+        FloatArray b = new FloatArray(size);
+        FloatArray c = new FloatArray(size);
+        FloatArray cSeq = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            a.set(i, i - size / 2);
+            aSeq.set(i, i - size / 2);
+            b.set(i, i * 0.75f);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestJVMBackend::elementWise, a, b, c, 0.5f) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, a, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(jvmDevice).execute();
+        }
+
+        elementWise(aSeq, b, cSeq, 0.5f);
+        for (int i = 0; i < size; i++) {
+            assertEquals(aSeq.get(i), a.get(i));
+            assertEquals(cSeq.get(i), c.get(i), 0.0f);
+        }
+    }
+
+    @Test
+    public void testReduceSum() throws TornadoExecutionPlanException {
+        IntArray input = new IntArray(SIZE);
+        IntArray result = new IntArray(1);
+        input.init(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestJVMBackend::reduceSum, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(jvmDevice);
+            // Run twice to check that the partial results do not leak across executions
+            executionPlan.execute();
+            executionPlan.execute();
+        }
+
+        assertEquals(SIZE, result.get(0));
+    }
+
+    @Test
+    public void testReduceMax() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray result = new FloatArray(1);
+        for (int i = 0; i < SIZE; i++) {
+            input.set(i, (i * 31) % SIZE);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestJVMBackend::reduceMax, input, result) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, result);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(jvmDevice).execute();
+        }
+
+        assertEquals(SIZE - 1, result.get(0), DELTA);
+    }
+
+    @Test
+    public void testKernelContextLocalMemory() throws TornadoExecutionPlanException {
+        final int localSize = 256;
+        FloatArray input = new FloatArray(SIZE);
+        FloatArray reduce = new FloatArray(SIZE / localSize);
+        input.init(1.0f);
+
+        WorkerGrid worker = new WorkerGrid1D(SIZE);
+        worker.setLocalWork(localSize, 1, 1);
+        GridScheduler gridScheduler = new GridScheduler("s0.t0", worker);
+        KernelContext context = new KernelContext();
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestJVMBackend::reduceLocalMemory, context, input, reduce) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, reduce);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(jvmDevice).withGridScheduler(gridScheduler).execute();
+        }
+
+        for (int i = 0; i < reduce.getSize(); i++) {
+            assertEquals(localSize, reduce.get(i), DELTA);
+        }
+    }
+
+    @Test
+    public void testProfiler() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+        a.init(1.0f);
+        b.init(2.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestJVMBackend::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            TornadoExecutionResult executionResult = executionPlan.withDevice(jvmDevice).withProfiler(ProfilerMode.SILENT).execute();
+            assertTrue(executionResult.getProfilerResult().getTotalTime() > 0);
+            assertTrue(executionResult.getProfilerResult().getDeviceKernelTime() >= 0);
+        }
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(3.0f, c.get(i), DELTA);
+        }
+    }
+
+    /**
+     * The tasks of a task-graph cannot be split between the JVM device and an accelerator.
+     */
+    @Test(expected = TornadoRuntimeException.class)
+    public void testMixedPlacementRejected() throws TornadoExecutionPlanException {
+        List<TornadoBackend> accelerators = TornadoExecutionPlan.getTornadoDeviceMap().getBackendsWithPredicate(backend -> backend.getBackendType() != TornadoVMBackendType.JAVA);
+        Assume.assumeFalse("Skipping testMixedPlacementRejected: no accelerator backend", accelerators.isEmpty());
+
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+        FloatArray d = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestJVMBackend::vectorAdd, a, b, c) //
+                .task("t1", TestJVMBackend::vectorAdd, a, c, d) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, d);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice("s0.t0", accelerators.getFirst().getDefaultDevice()) //
+                    .withDevice("s0.t1", jvmDevice) //
+                    .execute();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.primitives;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.primitives.DevicePrimitive;
+import uk.ac.manchester.tornado.api.primitives.Histogram;
+import uk.ac.manchester.tornado.api.primitives.MergeSort;
+import uk.ac.manchester.tornado.api.primitives.RadixSort;
+import uk.ac.manchester.tornado.api.primitives.Scan;
+import uk.ac.manchester.tornado.api.primitives.SegmentedScan;
+import uk.ac.manchester.tornado.api.primitives.SequentialPrimitives;
+import uk.ac.manchester.tornado.api.primitives.StreamCompaction;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the device-wide primitives of {@code uk.ac.manchester.tornado.api.primitives}, checked against
+ * {@link SequentialPrimitives}. The largest size needs more work-groups than the threads of a work-group, so the
+ * block sums are scanned in several chunks.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.primitives.TestPrimitives
+ * </code>
+ */
+public class TestPrimitives extends TornadoTestBase {
+
+    private static final int[] SIZES = { 1, 1000, 70_000 };
+
+    public static void isPositive(IntArray input, IntArray flags) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            flags.set(i, input.get(i) > 0 ? 1 : 0);
+        }
+    }
+
+    private static IntArray randomInts(Random random, int size, int bound) {
+        IntArray array = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextInt(bound) - bound / 2);
+        }
+        return array;
+    }
+
+    private static IntArray randomFlags(Random random, int size) {
+        IntArray flags = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            flags.set(i, random.nextInt(10) == 0 ? 1 : 0);
+        }
+        return flags;
+    }
+
+    private static IntArray indices(int size) {
+        IntArray indices = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            indices.set(i, i);
+        }
+        return indices;
+    }
+
+    private static void execute(DevicePrimitive primitive, Object[] inputs, Object... outputs) throws TornadoExecutionPlanException {
+        GridScheduler gridScheduler = new GridScheduler();
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, inputs);
+        primitive.addTo(taskGraph, "p0", gridScheduler);
+        taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, outputs);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withGridScheduler(gridScheduler).execute();
+        }
+    }
+
+    @Test
+    public void testExclusiveScan() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            IntArray input = randomInts(random, size, 1000);
+            IntArray output = new IntArray(size);
+            IntArray expected = new IntArray(size);
+
+            execute(Scan.exclusive(input, output), new Object[] { input }, output);
+            SequentialPrimitives.exclusiveScan(input, expected);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected.get(i), output.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testInclusiveScanFloat() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            // Multiples of 0.25 keep every partial sum exact, whatever the order of the additions.
+            FloatArray input = new FloatArray(size);
+            for (int i = 0; i < size; i++) {
+                input.set(i, random.nextInt(100) / 4.0f);
+            }
+            FloatArray output = new FloatArray(size);
+            FloatArray expected = new FloatArray(size);
+
+            execute(Scan.inclusive(input, output), new Object[] { input }, output);
+            SequentialPrimitives.inclusiveScan(input, expected);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected.get(i), output.get(i), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void testSegmentedScan() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            IntArray input = randomInts(random, size, 1000);
+            IntArray flags = randomFlags(random, size);
+            IntArray output = new IntArray(size);
+            IntArray expected = new IntArray(size);
+
+            execute(SegmentedScan.inclusive(input, flags, output), new Object[] { input, flags }, output);
+            SequentialPrimitives.segmentedInclusiveScan(input, flags, expected);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected.get(i), output.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFilter() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            IntArray input = randomInts(random, size, 1000);
+            IntArray flags = new IntArray(size);
+            IntArray output = new IntArray(size);
+            IntArray count = new IntArray(1);
+
+            GridScheduler gridScheduler = new GridScheduler();
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .task("t0", TestPrimitives::isPositive, input, flags);
+            StreamCompaction.of(input, flags, output, count).addTo(taskGraph, "filter", gridScheduler);
+            taskGraph.transferToHost(DataTransferMode.EVERY_EXECUTION, output, count);
+
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                executionPlan.withGridScheduler(gridScheduler).execute();
+            }
+
+            IntArray expected = new IntArray(size);
+            isPositive(input, flags);
+            int expectedCount = SequentialPrimitives.compact(input, flags, expected);
+
+            assertEquals(expectedCount, count.get(0));
+            for (int i = 0; i < expectedCount; i++) {
+                assertEquals(expected.get(i), output.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testRadixSort() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            IntArray keys = new IntArray(size);
+            for (int i = 0; i < size; i++) {
+                // Mix the full integer range with many repeated keys, to check the order of equal keys
+                keys.set(i, (i % 2 == 0) ? random.nextInt() : random.nextInt(64) - 32);
+            }
+            IntArray values = indices(size);
+            IntArray expectedKeys = IntArray.fromArray(keys.toHeapArray());
+            IntArray expectedValues = indices(size);
+
+            execute(RadixSort.of(keys, values), new Object[] { keys, values }, keys, values);
+            SequentialPrimitives.sort(expectedKeys, expectedValues);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(expectedKeys.get(i), keys.get(i));
+                assertEquals(expectedValues.get(i), values.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testMergeSortFloatKeys() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            FloatArray keys = new FloatArray(size);
+            for (int i = 0; i < size; i++) {
+                keys.set(i, random.nextInt(512) / 8.0f - 32.0f);
+            }
+            IntArray values = indices(size);
+            FloatArray expectedKeys = FloatArray.fromArray(keys.toHeapArray());
+            IntArray expectedValues = indices(size);
+
+            execute(MergeSort.of(keys, values), new Object[] { keys, values }, keys, values);
+            SequentialPrimitives.sort(expectedKeys, expectedValues);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(expectedKeys.get(i), keys.get(i), 0.0f);
+                assertEquals(expectedValues.get(i), values.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testHistogram() throws TornadoExecutionPlanException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            // Some values fall outside the bins and must not be counted
+            IntArray input = randomInts(random, size, 80);
+            IntArray bins = new IntArray(32);
+            IntArray expected = new IntArray(32);
+
+            execute(Histogram.of(input, bins), new Object[] { input }, bins);
+            SequentialPrimitives.histogram(input, expected);
+
+            for (int i = 0; i < bins.getSize(); i++) {
+                assertEquals(expected.get(i), bins.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testHistogramWithTooManyBins() {
+        IntArray input = new IntArray(16);
+        IntArray bins = new IntArray(DevicePrimitive.BLOCK_SIZE + 1);
+        assertThrows(IllegalArgumentException.class, () -> Histogram.of(input, bins));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.TestHello;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Checks the Java Flight Recorder events emitted by the TornadoVM runtime.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.profiler.TestFlightRecorderEvents
+ * </code>
+ */
+public class TestFlightRecorderEvents extends TornadoTestBase {
+
+    private static final String PREFIX = "uk.ac.manchester.tornado.";
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(PREFIX + name)).count();
+    }
+
+    private static List<RecordedEvent> record(Recording recording) throws IOException {
+        Path file = Files.createTempFile("tornado-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testExecutionEvents() throws TornadoExecutionPlanException, IOException {
+        final int numElements = 256;
+        IntArray a = new IntArray(numElements);
+        IntArray b = new IntArray(numElements);
+        IntArray c = new IntArray(numElements);
+        a.init(1);
+        b.init(2);
+
+        // Remove the code cache, so the task is compiled in the recording
+        TornadoRuntimeProvider.getTornadoRuntime().getDefaultDevice().clean();
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "TaskGraphExecution");
+            recording.enable(PREFIX + "KernelCompilation");
+            recording.enable(PREFIX + "GraalTier");
+            recording.enable(PREFIX + "Transfer");
+            recording.enable(PREFIX + "KernelLaunch");
+            recording.enable(PREFIX + "DeviceAllocation");
+            recording.start();
+            try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+                executionPlan.execute();
+                executionPlan.execute();
+            }
+            recording.stop();
+            events = record(recording);
+        }
+
+        assertEquals(2, count(events, "TaskGraphExecution"));
+        assertEquals(2, count(events, "KernelLaunch"));
+        assertEquals(1, count(events, "KernelCompilation"));
+        assertEquals(3, count(events, "GraalTier"));
+        assertTrue(count(events, "DeviceAllocation") >= 1);
+
+        // a and b are copied in the first execution only, and c is copied out in every execution
+        long hostToDevice = events.stream().filter(e -> e.getEventType().getName().equals(PREFIX + "Transfer") && e.getString("direction").equals("HostToDevice")).count();
+        long deviceToHost = events.stream().filter(e -> e.getEventType().getName().equals(PREFIX + "Transfer") && e.getString("direction").equals("DeviceToHost")).count();
+        assertEquals(2, hostToDevice);
+        assertEquals(2, deviceToHost);
+        events.stream().filter(e -> e.getEventType().getName().equals(PREFIX + "Transfer")).forEach(e -> assertTrue(e.getLong("bytes") >= c.getNumBytesOfSegment()));
+    }
+
+    @Test
+    public void testEventsOnlyInsideRecording() throws TornadoExecutionPlanException, IOException {
+        final int numElements = 256;
+        IntArray a = new IntArray(numElements);
+        IntArray b = new IntArray(numElements);
+        IntArray c = new IntArray(numElements);
+
+        TaskGraph taskGraph = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.execute();
+
+            // Only the executions inside the recording are reported
+            List<RecordedEvent> events;
+            try (Recording recording = new Recording()) {
+                recording.enable(PREFIX + "TaskGraphExecution");
+                recording.enable(PREFIX + "KernelLaunch");
+                recording.start();
+                executionPlan.execute();
+                recording.stop();
+                events = record(recording);
+            }
+            executionPlan.execute();
+
+            assertEquals(1, count(events, "TaskGraphExecution"));
+            assertEquals(1, count(events, "KernelLaunch"));
+        }
+    }
+}
@@ -36,6 +36,7 @@ import uk.ac.manchester.tornado.api.enums.DataTransferMode;
 import uk.ac.manchester.tornado.api.enums.ProfilerMode;
 import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
 import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.profiler.ProfilerHistogram;
 import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
 import uk.ac.manchester.tornado.api.types.arrays.IntArray;
 import uk.ac.manchester.tornado.unittests.TestHello;
@@ -258,6 +259,59 @@ public class TestProfiler extends TornadoTestBase {
 
     }
 
+    @Test
+    public void testProfilerHistograms() throws TornadoExecutionPlanException {
+        final int numElements = 1024;
+        final int iterations = 20;
+        IntArray a = new IntArray(numElements);
+        IntArray b = new IntArray(numElements);
+        IntArray c = new IntArray(numElements);
+
+        a.init(1);
+        b.init(2);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestHello::add, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(taskGraph.snapshot())) {
+            executionPlan.withProfiler(ProfilerMode.SILENT);
+
+            TornadoExecutionResult executionResult = null;
+            for (int i = 0; i < iterations; i++) {
+                executionResult = executionPlan.execute();
+            }
+
+            TornadoProfilerResult profilerResult = executionResult.getProfilerResult();
+            ProfilerHistogram totalTime = profilerResult.getTotalTimeHistogram();
+            ProfilerHistogram kernelTime = profilerResult.getDeviceKernelTimeHistogram();
+            ProfilerHistogram readTime = profilerResult.getDeviceReadTimeHistogram();
+            ProfilerHistogram taskKernelTime = profilerResult.getTaskKernelTimeHistogram("s0.t0");
+
+            assertEquals(iterations, totalTime.getCount());
+            assertEquals(iterations, kernelTime.getCount());
+            assertEquals(iterations, readTime.getCount());
+            assertEquals(iterations, taskKernelTime.getCount());
+
+            // The timers of the last execution are one of the values of the histograms
+            assertTrue(totalTime.getMin() <= profilerResult.getTotalTime());
+            assertTrue(totalTime.getMax() >= profilerResult.getTotalTime());
+
+            for (ProfilerHistogram histogram : new ProfilerHistogram[] { totalTime, kernelTime, readTime, taskKernelTime }) {
+                assertTrue(histogram.getMin() <= histogram.getP50());
+                assertTrue(histogram.getP50() <= histogram.getP99());
+                assertTrue(histogram.getP99() <= histogram.getP999());
+                assertTrue(histogram.getP999() <= histogram.getMax());
+            }
+
+            // Disabling the profiler discards the histograms
+            executionPlan.withoutProfiler().execute();
+            executionResult = executionPlan.withProfiler(ProfilerMode.SILENT).execute();
+            assertEquals(1, executionResult.getProfilerResult().getTotalTimeHistogram().getCount());
+        }
+    }
+
     @Test
     public void testProfilerReduction() throws TornadoExecutionPlanException {
 
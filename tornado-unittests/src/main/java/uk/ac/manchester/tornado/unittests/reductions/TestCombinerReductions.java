@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.reductions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.exceptions.TornadoRuntimeException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.api.types.arrays.IntArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the reductions with a user-defined combiner, added with {@link TaskGraph#reduce}. The sizes are not
+ * multiples of the work-group size, and some of them need more work-groups than the threads of a work-group.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V uk.ac.manchester.tornado.unittests.reductions.TestCombinerReductions
+ * </code>
+ */
+public class TestCombinerReductions extends TornadoTestBase {
+
+    private static final int[] SIZES = { 1, 255, 4099, 100_000 };
+    private static final int K = 4;
+
+    public static class ArgMax {
+        public static void map(FloatArray input, int element, FloatArray value, IntArray index, int slot) {
+            value.set(slot, input.get(element));
+            index.set(slot, element);
+        }
+
+        public static void combine(FloatArray value, IntArray index, int into, int from) {
+            if (value.get(from) > value.get(into)) {
+                value.set(into, value.get(from));
+                index.set(into, index.get(from));
+            }
+        }
+    }
+
+    public static class ArgMin {
+        public static void map(FloatArray input, int element, FloatArray value, IntArray index, int slot) {
+            value.set(slot, input.get(element));
+            index.set(slot, element);
+        }
+
+        public static void combine(FloatArray value, IntArray index, int into, int from) {
+            if (value.get(from) < value.get(into)) {
+                value.set(into, value.get(from));
+                index.set(into, index.get(from));
+            }
+        }
+    }
+
+    /**
+     * Count, mean and sum of squared differences from the mean of each slot, merged with the parallel algorithm of
+     * Chan et al.
+     */
+    public static class MeanVariance {
+        public static void map(FloatArray input, int element, FloatArray stats, int slot) {
+            stats.set(slot * 3, 1.0f);
+            stats.set(slot * 3 + 1, input.get(element));
+            stats.set(slot * 3 + 2, 0.0f);
+        }
+
+        public static void combine(FloatArray stats, int into, int from) {
+            float countInto = stats.get(into * 3);
+            float countFrom = stats.get(from * 3);
+            float count = countInto + countFrom;
+            float delta = stats.get(from * 3 + 1) - stats.get(into * 3 + 1);
+            stats.set(into * 3, count);
+            stats.set(into * 3 + 1, stats.get(into * 3 + 1) + delta * countFrom / count);
+            stats.set(into * 3 + 2, stats.get(into * 3 + 2) + stats.get(from * 3 + 2) + delta * delta * countInto * countFrom / count);
+        }
+    }
+
+    /**
+     * The {@value #K} largest values, in decreasing order.
+     */
+    public static class TopK {
+        public static void map(IntArray input, int element, IntArray top, int slot) {
+            top.set(slot * K, input.get(element));
+            for (int i = 1; i < K; i++) {
+                top.set(slot * K + i, Integer.MIN_VALUE);
+            }
+        }
+
+        public static void combine(IntArray top, int into, int from) {
+            for (int j = 0; j < K; j++) {
+                int value = top.get(from * K + j);
+                int position = K - 1;
+                if (value > top.get(into * K + position)) {
+                    while (position > 0 && top.get(into * K + position - 1) < value) {
+                        top.set(into * K + position, top.get(into * K + position - 1));
+                        position--;
+                    }
+                    top.set(into * K + position, value);
+                }
+            }
+        }
+    }
+
+    public static class BitwiseOrAnd {
+        public static void map(IntArray input, int element, IntArray or, IntArray and, int slot) {
+            or.set(slot, input.get(element));
+            and.set(slot, input.get(element));
+        }
+
+        public static void combine(IntArray or, IntArray and, int into, int from) {
+            or.set(into, or.get(into) | or.get(from));
+            and.set(into, and.get(into) & and.get(from));
+        }
+    }
+
+    /**
+     * Composition of the affine functions {@code x -> a * x + b}, applied in the order of the elements. The composition
+     * is associative but not commutative, so the result depends on the order in which the slots are merged.
+     */
+    public static class AffineComposition {
+        public static void map(IntArray input, int element, IntArray a, IntArray b, int slot) {
+            a.set(slot, input.get(element) | 1);
+            b.set(slot, input.get(element));
+        }
+
+        public static void combine(IntArray a, IntArray b, int into, int from) {
+            int aInto = a.get(into);
+            int bInto = b.get(into);
+            a.set(into, aInto * a.get(from));
+            b.set(into, bInto * a.get(from) + b.get(from));
+        }
+    }
+
+    public static void square(FloatArray input, FloatArray output) {
+        for (@Parallel int i = 0; i < input.getSize(); i++) {
+            output.set(i, input.get(i) * input.get(i));
+        }
+    }
+
+    private static FloatArray createFloats(int size) {
+        Random random = new Random(size);
+        FloatArray array = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextFloat() * 2.0f - 1.0f);
+        }
+        return array;
+    }
+
+    private static IntArray createInts(int size) {
+        Random random = new Random(size);
+        IntArray array = new IntArray(size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, random.nextInt());
+        }
+        return array;
+    }
+
+    private static void execute(TaskGraph taskGraph) throws TornadoExecutionPlanException {
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+    }
+
+    @Test
+    public void testArgMax() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            FloatArray input = createFloats(size);
+            FloatArray maxValue = new FloatArray(1);
+            IntArray maxIndex = new IntArray(1);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("argMax", ArgMax.class, new Object[] { input }, maxValue, maxIndex) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, maxValue, maxIndex);
+            execute(taskGraph);
+
+            int expected = 0;
+            for (int i = 1; i < size; i++) {
+                if (input.get(i) > input.get(expected)) {
+                    expected = i;
+                }
+            }
+            assertEquals(expected, maxIndex.get(0));
+            assertEquals(input.get(expected), maxValue.get(0), 0.0f);
+        }
+    }
+
+    @Test
+    public void testArgMin() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            FloatArray input = createFloats(size);
+            FloatArray minValue = new FloatArray(1);
+            IntArray minIndex = new IntArray(1);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("argMin", ArgMin.class, new Object[] { input }, minValue, minIndex) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, minValue, minIndex);
+            execute(taskGraph);
+
+            int expected = 0;
+            for (int i = 1; i < size; i++) {
+                if (input.get(i) < input.get(expected)) {
+                    expected = i;
+                }
+            }
+            assertEquals(expected, minIndex.get(0));
+            assertEquals(input.get(expected), minValue.get(0), 0.0f);
+        }
+    }
+
+    /**
+     * {@link ArgMax} keeps the slot {@code into} on ties, so it returns the first of the maximum values only if the
+     * slots are merged in the order of the elements.
+     */
+    @Test
+    public void testArgMaxFirstOnTies() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            FloatArray input = new FloatArray(size);
+            for (int i = 0; i < size; i++) {
+                input.set(i, i % 7);
+            }
+            FloatArray maxValue = new FloatArray(1);
+            IntArray maxIndex = new IntArray(1);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("argMax", ArgMax.class, new Object[] { input }, maxValue, maxIndex) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, maxValue, maxIndex);
+            execute(taskGraph);
+
+            int expected = Math.min(size - 1, 6);
+            assertEquals(expected, maxIndex.get(0));
+            assertEquals(input.get(expected), maxValue.get(0), 0.0f);
+        }
+    }
+
+    @Test
+    public void testNonCommutativeCombiner() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            IntArray input = createInts(size);
+            IntArray a = new IntArray(1);
+            IntArray b = new IntArray(1);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("affine", AffineComposition.class, new Object[] { input }, a, b) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, a, b);
+            execute(taskGraph);
+
+            int expectedA = input.get(0) | 1;
+            int expectedB = input.get(0);
+            for (int i = 1; i < size; i++) {
+                int next = input.get(i) | 1;
+                expectedA *= next;
+                expectedB = expectedB * next + input.get(i);
+            }
+            assertEquals(expectedA, a.get(0));
+            assertEquals(expectedB, b.get(0));
+        }
+    }
+
+    @Test
+    public void testMeanVariance() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            FloatArray input = createFloats(size);
+            FloatArray stats = new FloatArray(3);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("meanVariance", MeanVariance.class, new Object[] { input }, stats) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, stats);
+            execute(taskGraph);
+
+            double mean = 0;
+            for (int i = 0; i < size; i++) {
+                mean += input.get(i);
+            }
+            mean /= size;
+            double squares = 0;
+            for (int i = 0; i < size; i++) {
+                squares += (input.get(i) - mean) * (input.get(i) - mean);
+            }
+            assertEquals(size, stats.get(0), 0.0f);
+            assertEquals(mean, stats.get(1), 1e-3);
+            assertEquals(squares / size, stats.get(2) / size, 1e-3);
+        }
+    }
+
+    @Test
+    public void testTopK() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            IntArray input = createInts(size);
+            IntArray top = new IntArray(K);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("topK", TopK.class, new Object[] { input }, top) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, top);
+            execute(taskGraph);
+
+            int[] sorted = input.toHeapArray();
+            Arrays.sort(sorted);
+            for (int i = 0; i < K; i++) {
+                int expected = (i < size) ? sorted[size - 1 - i] : Integer.MIN_VALUE;
+                assertEquals(expected, top.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testBitwiseOrAnd() throws TornadoExecutionPlanException {
+        for (int size : SIZES) {
+            IntArray input = createInts(size);
+            IntArray or = new IntArray(1);
+            IntArray and = new IntArray(1);
+
+            TaskGraph taskGraph = new TaskGraph("s0") //
+                    .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                    .reduce("orAnd", BitwiseOrAnd.class, new Object[] { input }, or, and) //
+                    .transferToHost(DataTransferMode.EVERY_EXECUTION, or, and);
+            execute(taskGraph);
+
+            int expectedOr = 0;
+            int expectedAnd = -1;
+            for (int i = 0; i < size; i++) {
+                expectedOr |= input.get(i);
+                expectedAnd &= input.get(i);
+            }
+            assertEquals(expectedOr, or.get(0));
+            assertEquals(expectedAnd, and.get(0));
+        }
+    }
+
+    /**
+     * The reduction reads the output of a {@code @Parallel} task of the same task-graph.
+     */
+    @Test
+    public void testArgMaxAfterTask() throws TornadoExecutionPlanException {
+        final int size = 4099;
+        FloatArray input = createFloats(size);
+        FloatArray squares = new FloatArray(size);
+        FloatArray maxValue = new FloatArray(1);
+        IntArray maxIndex = new IntArray(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .task("t0", TestCombinerReductions::square, input, squares) //
+                .reduce("argMax", ArgMax.class, new Object[] { squares }, maxValue, maxIndex) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, maxValue, maxIndex);
+        execute(taskGraph);
+
+        int expected = 0;
+        for (int i = 1; i < size; i++) {
+            if (Math.abs(input.get(i)) > Math.abs(input.get(expected))) {
+                expected = i;
+            }
+        }
+        assertEquals(expected, maxIndex.get(0));
+    }
+
+    @Test
+    public void testArgMaxOnJVM() throws TornadoExecutionPlanException {
+        List<TornadoBackend> backends = TornadoExecutionPlan.getTornadoDeviceMap().getBackendsWithPredicate(backend -> backend.getBackendType() == TornadoVMBackendType.JAVA);
+        Assume.assumeFalse("Skipping testArgMaxOnJVM: the JVM backend is not enabled", backends.isEmpty());
+
+        final int size = 4099;
+        FloatArray input = createFloats(size);
+        FloatArray maxValue = new FloatArray(1);
+        IntArray maxIndex = new IntArray(1);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, input) //
+                .reduce("argMax", ArgMax.class, new Object[] { input }, maxValue, maxIndex) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, maxValue, maxIndex);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(backends.getFirst().getDefaultDevice()).execute();
+        }
+
+        int expected = 0;
+        for (int i = 1; i < size; i++) {
+            if (input.get(i) > input.get(expected)) {
+                expected = i;
+            }
+        }
+        assertEquals(expected, maxIndex.get(0));
+    }
+
+    @Test
+    public void testResultsDoNotMatchCombiner() {
+        FloatArray input = createFloats(16);
+        assertThrows(TornadoRuntimeException.class, () -> new TaskGraph("s0").reduce("argMax", ArgMax.class, new Object[] { input }, new FloatArray(1)));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.runtime;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.GridScheduler;
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.WorkerGrid;
+import uk.ac.manchester.tornado.api.WorkerGrid1D;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.ProfilerMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the tuning of the local work-group sizes from measured costs. The tests disable the persistence of the
+ * results, so every run explores the local work-group sizes.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.autotune.file=" uk.ac.manchester.tornado.unittests.runtime.TestAutotuning
+ * </code>
+ */
+public class TestAutotuning extends TornadoTestBase {
+
+    private static final int SIZE = 1024;
+
+    // Executions to explore all the candidates: the first one compiles, then -Dtornado.autotune.budget candidates are
+    // measured -Dtornado.autotune.samples times
+    private static final int EXPLORATION = 1 + 16 * 3;
+
+    public static void saxpy(float alpha, FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < z.getSize(); i++) {
+            z.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    public static void transpose(FloatArray input, FloatArray output, int size) {
+        for (@Parallel int i = 0; i < size; i++) {
+            for (@Parallel int j = 0; j < size; j++) {
+                output.set(j * size + i, input.get(i * size + j));
+            }
+        }
+    }
+
+    private static void checkSaxpy(FloatArray x, FloatArray y, FloatArray z) {
+        for (int i = 0; i < z.getSize(); i++) {
+            assertEquals(2.0f * x.get(i) + y.get(i), z.get(i), 0.001f);
+        }
+    }
+
+    @Test
+    public void testResultsWhileExploring() throws TornadoExecutionPlanException {
+        FloatArray x = new FloatArray(SIZE * SIZE);
+        FloatArray y = new FloatArray(SIZE * SIZE);
+        FloatArray z = new FloatArray(SIZE * SIZE);
+        x.init(1.5f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, x) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, y) //
+                .task("t0", TestAutotuning::saxpy, 2.0f, x, y, z) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, z);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withAutotuning();
+            // Every candidate runs the kernel, and the results must be the same with all of them
+            for (int i = 0; i < EXPLORATION + 2; i++) {
+                z.init(0.0f);
+                y.init(0.5f + i);
+                executionPlan.execute();
+                checkSaxpy(x, y, z);
+            }
+        }
+    }
+
+    @Test
+    public void testTwoDimensionsWithProfiler() throws TornadoExecutionPlanException {
+        FloatArray input = new FloatArray(SIZE * SIZE);
+        FloatArray output = new FloatArray(SIZE * SIZE);
+        for (int i = 0; i < input.getSize(); i++) {
+            input.set(i, i);
+        }
+
+        TaskGraph taskGraph = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, input) //
+                .task("t0", TestAutotuning::transpose, input, output, SIZE) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, output);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            // The kernel time of the profiler is the cost of each candidate
+            executionPlan.withAutotuning().withProfiler(ProfilerMode.SILENT);
+            for (int i = 0; i < EXPLORATION + 2; i++) {
+                output.init(-1.0f);
+                executionPlan.execute();
+                for (int row = 0; row < SIZE; row++) {
+                    for (int column = 0; column < SIZE; column++) {
+                        assertEquals(input.get(row * SIZE + column), output.get(column * SIZE + row), 0.001f);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGridSchedulerIsKept() throws TornadoExecutionPlanException {
+        FloatArray x = new FloatArray(SIZE);
+        FloatArray y = new FloatArray(SIZE);
+        FloatArray z = new FloatArray(SIZE);
+        x.init(2.0f);
+        y.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s2") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("t0", TestAutotuning::saxpy, 2.0f, x, y, z) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, z);
+
+        WorkerGrid worker = new WorkerGrid1D(SIZE);
+        worker.setLocalWork(32, 1, 1);
+        GridScheduler gridScheduler = new GridScheduler("s2.t0", worker);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withGridScheduler(gridScheduler).withAutotuning();
+            for (int i = 0; i < 4; i++) {
+                executionPlan.execute();
+            }
+        }
+        checkSaxpy(x, y, z);
+        assertEquals(32, worker.getLocalWork()[0]);
+    }
+
+    @Test
+    public void testWithoutAutotuning() throws TornadoExecutionPlanException {
+        FloatArray x = new FloatArray(SIZE);
+        FloatArray y = new FloatArray(SIZE);
+        FloatArray z = new FloatArray(SIZE);
+        x.init(3.0f);
+        y.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s3") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("t0", TestAutotuning::saxpy, 2.0f, x, y, z) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, z);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withAutotuning();
+            for (int i = 0; i < 5; i++) {
+                executionPlan.execute();
+            }
+            // The kernel is launched again with the default local work-group size of the driver
+            executionPlan.withoutAutotuning();
+            z.init(0.0f);
+            executionPlan.execute();
+        }
+        checkSaxpy(x, y, z);
+    }
+}
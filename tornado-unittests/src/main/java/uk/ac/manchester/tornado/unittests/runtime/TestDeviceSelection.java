@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.TornadoRuntime;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.runtime.TornadoRuntimeProvider;
+import uk.ac.manchester.tornado.api.selection.DefaultDeviceSelectionPolicy;
+import uk.ac.manchester.tornado.api.selection.DeviceCost;
+import uk.ac.manchester.tornado.api.selection.DeviceSelectionPolicy;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the selection of devices from measured costs. The tests disable the persistence of the decisions, so
+ * every run explores the candidate devices.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.selection.file=" uk.ac.manchester.tornado.unittests.runtime.TestDeviceSelection
+ * </code>
+ */
+public class TestDeviceSelection extends TornadoTestBase {
+
+    private static final int SIZE = 4096;
+
+    // Executions on each device: one to compile and the measured ones (-Dtornado.device.selection.samples)
+    private static final int EXECUTIONS_PER_DEVICE = 4;
+
+    public static void saxpy(float alpha, FloatArray x, FloatArray y, FloatArray z) {
+        for (@Parallel int i = 0; i < z.getSize(); i++) {
+            z.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    /**
+     * Policy that keeps the costs it is given and selects the device with the lowest mean time.
+     */
+    private static final class RecordingPolicy implements DeviceSelectionPolicy {
+
+        private final List<DeviceCost> costs = new ArrayList<>();
+
+        @Override
+        public double score(DeviceCost cost) {
+            return cost.getMeanTime();
+        }
+
+        @Override
+        public DeviceCost select(List<DeviceCost> candidates) {
+            costs.addAll(candidates);
+            return DeviceSelectionPolicy.super.select(candidates);
+        }
+
+        @Override
+        public String getName() {
+            return "TestDeviceSelection.RecordingPolicy";
+        }
+    }
+
+    private static int getNumDevices() {
+        TornadoRuntime runtime = TornadoRuntimeProvider.getTornadoRuntime();
+        int numDevices = 0;
+        for (int i = 0; i < runtime.getNumBackends(); i++) {
+            numDevices += runtime.getBackend(i).getNumDevices();
+        }
+        return numDevices;
+    }
+
+    private static void checkResult(FloatArray x, FloatArray y, FloatArray z) {
+        for (int i = 0; i < z.getSize(); i++) {
+            assertEquals(2.0f * x.get(i) + y.get(i), z.get(i), 0.001f);
+        }
+    }
+
+    @Test
+    public void testResultsWhileExploring() throws TornadoExecutionPlanException {
+        int numDevices = getNumDevices();
+        Assume.assumeTrue("At least two devices are needed to select one", numDevices >= 2);
+
+        FloatArray x = new FloatArray(SIZE);
+        FloatArray y = new FloatArray(SIZE);
+        FloatArray z = new FloatArray(SIZE);
+        x.init(1.5f);
+        y.init(0.5f);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.FIRST_EXECUTION, x) //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, y) //
+                .task("t0", TestDeviceSelection::saxpy, 2.0f, x, y, z) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, z);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDeviceSelection(DefaultDeviceSelectionPolicy.END_TO_END);
+            // Every device runs the task-graph, and the results must be the same on all of them
+            for (int i = 0; i < numDevices * EXECUTIONS_PER_DEVICE + 2; i++) {
+                z.init(0.0f);
+                y.init(0.5f + i);
+                executionPlan.execute();
+                checkResult(x, y, z);
+            }
+        }
+    }
+
+    @Test
+    public void testCustomPolicy() throws TornadoExecutionPlanException {
+        int numDevices = getNumDevices();
+        Assume.assumeTrue("At least two devices are needed to select one", numDevices >= 2);
+
+        FloatArray x = new FloatArray(SIZE);
+        FloatArray y = new FloatArray(SIZE);
+        FloatArray z = new FloatArray(SIZE);
+        x.init(2.0f);
+        y.init(1.0f);
+
+        TaskGraph taskGraph = new TaskGraph("s1") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("t0", TestDeviceSelection::saxpy, 2.0f, x, y, z) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, z);
+
+        RecordingPolicy policy = new RecordingPolicy();
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDeviceSelection(policy);
+            for (int i = 0; i < numDevices * EXECUTIONS_PER_DEVICE + 2; i++) {
+                executionPlan.execute();
+            }
+        }
+        checkResult(x, y, z);
+
+        // A single decision, taken once all the devices that can run the task-graph have been measured
+        assertTrue(!policy.costs.isEmpty() && policy.costs.size() <= numDevices);
+        for (DeviceCost cost : policy.costs) {
+            assertEquals(EXECUTIONS_PER_DEVICE - 1, cost.getSamples());
+            assertTrue(cost.getMinTime() > 0);
+            assertTrue(cost.getTimeAtPercentile(95.0) >= cost.getMinTime());
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.tiling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoBackend;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Tests for the tiling in local memory of the stencil and GEMM-like tasks of a task-graph. The sizes are not multiples
+ * of the work-groups, so the work-items out of the iteration space are also exercised. Every test compares the output
+ * of the task-graph with the sequential Java code.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.local.memory.tiling=True" uk.ac.manchester.tornado.unittests.tiling.TestLocalMemoryTiling
+ * </code>
+ *
+ * <p>
+ * The tiled OpenCL kernel can be checked without a device, with the virtual device:
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.local.memory.tiling=True -Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True
+ * -Dtornado.virtual.device=True -Dtornado.print.kernel.dir=virtualTilingOut.out" uk.ac.manchester.tornado.unittests.tiling.TestLocalMemoryTiling#testTiledKernelSource
+ * </code>
+ */
+public class TestLocalMemoryTiling extends TornadoTestBase {
+
+    private static final int N = 100;
+    private static final int SIZE = 10000;
+    private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+
+    public static void matrixMultiplication(FloatArray a, FloatArray b, FloatArray c, int n) {
+        for (@Parallel int i = 0; i < n; i++) {
+            for (@Parallel int j = 0; j < n; j++) {
+                float sum = 0.0f;
+                for (int k = 0; k < n; k++) {
+                    sum += a.get(i * n + k) * b.get(k * n + j);
+                }
+                c.set(i * n + j, sum);
+            }
+        }
+    }
+
+    public static void matrixVector(FloatArray a, FloatArray v, FloatArray r, int n) {
+        for (@Parallel int i = 0; i < n; i++) {
+            float sum = 0.0f;
+            for (int k = 0; k < n; k++) {
+                sum += a.get(i * n + k) * v.get(k);
+            }
+            r.set(i, sum);
+        }
+    }
+
+    public static void blur(FloatArray a, FloatArray b) {
+        for (@Parallel int i = 2; i < a.getSize() - 2; i++) {
+            b.set(i, (a.get(i - 2) + a.get(i - 1) + a.get(i) + a.get(i + 1) + a.get(i + 2)) * 0.2f);
+        }
+    }
+
+    public static void jacobi(FloatArray a, FloatArray b, int n) {
+        for (@Parallel int i = 1; i < n - 1; i++) {
+            for (@Parallel int j = 1; j < n - 1; j++) {
+                b.set(i * n + j, 0.25f * (a.get((i - 1) * n + j) + a.get((i + 1) * n + j) + a.get(i * n + j - 1) + a.get(i * n + j + 1)));
+            }
+        }
+    }
+
+    public static void saxpy(float alpha, FloatArray x, FloatArray y) {
+        for (@Parallel int i = 0; i < x.getSize(); i++) {
+            y.set(i, alpha * x.get(i) + y.get(i));
+        }
+    }
+
+    @After
+    public void after() {
+        if (SOURCE_DIR != null) {
+            File fileLog = new File(SOURCE_DIR);
+            if (fileLog.exists()) {
+                fileLog.delete();
+            }
+        }
+    }
+
+    private static FloatArray createInput(int size) {
+        FloatArray a = new FloatArray(size);
+        for (int i = 0; i < size; i++) {
+            a.set(i, (i % 17) * 0.25f);
+        }
+        return a;
+    }
+
+    private static void assertSequential(FloatArray expected, FloatArray result) {
+        for (int i = 0; i < expected.getSize(); i++) {
+            assertEquals(expected.get(i), result.get(i), 0.01f);
+        }
+    }
+
+    private static TaskGraph createMatrixMultiplication(FloatArray a, FloatArray b, FloatArray c) {
+        return new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestLocalMemoryTiling::matrixMultiplication, a, b, c, N) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+    }
+
+    /**
+     * The rows of {@code a} and the columns of {@code b} are loaded in tiles of the size of the work-group.
+     */
+    @Test
+    public void testMatrixMultiplication() throws TornadoExecutionPlanException {
+        FloatArray a = createInput(N * N);
+        FloatArray b = createInput(N * N);
+        FloatArray c = new FloatArray(N * N);
+        FloatArray expected = new FloatArray(N * N);
+        matrixMultiplication(a, b, expected, N);
+
+        ImmutableTaskGraph immutableTaskGraph = createMatrixMultiplication(a, b, c).snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+            // The second execution runs the task-graph rewritten by the first one
+            executionPlan.execute();
+        }
+
+        assertSequential(expected, c);
+    }
+
+    /**
+     * The vector is shared by all the work-items of a work-group.
+     */
+    @Test
+    public void testMatrixVector() throws TornadoExecutionPlanException {
+        FloatArray a = createInput(N * N);
+        FloatArray v = createInput(N);
+        FloatArray r = new FloatArray(N);
+        FloatArray expected = new FloatArray(N);
+        matrixVector(a, v, expected, N);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, v) //
+                .task("t0", TestLocalMemoryTiling::matrixVector, a, v, r, N) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, r);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertSequential(expected, r);
+    }
+
+    /**
+     * One-dimensional stencil with a halo of two elements on each side.
+     */
+    @Test
+    public void testStencil1D() throws TornadoExecutionPlanException {
+        FloatArray a = createInput(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray expected = new FloatArray(SIZE);
+        blur(a, expected);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestLocalMemoryTiling::blur, a, b) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertSequential(expected, b);
+    }
+
+    /**
+     * Two-dimensional stencil, where the rows above and below are at an offset of {@code n} elements.
+     */
+    @Test
+    public void testStencil2D() throws TornadoExecutionPlanException {
+        FloatArray a = createInput(N * N);
+        FloatArray b = new FloatArray(N * N);
+        FloatArray expected = new FloatArray(N * N);
+        jacobi(a, expected, N);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a) //
+                .task("t0", TestLocalMemoryTiling::jacobi, a, b, N) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, b);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertSequential(expected, b);
+    }
+
+    /**
+     * Each element is read by one work-item, so the task is not tiled and runs as written.
+     */
+    @Test
+    public void testNotTiled() throws TornadoExecutionPlanException {
+        FloatArray x = createInput(SIZE);
+        FloatArray y = createInput(SIZE);
+        FloatArray expected = createInput(SIZE);
+        saxpy(2.0f, x, expected);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, x, y) //
+                .task("t0", TestLocalMemoryTiling::saxpy, 2.0f, x, y) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, y);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        assertSequential(expected, y);
+    }
+
+    /**
+     * The tiled task is a {@code KernelContext} kernel, which the JVM device runs with one thread per work-item of a
+     * work-group.
+     */
+    @Test
+    public void testMatrixMultiplicationOnJVM() throws TornadoExecutionPlanException {
+        List<TornadoBackend> backends = TornadoExecutionPlan.getTornadoDeviceMap().getBackendsWithPredicate(backend -> backend.getBackendType() == TornadoVMBackendType.JAVA);
+        Assume.assumeFalse("Skipping testMatrixMultiplicationOnJVM: the JVM backend is not enabled", backends.isEmpty());
+
+        FloatArray a = createInput(N * N);
+        FloatArray b = createInput(N * N);
+        FloatArray c = new FloatArray(N * N);
+        FloatArray expected = new FloatArray(N * N);
+        matrixMultiplication(a, b, expected, N);
+
+        ImmutableTaskGraph immutableTaskGraph = createMatrixMultiplication(a, b, c).snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.withDevice(backends.getFirst().getDefaultDevice()).execute();
+        }
+
+        assertSequential(expected, c);
+    }
+
+    /**
+     * Checks, with the virtual device, that the OpenCL kernel reads the tiles from local memory between barriers.
+     */
+    @Test
+    public void testTiledKernelSource() throws TornadoExecutionPlanException, IOException {
+        Assume.assumeTrue("Skipping testTiledKernelSource: it runs with the virtual device", SOURCE_DIR != null && Boolean.getBoolean("tornado.virtual.device"));
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        assertNotBackend(TornadoVMBackendType.METAL);
+        assertNotBackend(TornadoVMBackendType.CUDA);
+
+        FloatArray a = createInput(N * N);
+        FloatArray b = createInput(N * N);
+        FloatArray c = new FloatArray(N * N);
+
+        ImmutableTaskGraph immutableTaskGraph = createMatrixMultiplication(a, b, c).snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        String source = Files.readString(new File(SOURCE_DIR).toPath());
+        assertTrue("The kernel should allocate the tiles in local memory", source.contains("__local"));
+        assertTrue("The kernel should synchronise the work-items of a work-group", source.contains("barrier("));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.runtime.cache.KernelBundle;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Checks that the kernels of a {@link KernelBundle} built with a virtual device are installed from the bundle, without
+ * compiling the task again. The bundle is built and loaded by two JVMs, so the tests run in this order:
+ * {@link #testBuildKernelBundle()} writes the kernels stored in the cache directory to
+ * {@code <tornado.kernel.cache.dir>.tkb}, and {@link #testLoadKernelBundle()} loads that file with
+ * {@code -Dtornado.kernel.bundle}.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.virtual.device=True
+ * -Dtornado.kernel.cache.dir=virtualKernelBundleCache"
+ * uk.ac.manchester.tornado.unittests.virtual.TestVirtualDeviceKernelBundle#testBuildKernelBundle
+ * </code>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.virtual.device=True
+ * -Dtornado.kernel.bundle=virtualKernelBundleCache.tkb"
+ * uk.ac.manchester.tornado.unittests.virtual.TestVirtualDeviceKernelBundle#testLoadKernelBundle
+ * </code>
+ */
+public class TestVirtualDeviceKernelBundle extends TornadoTestBase {
+
+    private static final String CACHE_DIR = System.getProperty("tornado.kernel.cache.dir");
+    private static final String BUNDLE = System.getProperty("tornado.kernel.bundle");
+    private static final String BUNDLE_SUFFIX = ".tkb";
+    private static final int SIZE = 1024;
+
+    private static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    private static void runVectorAdd() throws TornadoExecutionPlanException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestVirtualDeviceKernelBundle::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testBuildKernelBundle() throws TornadoExecutionPlanException, IOException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        assertNotBackend(TornadoVMBackendType.METAL);
+        assertNotBackend(TornadoVMBackendType.CUDA);
+        assertNotNull("The test requires -Dtornado.kernel.cache.dir", CACHE_DIR);
+        assertNull("The bundle must be built without -Dtornado.kernel.bundle", BUNDLE);
+
+        // Records left by a previous run would be taken as hits and not stored again
+        Path cacheDirectory = Paths.get(CACHE_DIR);
+        Path bundle = Paths.get(CACHE_DIR + BUNDLE_SUFFIX);
+        deleteDirectory(cacheDirectory);
+        Files.deleteIfExists(bundle);
+
+        runVectorAdd();
+        assertEquals(1, PersistentKernelCache.getStoredKernels());
+        assertEquals(0, PersistentKernelCache.getHits());
+
+        // One sketch and one kernel record
+        assertEquals(2, KernelBundle.write(bundle, cacheDirectory, new Properties()));
+        deleteDirectory(cacheDirectory);
+    }
+
+    @Test
+    public void testLoadKernelBundle() throws TornadoExecutionPlanException, IOException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        assertNotBackend(TornadoVMBackendType.METAL);
+        assertNotBackend(TornadoVMBackendType.CUDA);
+        assertNotNull("The test requires -Dtornado.kernel.bundle", BUNDLE);
+        assertNull("The bundle must be loaded without -Dtornado.kernel.cache.dir", CACHE_DIR);
+        assertTrue("The bundle was not built: run testBuildKernelBundle first", Files.isRegularFile(Paths.get(BUNDLE)));
+
+        // The kernel is installed from the bundle, so the task is neither compiled nor stored
+        runVectorAdd();
+        assertEquals(1, PersistentKernelCache.getHits());
+        assertEquals(0, PersistentKernelCache.getMisses());
+        assertEquals(0, PersistentKernelCache.getStoredKernels());
+
+        // A second execution plan installs the kernel from the bundle again
+        runVectorAdd();
+        assertEquals(2, PersistentKernelCache.getHits());
+        assertEquals(0, PersistentKernelCache.getMisses());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, APT Group, Department of Computer Science,
+ * The University of Manchester.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package uk.ac.manchester.tornado.unittests.virtual;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import uk.ac.manchester.tornado.api.ImmutableTaskGraph;
+import uk.ac.manchester.tornado.api.TaskGraph;
+import uk.ac.manchester.tornado.api.TornadoExecutionPlan;
+import uk.ac.manchester.tornado.api.annotations.Parallel;
+import uk.ac.manchester.tornado.api.enums.DataTransferMode;
+import uk.ac.manchester.tornado.api.enums.TornadoVMBackendType;
+import uk.ac.manchester.tornado.api.exceptions.TornadoExecutionPlanException;
+import uk.ac.manchester.tornado.api.types.arrays.FloatArray;
+import uk.ac.manchester.tornado.runtime.cache.PersistentKernelCache;
+import uk.ac.manchester.tornado.unittests.common.TornadoTestBase;
+
+/**
+ * Checks that the kernels stored in the persistent kernel cache are reused by a new execution plan. The cache directory
+ * should be a temporary directory; the test deletes its content before running.
+ *
+ * <p>
+ * How to run?
+ * </p>
+ * <code>
+ * tornado-test -V --jvm="-Dtornado.device.desc=virtual-device-GPU.json -Dtornado.printKernel=True -Dtornado.virtual.device=True
+ * -Dtornado.print.kernel.dir=virtualKernelCacheOut.out -Dtornado.kernel.cache.dir=/tmp/tornado-virtualKernelCache"
+ * uk.ac.manchester.tornado.unittests.virtual.TestVirtualDeviceKernelCache
+ * </code>
+ */
+public class TestVirtualDeviceKernelCache extends TornadoTestBase {
+
+    private static final String SOURCE_DIR = System.getProperty("tornado.print.kernel.dir");
+    private static final String CACHE_DIR = System.getProperty("tornado.kernel.cache.dir");
+    private static final int SIZE = 1024;
+
+    private static void vectorAdd(FloatArray a, FloatArray b, FloatArray c) {
+        for (@Parallel int i = 0; i < c.getSize(); i++) {
+            c.set(i, a.get(i) + b.get(i));
+        }
+    }
+
+    @After
+    public void after() {
+        if (SOURCE_DIR != null) {
+            File fileLog = new File(SOURCE_DIR);
+            if (fileLog.exists()) {
+                fileLog.delete();
+            }
+        }
+    }
+
+    private static byte[] runAndReadKernel() throws TornadoExecutionPlanException, IOException {
+        FloatArray a = new FloatArray(SIZE);
+        FloatArray b = new FloatArray(SIZE);
+        FloatArray c = new FloatArray(SIZE);
+
+        TaskGraph taskGraph = new TaskGraph("s0") //
+                .transferToDevice(DataTransferMode.EVERY_EXECUTION, a, b) //
+                .task("t0", TestVirtualDeviceKernelCache::vectorAdd, a, b, c) //
+                .transferToHost(DataTransferMode.EVERY_EXECUTION, c);
+
+        ImmutableTaskGraph immutableTaskGraph = taskGraph.snapshot();
+        try (TornadoExecutionPlan executionPlan = new TornadoExecutionPlan(immutableTaskGraph)) {
+            executionPlan.execute();
+        }
+
+        Path fileLog = Paths.get(SOURCE_DIR);
+        byte[] kernel = Files.readAllBytes(fileLog);
+        Files.delete(fileLog);
+        return kernel;
+    }
+
+    private static void clearCacheDirectory() throws IOException {
+        Path cacheDirectory = Paths.get(CACHE_DIR);
+        if (!Files.exists(cacheDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(cacheDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).filter(file -> !file.equals(cacheDirectory)).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static List<Path> listKernelRecords() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(CACHE_DIR))) {
+            return files.filter(file -> file.toString().endsWith(".kernel")).sorted().toList();
+        }
+    }
+
+    /**
+     * Whether a kernel record holds the given kernel. The record stores the code as generated by the backend, and the
+     * printed kernel ends with a new line.
+     */
+    private static boolean recordContainsKernel(Path record, byte[] kernel) throws IOException {
+        String recordContent = new String(Files.readAllBytes(record), StandardCharsets.ISO_8859_1);
+        return recordContent.contains(new String(kernel, StandardCharsets.ISO_8859_1).strip());
+    }
+
+    @Test
+    public void testVirtualDeviceKernelCache() throws TornadoExecutionPlanException, IOException {
+        assertNotBackend(TornadoVMBackendType.PTX);
+        assertNotBackend(TornadoVMBackendType.SPIRV);
+        assertNotBackend(TornadoVMBackendType.METAL);
+        assertNotBackend(TornadoVMBackendType.CUDA);
+        assertNotNull("The test requires -Dtornado.kernel.cache.dir", CACHE_DIR);
+
+        // Records left by a previous run would be taken as hits and the kernel would not be stored
+        clearCacheDirectory();
+
+        byte[] compiledKernel = runAndReadKernel();
+        assertEquals(1, PersistentKernelCache.getStoredKernels());
+        List<Path> records = listKernelRecords();
+        assertEquals("The kernel was not persisted", 1, records.size());
+        Path record = records.get(0);
+        assertTrue("The record does not hold the compiled kernel", recordContainsKernel(record, compiledKernel));
+        byte[] recordContent = Files.readAllBytes(record);
+
+        // A new execution plan takes the kernel from the persistent cache and does not store it again
+        byte[] cachedKernel = runAndReadKernel();
+        assertArrayEquals(compiledKernel, cachedKernel);
+        assertEquals(1, PersistentKernelCache.getHits());
+        assertEquals(1, PersistentKernelCache.getStoredKernels());
+        assertEquals(records, listKernelRecords());
+        assertArrayEquals(recordContent, Files.readAllBytes(record));
+    }
+}